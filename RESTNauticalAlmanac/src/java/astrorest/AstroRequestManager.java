@@ -1,14 +1,23 @@
 package astrorest;
 
+import calculation.ChebyshevEphemeris;
+import calculation.EventSolver;
 import http.HTTPServer;
 import http.RESTRequestManager;
+import implementation.publisher.PublicationCache;
+import utils.JobManager;
 
+import java.io.File;
 import java.util.List;
 
 public class AstroRequestManager implements RESTRequestManager {
 
 	private boolean httpVerbose = "true".equals(System.getProperty("http.verbose", "false"));
 	private RESTImplementation restImplementation;
+	private ChebyshevEphemeris chebyshevEphemeris = null;
+	private EventSolver eventSolver = null;
+	private JobManager publicationJobs = null;
+	private PublicationCache publicationCache = null;
 
 
 	// See http://maia.usno.navy.mil/ser7/deltat.data
@@ -38,6 +47,105 @@ public class AstroRequestManager implements RESTRequestManager {
 		return response;
 	}
 
+	/**
+	 * The interpolated positions, built on first use.
+	 * Size (number of segments in memory) is driven by the System variable astro.chebyshev.max.segments,
+	 * the persisted segments are read from the directory in the System variable astro.chebyshev.dir, if any.
+	 *
+	 * @return the Chebyshev ephemeris
+	 */
+	protected synchronized ChebyshevEphemeris getChebyshevEphemeris() {
+		if (this.chebyshevEphemeris == null) {
+			int maxSegments = 1_024;
+			try {
+				maxSegments = Integer.parseInt(System.getProperty("astro.chebyshev.max.segments", String.valueOf(maxSegments)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			String dir = System.getProperty("astro.chebyshev.dir");
+			this.chebyshevEphemeris = new ChebyshevEphemeris(maxSegments, (dir != null ? new File(dir) : null));
+		}
+		return this.chebyshevEphemeris;
+	}
+
+	/**
+	 * @return the rise, set, and twilight solver, on the Chebyshev ephemeris.
+	 */
+	protected synchronized EventSolver getEventSolver() {
+		if (this.eventSolver == null) {
+			this.eventSolver = new EventSolver(getChebyshevEphemeris());
+		}
+		return this.eventSolver;
+	}
+
+	/**
+	 * @return the max number of days of a /astro/events request, System variable astro.events.max.days, default 366.
+	 */
+	protected int getMaxEventDays() {
+		int maxDays = 366;
+		try {
+			maxDays = Integer.parseInt(System.getProperty("astro.events.max.days", String.valueOf(maxDays)));
+		} catch (NumberFormatException nfe) {
+			System.err.println(nfe.toString());
+		}
+		return maxDays;
+	}
+
+	protected double getDeltaT() {
+		return this.deltaT;
+	}
+
+	/**
+	 * The publication jobs, built on first use.
+	 * The number of documents generated at the same time is driven by the System variable astro.publish.max.parallel,
+	 * the number of waiting ones by astro.publish.queue.size. Generated documents are kept astro.publish.retention ms.
+	 *
+	 * @return the job manager
+	 */
+	protected synchronized JobManager getPublicationJobs() {
+		if (this.publicationJobs == null) {
+			int maxParallel = 2, queueSize = 10;
+			long retention = 3_600_000L; // One hour
+			try {
+				maxParallel = Integer.parseInt(System.getProperty("astro.publish.max.parallel", String.valueOf(maxParallel)));
+				queueSize = Integer.parseInt(System.getProperty("astro.publish.queue.size", String.valueOf(queueSize)));
+				retention = Long.parseLong(System.getProperty("astro.publish.retention", String.valueOf(retention)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			this.publicationJobs = new JobManager("astro-publish", Math.max(1, maxParallel), Math.max(1, queueSize), retention);
+		}
+		return this.publicationJobs;
+	}
+
+	/**
+	 * The published documents, built on first use.
+	 * In the directory in the System variable astro.publish.cache.dir (default: astro-publications, in the temp directory),
+	 * up to astro.publish.cache.max.mb Mb (default 512).
+	 *
+	 * @return the cache
+	 */
+	protected synchronized PublicationCache getPublicationCache() {
+		if (this.publicationCache == null) {
+			long maxMb = 512L;
+			try {
+				maxMb = Long.parseLong(System.getProperty("astro.publish.cache.max.mb", String.valueOf(maxMb)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			String dir = System.getProperty("astro.publish.cache.dir", new File(System.getProperty("java.io.tmpdir"), "astro-publications").getAbsolutePath());
+			this.publicationCache = new PublicationCache(new File(dir), ".pdf", maxMb * 1_024L * 1_024L);
+		}
+		return this.publicationCache;
+	}
+
+	/**
+	 * @return the directory of the publication stylesheets, System variable astro.xsl.dir, default "xsl".
+	 */
+	protected File getStylesheetDir() {
+		return new File(System.getProperty("astro.xsl.dir", "xsl"));
+	}
+
 	@Override
 	public List<HTTPServer.Operation> getRESTOperationList() {
 		return restImplementation.getOperations();
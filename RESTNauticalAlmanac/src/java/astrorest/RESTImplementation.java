@@ -3,6 +3,10 @@ package astrorest;
 import calc.GeoPoint;
 import calc.GeomUtil;
 import calculation.AstroComputer;
+import calculation.ChebyshevEphemeris;
+import calculation.Ephemeris;
+import calculation.EventSolver;
+import calculation.SightReduction;
 import calculation.SightReductionUtil;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -11,18 +15,22 @@ import http.HTTPServer.Operation;
 import http.HTTPServer.Request;
 import http.HTTPServer.Response;
 import http.RESTProcessorUtil;
-import implementation.almanac.AlmanacComputer;
 import implementation.perpetualalmanac.Publisher;
-import nauticalalmanac.Context;
-import nauticalalmanac.Core;
-import nauticalalmanac.Star;
+import implementation.publisher.PublicationCache;
+import implementation.publisher.StreamingAlmanacPublisher;
+import nauticalalmanac.StarReduction;
+import utils.JobManager;
 import utils.TimeUtil;
 
 import java.io.*;
 import java.net.URLDecoder;
+import java.nio.file.Files;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -84,6 +92,16 @@ public class RESTImplementation {
 					ASTRO_PREFIX + "/sun-between-dates",
 					this::getSunDataBetween,
 					"Create a request for Sun data between 2 dates. Requires body payload (GeoPoint), and 3 queryString prm : from and to, in DURATION Format, and tz, the timezone name."),
+			new Operation( // Payload like { latitude: 37.76661945, longitude: -122.5166988 } , Ocean Beach. POST /astro/events?from=2017-09-01&to=2017-09-30&tz=Europe%2FParis&body=MOON
+					"POST",
+					ASTRO_PREFIX + "/events",
+					this::getEventsBetween,
+					"Rise, set, meridian passage (and twilights for the Sun) of a body, for each day between 2 dates. Requires body payload (GeoPoint), and 3 queryString prm : from and to, in yyyy-MM-dd Format, and tz, the timezone name. Optional: body (SUN|MOON|VENUS|MARS|JUPITER|SATURN, default SUN)."),
+			new Operation( // Payload like { position: { latitude: 37.5, longitude: -122.3 }, sights: [ { body: "SUN", epoch: 1497528000000, obsAlt: 63.89 }, { body: "Altair", epoch: ..., obsAlt: ... }, { gha: 200, decl: -10, obsAlt: 3.48 } ] }
+					"POST",
+					ASTRO_PREFIX + "/celestial-fix",
+					this::getCelestialFix,
+					"Least-squares fix from several sights. Requires body payload: estimated position (GeoPoint), and sights, each with the observed altitude (corrected) 'obsAlt', and either 'body' (SUN, MOON, VENUS, MARS, JUPITER, SATURN, or a star name) and 'epoch' (UTC, in ms), or 'gha' and 'decl'."),
 			new Operation( // Payload like { latitude: 37.76661945, longitude: -122.5166988 } , Ocean Beach. POST /astro/sun-between-dates?from=2017-09-01T00:00:00&to=2017-09-02T00:00:01&tz=Europe%2FParis
 					"POST",
 					ASTRO_PREFIX + "/sun-moon-dec-alt",
@@ -108,7 +126,42 @@ public class RESTImplementation {
 					"POST",
 					ASTRO_PREFIX + "/publish/perpetual",
 					this::publishPerpetual,
-					"Generates perpetual nautical almanac document (pdf)")
+					"Generates perpetual nautical almanac document (pdf)"),
+			new Operation(
+					"POST",
+					ASTRO_PREFIX + "/publish/almanac/job",
+					this::submitAlmanacJob,
+					"Submits the generation of a nautical almanac document (pdf). Same payload as /publish/almanac. Returns the job."),
+			new Operation(
+					"POST",
+					ASTRO_PREFIX + "/publish/lunar/job",
+					this::submitLunarJob,
+					"Submits the generation of a lunar distances document (pdf). Same payload as /publish/lunar. Returns the job."),
+			new Operation(
+					"POST",
+					ASTRO_PREFIX + "/publish/perpetual/job",
+					this::submitPerpetualJob,
+					"Submits the generation of a perpetual nautical almanac document (pdf). Same payload as /publish/perpetual. Returns the job."),
+			new Operation(
+					"GET",
+					ASTRO_PREFIX + "/publish/jobs",
+					this::getPublicationJobs,
+					"List of the publication jobs, and their status."),
+			new Operation(
+					"GET",
+					ASTRO_PREFIX + "/publish/jobs/{job-id}",
+					this::getPublicationJob,
+					"Status of a publication job."),
+			new Operation(
+					"GET",
+					ASTRO_PREFIX + "/publish/jobs/{job-id}/result",
+					this::getPublicationJobResult,
+					"The document generated by a publication job, when DONE."),
+			new Operation(
+					"GET",
+					ASTRO_PREFIX + "/publish/cache",
+					this::getPublicationCacheStats,
+					"Statistics of the cache of the published documents.")
 
 	);
 
@@ -371,6 +424,194 @@ public class RESTImplementation {
 		}
 	}
 
+	/**
+	 *
+	 * @param request MUST contain a GeoPoint payload (observer's position), and query String prms from and to (yyyy-MM-dd, inclusive), tz (timezone name), optionally body.
+	 * @return the events of each day
+	 */
+	private Response getEventsBetween(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+
+		GeoPoint pos = null;
+		if (request.getContent() != null && request.getContent().length > 0) {
+			String payload = new String(request.getContent());
+			if (!"null".equals(payload)) {
+				Gson gson = new GsonBuilder().create();
+				StringReader stringReader = new StringReader(payload);
+				try {
+					pos = gson.fromJson(stringReader, GeoPoint.class);
+				} catch (Exception ex) {
+					response = HTTPServer.buildErrorResponse(response,
+							Response.BAD_REQUEST,
+							new HTTPServer.ErrorPayload()
+									.errorCode("ASTRO-0501")
+									.errorMessage(ex.toString()));
+					return response;
+				}
+			}
+		}
+		if (pos == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0501")
+							.errorMessage("Observer's position (GeoPoint) is required."));
+			return response;
+		}
+		Map<String, String> prms = request.getQueryStringParameters();
+		if (prms == null || prms.get("from") == null || prms.get("to") == null || prms.get("tz") == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0502")
+							.errorMessage("Query parameters 'tz', 'from' and 'to' are required."));
+			return response;
+		}
+		LocalDate from, to;
+		ZoneId zone;
+		Ephemeris.Body body;
+		try {
+			from = LocalDate.parse(prms.get("from"));
+			to = LocalDate.parse(prms.get("to"));
+			zone = ZoneId.of(URLDecoder.decode(prms.get("tz"), "UTF-8"));
+			body = Ephemeris.Body.valueOf(prms.getOrDefault("body", "SUN").toUpperCase());
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0503")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		long nbDays = to.toEpochDay() - from.toEpochDay() + 1;
+		int maxDays = astroRequestManager.getMaxEventDays();
+		if (nbDays < 1 || nbDays > maxDays) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0505")
+							.errorMessage(String.format("From %s to %s: %d day(s), must be in [1..%d].", from, to, nbDays, maxDays)));
+			return response;
+		}
+		try {
+			List<EventSolver.DayEvents> events = astroRequestManager.getEventSolver().getEvents(body, pos.getL(), pos.getG(), from, to, zone);
+			String content = new Gson().toJson(events);
+			RESTProcessorUtil.generateResponseHeaders(response, content.length());
+			response.setPayload(content.getBytes());
+			return response;
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0504")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+	}
+
+	private static class Sight {
+		String body;
+		Long epoch;
+		Double gha;
+		Double decl;
+		double obsAlt;
+	}
+
+	private static class FixRequest {
+		GeoPoint position;
+		List<Sight> sights;
+	}
+
+	private Response getCelestialFix(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+
+		FixRequest fixRequest = null;
+		if (request.getContent() != null && request.getContent().length > 0) {
+			String payload = new String(request.getContent());
+			if (!"null".equals(payload)) {
+				Gson gson = new GsonBuilder().create();
+				StringReader stringReader = new StringReader(payload);
+				try {
+					fixRequest = gson.fromJson(stringReader, FixRequest.class);
+				} catch (Exception ex) {
+					response = HTTPServer.buildErrorResponse(response,
+							Response.BAD_REQUEST,
+							new HTTPServer.ErrorPayload()
+									.errorCode("ASTRO-0701")
+									.errorMessage(ex.toString()));
+					return response;
+				}
+			}
+		}
+		if (fixRequest == null || fixRequest.position == null || fixRequest.sights == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0701")
+							.errorMessage("Estimated position and sights are required."));
+			return response;
+		}
+		int nbSights = fixRequest.sights.size();
+		double[] ghas = new double[nbSights];
+		double[] decls = new double[nbSights];
+		double[] obsAlts = new double[nbSights];
+		try {
+			for (int i = 0; i < nbSights; i++) {
+				Sight sight = fixRequest.sights.get(i);
+				double[] ghaAndDecl = getGHAAndDecl(sight);
+				ghas[i] = ghaAndDecl[0];
+				decls[i] = ghaAndDecl[1];
+				obsAlts[i] = sight.obsAlt;
+			}
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0702")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		try {
+			SightReduction.Fix fix = SightReduction.fix(ghas, decls, obsAlts, fixRequest.position.getL(), fixRequest.position.getG());
+			String content = new Gson().toJson(fix);
+			RESTProcessorUtil.generateResponseHeaders(response, content.length());
+			response.setPayload(content.getBytes());
+			return response;
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0703")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+	}
+
+	/**
+	 * @return GHA and Declination of the body of the sight, at its time, or as provided.
+	 */
+	private double[] getGHAAndDecl(Sight sight) {
+		if (sight.gha != null && sight.decl != null) {
+			return new double[] { sight.gha, sight.decl };
+		}
+		if (sight.body == null || sight.epoch == null) {
+			throw new IllegalArgumentException("Each sight requires 'body' and 'epoch', or 'gha' and 'decl'.");
+		}
+		for (Ephemeris.Body body : Ephemeris.Body.values()) {
+			if (body.toString().equalsIgnoreCase(sight.body)) {
+				return astroRequestManager.getChebyshevEphemeris().getGHAAndDecl(body, sight.epoch);
+			}
+		}
+		for (int i = 0; i < StarReduction.size(); i++) {
+			if (StarReduction.getName(i).equalsIgnoreCase(sight.body)) {
+				double[] stars = Ephemeris.compute(sight.epoch, astroRequestManager.getDeltaT(), Ephemeris.SUN_AND_MOON).getStarPositions();
+				int offset = i * StarReduction.STRIDE;
+				return new double[] { stars[offset + StarReduction.GHA], stars[offset + StarReduction.DEC] };
+			}
+		}
+		throw new IllegalArgumentException(String.format("Unknown body [%s]", sight.body));
+	}
+
 	private static Date getSolarDate(Date utc, double eot) {
 		long ms = utc.getTime();
 		Date solar = new Date(ms + Math.round((12 - eot) * 3_600_000));
@@ -440,22 +681,22 @@ public class RESTImplementation {
 				if ("true".equals(System.getProperty("astro.verbose", "false"))) {
 					System.out.println("Starting Sun and Moon data calculation at " + date.getTime());
 				}
-				// TODO Make it non-static, and synchronized
-				AstroComputer.calculate(
+				Ephemeris ephemeris = Ephemeris.compute(
 						date.get(Calendar.YEAR),
 						date.get(Calendar.MONTH) + 1,
 						date.get(Calendar.DAY_OF_MONTH),
 						date.get(Calendar.HOUR_OF_DAY), // and not HOUR !!!!
 						date.get(Calendar.MINUTE),
-						date.get(Calendar.SECOND));
+						date.get(Calendar.SECOND),
+						wandering ? Ephemeris.ALL_BODIES : Ephemeris.SUN_AND_MOON);
 
 				PositionsInTheSky data = new PositionsInTheSky()
 						.epoch(date.getTimeInMillis())
-						.deltaT(AstroComputer.getDeltaT())
-						.sun(new GP().gha(AstroComputer.getSunGHA())
-								.decl(AstroComputer.getSunDecl()))
-						.moon(new GP().gha(AstroComputer.getMoonGHA())
-								.decl(AstroComputer.getMoonDecl()));
+						.deltaT(ephemeris.getDeltaT())
+						.sun(new GP().gha(ephemeris.getSunGHA())
+								.decl(ephemeris.getSunDecl()))
+						.moon(new GP().gha(ephemeris.getMoonGHA())
+								.decl(ephemeris.getMoonDecl()));
 
 				if (prms.get("fromL") != null && prms.get("fromG") != null) {
 					double lat = 0d, lng = 0d;
@@ -473,7 +714,7 @@ public class RESTImplementation {
 					data = data.from(new Pos()
 							.latitude(lat)
 							.longitude(lng));
-					double tPass = AstroComputer.getSunMeridianPassageTime(lat, lng);
+					double tPass = ephemeris.getSunMeridianPassageTime(lat, lng);
 
 					int hTPass = (int)Math.floor(tPass);
 					int mTPass = (int)Math.floor((tPass - hTPass) * 60);
@@ -498,11 +739,11 @@ public class RESTImplementation {
 							.sec(Integer.parseInt(sol[5])));
 
 					SightReductionUtil sru = new SightReductionUtil();
-					sru.calculate(lat, lng, AstroComputer.getSunGHA(), AstroComputer.getSunDecl());
+					sru.calculate(lat, lng, ephemeris.getSunGHA(), ephemeris.getSunDecl());
 					data = data.sunObs(new OBS()
 					.alt(sru.getHe())
 					.z(sru.getZ()));
-					sru.calculate(lat, lng, AstroComputer.getMoonGHA(), AstroComputer.getMoonDecl());
+					sru.calculate(lat, lng, ephemeris.getMoonGHA(), ephemeris.getMoonDecl());
 					data = data.moonObs(new OBS()
 							.alt(sru.getHe())
 							.z(sru.getZ()));
@@ -512,37 +753,36 @@ public class RESTImplementation {
 					List<GP> wanderingBodies = new ArrayList<>();
 					wanderingBodies.add(new GP()
 							.name("aries")
-							.gha(AstroComputer.getAriesGHA()));
+							.gha(ephemeris.getAriesGHA()));
 					wanderingBodies.add(new GP()
 						.name("venus")
-						.decl(AstroComputer.getVenusDecl())
-						.gha(AstroComputer.getVenusGHA()));
+						.decl(ephemeris.getVenusDecl())
+						.gha(ephemeris.getVenusGHA()));
 					wanderingBodies.add(new GP()
 							.name("mars")
-							.decl(AstroComputer.getMarsDecl())
-							.gha(AstroComputer.getMarsGHA()));
+							.decl(ephemeris.getMarsDecl())
+							.gha(ephemeris.getMarsGHA()));
 					wanderingBodies.add(new GP()
 							.name("jupiter")
-							.decl(AstroComputer.getJupiterDecl())
-							.gha(AstroComputer.getJupiterGHA()));
+							.decl(ephemeris.getJupiterDecl())
+							.gha(ephemeris.getJupiterGHA()));
 					wanderingBodies.add(new GP()
 							.name("saturn")
-							.decl(AstroComputer.getSaturnDecl())
-							.gha(AstroComputer.getSaturnGHA()));
+							.decl(ephemeris.getSaturnDecl())
+							.gha(ephemeris.getSaturnGHA()));
 					data = data.wandering(wanderingBodies)
-							.meanObliquity(AstroComputer.getMeanObliquityOfEcliptic());
+							.meanObliquity(ephemeris.getMeanObliquityOfEcliptic());
 				}
 
 				if (stars) {
 					List<GP> starPositions = new ArrayList<>();
-					Arrays.asList(Star.getCatalog()).stream()
-							.forEach(star -> {
-								Core.starPos(star.getStarName());
-								starPositions.add(new GP()
-								.name(star.getStarName()) // Also available star.getConstellation()
-								.gha(Context.GHAstar)
-								.decl(Context.DECstar));
-							});
+					double[] starPos = ephemeris.getStarPositions();
+					for (int i = 0; i < StarReduction.size(); i++) {
+						starPositions.add(new GP()
+								.name(StarReduction.getName(i)) // Also available star.getConstellation()
+								.gha(starPos[(i * StarReduction.STRIDE) + StarReduction.GHA])
+								.decl(starPos[(i * StarReduction.STRIDE) + StarReduction.DEC]));
+					}
 					data = data.stars(starPositions);
 				}
 
@@ -686,57 +926,265 @@ public class RESTImplementation {
 		}
 	}
 
-	private String generateAstroData(AlmanacOptions options) throws Exception {
-		try {
-			// Extract parameters
-			File temp = File.createTempFile("astro", ".xml");
-			String tempFileName = temp.getAbsolutePath();
-			String[] prms = null;
-			if ("continuous".equals(options.type.type())) {
-				int card = 6;
-				if (options.month > 0) {
-					card = 8;
-				}
-				if (options.day > 0) {
-					card = 10;
-				}
-				prms = new String[card];
-				prms[0] = "-type"; prms[1] = options.type.type();
-				prms[2] = "-year"; prms[3] = String.valueOf(options.year);
-				prms[4] = "-out"; prms[5] = tempFileName;
-				if (options.month > 0) {
-					prms[6] = "-month"; prms[7] = String.valueOf(options.month);
-				}
-				if (options.day > 0) {
-					prms[8] = "-day"; prms[9] = String.valueOf(options.day);
-				}
-			} else {
-				prms = new String[]{
-						"-type", options.type.type(),
+	/**
+	 * @return first and last days (inclusive) of the period of the options.
+	 */
+	private static LocalDate[] getPeriod(AlmanacOptions options) {
+		if (options.type == AlmanacType.FROM_TO) {
+			return new LocalDate[]{
+					LocalDate.of(options.fromYear, options.fromMonth, options.fromDay),
+					LocalDate.of(options.toYear, options.toMonth, options.toDay)};
+		}
+		if (options.day > 0) {
+			LocalDate day = LocalDate.of(options.year, options.month, options.day);
+			return new LocalDate[]{day, day};
+		}
+		if (options.month > 0) {
+			LocalDate first = LocalDate.of(options.year, options.month, 1);
+			return new LocalDate[]{first, first.withDayOfMonth(first.lengthOfMonth())};
+		}
+		return new LocalDate[]{LocalDate.of(options.year, 1, 1), LocalDate.of(options.year, 12, 31)};
+	}
 
-						"-from-year", String.valueOf(options.fromYear),
-						"-from-month", String.valueOf(options.fromMonth),
-						"-from-day", String.valueOf(options.fromDay),
+	private Response submitAlmanacJob(Request request) {
+		return submitAlmanacJob(request, StreamingAlmanacPublisher.Document.ALMANAC);
+	}
 
-						"-to-year", String.valueOf(options.toYear),
-						"-to-month", String.valueOf(options.toMonth),
-						"-to-day", String.valueOf(options.toDay),
+	private Response submitLunarJob(Request request) {
+		return submitAlmanacJob(request, StreamingAlmanacPublisher.Document.LUNAR);
+	}
 
-						"-out", tempFileName
-				};
+	/**
+	 * Submits the generation of an almanac, or of the lunar distances. Does not wait for the document.
+	 * Supports the same payload as {@link #publishAlmanac(Request)}.
+	 * A document already published with the same parameters is taken from the cache.
+	 *
+	 * @param request
+	 * @return the job, or an error, see the "ASTRO-06XX" messages.
+	 */
+	private Response submitAlmanacJob(Request request, StreamingAlmanacPublisher.Document document) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK_);
+		AlmanacOptions options = null;
+		if (request.getContent() != null && request.getContent().length > 0) {
+			try {
+				options = new GsonBuilder().create().fromJson(new StringReader(new String(request.getContent())), AlmanacOptions.class);
+			} catch (Exception ex) {
+				response = HTTPServer.buildErrorResponse(response,
+						Response.BAD_REQUEST,
+						new HTTPServer.ErrorPayload()
+								.errorCode("ASTRO-0601")
+								.errorMessage(ex.toString()));
+				return response;
 			}
-			if ("true".equals(System.getProperty("astro.verbose", "false"))) {
-				System.out.println(String.format("Invoking AlmanacComputer with %s", Arrays.asList(prms).stream()
-						.collect(Collectors.joining(" "))));
+		}
+		if (options == null || options.type == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0602")
+							.errorMessage("Required payload (with its type) not found."));
+			return response;
+		}
+		LocalDate[] period;
+		try {
+			period = getPeriod(options);
+			if (period[0].isAfter(period[1])) {
+				throw new IllegalArgumentException(String.format("Wrong chronology for the dates (from: %s and to: %s).", period[0], period[1]));
+			}
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0603")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		String language = ("FR".equals(options.language) ? "FR" : "EN");
+		boolean withStars = (document == StreamingAlmanacPublisher.Document.ALMANAC && options.withStars);
+		double deltaT = astroRequestManager.getDeltaT();
+		String type = options.type.type();
+		String key = String.format("%s|%s|%s|%s|%s|%s|%s", document, type, period[0], period[1], language, withStars, deltaT);
+		return submitPublicationJob(response,
+				String.format("%s, %s to %s, %s", document, period[0], period[1], language),
+				key,
+				(thisJob, pdf) -> StreamingAlmanacPublisher.publish(
+						document,
+						xml -> StreamingAlmanacPublisher.writeAlmanacXML(period[0], period[1], type, deltaT, xml, thisJob::setProgress),
+						language,
+						withStars,
+						astroRequestManager.getStylesheetDir(),
+						pdf));
+	}
+
+	/**
+	 * Submits the generation of a perpetual almanac. Does not wait for the document.
+	 * Supports the same payload as {@link #publishPerpetual(Request)}.
+	 *
+	 * @param request
+	 * @return the job, or an error, see the "ASTRO-06XX" messages.
+	 */
+	private Response submitPerpetualJob(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK_);
+		PerpetualAlmanacOptions options = null;
+		if (request.getContent() != null && request.getContent().length > 0) {
+			try {
+				options = new GsonBuilder().create().fromJson(new StringReader(new String(request.getContent())), PerpetualAlmanacOptions.class);
+			} catch (Exception ex) {
+				response = HTTPServer.buildErrorResponse(response,
+						Response.BAD_REQUEST,
+						new HTTPServer.ErrorPayload()
+								.errorCode("ASTRO-0601")
+								.errorMessage(ex.toString()));
+				return response;
 			}
-			AlmanacComputer.main(prms);
-			return tempFileName;
+		}
+		if (options == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0602")
+							.errorMessage("Required payload not found."));
+			return response;
+		}
+		if (options.from < 1_900 || options.to > 2_100 || options.from > options.to) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0603")
+							.errorMessage("Invalid years, must be in [1900..2100], from before to."));
+			return response;
+		}
+		final int from = options.from, to = options.to;
+		return submitPublicationJob(response,
+				String.format("PERPETUAL, %d to %d", from, to),
+				String.format("%s|%d|%d", StreamingAlmanacPublisher.Document.PERPETUAL, from, to),
+				(thisJob, pdf) -> StreamingAlmanacPublisher.publish(
+						StreamingAlmanacPublisher.Document.PERPETUAL,
+						xml -> StreamingAlmanacPublisher.writePerpetualXML(from, to, xml, thisJob::setProgress),
+						"EN",
+						false,
+						astroRequestManager.getStylesheetDir(),
+						pdf));
+	}
 
+	/**
+	 * The document is produced in the publication cache, and copied in the job result.
+	 */
+	private Response submitPublicationJob(Response response, String description, String key, JobManager.Task publication) {
+		try {
+			PublicationCache cache = astroRequestManager.getPublicationCache();
+			JobManager.Job job = astroRequestManager.getPublicationJobs().submit(
+					description,
+					"application/pdf",
+					".pdf",
+					(thisJob, out) -> cache.write(key, pdf -> publication.run(thisJob, pdf), out));
+			String content = new Gson().toJson(job);
+			RESTProcessorUtil.generateResponseHeaders(response, content.length());
+			response.setPayload(content.getBytes());
+			return response;
+		} catch (RejectedExecutionException ree) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0604")
+							.errorMessage("Too many publications in progress, try again later."));
+			return response;
 		} catch (Exception ex) {
-			throw ex;
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0605")
+							.errorMessage(ex.toString()));
+			return response;
 		}
 	}
 
+	private Response getPublicationJobs(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		String content = new Gson().toJson(astroRequestManager.getPublicationJobs().getJobs());
+		RESTProcessorUtil.generateResponseHeaders(response, content.length());
+		response.setPayload(content.getBytes());
+		return response;
+	}
+
+	private Response getPublicationJob(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		List<String> prmValues = RESTProcessorUtil.getPrmValues(request.getRequestPattern(), request.getPath());
+		JobManager.Job job = (prmValues.size() == 1 ? astroRequestManager.getPublicationJobs().getJob(prmValues.get(0)) : null);
+		if (job == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.NOT_FOUND,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0606")
+							.errorMessage(String.format("Job [%s] not found", prmValues.isEmpty() ? "" : prmValues.get(0))));
+			return response;
+		}
+		String content = new Gson().toJson(job);
+		RESTProcessorUtil.generateResponseHeaders(response, content.length());
+		response.setPayload(content.getBytes());
+		return response;
+	}
+
+	private Response getPublicationJobResult(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		List<String> prmValues = RESTProcessorUtil.getPrmValues(request.getRequestPattern(), request.getPath());
+		JobManager.Job job = (prmValues.size() == 1 ? astroRequestManager.getPublicationJobs().getJob(prmValues.get(0)) : null);
+		if (job == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.NOT_FOUND,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0606")
+							.errorMessage(String.format("Job [%s] not found", prmValues.isEmpty() ? "" : prmValues.get(0))));
+			return response;
+		}
+		if (job.getResult() == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0607")
+							.errorMessage(String.format("Job [%s] is %s%s", job.getId(), job.getStatus(), (job.getError() != null ? ": " + job.getError() : ""))));
+			return response;
+		}
+		try {
+			byte[] content = Files.readAllBytes(job.getResult().toPath());
+			RESTProcessorUtil.generateResponseHeaders(response, job.getContentType(), content.length);
+			response.setPayload(content);
+			return response;
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("ASTRO-0608")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+	}
+
+	private Response getPublicationCacheStats(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		String content = new Gson().toJson(astroRequestManager.getPublicationCache().getStats());
+		RESTProcessorUtil.generateResponseHeaders(response, content.length());
+		response.setPayload(content.getBytes());
+		return response;
+	}
+
+	/**
+	 * The days are computed in parallel, see {@link StreamingAlmanacPublisher#writeAlmanacXML(LocalDate, LocalDate, String, double, OutputStream, java.util.function.IntConsumer)}.
+	 *
+	 * @return the name of the generated XML file
+	 */
+	private String generateAstroData(AlmanacOptions options) throws Exception {
+		File temp = File.createTempFile("astro", ".xml");
+		LocalDate[] period = getPeriod(options);
+		if ("true".equals(System.getProperty("astro.verbose", "false"))) {
+			System.out.println(String.format("Generating %s almanac data from %s to %s", options.type.type(), period[0], period[1]));
+		}
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(temp))) {
+			StreamingAlmanacPublisher.writeAlmanacXML(period[0], period[1], options.type.type(), astroRequestManager.getDeltaT(), out, null);
+		}
+		return temp.getAbsolutePath();
+	}
+
 	/**
 	 * Publish almanac (generate pdf) for a given period of time.
 	 * Supports a payload in the body, in json format:
@@ -1320,24 +1768,24 @@ public class RESTImplementation {
 	}
 
 	private BodyDataForPos getSunDataForDate(double lat, double lng, Calendar current) {
-		AstroComputer.setDateTime(current.get(Calendar.YEAR),
+		Ephemeris ephemeris = Ephemeris.compute(current.get(Calendar.YEAR),
 				current.get(Calendar.MONTH) + 1,
 				current.get(Calendar.DATE),
 				current.get(Calendar.HOUR_OF_DAY),
 				current.get(Calendar.MINUTE),
-				current.get(Calendar.SECOND));
-		AstroComputer.calculate();
-		SightReductionUtil sru = new SightReductionUtil(AstroComputer.getSunGHA(),
-				AstroComputer.getSunDecl(),
+				current.get(Calendar.SECOND),
+				Ephemeris.SUN_ONLY);
+		SightReductionUtil sru = new SightReductionUtil(ephemeris.getSunGHA(),
+				ephemeris.getSunDecl(),
 				lat,
 				lng);
 		sru.calculate();
 		double he = sru.getHe().doubleValue();
 		double z = sru.getZ().doubleValue();
-		double sunDecl = AstroComputer.getSunDecl();
-		double sunGHA = AstroComputer.getSunGHA();
+		double sunDecl = ephemeris.getSunDecl();
+		double sunGHA = ephemeris.getSunGHA();
 
-		double[] sunRiseAndSet = AstroComputer.sunRiseAndSet(lat, lng);
+		double[] sunRiseAndSet = ephemeris.sunRiseAndSet(lat, lng);
 		Calendar dayOne = Calendar.getInstance(current.getTimeZone()); // TimeZone.getTimeZone("Etc/UTC"));
 		// 00:00:00
 		dayOne.set(current.get(Calendar.YEAR), current.get(Calendar.MONTH), current.get(Calendar.DATE), 0, 0, 0);
@@ -1373,7 +1821,7 @@ public class RESTImplementation {
 			System.out.println("Rise Time Zone:" + rise.getTimeZone());
 		}
 		// Get Equation of time, used to calculate solar time.
-		double eot = AstroComputer.getSunMeridianPassageTime(lat, lng); // in decimal hours
+		double eot = ephemeris.getSunMeridianPassageTime(lat, lng); // in decimal hours
 
 		return new BodyDataForPos(current.getTimeInMillis(), lat, lng, "Sun")
 				.decl(sunDecl)
@@ -1408,37 +1856,28 @@ public class RESTImplementation {
 
 		long from = bodyData.riseTime;
 		long to = bodyData.setTime;
+		EventSolver.DayEvents events = astroRequestManager.getEventSolver().getEvents(Ephemeris.Body.SUN,
+				lat,
+				lng,
+				LocalDate.of(today.get(Calendar.YEAR), today.get(Calendar.MONTH) + 1, today.get(Calendar.DATE)),
+				today.getTimeZone().toZoneId());
+		if (events.getRise() != null && events.getSet() != null && events.getRise() < events.getSet()) { // Otherwise, keep the approximate ones.
+			from = events.getRise();
+			to = events.getSet();
+		}
 
 		long _STEP_MINUTES = 1_000 * 60 * (step == null ? 10 : step); // In ms. Default 10 minutes.
 
 		List<BodyAt> posList = new ArrayList<>();
+		ChebyshevEphemeris ephemeris = astroRequestManager.getChebyshevEphemeris();
 
+		double[] heAndZ = new double[2];
 		for (long time=from; time<=to; time += _STEP_MINUTES) {
 
-			Calendar current = Calendar.getInstance(TimeZone.getTimeZone("Etc/UTC"));
-			current.setTimeInMillis(time);
-
-			AstroComputer.setDateTime(current.get(Calendar.YEAR),
-					current.get(Calendar.MONTH) + 1,
-					current.get(Calendar.DATE),
-					current.get(Calendar.HOUR_OF_DAY),
-					current.get(Calendar.MINUTE),
-					current.get(Calendar.SECOND));
-			AstroComputer.calculate();
-			SightReductionUtil sru = new SightReductionUtil(AstroComputer.getSunGHA(),
-					AstroComputer.getSunDecl(),
-					lat,
-					lng);
-			sru.calculate();
-			double he = sru.getHe().doubleValue();
-			double z = sru.getZ().doubleValue();
-
-//		System.out.println("Calculating Sun Data at "+ current.getTime() +
-//					" from " + GeomUtil.decToSex(lat, GeomUtil.SWING, GeomUtil.NS, GeomUtil.LEADING_SIGN) +
-//					" / " + GeomUtil.decToSex(lng, GeomUtil.SWING, GeomUtil.EW, GeomUtil.LEADING_SIGN) +
-//			    ", Alt:" + he + ", Z:" + z);
-
-			posList.add(new BodyAt(time, he, z));
+			double[] ghaAndDecl = ephemeris.getGHAAndDecl(Ephemeris.Body.SUN, time);
+			SightReduction.reduce(ghaAndDecl[0], ghaAndDecl[1], lat, lng, heAndZ, 0);
+
+			posList.add(new BodyAt(time, heAndZ[SightReduction.HE_IDX], heAndZ[SightReduction.Z_IDX]));
 		}
 		return posList;
 	}
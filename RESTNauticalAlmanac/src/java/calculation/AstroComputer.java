@@ -6,11 +6,17 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Set;
 import java.util.TimeZone;
 
+/**
+ * Static, synchronized access to the almanac, in the global {@link Context}.
+ * <br>
+ * Prefer {@link Ephemeris}, that does not need any synchronization.
+ */
 public class AstroComputer {
 	private static int year = 0, month = 0, day = 0, hour = 0, minute = 0, second = 0;
-	private static double deltaT = 66.4749d; // 2011. Overridden by deltaT system variable.
+	private static double deltaT = Ephemeris.DEFAULT_DELTA_T; // Overridden by deltaT system variable, see Ephemeris.getDefaultDeltaT()
 
 	// Updated after the calculate invocation.
 	public static synchronized double getDeltaT() {
@@ -58,23 +64,30 @@ public class AstroComputer {
 	}
 
 	public static synchronized void calculate() {
-		deltaT = Double.parseDouble(System.getProperty("deltaT", Double.toString(deltaT)));
-		Core.julianDate(year, month, day, hour, minute, second, deltaT);
-		Anomalies.nutation();
-		Anomalies.aberration();
+		calculate(Ephemeris.ALL_BODIES);
+	}
 
-		Core.aries();
-		Core.sun();
+	/**
+	 * Like {@link #calculate(int, int, int, int, int, int)}, for some bodies only (and the ones they depend on).
+	 * The values of the other bodies are reset in the {@link Context}.
+	 *
+	 * @param bodies like {@link Ephemeris#SUN_ONLY}
+	 */
+	public static synchronized void calculate(int y, int m, int d, int h, int mi, int s, Set<Ephemeris.Body> bodies) {
+		setDateTime(y, m, d, h, mi, s);
+		calculate(bodies);
+	}
 
-		Moon.compute();
+	private static void calculate(Set<Ephemeris.Body> bodies) {
+		deltaT = Ephemeris.getDefaultDeltaT();
+		Ephemeris.compute(year, month, day, hour, minute, second, deltaT, bodies).context().toGlobal();
+	}
 
-		Venus.compute();
-		Mars.compute();
-		Jupiter.compute();
-		Saturn.compute();
-		// Core.polaris();
-		Core.moonPhase();
-		// Core.weekDay();
+	/**
+	 * @return the ephemeris of the last calculate() invocation.
+	 */
+	public static synchronized Ephemeris getEphemeris() {
+		return Ephemeris.fromGlobal(year, month, day, hour, minute, second, deltaT);
 	}
 
 	public final static int UTC_RISE_IDX = 0;
@@ -84,6 +97,7 @@ public class AstroComputer {
 
 	/**
 	 * The calculate() method must have been invoked before.
+	 * For a thread-safe version, see {@link Ephemeris#sunRiseAndSet(double, double)}.
 	 *
 	 * @param latitude
 	 * @return the time of rise and set of the body (Sun in that case).
@@ -91,32 +105,7 @@ public class AstroComputer {
 	 * @see http://www.jgiesen.de/SunMoonHorizon/
 	 */
 	public static synchronized double[] sunRiseAndSet(double latitude, double longitude) {
-		//  out.println("Sun HP:" + Context.HPsun);
-		//  out.println("Sun SD:" + Context.SDsun);
-		double h0 = (Context.HPsun / 3600d) - (Context.SDsun / 3600d); // - (34d / 60d);
-//  System.out.println(">>> DEBUG >>> H0:" + h0 + ", Sin Sun H0:" + Math.sin(Math.toRadians(h0)));
-		double cost = Math.sin(Math.toRadians(h0)) - (Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(Context.DECsun)));
-		double t = Math.acos(cost);
-		double lon = longitude;
-
-//  while (lon < -180D)
-//    lon += 360D;
-		//  out.println("Lon:" + lon + ", Eot:" + Context.EoT + " (" + (Context.EoT / 60D) + ")" + ", t:" + Math.toDegrees(t));
-		double utRise = 12D - (Context.EoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
-		double utSet = 12D - (Context.EoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
-
-		// Based on http://en.wikipedia.org/wiki/Sunrise_equation
-		//double phi = Math.toRadians(latitude);
-		//double delta = Math.toRadians(Context.DECsun);
-		//double omega = Math.acos(- Math.tan(phi) * Math.tan(delta));
-		//utRise = 12D - (Context.EoT / 60D) - (lon / 15D) - (Math.toDegrees(omega) / 15D);
-		//utSet  = 12D - (Context.EoT / 60D) - (lon / 15D) + (Math.toDegrees(omega) / 15D);
-
-		double Z = Math.acos((Math.sin(Math.toRadians(Context.DECsun)) + (0.0145 * Math.sin(Math.toRadians(latitude)))) /
-				(0.9999 * Math.cos(Math.toRadians(latitude))));
-		Z = Math.toDegrees(Z);
-
-		return new double[]{utRise, utSet, Z, 360d - Z};
+		return getEphemeris().sunRiseAndSet(latitude, longitude);
 	}
 
 	/**
@@ -124,24 +113,12 @@ public class AstroComputer {
 	 * @param longitude in degrees
 	 * @return meridian passage time in hours.
 	 */
-	public static double getSunMeridianPassageTime(double latitude, double longitude) {
-		double t = (12d - (Context.EoT / 60d));
-		double deltaG = longitude / 15D;
-		return t - deltaG;
+	public static synchronized double getSunMeridianPassageTime(double latitude, double longitude) {
+		return getEphemeris().getSunMeridianPassageTime(latitude, longitude);
 	}
 
 	public static synchronized double[] sunRiseAndSet_wikipedia(double latitude, double longitude) {
-		double cost = Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(Context.DECsun));
-		double t = Math.acos(cost);
-		double lon = longitude;
-		double utRise = 12D - (Context.EoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
-		double utSet = 12D - (Context.EoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
-
-		double Z = Math.acos((Math.sin(Math.toRadians(Context.DECsun)) + (0.0145 * Math.sin(Math.toRadians(latitude)))) /
-				(0.9999 * Math.cos(Math.toRadians(latitude))));
-		Z = Math.toDegrees(Z);
-
-		return new double[]{utRise, utSet, Z, 360d - Z};
+		return getEphemeris().sunRiseAndSet_wikipedia(latitude, longitude);
 	}
 
 	/**
@@ -150,28 +127,7 @@ public class AstroComputer {
 	 * See http://www.jgiesen.de/SunMoonHorizon/
 	 */
 	public static synchronized double[] moonRiseAndSet(double latitude, double longitude) {
-		//  out.println("Moon HP:" + (Context.HPmoon / 60) + "'");
-		//  out.println("Moon SD:" + (Context.SDmoon / 60) + "'");
-		double h0 = (Context.HPmoon / 3600d) - (Context.SDmoon / 3600d) - (34d / 60d);
-		//  out.println("Moon H0:" + h0);
-		double cost = Math.sin(Math.toRadians(h0)) - (Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(Context.DECmoon)));
-		double t = Math.acos(cost);
-		double lon = longitude;
-		while (lon < -180D)
-			lon += 360D;
-		//  out.println("Moon Eot:" + Context.moonEoT + " (" + (Context.moonEoT / 60D) + ")" + ", t:" + Math.toDegrees(t));
-		double utRise = 12D - (Context.moonEoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
-		while (utRise < 0)
-			utRise += 24;
-		while (utRise > 24)
-			utRise -= 24;
-		double utSet = 12D - (Context.moonEoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
-		while (utSet < 0)
-			utSet += 24;
-		while (utSet > 24)
-			utSet -= 24;
-
-		return new double[]{utRise, utSet};
+		return getEphemeris().moonRiseAndSet(latitude, longitude);
 	}
 
 	public static synchronized double getMoonIllum() {
@@ -181,6 +137,7 @@ public class AstroComputer {
 	public static synchronized void setDeltaT(double deltaT) {
 		System.out.println("...DeltaT set to " + deltaT);
 		AstroComputer.deltaT = deltaT;
+		Ephemeris.setDefaultDeltaT(deltaT);
 	}
 
 	public static final synchronized double getTimeZoneOffsetInHours(TimeZone tz) {
@@ -0,0 +1,499 @@
+package calculation;
+
+import java.io.*;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Positions of the Sun, the Moon, the planets and Aries, interpolated with Chebyshev polynomials (like the JPL DE files).
+ * <p>
+ * The time is cut in segments (of a span depending on the body, aligned on the epoch).
+ * For each segment, the full theory ({@link Ephemeris}) is evaluated at the Chebyshev nodes,
+ * and the coefficients of the polynomials are kept in an LRU (bounded by the number of segments).
+ * A position in a segment already computed costs a few dozen multiplications.
+ * </p>
+ * <p>
+ * Interpolated are the GHA of Aries, and the Right Ascension and Declination of the bodies
+ * (plus the semi-diameter and the horizontal parallax of the Sun and the Moon).
+ * The GHA of a body is the GHA of Aries minus its Right Ascension, as in {@link Ephemeris}.
+ * With the default spans and degrees, the difference with {@link Ephemeris} (and {@link AstroComputer})
+ * stays below 3e-7 degree (0.001") for the GHAs and Declinations, between 1900 and 2100.
+ * </p>
+ * The segments of a range of years can be written on the disk (see {@link #persist(int, int)}), one file per series, per year and per deltaT.
+ * They are then read from there when not in memory.
+ * <br>
+ * The segments are computed with a given deltaT, or with the default one at the time of the computation (see {@link Ephemeris#setDefaultDeltaT(double)}),
+ * deltaT is part of their key.
+ */
+public class ChebyshevEphemeris {
+
+	private final static long HOUR_MS = 3_600_000L;
+
+	/**
+	 * The interpolated series. The span (in hours) and the degree of the polynomials can be overridden
+	 * by the System variables chebyshev.[series].span and chebyshev.[series].degree, like chebyshev.moon.span=12
+	 */
+	public enum Series {
+		ARIES(null, 1, 96, 8, 360.98564736629), // GHA, ~360.9856 degrees a day.
+		SUN(Ephemeris.Body.SUN, 4, 192, 12, 0d),
+		MOON(Ephemeris.Body.MOON, 4, 24, 12, 0d),
+		VENUS(Ephemeris.Body.VENUS, 2, 192, 12, 0d),
+		MARS(Ephemeris.Body.MARS, 2, 192, 12, 0d),
+		JUPITER(Ephemeris.Body.JUPITER, 2, 384, 10, 0d),
+		SATURN(Ephemeris.Body.SATURN, 2, 384, 10, 0d);
+
+		private final Ephemeris.Body body;
+		private final int nbChannels;
+		private final int defaultSpan;   // In hours
+		private final int defaultDegree;
+		private final double dailyRate;  // Of the first channel, to unwrap it. 0: slow enough.
+
+		Series(Ephemeris.Body body, int nbChannels, int defaultSpan, int defaultDegree, double dailyRate) {
+			this.body = body;
+			this.nbChannels = nbChannels;
+			this.defaultSpan = defaultSpan;
+			this.defaultDegree = defaultDegree;
+			this.dailyRate = dailyRate;
+		}
+
+		public static Series of(Ephemeris.Body body) {
+			for (Series series : values()) {
+				if (series.body == body) {
+					return series;
+				}
+			}
+			throw new IllegalArgumentException(String.format("No series for %s", body));
+		}
+	}
+
+	// Channels
+	private final static int GHA = 0; // Aries
+	private final static int RA = 0;
+	private final static int DEC = 1;
+	private final static int SD = 2;
+	private final static int HP = 3;
+
+	private final int maxSegments;
+	private final File diskDir; // null: no disk tier
+	private final double deltaT; // NaN: the default one
+	private final long[] spans = new long[Series.values().length]; // In ms
+	private final int[] degrees = new int[Series.values().length];
+
+	private final LinkedHashMap<SegmentKey, double[]> lru;
+	private final AtomicReferenceArray<Segment> lastUsed = new AtomicReferenceArray<>(Series.values().length); // Per series, read without lock
+
+	private final AtomicLong hits = new AtomicLong(0L);
+	private final AtomicLong diskHits = new AtomicLong(0L);
+	private final AtomicLong misses = new AtomicLong(0L);
+	private final AtomicLong evictions = new AtomicLong(0L);
+
+	/**
+	 * With the default deltaT, see {@link Ephemeris#getDefaultDeltaT()}, followed when it changes.
+	 *
+	 * @param maxSegments max number of segments in memory, all series together.
+	 * @param diskDir     directory of the persisted segments, null if not required. Created if needed.
+	 */
+	public ChebyshevEphemeris(int maxSegments, File diskDir) {
+		this(maxSegments, diskDir, Double.NaN);
+	}
+
+	public ChebyshevEphemeris(int maxSegments, File diskDir, double deltaT) {
+		this.maxSegments = maxSegments;
+		this.deltaT = deltaT;
+		if (diskDir != null && !diskDir.exists()) {
+			if (!diskDir.mkdirs()) {
+				System.err.println(String.format("Cannot create %s, no disk tier.", diskDir.getAbsolutePath()));
+				diskDir = null;
+			}
+		}
+		this.diskDir = diskDir;
+		for (Series series : Series.values()) {
+			String name = series.name().toLowerCase();
+			spans[series.ordinal()] = Long.parseLong(System.getProperty(String.format("chebyshev.%s.span", name), String.valueOf(series.defaultSpan))) * HOUR_MS;
+			degrees[series.ordinal()] = Integer.parseInt(System.getProperty(String.format("chebyshev.%s.degree", name), String.valueOf(series.defaultDegree)));
+		}
+		this.lru = new LinkedHashMap<SegmentKey, double[]>(64, 0.75f, true) { // Access order
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<SegmentKey, double[]> eldest) {
+				boolean evict = size() > ChebyshevEphemeris.this.maxSegments;
+				if (evict) {
+					evictions.incrementAndGet();
+				}
+				return evict;
+			}
+		};
+	}
+
+	public double getDeltaT() {
+		return (Double.isNaN(deltaT) ? Ephemeris.getDefaultDeltaT() : deltaT);
+	}
+
+	/**
+	 * @param epoch UTC, in ms
+	 * @return in degrees, in [0, 360[
+	 */
+	public double getAriesGHA(long epoch) {
+		return normalize(value(Series.ARIES, GHA, epoch));
+	}
+
+	/**
+	 * @param body  the body
+	 * @param epoch UTC, in ms
+	 * @return in degrees, in [0, 360[
+	 */
+	public double getGHA(Ephemeris.Body body, long epoch) {
+		return normalize(value(Series.ARIES, GHA, epoch) - value(Series.of(body), RA, epoch));
+	}
+
+	/**
+	 * @return in degrees, in [0, 360[
+	 */
+	public double getRA(Ephemeris.Body body, long epoch) {
+		return normalize(value(Series.of(body), RA, epoch));
+	}
+
+	/**
+	 * @return in degrees
+	 */
+	public double getDecl(Ephemeris.Body body, long epoch) {
+		return value(Series.of(body), DEC, epoch);
+	}
+
+	/**
+	 * Sun and Moon only.
+	 *
+	 * @return same unit as {@link Ephemeris#getSunSD()}
+	 */
+	public double getSD(Ephemeris.Body body, long epoch) {
+		return value(sunOrMoon(body), SD, epoch);
+	}
+
+	/**
+	 * Sun and Moon only.
+	 *
+	 * @return same unit as {@link Ephemeris#getSunHP()}
+	 */
+	public double getHP(Ephemeris.Body body, long epoch) {
+		return value(sunOrMoon(body), HP, epoch);
+	}
+
+	/**
+	 * @return GHA and Declination of the body, in degrees.
+	 */
+	public double[] getGHAAndDecl(Ephemeris.Body body, long epoch) {
+		return new double[]{getGHA(body, epoch), getDecl(body, epoch)};
+	}
+
+	private static Series sunOrMoon(Ephemeris.Body body) {
+		if (body != Ephemeris.Body.SUN && body != Ephemeris.Body.MOON) {
+			throw new IllegalArgumentException(String.format("Available for the Sun and the Moon only, not %s", body));
+		}
+		return Series.of(body);
+	}
+
+	private static double normalize(double angle) {
+		double normalized = angle % 360d;
+		return (normalized < 0d ? normalized + 360d : normalized);
+	}
+
+	private double value(Series series, int channel, long epoch) {
+		long span = spans[series.ordinal()];
+		long index = Math.floorDiv(epoch, span);
+		double[] coefficients = getSegment(series, index, getDeltaT());
+		int n = degrees[series.ordinal()] + 1;
+		double x = (2d * (epoch - (index * span)) / span) - 1d;
+		// Clenshaw
+		int offset = channel * n;
+		double b1 = 0d, b2 = 0d;
+		for (int j = n - 1; j >= 1; j--) {
+			double b0 = (2d * x * b1) - b2 + coefficients[offset + j];
+			b2 = b1;
+			b1 = b0;
+		}
+		return (x * b1) - b2 + coefficients[offset];
+	}
+
+	private double[] getSegment(Series series, long index, double deltaT) {
+		Segment last = lastUsed.get(series.ordinal());
+		if (last != null && last.index == index && last.deltaT == deltaT) {
+			hits.incrementAndGet();
+			return last.coefficients;
+		}
+		double[] coefficients = getSegmentFromCache(series, index, deltaT);
+		lastUsed.set(series.ordinal(), new Segment(index, deltaT, coefficients));
+		return coefficients;
+	}
+
+	private double[] getSegmentFromCache(Series series, long index, double deltaT) {
+		SegmentKey key = new SegmentKey(series, index, deltaT);
+		double[] segment;
+		synchronized (lru) {
+			segment = lru.get(key);
+		}
+		if (segment != null) {
+			hits.incrementAndGet();
+			return segment;
+		}
+		segment = readFromDisk(series, index, deltaT);
+		if (segment != null) {
+			diskHits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+			segment = fit(series, index, deltaT);
+		}
+		synchronized (lru) {
+			lru.put(key, segment);
+		}
+		return segment;
+	}
+
+	/**
+	 * The Chebyshev coefficients of one segment, for all the channels of the series.
+	 * The first coefficient of each channel is halved, ready for the evaluation.
+	 */
+	private double[] fit(Series series, long index, double deltaT) {
+		long span = spans[series.ordinal()];
+		int n = degrees[series.ordinal()] + 1;
+		long start = index * span;
+		Set<Ephemeris.Body> bodies = (series.body == null ? Collections.emptySet() : EnumSet.of(series.body));
+		double[][] values = new double[series.nbChannels][n];
+		for (int k = n - 1; k >= 0; k--) { // Chronological order
+			double x = Math.cos(Math.PI * (k + 0.5) / n);
+			double node = (x + 1d) / 2d * span;
+			long epoch = start + Math.round(node);
+			Ephemeris ephemeris = Ephemeris.compute(epoch, deltaT, bodies);
+			switch (series) {
+				case ARIES:
+					values[GHA][k] = ephemeris.getAriesGHA();
+					break;
+				case SUN:
+					values[RA][k] = ephemeris.getSunRA();
+					values[DEC][k] = ephemeris.getSunDecl();
+					values[SD][k] = ephemeris.getSunSD();
+					values[HP][k] = ephemeris.getSunHP();
+					break;
+				case MOON:
+					values[RA][k] = ephemeris.getMoonRA();
+					values[DEC][k] = ephemeris.getMoonDecl();
+					values[SD][k] = ephemeris.getMoonSD();
+					values[HP][k] = ephemeris.getMoonHP();
+					break;
+				default:
+					double[] raDec = planetRADec(ephemeris, series.body);
+					values[RA][k] = raDec[0];
+					values[DEC][k] = raDec[1];
+					break;
+			}
+			values[0][k] += series.dailyRate * (node - Math.round(node)) / (24d * HOUR_MS); // Node rounded to the ms
+			if (k < n - 1) { // Unwrap the angle (GHA or RA), from the previous node
+				double dt = (Math.cos(Math.PI * (k + 0.5) / n) - Math.cos(Math.PI * (k + 1.5) / n)) / 2d * span / (24d * HOUR_MS);
+				double expected = values[0][k + 1] + (series.dailyRate * dt);
+				values[0][k] += 360d * Math.round((expected - values[0][k]) / 360d);
+			}
+		}
+		double[] coefficients = new double[series.nbChannels * n];
+		for (int channel = 0; channel < series.nbChannels; channel++) {
+			for (int j = 0; j < n; j++) {
+				double sum = 0d;
+				for (int k = 0; k < n; k++) {
+					sum += values[channel][k] * Math.cos(Math.PI * j * (k + 0.5) / n);
+				}
+				coefficients[(channel * n) + j] = (j == 0 ? 1d : 2d) * sum / n;
+			}
+		}
+		return coefficients;
+	}
+
+	private static double[] planetRADec(Ephemeris ephemeris, Ephemeris.Body body) {
+		switch (body) {
+			case VENUS:
+				return new double[]{ephemeris.getVenusRA(), ephemeris.getVenusDecl()};
+			case MARS:
+				return new double[]{ephemeris.getMarsRA(), ephemeris.getMarsDecl()};
+			case JUPITER:
+				return new double[]{ephemeris.getJupiterRA(), ephemeris.getJupiterDecl()};
+			case SATURN:
+				return new double[]{ephemeris.getSaturnRA(), ephemeris.getSaturnDecl()};
+			default:
+				throw new IllegalArgumentException(body.toString());
+		}
+	}
+
+	/**
+	 * Computes all the segments of the given years, and writes them on the disk, one file per series and per year (for the current deltaT).
+	 * The segments overlapping two years are in both files.
+	 *
+	 * @param fromYear first year, included
+	 * @param toYear   last year, included
+	 * @throws IOException when the files cannot be written
+	 */
+	public void persist(int fromYear, int toYear) throws IOException {
+		if (diskDir == null) {
+			throw new IllegalStateException("No disk directory");
+		}
+		double deltaT = getDeltaT();
+		for (Series series : Series.values()) {
+			long span = spans[series.ordinal()];
+			for (int year = fromYear; year <= toYear; year++) {
+				long yearStart = Instant.parse(String.format("%04d-01-01T00:00:00Z", year)).toEpochMilli();
+				long yearEnd = Instant.parse(String.format("%04d-01-01T00:00:00Z", year + 1)).toEpochMilli();
+				long first = Math.floorDiv(yearStart, span);
+				long last = Math.floorDiv(yearEnd - 1, span);
+				File file = new File(diskDir, fileName(series, year, deltaT));
+				File tmp = new File(diskDir, file.getName() + ".tmp." + Thread.currentThread().getId());
+				try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+					dos.writeUTF(header(series, deltaT));
+					dos.writeLong(first);
+					dos.writeInt((int) (last - first + 1));
+					for (long index = first; index <= last; index++) {
+						for (double c : getSegment(series, index, deltaT)) {
+							dos.writeDouble(c);
+						}
+					}
+				} catch (IOException ioe) {
+					tmp.delete();
+					throw ioe;
+				}
+				if (!tmp.renameTo(file)) {
+					tmp.delete();
+					throw new IOException(String.format("Cannot rename %s", tmp.getName()));
+				}
+			}
+		}
+	}
+
+	private double[] readFromDisk(Series series, long index, double deltaT) {
+		if (diskDir == null) {
+			return null;
+		}
+		long start = index * spans[series.ordinal()];
+		int year = Instant.ofEpochMilli(start).atZone(ZoneOffset.UTC).getYear();
+		File file = new File(diskDir, fileName(series, year, deltaT));
+		if (!file.exists()) {
+			return null;
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			if (!header(series, deltaT).equals(raf.readUTF())) { // Other span or degree
+				return null;
+			}
+			long first = raf.readLong();
+			int count = raf.readInt();
+			if (index < first || index >= first + count) {
+				return null;
+			}
+			double[] segment = new double[series.nbChannels * (degrees[series.ordinal()] + 1)];
+			raf.seek(raf.getFilePointer() + ((index - first) * segment.length * 8L));
+			byte[] bytes = new byte[segment.length * 8];
+			raf.readFully(bytes);
+			DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
+			for (int i = 0; i < segment.length; i++) {
+				segment[i] = dis.readDouble();
+			}
+			return segment;
+		} catch (IOException ioe) {
+			System.err.println(String.format("Reading %s: %s", file.getName(), ioe.toString()));
+			return null;
+		}
+	}
+
+	private static String fileName(Series series, int year, double deltaT) {
+		return String.format("%s.%d.%s.cheb", series.name().toLowerCase(), year, deltaT);
+	}
+
+	private String header(Series series, double deltaT) {
+		return String.format("%s|%d|%d|%s", series, spans[series.ordinal()], degrees[series.ordinal()], deltaT);
+	}
+
+	public void clear() {
+		synchronized (lru) {
+			lru.clear();
+		}
+		for (int i = 0; i < lastUsed.length(); i++) {
+			lastUsed.set(i, null);
+		}
+	}
+
+	public CacheStats getStats() {
+		CacheStats stats = new CacheStats();
+		synchronized (lru) {
+			stats.segments = lru.size();
+		}
+		stats.maxSegments = maxSegments;
+		stats.diskTier = (diskDir != null ? diskDir.getAbsolutePath() : null);
+		stats.hits = hits.get();
+		stats.diskHits = diskHits.get();
+		stats.misses = misses.get();
+		stats.evictions = evictions.get();
+		return stats;
+	}
+
+	public static class CacheStats {
+		int segments;
+		int maxSegments;
+		String diskTier;
+		long hits;
+		long diskHits;
+		long misses;
+		long evictions;
+
+		public long getHits() {
+			return hits;
+		}
+
+		public long getDiskHits() {
+			return diskHits;
+		}
+
+		public long getMisses() {
+			return misses;
+		}
+
+		public long getEvictions() {
+			return evictions;
+		}
+	}
+
+	private static class Segment {
+		private final long index;
+		private final double deltaT;
+		private final double[] coefficients;
+
+		Segment(long index, double deltaT, double[] coefficients) {
+			this.index = index;
+			this.deltaT = deltaT;
+			this.coefficients = coefficients;
+		}
+	}
+
+	private static class SegmentKey {
+		private final Series series;
+		private final long index; // Start of the segment is index * span
+		private final double deltaT;
+
+		SegmentKey(Series series, long index, double deltaT) {
+			this.series = series;
+			this.index = index;
+			this.deltaT = deltaT;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof SegmentKey)) {
+				return false;
+			}
+			SegmentKey other = (SegmentKey) o;
+			return series == other.series && index == other.index && Double.compare(deltaT, other.deltaT) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(series, index, deltaT);
+		}
+	}
+}
@@ -0,0 +1,530 @@
+package calculation;
+
+import nauticalalmanac.*;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.GregorianCalendar;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * The positions of the Sun, the Moon, Aries and the planets, for one instant (UTC).
+ * <p>
+ * Immutable, and independent of the global {@link Context}: the instants can be computed
+ * by as many threads as needed, without any synchronization, and the result can be shared.
+ * </p>
+ * <pre>
+ *   Ephemeris eph = Ephemeris.compute(2017, 6, 15, 12, 0, 0);
+ *   double sunDecl = eph.getSunDecl();
+ *   double[] riseAndSet = eph.sunRiseAndSet(37.7489, -122.5070);
+ * </pre>
+ * Only the requested bodies are computed (and the ones they depend on), see {@link Body}.
+ * The getters of a body that was not computed throw an {@link IllegalStateException}.
+ * <br>
+ * {@link AstroComputer} uses it, and keeps the global {@link Context} up to date for the legacy code.
+ */
+public final class Ephemeris {
+
+	public final static double DEFAULT_DELTA_T = 66.4749d; // 2011. Overridden by deltaT system variable.
+
+	/**
+	 * The bodies that can be computed.
+	 * Aries and the stars are always available, the stars require the Sun (aberration) and the Moon (lunar distances),
+	 * computed for them when not requested. The Moon requires the Sun,
+	 * the planets require the Sun and the Moon (for the lunar distances).
+	 */
+	public enum Body {
+		SUN, MOON, VENUS, MARS, JUPITER, SATURN
+	}
+
+	public final static Set<Body> ALL_BODIES = Collections.unmodifiableSet(EnumSet.allOf(Body.class));
+	public final static Set<Body> SUN_ONLY = Collections.unmodifiableSet(EnumSet.of(Body.SUN));
+	public final static Set<Body> SUN_AND_MOON = Collections.unmodifiableSet(EnumSet.of(Body.SUN, Body.MOON));
+
+	private static volatile double defaultDeltaT = Double.NaN;
+
+	public final static int GHA_STAR_IDX = 0;
+	public final static int SHA_STAR_IDX = 1;
+	public final static int DEC_STAR_IDX = 2;
+
+	private final int year, month, day, hour, minute, second;
+	private final double deltaT;
+	private final Set<Body> bodies;
+	private final AstroContext ctx; // Never modified once computed.
+
+	private Ephemeris(int year, int month, int day, int hour, int minute, int second, double deltaT, Set<Body> bodies, AstroContext ctx) {
+		this.year = year;
+		this.month = month;
+		this.day = day;
+		this.hour = hour;
+		this.minute = minute;
+		this.second = second;
+		this.deltaT = deltaT;
+		this.bodies = bodies;
+		this.ctx = ctx;
+	}
+
+	/**
+	 * @return the deltaT system variable (read once), or {@link #DEFAULT_DELTA_T}, unless set by {@link #setDefaultDeltaT(double)}.
+	 */
+	public static double getDefaultDeltaT() {
+		double deltaT = defaultDeltaT;
+		if (Double.isNaN(deltaT)) {
+			deltaT = Double.parseDouble(System.getProperty("deltaT", Double.toString(DEFAULT_DELTA_T)));
+			defaultDeltaT = deltaT;
+		}
+		return deltaT;
+	}
+
+	public static void setDefaultDeltaT(double deltaT) {
+		defaultDeltaT = deltaT;
+	}
+
+	/**
+	 * Time are UTC, all the bodies are computed. DeltaT is {@link #getDefaultDeltaT()}.
+	 *
+	 * @param y  year
+	 * @param m  Month. Attention: Jan=1, Dec=12 !!!! Does NOT start with 0.
+	 * @param d  day
+	 * @param h  hour
+	 * @param mi minute
+	 * @param s  second
+	 * @return the ephemeris
+	 */
+	public static Ephemeris compute(int y, int m, int d, int h, int mi, int s) {
+		return compute(y, m, d, h, mi, s, getDefaultDeltaT(), ALL_BODIES);
+	}
+
+	public static Ephemeris compute(int y, int m, int d, int h, int mi, int s, double deltaT) {
+		return compute(y, m, d, h, mi, s, deltaT, ALL_BODIES);
+	}
+
+	/**
+	 * Like {@link #compute(int, int, int, int, int, int)}, for some bodies only.
+	 *
+	 * @param bodies the bodies to compute, like {@link #SUN_ONLY}. Their dependencies are added.
+	 */
+	public static Ephemeris compute(int y, int m, int d, int h, int mi, int s, Set<Body> bodies) {
+		return compute(y, m, d, h, mi, s, getDefaultDeltaT(), bodies);
+	}
+
+	public static Ephemeris compute(int y, int m, int d, int h, int mi, int s, double deltaT, Set<Body> bodies) {
+		Set<Body> required = withDependencies(bodies);
+		return new Ephemeris(y, m, d, h, mi, s, deltaT, required, calculate(y, m, d, h, mi, s, deltaT, required));
+	}
+
+	/**
+	 * @param utc the instant
+	 * @return the ephemeris, to the second.
+	 */
+	public static Ephemeris compute(Date utc) {
+		return compute(utc, ALL_BODIES);
+	}
+
+	public static Ephemeris compute(Date utc, Set<Body> bodies) {
+		Calendar cal = new GregorianCalendar(TimeZone.getTimeZone("Etc/UTC"));
+		cal.setTime(utc);
+		return compute(
+				cal.get(Calendar.YEAR),
+				cal.get(Calendar.MONTH) + 1,
+				cal.get(Calendar.DAY_OF_MONTH),
+				cal.get(Calendar.HOUR_OF_DAY),
+				cal.get(Calendar.MINUTE),
+				cal.get(Calendar.SECOND),
+				bodies);
+	}
+
+	/**
+	 * Like {@link #compute(Date, Set)}, to the millisecond.
+	 *
+	 * @param epoch  UTC, in ms
+	 * @param deltaT in seconds
+	 * @param bodies the bodies to compute
+	 * @return the ephemeris. Its date fields are truncated to the second.
+	 */
+	public static Ephemeris compute(long epoch, double deltaT, Set<Body> bodies) {
+		Calendar cal = new GregorianCalendar(TimeZone.getTimeZone("Etc/UTC"));
+		cal.setTimeInMillis(epoch);
+		int y = cal.get(Calendar.YEAR);
+		int m = cal.get(Calendar.MONTH) + 1;
+		int d = cal.get(Calendar.DAY_OF_MONTH);
+		int h = cal.get(Calendar.HOUR_OF_DAY);
+		int mi = cal.get(Calendar.MINUTE);
+		int s = cal.get(Calendar.SECOND);
+		Set<Body> required = withDependencies(bodies);
+		return new Ephemeris(y, m, d, h, mi, s, deltaT, required,
+				calculate(y, m, d, h, mi, s + (cal.get(Calendar.MILLISECOND) / 1_000f), deltaT, required));
+	}
+
+	private static Set<Body> withDependencies(Set<Body> bodies) {
+		Set<Body> required = bodies.isEmpty() ? EnumSet.noneOf(Body.class) : EnumSet.copyOf(bodies);
+		if (required.contains(Body.VENUS) || required.contains(Body.MARS) || required.contains(Body.JUPITER) || required.contains(Body.SATURN)) {
+			required.add(Body.MOON);
+		}
+		if (required.contains(Body.MOON)) {
+			required.add(Body.SUN);
+		}
+		return Collections.unmodifiableSet(required);
+	}
+
+	/**
+	 * The computation itself, in a new context.
+	 *
+	 * @param bodies the bodies to compute, with their dependencies.
+	 */
+	static AstroContext calculate(int y, int m, int d, int h, int mi, float s, double deltaT, Set<Body> bodies) {
+		AstroContext ctx = new AstroContext();
+		Core.julianDate(ctx, y, m, d, h, mi, s, deltaT);
+		Anomalies.nutation(ctx);
+		Anomalies.aberration(ctx);
+
+		Core.aries(ctx);
+		if (bodies.contains(Body.SUN)) {
+			Core.sun(ctx);
+		}
+		if (bodies.contains(Body.MOON)) {
+			Moon.compute(ctx);
+		}
+		if (bodies.contains(Body.VENUS)) {
+			Venus.compute(ctx);
+		}
+		if (bodies.contains(Body.MARS)) {
+			Mars.compute(ctx);
+		}
+		if (bodies.contains(Body.JUPITER)) {
+			Jupiter.compute(ctx);
+		}
+		if (bodies.contains(Body.SATURN)) {
+			Saturn.compute(ctx);
+		}
+		// Core.polaris(ctx);
+		// Core.moonPhase(ctx); // Returns a String, not used here.
+		// Core.weekDay(ctx);
+		return ctx;
+	}
+
+	/**
+	 * A snapshot of the global {@link Context}, for the legacy methods of {@link AstroComputer}.
+	 */
+	static Ephemeris fromGlobal(int y, int m, int d, int h, int mi, int s, double deltaT) {
+		return new Ephemeris(y, m, d, h, mi, s, deltaT, ALL_BODIES, AstroContext.fromGlobal());
+	}
+
+	AstroContext context() {
+		return ctx;
+	}
+
+	/**
+	 * @return the computed bodies
+	 */
+	public Set<Body> getBodies() {
+		return bodies;
+	}
+
+	private AstroContext ctx(Body body) {
+		if (!bodies.contains(body)) {
+			throw new IllegalStateException(String.format("%s not computed, only %s", body, bodies));
+		}
+		return ctx;
+	}
+
+	public int getYear() {
+		return year;
+	}
+
+	/**
+	 * @return the month, Jan=1, Dec=12.
+	 */
+	public int getMonth() {
+		return month;
+	}
+
+	public int getDay() {
+		return day;
+	}
+
+	public int getHour() {
+		return hour;
+	}
+
+	public int getMinute() {
+		return minute;
+	}
+
+	public int getSecond() {
+		return second;
+	}
+
+	public double getDeltaT() {
+		return deltaT;
+	}
+
+	public double getSunGHA() {
+		return ctx(Body.SUN).GHAsun;
+	}
+
+	public double getSunDecl() {
+		return ctx(Body.SUN).DECsun;
+	}
+
+	public double getSunRA() {
+		return ctx(Body.SUN).RAsun;
+	}
+
+	public double getSunSD() {
+		return ctx(Body.SUN).SDsun;
+	}
+
+	public double getSunHP() {
+		return ctx(Body.SUN).HPsun;
+	}
+
+	/**
+	 * @return Equation of time, in minutes.
+	 */
+	public double getEoT() {
+		return ctx(Body.SUN).EoT;
+	}
+
+	public double getMoonGHA() {
+		return ctx(Body.MOON).GHAmoon;
+	}
+
+	public double getMoonDecl() {
+		return ctx(Body.MOON).DECmoon;
+	}
+
+	public double getMoonRA() {
+		return ctx(Body.MOON).RAmoon;
+	}
+
+	public double getMoonSD() {
+		return ctx(Body.MOON).SDmoon;
+	}
+
+	public double getMoonHP() {
+		return ctx(Body.MOON).HPmoon;
+	}
+
+	public double getMoonIllum() {
+		return ctx(Body.MOON).k_moon;
+	}
+
+	/**
+	 * @return Phase in Degrees, in [0, 360[
+	 */
+	public double getMoonPhase() {
+		AstroContext ctx = ctx(Body.MOON);
+		double phase = ctx.lambdaMapp - ctx.lambda_sun;
+		while (phase < 0d) phase += 360d;
+		return phase;
+	}
+
+	public double getAriesGHA() {
+		return ctx.GHAAtrue;
+	}
+
+	public double getVenusGHA() {
+		return ctx(Body.VENUS).GHAvenus;
+	}
+
+	public double getVenusDecl() {
+		return ctx(Body.VENUS).DECvenus;
+	}
+
+	public double getVenusRA() {
+		return ctx(Body.VENUS).RAvenus;
+	}
+
+	public double getMarsGHA() {
+		return ctx(Body.MARS).GHAmars;
+	}
+
+	public double getMarsDecl() {
+		return ctx(Body.MARS).DECmars;
+	}
+
+	public double getMarsRA() {
+		return ctx(Body.MARS).RAmars;
+	}
+
+	public double getJupiterGHA() {
+		return ctx(Body.JUPITER).GHAjupiter;
+	}
+
+	public double getJupiterDecl() {
+		return ctx(Body.JUPITER).DECjupiter;
+	}
+
+	public double getJupiterRA() {
+		return ctx(Body.JUPITER).RAjupiter;
+	}
+
+	public double getSaturnGHA() {
+		return ctx(Body.SATURN).GHAsaturn;
+	}
+
+	public double getSaturnDecl() {
+		return ctx(Body.SATURN).DECsaturn;
+	}
+
+	public double getSaturnRA() {
+		return ctx(Body.SATURN).RAsaturn;
+	}
+
+	public double getMeanObliquityOfEcliptic() {
+		return ctx.eps0;
+	}
+
+	/**
+	 * @param starName as in {@link Star#getCatalog()}
+	 * @return GHA, SHA and Declination of the star, in degrees. See GHA_STAR_IDX, SHA_STAR_IDX and DEC_STAR_IDX.
+	 */
+	public double[] getStarPosition(String starName) {
+		AstroContext starCtx = starContext().copy(); // This one stays untouched.
+		Core.starPos(starCtx, starName);
+		return new double[]{starCtx.GHAstar, starCtx.SHAstar, starCtx.DECstar};
+	}
+
+	/**
+	 * All the stars at once, see {@link StarReduction}.
+	 *
+	 * @return GHA, SHA, Declination and lunar distance of the stars of {@link Star#getCatalog()}, in degrees,
+	 * {@link StarReduction#STRIDE} values per star.
+	 */
+	public double[] getStarPositions() {
+		return StarReduction.reduce(starContext());
+	}
+
+	/**
+	 * @return the context, or a copy of it with the Sun and the Moon, if they were not computed.
+	 */
+	private AstroContext starContext() {
+		if (bodies.containsAll(SUN_AND_MOON)) {
+			return ctx;
+		}
+		AstroContext starCtx = ctx.copy();
+		if (!bodies.contains(Body.SUN)) {
+			Core.sun(starCtx);
+		}
+		Moon.compute(starCtx); // Not computed if the Sun was not
+		return starCtx;
+	}
+
+	/**
+	 * @param latitude  in degrees
+	 * @param longitude in degrees
+	 * @return the time of rise and set of the Sun, see {@link AstroComputer#sunRiseAndSet(double, double)}.
+	 */
+	public double[] sunRiseAndSet(double latitude, double longitude) {
+		AstroContext ctx = ctx(Body.SUN);
+		double h0 = (ctx.HPsun / 3600d) - (ctx.SDsun / 3600d); // - (34d / 60d);
+		double cost = Math.sin(Math.toRadians(h0)) - (Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(ctx.DECsun)));
+		double t = Math.acos(cost);
+		double lon = longitude;
+
+		double utRise = 12D - (ctx.EoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
+		double utSet = 12D - (ctx.EoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
+
+		double Z = Math.acos((Math.sin(Math.toRadians(ctx.DECsun)) + (0.0145 * Math.sin(Math.toRadians(latitude)))) /
+				(0.9999 * Math.cos(Math.toRadians(latitude))));
+		Z = Math.toDegrees(Z);
+
+		return new double[]{utRise, utSet, Z, 360d - Z};
+	}
+
+	public double[] sunRiseAndSet_wikipedia(double latitude, double longitude) {
+		AstroContext ctx = ctx(Body.SUN);
+		double cost = Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(ctx.DECsun));
+		double t = Math.acos(cost);
+		double lon = longitude;
+		double utRise = 12D - (ctx.EoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
+		double utSet = 12D - (ctx.EoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
+
+		double Z = Math.acos((Math.sin(Math.toRadians(ctx.DECsun)) + (0.0145 * Math.sin(Math.toRadians(latitude)))) /
+				(0.9999 * Math.cos(Math.toRadians(latitude))));
+		Z = Math.toDegrees(Z);
+
+		return new double[]{utRise, utSet, Z, 360d - Z};
+	}
+
+	/**
+	 * @param latitude  in degrees
+	 * @param longitude in degrees
+	 * @return meridian passage time in hours.
+	 */
+	public double getSunMeridianPassageTime(double latitude, double longitude) {
+		AstroContext ctx = ctx(Body.SUN);
+		double t = (12d - (ctx.EoT / 60d));
+		double deltaG = longitude / 15D;
+		return t - deltaG;
+	}
+
+	/**
+	 * @param latitude  in degrees
+	 * @param longitude in degrees
+	 * @return the time of rise and set of the Moon, in [0, 24].
+	 */
+	public double[] moonRiseAndSet(double latitude, double longitude) {
+		AstroContext ctx = ctx(Body.MOON);
+		double h0 = (ctx.HPmoon / 3600d) - (ctx.SDmoon / 3600d) - (34d / 60d);
+		double cost = Math.sin(Math.toRadians(h0)) - (Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(ctx.DECmoon)));
+		double t = Math.acos(cost);
+		double lon = longitude;
+		while (lon < -180D)
+			lon += 360D;
+		double utRise = 12D - (ctx.moonEoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
+		while (utRise < 0)
+			utRise += 24;
+		while (utRise > 24)
+			utRise -= 24;
+		double utSet = 12D - (ctx.moonEoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
+		while (utSet < 0)
+			utSet += 24;
+		while (utSet > 24)
+			utSet -= 24;
+
+		return new double[]{utRise, utSet};
+	}
+
+	/**
+	 * @return Estimated altitude (He) and azimuth (Z) of the Sun, from the given position.
+	 */
+	public double[] getSunAltAz(double lat, double lng) {
+		AstroContext ctx = ctx(Body.SUN);
+		return altAz(ctx.GHAsun, ctx.DECsun, lat, lng);
+	}
+
+	/**
+	 * @return Estimated altitude (He) and azimuth (Z) of the Moon, from the given position.
+	 */
+	public double[] getMoonAltAz(double lat, double lng) {
+		AstroContext ctx = ctx(Body.MOON);
+		return altAz(ctx.GHAmoon, ctx.DECmoon, lat, lng);
+	}
+
+	/**
+	 * @return Local Hour Angle of Aries, in [0, 360]
+	 */
+	public double getAriesLHA(double lng) {
+		double ahl = ctx.GHAAtrue + lng;
+		while (ahl < 0.0)
+			ahl += 360.0;
+		while (ahl > 360.0)
+			ahl -= 360.0;
+		return ahl;
+	}
+
+	private static double[] altAz(double gha, double dec, double lat, double lng) {
+		SightReductionUtil sru = new SightReductionUtil();
+		sru.setL(lat);
+		sru.setG(lng);
+		sru.setAHG(gha);
+		sru.setD(dec);
+		sru.calculate();
+		return new double[]{sru.getHe(), sru.getZ()};
+	}
+}
@@ -0,0 +1,345 @@
+package calculation;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Rise, set, meridian passage, and twilights of a body, for one day or a range of days.
+ * <p>
+ * The altitude of the body is sampled every {@link #SCAN_STEP_MS} ms on the ephemeris,
+ * each sign change of (altitude - threshold), or of the hour angle for the meridian passage,
+ * is then refined with Brent's method, to {@link #PRECISION_MS} ms.
+ * </p>
+ * The thresholds are
+ * <ul>
+ *     <li>Sun and Moon: upper limb on the horizon, -(SD + 34') + HP (refraction and parallax)</li>
+ *     <li>Planets: -34'</li>
+ *     <li>Twilights (Sun only): -6&deg; (civil), -12&deg; (nautical), -18&deg; (astronomical)</li>
+ * </ul>
+ * The days of a range are computed in parallel, on a pool sized by the system variable
+ * <code>astro.parallelism</code> (default: the number of processors).
+ */
+public class EventSolver {
+
+	private final static long SCAN_STEP_MS = 3_600_000L;
+	private final static double PRECISION_MS = 1_000d;
+	private final static double REFRACTION = 34d / 60d;
+
+	public final static double CIVIL_TWILIGHT = -6d;
+	public final static double NAUTICAL_TWILIGHT = -12d;
+	public final static double ASTRONOMICAL_TWILIGHT = -18d;
+
+	private static ForkJoinPool pool = null;
+
+	/**
+	 * Also used by {@link SightReduction}.
+	 */
+	static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			int parallelism = Runtime.getRuntime().availableProcessors();
+			try {
+				parallelism = Integer.parseInt(System.getProperty("astro.parallelism", String.valueOf(parallelism)));
+			} catch (NumberFormatException nfe) {
+				nfe.printStackTrace();
+			}
+			pool = new ForkJoinPool(Math.max(1, parallelism));
+		}
+		return pool;
+	}
+
+	private final ChebyshevEphemeris ephemeris;
+
+	public EventSolver(ChebyshevEphemeris ephemeris) {
+		this.ephemeris = ephemeris;
+	}
+
+	/**
+	 * The events of a body, for one day.
+	 * The events that do not happen that day (like at high latitudes) are null.
+	 * Times are UTC epochs, in ms.
+	 */
+	public static class DayEvents {
+		String body;
+		String date; // yyyy-MM-dd, in the requested time zone
+		Long rise;
+		Long set;
+		Long transit;
+		Double riseZ;
+		Double setZ;
+		Double transitAlt;
+		// Sun only
+		Long civilDawn;
+		Long civilDusk;
+		Long nauticalDawn;
+		Long nauticalDusk;
+		Long astronomicalDawn;
+		Long astronomicalDusk;
+
+		public String getBody() {
+			return body;
+		}
+
+		public String getDate() {
+			return date;
+		}
+
+		public Long getRise() {
+			return rise;
+		}
+
+		public Long getSet() {
+			return set;
+		}
+
+		public Long getTransit() {
+			return transit;
+		}
+
+		public Double getRiseZ() {
+			return riseZ;
+		}
+
+		public Double getSetZ() {
+			return setZ;
+		}
+
+		public Double getTransitAlt() {
+			return transitAlt;
+		}
+
+		public Long getCivilDawn() {
+			return civilDawn;
+		}
+
+		public Long getCivilDusk() {
+			return civilDusk;
+		}
+
+		public Long getNauticalDawn() {
+			return nauticalDawn;
+		}
+
+		public Long getNauticalDusk() {
+			return nauticalDusk;
+		}
+
+		public Long getAstronomicalDawn() {
+			return astronomicalDawn;
+		}
+
+		public Long getAstronomicalDusk() {
+			return astronomicalDusk;
+		}
+	}
+
+	/**
+	 * @param body      the body
+	 * @param latitude  in degrees
+	 * @param longitude in degrees
+	 * @param day       the day
+	 * @param zone      time zone of the day
+	 * @return the events of this day, from 00:00 to 24:00 in zone.
+	 */
+	public DayEvents getEvents(Ephemeris.Body body, double latitude, double longitude, LocalDate day, ZoneId zone) {
+		long from = day.atStartOfDay(zone).toInstant().toEpochMilli();
+		long to = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+		DayEvents events = new DayEvents();
+		events.body = body.toString();
+		events.date = day.toString();
+
+		Long[] riseAndSet = crossings(t -> altitude(body, latitude, longitude, (long) t) - horizon(body, (long) t), from, to);
+		events.rise = riseAndSet[0];
+		events.set = riseAndSet[1];
+		if (events.rise != null) {
+			events.riseZ = azimuth(body, latitude, longitude, events.rise);
+		}
+		if (events.set != null) {
+			events.setZ = azimuth(body, latitude, longitude, events.set);
+		}
+		events.transit = meridianPassage(body, longitude, from, to);
+		if (events.transit != null) {
+			events.transitAlt = altitude(body, latitude, longitude, events.transit);
+		}
+		if (body == Ephemeris.Body.SUN) {
+			Long[] civil = crossings(t -> altitude(body, latitude, longitude, (long) t) - CIVIL_TWILIGHT, from, to);
+			events.civilDawn = civil[0];
+			events.civilDusk = civil[1];
+			Long[] nautical = crossings(t -> altitude(body, latitude, longitude, (long) t) - NAUTICAL_TWILIGHT, from, to);
+			events.nauticalDawn = nautical[0];
+			events.nauticalDusk = nautical[1];
+			Long[] astronomical = crossings(t -> altitude(body, latitude, longitude, (long) t) - ASTRONOMICAL_TWILIGHT, from, to);
+			events.astronomicalDawn = astronomical[0];
+			events.astronomicalDusk = astronomical[1];
+		}
+		return events;
+	}
+
+	/**
+	 * The days are computed in parallel.
+	 *
+	 * @param body      the body
+	 * @param latitude  in degrees
+	 * @param longitude in degrees
+	 * @param from      first day, inclusive
+	 * @param to        last day, inclusive
+	 * @param zone      time zone of the days
+	 * @return the events of each day, in chronological order.
+	 */
+	public List<DayEvents> getEvents(Ephemeris.Body body, double latitude, double longitude, LocalDate from, LocalDate to, ZoneId zone) throws Exception {
+		int nbDays = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+		return getPool().submit(() -> IntStream.range(0, nbDays)
+				.parallel()
+				.mapToObj(i -> getEvents(body, latitude, longitude, from.plusDays(i), zone))
+				.collect(Collectors.toList()))
+				.get();
+	}
+
+	/**
+	 * @return altitude of the body (center, no refraction), in degrees.
+	 */
+	public double altitude(Ephemeris.Body body, double latitude, double longitude, long epoch) {
+		double lha = Math.toRadians(ephemeris.getGHA(body, epoch) + longitude);
+		double decl = Math.toRadians(ephemeris.getDecl(body, epoch));
+		double lat = Math.toRadians(latitude);
+		return Math.toDegrees(Math.asin((Math.sin(lat) * Math.sin(decl)) + (Math.cos(lat) * Math.cos(decl) * Math.cos(lha))));
+	}
+
+	private double azimuth(Ephemeris.Body body, double latitude, double longitude, long epoch) {
+		double[] ghaAndDecl = ephemeris.getGHAAndDecl(body, epoch);
+		SightReduction.reduce(ghaAndDecl[0], ghaAndDecl[1], latitude, longitude, ghaAndDecl, 0);
+		return ghaAndDecl[SightReduction.Z_IDX];
+	}
+
+	/**
+	 * @return the altitude of the center of the body when it rises or sets, in degrees.
+	 */
+	private double horizon(Ephemeris.Body body, long epoch) {
+		if (body == Ephemeris.Body.SUN || body == Ephemeris.Body.MOON) {
+			return (ephemeris.getHP(body, epoch) / 3600d) - (ephemeris.getSD(body, epoch) / 3600d) - REFRACTION;
+		}
+		return -REFRACTION;
+	}
+
+	@FunctionalInterface
+	private interface Function {
+		double value(double t);
+	}
+
+	/**
+	 * @return the first upward (index 0) and downward (index 1) zeros of fn in [from, to[, null if none.
+	 */
+	private static Long[] crossings(Function fn, long from, long to) {
+		Long[] found = new Long[2];
+		double prevT = from;
+		double prev = fn.value(prevT);
+		while (prevT < to && (found[0] == null || found[1] == null)) {
+			double t = Math.min(prevT + SCAN_STEP_MS, to);
+			double value = fn.value(t);
+			if (prev < 0d && value >= 0d && found[0] == null) {
+				found[0] = zero(fn, prevT, t, prev, value);
+			} else if (prev >= 0d && value < 0d && found[1] == null) {
+				found[1] = zero(fn, prevT, t, prev, value);
+			}
+			if (found[0] != null && found[0] >= to) {
+				found[0] = null;
+			}
+			if (found[1] != null && found[1] >= to) {
+				found[1] = null;
+			}
+			prev = value;
+			prevT = t;
+		}
+		return found;
+	}
+
+	/**
+	 * The meridian passage is the zero of the local hour angle, taken in ]-180, 180].
+	 * The jump from 180 to -180 (lower meridian) is not a zero.
+	 */
+	private Long meridianPassage(Ephemeris.Body body, double longitude, long from, long to) {
+		Function lha = t -> {
+			double angle = (ephemeris.getGHA(body, (long) t) + longitude) % 360d;
+			if (angle < 0d) {
+				angle += 360d;
+			}
+			return (angle > 180d ? angle - 360d : angle);
+		};
+		double prevT = from;
+		double prev = lha.value(prevT);
+		while (prevT < to) {
+			double t = Math.min(prevT + SCAN_STEP_MS, to);
+			double value = lha.value(t);
+			if (prev < 0d && value >= 0d && value - prev < 180d) {
+				long transit = zero(lha, prevT, t, prev, value);
+				return (transit < to ? transit : null);
+			}
+			prev = value;
+			prevT = t;
+		}
+		return null;
+	}
+
+	/**
+	 * Brent's method, fn(a) and fn(b) of opposite signs.
+	 *
+	 * @return the zero, rounded to the ms.
+	 */
+	private static long zero(Function fn, double a, double b, double fa, double fb) {
+		double c = a, fc = fa;
+		double d = b - a, e = d;
+		while (true) {
+			if (Math.abs(fc) < Math.abs(fb)) { // b is the best guess
+				a = b; b = c; c = a;
+				fa = fb; fb = fc; fc = fa;
+			}
+			double tol = PRECISION_MS / 2d;
+			double m = (c - b) / 2d;
+			if (Math.abs(m) <= tol || fb == 0d) {
+				return Math.round(b);
+			}
+			if (Math.abs(e) < tol || Math.abs(fa) <= Math.abs(fb)) { // Bisection
+				d = m;
+				e = m;
+			} else {
+				double s = fb / fa;
+				double p, q;
+				if (a == c) { // Secant
+					p = 2d * m * s;
+					q = 1d - s;
+				} else { // Inverse quadratic interpolation
+					double r = fb / fc;
+					q = fa / fc;
+					p = s * ((2d * m * q * (q - r)) - ((b - a) * (r - 1d)));
+					q = (q - 1d) * (r - 1d) * (s - 1d);
+				}
+				if (p > 0d) {
+					q = -q;
+				} else {
+					p = -p;
+				}
+				if ((2d * p) < Math.min((3d * m * q) - Math.abs(tol * q), Math.abs(e * q))) {
+					e = d;
+					d = p / q;
+				} else {
+					d = m;
+					e = m;
+				}
+			}
+			a = b;
+			fa = fb;
+			b += (Math.abs(d) > tol ? d : Math.copySign(tol, m));
+			fb = fn.value(b);
+			if ((fb > 0d) == (fc > 0d)) {
+				c = a;
+				fc = fa;
+				d = b - a;
+				e = d;
+			}
+		}
+	}
+}
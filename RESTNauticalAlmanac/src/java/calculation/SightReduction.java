@@ -0,0 +1,224 @@
+package calculation;
+
+import java.util.stream.IntStream;
+
+/**
+ * Sight reduction on primitives, for many bodies or many positions at once, and celestial fix.
+ * <p>
+ * Same formulas as {@link SightReductionUtil}, without any object per reduction:
+ * the results go into arrays provided by the caller.
+ * </p>
+ * <pre>
+ *   // Several bodies, one position
+ *   SightReduction.reduce(ghas, decls, lat, lng, he, z);
+ *   // One body, a lat/lng raster (like for a circle of equal altitude), row by row in parallel
+ *   SightReduction.reduceGrid(gha, decl, lats, lngs, he, z);
+ *   // Fix from N sights
+ *   SightReduction.Fix fix = SightReduction.fix(ghas, decls, obsAlts, estLat, estLng);
+ * </pre>
+ * All angles in degrees. The rows of a grid are computed on the pool of {@link EventSolver}
+ * (system variable <code>astro.parallelism</code>).
+ */
+public final class SightReduction {
+
+	public final static int HE_IDX = 0;
+	public final static int Z_IDX = 1;
+
+	private final static int MAX_ITERATIONS = 20;
+	private final static double CONVERGENCE_NM = 0.01;
+
+	private SightReduction() {
+	}
+
+	/**
+	 * One body, one position.
+	 *
+	 * @param out    receives He at offset + {@link #HE_IDX}, and Z at offset + {@link #Z_IDX}
+	 * @param offset in out
+	 */
+	public static void reduce(double gha, double decl, double lat, double lng, double[] out, int offset) {
+		double sinL = Math.sin(Math.toRadians(lat));
+		double cosL = Math.cos(Math.toRadians(lat));
+		double ahl = Math.toRadians(normalize(gha + lng));
+		double sinD = Math.sin(Math.toRadians(decl));
+		double cosD = Math.cos(Math.toRadians(decl));
+		out[offset + HE_IDX] = altitude(sinL, cosL, sinD, cosD, Math.cos(ahl));
+		out[offset + Z_IDX] = azimuth(sinL, cosL, sinD / cosD, ahl);
+	}
+
+	/**
+	 * Several bodies, one position.
+	 *
+	 * @param ghas  of the bodies
+	 * @param decls of the bodies
+	 * @param he    receives the estimated altitudes, same length as ghas
+	 * @param z     receives the azimuths, same length as ghas
+	 */
+	public static void reduce(double[] ghas, double[] decls, double lat, double lng, double[] he, double[] z) {
+		double sinL = Math.sin(Math.toRadians(lat));
+		double cosL = Math.cos(Math.toRadians(lat));
+		for (int i = 0; i < ghas.length; i++) {
+			double ahl = Math.toRadians(normalize(ghas[i] + lng));
+			double sinD = Math.sin(Math.toRadians(decls[i]));
+			double cosD = Math.cos(Math.toRadians(decls[i]));
+			he[i] = altitude(sinL, cosL, sinD, cosD, Math.cos(ahl));
+			z[i] = azimuth(sinL, cosL, sinD / cosD, ahl);
+		}
+	}
+
+	/**
+	 * One body, on a raster of positions. Rows are latitudes, columns are longitudes.
+	 * The rows are computed in parallel.
+	 *
+	 * @param lats latitudes of the rows
+	 * @param lngs longitudes of the columns
+	 * @param he   receives the estimated altitudes, row after row, lats.length * lngs.length long
+	 * @param z    receives the azimuths, like he. Can be null when not needed.
+	 */
+	public static void reduceGrid(double gha, double decl, double[] lats, double[] lngs, double[] he, double[] z) throws Exception {
+		int nbCols = lngs.length;
+		if (he.length < lats.length * nbCols || (z != null && z.length < lats.length * nbCols)) {
+			throw new IllegalArgumentException(String.format("Result too small, expected %d", lats.length * nbCols));
+		}
+		double sinD = Math.sin(Math.toRadians(decl));
+		double cosD = Math.cos(Math.toRadians(decl));
+		double tanD = sinD / cosD;
+		// The hour angles depend only on the columns
+		double[] ahls = new double[nbCols];
+		double[] cosAhls = new double[nbCols];
+		for (int col = 0; col < nbCols; col++) {
+			ahls[col] = Math.toRadians(normalize(gha + lngs[col]));
+			cosAhls[col] = Math.cos(ahls[col]);
+		}
+		EventSolver.getPool().submit(() -> IntStream.range(0, lats.length)
+				.parallel()
+				.forEach(row -> {
+					double sinL = Math.sin(Math.toRadians(lats[row]));
+					double cosL = Math.cos(Math.toRadians(lats[row]));
+					int offset = row * nbCols;
+					for (int col = 0; col < nbCols; col++) {
+						he[offset + col] = altitude(sinL, cosL, sinD, cosD, cosAhls[col]);
+						if (z != null) {
+							z[offset + col] = azimuth(sinL, cosL, tanD, ahls[col]);
+						}
+					}
+				}))
+				.get();
+	}
+
+	/**
+	 * A celestial fix.
+	 */
+	public static class Fix {
+		double latitude;
+		double longitude;
+		double rms;       // Residual, in nautical miles
+		int iterations;
+
+		public double getLatitude() {
+			return latitude;
+		}
+
+		public double getLongitude() {
+			return longitude;
+		}
+
+		public double getRms() {
+			return rms;
+		}
+
+		public int getIterations() {
+			return iterations;
+		}
+	}
+
+	/**
+	 * Least-squares fix from N sights (N &gt;= 2, with different azimuths).
+	 * <p>
+	 * Each sight gives a line of position: intercept = Ho - He, toward Z. The position correction
+	 * minimizing the sum of the squared distances to the lines is applied to the estimated position,
+	 * again and again, until it is less than 0.01'.
+	 * </p>
+	 *
+	 * @param ghas    of the bodies, at the time of each sight
+	 * @param decls   of the bodies, at the time of each sight
+	 * @param obsAlts observed altitudes (corrected)
+	 * @param estLat  estimated latitude
+	 * @param estLng  estimated longitude
+	 * @return the fix
+	 * @throws IllegalArgumentException when there are less than 2 sights, or when the lines of position are parallel.
+	 */
+	public static Fix fix(double[] ghas, double[] decls, double[] obsAlts, double estLat, double estLng) {
+		int nb = ghas.length;
+		if (nb < 2 || decls.length != nb || obsAlts.length != nb) {
+			throw new IllegalArgumentException("At least 2 sights, with GHA, Declination and observed altitude, are required.");
+		}
+		Fix fix = new Fix();
+		double lat = estLat;
+		double lng = estLng;
+		double[] hz = new double[2];
+		for (int iter = 1; iter <= MAX_ITERATIONS; iter++) {
+			// Normal equations, in nautical miles, north and east
+			double scc = 0, scs = 0, sss = 0, scp = 0, ssp = 0, spp = 0;
+			for (int i = 0; i < nb; i++) {
+				reduce(ghas[i], decls[i], lat, lng, hz, 0);
+				double p = (obsAlts[i] - hz[HE_IDX]) * 60d;
+				double cosZ = Math.cos(Math.toRadians(hz[Z_IDX]));
+				double sinZ = Math.sin(Math.toRadians(hz[Z_IDX]));
+				scc += cosZ * cosZ;
+				scs += cosZ * sinZ;
+				sss += sinZ * sinZ;
+				scp += cosZ * p;
+				ssp += sinZ * p;
+				spp += p * p;
+			}
+			double det = (scc * sss) - (scs * scs);
+			if (Math.abs(det) < 1e-9) {
+				throw new IllegalArgumentException("Lines of position are parallel, cannot fix.");
+			}
+			double dNorth = ((sss * scp) - (scs * ssp)) / det;
+			double dEast = ((scc * ssp) - (scs * scp)) / det;
+			// Sum of the squared residuals, at the corrected position (the equations are linear)
+			double residuals = Math.max(0d, spp - (dNorth * scp) - (dEast * ssp));
+			fix.rms = Math.sqrt(residuals / nb);
+			fix.iterations = iter;
+			lat += (dNorth / 60d);
+			lng += (dEast / (60d * Math.cos(Math.toRadians(lat))));
+			if (Math.sqrt((dNorth * dNorth) + (dEast * dEast)) < CONVERGENCE_NM) {
+				break;
+			}
+		}
+		fix.latitude = lat;
+		fix.longitude = normalizeLongitude(lng);
+		return fix;
+	}
+
+	private static double altitude(double sinL, double cosL, double sinD, double cosD, double cosAhl) {
+		return Math.toDegrees(Math.asin((sinL * sinD) + (cosL * cosD * cosAhl)));
+	}
+
+	/**
+	 * @param ahl local hour angle, in [0, 2.PI[
+	 * @return the azimuth, in degrees, in [0, 360[
+	 */
+	private static double azimuth(double sinL, double cosL, double tanD, double ahl) {
+		// tg Z = sin P / (cos L tan D - sin L cos P), P being the meridian angle
+		boolean west = (ahl < Math.PI);
+		double p = west ? ahl : ((2d * Math.PI) - ahl);
+		double z = Math.toDegrees(Math.atan(Math.sin(p) / ((cosL * tanD) - (sinL * Math.cos(p)))));
+		if (west) {
+			return (z < 0d ? 180d - z : 360d - z);
+		}
+		return (z < 0d ? 180d + z : z);
+	}
+
+	private static double normalize(double angle) {
+		double a = angle % 360d;
+		return (a < 0d ? a + 360d : a);
+	}
+
+	private static double normalizeLongitude(double lng) {
+		double g = normalize(lng);
+		return (g > 180d ? g - 360d : g);
+	}
+}
@@ -7,6 +7,7 @@ import java.util.Calendar;
 import java.util.Date;
 
 import nauticalalmanac.Anomalies;
+import nauticalalmanac.AstroContext;
 import nauticalalmanac.Context;
 import nauticalalmanac.Core;
 import nauticalalmanac.Jupiter;
@@ -315,6 +316,32 @@ public class AlmanacComputer {
 		calculate();
 	}
 
+	/**
+	 * Same as {@link #calculate(int, int, int, int, int, float, double)}, in a new context.
+	 * The global {@link Context} is not used, several threads can call it at the same time.
+	 *
+	 * @return the computed context
+	 */
+	public static AstroContext compute(int y, int m, int d, int h, int mi, float s, double dT) {
+		AstroContext ctx = new AstroContext();
+		Core.julianDate(ctx, y, m, d, h, mi, s, dT);
+		Anomalies.nutation(ctx);
+		Anomalies.aberration(ctx);
+
+		Core.aries(ctx);
+		Core.sun(ctx);
+
+		Moon.compute(ctx);
+
+		Venus.compute(ctx);
+		Mars.compute(ctx);
+		Jupiter.compute(ctx);
+		Saturn.compute(ctx);
+
+		Core.polaris(ctx);
+		return ctx;
+	}
+
 	public static void calculate() {
 		Core.julianDate(year, month, day, hour, minute, second, deltaT);
 		Anomalies.nutation();
@@ -701,18 +728,28 @@ public class AlmanacComputer {
 	}
 
 	public static double[] sunRiseAndSet(double latitude, double longitude) {
+		return sunRiseAndSet(AstroContext.fromGlobal(), latitude, longitude);
+	}
+
+	/**
+	 * @param ctx       the computed context
+	 * @param latitude  in degrees
+	 * @param longitude in degrees
+	 * @return UT rise, UT set (in decimal hours), rise Z, set Z.
+	 */
+	public static double[] sunRiseAndSet(AstroContext ctx, double latitude, double longitude) {
 //  out.println("Sun HP:" + Context.HPsun);
 //  out.println("Sun SD:" + Context.SDsun);
-		double h0 = (Context.HPsun / 3600d) - (Context.SDsun / 3600d) - (34d / 60d);
+		double h0 = (ctx.HPsun / 3600d) - (ctx.SDsun / 3600d) - (34d / 60d);
 //  out.println("Sin Sun H0:" + Math.sin(Math.toRadians(h0)));
-		double cost = Math.sin(Math.toRadians(h0)) - (Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(Context.DECsun)));
+		double cost = Math.sin(Math.toRadians(h0)) - (Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(ctx.DECsun)));
 		double t = Math.acos(cost);
 
 		boolean alt = false;
 		if (alt) {
 			// 0.83, apparent diameter of the sun on the horizon
-			cost = (Math.sin(Math.toRadians(-0.83)) - (Math.sin(Math.toRadians(latitude)) * Math.sin(Math.toRadians(Context.DECsun)))) /
-					(Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(Context.DECsun)));
+			cost = (Math.sin(Math.toRadians(-0.83)) - (Math.sin(Math.toRadians(latitude)) * Math.sin(Math.toRadians(ctx.DECsun)))) /
+					(Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(ctx.DECsun)));
 			t = Math.acos(cost);
 		}
 
@@ -725,10 +762,10 @@ public class AlmanacComputer {
 			lon += 360D;
 		}
 //  out.println("Lon:" + lon + ", Eot:" + Context.EoT + " (" + (Context.EoT / 60D) + ")" + ", t:" + Math.toDegrees(t));
-		double utRise = 12D - (Context.EoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
-		double utSet = 12D - (Context.EoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
+		double utRise = 12D - (ctx.EoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
+		double utSet = 12D - (ctx.EoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
 
-		double Z = Math.acos((Math.sin(Math.toRadians(Context.DECsun)) + (0.0145 * Math.sin(Math.toRadians(latitude)))) /
+		double Z = Math.acos((Math.sin(Math.toRadians(ctx.DECsun)) + (0.0145 * Math.sin(Math.toRadians(latitude)))) /
 				(0.9999 * Math.cos(Math.toRadians(latitude))));
 		Z = Math.toDegrees(Z);
 
@@ -740,11 +777,21 @@ public class AlmanacComputer {
 	}
 
 	public static double[] moonRiseAndSet(double latitude, double longitude) {
+		return moonRiseAndSet(AstroContext.fromGlobal(), latitude, longitude);
+	}
+
+	/**
+	 * @param ctx       the computed context
+	 * @param latitude  in degrees
+	 * @param longitude in degrees
+	 * @return UT rise, UT set, in decimal hours.
+	 */
+	public static double[] moonRiseAndSet(AstroContext ctx, double latitude, double longitude) {
 //  out.println("Moon HP:" + (Context.HPmoon / 60) + "'");
 //  out.println("Moon SD:" + (Context.SDmoon / 60) + "'");
-		double h0 = (Context.HPmoon / 3600d) - (Context.SDmoon / 3600d) - (34d / 60d);
+		double h0 = (ctx.HPmoon / 3600d) - (ctx.SDmoon / 3600d) - (34d / 60d);
 //  out.println("Moon H0:" + h0);
-		double cost = Math.sin(Math.toRadians(h0)) - (Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(Context.DECmoon)));
+		double cost = Math.sin(Math.toRadians(h0)) - (Math.tan(Math.toRadians(latitude)) * Math.tan(Math.toRadians(ctx.DECmoon)));
 		double t = Math.acos(cost);
 		// TASK Look into this next line...
 		//  out.println("Sun GHA: " + Context.GHAsun);
@@ -755,14 +802,14 @@ public class AlmanacComputer {
 			lon += 360D;
 		}
 //  out.println("Moon Eot:" + Context.moonEoT + " (" + (Context.moonEoT / 60D) + ")" + ", t:" + Math.toDegrees(t));
-		double utRise = 12D - (Context.moonEoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
+		double utRise = 12D - (ctx.moonEoT / 60D) - (lon / 15D) - (Math.toDegrees(t) / 15D);
 		while (utRise < 0) {
 			utRise += 24;
 		}
 		while (utRise > 24) {
 			utRise -= 24;
 		}
-		double utSet = 12D - (Context.moonEoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
+		double utSet = 12D - (ctx.moonEoT / 60D) - (lon / 15D) + (Math.toDegrees(t) / 15D);
 		while (utSet < 0) {
 			utSet += 24;
 		}
@@ -1,51 +1,26 @@
 package implementation.perpetualalmanac;
 
-import implementation.almanac.AlmanacComputer;
+import implementation.publisher.StreamingAlmanacPublisher;
 import oracle.xml.parser.v2.DOMParser;
 import oracle.xml.parser.v2.XMLDocument;
 import org.w3c.dom.NodeList;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
-import java.io.PrintStream;
+import java.io.OutputStream;
 
 public class Publisher {
 	private static DOMParser parser = new DOMParser();
 
+	/**
+	 * The months are computed in parallel, see {@link StreamingAlmanacPublisher#writePerpetualXML(int, int, OutputStream, java.util.function.IntConsumer)}.
+	 */
 	public static void generate(String fileName, int from, int to) throws Exception {
-		PrintStream out = new PrintStream(new FileOutputStream(fileName));
 		long before = System.currentTimeMillis();
-		out.println("<perpetual-almanac>");
-		for (int y = from; y <= to; y++) {
-			System.out.println("Year " + y + "...");
-			out.println("  <year value='" + Integer.toString(y) + "'>");
-			for (int m = 1; m <= 12; m++) {
-				out.println("    <month value='" + Integer.toString(m) + "'>");
-				int nbd = AlmanacComputer.getNbDays(y, m);
-				for (int d = 1; d <= nbd; d++) {
-					out.println("      <day value='" + Integer.toString(d) + "'>");
-					for (int h = 0; h <= 24; h++) {
-						double[] data = Core.compute(y, m, d, h, 0, 0);
-						String tag = "        <data hours='" + Integer.toString(h) + "' " +
-								"minutes='" + Integer.toString(0) + "' " +
-								"seconds='" + Integer.toString(0) + "'>";
-						out.println(tag);
-						out.println("          <sun-dec>" + Double.toString(data[0]) + "</sun-dec>");
-						out.println("          <sun-gha>" + Double.toString(data[1]) + "</sun-gha>");
-						out.println("          <aries-gha>" + Double.toString(data[2]) + "</aries-gha>");
-						out.println("          <eot>" + Double.toString(data[3]) + "</eot>");
-						out.println("          <sun-sd>" + Double.toString(data[4]) + "</sun-sd>");
-						out.println("          <sun-hp>" + Double.toString(data[5]) + "</sun-hp>");
-						out.println("        </data>");
-					}
-					out.println("      </day>");
-				}
-				out.println("    </month>");
-			}
-			out.println("  </year>");
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(fileName))) {
+			StreamingAlmanacPublisher.writePerpetualXML(from, to, out, null);
 		}
-		out.println("</perpetual-almanac>");
-		out.close();
 		long after = System.currentTimeMillis();
 		System.out.println("Computed is " + Long.toString(after - before) + " ms.");
 	}
@@ -0,0 +1,234 @@
+package implementation.publisher;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Published documents, on the disk, keyed by their publication parameters
+ * (like <code>ALMANAC|continuous|2017-01-01|2017-12-31|EN|true|68.8033</code>).
+ * <p>
+ * One file per document, named after the SHA-1 of its key. The total size of the documents is bounded,
+ * the least recently used ones are deleted first, never while they are written. The documents already in the directory
+ * when the cache is created are kept (oldest first in the LRU).
+ * </p>
+ */
+public class PublicationCache {
+
+	/**
+	 * Writes a document.
+	 */
+	@FunctionalInterface
+	public interface Producer {
+		void write(OutputStream out) throws Exception;
+	}
+
+	private final File dir;
+	private final String suffix;
+	private final long maxBytes;
+
+	private long nbBytes = 0L;
+	private final LinkedHashMap<String, File> lru = new LinkedHashMap<>(16, 0.75f, true); // Access order, by file name
+	private final Map<String, Integer> pinned = new HashMap<>(); // Documents being written, by file name
+
+	private final AtomicLong hits = new AtomicLong(0L);
+	private final AtomicLong misses = new AtomicLong(0L);
+	private final AtomicLong evictions = new AtomicLong(0L);
+
+	/**
+	 * @param dir      directory of the documents. Created if needed.
+	 * @param suffix   of the files, like .pdf
+	 * @param maxBytes max total size of the documents
+	 */
+	public PublicationCache(File dir, String suffix, long maxBytes) {
+		if (!dir.exists() && !dir.mkdirs()) {
+			throw new RuntimeException(String.format("Cannot create %s", dir.getAbsolutePath()));
+		}
+		this.dir = dir;
+		this.suffix = suffix;
+		this.maxBytes = maxBytes;
+		File[] existing = dir.listFiles((d, name) -> name.endsWith(suffix));
+		if (existing != null) {
+			Arrays.sort(existing, Comparator.comparingLong(File::lastModified));
+			for (File file : existing) {
+				lru.put(file.getName(), file);
+				nbBytes += file.length();
+			}
+		}
+	}
+
+	/**
+	 * Writes the document from the cache, or produces it first, and keeps it.
+	 * The document is not evicted while it is written.
+	 * Two concurrent requests for the same document may both produce it, the last one is kept.
+	 *
+	 * @param key      the publication parameters
+	 * @param producer writes the document, when not in the cache
+	 * @param out      where the document is written
+	 * @throws Exception when the producer fails. Nothing is kept then.
+	 */
+	public void write(String key, Producer producer, OutputStream out) throws Exception {
+		String name = fileName(key);
+		File file = pin(name);
+		if (file != null) {
+			hits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+			file = produce(name, producer);
+		}
+		try {
+			Files.copy(file.toPath(), out);
+		} finally {
+			unpin(name);
+		}
+	}
+
+	/**
+	 * @return the document, pinned, null if not in the cache.
+	 */
+	private File pin(String name) {
+		synchronized (lru) {
+			File file = lru.get(name);
+			if (file != null && file.exists()) {
+				pinned.merge(name, 1, Integer::sum);
+				return file;
+			}
+			return null;
+		}
+	}
+
+	private void unpin(String name) {
+		synchronized (lru) {
+			pinned.computeIfPresent(name, (k, users) -> users > 1 ? users - 1 : null);
+			evict();
+		}
+	}
+
+	/**
+	 * Writes the document, and puts it in the cache, pinned.
+	 */
+	private File produce(String name, Producer producer) throws Exception {
+		File file = new File(dir, name);
+		File tmp = new File(dir, name + ".tmp." + Thread.currentThread().getId());
+		try (OutputStream out = new FileOutputStream(tmp)) {
+			producer.write(out);
+		} catch (Throwable t) {
+			tmp.delete();
+			throw t;
+		}
+		synchronized (lru) {
+			File previous = lru.remove(name);
+			if (previous != null) {
+				nbBytes -= previous.length();
+			}
+			if (!tmp.renameTo(file)) {
+				tmp.delete();
+				throw new IOException(String.format("Cannot rename %s", tmp.getAbsolutePath()));
+			}
+			lru.put(name, file);
+			nbBytes += file.length();
+			pinned.merge(name, 1, Integer::sum);
+			evict();
+		}
+		return file;
+	}
+
+	/**
+	 * Deletes the least recently used documents beyond the max size, except the pinned ones.
+	 * Invoked with the lock held.
+	 */
+	private void evict() {
+		Iterator<Map.Entry<String, File>> iterator = lru.entrySet().iterator();
+		while (nbBytes > maxBytes && iterator.hasNext()) {
+			Map.Entry<String, File> eldest = iterator.next();
+			if (pinned.containsKey(eldest.getKey())) { // Being written
+				continue;
+			}
+			nbBytes -= eldest.getValue().length();
+			eldest.getValue().delete();
+			iterator.remove();
+			evictions.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Deletes all the documents, but the ones being written.
+	 */
+	public void clear() {
+		synchronized (lru) {
+			Iterator<Map.Entry<String, File>> iterator = lru.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<String, File> entry = iterator.next();
+				if (!pinned.containsKey(entry.getKey())) {
+					nbBytes -= entry.getValue().length();
+					entry.getValue().delete();
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	private String fileName(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest) {
+				sb.append(String.format("%02x", b));
+			}
+			return sb.append(suffix).toString();
+		} catch (Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	public CacheStats getStats() {
+		CacheStats stats = new CacheStats();
+		synchronized (lru) {
+			stats.entries = lru.size();
+			stats.bytes = nbBytes;
+		}
+		stats.maxBytes = maxBytes;
+		stats.dir = dir.getAbsolutePath();
+		stats.hits = hits.get();
+		stats.misses = misses.get();
+		stats.evictions = evictions.get();
+		return stats;
+	}
+
+	public static class CacheStats {
+		int entries;
+		long bytes;
+		long maxBytes;
+		String dir;
+		long hits;
+		long misses;
+		long evictions;
+
+		public int getEntries() {
+			return entries;
+		}
+
+		public long getHits() {
+			return hits;
+		}
+
+		public long getMisses() {
+			return misses;
+		}
+
+		public long getEvictions() {
+			return evictions;
+		}
+	}
+}
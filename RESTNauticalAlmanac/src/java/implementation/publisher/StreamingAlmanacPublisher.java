@@ -0,0 +1,623 @@
+package implementation.publisher;
+
+import calc.GeomUtil;
+import implementation.almanac.AlmanacComputer;
+import nauticalalmanac.AstroContext;
+import nauticalalmanac.Core;
+import nauticalalmanac.Star;
+import nauticalalmanac.StarReduction;
+import oracle.apps.xdo.template.FOProcessor;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Publishes the almanacs without intermediate file, and without external script.
+ * <ul>
+ * <li>The days (or the months, for the perpetual almanac) are computed in parallel, each one in its own
+ * {@link AstroContext}, and written in order, as soon as they are available.</li>
+ * <li>The XML document (same structure as the ones produced by {@link AlmanacComputer} and
+ * {@link implementation.perpetualalmanac.Publisher}) is streamed through a pipe into the XSL-FO processor,
+ * running in the same JVM, that writes the pdf.</li>
+ * </ul>
+ * Only a few days are in memory at the same time, whatever the length of the period.
+ */
+public class StreamingAlmanacPublisher {
+
+	/**
+	 * The published documents, and their stylesheets (in the xsl directory).
+	 */
+	public enum Document {
+		ALMANAC("data2fop_2pages.xsl"),
+		LUNAR("lunar2fop.xsl"),
+		PERPETUAL("perpetual.xsl");
+
+		private final String stylesheet;
+
+		Document(String stylesheet) {
+			this.stylesheet = stylesheet;
+		}
+
+		public String stylesheet() {
+			return this.stylesheet;
+		}
+	}
+
+	private final static int DEFAULT_DAY_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	private final static String[] DOW = {"sunday", "monday", "tuesday", "wednesday", "thursday", "friday", "saturday"};
+	private final static int TOP_LATITUDE = 75;
+	private final static int BOTTOM_LATITUDE = -55;
+	private final static int NB_LATITUDES = ((TOP_LATITUDE - BOTTOM_LATITUDE) / 5) + 1;
+
+	private static ExecutorService dayExecutor = null;
+	private static int dayParallelism = DEFAULT_DAY_PARALLELISM;
+
+	private static synchronized ExecutorService getDayExecutor() {
+		if (dayExecutor == null) {
+			int parallelism = DEFAULT_DAY_PARALLELISM;
+			try {
+				parallelism = Integer.parseInt(System.getProperty("astro.publish.day.parallelism", String.valueOf(DEFAULT_DAY_PARALLELISM)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			AtomicInteger threadNum = new AtomicInteger(0);
+			dayParallelism = Math.max(1, parallelism);
+			dayExecutor = Executors.newFixedThreadPool(dayParallelism, runnable -> {
+				Thread thread = new Thread(runnable, String.format("astro-day-%d", threadNum.incrementAndGet()));
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return dayExecutor;
+	}
+
+	private static synchronized int getDayParallelism() {
+		return dayParallelism;
+	}
+
+	/**
+	 * What a producer writes into the pipe.
+	 */
+	@FunctionalInterface
+	public interface XMLProducer {
+		void write(OutputStream out) throws Exception;
+	}
+
+	/**
+	 * Generates a document, in pdf.
+	 *
+	 * @param document  the document to generate
+	 * @param producer  writes the XML data of the document, see {@link #writeAlmanacXML(LocalDate, LocalDate, String, double, OutputStream, IntConsumer)}
+	 *                  and {@link #writePerpetualXML(int, int, OutputStream, IntConsumer)}
+	 * @param language  EN or FR
+	 * @param withStars for the {@link Document#ALMANAC} only
+	 * @param xslDir    directory containing the stylesheets, their configurations and images
+	 * @param pdf       where to write the document
+	 * @throws Exception when something goes wrong, in the computation or in the transformation
+	 */
+	public static void publish(Document document,
+	                           XMLProducer producer,
+	                           String language,
+	                           boolean withStars,
+	                           File xslDir,
+	                           OutputStream pdf) throws Exception {
+		String lang = ("FR".equals(language) ? "fr" : "en");
+		InputStream template = loadTemplate(xslDir, document.stylesheet(), lang);
+		String config;
+		if (document == Document.PERPETUAL) {
+			config = "scalable.cfg";
+		} else {
+			config = String.format("lang_%s%s.cfg", lang, (document == Document.ALMANAC && !withStars ? "_ns" : ""));
+		}
+
+		PipedInputStream xmlIn = new PipedInputStream(64 * 1024);
+		PipedOutputStream xmlOut = new PipedOutputStream(xmlIn);
+		AtomicReference<Exception> producerError = new AtomicReference<>();
+		Thread producerThread = new Thread(() -> {
+			try (OutputStream out = xmlOut) {
+				producer.write(out);
+			} catch (Exception ex) {
+				producerError.set(ex);
+			}
+		}, String.format("astro-xml-%s", Thread.currentThread().getName()));
+		producerThread.setDaemon(true);
+		producerThread.start();
+
+		try (InputStream in = xmlIn) {
+			FOProcessor processor = new FOProcessor();
+			processor.setConfig(new File(xslDir, config).getAbsolutePath());
+			processor.setData(in);
+			processor.setTemplate(template);
+			processor.setOutput(pdf);
+			processor.setOutputFormat(FOProcessor.FORMAT_PDF);
+			processor.generate();
+		} finally {
+			producerThread.join();
+		}
+		if (producerError.get() != null) {
+			throw producerError.get();
+		}
+	}
+
+	/**
+	 * The data of one hour (0 to 24) of a day.
+	 */
+	private static class HourData {
+		int hour;
+		AstroContext ctx;
+		String moonPhase;
+		int weekDay;
+		double[] stars;        // GHA, SHA, Dec, lunar distance, see StarReduction
+		double[][] sunRiseSet; // By latitude, see AlmanacComputer.sunRiseAndSet
+		double[][] moonRiseSet;
+	}
+
+	private static HourData[] computeDay(LocalDate day, double deltaT) {
+		HourData[] hours = new HourData[25];
+		for (int h = 0; h <= 24; h++) {
+			HourData data = new HourData();
+			data.hour = h;
+			data.ctx = AlmanacComputer.compute(day.getYear(), day.getMonthValue(), day.getDayOfMonth(), h, 0, 0f, deltaT);
+			data.moonPhase = Core.moonPhase(data.ctx);
+			data.weekDay = Core.weekDay(data.ctx);
+			data.stars = StarReduction.reduce(data.ctx);
+			data.sunRiseSet = new double[NB_LATITUDES][];
+			data.moonRiseSet = new double[NB_LATITUDES][];
+			for (int i = 0; i < NB_LATITUDES; i++) {
+				double lat = TOP_LATITUDE - (5 * i);
+				data.sunRiseSet[i] = AlmanacComputer.sunRiseAndSet(data.ctx, lat, 0d);
+				data.moonRiseSet[i] = AlmanacComputer.moonRiseAndSet(data.ctx, lat, 0d);
+			}
+			hours[h] = data;
+		}
+		return hours;
+	}
+
+	/**
+	 * Computes tasks ahead on the day executor, hands their results in order.
+	 */
+	private static class Window<T> {
+		private final int nbTasks;
+		private final IntFunction<Callable<T>> task;
+		private final ExecutorService executor = getDayExecutor();
+		private final int size = 2 * getDayParallelism();
+		private final Deque<Future<T>> inFlight = new ArrayDeque<>();
+		private int submitted = 0;
+
+		Window(int nbTasks, IntFunction<Callable<T>> task) {
+			this.nbTasks = nbTasks;
+			this.task = task;
+		}
+
+		T next() throws Exception {
+			while (submitted < nbTasks && inFlight.size() < size) {
+				inFlight.add(executor.submit(task.apply(submitted)));
+				submitted++;
+			}
+			return inFlight.poll().get();
+		}
+
+		void cancel() {
+			inFlight.forEach(future -> future.cancel(true));
+		}
+	}
+
+	/**
+	 * Previous values, for the hourly variations. Updated by the hours 0 to 23.
+	 */
+	private static class Previous {
+		final static int SUN = 0, MOON = 1, VENUS = 2, MARS = 3, JUPITER = 4, SATURN = 5, ARIES = 6;
+		double[] gha = new double[7];
+		double[] dec = new double[7];
+		double[] lunar = new double[7];
+		double[] starLunars = new double[Star.getCatalog().length];
+		double eot = Double.MAX_VALUE;
+
+		Previous() {
+			Arrays.fill(gha, Double.MAX_VALUE);
+			Arrays.fill(dec, Double.MAX_VALUE);
+			Arrays.fill(lunar, Double.MAX_VALUE);
+			Arrays.fill(starLunars, Double.MAX_VALUE);
+		}
+	}
+
+	/**
+	 * Writes the XML data of the almanac (and lunar distances), day after day, between from and to, inclusive.
+	 *
+	 * @param from     first day
+	 * @param to       last day
+	 * @param type     continuous or from-to, as in {@link AlmanacComputer}
+	 * @param deltaT   in seconds
+	 * @param out      where to write
+	 * @param progress notified with the percentage of days written, can be null
+	 * @throws Exception when something goes wrong
+	 */
+	public static void writeAlmanacXML(LocalDate from,
+	                                   LocalDate to,
+	                                   String type,
+	                                   double deltaT,
+	                                   OutputStream out,
+	                                   IntConsumer progress) throws Exception {
+		int nbDays = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+		if (nbDays < 1) {
+			throw new IllegalArgumentException(String.format("Wrong chronology for the dates (from: %s and to: %s).", from, to));
+		}
+		XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+		writer.writeStartDocument("UTF-8", "1.0");
+		writer.setDefaultNamespace("urn:nautical-almanac");
+		writer.writeStartElement("almanac");
+		writer.writeDefaultNamespace("urn:nautical-almanac");
+		writer.writeAttribute("deltaT", String.valueOf(deltaT));
+		writer.writeAttribute("type", type);
+
+		Previous previous = new Previous();
+		Window<HourData[]> window = new Window<>(nbDays, i -> () -> computeDay(from.plusDays(i), deltaT));
+		LocalDate day = from;
+		try {
+			for (int written = 0; written < nbDays; written++) {
+				HourData[] hours = window.next();
+				if (written == 0 || day.getDayOfYear() == 1) {
+					if (written > 0) {
+						writer.writeEndElement(); // month
+						writer.writeEndElement(); // year
+					}
+					writer.writeStartElement("year");
+					writer.writeAttribute("value", String.valueOf(day.getYear()));
+					writer.writeStartElement("month");
+					writer.writeAttribute("value", String.valueOf(day.getMonthValue()));
+				} else if (day.getDayOfMonth() == 1) {
+					writer.writeEndElement(); // month
+					writer.writeStartElement("month");
+					writer.writeAttribute("value", String.valueOf(day.getMonthValue()));
+				}
+				writer.writeStartElement("day");
+				writer.writeAttribute("value", String.valueOf(day.getDayOfMonth()));
+				for (HourData hour : hours) {
+					writeHour(writer, hour, previous);
+				}
+				writer.writeEndElement(); // day
+				writer.flush();
+				if (progress != null) {
+					progress.accept((int) Math.round(100d * (written + 1) / nbDays));
+				}
+				day = day.plusDays(1);
+			}
+		} finally {
+			window.cancel();
+		}
+		writer.writeEndElement(); // month
+		writer.writeEndElement(); // year
+		writer.writeEndElement(); // almanac
+		writer.writeEndDocument();
+		writer.flush();
+		writer.close();
+	}
+
+	private static String variation(double current, double previous, boolean abs) {
+		if (previous == Double.MAX_VALUE) {
+			return "";
+		}
+		double delta = current - previous;
+		if (abs) {
+			return String.valueOf(Math.abs(delta));
+		}
+		while (delta < 0) {
+			delta += 360d;
+		}
+		return String.valueOf(delta);
+	}
+
+	private static double sha(double ghaAries, double gha) {
+		double sha = ghaAries - gha;
+		while (sha < 0) {
+			sha += 360;
+		}
+		return sha;
+	}
+
+	/**
+	 * Same elements and attributes as AlmanacComputer.xmlOutput.
+	 */
+	private static void writeHour(XMLStreamWriter writer, HourData data, Previous prev) throws XMLStreamException {
+		AstroContext ctx = data.ctx;
+		boolean update = (data.hour < 24);
+
+		writer.writeStartElement("data");
+		writer.writeAttribute("hour", String.valueOf(data.hour));
+		writer.writeAttribute("minute", "0");
+		writer.writeAttribute("second", "0.0");
+
+		// Sun
+		int idx = Previous.SUN;
+		writer.writeEmptyElement("body");
+		writer.writeAttribute("name", "Sun");
+		writer.writeAttribute("GHA", String.valueOf(ctx.GHAsun));
+		writer.writeAttribute("SHA", String.valueOf(sha(ctx.GHAAtrue, ctx.GHAsun)));
+		writer.writeAttribute("varGHA", variation(ctx.GHAsun, prev.gha[idx], false));
+		writer.writeAttribute("RA", String.valueOf(ctx.RAsun));
+		writer.writeAttribute("Dec", String.valueOf(ctx.DECsun));
+		writer.writeAttribute("varD", (prev.gha[idx] != Double.MAX_VALUE ? variation(ctx.DECsun, prev.dec[idx], true) : ""));
+		writer.writeAttribute("sd-minute", String.valueOf(ctx.SDsun / 60.0));
+		writer.writeAttribute("hp-minute", String.valueOf(ctx.HPsun / 60.0));
+		writer.writeAttribute("EoT-in-minutes", String.valueOf(ctx.EoT));
+		writer.writeAttribute("delta-EoT-in-minutes", (prev.eot != Double.MAX_VALUE ? String.valueOf(ctx.EoT - prev.eot) : ""));
+		writer.writeAttribute("t-pass-in-hours", String.valueOf(12f - (ctx.EoT / 60f)));
+		writer.writeAttribute("moonDist", String.valueOf(ctx.LDist));
+		writer.writeAttribute("delta-lunar", variation(ctx.LDist, prev.lunar[idx], true));
+		double eot = Math.abs(ctx.EoT);
+		int eotMin = (int) Math.floor(eot);
+		int eotSec = (int) Math.round(600 * (eot - eotMin)) / 10;
+		String sign = (ctx.EoT < 0 ? "-" : "+");
+		writer.writeAttribute("eot", (eotMin == 0 ? sign + eotSec + "s" : sign + eotMin + "m " + eotSec + "s"));
+		if (update) {
+			prev.gha[idx] = ctx.GHAsun;
+			prev.dec[idx] = ctx.DECsun;
+			prev.lunar[idx] = ctx.LDist;
+			prev.eot = ctx.EoT;
+		}
+
+		// Moon
+		idx = Previous.MOON;
+		writer.writeEmptyElement("body");
+		writer.writeAttribute("name", "Moon");
+		writer.writeAttribute("GHA", String.valueOf(ctx.GHAmoon));
+		writer.writeAttribute("SHA", String.valueOf(sha(ctx.GHAAtrue, ctx.GHAmoon)));
+		writer.writeAttribute("varGHA", variation(ctx.GHAmoon, prev.gha[idx], false));
+		writer.writeAttribute("RA", String.valueOf(ctx.RAmoon));
+		writer.writeAttribute("Dec", String.valueOf(ctx.DECmoon));
+		writer.writeAttribute("varD", (prev.gha[idx] != Double.MAX_VALUE ? variation(ctx.DECmoon, prev.dec[idx], true) : ""));
+		writer.writeAttribute("sd-minute", String.valueOf(ctx.SDmoon / 60.0));
+		writer.writeAttribute("hp-minute", String.valueOf(ctx.HPmoon / 60.0));
+		writer.writeAttribute("illum", ctx.k_moon + "%" + data.moonPhase);
+		writer.writeAttribute("sun-moon", String.valueOf(ctx.LDist));
+		double phase = ctx.lambdaMapp - ctx.lambda_sun;
+		if (phase < 0d) {
+			phase += 360d;
+		}
+		writer.writeAttribute("phase-in-degrees", String.valueOf(phase));
+		writer.writeAttribute("age-in-days", String.valueOf(phase * 28D / 360D));
+		double moonEoT = Math.abs(ctx.moonEoT);
+		int eotHour = (int) Math.floor(moonEoT / 60d);
+		eotMin = (int) Math.floor(moonEoT - (eotHour * 60));
+		eotSec = (int) Math.round(600 * (moonEoT - (eotHour * 60) - eotMin)) / 10;
+		writer.writeAttribute("eot", (ctx.moonEoT < 0 ? "-" : "+") + eotHour + "h " + eotMin + "m " + eotSec + "s");
+		if (update) {
+			prev.gha[idx] = ctx.GHAmoon;
+			prev.dec[idx] = ctx.DECmoon;
+		}
+
+		// Aries
+		idx = Previous.ARIES;
+		writer.writeEmptyElement("body");
+		writer.writeAttribute("name", "Aries");
+		writer.writeAttribute("GHA", String.valueOf(ctx.GHAAtrue));
+		writer.writeAttribute("varGHA", variation(ctx.GHAAtrue, prev.gha[idx], false));
+		if (update) {
+			prev.gha[idx] = ctx.GHAAtrue;
+		}
+
+		writer.writeStartElement("planets");
+		writePlanet(writer, "Venus", Previous.VENUS, ctx.GHAAtrue, ctx.GHAvenus, ctx.RAvenus, ctx.DECvenus, ctx.SDvenus, ctx.HPvenus, ctx.moonVenusDist, ctx.k_venus, prev, update);
+		writePlanet(writer, "Mars", Previous.MARS, ctx.GHAAtrue, ctx.GHAmars, ctx.RAmars, ctx.DECmars, ctx.SDmars, ctx.HPmars, ctx.moonMarsDist, ctx.k_mars, prev, update);
+		writePlanet(writer, "Jupiter", Previous.JUPITER, ctx.GHAAtrue, ctx.GHAjupiter, ctx.RAjupiter, ctx.DECjupiter, ctx.SDjupiter, ctx.HPjupiter, ctx.moonJupiterDist, ctx.k_jupiter, prev, update);
+		writePlanet(writer, "Saturn", Previous.SATURN, ctx.GHAAtrue, ctx.GHAsaturn, ctx.RAsaturn, ctx.DECsaturn, ctx.SDsaturn, ctx.HPsaturn, ctx.moonSaturnDist, ctx.k_saturn, prev, update);
+		writer.writeEndElement(); // planets
+
+		writer.writeStartElement("stars");
+		Star[] catalog = Star.getCatalog();
+		for (int i = 0; i < catalog.length; i++) {
+			int offset = i * StarReduction.STRIDE;
+			writer.writeEmptyElement("body");
+			writer.writeAttribute("name", catalog[i].getStarName());
+			writer.writeAttribute("loc", catalog[i].getConstellation());
+			writer.writeAttribute("GHA", String.valueOf(data.stars[offset + StarReduction.GHA]));
+			writer.writeAttribute("SHA", String.valueOf(data.stars[offset + StarReduction.SHA]));
+			writer.writeAttribute("Dec", String.valueOf(data.stars[offset + StarReduction.DEC]));
+			writer.writeAttribute("lunar-dist", String.valueOf(data.stars[offset + StarReduction.MOON_DIST]));
+			writer.writeAttribute("delta-lunar", variation(data.stars[offset + StarReduction.MOON_DIST], prev.starLunars[i], true));
+			if (update) {
+				prev.starLunars[i] = data.stars[offset + StarReduction.MOON_DIST];
+			}
+		}
+		writer.writeEndElement(); // stars
+
+		writer.writeStartElement("misc-data");
+		writeElement(writer, "mean-obl-of-ecl", String.valueOf(ctx.eps0));
+		writeElement(writer, "true-obl-of-ecl", String.valueOf(ctx.eps));
+		writeElement(writer, "sun-lunar-distance", String.valueOf(ctx.LDist));
+		writeElement(writer, "dow", DOW[data.weekDay]);
+		writeElement(writer, "dpsi", String.valueOf(3600f * ctx.delta_psi));
+		writeElement(writer, "deps", String.valueOf(3600f * ctx.delta_eps));
+		writeElement(writer, "obliq", String.valueOf(ctx.OoE));
+		writeElement(writer, "true-obliq", String.valueOf(ctx.tOoE));
+		writeElement(writer, "julian-day", String.valueOf(ctx.JD));
+		writeElement(writer, "julian-ephem-day", String.valueOf(ctx.JDE));
+		writer.writeEndElement(); // misc-data
+
+		writer.writeStartElement("rise-set");
+		for (int i = 0; i < NB_LATITUDES; i++) {
+			writer.writeStartElement("latitude");
+			writer.writeAttribute("val", String.valueOf(TOP_LATITUDE - (5 * i)));
+			double[] rs = data.sunRiseSet[i];
+			writer.writeStartElement("sun");
+			if (Double.isNaN(rs[0]) || Double.isNaN(rs[1])) {
+				writer.writeEmptyElement("none");
+			} else {
+				writer.writeStartElement("rise");
+				writer.writeAttribute("z", String.valueOf((int) Math.round(rs[2])));
+				writer.writeCharacters(GeomUtil.formatHM(rs[0]));
+				writer.writeEndElement();
+				writer.writeStartElement("set");
+				writer.writeAttribute("z", String.valueOf((int) Math.round(rs[3])));
+				writer.writeCharacters(GeomUtil.formatHM(rs[1]));
+				writer.writeEndElement();
+			}
+			writer.writeEndElement(); // sun
+			rs = data.moonRiseSet[i];
+			writer.writeStartElement("moon");
+			if (Double.isNaN(rs[0]) || Double.isNaN(rs[1])) {
+				writer.writeEmptyElement("none");
+			} else {
+				writeElement(writer, "rise", GeomUtil.formatHM(rs[0]));
+				writeElement(writer, "set", GeomUtil.formatHM(rs[1]));
+			}
+			writer.writeEndElement(); // moon
+			writer.writeEndElement(); // latitude
+		}
+		writer.writeEndElement(); // rise-set
+
+		writer.writeEndElement(); // data
+	}
+
+	private static void writePlanet(XMLStreamWriter writer,
+	                                String name,
+	                                int idx,
+	                                double ghaAries,
+	                                double gha,
+	                                double ra,
+	                                double dec,
+	                                double sd,
+	                                double hp,
+	                                double moonDist,
+	                                double illum,
+	                                Previous prev,
+	                                boolean update) throws XMLStreamException {
+		writer.writeEmptyElement("body");
+		writer.writeAttribute("name", name);
+		writer.writeAttribute("GHA", String.valueOf(gha));
+		writer.writeAttribute("SHA", String.valueOf(sha(ghaAries, gha)));
+		writer.writeAttribute("varGHA", variation(gha, prev.gha[idx], false));
+		writer.writeAttribute("RA", String.valueOf(ra));
+		writer.writeAttribute("Dec", String.valueOf(dec));
+		writer.writeAttribute("varD", (prev.gha[idx] != Double.MAX_VALUE ? variation(dec, prev.dec[idx], true) : ""));
+		writer.writeAttribute("sd", String.valueOf(sd));
+		writer.writeAttribute("hp", String.valueOf(hp));
+		writer.writeAttribute("moonDist", String.valueOf(moonDist));
+		writer.writeAttribute("delta-lunar", variation(moonDist, prev.lunar[idx], true));
+		writer.writeAttribute("illum", illum + "%");
+		if (update) {
+			prev.gha[idx] = gha;
+			prev.dec[idx] = dec;
+			prev.lunar[idx] = moonDist;
+		}
+	}
+
+	private static void writeElement(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+		writer.writeStartElement(name);
+		writer.writeCharacters(value);
+		writer.writeEndElement();
+	}
+
+	/**
+	 * Writes the XML data of the perpetual almanac, month after month.
+	 *
+	 * @param from     first year, in [1900..2100]
+	 * @param to       last year, inclusive
+	 * @param out      where to write
+	 * @param progress notified with the percentage of months written, can be null
+	 * @throws Exception when something goes wrong
+	 */
+	public static void writePerpetualXML(int from, int to, OutputStream out, IntConsumer progress) throws Exception {
+		int nbMonths = 12 * (to - from + 1);
+		XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+		writer.writeStartDocument("UTF-8", "1.0");
+		writer.writeStartElement("perpetual-almanac");
+		Window<double[][][]> window = new Window<>(nbMonths, i -> () -> computePerpetualMonth(YearMonth.of(from + (i / 12), (i % 12) + 1)));
+		try {
+			for (int written = 0; written < nbMonths; written++) {
+				double[][][] days = window.next();
+				if (written % 12 == 0) {
+					if (written > 0) {
+						writer.writeEndElement(); // year
+					}
+					writer.writeStartElement("year");
+					writer.writeAttribute("value", String.valueOf(from + (written / 12)));
+				}
+				writer.writeStartElement("month");
+				writer.writeAttribute("value", String.valueOf((written % 12) + 1));
+				for (int d = 0; d < days.length; d++) {
+					writer.writeStartElement("day");
+					writer.writeAttribute("value", String.valueOf(d + 1));
+					for (int h = 0; h < days[d].length; h++) {
+						double[] data = days[d][h];
+						writer.writeStartElement("data");
+						writer.writeAttribute("hours", String.valueOf(h));
+						writer.writeAttribute("minutes", "0");
+						writer.writeAttribute("seconds", "0");
+						writeElement(writer, "sun-dec", String.valueOf(data[0]));
+						writeElement(writer, "sun-gha", String.valueOf(data[1]));
+						writeElement(writer, "aries-gha", String.valueOf(data[2]));
+						writeElement(writer, "eot", String.valueOf(data[3]));
+						writeElement(writer, "sun-sd", String.valueOf(data[4]));
+						writeElement(writer, "sun-hp", String.valueOf(data[5]));
+						writer.writeEndElement(); // data
+					}
+					writer.writeEndElement(); // day
+				}
+				writer.writeEndElement(); // month
+				writer.flush();
+				if (progress != null) {
+					progress.accept((int) Math.round(100d * (written + 1) / nbMonths));
+				}
+			}
+		} finally {
+			window.cancel();
+		}
+		writer.writeEndElement(); // year
+		writer.writeEndElement(); // perpetual-almanac
+		writer.writeEndDocument();
+		writer.flush();
+		writer.close();
+	}
+
+	private static double[][][] computePerpetualMonth(YearMonth month) {
+		double[][][] days = new double[month.lengthOfMonth()][25][];
+		for (int d = 0; d < days.length; d++) {
+			for (int h = 0; h <= 24; h++) {
+				days[d][h] = implementation.perpetualalmanac.Core.compute(month.getYear(), month.getMonthValue(), d + 1, h, 0, 0);
+			}
+		}
+		return days;
+	}
+
+	/**
+	 * The stylesheets refer to their literals and images relatively to their own directory
+	 * (the publish scripts run from there, after copying literals_[lang].xsl to literals.xsl).
+	 * Those references are made absolute, so the transformation does not depend on the working directory
+	 * of the server, and several languages can be published at the same time.
+	 */
+	private static InputStream loadTemplate(File xslDir, String stylesheetName, String lang) throws Exception {
+		File stylesheet = new File(xslDir, stylesheetName);
+		if (!stylesheet.exists()) {
+			throw new RuntimeException(String.format("Stylesheet %s not found", stylesheet.getAbsolutePath()));
+		}
+		String xsl = new String(Files.readAllBytes(stylesheet.toPath()), StandardCharsets.UTF_8);
+		String dir = xslDir.getAbsoluteFile().toURI().toString();
+		xsl = xsl.replace("href=\"literals.xsl\"", String.format("href=\"%sliterals_%s.xsl\"", dir, lang));
+		xsl = xsl.replace("url('", "url('" + dir);
+		return new ByteArrayInputStream(xsl.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -3,22 +3,22 @@ package nauticalalmanac;
 public class Anomalies {
 	// Astronomical functions
 	// Nutation, obliquity of the ecliptic
-	public static void nutation() {
+	public static void nutation(AstroContext ctx) {
 		//IAU 1980 nutation theory:
 		//Mean anomaly of the Moon
-		double Mm = 134.962981389 + 198.867398056 * Context.TE + Utils.trunc(477000 * Context.TE) + 0.008697222222 * Context.TE2 + Context.TE3 / 56250D;
+		double Mm = 134.962981389 + 198.867398056 * ctx.TE + Utils.trunc(477000 * ctx.TE) + 0.008697222222 * ctx.TE2 + ctx.TE3 / 56250D;
 
 		//Mean anomaly of the Sun
-		double M = 357.527723333 + 359.05034 * Context.TE + Utils.trunc(35640 * Context.TE) - 0.0001602777778 * Context.TE2 - Context.TE3 / 300000D;
+		double M = 357.527723333 + 359.05034 * ctx.TE + Utils.trunc(35640 * ctx.TE) - 0.0001602777778 * ctx.TE2 - ctx.TE3 / 300000D;
 
 		//Mean distance of the Moon from ascending node
-		double F = 93.271910277 + 82.017538055 * Context.TE + Utils.trunc(483120 * Context.TE) - 0.0036825 * Context.TE2 + Context.TE3 / 327272.7273;
+		double F = 93.271910277 + 82.017538055 * ctx.TE + Utils.trunc(483120 * ctx.TE) - 0.0036825 * ctx.TE2 + ctx.TE3 / 327272.7273;
 
 		//Mean elongation of the Moon
-		double D = 297.850363055 + 307.11148 * Context.TE + Utils.trunc(444960 * Context.TE) - 0.001914166667 * Context.TE2 + Context.TE3 / 189473.6842;
+		double D = 297.850363055 + 307.11148 * ctx.TE + Utils.trunc(444960 * ctx.TE) - 0.001914166667 * ctx.TE2 + ctx.TE3 / 189473.6842;
 
 		//Longitude of the ascending node of the Moon
-		double omega = 125.044522222 - 134.136260833 * Context.TE - Utils.trunc(1800 * Context.TE) + 0.002070833333 * Context.TE2 + Context.TE3 / 450000D;
+		double omega = 125.044522222 - 134.136260833 * ctx.TE - Utils.trunc(1800 * ctx.TE) + 0.002070833333 * ctx.TE2 + ctx.TE3 / 450000D;
 
 		//Periodic terms for nutation
 		double[][] nut =
@@ -139,8 +139,8 @@ public class Anomalies {
 			fF = nut[x][2];
 			fD = nut[x][3];
 			f_omega = nut[x][4];
-			dp += ((nut[x][5] + Context.TE * nut[x][6]) * Math.sin(Math.toRadians(fD * D + fM * M + fMm * Mm + fF * F + f_omega * omega)));
-			de += ((nut[x][7] + Context.TE * nut[x][8]) * Math.cos(Math.toRadians(fD * D + fM * M + fMm * Mm + fF * F + f_omega * omega)));
+			dp += ((nut[x][5] + ctx.TE * nut[x][6]) * Math.sin(Math.toRadians(fD * D + fM * M + fMm * Mm + fF * F + f_omega * omega)));
+			de += ((nut[x][7] + ctx.TE * nut[x][8]) * Math.cos(Math.toRadians(fD * D + fM * M + fMm * Mm + fF * F + f_omega * omega)));
 		}
 
     /*
@@ -166,22 +166,40 @@ public class Anomalies {
       */
 
 		// Nutation in longitude
-		Context.delta_psi = dp / 36000000D;
+		ctx.delta_psi = dp / 36000000D;
 
 		// Nutation in obliquity
-		Context.delta_eps = de / 36000000D;
+		ctx.delta_eps = de / 36000000D;
 
 		// Mean obliquity of the ecliptic
-		Context.eps0 = (84381.448 - 46.815 * Context.TE - 0.00059 * Context.TE2 + 0.001813 * Context.TE3) / 3600D;
+		ctx.eps0 = (84381.448 - 46.815 * ctx.TE - 0.00059 * ctx.TE2 + 0.001813 * ctx.TE3) / 3600D;
 
 		// True obliquity of the ecliptic
-		Context.eps = Context.eps0 + Context.delta_eps;
+		ctx.eps = ctx.eps0 + ctx.delta_eps;
+	}
+
+	/**
+	 * Same as {@link #nutation(AstroContext)}, on the global {@link Context}.
+	 */
+	public static void nutation() {
+		AstroContext ctx = AstroContext.fromGlobal();
+		nutation(ctx);
+		ctx.toGlobal();
 	}
 
 	// Aberration
+	public static void aberration(AstroContext ctx) {
+		ctx.kappa = Math.toRadians(20.49552) / 3600D;
+		ctx.pi0 = Math.toRadians(102.93735 + 1.71953 * ctx.TE + 0.00046 * ctx.TE2);
+		ctx.e = 0.016708617 - 0.000042037 * ctx.TE - 0.0000001236 * ctx.TE2;
+	}
+
+	/**
+	 * Same as {@link #aberration(AstroContext)}, on the global {@link Context}.
+	 */
 	public static void aberration() {
-		Context.kappa = Math.toRadians(20.49552) / 3600D;
-		Context.pi0 = Math.toRadians(102.93735 + 1.71953 * Context.TE + 0.00046 * Context.TE2);
-		Context.e = 0.016708617 - 0.000042037 * Context.TE - 0.0000001236 * Context.TE2;
+		AstroContext ctx = AstroContext.fromGlobal();
+		aberration(ctx);
+		ctx.toGlobal();
 	}
 }
@@ -0,0 +1,325 @@
+package nauticalalmanac;
+
+/**
+ * The state of one almanac computation, for one instant.
+ * <p>
+ * Same fields as {@link Context}, but not static: each computation can use its own instance,
+ * so several instants can be computed at the same time, by several threads.
+ * An instance must not be shared by several threads while it is being computed.
+ * </p>
+ * See {@link Core}, {@link Anomalies}, {@link Moon}, {@link Venus}, {@link Mars}, {@link Jupiter}, {@link Saturn}.
+ */
+public class AstroContext {
+	public double T, T2, T3, T4, T5, TE, TE2, TE3, TE4, TE5, Tau, Tau2, Tau3, Tau4, Tau5, deltaT;
+	public double eps0, eps, delta_psi, delta_eps;
+	public double Le, Be, Re;
+	public double kappa, pi0, e;
+	public double lambda_sun, RAsun, DECsun, GHAsun, SDsun, HPsun, EoT;
+	public double RAvenus, DECvenus, GHAvenus, SDvenus, HPvenus;
+	public double RAmars, DECmars, GHAmars, SDmars, HPmars;
+	public double RAjupiter, DECjupiter, GHAjupiter, SDjupiter, HPjupiter;
+	public double RAsaturn, DECsaturn, GHAsaturn, SDsaturn, HPsaturn;
+	public double RAmoon, DECmoon, GHAmoon, SDmoon, HPmoon, moonEoT;
+	public double RApol, DECpol, GHApol; //, RApolaris, DECpolaris, GHApolaris;
+	public double OoE, tOoE, LDist, starMoonDist;
+
+	public double moonJupiterDist, moonVenusDist, moonMarsDist, moonSaturnDist;
+
+	public double moonPhase;
+
+	public double JD0h, JDE, JD;
+	public double lambda, beta, dES, lambdaMapp, dayfraction;
+
+	public double GHAAtrue, Lsun_mean, Lsun_true, k_moon, k_venus, k_mars, k_jupiter, k_saturn;
+
+	public double GHAstar, SHAstar, DECstar;
+
+	public AstroContext copy() {
+		AstroContext copy = new AstroContext();
+		copy.T = this.T;
+		copy.T2 = this.T2;
+		copy.T3 = this.T3;
+		copy.T4 = this.T4;
+		copy.T5 = this.T5;
+		copy.TE = this.TE;
+		copy.TE2 = this.TE2;
+		copy.TE3 = this.TE3;
+		copy.TE4 = this.TE4;
+		copy.TE5 = this.TE5;
+		copy.Tau = this.Tau;
+		copy.Tau2 = this.Tau2;
+		copy.Tau3 = this.Tau3;
+		copy.Tau4 = this.Tau4;
+		copy.Tau5 = this.Tau5;
+		copy.deltaT = this.deltaT;
+		copy.eps0 = this.eps0;
+		copy.eps = this.eps;
+		copy.delta_psi = this.delta_psi;
+		copy.delta_eps = this.delta_eps;
+		copy.Le = this.Le;
+		copy.Be = this.Be;
+		copy.Re = this.Re;
+		copy.kappa = this.kappa;
+		copy.pi0 = this.pi0;
+		copy.e = this.e;
+		copy.lambda_sun = this.lambda_sun;
+		copy.RAsun = this.RAsun;
+		copy.DECsun = this.DECsun;
+		copy.GHAsun = this.GHAsun;
+		copy.SDsun = this.SDsun;
+		copy.HPsun = this.HPsun;
+		copy.EoT = this.EoT;
+		copy.RAvenus = this.RAvenus;
+		copy.DECvenus = this.DECvenus;
+		copy.GHAvenus = this.GHAvenus;
+		copy.SDvenus = this.SDvenus;
+		copy.HPvenus = this.HPvenus;
+		copy.RAmars = this.RAmars;
+		copy.DECmars = this.DECmars;
+		copy.GHAmars = this.GHAmars;
+		copy.SDmars = this.SDmars;
+		copy.HPmars = this.HPmars;
+		copy.RAjupiter = this.RAjupiter;
+		copy.DECjupiter = this.DECjupiter;
+		copy.GHAjupiter = this.GHAjupiter;
+		copy.SDjupiter = this.SDjupiter;
+		copy.HPjupiter = this.HPjupiter;
+		copy.RAsaturn = this.RAsaturn;
+		copy.DECsaturn = this.DECsaturn;
+		copy.GHAsaturn = this.GHAsaturn;
+		copy.SDsaturn = this.SDsaturn;
+		copy.HPsaturn = this.HPsaturn;
+		copy.RAmoon = this.RAmoon;
+		copy.DECmoon = this.DECmoon;
+		copy.GHAmoon = this.GHAmoon;
+		copy.SDmoon = this.SDmoon;
+		copy.HPmoon = this.HPmoon;
+		copy.moonEoT = this.moonEoT;
+		copy.RApol = this.RApol;
+		copy.DECpol = this.DECpol;
+		copy.GHApol = this.GHApol;
+		copy.OoE = this.OoE;
+		copy.tOoE = this.tOoE;
+		copy.LDist = this.LDist;
+		copy.starMoonDist = this.starMoonDist;
+		copy.moonJupiterDist = this.moonJupiterDist;
+		copy.moonVenusDist = this.moonVenusDist;
+		copy.moonMarsDist = this.moonMarsDist;
+		copy.moonSaturnDist = this.moonSaturnDist;
+		copy.moonPhase = this.moonPhase;
+		copy.JD0h = this.JD0h;
+		copy.JDE = this.JDE;
+		copy.JD = this.JD;
+		copy.lambda = this.lambda;
+		copy.beta = this.beta;
+		copy.dES = this.dES;
+		copy.lambdaMapp = this.lambdaMapp;
+		copy.dayfraction = this.dayfraction;
+		copy.GHAAtrue = this.GHAAtrue;
+		copy.Lsun_mean = this.Lsun_mean;
+		copy.Lsun_true = this.Lsun_true;
+		copy.k_moon = this.k_moon;
+		copy.k_venus = this.k_venus;
+		copy.k_mars = this.k_mars;
+		copy.k_jupiter = this.k_jupiter;
+		copy.k_saturn = this.k_saturn;
+		copy.GHAstar = this.GHAstar;
+		copy.SHAstar = this.SHAstar;
+		copy.DECstar = this.DECstar;
+		return copy;
+	}
+
+	/**
+	 * @return a copy of the global {@link Context}
+	 */
+	public static AstroContext fromGlobal() {
+		AstroContext ctx = new AstroContext();
+		ctx.T = Context.T;
+		ctx.T2 = Context.T2;
+		ctx.T3 = Context.T3;
+		ctx.T4 = Context.T4;
+		ctx.T5 = Context.T5;
+		ctx.TE = Context.TE;
+		ctx.TE2 = Context.TE2;
+		ctx.TE3 = Context.TE3;
+		ctx.TE4 = Context.TE4;
+		ctx.TE5 = Context.TE5;
+		ctx.Tau = Context.Tau;
+		ctx.Tau2 = Context.Tau2;
+		ctx.Tau3 = Context.Tau3;
+		ctx.Tau4 = Context.Tau4;
+		ctx.Tau5 = Context.Tau5;
+		ctx.deltaT = Context.deltaT;
+		ctx.eps0 = Context.eps0;
+		ctx.eps = Context.eps;
+		ctx.delta_psi = Context.delta_psi;
+		ctx.delta_eps = Context.delta_eps;
+		ctx.Le = Context.Le;
+		ctx.Be = Context.Be;
+		ctx.Re = Context.Re;
+		ctx.kappa = Context.kappa;
+		ctx.pi0 = Context.pi0;
+		ctx.e = Context.e;
+		ctx.lambda_sun = Context.lambda_sun;
+		ctx.RAsun = Context.RAsun;
+		ctx.DECsun = Context.DECsun;
+		ctx.GHAsun = Context.GHAsun;
+		ctx.SDsun = Context.SDsun;
+		ctx.HPsun = Context.HPsun;
+		ctx.EoT = Context.EoT;
+		ctx.RAvenus = Context.RAvenus;
+		ctx.DECvenus = Context.DECvenus;
+		ctx.GHAvenus = Context.GHAvenus;
+		ctx.SDvenus = Context.SDvenus;
+		ctx.HPvenus = Context.HPvenus;
+		ctx.RAmars = Context.RAmars;
+		ctx.DECmars = Context.DECmars;
+		ctx.GHAmars = Context.GHAmars;
+		ctx.SDmars = Context.SDmars;
+		ctx.HPmars = Context.HPmars;
+		ctx.RAjupiter = Context.RAjupiter;
+		ctx.DECjupiter = Context.DECjupiter;
+		ctx.GHAjupiter = Context.GHAjupiter;
+		ctx.SDjupiter = Context.SDjupiter;
+		ctx.HPjupiter = Context.HPjupiter;
+		ctx.RAsaturn = Context.RAsaturn;
+		ctx.DECsaturn = Context.DECsaturn;
+		ctx.GHAsaturn = Context.GHAsaturn;
+		ctx.SDsaturn = Context.SDsaturn;
+		ctx.HPsaturn = Context.HPsaturn;
+		ctx.RAmoon = Context.RAmoon;
+		ctx.DECmoon = Context.DECmoon;
+		ctx.GHAmoon = Context.GHAmoon;
+		ctx.SDmoon = Context.SDmoon;
+		ctx.HPmoon = Context.HPmoon;
+		ctx.moonEoT = Context.moonEoT;
+		ctx.RApol = Context.RApol;
+		ctx.DECpol = Context.DECpol;
+		ctx.GHApol = Context.GHApol;
+		ctx.OoE = Context.OoE;
+		ctx.tOoE = Context.tOoE;
+		ctx.LDist = Context.LDist;
+		ctx.starMoonDist = Context.starMoonDist;
+		ctx.moonJupiterDist = Context.moonJupiterDist;
+		ctx.moonVenusDist = Context.moonVenusDist;
+		ctx.moonMarsDist = Context.moonMarsDist;
+		ctx.moonSaturnDist = Context.moonSaturnDist;
+		ctx.moonPhase = Context.moonPhase;
+		ctx.JD0h = Context.JD0h;
+		ctx.JDE = Context.JDE;
+		ctx.JD = Context.JD;
+		ctx.lambda = Context.lambda;
+		ctx.beta = Context.beta;
+		ctx.dES = Context.dES;
+		ctx.lambdaMapp = Context.lambdaMapp;
+		ctx.dayfraction = Context.dayfraction;
+		ctx.GHAAtrue = Context.GHAAtrue;
+		ctx.Lsun_mean = Context.Lsun_mean;
+		ctx.Lsun_true = Context.Lsun_true;
+		ctx.k_moon = Context.k_moon;
+		ctx.k_venus = Context.k_venus;
+		ctx.k_mars = Context.k_mars;
+		ctx.k_jupiter = Context.k_jupiter;
+		ctx.k_saturn = Context.k_saturn;
+		ctx.GHAstar = Context.GHAstar;
+		ctx.SHAstar = Context.SHAstar;
+		ctx.DECstar = Context.DECstar;
+		return ctx;
+	}
+
+	/**
+	 * Copies this state into the global {@link Context}, for the code still reading it.
+	 */
+	public void toGlobal() {
+		Context.T = this.T;
+		Context.T2 = this.T2;
+		Context.T3 = this.T3;
+		Context.T4 = this.T4;
+		Context.T5 = this.T5;
+		Context.TE = this.TE;
+		Context.TE2 = this.TE2;
+		Context.TE3 = this.TE3;
+		Context.TE4 = this.TE4;
+		Context.TE5 = this.TE5;
+		Context.Tau = this.Tau;
+		Context.Tau2 = this.Tau2;
+		Context.Tau3 = this.Tau3;
+		Context.Tau4 = this.Tau4;
+		Context.Tau5 = this.Tau5;
+		Context.deltaT = this.deltaT;
+		Context.eps0 = this.eps0;
+		Context.eps = this.eps;
+		Context.delta_psi = this.delta_psi;
+		Context.delta_eps = this.delta_eps;
+		Context.Le = this.Le;
+		Context.Be = this.Be;
+		Context.Re = this.Re;
+		Context.kappa = this.kappa;
+		Context.pi0 = this.pi0;
+		Context.e = this.e;
+		Context.lambda_sun = this.lambda_sun;
+		Context.RAsun = this.RAsun;
+		Context.DECsun = this.DECsun;
+		Context.GHAsun = this.GHAsun;
+		Context.SDsun = this.SDsun;
+		Context.HPsun = this.HPsun;
+		Context.EoT = this.EoT;
+		Context.RAvenus = this.RAvenus;
+		Context.DECvenus = this.DECvenus;
+		Context.GHAvenus = this.GHAvenus;
+		Context.SDvenus = this.SDvenus;
+		Context.HPvenus = this.HPvenus;
+		Context.RAmars = this.RAmars;
+		Context.DECmars = this.DECmars;
+		Context.GHAmars = this.GHAmars;
+		Context.SDmars = this.SDmars;
+		Context.HPmars = this.HPmars;
+		Context.RAjupiter = this.RAjupiter;
+		Context.DECjupiter = this.DECjupiter;
+		Context.GHAjupiter = this.GHAjupiter;
+		Context.SDjupiter = this.SDjupiter;
+		Context.HPjupiter = this.HPjupiter;
+		Context.RAsaturn = this.RAsaturn;
+		Context.DECsaturn = this.DECsaturn;
+		Context.GHAsaturn = this.GHAsaturn;
+		Context.SDsaturn = this.SDsaturn;
+		Context.HPsaturn = this.HPsaturn;
+		Context.RAmoon = this.RAmoon;
+		Context.DECmoon = this.DECmoon;
+		Context.GHAmoon = this.GHAmoon;
+		Context.SDmoon = this.SDmoon;
+		Context.HPmoon = this.HPmoon;
+		Context.moonEoT = this.moonEoT;
+		Context.RApol = this.RApol;
+		Context.DECpol = this.DECpol;
+		Context.GHApol = this.GHApol;
+		Context.OoE = this.OoE;
+		Context.tOoE = this.tOoE;
+		Context.LDist = this.LDist;
+		Context.starMoonDist = this.starMoonDist;
+		Context.moonJupiterDist = this.moonJupiterDist;
+		Context.moonVenusDist = this.moonVenusDist;
+		Context.moonMarsDist = this.moonMarsDist;
+		Context.moonSaturnDist = this.moonSaturnDist;
+		Context.moonPhase = this.moonPhase;
+		Context.JD0h = this.JD0h;
+		Context.JDE = this.JDE;
+		Context.JD = this.JD;
+		Context.lambda = this.lambda;
+		Context.beta = this.beta;
+		Context.dES = this.dES;
+		Context.lambdaMapp = this.lambdaMapp;
+		Context.dayfraction = this.dayfraction;
+		Context.GHAAtrue = this.GHAAtrue;
+		Context.Lsun_mean = this.Lsun_mean;
+		Context.Lsun_true = this.Lsun_true;
+		Context.k_moon = this.k_moon;
+		Context.k_venus = this.k_venus;
+		Context.k_mars = this.k_mars;
+		Context.k_jupiter = this.k_jupiter;
+		Context.k_saturn = this.k_saturn;
+		Context.GHAstar = this.GHAstar;
+		Context.SHAstar = this.SHAstar;
+		Context.DECstar = this.DECstar;
+	}
+}
@@ -11,9 +11,9 @@ public class Core {
 	 * @param deltaT
 	 * @return
 	 */
-	public static void julianDate(int year, int month, int day, int hour, int minute, float second, double deltaT) {
+	public static void julianDate(AstroContext ctx, int year, int month, int day, int hour, int minute, float second, double deltaT) {
 		//var year, month, day, hour, minute, second, Context.dayfraction, ly=0;
-		Context.dayfraction = ((double) hour + ((double) minute / 60D) + ((double) second / 3600D)) / 24D;
+		ctx.dayfraction = ((double) hour + ((double) minute / 60D) + ((double) second / 3600D)) / 24D;
 		// Calculating Julian date, century, and millennium
 		//Julian daContext.TE (UT1)
 		if (month <= 2) {
@@ -22,108 +22,135 @@ public class Core {
 		}
 		double A = Math.floor(year / 100D);
 		double B = 2 - A + Math.floor(A / 4D);
-		Context.JD0h = Math.floor(365.25 * (year + 4716D)) + Math.floor(30.6001 * (month + 1)) + day + B - 1524.5;
-		Context.JD = Context.JD0h + Context.dayfraction;
+		ctx.JD0h = Math.floor(365.25 * (year + 4716D)) + Math.floor(30.6001 * (month + 1)) + day + B - 1524.5;
+		ctx.JD = ctx.JD0h + ctx.dayfraction;
 
 		//Julian centuries (UT1) from 2000 January 0.5
-		Context.T = (Context.JD - 2451545D) / 36525D;
-		Context.T2 = Context.T * Context.T;
-		Context.T3 = Context.T * Context.T2;
-		Context.T4 = Context.T * Context.T3;
-		Context.T5 = Context.T * Context.T4;
+		ctx.T = (ctx.JD - 2451545D) / 36525D;
+		ctx.T2 = ctx.T * ctx.T;
+		ctx.T3 = ctx.T * ctx.T2;
+		ctx.T4 = ctx.T * ctx.T3;
+		ctx.T5 = ctx.T * ctx.T4;
 
 		//Julian ephemeris daContext.TE (TDT)
-		Context.JDE = Context.JD + deltaT / 86400D;
+		ctx.JDE = ctx.JD + deltaT / 86400D;
 
 		//Julian centuries (TDT) from 2000 January 0.5
-		Context.TE = (Context.JDE - 2451545D) / 36525D;
-		Context.TE2 = Context.TE * Context.TE;
-		Context.TE3 = Context.TE * Context.TE2;
-		Context.TE4 = Context.TE * Context.TE3;
-		Context.TE5 = Context.TE * Context.TE4;
+		ctx.TE = (ctx.JDE - 2451545D) / 36525D;
+		ctx.TE2 = ctx.TE * ctx.TE;
+		ctx.TE3 = ctx.TE * ctx.TE2;
+		ctx.TE4 = ctx.TE * ctx.TE3;
+		ctx.TE5 = ctx.TE * ctx.TE4;
 
 		//Julian millenniums (TDT) from 2000 January 0.5
-		Context.Tau = 0.1 * Context.TE;
-		Context.Tau2 = Context.Tau * Context.Tau;
-		Context.Tau3 = Context.Tau * Context.Tau2;
-		Context.Tau4 = Context.Tau * Context.Tau3;
-		Context.Tau5 = Context.Tau * Context.Tau4;
+		ctx.Tau = 0.1 * ctx.TE;
+		ctx.Tau2 = ctx.Tau * ctx.Tau;
+		ctx.Tau3 = ctx.Tau * ctx.Tau2;
+		ctx.Tau4 = ctx.Tau * ctx.Tau3;
+		ctx.Tau5 = ctx.Tau * ctx.Tau4;
+	}
+
+	/**
+	 * Same as {@link #julianDate(AstroContext, int, int, int, int, int, float, double)}, on the global {@link Context}.
+	 */
+	public static void julianDate(int year, int month, int day, int hour, int minute, float second, double deltaT) {
+		AstroContext ctx = AstroContext.fromGlobal();
+		julianDate(ctx, year, month, day, hour, minute, second, deltaT);
+		ctx.toGlobal();
 	}
 
 	//GHA Aries, GAST, GMST, equation of the equinoxes
 
-	public static void aries() {
+	public static void aries(AstroContext ctx) {
 		//Mean GHA Aries
-		double GHAAmean = Utils.trunc(280.46061837 + 360.98564736629 * (Context.JD - 2451545D) + 0.000387933 * Context.T2 - Context.T3 / 38710000D);
+		double GHAAmean = Utils.trunc(280.46061837 + 360.98564736629 * (ctx.JD - 2451545D) + 0.000387933 * ctx.T2 - ctx.T3 / 38710000D);
 
 		//GMST
 //  SidTm = OutSidTime(GHAAmean);
 
 		//True GHA Aries
-		Context.GHAAtrue = Utils.trunc(GHAAmean + Context.delta_psi * Utils.cosd(Context.eps));
+		ctx.GHAAtrue = Utils.trunc(GHAAmean + ctx.delta_psi * Utils.cosd(ctx.eps));
 
 		//GAST
 //  SidTa = OutSidTime(GHAAtrue);
 
 		//Equation of the equinoxes
-		double EoE = 240 * Context.delta_psi * Utils.cosd(Context.eps);
+		double EoE = 240 * ctx.delta_psi * Utils.cosd(ctx.eps);
 		String EoEout = Double.toString(Math.round(1000 * EoE) / 1000D);
 		EoEout = " " + EoEout + "s";
 	}
 
+	/**
+	 * Same as {@link #aries(AstroContext)}, on the global {@link Context}.
+	 */
+	public static void aries() {
+		AstroContext ctx = AstroContext.fromGlobal();
+		aries(ctx);
+		ctx.toGlobal();
+	}
+
 
 	//Calculations for the Sun
-	public static void sun() {
+	public static void sun(AstroContext ctx) {
 		//Mean longitude of the Sun
-		Context.Lsun_mean = Utils.trunc(280.4664567 + 360007.6982779 * Context.Tau + 0.03032028 * Context.Tau2 + Context.Tau3 / 49931D - Context.Tau4 / 15299D - Context.Tau5 / 1988000D);
+		ctx.Lsun_mean = Utils.trunc(280.4664567 + 360007.6982779 * ctx.Tau + 0.03032028 * ctx.Tau2 + ctx.Tau3 / 49931D - ctx.Tau4 / 15299D - ctx.Tau5 / 1988000D);
 
 		//Heliocentric longitude of the Earth
-		Context.Le = Earth.lEarth(Context.Tau);
+		ctx.Le = Earth.lEarth(ctx.Tau);
 
 		//Geocentric longitude of the Sun
-		Context.Lsun_true = Utils.trunc(Context.Le + 180 - 0.000025);
+		ctx.Lsun_true = Utils.trunc(ctx.Le + 180 - 0.000025);
 
 		//Heliocentric latitude of Earth
-		Context.Be = Earth.bEarth(Context.Tau);
+		ctx.Be = Earth.bEarth(ctx.Tau);
 
 		//Geocentric latitude of the Sun
-		Context.beta = Utils.trunc(-Context.Be);
+		ctx.beta = Utils.trunc(-ctx.Be);
 
 		//Corrections
-		double Lsun_prime = Utils.trunc(Context.Le + 180 - 1.397 * Context.TE - 0.00031 * Context.TE2);
+		double Lsun_prime = Utils.trunc(ctx.Le + 180 - 1.397 * ctx.TE - 0.00031 * ctx.TE2);
 
-		Context.beta = Context.beta + 0.000011 * (Utils.cosd(Lsun_prime) - Utils.sind(Lsun_prime));
+		ctx.beta = ctx.beta + 0.000011 * (Utils.cosd(Lsun_prime) - Utils.sind(Lsun_prime));
 
 		//Distance Earth-Sun
-		Context.Re = Earth.rEarth(Context.Tau);
-		Context.dES = 149597870.691 * Context.Re;
+		ctx.Re = Earth.rEarth(ctx.Tau);
+		ctx.dES = 149597870.691 * ctx.Re;
 
 		//Apparent longitude of the Sun
-		Context.lambda_sun = Utils.trunc(Context.Lsun_true + Context.delta_psi - 0.005691611 / Context.Re);
+		ctx.lambda_sun = Utils.trunc(ctx.Lsun_true + ctx.delta_psi - 0.005691611 / ctx.Re);
 
 		//Right ascension of the Sun, apparent
-		Context.RAsun = Math.toDegrees(Utils.trunc2(Math.atan2((Utils.sind(Context.lambda_sun) * Utils.cosd(Context.eps) - Utils.tand(Context.beta) * Utils.sind(Context.eps)), Utils.cosd(Context.lambda_sun))));
+		ctx.RAsun = Math.toDegrees(Utils.trunc2(Math.atan2((Utils.sind(ctx.lambda_sun) * Utils.cosd(ctx.eps) - Utils.tand(ctx.beta) * Utils.sind(ctx.eps)), Utils.cosd(ctx.lambda_sun))));
 
 		//Declination of the Sun, apparent
-		Context.DECsun = Math.toDegrees(Math.asin(Utils.sind(Context.beta) * Utils.cosd(Context.eps) + Utils.cosd(Context.beta) * Utils.sind(Context.eps) * Utils.sind(Context.lambda_sun)));
+		ctx.DECsun = Math.toDegrees(Math.asin(Utils.sind(ctx.beta) * Utils.cosd(ctx.eps) + Utils.cosd(ctx.beta) * Utils.sind(ctx.eps) * Utils.sind(ctx.lambda_sun)));
 
 		//GHA of the Sun
-		Context.GHAsun = Utils.trunc(Context.GHAAtrue - Context.RAsun);
+		ctx.GHAsun = Utils.trunc(ctx.GHAAtrue - ctx.RAsun);
 
 		//Semidiameter of the Sun
-		Context.SDsun = 959.63 / Context.Re;
+		ctx.SDsun = 959.63 / ctx.Re;
 
 		//Horizontal parallax of the Sun
-		Context.HPsun = 8.794 / Context.Re;
+		ctx.HPsun = 8.794 / ctx.Re;
 
 		//Equation of time
 		//EOT = 4*(Lsun_mean-0.0057183-0.0008-RAsun+delta_psi*cosd(eps));
-		Context.EoT = 4 * Context.GHAsun + 720 - 1440 * Context.dayfraction;
-		if (Context.EoT > 20) Context.EoT -= 1440;
-		if (Context.EoT < -20) Context.EoT += 1440;
+		ctx.EoT = 4 * ctx.GHAsun + 720 - 1440 * ctx.dayfraction;
+		if (ctx.EoT > 20) ctx.EoT -= 1440;
+		if (ctx.EoT < -20) ctx.EoT += 1440;
 	}
 
-	public static void polaris() {
+	/**
+	 * Same as {@link #sun(AstroContext)}, on the global {@link Context}.
+	 */
+	public static void sun() {
+		AstroContext ctx = AstroContext.fromGlobal();
+		sun(ctx);
+		ctx.toGlobal();
+	}
+
+	public static void polaris(AstroContext ctx) {
 		//Equatorial coordinates of Polaris at 2000.0 (mean equinox and equator 2000.0)
 		double RApol0 = 37.95293333;
 		double DECpol0 = 89.26408889;
@@ -133,8 +160,8 @@ public class Core {
 		double dDECpol = -0.0152 / 3600D;
 
 		//Equatorial coordinates at Julian DaContext.TE T (mean equinox and equator 2000.0)
-		double RApol1 = RApol0 + 100 * Context.TE * dRApol;
-		double DECpol1 = DECpol0 + 100 * Context.TE * dDECpol;
+		double RApol1 = RApol0 + 100 * ctx.TE * dRApol;
+		double DECpol1 = DECpol0 + 100 * ctx.TE * dDECpol;
 
 		//Mean obliquity of ecliptic at 2000.0 in degrees
 		// double eps0_2000 = 23.439291111;
@@ -144,9 +171,9 @@ public class Core {
 		double betapol1 = Math.asin(Utils.sind(DECpol1) * Utils.cosd(Context.EPS0_2000) - Utils.cosd(DECpol1) * Utils.sind(Context.EPS0_2000) * Utils.sind(RApol1));
 
 		//Precession
-		double eta = Math.toRadians(47.0029 * Context.TE - 0.03302 * Context.TE2 + 0.00006 * Context.TE3) / 3600D;
-		double PI0 = Math.toRadians(174.876384 - (869.8089 * Context.TE + 0.03536 * Context.TE2) / 3600D);
-		double p0 = Math.toRadians(5029.0966 * Context.TE + 1.11113 * Context.TE2 - 0.0000006 * Context.TE3) / 3600D;
+		double eta = Math.toRadians(47.0029 * ctx.TE - 0.03302 * ctx.TE2 + 0.00006 * ctx.TE3) / 3600D;
+		double PI0 = Math.toRadians(174.876384 - (869.8089 * ctx.TE + 0.03536 * ctx.TE2) / 3600D);
+		double p0 = Math.toRadians(5029.0966 * ctx.TE + 1.11113 * ctx.TE2 - 0.0000006 * ctx.TE3) / 3600D;
 		double A1 = Math.cos(eta) * Math.cos(betapol1) * Math.sin(PI0 - lambdapol1) - Math.sin(eta) * Math.sin(betapol1);
 		double B1 = Math.cos(betapol1) * Math.cos(PI0 - lambdapol1);
 		double C1 = Math.cos(eta) * Math.sin(betapol1) + Math.sin(eta) * Math.cos(betapol1) * Math.sin(PI0 - lambdapol1);
@@ -154,27 +181,36 @@ public class Core {
 		double betapol2 = Math.asin(C1);
 
 		//Nutation in longitude
-		lambdapol2 += Math.toRadians(Context.delta_psi);
+		lambdapol2 += Math.toRadians(ctx.delta_psi);
 
 		//Aberration
-		double dlambdapol = (Context.e * Context.kappa * Math.cos(Context.pi0 - lambdapol2) - Context.kappa * Math.cos(Math.toRadians(Context.Lsun_true) - lambdapol2)) / Math.cos(betapol2);
-		double dbetapol = -Context.kappa * Math.sin(betapol2) * (Math.sin(Math.toRadians(Context.Lsun_true) - lambdapol2) - Context.e * Math.sin(Context.pi0 - lambdapol2));
+		double dlambdapol = (ctx.e * ctx.kappa * Math.cos(ctx.pi0 - lambdapol2) - ctx.kappa * Math.cos(Math.toRadians(ctx.Lsun_true) - lambdapol2)) / Math.cos(betapol2);
+		double dbetapol = -ctx.kappa * Math.sin(betapol2) * (Math.sin(Math.toRadians(ctx.Lsun_true) - lambdapol2) - ctx.e * Math.sin(ctx.pi0 - lambdapol2));
 
 		lambdapol2 += dlambdapol;
 		betapol2 += dbetapol;
 
 		//Transformation back to equatorial coordinates in radians
-		double RApol2 = Math.atan2((Math.sin(lambdapol2) * Utils.cosd(Context.eps) - Math.tan(betapol2) * Utils.sind(Context.eps)), Math.cos(lambdapol2));
-		double DECpol2 = Math.asin(Math.sin(betapol2) * Utils.cosd(Context.eps) + Math.cos(betapol2) * Utils.sind(Context.eps) * Math.sin(lambdapol2));
+		double RApol2 = Math.atan2((Math.sin(lambdapol2) * Utils.cosd(ctx.eps) - Math.tan(betapol2) * Utils.sind(ctx.eps)), Math.cos(lambdapol2));
+		double DECpol2 = Math.asin(Math.sin(betapol2) * Utils.cosd(ctx.eps) + Math.cos(betapol2) * Utils.sind(ctx.eps) * Math.sin(lambdapol2));
 
 		//Finals
-		Context.GHApol = Context.GHAAtrue - Math.toDegrees(RApol2);
-		Context.GHApol = Utils.trunc(Context.GHApol);
-		Context.RApol = Math.toDegrees(RApol2);
-		Context.DECpol = Math.toDegrees(DECpol2);
+		ctx.GHApol = ctx.GHAAtrue - Math.toDegrees(RApol2);
+		ctx.GHApol = Utils.trunc(ctx.GHApol);
+		ctx.RApol = Math.toDegrees(RApol2);
+		ctx.DECpol = Math.toDegrees(DECpol2);
 	}
 
-	public static void starPos(String starName) {
+	/**
+	 * Same as {@link #polaris(AstroContext)}, on the global {@link Context}.
+	 */
+	public static void polaris() {
+		AstroContext ctx = AstroContext.fromGlobal();
+		polaris(ctx);
+		ctx.toGlobal();
+	}
+
+	public static void starPos(AstroContext ctx, String starName) {
 		Star star = Star.getStar(starName);
 		if (star != null) {
 			//Read catalog
@@ -185,8 +221,8 @@ public class Core {
 			double par = star.getPar() / 3600D;
 
 			//Equatorial coordinates at Julian Date T (mean equinox and equator 2000.0)
-			double RAstar1 = RAstar0 + Context.TE * dRAstar;
-			double DECstar1 = DECstar0 + Context.TE * dDECstar;
+			double RAstar1 = RAstar0 + ctx.TE * dRAstar;
+			double DECstar1 = DECstar0 + ctx.TE * dDECstar;
 
 			//Mean obliquity of ecliptic at 2000.0 in degrees
 //    double eps0_2000 = 23.439291111;
@@ -196,9 +232,9 @@ public class Core {
 			double betastar1 = Math.asin(Utils.sind(DECstar1) * Utils.cosd(Context.EPS0_2000) - Utils.cosd(DECstar1) * Utils.sind(Context.EPS0_2000) * Utils.sind(RAstar1));
 
 			//Precession
-			double eta = Math.toRadians(47.0029 * Context.TE - 0.03302 * Context.TE2 + 0.00006 * Context.TE3) / 3600D;
-			double PI0 = Math.toRadians(174.876384 - (869.8089 * Context.TE + 0.03536 * Context.TE2) / 3600D);
-			double p0 = Math.toRadians(5029.0966 * Context.TE + 1.11113 * Context.TE2 - 0.0000006 * Context.TE3) / 3600D;
+			double eta = Math.toRadians(47.0029 * ctx.TE - 0.03302 * ctx.TE2 + 0.00006 * ctx.TE3) / 3600D;
+			double PI0 = Math.toRadians(174.876384 - (869.8089 * ctx.TE + 0.03536 * ctx.TE2) / 3600D);
+			double p0 = Math.toRadians(5029.0966 * ctx.TE + 1.11113 * ctx.TE2 - 0.0000006 * ctx.TE3) / 3600D;
 			double A1 = Math.cos(eta) * Math.cos(betastar1) * Math.sin(PI0 - lambdastar1) - Math.sin(eta) * Math.sin(betastar1);
 			double B1 = Math.cos(betastar1) * Math.cos(PI0 - lambdastar1);
 			double C1 = Math.cos(eta) * Math.sin(betastar1) + Math.sin(eta) * Math.cos(betastar1) * Math.sin(PI0 - lambdastar1);
@@ -206,44 +242,53 @@ public class Core {
 			double betastar2 = Math.asin(C1);
 
 			//Annual parallax
-			double par_lambda = Math.toRadians(par * Math.sin(Math.toRadians(Context.Lsun_true) - lambdastar2) / Math.cos(betastar2));
-			double par_beta = -Math.toRadians(par * Math.sin(betastar2) * Math.cos(Math.toRadians(Context.Lsun_true) - lambdastar2));
+			double par_lambda = Math.toRadians(par * Math.sin(Math.toRadians(ctx.Lsun_true) - lambdastar2) / Math.cos(betastar2));
+			double par_beta = -Math.toRadians(par * Math.sin(betastar2) * Math.cos(Math.toRadians(ctx.Lsun_true) - lambdastar2));
 
 			lambdastar2 += par_lambda;
 			betastar2 += par_beta;
 
 			//Nutation in longitude
-			lambdastar2 += Math.toRadians(Context.delta_psi);
+			lambdastar2 += Math.toRadians(ctx.delta_psi);
 
 			//Aberration
 //    double kappa = Math.toRadians(20.49552) / 3600D;
-//    double pi0 = Math.toRadians(102.93735 + 1.71953 * Context.TE + 0.00046 * Context.TE2);
-//    double e = 0.016708617 - 0.000042037 * Context.TE - 0.0000001236 * Context.TE2;
+//    double pi0 = Math.toRadians(102.93735 + 1.71953 * ctx.TE + 0.00046 * ctx.TE2);
+//    double e = 0.016708617 - 0.000042037 * ctx.TE - 0.0000001236 * ctx.TE2;
 
-			double dlambdastar = (Context.e * Context.kappa * Math.cos(Context.pi0 - lambdastar2) - Context.kappa * Math.cos(Math.toRadians(Context.Lsun_true) - lambdastar2)) / Math.cos(betastar2);
-			double dbetastar = -Context.kappa * Math.sin(betastar2) * (Math.sin(Math.toRadians(Context.Lsun_true) - lambdastar2) - Context.e * Math.sin(Context.pi0 - lambdastar2));
+			double dlambdastar = (ctx.e * ctx.kappa * Math.cos(ctx.pi0 - lambdastar2) - ctx.kappa * Math.cos(Math.toRadians(ctx.Lsun_true) - lambdastar2)) / Math.cos(betastar2);
+			double dbetastar = -ctx.kappa * Math.sin(betastar2) * (Math.sin(Math.toRadians(ctx.Lsun_true) - lambdastar2) - ctx.e * Math.sin(ctx.pi0 - lambdastar2));
 
 			lambdastar2 += dlambdastar;
 			betastar2 += dbetastar;
 
 			//Transformation back to equatorial coordinates in radians
-			double RAstar2 = Math.atan2((Math.sin(lambdastar2) * Utils.cosd(Context.eps) - Math.tan(betastar2) * Utils.sind(Context.eps)), Math.cos(lambdastar2));
-			double DECstar2 = Math.asin(Math.sin(betastar2) * Utils.cosd(Context.eps) + Math.cos(betastar2) * Utils.sind(Context.eps) * Math.sin(lambdastar2));
+			double RAstar2 = Math.atan2((Math.sin(lambdastar2) * Utils.cosd(ctx.eps) - Math.tan(betastar2) * Utils.sind(ctx.eps)), Math.cos(lambdastar2));
+			double DECstar2 = Math.asin(Math.sin(betastar2) * Utils.cosd(ctx.eps) + Math.cos(betastar2) * Utils.sind(ctx.eps) * Math.sin(lambdastar2));
 
 			//Lunar distance of star
-			Context.starMoonDist = Math.toDegrees(Math.acos(Utils.sind(Context.DECmoon) * Math.sin(DECstar2) + Utils.cosd(Context.DECmoon) * Math.cos(DECstar2) * Utils.cosd(Context.RAmoon - Math.toDegrees(RAstar2))));
+			ctx.starMoonDist = Math.toDegrees(Math.acos(Utils.sind(ctx.DECmoon) * Math.sin(DECstar2) + Utils.cosd(ctx.DECmoon) * Math.cos(DECstar2) * Utils.cosd(ctx.RAmoon - Math.toDegrees(RAstar2))));
 
 			//Finals
-			Context.GHAstar = Utils.trunc(Context.GHAAtrue - Math.toDegrees(RAstar2));
-			Context.SHAstar = Utils.trunc(360 - Math.toDegrees(RAstar2));
-			Context.DECstar = Math.toDegrees(DECstar2);
+			ctx.GHAstar = Utils.trunc(ctx.GHAAtrue - Math.toDegrees(RAstar2));
+			ctx.SHAstar = Utils.trunc(360 - Math.toDegrees(RAstar2));
+			ctx.DECstar = Math.toDegrees(DECstar2);
 		} else
 			System.out.println(starName + " not found in the catalog...");
 	}
 
-	public static String moonPhase() {
+	/**
+	 * Same as {@link #starPos(AstroContext, String)}, on the global {@link Context}.
+	 */
+	public static void starPos(String starName) {
+		AstroContext ctx = AstroContext.fromGlobal();
+		starPos(ctx, starName);
+		ctx.toGlobal();
+	}
+
+	public static String moonPhase(AstroContext ctx) {
 		String quarter = "";
-		double x = Context.lambdaMapp - Context.lambda_sun;
+		double x = ctx.lambdaMapp - ctx.lambda_sun;
 		x = Utils.trunc(x);
 		x = Math.round(10 * x) / 10;
 		if (x == 0)
@@ -265,8 +310,22 @@ public class Core {
 		return quarter;
 	}
 
+	/**
+	 * Same as {@link #moonPhase(AstroContext)}, on the global {@link Context}.
+	 */
+	public static String moonPhase() {
+		return moonPhase(AstroContext.fromGlobal());
+	}
+
+	public static int weekDay(AstroContext ctx) {
+		return (int) ((ctx.JD0h + 1.5) - 7 * Math.floor((ctx.JD0h + 1.5) / 7));
+	}
+
+	/**
+	 * Same as {@link #weekDay(AstroContext)}, on the global {@link Context}.
+	 */
 	public static int weekDay() {
-		return (int) ((Context.JD0h + 1.5) - 7 * Math.floor((Context.JD0h + 1.5) / 7));
+		return weekDay(AstroContext.fromGlobal());
 	}
 
 	public static void main(String... args) {
@@ -1,3637 +1,114 @@
 package nauticalalmanac;
 
 public class Jupiter {
+	private final static VSOP87 SERIES = VSOP87.get("jupiter");
+
 	//Heliocentric longitude of Jupiter
 
 	private static double lJupiter(double x) {
-		double L0 = 0;
-		L0 += 0.59954691495;
-		L0 += 0.09695898711 * Utils.cost(5.06191793105 + 529.69096509460 * x);
-		L0 += 0.00573610145 * Utils.cost(1.44406205976 + 7.11354700080 * x);
-		L0 += 0.00306389180 * Utils.cost(5.41734729976 + 1059.38193018920 * x);
-		L0 += 0.00097178280 * Utils.cost(4.14264708819 + 632.78373931320 * x);
-		L0 += 0.00072903096 * Utils.cost(3.64042909255 + 522.57741809380 * x);
-		L0 += 0.00064263986 * Utils.cost(3.41145185203 + 103.09277421860 * x);
-		L0 += 0.00039806051 * Utils.cost(2.29376744855 + 419.48464387520 * x);
-		L0 += 0.00038857780 * Utils.cost(1.27231724860 + 316.39186965660 * x);
-		L0 += 0.00027964622 * Utils.cost(1.78454589485 + 536.80451209540 * x);
-		L0 += 0.00013589738 * Utils.cost(5.77481031590 + 1589.07289528380 * x);
-		L0 += 0.00008246362 * Utils.cost(3.58227961655 + 206.18554843720 * x);
-		L0 += 0.00008768686 * Utils.cost(3.63000324417 + 949.17560896980 * x);
-		L0 += 0.00007368057 * Utils.cost(5.08101125612 + 735.87651353180 * x);
-		L0 += 0.00006263171 * Utils.cost(0.02497643742 + 213.29909543800 * x);
-		L0 += 0.00006114050 * Utils.cost(4.51319531666 + 1162.47470440780 * x);
-		L0 += 0.00004905419 * Utils.cost(1.32084631684 + 110.20632121940 * x);
-		L0 += 0.00005305283 * Utils.cost(1.30671236848 + 14.22709400160 * x);
-		L0 += 0.00005305457 * Utils.cost(4.18625053495 + 1052.26838318840 * x);
-		L0 += 0.00004647249 * Utils.cost(4.69958109497 + 3.93215326310 * x);
-		L0 += 0.00003045009 * Utils.cost(4.31675960318 + 426.59819087600 * x);
-		L0 += 0.00002610001 * Utils.cost(1.56667594850 + 846.08283475120 * x);
-		L0 += 0.00002028191 * Utils.cost(1.06376547379 + 3.18139373770 * x);
-		L0 += 0.00001764768 * Utils.cost(2.14148077766 + 1066.49547719000 * x);
-		L0 += 0.00001722983 * Utils.cost(3.88036008872 + 1265.56747862640 * x);
-		L0 += 0.00001920959 * Utils.cost(0.97168928755 + 639.89728631400 * x);
-		L0 += 0.00001633217 * Utils.cost(3.58201089758 + 515.46387109300 * x);
-		L0 += 0.00001431997 * Utils.cost(4.29683690269 + 625.67019231240 * x);
-		L0 += 0.00000973278 * Utils.cost(4.09764957065 + 95.97922721780 * x);
-		L0 += 0.00000884439 * Utils.cost(2.43701426123 + 412.37109687440 * x);
-		L0 += 0.00000732875 * Utils.cost(6.08534113239 + 838.96928775040 * x);
-		L0 += 0.00000731072 * Utils.cost(3.80591233956 + 1581.95934828300 * x);
-		L0 += 0.00000691928 * Utils.cost(6.13368222939 + 2118.76386037840 * x);
-		L0 += 0.00000709190 * Utils.cost(1.29272573658 + 742.99006053260 * x);
-		L0 += 0.00000614464 * Utils.cost(4.10853496756 + 1478.86657406440 * x);
-		L0 += 0.00000495224 * Utils.cost(3.75567461379 + 323.50541665740 * x);
-		L0 += 0.00000581902 * Utils.cost(4.53967717552 + 309.27832265580 * x);
-		L0 += 0.00000375657 * Utils.cost(4.70299124833 + 1368.66025284500 * x);
-		L0 += 0.00000389864 * Utils.cost(4.89716105852 + 1692.16566950240 * x);
-		L0 += 0.00000341006 * Utils.cost(5.71452525783 + 533.62311835770 * x);
-		L0 += 0.00000330458 * Utils.cost(4.74049819491 + 0.04818410980 * x);
-		L0 += 0.00000440854 * Utils.cost(2.95818460943 + 454.90936652730 * x);
-		L0 += 0.00000417266 * Utils.cost(1.03554430161 + 2.44768055480 * x);
-		L0 += 0.00000244170 * Utils.cost(5.22020878900 + 728.76296653100 * x);
-		L0 += 0.00000261540 * Utils.cost(1.87652461032 + 0.96320784650 * x);
-		L0 += 0.00000256568 * Utils.cost(3.72410724159 + 199.07200143640 * x);
-		L0 += 0.00000261009 * Utils.cost(0.82047246448 + 380.12776796000 * x);
-		L0 += 0.00000220382 * Utils.cost(1.65115015995 + 543.91805909620 * x);
-		L0 += 0.00000201996 * Utils.cost(1.80684574186 + 1375.77379984580 * x);
-		L0 += 0.00000207327 * Utils.cost(1.85461666594 + 525.75881183150 * x);
-		L0 += 0.00000197046 * Utils.cost(5.29252149016 + 1155.36115740700 * x);
-		L0 += 0.00000235141 * Utils.cost(1.22693908124 + 909.81873305460 * x);
-		L0 += 0.00000174809 * Utils.cost(5.90973505276 + 956.28915597060 * x);
-		L0 += 0.00000149368 * Utils.cost(4.37745104275 + 1685.05212250160 * x);
-		L0 += 0.00000175184 * Utils.cost(3.22634903433 + 1898.35121793960 * x);
-		L0 += 0.00000175191 * Utils.cost(3.72966554761 + 942.06206196900 * x);
-		L0 += 0.00000157909 * Utils.cost(4.36483921766 + 1795.25844372100 * x);
-		L0 += 0.00000137871 * Utils.cost(1.31797920785 + 1169.58825140860 * x);
-		L0 += 0.00000117495 * Utils.cost(2.50022140890 + 1596.18644228460 * x);
-		L0 += 0.00000150502 * Utils.cost(3.90625022622 + 74.78159856730 * x);
-		L0 += 0.00000116757 * Utils.cost(3.38920921041 + 0.52126486180 * x);
-		L0 += 0.00000105895 * Utils.cost(4.55439798236 + 526.50957135690 * x);
-		L0 += 0.00000130531 * Utils.cost(4.16867945489 + 1045.15483618760 * x);
-		L0 += 0.00000141445 * Utils.cost(3.13568357861 + 491.55792945680 * x);
-		L0 += 0.00000099511 * Utils.cost(1.42117395747 + 532.87235883230 * x);
-		L0 += 0.00000096137 * Utils.cost(1.18156870005 + 117.31986822020 * x);
-		L0 += 0.00000091758 * Utils.cost(0.85756633461 + 1272.68102562720 * x);
-		L0 += 0.00000087695 * Utils.cost(1.21738140813 + 453.42489381900 * x);
-		L0 += 0.00000068507 * Utils.cost(2.35242959478 + 2.92076130680 * x);
-		L0 += 0.00000066098 * Utils.cost(5.34386149468 + 1471.75302706360 * x);
-		L0 += 0.00000077401 * Utils.cost(4.42676337124 + 39.35687591520 * x);
-		L0 += 0.00000072006 * Utils.cost(4.23834923691 + 2111.65031337760 * x);
-		L0 += 0.00000063406 * Utils.cost(4.97665525033 + 0.75075952540 * x);
-		L0 += 0.00000059427 * Utils.cost(4.11130498612 + 2001.44399215820 * x);
-		L0 += 0.00000062481 * Utils.cost(0.51211384012 + 220.41264243880 * x);
-		L0 += 0.00000066532 * Utils.cost(2.98864358135 + 2214.74308759620 * x);
-		L0 += 0.00000060194 * Utils.cost(4.12628179571 + 4.19278569400 * x);
-		L0 += 0.00000056012 * Utils.cost(1.15493222602 + 21.34064100240 * x);
-		L0 += 0.00000052854 * Utils.cost(0.91207215543 + 10.29494073850 * x);
-		L0 += 0.00000070297 * Utils.cost(5.14180555282 + 835.03713448730 * x);
-		L0 += 0.00000051916 * Utils.cost(4.10048180020 + 1258.45393162560 * x);
-		L0 += 0.00000046442 * Utils.cost(4.66531163524 + 5.62907429250 * x);
-		L0 += 0.00000058190 * Utils.cost(5.86646380344 + 5753.38488489680 * x);
-		L0 += 0.00000040103 * Utils.cost(4.68801114087 + 0.16005869440 * x);
-		L0 += 0.00000046654 * Utils.cost(4.79394835282 + 305.34616939270 * x);
-		L0 += 0.00000039298 * Utils.cost(4.25448423697 + 853.19638175200 * x);
-		L0 += 0.00000046042 * Utils.cost(5.10983515150 + 4.66586644600 * x);
-		L0 += 0.00000054459 * Utils.cost(1.57072704127 + 983.11585891360 * x);
-		L0 += 0.00000038920 * Utils.cost(6.07592905580 + 518.64526483070 * x);
-		L0 += 0.00000038450 * Utils.cost(2.43836870888 + 433.71173787680 * x);
-		L0 += 0.00000046800 * Utils.cost(3.54640538283 + 5.41662597140 * x);
-		L0 += 0.00000041830 * Utils.cost(4.67982493646 + 302.16477565500 * x);
-		L0 += 0.00000035920 * Utils.cost(2.45088036239 + 430.53034413910 * x);
-		L0 += 0.00000037888 * Utils.cost(0.21127448431 + 2648.45482547300 * x);
-		L0 += 0.00000039190 * Utils.cost(1.71835571629 + 11.04570026390 * x);
-		L0 += 0.00000037567 * Utils.cost(6.19481310233 + 831.85574074960 * x);
-		L0 += 0.00000035828 * Utils.cost(4.61459907698 + 2008.55753915900 * x);
-		L0 += 0.00000043402 * Utils.cost(0.14992289081 + 528.20649238630 * x);
-		L0 += 0.00000031598 * Utils.cost(5.14073450755 + 1788.14489672020 * x);
-		L0 += 0.00000029849 * Utils.cost(5.34441117167 + 2221.85663459700 * x);
-		L0 += 0.00000032811 * Utils.cost(5.28907118836 + 88.86568021700 * x);
-		L0 += 0.00000027686 * Utils.cost(1.85227036207 + 0.21244832110 * x);
-		L0 += 0.00000025820 * Utils.cost(3.85920882494 + 2317.83586181480 * x);
-		L0 += 0.00000024705 * Utils.cost(2.63495214991 + 114.13847448250 * x);
-		L0 += 0.00000033844 * Utils.cost(1.00563073268 + 9683.59458111640 * x);
-		L0 += 0.00000024266 * Utils.cost(3.82355417268 + 1574.84580128220 * x);
-		L0 += 0.00000027111 * Utils.cost(2.80845435102 + 18.15924726470 * x);
-		L0 += 0.00000026837 * Utils.cost(1.77586123775 + 532.13864564940 * x);
-		L0 += 0.00000026064 * Utils.cost(2.74361318804 + 2531.13495725280 * x);
-		L0 += 0.00000030765 * Utils.cost(0.42330537728 + 1.48447270830 * x);
-		L0 += 0.00000030476 * Utils.cost(3.66677894407 + 508.35032409220 * x);
-		L0 += 0.00000023282 * Utils.cost(3.24372142416 + 984.60033162190 * x);
-		L0 += 0.00000019445 * Utils.cost(0.52370214471 + 14.97785352700 * x);
-		L0 += 0.00000019332 * Utils.cost(4.86314494382 + 1361.54670584420 * x);
-		L0 += 0.00000022910 * Utils.cost(3.84914895064 + 2428.04218303420 * x);
-		L0 += 0.00000021617 * Utils.cost(6.01696940024 + 1063.31408345230 * x);
-		L0 += 0.00000020155 * Utils.cost(5.59582008789 + 527.24328453980 * x);
-		L0 += 0.00000023732 * Utils.cost(2.52766031921 + 494.26624244250 * x);
-		L0 += 0.00000020189 * Utils.cost(1.01560227681 + 628.85158605010 * x);
-		L0 += 0.00000015994 * Utils.cost(5.09003530653 + 529.73914920440 * x);
-		L0 += 0.00000016134 * Utils.cost(5.27095037302 + 142.44965013380 * x);
-		L0 += 0.00000020697 * Utils.cost(4.03443281612 + 355.74874557180 * x);
-		L0 += 0.00000021479 * Utils.cost(1.28668134295 + 35.42472265210 * x);
-		L0 += 0.00000014964 * Utils.cost(4.86039684390 + 2104.53676637680 * x);
-		L0 += 0.00000017242 * Utils.cost(1.59187913206 + 1439.50969814920 * x);
-		L0 += 0.00000015994 * Utils.cost(1.89222417794 + 529.64278098480 * x);
-		L0 += 0.00000017958 * Utils.cost(4.30178016003 + 6.15033915430 * x);
-		L0 += 0.00000013279 * Utils.cost(2.18943981644 + 1055.44977692610 * x);
-		L0 += 0.00000014148 * Utils.cost(2.71597731671 + 0.26063243090 * x);
-		L0 += 0.00000014689 * Utils.cost(0.87944553412 + 99.16062095550 * x);
-		L0 += 0.00000014202 * Utils.cost(2.41335693735 + 530.65417294110 * x);
-		L0 += 0.00000015320 * Utils.cost(6.07703092728 + 149.56319713460 * x);
-		L0 += 0.00000015832 * Utils.cost(4.11682440678 + 636.71589257630 * x);
-		L0 += 0.00000012398 * Utils.cost(2.61042299578 + 405.25754987360 * x);
-		L0 += 0.00000016199 * Utils.cost(2.77035044582 + 760.25553592000 * x);
-		L0 += 0.00000013665 * Utils.cost(3.56039678310 + 217.23124870110 * x);
-		L0 += 0.00000015261 * Utils.cost(2.81824770887 + 621.73803904930 * x);
-		L0 += 0.00000014681 * Utils.cost(6.26423732742 + 569.04784100980 * x);
-		L0 += 0.00000012529 * Utils.cost(1.39077179081 + 7.06536289100 * x);
-		L0 += 0.00000011677 * Utils.cost(3.60447374272 + 2634.22773147140 * x);
-		L0 += 0.00000011603 * Utils.cost(4.60461756191 + 7.16173111060 * x);
-		L0 += 0.00000012152 * Utils.cost(0.24540531919 + 1485.98012106520 * x);
-		L0 += 0.00000011347 * Utils.cost(2.00818458261 + 1073.60902419080 * x);
-		L0 += 0.00000011242 * Utils.cost(2.48000947870 + 423.41679713830 * x);
-		L0 += 0.00000010942 * Utils.cost(5.03602448252 + 458.84151979040 * x);
-		L0 += 0.00000011117 * Utils.cost(4.04973271023 + 519.39602435610 * x);
-		L0 += 0.00000012256 * Utils.cost(4.30153222783 + 604.47256366190 * x);
-		L0 += 0.00000013149 * Utils.cost(2.72189077702 + 1364.72809958190 * x);
-		L0 += 0.00000010604 * Utils.cost(3.11518747072 + 1.27202438720 * x);
-		L0 += 0.00000009874 * Utils.cost(1.70200068743 + 1699.27921650320 * x);
-		L0 += 0.00000010851 * Utils.cost(5.08554552028 + 2324.94940881560 * x);
-		L0 += 0.00000010692 * Utils.cost(2.51401681528 + 2847.52682690940 * x);
-		L0 += 0.00000012640 * Utils.cost(4.75572797691 + 528.72775724810 * x);
-		L0 += 0.00000010084 * Utils.cost(4.05599810206 + 38.13303563780 * x);
-		L0 += 0.00000011536 * Utils.cost(2.35034215745 + 643.82943957710 * x);
-		L0 += 0.00000010247 * Utils.cost(3.63479911496 + 2744.43405269080 * x);
-		L0 += 0.00000010105 * Utils.cost(3.65845333837 + 107.02492748170 * x);
-		L0 += 0.00000010121 * Utils.cost(1.31482648275 + 1905.46476494040 * x);
-		L0 += 0.00000009341 * Utils.cost(5.92176693887 + 1148.24761040620 * x);
-		L0 += 0.00000008796 * Utils.cost(2.77421822809 + 6.59228213900 * x);
-		L0 += 0.00000008420 * Utils.cost(4.52537756809 + 1677.93857550080 * x);
-		L0 += 0.00000010128 * Utils.cost(2.09034472544 + 511.53171782990 * x);
-		L0 += 0.00000008272 * Utils.cost(2.98682673354 + 540.73666535850 * x);
-		L0 += 0.00000009753 * Utils.cost(1.22438911827 + 32.24332891440 * x);
-		L0 += 0.00000010630 * Utils.cost(2.07777800288 + 92.04707395470 * x);
-		L0 += 0.00000007850 * Utils.cost(0.98996894618 + 408.43894361130 * x);
-		L0 += 0.00000008811 * Utils.cost(3.46911754939 + 1021.24889455140 * x);
-		L0 += 0.00000007946 * Utils.cost(2.86682926070 + 2125.87740737920 * x);
-		L0 += 0.00000008575 * Utils.cost(5.29590411702 + 415.55249061210 * x);
-		L0 += 0.00000007841 * Utils.cost(6.08025056721 + 70.84944530420 * x);
-		L0 += 0.00000007706 * Utils.cost(1.69832954219 + 8.07675484730 * x);
-		L0 += 0.00000007265 * Utils.cost(4.65503563919 + 629.60234557550 * x);
-		L0 += 0.00000007164 * Utils.cost(4.93400217968 + 1056.20053645150 * x);
-		L0 += 0.00000007247 * Utils.cost(4.61607677560 + 2420.92863603340 * x);
-		L0 += 0.00000007753 * Utils.cost(2.12871653382 + 33.94024994380 * x);
-		L0 += 0.00000006645 * Utils.cost(0.45647460873 + 635.96513305090 * x);
-		L0 += 0.00000009377 * Utils.cost(4.03158388202 + 2810.92146160520 * x);
-		L0 += 0.00000008263 * Utils.cost(1.23558676139 + 1802.37199072180 * x);
-		L0 += 0.00000006341 * Utils.cost(0.07278001580 + 202.25339517410 * x);
-		L0 += 0.00000006383 * Utils.cost(3.54310669809 + 1891.23767093880 * x);
-		L0 += 0.00000007902 * Utils.cost(2.32510002614 + 230.56457082540 * x);
-		L0 += 0.00000006214 * Utils.cost(4.54560345237 + 2.70831298570 * x);
-		L0 += 0.00000007347 * Utils.cost(1.24457237337 + 24.37902238820 * x);
-		L0 += 0.00000007451 * Utils.cost(3.02719199239 + 330.61896365820 * x);
-		L0 += 0.00000006220 * Utils.cost(1.77687561489 + 1062.56332392690 * x);
-		L0 += 0.00000005674 * Utils.cost(5.14132196367 + 746.92221379570 * x);
-		L0 += 0.00000005855 * Utils.cost(5.42130172896 + 28.31117565130 * x);
-		L0 += 0.00000005629 * Utils.cost(3.24348217277 + 529.16970023280 * x);
-		L0 += 0.00000007652 * Utils.cost(0.52813391052 + 672.14061522840 * x);
-		L0 += 0.00000005456 * Utils.cost(3.34716871364 + 2950.61960112800 * x);
-		L0 += 0.00000007127 * Utils.cost(1.43497795005 + 6.21977512350 * x);
-		L0 += 0.00000005388 * Utils.cost(4.90175095580 + 69.15252427480 * x);
-		L0 += 0.00000005618 * Utils.cost(4.97903783721 + 2641.34127847220 * x);
-		L0 += 0.00000005844 * Utils.cost(2.95364118152 + 490.33408917940 * x);
-		L0 += 0.00000004943 * Utils.cost(5.37597740579 + 721.64941953020 * x);
-		L0 += 0.00000005062 * Utils.cost(4.84282906467 + 31.01948863700 * x);
-		L0 += 0.00000005163 * Utils.cost(5.07410777073 + 67.66805156650 * x);
-		L0 += 0.00000004739 * Utils.cost(6.10248862834 + 106.27416795630 * x);
-		L0 += 0.00000004879 * Utils.cost(0.07095292379 + 78.71375183040 * x);
-		L0 += 0.00000004854 * Utils.cost(5.63875661096 + 1.69692102940 * x);
-		L0 += 0.00000005629 * Utils.cost(3.73871604865 + 530.21222995640 * x);
-		L0 += 0.00000004471 * Utils.cost(4.49152882547 + 505.31194270640 * x);
-		L0 += 0.00000004313 * Utils.cost(4.79369370451 + 535.10759106600 * x);
-		L0 += 0.00000004280 * Utils.cost(0.54783823710 + 1.43628859850 * x);
-		L0 += 0.00000004453 * Utils.cost(0.50551854591 + 524.06189080210 * x);
-		L0 += 0.00000004936 * Utils.cost(4.82992988255 + 422.66603761290 * x);
-		L0 += 0.00000004701 * Utils.cost(3.41634869046 + 3060.82592234740 * x);
-		L0 += 0.00000004261 * Utils.cost(2.67044686458 + 561.93429400900 * x);
-		L0 += 0.00000004156 * Utils.cost(4.00660658688 + 99.91138048090 * x);
-		L0 += 0.00000004561 * Utils.cost(2.29650164054 + 3163.91869656600 * x);
-		L0 += 0.00000004414 * Utils.cost(5.67224020329 + 1464.63948006280 * x);
-		L0 += 0.00000005345 * Utils.cost(0.31513851830 + 1289.94650101460 * x);
-		L0 += 0.00000005269 * Utils.cost(3.89116469022 + 191.95845443560 * x);
-		L0 += 0.00000003855 * Utils.cost(4.28942301453 + 1994.33044515740 * x);
-		L0 += 0.00000004210 * Utils.cost(5.32763589447 + 2538.24850425360 * x);
-		L0 += 0.00000003949 * Utils.cost(4.56507101172 + 1382.88734684660 * x);
-		L0 += 0.00000003885 * Utils.cost(1.56778786810 + 647.01083331480 * x);
-		L0 += 0.00000004227 * Utils.cost(5.51697599030 + 5223.69391980220 * x);
-		L0 += 0.00000004129 * Utils.cost(2.81119457666 + 416.30325013750 * x);
-		L0 += 0.00000003663 * Utils.cost(4.35187510477 + 2737.32050569000 * x);
-		L0 += 0.00000003566 * Utils.cost(5.48243943375 + 750.10360753340 * x);
-		L0 += 0.00000004330 * Utils.cost(0.84941756640 + 531.17543780290 * x);
-		L0 += 0.00000004093 * Utils.cost(0.19980340452 + 525.02509864860 * x);
-		L0 += 0.00000004022 * Utils.cost(1.92293311337 + 1512.80682400820 * x);
-		L0 += 0.00000003400 * Utils.cost(6.00302355875 + 1.22384027740 * x);
-		L0 += 0.00000003496 * Utils.cost(0.31252921473 + 597.35901666110 * x);
-		L0 += 0.00000003299 * Utils.cost(4.27596694481 + 526.77020378780 * x);
-		L0 += 0.00000003226 * Utils.cost(2.90455264496 + 963.40270297140 * x);
-		L0 += 0.00000003150 * Utils.cost(3.81061764181 + 280.96714700450 * x);
-		L0 += 0.00000004129 * Utils.cost(4.74946631331 + 0.89377187730 * x);
-		L0 += 0.00000003840 * Utils.cost(1.91064405186 + 378.64329525170 * x);
-		L0 += 0.00000003057 * Utils.cost(1.65589659685 + 528.94020556920 * x);
-		L0 += 0.00000003011 * Utils.cost(1.59276337369 + 224.34479570190 * x);
-		L0 += 0.00000003196 * Utils.cost(5.86588452873 + 4.14460158420 * x);
-		L0 += 0.00000003628 * Utils.cost(0.07930225897 + 558.00214074590 * x);
-		L0 += 0.00000002932 * Utils.cost(0.41424445089 + 7.86430652620 * x);
-		L0 += 0.00000003316 * Utils.cost(2.70211697795 + 532.61172640140 * x);
-		L0 += 0.00000002925 * Utils.cost(4.47580363425 + 533.88375078860 * x);
-		L0 += 0.00000003690 * Utils.cost(0.39897023849 + 685.47393735270 * x);
-		L0 += 0.00000003223 * Utils.cost(2.45833032883 + 960.22130923370 * x);
-		L0 += 0.00000003059 * Utils.cost(5.32616140812 + 530.44172462000 * x);
-		L0 += 0.00000003383 * Utils.cost(4.42170370028 + 312.45971639350 * x);
-		L0 += 0.00000003320 * Utils.cost(2.71417812514 + 495.75071515080 * x);
-		L0 += 0.00000002697 * Utils.cost(5.23146633437 + 739.80866679490 * x);
-		L0 += 0.00000003590 * Utils.cost(2.30999595873 + 908.33426034630 * x);
-		L0 += 0.00000003677 * Utils.cost(5.07337955976 + 73.29712585900 * x);
-		L0 += 0.00000002618 * Utils.cost(3.09118499149 + 3267.01147078460 * x);
-		L0 += 0.00000002796 * Utils.cost(2.98942316119 + 483.22054217860 * x);
-		L0 += 0.00000003398 * Utils.cost(3.29598270278 + 911.30320576290 * x);
-		L0 += 0.00000003352 * Utils.cost(1.44391979336 + 593.42686339800 * x);
-		L0 += 0.00000002563 * Utils.cost(3.35080110279 + 2207.62954059540 * x);
-		L0 += 0.00000002553 * Utils.cost(0.36892288645 + 1048.33622992530 * x);
-		L0 += 0.00000002620 * Utils.cost(3.82769874340 + 520.12973753900 * x);
-		L0 += 0.00000003356 * Utils.cost(1.08315053878 + 46.47042291600 * x);
-		L0 += 0.00000003035 * Utils.cost(5.52230028113 + 618.55664531160 * x);
-		L0 += 0.00000003397 * Utils.cost(3.83084746522 + 210.11770170030 * x);
-		L0 += 0.00000002497 * Utils.cost(0.47917884538 + 945.24345570670 * x);
-		L0 += 0.00000002341 * Utils.cost(5.87941292649 + 2751.54759969160 * x);
-		L0 += 0.00000002656 * Utils.cost(0.49713061045 + 1057.89745748090 * x);
-		L0 += 0.00000002581 * Utils.cost(0.03759881914 + 1.64453140270 * x);
-		L0 += 0.00000002900 * Utils.cost(2.50019054587 + 525.49817940060 * x);
-		L0 += 0.00000003153 * Utils.cost(2.30900986177 + 457.61767951300 * x);
-		L0 += 0.00000002201 * Utils.cost(3.94367109739 + 31.49256938900 * x);
-		L0 += 0.00000002381 * Utils.cost(6.19252134885 + 327.43756992050 * x);
-		L0 += 0.00000002458 * Utils.cost(0.65614291954 + 9153.90361602180 * x);
-		L0 += 0.00000002111 * Utils.cost(5.61905648764 + 16.46232623530 * x);
-		L0 += 0.00000002130 * Utils.cost(3.75880734109 + 724.83081326790 * x);
-		L0 += 0.00000002406 * Utils.cost(2.29315649755 + 195.13984817330 * x);
-		L0 += 0.00000002166 * Utils.cost(5.43262641046 + 534.35683154060 * x);
-		L0 += 0.00000002057 * Utils.cost(1.49875151278 + 551.03160609700 * x);
-		L0 += 0.00000002676 * Utils.cost(5.06374981112 + 456.39383923560 * x);
-		L0 += 0.00000002078 * Utils.cost(5.28920097886 + 76.26607127560 * x);
-		L0 += 0.00000002261 * Utils.cost(5.38117230692 + 1781.03134971940 * x);
-		L0 += 0.00000002356 * Utils.cost(0.67392574097 + 227.52618943960 * x);
-		L0 += 0.00000002240 * Utils.cost(3.18006978517 + 3377.21779200400 * x);
-		L0 += 0.00000002183 * Utils.cost(3.08384250950 + 524.27433912320 * x);
-		L0 += 0.00000002119 * Utils.cost(2.70107659927 + 387.24131496080 * x);
-		L0 += 0.00000002056 * Utils.cost(4.82779196994 + 2957.73314812880 * x);
-		L0 += 0.00000002116 * Utils.cost(6.20263841494 + 209.36694217490 * x);
-		L0 += 0.00000002712 * Utils.cost(3.18157754631 + 1474.67378837040 * x);
-		L0 += 0.00000002127 * Utils.cost(1.24424012514 + 539.98590583310 * x);
-		L0 += 0.00000002424 * Utils.cost(3.57595925853 + 953.10776223290 * x);
-		L0 += 0.00000001947 * Utils.cost(1.94468082546 + 529.53090640020 * x);
-		L0 += 0.00000001896 * Utils.cost(4.01406242800 + 2310.72231481400 * x);
-		L0 += 0.00000001935 * Utils.cost(4.10051493950 + 3053.71237534660 * x);
-		L0 += 0.00000002056 * Utils.cost(6.27074148550 + 245.54242435240 * x);
-		L0 += 0.00000002108 * Utils.cost(3.22886474225 + 252.65597135320 * x);
-		L0 += 0.00000002596 * Utils.cost(2.77467278614 + 177.87437278590 * x);
-		L0 += 0.00000001919 * Utils.cost(3.14834694111 + 381.61224066830 * x);
-		L0 += 0.00000002217 * Utils.cost(1.92368906925 + 535.91074021810 * x);
-		L0 += 0.00000001947 * Utils.cost(5.03751780002 + 529.85102378900 * x);
-		L0 += 0.00000002025 * Utils.cost(4.82814272957 + 17.26547538740 * x);
-		L0 += 0.00000001945 * Utils.cost(2.10611582568 + 3480.31056622260 * x);
-		L0 += 0.00000001899 * Utils.cost(0.05104263891 + 560.71045373160 * x);
-		L0 += 0.00000002221 * Utils.cost(0.58365090630 + 3178.14579056760 * x);
-		L0 += 0.00000002271 * Utils.cost(1.67360565619 + 731.94436026870 * x);
-		L0 += 0.00000001706 * Utils.cost(5.40277333462 + 20.44686912510 * x);
-		L0 += 0.00000002295 * Utils.cost(4.20863103004 + 1038.04128918680 * x);
-		L0 += 0.00000002218 * Utils.cost(3.65982280555 + 282.45161971280 * x);
-		L0 += 0.00000002181 * Utils.cost(4.87369503022 + 535.32003938710 * x);
-		L0 += 0.00000001745 * Utils.cost(1.34021867874 + 25.12978191360 * x);
-		L0 += 0.00000001601 * Utils.cost(3.92730015840 + 17.52610781830 * x);
-		L0 += 0.00000001651 * Utils.cost(0.63598292839 + 17.40848773930 * x);
-		L0 += 0.00000001826 * Utils.cost(0.31592311031 + 124.43341522100 * x);
-		L0 += 0.00000002041 * Utils.cost(0.15617294873 + 598.84348936940 * x);
-		L0 += 0.00000001494 * Utils.cost(3.81418025130 + 319.57326339430 * x);
-		L0 += 0.00000001551 * Utils.cost(5.25201528605 + 437.64389113990 * x);
-		L0 += 0.00000001852 * Utils.cost(2.36130812462 + 37.87240320690 * x);
-		L0 += 0.00000001466 * Utils.cost(1.72926380881 + 59.80374504030 * x);
-		L0 += 0.00000001417 * Utils.cost(5.82273267086 + 81.75213321620 * x);
-		L0 += 0.00000001430 * Utils.cost(1.17528806260 + 440.82528487760 * x);
-		L0 += 0.00000001906 * Utils.cost(4.06896022692 + 1819.63746610920 * x);
-		L0 += 0.00000001397 * Utils.cost(0.26383366743 + 50.40257617910 * x);
-		L0 += 0.00000001756 * Utils.cost(2.32977483716 + 938.12990870590 * x);
-		L0 += 0.00000001487 * Utils.cost(2.24866746540 + 10.03430830760 * x);
-		L0 += 0.00000001368 * Utils.cost(3.56691602771 + 1514.29129671650 * x);
-		L0 += 0.00000001400 * Utils.cost(4.84502200703 + 295.05122865420 * x);
-		L0 += 0.00000001344 * Utils.cost(2.20177702122 + 529.90341341570 * x);
-		L0 += 0.00000001464 * Utils.cost(1.42648716568 + 1158.54255114470 * x);
-		L0 += 0.00000001341 * Utils.cost(1.15693423225 + 2435.15573003500 * x);
-		L0 += 0.00000001786 * Utils.cost(5.44716330146 + 2854.64037391020 * x);
-		L0 += 0.00000001677 * Utils.cost(6.22875777048 + 833.55266177900 * x);
-		L0 += 0.00000001471 * Utils.cost(4.80574535807 + 696.51963761660 * x);
-		L0 += 0.00000001436 * Utils.cost(1.45810957330 + 537.76771994190 * x);
-		L0 += 0.00000001657 * Utils.cost(0.02890651793 + 138.51749687070 * x);
-		L0 += 0.00000001300 * Utils.cost(3.14074420421 + 547.85021235930 * x);
-		L0 += 0.00000001343 * Utils.cost(6.14827138025 + 988.53248488500 * x);
-		L0 += 0.00000001344 * Utils.cost(4.78042160426 + 529.47851677350 * x);
-		L0 += 0.00000001234 * Utils.cost(2.83294330979 + 3583.40334044120 * x);
-		L0 += 0.00000001651 * Utils.cost(2.12056447005 + 1061.82961074400 * x);
-		L0 += 0.00000001479 * Utils.cost(0.24646493075 + 1593.00504854690 * x);
-		L0 += 0.00000001413 * Utils.cost(3.07444632745 + 6283.07584999140 * x);
-		L0 += 0.00000001246 * Utils.cost(5.94882321661 + 1056.93424963440 * x);
-		L0 += 0.00000001225 * Utils.cost(1.95642397635 + 1969.20066324380 * x);
-		L0 += 0.00000001388 * Utils.cost(2.87749576073 + 1023.95720753710 * x);
-		L0 += 0.00000001263 * Utils.cost(3.46181945031 + 40.84134862350 * x);
-		L0 += 0.00000001325 * Utils.cost(4.15429781246 + 916.93228005540 * x);
-		L0 += 0.00000001477 * Utils.cost(5.26691818477 + 810.65811209910 * x);
-		L0 += 0.00000001165 * Utils.cost(4.65528125418 + 944.98282327580 * x);
-		L0 += 0.00000001137 * Utils.cost(2.48561382158 + 2.00573757010 * x);
-		L0 += 0.00000001118 * Utils.cost(3.80747957482 + 7.00167241620 * x);
-		L0 += 0.00000001138 * Utils.cost(5.11611532241 + 885.43971066640 * x);
-		L0 += 0.00000001131 * Utils.cost(1.54599459004 + 775.23338944700 * x);
-		L0 += 0.00000001477 * Utils.cost(4.69742954455 + 630.33605875840 * x);
-		L0 += 0.00000001252 * Utils.cost(1.34316620527 + 739.05790726950 * x);
-		L0 += 0.00000001273 * Utils.cost(5.19070939905 + 2097.42321937600 * x);
-		L0 += 0.00000001446 * Utils.cost(5.54999644374 + 43.28902917830 * x);
-		L0 += 0.00000001344 * Utils.cost(4.75897665313 + 1166.40685767090 * x);
-		L0 += 0.00000001101 * Utils.cost(4.56997613488 + 3274.12501778540 * x);
-		L0 += 0.00000001376 * Utils.cost(3.60998729004 + 415.29185818120 * x);
-		L0 += 0.00000001437 * Utils.cost(6.22410093972 + 155.78297225810 * x);
-		L0 += 0.00000001167 * Utils.cost(4.09497264272 + 203.00415469950 * x);
-		L0 += 0.00000001237 * Utils.cost(4.41132627005 + 292.01284726840 * x);
-		L0 += 0.00000001077 * Utils.cost(2.57045229823 + 25.27279426550 * x);
-		L0 += 0.00000001341 * Utils.cost(0.49262296655 + 635.23141986800 * x);
-		L0 += 0.00000001209 * Utils.cost(3.36289125536 + 521.61421024730 * x);
-		L0 += 0.00000001030 * Utils.cost(1.81822316284 + 465.95506679120 * x);
-		L0 += 0.00000001002 * Utils.cost(3.21720955284 + 2524.02141025200 * x);
-		L0 += 0.00000001338 * Utils.cost(1.26054917773 + 902.70518605380 * x);
-		L0 += 0.00000001037 * Utils.cost(3.87858871885 + 3370.10424500320 * x);
-		L0 += 0.00000001224 * Utils.cost(0.09219976028 + 824.74219374880 * x);
-		L0 += 0.00000001255 * Utils.cost(3.04675952762 + 447.79581952650 * x);
-		L0 += 0.00000000991 * Utils.cost(4.16587903812 + 632.83192342300 * x);
-		L0 += 0.00000000975 * Utils.cost(3.80216680539 + 2627.11418447060 * x);
-		L0 += 0.00000001061 * Utils.cost(5.60184374277 + 732.69511979410 * x);
-		L0 += 0.00000001049 * Utils.cost(2.94931080683 + 3693.60966166060 * x);
-		L0 += 0.00000000984 * Utils.cost(0.98260254313 + 632.73555520340 * x);
-		L0 += 0.00000001050 * Utils.cost(2.20935815967 + 7.22542158540 * x);
-		L0 += 0.00000000996 * Utils.cost(5.41921062583 + 1059.43011429900 * x);
-		L0 += 0.00000000961 * Utils.cost(0.87315283361 + 544.66881862160 * x);
-		L0 += 0.00000001175 * Utils.cost(3.09093466406 + 1894.41906467650 * x);
-		L0 += 0.00000001049 * Utils.cost(5.81616384906 + 26.82670294300 * x);
-		L0 += 0.00000001161 * Utils.cost(0.01274801567 + 850.01498801430 * x);
-		L0 += 0.00000001109 * Utils.cost(3.63294273717 + 306.83064210100 * x);
-		L0 += 0.00000001077 * Utils.cost(0.95716576092 + 608.40471692500 * x);
-		L0 += 0.00000001288 * Utils.cost(4.23019288942 + 1215.16490244730 * x);
-		L0 += 0.00000001060 * Utils.cost(3.85856787901 + 631.82053146670 * x);
-		L0 += 0.00000001251 * Utils.cost(6.15889818604 + 462.02291352810 * x);
-		L0 += 0.00000001165 * Utils.cost(3.50653563773 + 8.59801970910 * x);
-		L0 += 0.00000000933 * Utils.cost(4.62559759882 + 1049.08698945070 * x);
-		L0 += 0.00000001035 * Utils.cost(1.30805283339 + 633.74694715970 * x);
-		L0 += 0.00000001238 * Utils.cost(2.21195391602 + 25558.21217647960 * x);
-		L0 += 0.00000001240 * Utils.cost(2.27960685992 + 6.90109867970 * x);
-		L0 += 0.00000000942 * Utils.cost(4.14526324371 + 945.99421523210 * x);
-		L0 += 0.00000000927 * Utils.cost(6.10893117637 + 514.71311156760 * x);
-		L0 += 0.00000000914 * Utils.cost(6.17656044376 + 952.35700270750 * x);
-		L0 += 0.00000000893 * Utils.cost(4.27448748055 + 0.63313944640 * x);
-		L0 += 0.00000001045 * Utils.cost(1.64682770236 + 565.11568774670 * x);
-		L0 += 0.00000000903 * Utils.cost(1.94250156640 + 3796.70243587920 * x);
-		L0 += 0.00000001162 * Utils.cost(5.51229668479 + 2.96894541660 * x);
-		L0 += 0.00000000901 * Utils.cost(3.03568112112 + 460.53844081980 * x);
-		L0 += 0.00000000903 * Utils.cost(2.24012822393 + 523.54062594030 * x);
-		L0 += 0.00000001060 * Utils.cost(5.28027224466 + 3171.03224356680 * x);
-		L0 += 0.00000001064 * Utils.cost(0.99330150801 + 320.32402291970 * x);
-		L0 += 0.00000000970 * Utils.cost(4.56607888439 + 429.04587143080 * x);
-		L0 += 0.00000001071 * Utils.cost(4.33203090957 + 610.69233878540 * x);
-		L0 += 0.00000000865 * Utils.cost(0.21831429230 + 1098.73880610440 * x);
-		L0 += 0.00000000865 * Utils.cost(2.82123742108 + 1060.34513803570 * x);
-		L0 += 0.00000000882 * Utils.cost(4.80076824948 + 384.05992122310 * x);
-		L0 += 0.00000000959 * Utils.cost(5.45468005818 + 451.94042111070 * x);
-		L0 += 0.00000001042 * Utils.cost(5.79270325150 + 303.86169668440 * x);
-		L0 += 0.00000000784 * Utils.cost(1.85150700827 + 313.21047591890 * x);
-		L0 += 0.00000001083 * Utils.cost(1.40526460812 + 72.07328558160 * x);
-		L0 += 0.00000000782 * Utils.cost(3.03559242565 + 5.84152261360 * x);
-		L0 += 0.00000000854 * Utils.cost(1.22236205478 + 611.44309831080 * x);
-		L0 += 0.00000000996 * Utils.cost(2.22139794743 + 1059.33374607940 * x);
-		L0 += 0.00000000719 * Utils.cost(4.92550252164 + 421.93232443000 * x);
-		L0 += 0.00000000953 * Utils.cost(3.98347050083 + 836.52160719560 * x);
-		L0 += 0.00000000822 * Utils.cost(4.49679856387 + 10213.28554621100 * x);
-		L0 += 0.00000000707 * Utils.cost(2.16473400319 + 2228.97018159780 * x);
-		L0 += 0.00000000715 * Utils.cost(4.62515255534 + 385.54439393140 * x);
-		L0 += 0.00000000737 * Utils.cost(4.63776694324 + 1134.16352875650 * x);
-		L0 += 0.00000000730 * Utils.cost(1.87179326186 + 153.49535039770 * x);
-		L0 += 0.00000000709 * Utils.cost(2.93132115910 + 417.03696332040 * x);
-		L0 += 0.00000000926 * Utils.cost(1.77006317007 + 2332.06295581640 * x);
-		L0 += 0.00000000864 * Utils.cost(3.03246275970 + 1041.22268292450 * x);
-		L0 += 0.00000000708 * Utils.cost(6.01601101389 + 395.10562148700 * x);
-		L0 += 0.00000000935 * Utils.cost(6.01864676296 + 173.94221952280 * x);
-		L0 += 0.00000000695 * Utils.cost(1.39408383356 + 432.01481684740 * x);
-		L0 += 0.00000000687 * Utils.cost(3.06548397586 + 529.95159752550 * x);
-		L0 += 0.00000000677 * Utils.cost(3.58357527210 + 244.31858407500 * x);
-		L0 += 0.00000000850 * Utils.cost(5.46114025921 + 41.05379694460 * x);
-		L0 += 0.00000000817 * Utils.cost(4.65315342412 + 535.84130424890 * x);
-		L0 += 0.00000000652 * Utils.cost(0.44173759183 + 1201.83158032300 * x);
-		L0 += 0.00000000711 * Utils.cost(0.96283289310 + 373.01422095920 * x);
-		L0 += 0.00000000665 * Utils.cost(1.03244633471 + 623.22251175760 * x);
-		L0 += 0.00000000643 * Utils.cost(5.05335060049 + 522.62560220360 * x);
-		L0 += 0.00000000639 * Utils.cost(4.22718483639 + 25.86349509650 * x);
-		L0 += 0.00000000718 * Utils.cost(5.07576900710 + 1058.41872234270 * x);
-		L0 += 0.00000000664 * Utils.cost(2.43728454444 + 1585.14074202070 * x);
-		L0 += 0.00000000833 * Utils.cost(1.49468440213 + 563.63121503840 * x);
-		L0 += 0.00000000760 * Utils.cost(4.34849823663 + 100.64509366380 * x);
-		L0 += 0.00000000633 * Utils.cost(4.31796718640 + 3590.51688744200 * x);
-		L0 += 0.00000000629 * Utils.cost(6.23431126402 + 679.25416222920 * x);
-		L0 += 0.00000000617 * Utils.cost(2.68075016456 + 3899.79521009780 * x);
-		L0 += 0.00000000646 * Utils.cost(2.88581188015 + 13.49338081870 * x);
-		L0 += 0.00000000768 * Utils.cost(3.18498076120 + 1151.42900414390 * x);
-		L0 += 0.00000000731 * Utils.cost(5.86653168561 + 501.37978944330 * x);
-		L0 += 0.00000000652 * Utils.cost(0.82865771780 + 2015.67108615980 * x);
-		L0 += 0.00000000796 * Utils.cost(5.36663489938 + 420.96911658350 * x);
-		L0 += 0.00000000647 * Utils.cost(4.74965662438 + 567.82400073240 * x);
-		L0 += 0.00000000845 * Utils.cost(1.69406147722 + 1744.85586754190 * x);
-		L0 += 0.00000000802 * Utils.cost(5.79824707751 + 981.63138620530 * x);
-		L0 += 0.00000000764 * Utils.cost(5.05232933368 + 827.92358748650 * x);
-		L0 += 0.00000000604 * Utils.cost(5.11265182908 + 1159.29331067010 * x);
-		L0 += 0.00000000682 * Utils.cost(3.68248136835 + 2281.23049651060 * x);
-		L0 += 0.00000000740 * Utils.cost(0.74512356954 + 1261.63532536330 * x);
-		L0 += 0.00000000666 * Utils.cost(2.06624389616 + 27.08733537390 * x);
-		L0 += 0.00000000652 * Utils.cost(4.92932795958 + 2413.81508903260 * x);
-		L0 += 0.00000000559 * Utils.cost(0.17558868481 + 63.73589830340 * x);
-		L0 += 0.00000000577 * Utils.cost(3.82752312276 + 1550.93985964600 * x);
-		L0 += 0.00000000727 * Utils.cost(1.05835550856 + 490.07345674850 * x);
-		L0 += 0.00000000574 * Utils.cost(3.61492119092 + 3686.49611465980 * x);
-		L0 += 0.00000000732 * Utils.cost(5.93179840659 + 42.53826965290 * x);
-		L0 += 0.00000000606 * Utils.cost(2.71411884300 + 1173.52040467170 * x);
-		L0 += 0.00000000633 * Utils.cost(4.21720828607 + 166.82867252200 * x);
-		L0 += 0.00000000687 * Utils.cost(3.91671464962 + 529.43033266370 * x);
-		L0 += 0.00000000570 * Utils.cost(2.73551750122 + 4010.00153131720 * x);
-		L0 += 0.00000000552 * Utils.cost(2.36967119362 + 1603.29998928540 * x);
-		L0 += 0.00000000600 * Utils.cost(1.82659364395 + 522.52923398400 * x);
-		L0 += 0.00000000558 * Utils.cost(5.09099246601 + 1354.43315884340 * x);
-		L0 += 0.00000000519 * Utils.cost(6.11952999304 + 366.79444583570 * x);
-		L0 += 0.00000000719 * Utils.cost(0.85722557905 + 362.86229257260 * x);
-		L0 += 0.00000000518 * Utils.cost(2.03954064144 + 418.52143602870 * x);
-		L0 += 0.00000000515 * Utils.cost(3.51750445111 + 528.41894070740 * x);
-		L0 += 0.00000000515 * Utils.cost(3.47930063838 + 103.14095832840 * x);
-		L0 += 0.00000000550 * Utils.cost(5.77676837730 + 420.44785172170 * x);
-		L0 += 0.00000000702 * Utils.cost(3.67952126446 + 1279.79457262800 * x);
-		L0 += 0.00000000550 * Utils.cost(0.61451088395 + 104.05598206510 * x);
-		L0 += 0.00000000495 * Utils.cost(2.41738205536 + 179.35884549420 * x);
-		L0 += 0.00000000513 * Utils.cost(0.29823688044 + 103.04459010880 * x);
-		L0 += 0.00000000537 * Utils.cost(5.47946238724 + 771.30123618390 * x);
-		L0 += 0.00000000507 * Utils.cost(3.08777345288 + 1357.61455258110 * x);
-		L0 += 0.00000000495 * Utils.cost(4.95362659160 + 536.85269620520 * x);
-		L0 += 0.00000000681 * Utils.cost(4.56294416261 + 112.65400177420 * x);
-		L0 += 0.00000000500 * Utils.cost(3.15631977489 + 1070.42763045310 * x);
-		L0 += 0.00000000484 * Utils.cost(0.79038835602 + 28.45418800320 * x);
-		L0 += 0.00000000529 * Utils.cost(5.46978501034 + 419.43645976540 * x);
-		L0 += 0.00000000597 * Utils.cost(4.98058295172 + 1251.34038462480 * x);
-		L0 += 0.00000000492 * Utils.cost(3.96066546484 + 1269.49963188950 * x);
-		L0 += 0.00000000482 * Utils.cost(3.60167662490 + 2943.50605412720 * x);
-		L0 += 0.00000000630 * Utils.cost(6.16496640092 + 105.54045477340 * x);
-		L0 += 0.00000000480 * Utils.cost(0.86786400621 + 35.21227433100 * x);
-		L0 += 0.00000000516 * Utils.cost(5.97528782923 + 3067.93946934820 * x);
-		L0 += 0.00000000586 * Utils.cost(5.48467997697 + 56.62235130260 * x);
-		L0 += 0.00000000502 * Utils.cost(1.43671788959 + 469.88722005430 * x);
-		L0 += 0.00000000473 * Utils.cost(2.28007170041 + 2042.49778910280 * x);
-		L0 += 0.00000000565 * Utils.cost(1.90952569252 + 107.28555991260 * x);
-		L0 += 0.00000000452 * Utils.cost(3.13938145287 + 934.94851496820 * x);
-		L0 += 0.00000000605 * Utils.cost(1.65413715574 + 761.74000862830 * x);
-		L0 += 0.00000000443 * Utils.cost(5.46282223686 + 135.33610313300 * x);
-		L0 += 0.00000000580 * Utils.cost(2.06327501551 + 493.04240216510 * x);
-		L0 += 0.00000000540 * Utils.cost(1.73777995970 + 536.75632798560 * x);
-		L0 += 0.00000000432 * Utils.cost(0.27167052107 + 93.53154666300 * x);
-		L0 += 0.00000000515 * Utils.cost(3.46469417437 + 530.96298948180 * x);
-		L0 += 0.00000000440 * Utils.cost(5.28884782489 + 497.44763618020 * x);
-		L0 += 0.00000000487 * Utils.cost(5.78767525063 + 12036.46073488820 * x);
-		L0 += 0.00000000452 * Utils.cost(2.57855172248 + 1254.52177836250 * x);
-		L0 += 0.00000000427 * Utils.cost(3.21032629463 + 2840.41327990860 * x);
-		L0 += 0.00000000414 * Utils.cost(1.54298025443 + 115.62294719080 * x);
-		L0 += 0.00000000424 * Utils.cost(0.12699448931 + 1268.74887236410 * x);
-		L0 += 0.00000000411 * Utils.cost(3.12424023238 + 536.28324723360 * x);
-		L0 += 0.00000000452 * Utils.cost(1.00194596383 + 113.38771495710 * x);
-		L0 += 0.00000000419 * Utils.cost(0.81834479225 + 1165.65609814550 * x);
-		L0 += 0.00000000490 * Utils.cost(4.72785081986 + 277.03499374140 * x);
-		L0 += 0.00000000434 * Utils.cost(0.36146539146 + 1304.92435454160 * x);
-		L0 += 0.00000000401 * Utils.cost(5.70326543719 + 1127.04998175570 * x);
-		L0 += 0.00000000461 * Utils.cost(3.26462894820 + 102.12956637210 * x);
-		L0 += 0.00000000533 * Utils.cost(2.54951615753 + 141.22580985640 * x);
-		L0 += 0.00000000413 * Utils.cost(4.38801694479 + 6151.53388830500 * x);
-		L0 += 0.00000000415 * Utils.cost(1.68861617902 + 391.17346822390 * x);
-		L0 += 0.00000000385 * Utils.cost(1.69092319074 + 4113.09430553580 * x);
-		L0 += 0.00000000450 * Utils.cost(5.49339192735 + 602.98809095360 * x);
-		L0 += 0.00000000499 * Utils.cost(3.80738617353 + 81.00137369080 * x);
-		L0 += 0.00000000454 * Utils.cost(0.10952919733 + 600.54041039880 * x);
-		L0 += 0.00000000377 * Utils.cost(6.25375060718 + 913.75088631770 * x);
-		L0 += 0.00000000453 * Utils.cost(3.86104865567 + 758.77106321170 * x);
-		L0 += 0.00000000401 * Utils.cost(4.44475618337 + 990.22940591440 * x);
-		L0 += 0.00000000407 * Utils.cost(5.13442416563 + 3487.42411322340 * x);
-		L0 += 0.00000000435 * Utils.cost(3.76103358490 + 523.09868295560 * x);
-		L0 += 0.00000000425 * Utils.cost(3.22287851959 + 2655.56837247380 * x);
-		L0 += 0.00000000365 * Utils.cost(5.16456645463 + 4694.00295470760 * x);
-		L0 += 0.00000000454 * Utils.cost(1.63325197950 + 976.00231191280 * x);
-		L0 += 0.00000000406 * Utils.cost(2.72102389267 + 1438.02522544090 * x);
-		L0 += 0.00000000349 * Utils.cost(3.59598366422 + 1058.86066532740 * x);
-		L0 += 0.00000000354 * Utils.cost(0.62136331420 + 498.67147645760 * x);
-		L0 += 0.00000000383 * Utils.cost(5.09229089574 + 539.25219265020 * x);
-		L0 += 0.00000000380 * Utils.cost(3.92653231573 + 561.18353448360 * x);
-		L0 += 0.00000000339 * Utils.cost(4.12175871949 + 3906.90875709860 * x);
-		L0 += 0.00000000458 * Utils.cost(3.42556794767 + 121.25202148330 * x);
-		L0 += 0.00000000427 * Utils.cost(3.61285264910 + 860.30992875280 * x);
-		L0 += 0.00000000424 * Utils.cost(4.72757252331 + 1366.21257229020 * x);
-		L0 += 0.00000000328 * Utils.cost(4.55286002816 + 1696.09782276550 * x);
-		L0 += 0.00000000324 * Utils.cost(4.23685005210 + 642.34496686880 * x);
-		L0 += 0.00000000395 * Utils.cost(3.26282558955 + 484.44438245600 * x);
-		L0 += 0.00000000330 * Utils.cost(6.05223507989 + 215.74677599280 * x);
-		L0 += 0.00000000318 * Utils.cost(2.02072800070 + 2964.84669512960 * x);
-		L0 += 0.00000000417 * Utils.cost(0.20173093597 + 842.90144101350 * x);
-		L0 += 0.00000000408 * Utils.cost(0.45800247268 + 1578.02719501990 * x);
-		L0 += 0.00000000342 * Utils.cost(6.15347077985 + 1371.84164658270 * x);
-		L0 += 0.00000000310 * Utils.cost(1.97259286255 + 754.03576079650 * x);
-		L0 += 0.00000000340 * Utils.cost(2.77813018312 + 3.52311834900 * x);
-		L0 += 0.00000000333 * Utils.cost(2.91352254678 + 576.16138801060 * x);
-		L0 += 0.00000000324 * Utils.cost(0.32544817254 + 586.31331639720 * x);
-		L0 += 0.00000000302 * Utils.cost(2.08708848849 + 526.98265210890 * x);
-		L0 += 0.00000000363 * Utils.cost(4.70567113230 + 2730.20695868920 * x);
-		L0 += 0.00000000300 * Utils.cost(0.94464473068 + 1432.39615114840 * x);
-		L0 += 0.00000000352 * Utils.cost(5.75013621801 + 806.72595883600D * x);
-		L0 += 0.00000000296 * Utils.cost(3.97807312133 + 2043.98226181110 * x);
-		L0 += 0.00000000295 * Utils.cost(2.35257797599 + 4216.18707975440 * x);
-		L0 += 0.00000000309 * Utils.cost(2.49768755925 + 4326.39340097380 * x);
-		L0 += 0.00000000306 * Utils.cost(3.35876843257 + 2424.11002977110 * x);
-		L0 += 0.00000000300 * Utils.cost(4.94288858368 + 1379.70595310890 * x);
-		L0 += 0.00000000336 * Utils.cost(4.49193455535 + 1585.89150154610 * x);
-		L0 += 0.00000000402 * Utils.cost(2.04684001796 + 842.15068148810 * x);
-		L0 += 0.00000000312 * Utils.cost(4.59043534747 + 188.92007304980 * x);
-		L0 += 0.00000000346 * Utils.cost(5.19792097706 + 523.47118997110 * x);
-		L0 += 0.00000000380 * Utils.cost(1.67961600066 + 36.64856292950 * x);
-		L0 += 0.00000000338 * Utils.cost(1.32014513725 + 148.07872442630 * x);
-		L0 += 0.00000000391 * Utils.cost(4.82224015188 + 1012.91150727320 * x);
-		L0 += 0.00000000285 * Utils.cost(3.43655052437 + 1053.96530421780 * x);
-		L0 += 0.00000000332 * Utils.cost(2.02575636311 + 1091.62525910360 * x);
-		L0 += 0.00000000282 * Utils.cost(5.78865321890 + 1064.04779663520 * x);
-		L0 += 0.00000000282 * Utils.cost(0.39153852422 + 207.67002114550 * x);
-		L0 += 0.00000000280 * Utils.cost(3.80196391678 + 298.23262239190 * x);
-		L0 += 0.00000000387 * Utils.cost(6.26819309990 + 1141.13406340540 * x);
-		L0 += 0.00000000349 * Utils.cost(4.09121908199 + 1059.90319505100 * x);
-		L0 += 0.00000000320 * Utils.cost(0.39871942000 + 2122.69601364150 * x);
-		L0 += 0.00000000327 * Utils.cost(4.76503823073 + 134.58534360760 * x);
-		L0 += 0.00000000283 * Utils.cost(3.90409016441 + 127.47179660680 * x);
-		L0 += 0.00000000301 * Utils.cost(4.30291951219 + 299.12639426920 * x);
-		L0 += 0.00000000322 * Utils.cost(2.48251052680 + 1065.60170531270 * x);
-		L0 += 0.00000000297 * Utils.cost(2.40814103509 + 1591.52057583860 * x);
-		L0 += 0.00000000286 * Utils.cost(5.85849626574 + 172.24529849340 * x);
-		L0 += 0.00000000285 * Utils.cost(4.55845472479 + 1446.62324515000 * x);
-		L0 += 0.00000000270 * Utils.cost(4.08342186112 + 1578.77795454530 * x);
-		L0 += 0.00000000362 * Utils.cost(1.06148806683 + 181.80652604900 * x);
-		L0 += 0.00000000335 * Utils.cost(4.51094500655 + 2349.32843120380 * x);
-		L0 += 0.00000000347 * Utils.cost(0.62281394535 + 1542.60247236780 * x);
-		L0 += 0.00000000275 * Utils.cost(3.38473403113 + 4002.88798431640 * x);
-		L0 += 0.00000000255 * Utils.cost(1.52357936497 + 1688.23351623930 * x);
-		L0 += 0.00000000276 * Utils.cost(4.32192160071 + 1912.57831194120 * x);
-		L0 += 0.00000000253 * Utils.cost(2.40482338279 + 97.67614824720 * x);
-		L0 += 0.00000000248 * Utils.cost(4.45058246237 + 1688.98427576470 * x);
-		L0 += 0.00000000300 * Utils.cost(3.07435583442 + 1902.28337120270 * x);
-		L0 += 0.00000000257 * Utils.cost(4.79180478086 + 1670.82502850000 * x);
-		L0 += 0.00000000319 * Utils.cost(1.34244222683 + 1288.46202830630 * x);
-		L0 += 0.00000000245 * Utils.cost(4.01852686769 + 1567.73225428140 * x);
-		L0 += 0.00000000278 * Utils.cost(0.25406312148 + 874.39401040250 * x);
-		L0 += 0.00000000324 * Utils.cost(5.57824969423 + 1670.07426897460 * x);
-		L0 += 0.00000000300 * Utils.cost(4.67161812947 + 1329.30337692980 * x);
-		L0 += 0.00000000241 * Utils.cost(0.01789818312 + 1586.62521472900 * x);
-		L0 += 0.00000000295 * Utils.cost(5.86996114913 + 2804.23779773110 * x);
-		L0 += 0.00000000317 * Utils.cost(3.17967272487 + 1020.02505427400 * x);
-		L0 += 0.00000000238 * Utils.cost(4.97765946754 + 351.81659230870 * x);
-		L0 += 0.00000000302 * Utils.cost(1.20236375616 + 232.04904353370 * x);
-		L0 += 0.00000000301 * Utils.cost(5.53432687957 + 2274.54683263650 * x);
-		L0 += 0.00000000286 * Utils.cost(2.41008592059 + 2545.36205125440 * x);
-		L0 += 0.00000000294 * Utils.cost(2.01783542485 + 313.94418910180 * x);
-		L0 += 0.00000000292 * Utils.cost(2.12690999284 + 1592.25428902150 * x);
-		L0 += 0.00000000250 * Utils.cost(2.31712163679 + 632.26247445140 * x);
-		L0 += 0.00000000238 * Utils.cost(5.06557054569 + 3803.81598288000 * x);
-		L0 += 0.00000000226 * Utils.cost(0.05916712753 + 1518.22344997960 * x);
-		L0 += 0.00000000235 * Utils.cost(0.16574304942 + 137.03302416240 * x);
-		L0 += 0.00000000298 * Utils.cost(2.99720233431 + 1467.82087380050 * x);
-		L0 += 0.00000000286 * Utils.cost(5.08357076653 + 774.00954916960 * x);
-		L0 += 0.00000000246 * Utils.cost(2.81685822336 + 633.30500417500 * x);
-		L0 += 0.00000000269 * Utils.cost(4.93023426152 + 151.04766984290 * x);
-		L0 += 0.00000000228 * Utils.cost(6.13118739321 + 3281.23856478620 * x);
-		L0 += 0.00000000228 * Utils.cost(1.22066024988 + 700.45179087970 * x);
-		L0 += 0.00000000239 * Utils.cost(0.71695698501 + 1276.61317889030 * x);
-		L0 += 0.00000000289 * Utils.cost(6.08263862565 + 3384.33133900480 * x);
-		L0 += 0.00000000218 * Utils.cost(2.90308501961 + 85.82729883120 * x);
-		L0 += 0.00000000283 * Utils.cost(6.28058228271 + 71.81265315070 * x);
-		L0 += 0.00000000271 * Utils.cost(6.01605074549 + 170.76082578510 * x);
-		L0 += 0.00000000221 * Utils.cost(0.99914179141 + 1053.75285589670 * x);
-		L0 += 0.00000000218 * Utils.cost(1.50681393471 + 1087.69310584050 * x);
-		L0 += 0.00000000223 * Utils.cost(3.39126063354 + 3259.89792378380 * x);
-		L0 += 0.00000000229 * Utils.cost(1.19373202707 + 1060.86640289750 * x);
-		L0 += 0.00000000264 * Utils.cost(3.93467945263 + 1363.24362687360 * x);
-		L0 += 0.00000000228 * Utils.cost(5.04188376116 + 1064.79855616060 * x);
-		L0 += 0.00000000295 * Utils.cost(2.15253086390 + 6386.16862421000 * x);
-		L0 += 0.00000000214 * Utils.cost(3.85961180377 + 4223.30062675520 * x);
-		L0 += 0.00000000218 * Utils.cost(0.79681703388 + 1909.39691820350 * x);
-		L0 += 0.00000000212 * Utils.cost(4.11706418218 + 269.92144674060 * x);
-		L0 += 0.00000000264 * Utils.cost(5.81676406517 + 77.96299230500 * x);
-		L0 += 0.00000000256 * Utils.cost(5.65978708108 + 799.61241183520 * x);
-		L0 += 0.00000000242 * Utils.cost(6.25078283449 + 1621.31622419820 * x);
-		L0 += 0.00000000235 * Utils.cost(2.20668997852 + 1570.91364801910 * x);
-		L0 += 0.00000000212 * Utils.cost(2.88214546012 + 1674.00642223770 * x);
-		L0 += 0.00000000206 * Utils.cost(1.59586787037 + 4429.48617519240 * x);
-		L0 += 0.00000000208 * Utils.cost(2.31366614282 + 878.32616366560 * x);
-		L0 += 0.00000000213 * Utils.cost(0.30373338388 + 8624.21265092720 * x);
-		L0 += 0.00000000223 * Utils.cost(4.88419887133 + 1035.00290780100 * x);
-		L0 += 0.00000000279 * Utils.cost(3.65173543621 + 84.93352695390 * x);
-		L0 += 0.00000000210 * Utils.cost(4.08825553401 + 203.73786788240 * x);
-		L0 += 0.00000000214 * Utils.cost(4.63498396475 + 812.14258480740 * x);
-		L0 += 0.00000000258 * Utils.cost(1.73501688450 + 1887.30551767570 * x);
-		L0 += 0.00000000210 * Utils.cost(4.51798082710 + 1262.38608488870 * x);
-		L0 += 0.00000000252 * Utils.cost(5.69246905091 + 104.57724692690 * x);
-		L0 += 0.00000000205 * Utils.cost(4.62946016431 + 1056.46116888240 * x);
-		L0 += 0.00000000263 * Utils.cost(3.04951219565 + 1493.09366806600 * x);
-		L0 += 0.00000000222 * Utils.cost(5.54424082649 + 5216.58037280140 * x);
-		L0 += 0.00000000244 * Utils.cost(0.91026645686 + 3707.83675566220 * x);
-		L0 += 0.00000000204 * Utils.cost(0.90117975859 + 1408.01712876020 * x);
-		L0 += 0.00000000225 * Utils.cost(1.23997048012 + 3340.61242669980 * x);
-		L0 += 0.00000000258 * Utils.cost(2.35906183505 + 2861.75392091100 * x);
-		L0 += 0.00000000267 * Utils.cost(3.27705002283 + 5120.60114558360 * x);
-		L0 += 0.00000000214 * Utils.cost(0.66988779149 + 9146.79006902100 * x);
-		L0 += 0.00000000235 * Utils.cost(4.93761209111 + 1443.44185141230 * x);
-		L0 += 0.00000000194 * Utils.cost(1.60798828275 + 102.57150935680 * x);
-		L0 += 0.00000000215 * Utils.cost(0.97603524747 + 479.28838891550 * x);
-		L0 += 0.00000000205 * Utils.cost(5.23642605904 + 4649.89881763120 * x);
-		L0 += 0.00000000257 * Utils.cost(4.70227260707 + 9050.81084180320 * x);
-		L0 += 0.00000000228 * Utils.cost(6.23410921116 + 64.95973858080 * x);
-		L0 += 0.00000000180 * Utils.cost(4.21309134581 + 143.93412284210 * x);
-		L0 += 0.00000000180 * Utils.cost(4.82870451226 + 1063.57471588320 * x);
-		L0 += 0.00000000180 * Utils.cost(5.06126965624 + 52.69019803950 * x);
-		L0 += 0.00000000226 * Utils.cost(0.55334952097 + 554.06998748280 * x);
-		L0 += 0.00000000209 * Utils.cost(5.67975843693 + 48.75804477640 * x);
-		L0 += 0.00000000186 * Utils.cost(3.66368928017 + 108.72184851110 * x);
-		L0 += 0.00000000190 * Utils.cost(2.00852986549 + 1058.63117066380 * x);
-		L0 += 0.00000000183 * Utils.cost(3.17358464220 + 140.96517742550 * x);
-		L0 += 0.00000000198 * Utils.cost(5.49816579454 + 4333.50694797460 * x);
-		L0 += 0.00000000240 * Utils.cost(6.06602357868 + 1821.12193881750 * x);
-		L0 += 0.00000000172 * Utils.cost(3.04802064781 + 54.33472944220 * x);
-		L0 += 0.00000000170 * Utils.cost(4.66520291204 + 1372.59240610810 * x);
-		L0 += 0.00000000173 * Utils.cost(4.72884056307 + 77204.32749453338 * x);
-		L0 += 0.00000000174 * Utils.cost(0.85370421252 + 1587.58842257550 * x);
-		L0 += 0.00000000215 * Utils.cost(0.68219980704 + 1054.71606374320 * x);
-		L0 += 0.00000000170 * Utils.cost(1.52204803308 + 5591.96087960020 * x);
-		L0 += 0.00000000200 * Utils.cost(1.60275092073 + 6681.22485339960 * x);
-		L0 += 0.00000000193 * Utils.cost(2.13003479280 + 103.61403908040 * x);
-		L0 += 0.00000000231 * Utils.cost(4.69962389031 + 1966.23171782720 * x);
-		L0 += 0.00000000179 * Utils.cost(5.57395905447 + 1457.52593306200 * x);
-		L0 += 0.00000000205 * Utils.cost(3.65507571128 + 906.84978763800 * x);
-		L0 += 0.00000000181 * Utils.cost(4.52272934666 + 24498.83024629040 * x);
-		L0 += 0.00000000223 * Utils.cost(0.11650319998 + 67.88049988760 * x);
-		L0 += 0.00000000172 * Utils.cost(5.68083885227 + 1884.12412393800 * x);
-		L0 += 0.00000000219 * Utils.cost(0.60964963735 + 2729.45619916380 * x);
-		L0 += 0.00000000164 * Utils.cost(1.06675279755 + 594.65070367540 * x);
-		L0 += 0.00000000176 * Utils.cost(2.36848603898 + 977.48678462110 * x);
-		L0 += 0.00000000170 * Utils.cost(2.43036684800 + 4532.57894941100 * x);
-		L0 += 0.00000000191 * Utils.cost(3.64255924842 + 1440.99417085750 * x);
-		L0 += 0.00000000207 * Utils.cost(0.49276008455 + 71.60020482960 * x);
-		L0 += 0.00000000157 * Utils.cost(4.26888100582 + 5069.38346150640 * x);
-		L0 += 0.00000000157 * Utils.cost(5.14847227422 + 451.72797278960 * x);
-		L0 += 0.00000000158 * Utils.cost(5.00063628575 + 650.94298657790 * x);
-		L0 += 0.00000000159 * Utils.cost(5.37530499642 + 20426.57109242200 * x);
-		L0 += 0.00000000218 * Utils.cost(0.27875408082 + 175.16605980020 * x);
-		L0 += 0.00000000155 * Utils.cost(0.83696849428 + 1474.93442080130 * x);
-		L0 += 0.00000000154 * Utils.cost(2.62839957291 + 683.18631549230 * x);
-		L0 += 0.00000000171 * Utils.cost(1.79511736017 + 1123.11782849260 * x);
-		L0 += 0.00000000188 * Utils.cost(5.24747110812 + 25565.32572348040 * x);
-		L0 += 0.00000000168 * Utils.cost(4.14907553818 + 946.72792841500 * x);
-		L0 += 0.00000000203 * Utils.cost(2.83699715530 + 1489.91227432830 * x);
-		L0 += 0.00000000173 * Utils.cost(4.34546063838 + 3046.59882834580 * x);
-		L0 += 0.00000000190 * Utils.cost(5.67865607835 + 1060.13268971460 * x);
-		L0 += 0.00000000201 * Utils.cost(2.38524182920 + 419.53282798500 * x);
-		L0 += 0.00000000152 * Utils.cost(5.89088685790 + 208.63322899200 * x);
-		L0 += 0.00000000206 * Utils.cost(4.46933127349 + 2654.67460059650 * x);
-		L0 += 0.00000000156 * Utils.cost(2.37819796438 + 2758.66114669240 * x);
-		L0 += 0.00000000203 * Utils.cost(0.70565514297 + 498.19839570560 * x);
-		L0 += 0.00000000205 * Utils.cost(3.05468636546 + 1062.30269149600 * x);
-		L0 += 0.00000000174 * Utils.cost(3.50824761708 + 2004.36475346500 * x);
-		L0 += 0.00000000148 * Utils.cost(4.73961194393 + 1799.19059698410 * x);
-		L0 += 0.00000000188 * Utils.cost(3.62315953725 + 3156.80514956520 * x);
-		L0 += 0.00000000183 * Utils.cost(2.35011338194 + 25551.09862947879 * x);
-		L0 += 0.00000000162 * Utils.cost(1.58053710589 + 628.59095361920 * x);
-		L0 += 0.00000000162 * Utils.cost(3.99983876824 + 1482.79872732750 * x);
-		L0 += 0.00000000181 * Utils.cost(2.85489861839 + 1055.18914449520 * x);
-		L0 += 0.00000000151 * Utils.cost(3.43198157222 + 629.86297800640 * x);
-		L0 += 0.00000000157 * Utils.cost(3.15195826490 + 1025.44168024540 * x);
-		L0 += 0.00000000194 * Utils.cost(5.13049187783 + 1818.15299340090 * x);
-		L0 += 0.00000000193 * Utils.cost(1.92287052164 + 1140.38330388000 * x);
-		L0 += 0.00000000137 * Utils.cost(4.22335221970 + 1049.82070263360 * x);
-		L0 += 0.00000000167 * Utils.cost(2.85163087563 + 5746.27133789600 * x);
-		L0 += 0.00000000167 * Utils.cost(5.73970282991 + 5760.49843189760 * x);
-		L0 += 0.00000000138 * Utils.cost(2.23519776527 + 1176.70179840940 * x);
-		L0 += 0.00000000151 * Utils.cost(4.89507270899 + 532.39927808030 * x);
-		L0 += 0.00000000147 * Utils.cost(2.65931838448 + 987.30864460760 * x);
-		L0 += 0.00000000135 * Utils.cost(0.12836417770 + 991.71387862270 * x);
-		L0 += 0.00000000166 * Utils.cost(3.12682515439 + 580.09354127370 * x);
-		L0 += 0.00000000118 * Utils.cost(5.98810576300 + 531.38788612400 * x);
-		L0 += 0.00000000135 * Utils.cost(5.26601313643 + 1065.01100448170 * x);
-		L0 += 0.00000000138 * Utils.cost(3.18511244397 + 707.56533788050 * x);
-		L0 += 0.00000000122 * Utils.cost(1.34377059565 + 446.31134681820 * x);
-		L0 += 0.00000000120 * Utils.cost(2.29717714347 + 1059.22187149480 * x);
-		L0 += 0.00000000121 * Utils.cost(0.58145552537 + 5621.84292321040 * x);
-		L0 += 0.00000000103 * Utils.cost(4.75645235023 + 1226.21060271120 * x);
-		L0 += 0.00000000104 * Utils.cost(6.08481630139 + 528.25467649610 * x);
-		L0 += 0.00000000119 * Utils.cost(1.06475523307 + 527.99404406520 * x);
-		L0 += 0.00000000104 * Utils.cost(0.89730746841 + 531.12725369310 * x);
-		L0 += 0.00000000120 * Utils.cost(5.39001411803 + 1059.54198888360 * x);
-		L0 += 0.00000000104 * Utils.cost(0.44849170648 + 1128.53445446400 * x);
-		L0 += 0.00000000117 * Utils.cost(5.42449214711 + 986.08480433020 * x);
-		L0 += 0.00000000101 * Utils.cost(5.09893554462 + 530.58473697190 * x);
-		L0 += 0.00000000102 * Utils.cost(0.26948040239 + 450.97721326420 * x);
-		L0 += 0.00000000107 * Utils.cost(1.58724086516 + 1069.67687092770 * x);
-		L0 += 0.00000000086 * Utils.cost(2.28711702506 + 2498.89162833840 * x);
-		L0 += 0.00000000101 * Utils.cost(1.88318822518 + 528.79719321730 * x);
-		L0 += 0.00000000086 * Utils.cost(1.37568728263 + 970.51624997220 * x);
-		L0 += 0.00000000083 * Utils.cost(0.06930748288 + 530.91480537200 * x);
-		L0 += 0.00000000085 * Utils.cost(3.22094000094 + 1553.64817263170 * x);
-		L0 += 0.00000000083 * Utils.cost(0.62963097974 + 528.46712481720 * x);
-		L0 += 0.00000000083 * Utils.cost(4.16314675511 + 849.26422848890 * x);
-		L0 += 0.00000000079 * Utils.cost(3.46688102340 + 1077.54117745390 * x);
-		L0 += 0.00000000097 * Utils.cost(0.87886975916 + 9690.70812811720 * x);
-		L0 += 0.00000000097 * Utils.cost(4.27398311206 + 9676.48103411560 * x);
-		L0 += 0.00000000101 * Utils.cost(0.29639798579 + 857.12853501510 * x);
-		L0 += 0.00000000083 * Utils.cost(2.55427333923 + 1059.59437851030 * x);
-		L0 += 0.00000000078 * Utils.cost(0.06461496210 + 521.82665856840 * x);
-		L0 += 0.00000000078 * Utils.cost(0.76677000862 + 525.54636351040 * x);
-		L0 += 0.00000000096 * Utils.cost(0.33631035749 + 1090.40141882620 * x);
-		L0 += 0.00000000098 * Utils.cost(1.42815294497 + 757.21715453420 * x);
-		L0 += 0.00000000077 * Utils.cost(0.85066773729 + 537.55527162080 * x);
-		L0 += 0.00000000084 * Utils.cost(5.04765104413 + 1160.02702385300 * x);
-		L0 += 0.00000000076 * Utils.cost(3.62264327413 + 782.34693644780 * x);
-		L0 += 0.00000000085 * Utils.cost(1.86831145784 + 25028.52121138500 * x);
-		L0 += 0.00000000079 * Utils.cost(2.90602202890 + 2114.83170711530 * x);
-
-		double L1 = 0;
-		L1 += 529.93480757497;
-		L1 += 0.00489741194 * Utils.cost(4.22066689928 + 529.69096509460 * x);
-		L1 += 0.00228918538 * Utils.cost(6.02647464016 + 7.11354700080 * x);
-		L1 += 0.00027655380 * Utils.cost(4.57265956824 + 1059.38193018920 * x);
-		L1 += 0.00020720943 * Utils.cost(5.45938936295 + 522.57741809380 * x);
-		L1 += 0.00012105732 * Utils.cost(0.16985765041 + 536.80451209540 * x);
-		L1 += 0.00006068051 * Utils.cost(4.42419502005 + 103.09277421860 * x);
-		L1 += 0.00005433924 * Utils.cost(3.98478382565 + 419.48464387520 * x);
-		L1 += 0.00004237795 * Utils.cost(5.89009351271 + 14.22709400160 * x);
-		L1 += 0.00002211854 * Utils.cost(5.26771446618 + 206.18554843720 * x);
-		L1 += 0.00001295769 * Utils.cost(5.55132765087 + 3.18139373770 * x);
-		L1 += 0.00001745919 * Utils.cost(4.92669378486 + 1589.07289528380 * x);
-		L1 += 0.00001163411 * Utils.cost(0.51450895328 + 3.93215326310 * x);
-		L1 += 0.00001007216 * Utils.cost(0.46478398551 + 735.87651353180 * x);
-		L1 += 0.00001173129 * Utils.cost(5.85647304350 + 1052.26838318840 * x);
-		L1 += 0.00000847678 * Utils.cost(5.75805850450 + 110.20632121940 * x);
-		L1 += 0.00000827329 * Utils.cost(4.80312015734 + 213.29909543800 * x);
-		L1 += 0.00001003574 * Utils.cost(3.15040301822 + 426.59819087600 * x);
-		L1 += 0.00001098735 * Utils.cost(5.30704981594 + 515.46387109300 * x);
-		L1 += 0.00000816397 * Utils.cost(0.58643054886 + 1066.49547719000 * x);
-		L1 += 0.00000725447 * Utils.cost(5.51827471473 + 639.89728631400 * x);
-		L1 += 0.00000567845 * Utils.cost(5.98867049451 + 625.67019231240 * x);
-		L1 += 0.00000474181 * Utils.cost(4.13245269168 + 412.37109687440 * x);
-		L1 += 0.00000412930 * Utils.cost(5.73652891261 + 95.97922721780 * x);
-		L1 += 0.00000335817 * Utils.cost(3.73248749046 + 1162.47470440780 * x);
-		L1 += 0.00000345249 * Utils.cost(4.24159565410 + 632.78373931320 * x);
-		L1 += 0.00000234066 * Utils.cost(6.24302226646 + 309.27832265580 * x);
-		L1 += 0.00000194784 * Utils.cost(2.21879010911 + 323.50541665740 * x);
-		L1 += 0.00000234340 * Utils.cost(4.03469970332 + 949.17560896980 * x);
-		L1 += 0.00000183938 * Utils.cost(6.27963588822 + 543.91805909620 * x);
-		L1 += 0.00000198525 * Utils.cost(1.50458442825 + 838.96928775040 * x);
-		L1 += 0.00000186899 * Utils.cost(6.08620565908 + 742.99006053260 * x);
-		L1 += 0.00000171380 * Utils.cost(5.41655983845 + 199.07200143640 * x);
-		L1 += 0.00000130771 * Utils.cost(0.62643377351 + 728.76296653100 * x);
-		L1 += 0.00000107575 * Utils.cost(4.49282760117 + 956.28915597060 * x);
-		L1 += 0.00000115393 * Utils.cost(0.68019050174 + 846.08283475120 * x);
-		L1 += 0.00000115047 * Utils.cost(5.28641699144 + 2118.76386037840 * x);
-		L1 += 0.00000066824 * Utils.cost(5.73365126533 + 21.34064100240 * x);
-		L1 += 0.00000069618 * Utils.cost(5.97263450278 + 532.87235883230 * x);
-		L1 += 0.00000064850 * Utils.cost(6.08803490288 + 1581.95934828300 * x);
-		L1 += 0.00000079686 * Utils.cost(5.82412400273 + 1045.15483618760 * x);
-		L1 += 0.00000057939 * Utils.cost(0.99453087342 + 1596.18644228460 * x);
-		L1 += 0.00000065635 * Utils.cost(0.12924191430 + 526.50957135690 * x);
-		L1 += 0.00000058509 * Utils.cost(0.58626971028 + 1155.36115740700 * x);
-		L1 += 0.00000056600 * Utils.cost(1.41198438841 + 533.62311835770 * x);
-		L1 += 0.00000071643 * Utils.cost(5.34162650321 + 942.06206196900 * x);
-		L1 += 0.00000057368 * Utils.cost(5.96851304799 + 1169.58825140860 * x);
-		L1 += 0.00000054935 * Utils.cost(5.42806383723 + 10.29494073850 * x);
-		L1 += 0.00000052016 * Utils.cost(0.22981299129 + 1368.66025284500 * x);
-		L1 += 0.00000052309 * Utils.cost(5.72661448388 + 117.31986822020 * x);
-		L1 += 0.00000050418 * Utils.cost(6.08075147811 + 525.75881183150 * x);
-		L1 += 0.00000047418 * Utils.cost(3.62611843241 + 1478.86657406440 * x);
-		L1 += 0.00000039888 * Utils.cost(4.16158013600D + 1692.16566950240 * x);
-		L1 += 0.00000046678 * Utils.cost(0.51144073175 + 1265.56747862640 * x);
-		L1 += 0.00000032827 * Utils.cost(5.03596689455 + 220.41264243880 * x);
-		L1 += 0.00000033558 * Utils.cost(0.09913904872 + 302.16477565500 * x);
-		L1 += 0.00000029379 * Utils.cost(3.35927241533 + 4.66586644600 * x);
-		L1 += 0.00000029307 * Utils.cost(0.75907909735 + 88.86568021700 * x);
-		L1 += 0.00000032449 * Utils.cost(5.37492530697 + 508.35032409220 * x);
-		L1 += 0.00000029483 * Utils.cost(5.42208897099 + 1272.68102562720 * x);
-		L1 += 0.00000021802 * Utils.cost(6.15054054070 + 1685.05212250160 * x);
-		L1 += 0.00000025195 * Utils.cost(1.60723063387 + 831.85574074960 * x);
-		L1 += 0.00000021133 * Utils.cost(5.86346824200 + 1258.45393162560 * x);
-		L1 += 0.00000019747 * Utils.cost(2.17205957814 + 316.39186965660 * x);
-		L1 += 0.00000017871 * Utils.cost(0.82841413516 + 433.71173787680 * x);
-		L1 += 0.00000017703 * Utils.cost(5.95527049039 + 5.41662597140 * x);
-		L1 += 0.00000017230 * Utils.cost(2.76395560958 + 853.19638175200 * x);
-		L1 += 0.00000017453 * Utils.cost(0.70749901224 + 1471.75302706360 * x);
-		L1 += 0.00000017508 * Utils.cost(0.49799925173 + 1375.77379984580 * x);
-		L1 += 0.00000014368 * Utils.cost(0.91459831140 + 18.15924726470 * x);
-		L1 += 0.00000014107 * Utils.cost(0.63031082833 + 2.92076130680 * x);
-		L1 += 0.00000011559 * Utils.cost(4.30379009964 + 405.25754987360 * x);
-		L1 += 0.00000011728 * Utils.cost(1.76426582357 + 380.12776796000 * x);
-		L1 += 0.00000011054 * Utils.cost(5.56735602213 + 1574.84580128220 * x);
-		L1 += 0.00000010425 * Utils.cost(0.31355034390 + 1361.54670584420 * x);
-		L1 += 0.00000009804 * Utils.cost(5.90363777277 + 519.39602435610 * x);
-		L1 += 0.00000009805 * Utils.cost(0.38648727979 + 1073.60902419080 * x);
-		L1 += 0.00000009285 * Utils.cost(3.21842287530 + 1795.25844372100 * x);
-		L1 += 0.00000008864 * Utils.cost(0.53776257958 + 1788.14489672020 * x);
-		L1 += 0.00000008370 * Utils.cost(5.88484552222 + 2001.44399215820 * x);
-		L1 += 0.00000008148 * Utils.cost(5.10162311410 + 1485.98012106520 * x);
-		L1 += 0.00000007658 * Utils.cost(5.64890060131 + 2648.45482547300 * x);
-		L1 += 0.00000006690 * Utils.cost(2.41093459420 + 4.19278569400 * x);
-		L1 += 0.00000005840 * Utils.cost(4.22347896053 + 2008.55753915900 * x);
-		L1 += 0.00000007256 * Utils.cost(6.19384525651 + 11.04570026390 * x);
-		L1 += 0.00000006266 * Utils.cost(1.36137786945 + 1148.24761040620 * x);
-		L1 += 0.00000005141 * Utils.cost(5.23083932012 + 628.85158605010 * x);
-		L1 += 0.00000005140 * Utils.cost(2.92955981951 + 518.64526483070 * x);
-		L1 += 0.00000004765 * Utils.cost(0.16838181862 + 629.60234557550 * x);
-		L1 += 0.00000004603 * Utils.cost(0.78529559911 + 721.64941953020 * x);
-		L1 += 0.00000004575 * Utils.cost(6.24794935732 + 1677.93857550080 * x);
-		L1 += 0.00000004537 * Utils.cost(4.95096707833 + 635.96513305090 * x);
-		L1 += 0.00000004518 * Utils.cost(2.06523915453 + 453.42489381900 * x);
-		L1 += 0.00000004414 * Utils.cost(0.15381186059 + 1699.27921650320 * x);
-		L1 += 0.00000005593 * Utils.cost(5.57489981207 + 191.95845443560 * x);
-		L1 += 0.00000005403 * Utils.cost(1.46004886198 + 330.61896365820 * x);
-		L1 += 0.00000004285 * Utils.cost(0.23949868127 + 2104.53676637680 * x);
-		L1 += 0.00000004223 * Utils.cost(1.44087555881 + 2125.87740737920 * x);
-		L1 += 0.00000004101 * Utils.cost(6.19274358942 + 636.71589257630 * x);
-		L1 += 0.00000004432 * Utils.cost(4.35811524051 + 423.41679713830 * x);
-		L1 += 0.00000004132 * Utils.cost(0.50170694173 + 1056.20053645150 * x);
-		L1 += 0.00000004398 * Utils.cost(4.14280286969 + 511.53171782990 * x);
-		L1 += 0.00000005406 * Utils.cost(4.40429493698 + 2221.85663459700 * x);
-		L1 += 0.00000004467 * Utils.cost(0.08534650684 + 1062.56332392690 * x);
-		L1 += 0.00000003569 * Utils.cost(5.66540477010 + 2317.83586181480 * x);
-		L1 += 0.00000004007 * Utils.cost(2.54845549248 + 74.78159856730 * x);
-		L1 += 0.00000003515 * Utils.cost(0.25495124831 + 1055.44977692610 * x);
-		L1 += 0.00000003687 * Utils.cost(2.93378008847 + 32.24332891440 * x);
-		L1 += 0.00000002883 * Utils.cost(5.72793010505 + 99.91138048090 * x);
-		L1 += 0.00000002969 * Utils.cost(5.50054720569 + 107.02492748170 * x);
-		L1 += 0.00000002720 * Utils.cost(1.25222590925 + 540.73666535850 * x);
-		L1 += 0.00000002808 * Utils.cost(3.30714813896 + 0.75075952540 * x);
-		L1 += 0.00000002768 * Utils.cost(1.61339487804 + 1063.31408345230 * x);
-		L1 += 0.00000002666 * Utils.cost(4.28662288102 + 106.27416795630 * x);
-		L1 += 0.00000002704 * Utils.cost(3.03615556153 + 422.66603761290 * x);
-		L1 += 0.00000003290 * Utils.cost(5.89081682150 + 1802.37199072180 * x);
-		L1 += 0.00000002578 * Utils.cost(3.60390367979 + 750.10360753340 * x);
-		L1 += 0.00000002661 * Utils.cost(0.35249312659 + 1898.35121793960 * x);
-		L1 += 0.00000002486 * Utils.cost(5.28950877719 + 1891.23767093880 * x);
-		L1 += 0.00000002936 * Utils.cost(1.09052029450 + 1464.63948006280 * x);
-		L1 += 0.00000003190 * Utils.cost(4.60740643547 + 416.30325013750 * x);
-		L1 += 0.00000002390 * Utils.cost(6.01779736611 + 551.03160609700 * x);
-		L1 += 0.00000002214 * Utils.cost(5.24450923180 + 621.73803904930 * x);
-		L1 += 0.00000002319 * Utils.cost(5.82920300130 + 305.34616939270 * x);
-		L1 += 0.00000002089 * Utils.cost(5.99310370434 + 1994.33044515740 * x);
-		L1 += 0.00000002042 * Utils.cost(0.75008788531 + 142.44965013380 * x);
-		L1 += 0.00000002121 * Utils.cost(0.01537599023 + 2420.92863603340 * x);
-		L1 += 0.00000002114 * Utils.cost(6.25308371567 + 647.01083331480 * x);
-		L1 += 0.00000002020 * Utils.cost(4.17560390841 + 569.04784100980 * x);
-		L1 += 0.00000002109 * Utils.cost(5.18682321403 + 227.52618943960 * x);
-		L1 += 0.00000002283 * Utils.cost(5.80043809222 + 539.98590583310 * x);
-		L1 += 0.00000001977 * Utils.cost(3.99197009651 + 24.37902238820 * x);
-		L1 += 0.00000001960 * Utils.cost(1.35288793079 + 963.40270297140 * x);
-		L1 += 0.00000001903 * Utils.cost(2.78349628184 + 2428.04218303420 * x);
-		L1 += 0.00000001915 * Utils.cost(4.22134509685 + 2324.94940881560 * x);
-		L1 += 0.00000001971 * Utils.cost(5.88715684267 + 217.23124870110 * x);
-		L1 += 0.00000001917 * Utils.cost(3.03728154374 + 1382.88734684660 * x);
-		L1 += 0.00000002026 * Utils.cost(3.08606488714 + 408.43894361130 * x);
-		L1 += 0.00000001834 * Utils.cost(5.61474110217 + 430.53034413910 * x);
-		L1 += 0.00000001838 * Utils.cost(1.25467410218 + 81.75213321620 * x);
-		L1 += 0.00000002460 * Utils.cost(4.63268678998 + 1905.46476494040 * x);
-		L1 += 0.00000001820 * Utils.cost(5.97497926120 + 114.13847448250 * x);
-		L1 += 0.00000002043 * Utils.cost(4.34047514845 + 70.84944530420 * x);
-		L1 += 0.00000001959 * Utils.cost(4.03116026306 + 92.04707395470 * x);
-		L1 += 0.00000001768 * Utils.cost(0.33097462499 + 35.42472265210 * x);
-		L1 += 0.00000002334 * Utils.cost(5.87042638470 + 1038.04128918680 * x);
-		L1 += 0.00000001835 * Utils.cost(4.81326127892 + 124.43341522100 * x);
-		L1 += 0.00000002269 * Utils.cost(1.02549350754 + 618.55664531160 * x);
-		L1 += 0.00000001919 * Utils.cost(5.01297395549 + 99.16062095550 * x);
-		L1 += 0.00000001923 * Utils.cost(0.28688549585 + 31.01948863700 * x);
-		L1 += 0.00000001878 * Utils.cost(5.69299116574 + 210.11770170030 * x);
-		L1 += 0.00000001679 * Utils.cost(0.25635730278 + 295.05122865420 * x);
-		L1 += 0.00000001656 * Utils.cost(5.46039280732 + 2634.22773147140 * x);
-		L1 += 0.00000001675 * Utils.cost(6.15609073315 + 643.82943957710 * x);
-		L1 += 0.00000001953 * Utils.cost(5.09846435548 + 17.40848773930 * x);
-		L1 += 0.00000001539 * Utils.cost(2.75316078346 + 415.55249061210 * x);
-		L1 += 0.00000001467 * Utils.cost(0.54812675158 + 458.84151979040 * x);
-		L1 += 0.00000001482 * Utils.cost(3.76736278426 + 534.35683154060 * x);
-		L1 += 0.00000001446 * Utils.cost(3.15802770791 + 25.12978191360 * x);
-		L1 += 0.00000001667 * Utils.cost(0.26406950755 + 835.03713448730 * x);
-		L1 += 0.00000001472 * Utils.cost(0.83054329617 + 28.31117565130 * x);
-		L1 += 0.00000001655 * Utils.cost(0.88908548504 + 1781.03134971940 * x);
-		L1 += 0.00000001294 * Utils.cost(5.76241191046 + 440.82528487760 * x);
-		L1 += 0.00000001348 * Utils.cost(2.49823510924 + 984.60033162190 * x);
-		L1 += 0.00000001352 * Utils.cost(5.10869562455 + 149.56319713460 * x);
-		L1 += 0.00000001344 * Utils.cost(0.01942249067 + 2214.74308759620 * x);
-		L1 += 0.00000001188 * Utils.cost(2.24279457878 + 31.49256938900 * x);
-		L1 += 0.00000001166 * Utils.cost(0.80686346228 + 739.80866679490 * x);
-		L1 += 0.00000001322 * Utils.cost(4.25691184168 + 2538.24850425360 * x);
-		L1 += 0.00000001094 * Utils.cost(6.02985819406 + 2737.32050569000 * x);
-		L1 += 0.00000001112 * Utils.cost(4.38204360670 + 561.93429400900 * x);
-		L1 += 0.00000001346 * Utils.cost(3.20575848870 + 525.02509864860 * x);
-		L1 += 0.00000001056 * Utils.cost(5.76507115032 + 2310.72231481400 * x);
-		L1 += 0.00000001159 * Utils.cost(0.46189564970 + 67.66805156650 * x);
-		L1 += 0.00000001027 * Utils.cost(0.20709586018 + 7.86430652620 * x);
-		L1 += 0.00000001143 * Utils.cost(5.56626418636 + 46.47042291600 * x);
-		L1 += 0.00000001012 * Utils.cost(0.54293005597 + 532.13864564940 * x);
-		L1 += 0.00000000978 * Utils.cost(5.13939194101 + 2207.62954059540 * x);
-		L1 += 0.00000000993 * Utils.cost(2.03698185233 + 319.57326339430 * x);
-		L1 += 0.00000001035 * Utils.cost(2.90231353535 + 611.44309831080 * x);
-		L1 += 0.00000001021 * Utils.cost(4.75651217048 + 527.24328453980 * x);
-		L1 += 0.00000001308 * Utils.cost(1.78809336431 + 824.74219374880 * x);
-		L1 += 0.00000000964 * Utils.cost(2.82269601958 + 2111.65031337760 * x);
-		L1 += 0.00000000896 * Utils.cost(2.54505998806 + 2744.43405269080 * x);
-		L1 += 0.00000000890 * Utils.cost(5.41036782817 + 28.45418800320 * x);
-		L1 += 0.00000000906 * Utils.cost(0.76565238554 + 1439.50969814920 * x);
-		L1 += 0.00000000985 * Utils.cost(0.88687623770 + 5760.49843189760 * x);
-		L1 += 0.00000000983 * Utils.cost(1.42102343372 + 5746.27133789600 * x);
-		L1 += 0.00000000892 * Utils.cost(5.87250060663 + 203.00415469950 * x);
-		L1 += 0.00000000942 * Utils.cost(2.31049430734 + 9690.70812811720 * x);
-		L1 += 0.00000000941 * Utils.cost(2.84331157527 + 9676.48103411560 * x);
-		L1 += 0.00000000867 * Utils.cost(0.81020362547 + 524.27433912320 * x);
-		L1 += 0.00000000829 * Utils.cost(2.35178495412 + 312.45971639350 * x);
-		L1 += 0.00000000912 * Utils.cost(2.80494184378 + 6.21977512350 * x);
-		L1 += 0.00000000809 * Utils.cost(1.05148218513 + 529.64278098480 * x);
-		L1 += 0.00000000779 * Utils.cost(4.80009242059 + 945.24345570670 * x);
-		L1 += 0.00000000878 * Utils.cost(5.76532521399 + 1.64453140270 * x);
-		L1 += 0.00000000953 * Utils.cost(4.30945738629 + 209.36694217490 * x);
-		L1 += 0.00000000772 * Utils.cost(5.25607113566 + 2950.61960112800 * x);
-		L1 += 0.00000000745 * Utils.cost(0.03810558502 + 535.10759106600 * x);
-		L1 += 0.00000000744 * Utils.cost(0.58381523987 + 25.27279426550 * x);
-		L1 += 0.00000000734 * Utils.cost(0.20800485100 + 1049.08698945070 * x);
-		L1 += 0.00000000747 * Utils.cost(2.71772840871 + 38.13303563780 * x);
-		L1 += 0.00000000728 * Utils.cost(5.97210358938 + 945.99421523210 * x);
-		L1 += 0.00000000769 * Utils.cost(4.51394016967 + 952.35700270750 * x);
-		L1 += 0.00000000710 * Utils.cost(0.38016353553 + 69.15252427480 * x);
-		L1 += 0.00000000760 * Utils.cost(3.07033779824 + 39.35687591520 * x);
-		L1 += 0.00000000802 * Utils.cost(1.14191463412 + 532.61172640140 * x);
-		L1 += 0.00000000704 * Utils.cost(1.25447308120 + 547.85021235930 * x);
-		L1 += 0.00000000721 * Utils.cost(0.73855379162 + 2228.97018159780 * x);
-		L1 += 0.00000000794 * Utils.cost(4.25051539085 + 2641.34127847220 * x);
-		L1 += 0.00000000795 * Utils.cost(3.20588363820 + 604.47256366190 * x);
-		L1 += 0.00000000818 * Utils.cost(1.05229815343 + 909.81873305460 * x);
-		L1 += 0.00000000724 * Utils.cost(5.68281830264 + 953.10776223290 * x);
-		L1 += 0.00000000836 * Utils.cost(0.60410469174 + 2097.42321937600 * x);
-		L1 += 0.00000000669 * Utils.cost(5.75757140051 + 2015.67108615980 * x);
-		L1 += 0.00000000682 * Utils.cost(1.19994890339 + 387.24131496080 * x);
-		L1 += 0.00000000640 * Utils.cost(3.91546675664 + 528.72775724810 * x);
-		L1 += 0.00000000809 * Utils.cost(4.24929331276 + 529.73914920440 * x);
-		L1 += 0.00000000819 * Utils.cost(4.91540072376 + 2751.54759969160 * x);
-		L1 += 0.00000000692 * Utils.cost(2.51162384766 + 916.93228005540 * x);
-		L1 += 0.00000000784 * Utils.cost(4.23651511312 + 195.13984817330 * x);
-		L1 += 0.00000000762 * Utils.cost(1.12201139619 + 732.69511979410 * x);
-		L1 += 0.00000000617 * Utils.cost(5.80920925081 + 739.05790726950 * x);
-		L1 += 0.00000000727 * Utils.cost(4.24401822698 + 760.25553592000 * x);
-		L1 += 0.00000000591 * Utils.cost(3.26075006572 + 202.25339517410 * x);
-		L1 += 0.00000000552 * Utils.cost(5.83533550039 + 526.77020378780 * x);
-		L1 += 0.00000000640 * Utils.cost(1.38530872949 + 530.65417294110 * x);
-		L1 += 0.00000000577 * Utils.cost(6.09100925678 + 2531.13495725280 * x);
-		L1 += 0.00000000620 * Utils.cost(3.01917904435 + 902.70518605380 * x);
-		L1 += 0.00000000722 * Utils.cost(5.18171159557 + 1.48447270830 * x);
-		L1 += 0.00000000540 * Utils.cost(3.78809230820 + 2957.73314812880 * x);
-		L1 += 0.00000000523 * Utils.cost(3.63882376000 + 437.64389113990 * x);
-		L1 += 0.00000000527 * Utils.cost(5.80796427555 + 3053.71237534660 * x);
-		L1 += 0.00000000488 * Utils.cost(4.99103190309 + 483.22054217860 * x);
-		L1 += 0.00000000557 * Utils.cost(4.11381202161 + 2854.64037391020 * x);
-		L1 += 0.00000000492 * Utils.cost(0.76371083106 + 1603.29998928540 * x);
-		L1 += 0.00000000487 * Utils.cost(5.55383951779 + 2627.11418447060 * x);
-		L1 += 0.00000000487 * Utils.cost(5.86510858429 + 724.83081326790 * x);
-		L1 += 0.00000000453 * Utils.cost(0.61375011101 + 1159.29331067010 * x);
-		L1 += 0.00000000450 * Utils.cost(2.28121042355 + 3060.82592234740 * x);
-		L1 += 0.00000000515 * Utils.cost(4.78126059280 + 447.79581952650 * x);
-		L1 += 0.00000000449 * Utils.cost(4.70231576312 + 934.94851496820 * x);
-		L1 += 0.00000000450 * Utils.cost(1.91049508739 + 597.35901666110 * x);
-		L1 += 0.00000000438 * Utils.cost(6.01178917646 + 3178.14579056760 * x);
-		L1 += 0.00000000494 * Utils.cost(0.53844942275 + 1354.43315884340 * x);
-		L1 += 0.00000000501 * Utils.cost(5.51752195462 + 2435.15573003500 * x);
-		L1 += 0.00000000432 * Utils.cost(3.64903264921 + 313.21047591890 * x);
-		L1 += 0.00000000435 * Utils.cost(3.02449828967 + 533.88375078860 * x);
-		L1 += 0.00000000426 * Utils.cost(5.07945534339 + 2524.02141025200 * x);
-		L1 += 0.00000000491 * Utils.cost(3.59286364200 + 230.56457082540 * x);
-		L1 += 0.00000000547 * Utils.cost(0.34432090949 + 1251.34038462480 * x);
-		L1 += 0.00000000503 * Utils.cost(1.57454509207 + 454.90936652730 * x);
-		L1 += 0.00000000486 * Utils.cost(4.39351469958 + 462.02291352810 * x);
-		L1 += 0.00000000524 * Utils.cost(2.03003740296 + 1279.79457262800 * x);
-		L1 += 0.00000000388 * Utils.cost(5.58318013074 + 731.94436026870 * x);
-		L1 += 0.00000000449 * Utils.cost(1.11025492739 + 56.62235130260 * x);
-		L1 += 0.00000000398 * Utils.cost(5.19943284273 + 3267.01147078460 * x);
-		L1 += 0.00000000416 * Utils.cost(1.70821917336 + 245.54242435240 * x);
-		L1 += 0.00000000379 * Utils.cost(1.80234948769 + 2655.56837247380 * x);
-		L1 += 0.00000000355 * Utils.cost(1.65214516751 + 78.71375183040 * x);
-		L1 += 0.00000000404 * Utils.cost(1.72647262603 + 1141.13406340540 * x);
-		L1 += 0.00000000335 * Utils.cost(6.01254286794 + 960.22130923370 * x);
-		L1 += 0.00000000331 * Utils.cost(1.74086938716 + 490.33408917940 * x);
-		L1 += 0.00000000401 * Utils.cost(0.30034336462 + 2332.06295581640 * x);
-		L1 += 0.00000000336 * Utils.cost(2.64385574909 + 1021.24889455140 * x);
-		L1 += 0.00000000389 * Utils.cost(0.31259289221 + 2413.81508903260 * x);
-		L1 += 0.00000000314 * Utils.cost(5.73833529708 + 1158.54255114470 * x);
-		L1 += 0.00000000313 * Utils.cost(4.74363791106 + 938.12990870590 * x);
-		L1 += 0.00000000333 * Utils.cost(0.80112437148 + 1585.14074202070 * x);
-		L1 += 0.00000000323 * Utils.cost(3.52656245280 + 3274.12501778540 * x);
-		L1 += 0.00000000395 * Utils.cost(1.73181407631 + 1593.00504854690 * x);
-		L1 += 0.00000000302 * Utils.cost(4.64184749164 + 1261.63532536330 * x);
-		L1 += 0.00000000325 * Utils.cost(0.54991590409 + 43.28902917830 * x);
-		L1 += 0.00000000293 * Utils.cost(0.97977818746 + 1585.89150154610 * x);
-		L1 += 0.00000000341 * Utils.cost(2.80833606944 + 1514.29129671650 * x);
-		L1 += 0.00000000304 * Utils.cost(6.12522825214 + 1262.38608488870 * x);
-		L1 += 0.00000000286 * Utils.cost(2.89800423081 + 530.21222995640 * x);
-		L1 += 0.00000000387 * Utils.cost(0.46648572639 + 1592.25428902150 * x);
-		L1 += 0.00000000285 * Utils.cost(4.56394598052 + 1268.74887236410 * x);
-		L1 += 0.00000000310 * Utils.cost(4.69102289591 + 76.26607127560 * x);
-		L1 += 0.00000000278 * Utils.cost(5.49867187248 + 280.96714700450 * x);
-		L1 += 0.00000000358 * Utils.cost(5.45926487831 + 113.38771495710 * x);
-		L1 += 0.00000000283 * Utils.cost(1.09230506350 + 1061.82961074400 * x);
-		L1 += 0.00000000326 * Utils.cost(0.60265259639 + 827.92358748650 * x);
-		L1 += 0.00000000284 * Utils.cost(5.36580034539 + 1165.65609814550 * x);
-		L1 += 0.00000000281 * Utils.cost(5.54635461050 + 3370.10424500320 * x);
-		L1 += 0.00000000269 * Utils.cost(3.92616563946 + 42.53826965290 * x);
-		L1 += 0.00000000275 * Utils.cost(2.58465453365 + 373.01422095920 * x);
-		L1 += 0.00000000357 * Utils.cost(1.39391983207 + 1493.09366806600 * x);
-		L1 += 0.00000000258 * Utils.cost(5.96670694140 + 1269.49963188950 * x);
-		L1 += 0.00000000259 * Utils.cost(2.56026216784 + 9146.79006902100 * x);
-		L1 += 0.00000000281 * Utils.cost(2.74823090198 + 4694.00295470760 * x);
-		L1 += 0.00000000281 * Utils.cost(3.01324655940 + 320.32402291970 * x);
-		L1 += 0.00000000272 * Utils.cost(4.18504958920 + 8624.21265092720 * x);
-		L1 += 0.00000000245 * Utils.cost(1.24462798353 + 252.65597135320 * x);
-		L1 += 0.00000000244 * Utils.cost(2.02892764690 + 3377.21779200400 * x);
-		L1 += 0.00000000324 * Utils.cost(1.84851618413 + 1289.94650101460 * x);
-		L1 += 0.00000000221 * Utils.cost(6.22167997496 + 3281.23856478620 * x);
-		L1 += 0.00000000238 * Utils.cost(3.93371505401 + 3171.03224356680 * x);
-		L1 += 0.00000000226 * Utils.cost(5.94296271326 + 224.34479570190 * x);
-		L1 += 0.00000000213 * Utils.cost(3.68264234750 + 1048.33622992530 * x);
-		L1 += 0.00000000216 * Utils.cost(5.82941334164 + 1567.73225428140 * x);
-		L1 += 0.00000000295 * Utils.cost(4.70194747095 + 3067.93946934820 * x);
-		L1 += 0.00000000206 * Utils.cost(4.98184230959 + 1357.61455258110 * x);
-		L1 += 0.00000000202 * Utils.cost(1.32439444045 + 4326.39340097380 * x);
-		L1 += 0.00000000227 * Utils.cost(0.78540105705 + 59.80374504030 * x);
-		L1 += 0.00000000237 * Utils.cost(5.56926897693 + 2943.50605412720 * x);
-		L1 += 0.00000000207 * Utils.cost(0.07907015398 + 5223.69391980220 * x);
-		L1 += 0.00000000199 * Utils.cost(3.30501818656 + 4120.20785253660 * x);
-		L1 += 0.00000000194 * Utils.cost(5.95526916809 + 84.93352695390 * x);
-		L1 += 0.00000000266 * Utils.cost(1.58032565718 + 983.11585891360 * x);
-		L1 += 0.00000000198 * Utils.cost(4.31078641704 + 4017.11507831800 * x);
-		L1 += 0.00000000198 * Utils.cost(0.30166351366 + 1166.40685767090 * x);
-		L1 += 0.00000000188 * Utils.cost(0.90738705875 + 135.33610313300 * x);
-		L1 += 0.00000000186 * Utils.cost(0.69289672485 + 92.79783348010 * x);
-		L1 += 0.00000000182 * Utils.cost(1.18931462257 + 1512.80682400820 * x);
-		L1 += 0.00000000191 * Utils.cost(1.04146023518 + 1884.12412393800 * x);
-		L1 += 0.00000000174 * Utils.cost(6.13734594396 + 3597.63043444280 * x);
-		L1 += 0.00000000189 * Utils.cost(0.35191512844 + 1372.59240610810 * x);
-		L1 += 0.00000000172 * Utils.cost(4.35250972697 + 1578.02719501990 * x);
-		L1 += 0.00000000173 * Utils.cost(2.30241719278 + 1176.70179840940 * x);
-		L1 += 0.00000000220 * Utils.cost(1.06991056825 + 2200.51599359460 * x);
-		L1 += 0.00000000186 * Utils.cost(4.90511103807 + 3583.40334044120 * x);
-		L1 += 0.00000000189 * Utils.cost(0.24160744024 + 1670.82502850000 * x);
-		L1 += 0.00000000206 * Utils.cost(0.01485146863 + 2730.20695868920 * x);
-		L1 += 0.00000000174 * Utils.cost(1.83997277029 + 746.92221379570 * x);
-		L1 += 0.00000000225 * Utils.cost(3.13108099660 + 630.33605875840 * x);
-		L1 += 0.00000000206 * Utils.cost(5.22730929781 + 3995.77443731560 * x);
-		L1 += 0.00000000169 * Utils.cost(2.57956682688 + 9161.01716302260 * x);
-		L1 += 0.00000000165 * Utils.cost(1.51795928301 + 4010.00153131720 * x);
-		L1 += 0.00000000181 * Utils.cost(2.05055200822 + 842.90144101350 * x);
-		L1 += 0.00000000181 * Utils.cost(5.96554625357 + 1578.77795454530 * x);
-		L1 += 0.00000000166 * Utils.cost(1.55114863100 + 1070.42763045310 * x);
-		L1 += 0.00000000157 * Utils.cost(5.87839958880 + 3914.02230409940 * x);
-		L1 += 0.00000000160 * Utils.cost(0.43729819176 + 2545.36205125440 * x);
-		L1 += 0.00000000168 * Utils.cost(5.73975661792 + 2847.52682690940 * x);
-		L1 += 0.00000000157 * Utils.cost(2.25764581068 + 850.01498801430 * x);
-		L1 += 0.00000000187 * Utils.cost(0.64918748618 + 842.15068148810 * x);
-		L1 += 0.00000000180 * Utils.cost(1.88055488803 + 685.47393735270 * x);
-		L1 += 0.00000000153 * Utils.cost(4.15259684562 + 4333.50694797460 * x);
-		L1 += 0.00000000154 * Utils.cost(3.65536637158 + 77734.01845962799 * x);
-		L1 += 0.00000000151 * Utils.cost(3.17795437121 + 3590.51688744200 * x);
-		L1 += 0.00000000155 * Utils.cost(3.87623547990 + 327.43756992050 * x);
-		L1 += 0.00000000171 * Utils.cost(3.33647878498 + 1912.57831194120 * x);
-		L1 += 0.00000000188 * Utils.cost(4.53005359421 + 1041.22268292450 * x);
-		L1 += 0.00000000134 * Utils.cost(4.09921613445 + 530.44172462000 * x);
-		L1 += 0.00000000123 * Utils.cost(4.79543460218 + 1098.73880610440 * x);
-		L1 += 0.00000000161 * Utils.cost(2.02006564218 + 860.30992875280 * x);
-		L1 += 0.00000000143 * Utils.cost(2.40197278329 + 529.16970023280 * x);
-		L1 += 0.00000000115 * Utils.cost(1.55831212007 + 9153.90361602180 * x);
-		L1 += 0.00000000106 * Utils.cost(5.94313244357 + 1057.89745748090 * x);
-		L1 += 0.00000000119 * Utils.cost(5.10578428676 + 1056.93424963440 * x);
-		L1 += 0.00000000100 * Utils.cost(5.74974781049 + 501.23677709140 * x);
-		L1 += 0.00000000094 * Utils.cost(1.40134175492 + 1059.33374607940 * x);
-		L1 += 0.00000000098 * Utils.cost(3.79115318281 + 497.44763618020 * x);
-		L1 += 0.00000000090 * Utils.cost(4.09610113044 + 1064.04779663520 * x);
-		L1 += 0.00000000102 * Utils.cost(1.10442899544 + 1969.20066324380 * x);
-		L1 += 0.00000000087 * Utils.cost(0.58218477838 + 1173.52040467170 * x);
-		L1 += 0.00000000109 * Utils.cost(3.83745968299 + 525.49817940060 * x);
-		L1 += 0.00000000094 * Utils.cost(4.59915291355 + 1059.43011429900 * x);
-		L1 += 0.00000000118 * Utils.cost(6.11701561559 + 1069.67687092770 * x);
-		L1 += 0.00000000107 * Utils.cost(5.40509332689 + 679.25416222920 * x);
-		L1 += 0.00000000089 * Utils.cost(5.90037690244 + 757.21715453420 * x);
-		L1 += 0.00000000078 * Utils.cost(6.06217863109 + 970.51624997220 * x);
-		L1 += 0.00000000080 * Utils.cost(5.45470236239 + 3163.91869656600 * x);
-		L1 += 0.00000000072 * Utils.cost(5.65789862232 + 1151.42900414390 * x);
-		L1 += 0.00000000080 * Utils.cost(0.04539720100 + 1080.72257119160 * x);
-		L1 += 0.00000000075 * Utils.cost(4.26526686574 + 1058.41872234270 * x);
-
-		double L2 = 0;
-		L2 += 0.00047233598 * Utils.cost(4.32148323554 + 7.11354700080 * x);
-		L2 += 0.00030629053 * Utils.cost(2.93021440216 + 529.69096509460 * x);
-		L2 += 0.00038965550;
-		L2 += 0.00003189317 * Utils.cost(1.05504615595 + 522.57741809380 * x);
-		L2 += 0.00002723358 * Utils.cost(3.41411526638 + 1059.38193018920 * x);
-		L2 += 0.00002729292 * Utils.cost(4.84545481351 + 536.80451209540 * x);
-		L2 += 0.00001721069 * Utils.cost(4.18734385158 + 14.22709400160 * x);
-		L2 += 0.00000383258 * Utils.cost(5.76790714387 + 419.48464387520 * x);
-		L2 += 0.00000367498 * Utils.cost(6.05509120409 + 103.09277421860 * x);
-		L2 += 0.00000377524 * Utils.cost(0.76048964872 + 515.46387109300 * x);
-		L2 += 0.00000337386 * Utils.cost(3.78644384244 + 3.18139373770 * x);
-		L2 += 0.00000308200 * Utils.cost(0.69356654052 + 206.18554843720 * x);
-		L2 += 0.00000218408 * Utils.cost(3.81389191353 + 1589.07289528380 * x);
-		L2 += 0.00000198883 * Utils.cost(5.33996443444 + 1066.49547719000 * x);
-		L2 += 0.00000197445 * Utils.cost(2.48356402053 + 3.93215326310 * x);
-		L2 += 0.00000146230 * Utils.cost(3.81373196838 + 639.89728631400 * x);
-		L2 += 0.00000155862 * Utils.cost(1.40642426467 + 1052.26838318840 * x);
-		L2 += 0.00000129570 * Utils.cost(5.83738872525 + 412.37109687440 * x);
-		L2 += 0.00000141932 * Utils.cost(1.63435169016 + 426.59819087600 * x);
-		L2 += 0.00000117327 * Utils.cost(1.41435462588 + 625.67019231240 * x);
-		L2 += 0.00000096733 * Utils.cost(4.03383427887 + 110.20632121940 * x);
-		L2 += 0.00000090823 * Utils.cost(1.10630629042 + 95.97922721780 * x);
-		L2 += 0.00000078769 * Utils.cost(4.63726131329 + 543.91805909620 * x);
-		L2 += 0.00000072392 * Utils.cost(2.21716670026 + 735.87651353180 * x);
-		L2 += 0.00000087292 * Utils.cost(2.52235174825 + 632.78373931320 * x);
-		L2 += 0.00000056910 * Utils.cost(3.12292059854 + 213.29909543800 * x);
-		L2 += 0.00000048622 * Utils.cost(1.67283791618 + 309.27832265580 * x);
-		L2 += 0.00000058475 * Utils.cost(0.83216317444 + 199.07200143640 * x);
-		L2 += 0.00000040150 * Utils.cost(4.02485444740 + 21.34064100240 * x);
-		L2 += 0.00000039784 * Utils.cost(0.62416945827 + 323.50541665740 * x);
-		L2 += 0.00000035718 * Utils.cost(2.32581247002 + 728.76296653100 * x);
-		L2 += 0.00000025620 * Utils.cost(2.51240623862 + 1162.47470440780 * x);
-		L2 += 0.00000029255 * Utils.cost(3.60838327799 + 10.29494073850 * x);
-		L2 += 0.00000023591 * Utils.cost(3.00532139306 + 956.28915597060 * x);
-		L2 += 0.00000027814 * Utils.cost(3.23992013743 + 838.96928775040 * x);
-		L2 += 0.00000025993 * Utils.cost(4.50118298290 + 742.99006053260 * x);
-		L2 += 0.00000025194 * Utils.cost(1.21868110687 + 1045.15483618760 * x);
-		L2 += 0.00000019458 * Utils.cost(4.29028644674 + 532.87235883230 * x);
-		L2 += 0.00000017660 * Utils.cost(0.80953941560 + 508.35032409220 * x);
-		L2 += 0.00000015355 * Utils.cost(5.81037986941 + 1596.18644228460 * x);
-		L2 += 0.00000017058 * Utils.cost(4.20001977723 + 2118.76386037840 * x);
-		L2 += 0.00000017040 * Utils.cost(1.83402146640 + 526.50957135690 * x);
-		L2 += 0.00000014661 * Utils.cost(3.99989622586 + 117.31986822020 * x);
-		L2 += 0.00000013639 * Utils.cost(1.80336677963 + 302.16477565500 * x);
-		L2 += 0.00000013230 * Utils.cost(2.51856643603 + 88.86568021700 * x);
-		L2 += 0.00000012756 * Utils.cost(4.36856232414 + 1169.58825140860 * x);
-		L2 += 0.00000015292 * Utils.cost(0.68174165476 + 942.06206196900 * x);
-		L2 += 0.00000010986 * Utils.cost(4.43586634639 + 525.75881183150 * x);
-		L2 += 0.00000013920 * Utils.cost(5.95169568482 + 316.39186965660 * x);
-		L2 += 0.00000009437 * Utils.cost(2.17684563456 + 1155.36115740700 * x);
-		L2 += 0.00000008812 * Utils.cost(3.29452783338 + 220.41264243880 * x);
-		L2 += 0.00000007823 * Utils.cost(5.75672228354 + 846.08283475120 * x);
-		L2 += 0.00000007549 * Utils.cost(2.70955516779 + 533.62311835770 * x);
-		L2 += 0.00000009681 * Utils.cost(1.71563161051 + 1581.95934828300 * x);
-		L2 += 0.00000008690 * Utils.cost(3.31924493607 + 831.85574074960 * x);
-		L2 += 0.00000006285 * Utils.cost(0.49939863541 + 949.17560896980 * x);
-		L2 += 0.00000006685 * Utils.cost(2.17560093281 + 1265.56747862640 * x);
-		L2 += 0.00000005381 * Utils.cost(6.00510875948 + 405.25754987360 * x);
-		L2 += 0.00000004676 * Utils.cost(1.40846192799 + 1258.45393162560 * x);
-		L2 += 0.00000004421 * Utils.cost(3.02360159274 + 1692.16566950240 * x);
-		L2 += 0.00000004403 * Utils.cost(5.47737266160 + 433.71173787680 * x);
-		L2 += 0.00000004286 * Utils.cost(5.07139951645 + 1073.60902419080 * x);
-		L2 += 0.00000004201 * Utils.cost(5.28560721767 + 18.15924726470 * x);
-		L2 += 0.00000003933 * Utils.cost(1.26665387164 + 853.19638175200 * x);
-		L2 += 0.00000005351 * Utils.cost(3.65320121089 + 1272.68102562720 * x);
-		L2 += 0.00000004392 * Utils.cost(2.27325303667 + 1368.66025284500 * x);
-		L2 += 0.00000003482 * Utils.cost(1.53983001273 + 519.39602435610 * x);
-		L2 += 0.00000002745 * Utils.cost(2.09685315627 + 1478.86657406440 * x);
-		L2 += 0.00000002737 * Utils.cost(1.06017230524 + 1574.84580128220 * x);
-		L2 += 0.00000002897 * Utils.cost(2.05128453665 + 1361.54670584420 * x);
-		L2 += 0.00000003075 * Utils.cost(0.99085727534 + 191.95845443560 * x);
-		L2 += 0.00000002462 * Utils.cost(2.37173605635 + 1471.75302706360 * x);
-		L2 += 0.00000002203 * Utils.cost(2.47960567714 + 721.64941953020 * x);
-		L2 += 0.00000002096 * Utils.cost(3.71482580504 + 1485.98012106520 * x);
-		L2 += 0.00000001984 * Utils.cost(1.88475229557 + 1685.05212250160 * x);
-		L2 += 0.00000002274 * Utils.cost(3.03360234351 + 1148.24761040620 * x);
-		L2 += 0.00000002041 * Utils.cost(6.17114556019 + 330.61896365820 * x);
-		L2 += 0.00000001451 * Utils.cost(4.72055072637 + 32.24332891440 * x);
-		L2 += 0.00000001454 * Utils.cost(5.14703918585 + 1375.77379984580 * x);
-		L2 += 0.00000001447 * Utils.cost(3.18833439444 + 635.96513305090 * x);
-		L2 += 0.00000001403 * Utils.cost(4.26712075104 + 551.03160609700 * x);
-		L2 += 0.00000001420 * Utils.cost(1.99288040133 + 629.60234557550 * x);
-		L2 += 0.00000001269 * Utils.cost(0.03300387779 + 2125.87740737920 * x);
-		L2 += 0.00000001276 * Utils.cost(2.26356919237 + 1788.14489672020 * x);
-		L2 += 0.00000001189 * Utils.cost(1.70223550488 + 1677.93857550080 * x);
-		L2 += 0.00000001182 * Utils.cost(2.18142313946 + 1795.25844372100 * x);
-		L2 += 0.00000001366 * Utils.cost(1.27629917215 + 1038.04128918680 * x);
-		L2 += 0.00000001306 * Utils.cost(4.76302079847 + 1062.56332392690 * x);
-		L2 += 0.00000001109 * Utils.cost(2.97787130235 + 81.75213321620 * x);
-		L2 += 0.00000001027 * Utils.cost(1.99236027398 + 295.05122865420 * x);
-		L2 += 0.00000001349 * Utils.cost(4.01621534182 + 539.98590583310 * x);
-		L2 += 0.00000001025 * Utils.cost(3.75336759986 + 28.45418800320 * x);
-		L2 += 0.00000000977 * Utils.cost(3.01355125761 + 124.43341522100 * x);
-		L2 += 0.00000001290 * Utils.cost(4.62594234857 + 2648.45482547300 * x);
-		L2 += 0.00000001065 * Utils.cost(5.06153058155 + 1699.27921650320 * x);
-		L2 += 0.00000000965 * Utils.cost(1.17716405513 + 99.91138048090 * x);
-		L2 += 0.00000001021 * Utils.cost(1.90712102660 + 750.10360753340 * x);
-		L2 += 0.00000000923 * Utils.cost(3.53450109212 + 227.52618943960 * x);
-		L2 += 0.00000001059 * Utils.cost(0.13532061468 + 416.30325013750 * x);
-		L2 += 0.00000000836 * Utils.cost(2.07492422755 + 1056.20053645150 * x);
-		L2 += 0.00000000889 * Utils.cost(1.75177808106 + 1898.35121793960 * x);
-		L2 += 0.00000000772 * Utils.cost(2.89217715561 + 2008.55753915900 * x);
-		L2 += 0.00000001014 * Utils.cost(2.80847772922 + 1464.63948006280 * x);
-		L2 += 0.00000000820 * Utils.cost(1.99735697577 + 2111.65031337760 * x);
-		L2 += 0.00000000787 * Utils.cost(4.91912237671 + 1055.44977692610 * x);
-		L2 += 0.00000000743 * Utils.cost(2.65209650690 + 106.27416795630 * x);
-		L2 += 0.00000000705 * Utils.cost(0.08006443278 + 963.40270297140 * x);
-		L2 += 0.00000000724 * Utils.cost(3.29664246938 + 628.85158605010 * x);
-		L2 += 0.00000000791 * Utils.cost(1.64655202110 + 2001.44399215820 * x);
-		L2 += 0.00000000822 * Utils.cost(2.74067639972 + 618.55664531160 * x);
-		L2 += 0.00000000761 * Utils.cost(1.26393500358 + 1382.88734684660 * x);
-		L2 += 0.00000000650 * Utils.cost(1.19590511216 + 422.66603761290 * x);
-		L2 += 0.00000000677 * Utils.cost(1.88476058357 + 2104.53676637680 * x);
-		L2 += 0.00000000681 * Utils.cost(5.47481665606 + 5760.49843189760 * x);
-		L2 += 0.00000000681 * Utils.cost(3.11621209674 + 5746.27133789600 * x);
-		L2 += 0.00000000644 * Utils.cost(4.68385640894 + 611.44309831080 * x);
-		L2 += 0.00000000752 * Utils.cost(3.03497138894 + 2221.85663459700 * x);
-		L2 += 0.00000000641 * Utils.cost(1.86274530783 + 636.71589257630 * x);
-		L2 += 0.00000000614 * Utils.cost(3.07677356670 + 380.12776796000 * x);
-		L2 += 0.00000000635 * Utils.cost(4.53916684689 + 9676.48103411560 * x);
-		L2 += 0.00000000635 * Utils.cost(0.61458805483 + 9690.70812811720 * x);
-		L2 += 0.00000000822 * Utils.cost(6.25170365084 + 423.41679713830 * x);
-		L2 += 0.00000000762 * Utils.cost(4.32362906505 + 1802.37199072180 * x);
-		L2 += 0.00000000582 * Utils.cost(0.84137872868 + 1891.23767093880 * x);
-		L2 += 0.00000000558 * Utils.cost(3.96171840325 + 440.82528487760 * x);
-		L2 += 0.00000000624 * Utils.cost(2.83657771014 + 1905.46476494040 * x);
-		L2 += 0.00000000711 * Utils.cost(3.43538032357 + 824.74219374880 * x);
-		L2 += 0.00000000517 * Utils.cost(1.10660016329 + 107.02492748170 * x);
-		L2 += 0.00000000535 * Utils.cost(1.55761050176 + 1994.33044515740 * x);
-		L2 += 0.00000000501 * Utils.cost(4.44389802599 + 647.01083331480 * x);
-		L2 += 0.00000000414 * Utils.cost(5.37130370397 + 2228.97018159780 * x);
-		L2 += 0.00000000533 * Utils.cost(2.54756313371 + 1781.03134971940 * x);
-		L2 += 0.00000000393 * Utils.cost(1.26351262287 + 210.11770170030 * x);
-		L2 += 0.00000000433 * Utils.cost(2.90103969634 + 1063.31408345230 * x);
-		L2 += 0.00000000384 * Utils.cost(1.36194621083 + 203.00415469950 * x);
-		L2 += 0.00000000440 * Utils.cost(1.46934545869 + 2214.74308759620 * x);
-		L2 += 0.00000000424 * Utils.cost(4.98974282486 + 3178.14579056760 * x);
-		L2 += 0.00000000338 * Utils.cost(2.72210106345 + 2324.94940881560 * x);
-		L2 += 0.00000000332 * Utils.cost(0.37505564414 + 2655.56837247380 * x);
-		L2 += 0.00000000318 * Utils.cost(6.11024720065 + 934.94851496820 * x);
-		L2 += 0.00000000405 * Utils.cost(3.51005860013 + 2751.54759969160 * x);
-		L2 += 0.00000000388 * Utils.cost(5.00609647265 + 2015.67108615980 * x);
-		L2 += 0.00000000424 * Utils.cost(4.29668654117 + 5753.38488489680 * x);
-		L2 += 0.00000000328 * Utils.cost(2.35571531981 + 1251.34038462480 * x);
-		L2 += 0.00000000316 * Utils.cost(0.16949503062 + 1279.79457262800 * x);
-		L2 += 0.00000000345 * Utils.cost(2.89328206121 + 2957.73314812880 * x);
-		L2 += 0.00000000303 * Utils.cost(1.63964826684 + 2428.04218303420 * x);
-		L2 += 0.00000000328 * Utils.cost(3.36132375845 + 1141.13406340540 * x);
-		L2 += 0.00000000294 * Utils.cost(2.48947693371 + 2641.34127847220 * x);
-		L2 += 0.00000000350 * Utils.cost(1.50537240918 + 2317.83586181480 * x);
-		L2 += 0.00000000287 * Utils.cost(1.69638214958 + 2420.92863603340 * x);
-		L2 += 0.00000000272 * Utils.cost(0.27466529753 + 319.57326339430 * x);
-		L2 += 0.00000000303 * Utils.cost(2.43034117616 + 70.84944530420 * x);
-		L2 += 0.00000000251 * Utils.cost(0.43544711316 + 3259.89792378380 * x);
-		L2 += 0.00000000224 * Utils.cost(4.49752269293 + 5223.69391980220 * x);
-		L2 += 0.00000000272 * Utils.cost(2.98590404673 + 1457.52593306200 * x);
-		L2 += 0.00000000228 * Utils.cost(5.47896916415 + 1603.29998928540 * x);
-		L2 += 0.00000000288 * Utils.cost(2.30146999217 + 2854.64037391020 * x);
-		L2 += 0.00000000207 * Utils.cost(5.94297320087 + 9153.90361602180 * x);
-		L2 += 0.00000000243 * Utils.cost(1.58604251447 + 2744.43405269080 * x);
-		L2 += 0.00000000228 * Utils.cost(1.28182702946 + 2310.72231481400 * x);
-		L2 += 0.00000000224 * Utils.cost(1.28623905132 + 3060.82592234740 * x);
-		L2 += 0.00000000222 * Utils.cost(0.63265553397 + 3163.91869656600 * x);
-		L2 += 0.00000000242 * Utils.cost(2.52382905368 + 3274.12501778540 * x);
-		L2 += 0.00000000188 * Utils.cost(6.00513627145 + 92.04707395470 * x);
-		L2 += 0.00000000239 * Utils.cost(1.93897157244 + 2413.81508903260 * x);
-		L2 += 0.00000000214 * Utils.cost(1.14529237568 + 2531.13495725280 * x);
-		L2 += 0.00000000200 * Utils.cost(3.42280996072 + 99.16062095550 * x);
-		L2 += 0.00000000179 * Utils.cost(0.53892926207 + 2207.62954059540 * x);
-		L2 += 0.00000000177 * Utils.cost(5.56545270243 + 2332.06295581640 * x);
-		L2 += 0.00000000172 * Utils.cost(1.38604067808 + 945.99421523210 * x);
-		L2 += 0.00000000203 * Utils.cost(0.41899069603 + 2840.41327990860 * x);
-		L2 += 0.00000000231 * Utils.cost(2.26353330460 + 2097.42321937600 * x);
-		L2 += 0.00000000228 * Utils.cost(3.82701076821 + 113.38771495710 * x);
-		L2 += 0.00000000165 * Utils.cost(4.08776703733 + 6283.07584999140 * x);
-		L2 += 0.00000000202 * Utils.cost(3.30429764992 + 3067.93946934820 * x);
-		L2 += 0.00000000224 * Utils.cost(3.69285208525 + 2435.15573003500 * x);
-		L2 += 0.00000000214 * Utils.cost(2.55756944911 + 2538.24850425360 * x);
-		L2 += 0.00000000203 * Utils.cost(2.24205059922 + 67.66805156650 * x);
-		L2 += 0.00000000152 * Utils.cost(5.48122906518 + 10213.28554621100 * x);
-		L2 += 0.00000000191 * Utils.cost(2.68685722531 + 1773.91780271860 * x);
-		L2 += 0.00000000189 * Utils.cost(2.95184620359 + 732.69511979410 * x);
-		L2 += 0.00000000149 * Utils.cost(1.98737542735 + 1049.08698945070 * x);
-		L2 += 0.00000000163 * Utils.cost(1.24084734609 + 3053.71237534660 * x);
-		L2 += 0.00000000171 * Utils.cost(2.34210749987 + 1354.43315884340 * x);
-		L2 += 0.00000000112 * Utils.cost(5.77407285790 + 547.85021235930 * x);
-		L2 += 0.00000000124 * Utils.cost(0.14001204498 + 860.30992875280 * x);
-		L2 += 0.00000000086 * Utils.cost(1.26924601636 + 511.53171782990 * x);
-		L2 += 0.00000000114 * Utils.cost(5.15982838070 + 1592.25428902150 * x);
-		L2 += 0.00000000091 * Utils.cost(1.48896790758 + 1567.73225428140 * x);
-		L2 += 0.00000000086 * Utils.cost(4.34444949905 + 1069.67687092770 * x);
-
-		double L3 = 0;
-		L3 += 0.00006501665 * Utils.cost(2.59862880482 + 7.11354700080 * x);
-		L3 += 0.00001356524 * Utils.cost(1.34635886411 + 529.69096509460 * x);
-		L3 += 0.00000470716 * Utils.cost(2.47503977883 + 14.22709400160 * x);
-		L3 += 0.00000416960 * Utils.cost(3.24451243214 + 536.80451209540 * x);
-		L3 += 0.00000352851 * Utils.cost(2.97360159003 + 522.57741809380 * x);
-		L3 += 0.00000154880 * Utils.cost(2.07565585817 + 1059.38193018920 * x);
-		L3 += 0.00000086771 * Utils.cost(2.51431584316 + 515.46387109300 * x);
-		L3 += 0.00000033538 * Utils.cost(3.82633794497 + 1066.49547719000 * x);
-		L3 += 0.00000044378;
-		L3 += 0.00000022644 * Utils.cost(2.98231326774 + 543.91805909620 * x);
-		L3 += 0.00000023737 * Utils.cost(1.27667172313 + 412.37109687440 * x);
-		L3 += 0.00000028457 * Utils.cost(2.44754756058 + 206.18554843720 * x);
-		L3 += 0.00000019798 * Utils.cost(2.10099934005 + 639.89728631400 * x);
-		L3 += 0.00000019740 * Utils.cost(1.40255938973 + 419.48464387520 * x);
-		L3 += 0.00000018768 * Utils.cost(1.59368403500 + 103.09277421860 * x);
-		L3 += 0.00000017033 * Utils.cost(2.30214681202 + 21.34064100240 * x);
-		L3 += 0.00000016774 * Utils.cost(2.59821460673 + 1589.07289528380 * x);
-		L3 += 0.00000016214 * Utils.cost(3.14521117299 + 625.67019231240 * x);
-		L3 += 0.00000016055 * Utils.cost(3.36030126297 + 1052.26838318840 * x);
-		L3 += 0.00000013392 * Utils.cost(2.75973892202 + 95.97922721780 * x);
-		L3 += 0.00000013234 * Utils.cost(2.53862244340 + 199.07200143640 * x);
-		L3 += 0.00000012611 * Utils.cost(6.26578110400 + 426.59819087600 * x);
-		L3 += 0.00000008637 * Utils.cost(2.26563256289 + 110.20632121940 * x);
-		L3 += 0.00000006725 * Utils.cost(3.42566433316 + 309.27832265580 * x);
-		L3 += 0.00000008701 * Utils.cost(1.76334960737 + 10.29494073850 * x);
-		L3 += 0.00000006527 * Utils.cost(4.03869562907 + 728.76296653100 * x);
-		L3 += 0.00000005368 * Utils.cost(5.25196153539 + 323.50541665740 * x);
-		L3 += 0.00000005675 * Utils.cost(2.52096417685 + 508.35032409220 * x);
-		L3 += 0.00000005399 * Utils.cost(2.91184687105 + 1045.15483618760 * x);
-		L3 += 0.00000003996 * Utils.cost(4.30290261177 + 88.86568021700 * x);
-		L3 += 0.00000003857 * Utils.cost(3.52381361552 + 302.16477565500 * x);
-		L3 += 0.00000003774 * Utils.cost(4.09125315146 + 735.87651353180 * x);
-		L3 += 0.00000003269 * Utils.cost(1.43175991274 + 956.28915597060 * x);
-		L3 += 0.00000002783 * Utils.cost(4.35817507670 + 1596.18644228460 * x);
-		L3 += 0.00000002661 * Utils.cost(1.25276590759 + 213.29909543800 * x);
-		L3 += 0.00000002553 * Utils.cost(2.23785673285 + 117.31986822020 * x);
-		L3 += 0.00000002371 * Utils.cost(2.89662409244 + 742.99006053260 * x);
-		L3 += 0.00000002656 * Utils.cost(5.01505839848 + 838.96928775040 * x);
-		L3 += 0.00000001948 * Utils.cost(2.77248294666 + 1169.58825140860 * x);
-		L3 += 0.00000002279 * Utils.cost(2.35581871230 + 942.06206196900 * x);
-		L3 += 0.00000001474 * Utils.cost(1.61011468581 + 220.41264243880 * x);
-		L3 += 0.00000001457 * Utils.cost(3.09381959396 + 2118.76386037840 * x);
-		L3 += 0.00000001937 * Utils.cost(5.01388256693 + 831.85574074960 * x);
-		L3 += 0.00000001585 * Utils.cost(1.40097680805 + 405.25754987360 * x);
-		L3 += 0.00000001257 * Utils.cost(3.97811260358 + 1155.36115740700 * x);
-		L3 += 0.00000001227 * Utils.cost(3.45959919972 + 1073.60902419080 * x);
-		L3 += 0.00000000986 * Utils.cost(3.39209446167 + 532.87235883230 * x);
-		L3 += 0.00000000942 * Utils.cost(2.70200385825 + 191.95845443560 * x);
-		L3 += 0.00000000828 * Utils.cost(1.48348768286 + 632.78373931320 * x);
-		L3 += 0.00000000797 * Utils.cost(1.10706688850 + 1162.47470440780 * x);
-		L3 += 0.00000000822 * Utils.cost(3.30295824153 + 1258.45393162560 * x);
-		L3 += 0.00000000710 * Utils.cost(5.89798771980 + 853.19638175200 * x);
-		L3 += 0.00000000766 * Utils.cost(3.66351539483 + 1581.95934828300 * x);
-		L3 += 0.00000000722 * Utils.cost(3.74673245797 + 433.71173787680 * x);
-		L3 += 0.00000000663 * Utils.cost(2.93063953915 + 1574.84580128220 * x);
-		L3 += 0.00000000658 * Utils.cost(3.52797311863 + 525.75881183150 * x);
-		L3 += 0.00000000609 * Utils.cost(4.14881313523 + 721.64941953020 * x);
-		L3 += 0.00000000598 * Utils.cost(4.69454609357 + 81.75213321620 * x);
-		L3 += 0.00000000668 * Utils.cost(1.96442971289 + 1272.68102562720 * x);
-		L3 += 0.00000000515 * Utils.cost(1.57251270902 + 949.17560896980 * x);
-		L3 += 0.00000000658 * Utils.cost(2.02329201466 + 526.50957135690 * x);
-		L3 += 0.00000000517 * Utils.cost(4.35827478516 + 1368.66025284500 * x);
-		L3 += 0.00000000510 * Utils.cost(4.95846155301 + 1148.24761040620 * x);
-		L3 += 0.00000000507 * Utils.cost(4.31396370095 + 330.61896365820 * x);
-		L3 += 0.00000000567 * Utils.cost(2.27813343743 + 551.03160609700 * x);
-		L3 += 0.00000000480 * Utils.cost(3.86758235988 + 1361.54670584420 * x);
-		L3 += 0.00000000383 * Utils.cost(0.24287136454 + 611.44309831080 * x);
-		L3 += 0.00000000434 * Utils.cost(2.95461755540 + 1038.04128918680 * x);
-		L3 += 0.00000000377 * Utils.cost(1.42957648215 + 124.43341522100 * x);
-		L3 += 0.00000000391 * Utils.cost(4.07770324592 + 1471.75302706360 * x);
-		L3 += 0.00000000385 * Utils.cost(4.70295179800 + 519.39602435610 * x);
-		L3 += 0.00000000428 * Utils.cost(2.22472522305 + 539.98590583310 * x);
-		L3 += 0.00000000343 * Utils.cost(4.83463725823 + 2125.87740737920 * x);
-		L3 += 0.00000000394 * Utils.cost(4.52891996323 + 1464.63948006280 * x);
-		L3 += 0.00000000305 * Utils.cost(2.02797683648 + 1485.98012106520 * x);
-		L3 += 0.00000000283 * Utils.cost(0.97461612169 + 1905.46476494040 * x);
-		L3 += 0.00000000276 * Utils.cost(3.83552772064 + 1062.56332392690 * x);
-		L3 += 0.00000000351 * Utils.cost(2.06334334462 + 533.62311835770 * x);
-		L3 += 0.00000000304 * Utils.cost(3.93228052293 + 1685.05212250160 * x);
-		L3 += 0.00000000322 * Utils.cost(3.54763044791 + 846.08283475120 * x);
-		L3 += 0.00000000345 * Utils.cost(4.18332148409 + 1788.14489672020 * x);
-		L3 += 0.00000000253 * Utils.cost(3.12703531516 + 1994.33044515740 * x);
-		L3 += 0.00000000257 * Utils.cost(1.05361498985 + 1478.86657406440 * x);
-		L3 += 0.00000000232 * Utils.cost(1.69999081817 + 1692.16566950240 * x);
-		L3 += 0.00000000225 * Utils.cost(2.51624149780 + 1891.23767093880 * x);
-		L3 += 0.00000000217 * Utils.cost(4.58512911216 + 963.40270297140 * x);
-		L3 += 0.00000000277 * Utils.cost(3.63353707701 + 1677.93857550080 * x);
-		L3 += 0.00000000242 * Utils.cost(2.90163762388 + 2310.72231481400 * x);
-		L3 += 0.00000000211 * Utils.cost(3.96419403991 + 295.05122865420 * x);
-		L3 += 0.00000000199 * Utils.cost(5.17046500750 + 618.55664531160 * x);
-		L3 += 0.00000000256 * Utils.cost(4.19052619061 + 1781.03134971940 * x);
-		L3 += 0.00000000192 * Utils.cost(0.81556540966 + 2221.85663459700 * x);
-		L3 += 0.00000000187 * Utils.cost(3.49895198981 + 2648.45482547300 * x);
-		L3 += 0.00000000208 * Utils.cost(4.11838429822 + 2097.42321937600 * x);
-		L3 += 0.00000000183 * Utils.cost(3.30680692414 + 1699.27921650320 * x);
-		L3 += 0.00000000231 * Utils.cost(2.54516792766 + 1375.77379984580 * x);
-		L3 += 0.00000000189 * Utils.cost(5.74277274755 + 2627.11418447060 * x);
-		L3 += 0.00000000214 * Utils.cost(5.48031974537 + 1354.43315884340 * x);
-		L3 += 0.00000000220 * Utils.cost(3.87471989410 + 2104.53676637680 * x);
-		L3 += 0.00000000171 * Utils.cost(6.10827209399 + 1382.88734684660 * x);
-		L3 += 0.00000000184 * Utils.cost(5.98415847544 + 750.10360753340 * x);
-		L3 += 0.00000000171 * Utils.cost(5.25744961028 + 824.74219374880 * x);
-		L3 += 0.00000000151 * Utils.cost(4.30799091626 + 2001.44399215820 * x);
-		L3 += 0.00000000140 * Utils.cost(4.27089466070 + 1265.56747862640 * x);
-		L3 += 0.00000000097 * Utils.cost(4.67188056608 + 647.01083331480 * x);
-		L3 += 0.00000000088 * Utils.cost(2.43775210355 + 440.82528487760 * x);
-		L3 += 0.00000000075 * Utils.cost(3.93105183253 + 1055.44977692610 * x);
-		L3 += 0.00000000079 * Utils.cost(1.88533153220 + 934.94851496820 * x);
-		L3 += 0.00000000077 * Utils.cost(3.80503143236 + 1603.29998928540 * x);
-
-		double L4 = 0;
-		L4 += 0.00000669483 * Utils.cost(0.85282421090 + 7.11354700080 * x);
-		L4 += 0.00000099961 * Utils.cost(0.74258947751 + 14.22709400160 * x);
-		L4 -= 0.00000114019;
-		L4 += 0.00000050024 * Utils.cost(1.65346208248 + 536.80451209540 * x);
-		L4 += 0.00000043585 * Utils.cost(5.82026386621 + 529.69096509460 * x);
-		L4 += 0.00000031813 * Utils.cost(4.85829986650 + 522.57741809380 * x);
-		L4 += 0.00000014742 * Utils.cost(4.29061635784 + 515.46387109300 * x);
-		L4 += 0.00000008899 * Utils.cost(0.71478520741 + 1059.38193018920 * x);
-		L4 += 0.00000004957 * Utils.cost(1.29502259434 + 543.91805909620 * x);
-		L4 += 0.00000004484 * Utils.cost(2.31715516627 + 1066.49547719000 * x);
-		L4 += 0.00000004251 * Utils.cost(0.48326797501 + 21.34064100240 * x);
-		L4 += 0.00000003100 * Utils.cost(3.00245542678 + 412.37109687440 * x);
-		L4 += 0.00000002055 * Utils.cost(0.39858940218 + 639.89728631400 * x);
-		L4 += 0.00000001762 * Utils.cost(4.90536207307 + 625.67019231240 * x);
-		L4 += 0.00000001902 * Utils.cost(4.25925620271 + 199.07200143640 * x);
-		L4 += 0.00000001695 * Utils.cost(4.26147580803 + 206.18554843720 * x);
-		L4 += 0.00000001375 * Utils.cost(5.25546955667 + 1052.26838318840 * x);
-		L4 += 0.00000001203 * Utils.cost(4.71614633845 + 95.97922721780 * x);
-		L4 += 0.00000001086 * Utils.cost(1.28604571172 + 1589.07289528380 * x);
-		L4 += 0.00000000982 * Utils.cost(4.77990073662 + 1045.15483618760 * x);
-		L4 += 0.00000000935 * Utils.cost(6.05847062188 + 88.86568021700 * x);
-		L4 += 0.00000000916 * Utils.cost(5.77537499431 + 728.76296653100 * x);
-		L4 += 0.00000000890 * Utils.cost(4.55299189579 + 426.59819087600 * x);
-		L4 += 0.00000000784 * Utils.cost(3.40161567950 + 419.48464387520 * x);
-		L4 += 0.00000000768 * Utils.cost(3.54672049322 + 103.09277421860 * x);
-		L4 += 0.00000000670 * Utils.cost(0.52223307700 + 110.20632121940 * x);
-		L4 += 0.00000000415 * Utils.cost(5.22809480633 + 302.16477565500 * x);
-		L4 += 0.00000000393 * Utils.cost(6.24184621807 + 956.28915597060 * x);
-		L4 += 0.00000000381 * Utils.cost(5.25466966040 + 309.27832265580 * x);
-		L4 += 0.00000000421 * Utils.cost(0.59561318533 + 117.31986822020 * x);
-		L4 += 0.00000000346 * Utils.cost(4.78348312106 + 508.35032409220 * x);
-		L4 += 0.00000000319 * Utils.cost(3.47979828725 + 323.50541665740 * x);
-		L4 += 0.00000000331 * Utils.cost(2.95893485883 + 1596.18644228460 * x);
-		L4 += 0.00000000295 * Utils.cost(4.32713459459 + 942.06206196900 * x);
-		L4 += 0.00000000319 * Utils.cost(0.47990052824 + 831.85574074960 * x);
-		L4 += 0.00000000251 * Utils.cost(1.79898001222 + 1073.60902419080 * x);
-		L4 += 0.00000000212 * Utils.cost(0.43917684084 + 220.41264243880 * x);
-		L4 += 0.00000000188 * Utils.cost(1.12654974776 + 1169.58825140860 * x);
-		L4 += 0.00000000188 * Utils.cost(2.16135407548 + 1361.54670584420 * x);
-		L4 += 0.00000000180 * Utils.cost(3.43266428069 + 1148.24761040620 * x);
-		L4 += 0.00000000164 * Utils.cost(1.92864127211 + 2118.76386037840 * x);
-		L4 += 0.00000000157 * Utils.cost(3.02963907392 + 1272.68102562720 * x);
-		L4 += 0.00000000093 * Utils.cost(5.60436000012 + 1581.95934828300 * x);
-		L4 += 0.00000000085 * Utils.cost(5.02317256200 + 1155.36115740700 * x);
-		L4 += 0.00000000075 * Utils.cost(3.13198879608 + 632.78373931320 * x);
-
-		double L5 = 0;
-		L5 += 0.00000049577 * Utils.cost(5.25658966184 + 7.11354700080 * x);
-		L5 += 0.00000015761 * Utils.cost(5.25126837478 + 14.22709400160 * x);
-		L5 += 0.00000004343 * Utils.cost(0.01461869263 + 536.80451209540 * x);
-		L5 += 0.00000001526 * Utils.cost(1.09739911439 + 522.57741809380 * x);
-		L5 += 0.00000000728 * Utils.cost(5.85949047619 + 543.91805909620 * x);
-		L5 += 0.00000000694 * Utils.cost(0.87382487754 + 515.46387109300 * x);
-		L5 -= 0.00000000845;
-		L5 += 0.00000000456 * Utils.cost(0.81521692852 + 1066.49547719000 * x);
-		L5 += 0.00000000293 * Utils.cost(5.62909357048 + 1059.38193018920 * x);
-		L5 += 0.00000000090 * Utils.cost(0.21178119710 + 529.69096509460 * x);
-
-		double x2 = x * x;
-		double x3 = x2 * x;
-		double x4 = x3 * x;
-		double x5 = x4 * x;
-
-		return Math.toDegrees(Utils.trunc2(L0 + L1 * x + L2 * x2 + L3 * x3 + L4 * x4 + L5 * x5));
+		return Math.toDegrees(Utils.trunc2(SERIES.evaluate(VSOP87.L, x)));
 	}
 
 	//Heliocentric latitude of Jupiter
 
 	private static double bJupiter(double x) {
-		double B0 = 0;
-		B0 += 0.02268615703 * Utils.cost(3.55852606718 + 529.69096509460 * x);
-		B0 += 0.00109971634 * Utils.cost(3.90809347389 + 1059.38193018920 * x);
-		B0 += 0.00110090358;
-		B0 += 0.00008101427 * Utils.cost(3.60509573368 + 522.57741809380 * x);
-		B0 += 0.00006043996 * Utils.cost(4.25883108794 + 1589.07289528380 * x);
-		B0 += 0.00006437782 * Utils.cost(0.30627121409 + 536.80451209540 * x);
-		B0 += 0.00001106880 * Utils.cost(2.98534421928 + 1162.47470440780 * x);
-		B0 += 0.00000941651 * Utils.cost(2.93619072405 + 1052.26838318840 * x);
-		B0 += 0.00000894088 * Utils.cost(1.75447429921 + 7.11354700080 * x);
-		B0 += 0.00000767280 * Utils.cost(2.15473594060 + 632.78373931320 * x);
-		B0 += 0.00000944328 * Utils.cost(1.67522288396 + 426.59819087600 * x);
-		B0 += 0.00000684220 * Utils.cost(3.67808770098 + 213.29909543800 * x);
-		B0 += 0.00000629223 * Utils.cost(0.64343282328 + 1066.49547719000 * x);
-		B0 += 0.00000835861 * Utils.cost(5.17881973234 + 103.09277421860 * x);
-		B0 += 0.00000531670 * Utils.cost(2.70305954352 + 110.20632121940 * x);
-		B0 += 0.00000558524 * Utils.cost(0.01354830508 + 846.08283475120 * x);
-		B0 += 0.00000464449 * Utils.cost(1.17337249185 + 949.17560896980 * x);
-		B0 += 0.00000431072 * Utils.cost(2.60825000494 + 419.48464387520 * x);
-		B0 += 0.00000351433 * Utils.cost(4.61062990714 + 2118.76386037840 * x);
-		B0 += 0.00000123148 * Utils.cost(3.34968181384 + 1692.16566950240 * x);
-		B0 += 0.00000115038 * Utils.cost(5.04892295442 + 316.39186965660 * x);
-		B0 += 0.00000132160 * Utils.cost(4.77816990670 + 742.99006053260 * x);
-		B0 += 0.00000103402 * Utils.cost(2.31878999565 + 1478.86657406440 * x);
-		B0 += 0.00000116379 * Utils.cost(1.38688232033 + 323.50541665740 * x);
-		B0 += 0.00000102420 * Utils.cost(3.15293785436 + 1581.95934828300 * x);
-		B0 += 0.00000103762 * Utils.cost(3.70103838110 + 515.46387109300 * x);
-		B0 += 0.00000078650 * Utils.cost(3.98318653238 + 1265.56747862640 * x);
-		B0 += 0.00000069935 * Utils.cost(2.56006216424 + 956.28915597060 * x);
-		B0 += 0.00000055597 * Utils.cost(0.37500753017 + 1375.77379984580 * x);
-		B0 += 0.00000051986 * Utils.cost(0.99007119033 + 1596.18644228460 * x);
-		B0 += 0.00000055194 * Utils.cost(0.40176412035 + 525.75881183150 * x);
-		B0 += 0.00000063456 * Utils.cost(4.50073574333 + 735.87651353180 * x);
-		B0 += 0.00000049691 * Utils.cost(0.18649893085 + 543.91805909620 * x);
-		B0 += 0.00000048831 * Utils.cost(3.57260550671 + 533.62311835770 * x);
-		B0 += 0.00000028353 * Utils.cost(1.53532744749 + 625.67019231240 * x);
-		B0 += 0.00000029209 * Utils.cost(5.43145863011 + 206.18554843720 * x);
-		B0 += 0.00000023255 * Utils.cost(5.95197992848 + 838.96928775040 * x);
-		B0 += 0.00000022841 * Utils.cost(6.19262787685 + 532.87235883230 * x);
-		B0 += 0.00000023202 * Utils.cost(4.06473368575 + 526.50957135690 * x);
-		B0 += 0.00000024436 * Utils.cost(6.10947656959 + 1169.58825140860 * x);
-		B0 += 0.00000021116 * Utils.cost(4.96322972735 + 2648.45482547300 * x);
-		B0 += 0.00000017879 * Utils.cost(3.08704395969 + 1795.25844372100 * x);
-		B0 += 0.00000016234 * Utils.cost(4.83515727869 + 1368.66025284500 * x);
-		B0 += 0.00000021314 * Utils.cost(2.69476951059 + 1045.15483618760 * x);
-		B0 += 0.00000015740 * Utils.cost(1.15130330106 + 942.06206196900 * x);
-		B0 += 0.00000017325 * Utils.cost(1.61550009206 + 14.22709400160 * x);
-		B0 += 0.00000013396 * Utils.cost(2.30539585502 + 853.19638175200 * x);
-		B0 += 0.00000011904 * Utils.cost(3.09811974536 + 2111.65031337760 * x);
-		B0 += 0.00000011734 * Utils.cost(2.83006431723 + 2008.55753915900 * x);
-		B0 += 0.00000011291 * Utils.cost(0.98957560201 + 433.71173787680 * x);
-		B0 += 0.00000011830 * Utils.cost(4.76527836803 + 309.27832265580 * x);
-		B0 += 0.00000010702 * Utils.cost(3.70181397065 + 2221.85663459700 * x);
-		B0 += 0.00000010815 * Utils.cost(5.81958878617 + 1272.68102562720 * x);
-		B0 += 0.00000013505 * Utils.cost(3.28126975760 + 1155.36115740700 * x);
-		B0 += 0.00000010179 * Utils.cost(2.58691128827 + 117.31986822020 * x);
-		B0 += 0.00000010632 * Utils.cost(5.23487936086 + 95.97922721780 * x);
-		B0 += 0.00000008771 * Utils.cost(0.40456546655 + 220.41264243880 * x);
-		B0 += 0.00000007439 * Utils.cost(2.94638292086 + 412.37109687440 * x);
-		B0 += 0.00000006151 * Utils.cost(2.69100382247 + 380.12776796000 * x);
-		B0 += 0.00000005028 * Utils.cost(0.72750312028 + 1055.44977692610 * x);
-		B0 += 0.00000004939 * Utils.cost(0.73756716762 + 1905.46476494040 * x);
-		B0 += 0.00000005421 * Utils.cost(4.08612438558 + 1685.05212250160 * x);
-		B0 += 0.00000005936 * Utils.cost(4.32059910537 + 1063.31408345230 * x);
-		B0 += 0.00000004737 * Utils.cost(4.09303016850 + 527.24328453980 * x);
-		B0 += 0.00000004010 * Utils.cost(0.51530008355 + 1073.60902419080 * x);
-		B0 += 0.00000004709 * Utils.cost(1.84067645204 + 984.60033162190 * x);
-		B0 += 0.00000003974 * Utils.cost(1.33608029246 + 2125.87740737920 * x);
-		B0 += 0.00000003762 * Utils.cost(3.58647039394 + 529.73914920440 * x);
-		B0 += 0.00000004731 * Utils.cost(6.16377350841 + 532.13864564940 * x);
-		B0 += 0.00000004666 * Utils.cost(5.88762905802 + 639.89728631400 * x);
-		B0 += 0.00000003763 * Utils.cost(0.38865925413 + 529.64278098480 * x);
-		B0 += 0.00000003409 * Utils.cost(4.05398247269 + 1898.35121793960 * x);
-		B0 += 0.00000003457 * Utils.cost(3.43865563497 + 1485.98012106520 * x);
-		B0 += 0.00000004229 * Utils.cost(2.23767157901 + 74.78159856730 * x);
-		B0 += 0.00000003091 * Utils.cost(0.16470256025 + 1699.27921650320 * x);
-		B0 += 0.00000002975 * Utils.cost(0.72268908074 + 530.65417294110 * x);
-		B0 += 0.00000003162 * Utils.cost(1.25048416420 + 330.61896365820 * x);
-		B0 += 0.00000002727 * Utils.cost(4.37679213321 + 149.56319713460 * x);
-		B0 += 0.00000002837 * Utils.cost(0.05987107395 + 1439.50969814920 * x);
-		B0 += 0.00000002983 * Utils.cost(3.25251207220 + 528.72775724810 * x);
-		B0 += 0.00000002232 * Utils.cost(0.26149880534 + 1062.56332392690 * x);
-		B0 += 0.00000002464 * Utils.cost(1.16913304420 + 453.42489381900 * x);
-		B0 += 0.00000002596 * Utils.cost(3.30510149086 + 2324.94940881560 * x);
-		B0 += 0.00000001988 * Utils.cost(2.85269577619 + 1574.84580128220 * x);
-		B0 += 0.00000002527 * Utils.cost(5.94458202950 + 909.81873305460 * x);
-		B0 += 0.00000002269 * Utils.cost(1.30379329597 + 3.93215326310 * x);
-		B0 += 0.00000001742 * Utils.cost(4.49909767044 + 1258.45393162560 * x);
-		B0 += 0.00000001714 * Utils.cost(4.12945878208 + 2001.44399215820 * x);
-		B0 += 0.00000002029 * Utils.cost(3.97938086639 + 1056.20053645150 * x);
-		B0 += 0.00000001667 * Utils.cost(0.36037092553 + 10213.28554621100 * x);
-		B0 += 0.00000001579 * Utils.cost(6.11640144795 + 1802.37199072180 * x);
-		B0 += 0.00000001393 * Utils.cost(3.69324470827 + 2214.74308759620 * x);
-		B0 += 0.00000001604 * Utils.cost(1.98841031703 + 38.13303563780 * x);
-		B0 += 0.00000001325 * Utils.cost(1.74025919863 + 529.16970023280 * x);
-		B0 += 0.00000001451 * Utils.cost(2.39804501178 + 2428.04218303420 * x);
-		B0 += 0.00000001594 * Utils.cost(2.07556780757 + 1021.24889455140 * x);
-		B0 += 0.00000001320 * Utils.cost(1.33770977126 + 618.55664531160 * x);
-		B0 += 0.00000001346 * Utils.cost(3.27591492540 + 2641.34127847220 * x);
-		B0 += 0.00000001230 * Utils.cost(0.19552728220 + 305.34616939270 * x);
-		B0 += 0.00000001223 * Utils.cost(2.86681556337 + 1382.88734684660 * x);
-		B0 += 0.00000001324 * Utils.cost(2.23549334986 + 530.21222995640 * x);
-		B0 += 0.00000001056 * Utils.cost(3.80579750957 + 76.26607127560 * x);
-		B0 += 0.00000001050 * Utils.cost(4.68011652614 + 1788.14489672020 * x);
-		B0 += 0.00000001226 * Utils.cost(5.34003255221 + 3178.14579056760 * x);
-		B0 += 0.00000001009 * Utils.cost(3.19608028376 + 2538.24850425360 * x);
-		B0 += 0.00000001266 * Utils.cost(3.04704446731 + 604.47256366190 * x);
-		B0 += 0.00000000954 * Utils.cost(3.86932544808 + 728.76296653100 * x);
-		B0 += 0.00000001124 * Utils.cost(1.59560367480 + 3.18139373770 * x);
-		B0 += 0.00000000978 * Utils.cost(0.25223689838 + 983.11585891360 * x);
-		B0 += 0.00000000948 * Utils.cost(0.21552742733 + 750.10360753340 * x);
-		B0 += 0.00000000946 * Utils.cost(3.93927748120 + 508.35032409220 * x);
-		B0 += 0.00000000920 * Utils.cost(1.14672086939 + 963.40270297140 * x);
-		B0 += 0.00000000817 * Utils.cost(5.93809619876 + 831.85574074960 * x);
-		B0 += 0.00000000770 * Utils.cost(2.96062737592 + 526.77020378780 * x);
-		B0 += 0.00000001017 * Utils.cost(5.55711112145 + 199.07200143640 * x);
-		B0 += 0.00000000761 * Utils.cost(1.38163787157 + 532.61172640140 * x);
-		B0 += 0.00000000726 * Utils.cost(3.98337964395 + 2317.83586181480 * x);
-		B0 += 0.00000000862 * Utils.cost(0.87975657414 + 490.33408917940 * x);
-		B0 += 0.00000000868 * Utils.cost(3.44331872364 + 569.04784100980 * x);
-		B0 += 0.00000000711 * Utils.cost(4.11107052823 + 2751.54759969160 * x);
-		B0 += 0.00000000708 * Utils.cost(0.33555577415 + 528.94020556920 * x);
-		B0 += 0.00000000708 * Utils.cost(4.00539820601 + 530.44172462000 * x);
-		B0 += 0.00000000656 * Utils.cost(4.39568451439 + 519.39602435610 * x);
-		B0 += 0.00000000801 * Utils.cost(4.03984430862 + 1364.72809958190 * x);
-		B0 += 0.00000000679 * Utils.cost(1.18645749024 + 525.49817940060 * x);
-		B0 += 0.00000000645 * Utils.cost(5.10510349996 + 1361.54670584420 * x);
-		B0 += 0.00000000668 * Utils.cost(3.15607509055 + 533.88375078860 * x);
-		B0 += 0.00000000663 * Utils.cost(0.73722024843 + 5223.69391980220 * x);
-		B0 += 0.00000000663 * Utils.cost(1.57092786811 + 6283.07584999140 * x);
-		B0 += 0.00000000543 * Utils.cost(0.26376529935 + 227.52618943960 * x);
-		B0 += 0.00000000525 * Utils.cost(6.22318693939 + 539.98590583310 * x);
-		B0 += 0.00000000513 * Utils.cost(4.98337900151 + 302.16477565500 * x);
-		B0 += 0.00000000544 * Utils.cost(2.22227019273 + 2744.43405269080 * x);
-		B0 += 0.00000000532 * Utils.cost(2.62425372687 + 99.16062095550 * x);
-		B0 += 0.00000000602 * Utils.cost(1.56074089013 + 454.90936652730 * x);
-		B0 += 0.00000000518 * Utils.cost(0.26343805959 + 551.03160609700 * x);
-		B0 += 0.00000000516 * Utils.cost(1.09376390349 + 934.94851496820 * x);
-		B0 += 0.00000000659 * Utils.cost(0.62560671589 + 1512.80682400820 * x);
-		B0 += 0.00000000524 * Utils.cost(0.64710955846 + 524.06189080210 * x);
-		B0 += 0.00000000516 * Utils.cost(3.69478866795 + 535.32003938710 * x);
-		B0 += 0.00000000491 * Utils.cost(3.63039940597 + 2531.13495725280 * x);
-		B0 += 0.00000000570 * Utils.cost(0.61976758791 + 540.73666535850 * x);
-		B0 += 0.00000000496 * Utils.cost(2.19398015038 + 1514.29129671650 * x);
-		B0 += 0.00000000532 * Utils.cost(0.20040217534 + 525.02509864860 * x);
-		B0 += 0.00000000493 * Utils.cost(0.39160693598 + 224.34479570190 * x);
-		B0 += 0.00000000449 * Utils.cost(0.62392433691 + 529.53090640020 * x);
-		B0 += 0.00000000449 * Utils.cost(3.71676131146 + 529.85102378900 * x);
-		B0 += 0.00000000450 * Utils.cost(5.02467015031 + 1048.33622992530 * x);
-		B0 += 0.00000000428 * Utils.cost(5.44804660290 + 11.04570026390 * x);
-		B0 += 0.00000000499 * Utils.cost(4.13924061941 + 534.35683154060 * x);
-		B0 += 0.00000000528 * Utils.cost(1.76471074936 + 524.27433912320 * x);
-		B0 += 0.00000000454 * Utils.cost(4.53321742354 + 1056.93424963440 * x);
-		B0 += 0.00000000520 * Utils.cost(2.57406093768 + 535.10759106600 * x);
-		B0 += 0.00000000398 * Utils.cost(1.40345870113 + 960.22130923370 * x);
-		B0 += 0.00000000457 * Utils.cost(4.17708652827 + 2104.53676637680 * x);
-		B0 += 0.00000000505 * Utils.cost(5.36536256321 + 1057.89745748090 * x);
-		B0 += 0.00000000535 * Utils.cost(4.80455380313 + 1593.00504854690 * x);
-		B0 += 0.00000000415 * Utils.cost(0.96548127237 + 2435.15573003500 * x);
-		B0 += 0.00000000519 * Utils.cost(0.54543519483 + 1061.82961074400 * x);
-		B0 += 0.00000000359 * Utils.cost(4.02704454075 + 1059.43011429900 * x);
-		B0 += 0.00000000356 * Utils.cost(2.66818105522 + 835.03713448730 * x);
-		B0 += 0.00000000443 * Utils.cost(5.27513700376 + 1.48447270830 * x);
-		B0 += 0.00000000358 * Utils.cost(5.94423960514 + 440.82528487760 * x);
-		B0 += 0.00000000471 * Utils.cost(6.05791940453 + 1471.75302706360 * x);
-		B0 += 0.00000000386 * Utils.cost(2.15984900214 + 9153.90361602180 * x);
-		B0 += 0.00000000424 * Utils.cost(2.70929670030 + 1038.04128918680 * x);
-		B0 += 0.00000000359 * Utils.cost(0.82922836987 + 1059.33374607940 * x);
-		B0 += 0.00000000310 * Utils.cost(0.88102053266 + 529.90341341570 * x);
-		B0 += 0.00000000310 * Utils.cost(3.45966511571 + 529.47851677350 * x);
-		B0 += 0.00000000300 * Utils.cost(3.70331799503 + 2634.22773147140 * x);
-		B0 += 0.00000000292 * Utils.cost(2.63594456361 + 415.55249061210 * x);
-		B0 += 0.00000000279 * Utils.cost(1.60669121578 + 643.82943957710 * x);
-		B0 += 0.00000000291 * Utils.cost(5.83134071820 + 1148.24761040620 * x);
-		B0 += 0.00000000370 * Utils.cost(5.71572992274 + 531.17543780290 * x);
-		B0 += 0.00000000268 * Utils.cost(5.39275891813 + 1891.23767093880 * x);
-		B0 += 0.00000000275 * Utils.cost(3.34108666036 + 518.64526483070 * x);
-		B0 += 0.00000000269 * Utils.cost(1.06051406954 + 1585.14074202070 * x);
-		B0 += 0.00000000306 * Utils.cost(2.50289017370 + 511.53171782990 * x);
-		B0 += 0.00000000295 * Utils.cost(1.84394223501 + 547.85021235930 * x);
-		B0 += 0.00000000254 * Utils.cost(2.98312992496 + 1134.16352875650 * x);
-		B0 += 0.00000000289 * Utils.cost(1.86070918711 + 21.34064100240 * x);
-		B0 += 0.00000000265 * Utils.cost(4.93075479744 + 679.25416222920 * x);
-		B0 += 0.00000000250 * Utils.cost(0.42860925124 + 1969.20066324380 * x);
-		B0 += 0.00000000308 * Utils.cost(2.67237933272 + 2957.73314812880 * x);
-		B0 += 0.00000000313 * Utils.cost(4.88085697819 + 528.20649238630 * x);
-		B0 += 0.00000000222 * Utils.cost(4.78828764413 + 514.71311156760 * x);
-		B0 += 0.00000000221 * Utils.cost(4.32763468981 + 1677.93857550080 * x);
-		B0 += 0.00000000217 * Utils.cost(3.46278526461 + 2950.61960112800 * x);
-		B0 += 0.00000000216 * Utils.cost(0.52207667980 + 2228.97018159780 * x);
-		B0 += 0.00000000214 * Utils.cost(5.83569926578 + 544.66881862160 * x);
-		B0 += 0.00000000283 * Utils.cost(2.88709716090 + 35.42472265210 * x);
-		B0 += 0.00000000272 * Utils.cost(1.65708415457 + 3060.82592234740 * x);
-		B0 += 0.00000000234 * Utils.cost(1.68821537711 + 2655.56837247380 * x);
-		B0 += 0.00000000205 * Utils.cost(3.36186888290 + 2847.52682690940 * x);
-		B0 += 0.00000000264 * Utils.cost(3.62722625694 + 2420.92863603340 * x);
-		B0 += 0.00000000191 * Utils.cost(4.26821147044 + 430.53034413910 * x);
-		B0 += 0.00000000179 * Utils.cost(3.91470663005 + 3340.61242669980 * x);
-		B0 += 0.00000000180 * Utils.cost(0.04531671003 + 387.24131496080 * x);
-		B0 += 0.00000000241 * Utils.cost(4.03927631611 + 494.26624244250 * x);
-		B0 += 0.00000000176 * Utils.cost(4.26298906325 + 672.14061522840 * x);
-		B0 += 0.00000000187 * Utils.cost(2.72587420586 + 299.12639426920 * x);
-		B0 += 0.00000000234 * Utils.cost(1.34474827450 + 173.94221952280 * x);
-		B0 += 0.00000000171 * Utils.cost(0.85473611718 + 1603.29998928540 * x);
-		B0 += 0.00000000224 * Utils.cost(0.33130232434 + 565.11568774670 * x);
-		B0 += 0.00000000200 * Utils.cost(1.27632489123 + 39.35687591520 * x);
-		B0 += 0.00000000170 * Utils.cost(4.96479470273 + 1464.63948006280 * x);
-		B0 += 0.00000000211 * Utils.cost(1.00937080256 + 523.54062594030 * x);
-		B0 += 0.00000000210 * Utils.cost(3.75793720248 + 2854.64037391020 * x);
-		B0 += 0.00000000162 * Utils.cost(5.87784787295 + 3480.31056622260 * x);
-		B0 += 0.00000000163 * Utils.cost(4.62850343495 + 2015.67108615980 * x);
-		B0 += 0.00000000191 * Utils.cost(3.33159283750 + 535.84130424890 * x);
-		B0 += 0.00000000151 * Utils.cost(1.17096741034 + 1060.34513803570 * x);
-		B0 += 0.00000000160 * Utils.cost(1.81852636004 + 312.45971639350 * x);
-		B0 += 0.00000000158 * Utils.cost(2.59595816107 + 529.43033266370 * x);
-		B0 += 0.00000000158 * Utils.cost(1.74472748730 + 529.95159752550 * x);
-		B0 += 0.00000000173 * Utils.cost(3.62399350412 + 230.56457082540 * x);
-		B0 += 0.00000000142 * Utils.cost(0.70435921398 + 522.52923398400 * x);
-		B0 += 0.00000000144 * Utils.cost(5.35763122430 + 107.02492748170 * x);
-		B0 += 0.00000000144 * Utils.cost(6.13954848857 + 1158.54255114470 * x);
-		B0 += 0.00000000178 * Utils.cost(0.27566275049 + 3906.90875709860 * x);
-		B0 += 0.00000000126 * Utils.cost(5.14832919826 + 2207.62954059540 * x);
-		B0 += 0.00000000126 * Utils.cost(3.41994798109 + 2.44768055480 * x);
-		B0 += 0.00000000127 * Utils.cost(0.39825164051 + 70.84944530420 * x);
-		B0 += 0.00000000123 * Utils.cost(4.77865550523 + 2524.02141025200 * x);
-		B0 += 0.00000000123 * Utils.cost(0.46184813516 + 647.01083331480 * x);
-		B0 += 0.00000000144 * Utils.cost(3.60261852727 + 1058.41872234270 * x);
-		B0 += 0.00000000158 * Utils.cost(3.76231915252 + 92.04707395470 * x);
-		B0 += 0.00000000119 * Utils.cost(4.08266911415 + 1585.89150154610 * x);
-		B0 += 0.00000000125 * Utils.cost(2.35496721797 + 3163.91869656600 * x);
-		B0 += 0.00000000122 * Utils.cost(3.21027426317 + 3377.21779200400 * x);
-		B0 += 0.00000000121 * Utils.cost(3.39770381916 + 18.15924726470 * x);
-		B0 += 0.00000000131 * Utils.cost(1.67926417552 + 1289.94650101460 * x);
-		B0 += 0.00000000115 * Utils.cost(2.35735471566 + 1550.93985964600 * x);
-		B0 += 0.00000000126 * Utils.cost(2.40833814513 + 106.27416795630 * x);
-		B0 += 0.00000000131 * Utils.cost(1.37610474529 + 1023.95720753710 * x);
-		B0 += 0.00000000121 * Utils.cost(1.60252617273 + 10.29494073850 * x);
-		B0 += 0.00000000121 * Utils.cost(0.61420823557 + 1592.25428902150 * x);
-		B0 += 0.00000000135 * Utils.cost(3.60177675518 + 124.43341522100 * x);
-		B0 += 0.00000000137 * Utils.cost(2.41724947062 + 3274.12501778540 * x);
-		B0 += 0.00000000129 * Utils.cost(0.09702914345 + 2332.06295581640 * x);
-		B0 += 0.00000000093 * Utils.cost(4.88949890397 + 1098.73880610440 * x);
-		B0 += 0.00000000106 * Utils.cost(5.18592950792 + 2281.23049651060 * x);
-		B0 += 0.00000000114 * Utils.cost(2.96523316419 + 1166.40685767090 * x);
-		B0 += 0.00000000092 * Utils.cost(1.65166124027 + 860.30992875280 * x);
-		B0 += 0.00000000102 * Utils.cost(3.64093193142 + 3171.03224356680 * x);
-		B0 += 0.00000000103 * Utils.cost(1.63066232967 + 1894.41906467650 * x);
-		B0 += 0.00000000080 * Utils.cost(0.38766601876 + 4694.00295470760 * x);
-		B0 += 0.00000000074 * Utils.cost(3.86865238736 + 3067.93946934820 * x);
-		B0 += 0.00000000095 * Utils.cost(1.66362447044 + 1151.42900414390 * x);
-
-		double B1 = 0;
-		B1 += 0.00177351787 * Utils.cost(5.70166488486 + 529.69096509460 * x);
-		B1 += 0.00003230171 * Utils.cost(5.77941619340 + 1059.38193018920 * x);
-		B1 += 0.00003081364 * Utils.cost(5.47464296527 + 522.57741809380 * x);
-		B1 += 0.00002211914 * Utils.cost(4.73477480209 + 536.80451209540 * x);
-		B1 -= 0.00001694232;
-		B1 += 0.00000346445 * Utils.cost(4.74595174109 + 1052.26838318840 * x);
-		B1 += 0.00000234264 * Utils.cost(5.18856099929 + 1066.49547719000 * x);
-		B1 += 0.00000196154 * Utils.cost(6.18554286642 + 7.11354700080 * x);
-		B1 += 0.00000150468 * Utils.cost(3.92721226087 + 1589.07289528380 * x);
-		B1 += 0.00000114128 * Utils.cost(3.43897271830 + 632.78373931320 * x);
-		B1 += 0.00000096667 * Utils.cost(2.91426304090 + 949.17560896980 * x);
-		B1 += 0.00000076599 * Utils.cost(2.50522188662 + 103.09277421860 * x);
-		B1 += 0.00000081671 * Utils.cost(5.07666097497 + 1162.47470440780 * x);
-		B1 += 0.00000076572 * Utils.cost(0.61288981445 + 419.48464387520 * x);
-		B1 += 0.00000073875 * Utils.cost(5.49958292155 + 515.46387109300 * x);
-		B1 += 0.00000049915 * Utils.cost(3.94799616572 + 735.87651353180 * x);
-		B1 += 0.00000060544 * Utils.cost(5.44740084359 + 213.29909543800 * x);
-		B1 += 0.00000036561 * Utils.cost(4.69828392839 + 543.91805909620 * x);
-		B1 += 0.00000046032 * Utils.cost(0.53850360901 + 110.20632121940 * x);
-		B1 += 0.00000045123 * Utils.cost(1.89516645239 + 846.08283475120 * x);
-		B1 += 0.00000036019 * Utils.cost(6.10952578764 + 316.39186965660 * x);
-		B1 += 0.00000031975 * Utils.cost(4.92452714629 + 1581.95934828300 * x);
-		B1 += 0.00000021015 * Utils.cost(5.62957731410 + 1596.18644228460 * x);
-		B1 += 0.00000023156 * Utils.cost(5.84829490183 + 323.50541665740 * x);
-		B1 += 0.00000024719 * Utils.cost(3.94107395247 + 2118.76386037840 * x);
-		B1 += 0.00000017274 * Utils.cost(5.65310656429 + 533.62311835770 * x);
-		B1 += 0.00000016521 * Utils.cost(5.89840100621 + 526.50957135690 * x);
-		B1 += 0.00000016698 * Utils.cost(5.66663034948 + 1265.56747862640 * x);
-		B1 += 0.00000015815 * Utils.cost(4.43314786393 + 1045.15483618760 * x);
-		B1 += 0.00000013398 * Utils.cost(4.30179033605 + 532.87235883230 * x);
-		B1 += 0.00000011744 * Utils.cost(1.80990486955 + 956.28915597060 * x);
-		B1 += 0.00000011925 * Utils.cost(4.30094564154 + 525.75881183150 * x);
-		B1 += 0.00000009514 * Utils.cost(2.02589667166 + 206.18554843720 * x);
-		B1 += 0.00000010542 * Utils.cost(6.15533910933 + 14.22709400160 * x);
-		B1 += 0.00000008414 * Utils.cost(3.92910450340 + 1478.86657406440 * x);
-		B1 += 0.00000008099 * Utils.cost(4.20152809071 + 1169.58825140860 * x);
-		B1 += 0.00000007712 * Utils.cost(2.99160389601 + 942.06206196900 * x);
-		B1 += 0.00000008825 * Utils.cost(1.55897920307 + 426.59819087600 * x);
-		B1 += 0.00000008884 * Utils.cost(4.87430124264 + 1155.36115740700 * x);
-		B1 += 0.00000007793 * Utils.cost(3.84684930196 + 625.67019231240 * x);
-		B1 += 0.00000005646 * Utils.cost(3.40915964493 + 639.89728631400 * x);
-		B1 += 0.00000004615 * Utils.cost(0.83374662294 + 117.31986822020 * x);
-		B1 += 0.00000004020 * Utils.cost(5.50502127885 + 433.71173787680 * x);
-		B1 += 0.00000003704 * Utils.cost(0.90226777963 + 95.97922721780 * x);
-		B1 += 0.00000003859 * Utils.cost(0.69640284662 + 853.19638175200 * x);
-		B1 += 0.00000003091 * Utils.cost(5.09115860882 + 1073.60902419080 * x);
-		B1 += 0.00000003360 * Utils.cost(5.10133284081 + 1692.16566950240 * x);
-		B1 += 0.00000002892 * Utils.cost(4.90418916660 + 220.41264243880 * x);
-		B1 += 0.00000002772 * Utils.cost(5.09066125724 + 2111.65031337760 * x);
-		B1 += 0.00000002425 * Utils.cost(3.74438653232 + 742.99006053260 * x);
-		B1 += 0.00000002558 * Utils.cost(5.46955948791 + 1795.25844372100 * x);
-		B1 += 0.00000002466 * Utils.cost(4.22278355430 + 2648.45482547300 * x);
-		B1 += 0.00000001968 * Utils.cost(0.57192251841 + 309.27832265580 * x);
-		B1 += 0.00000001794 * Utils.cost(4.60765219417 + 1272.68102562720 * x);
-		B1 += 0.00000001822 * Utils.cost(1.98842964323 + 1375.77379984580 * x);
-		B1 += 0.00000001703 * Utils.cost(6.12660562937 + 2125.87740737920 * x);
-		B1 += 0.00000002011 * Utils.cost(5.00936865256 + 412.37109687440 * x);
-		B1 += 0.00000001645 * Utils.cost(0.08830372958 + 1063.31408345230 * x);
-		B1 += 0.00000001875 * Utils.cost(5.81006158403 + 330.61896365820 * x);
-		B1 += 0.00000001741 * Utils.cost(4.58650290431 + 1574.84580128220 * x);
-		B1 += 0.00000001529 * Utils.cost(5.81660291389 + 1258.45393162560 * x);
-		B1 += 0.00000001916 * Utils.cost(0.85150399517 + 1368.66025284500 * x);
-		B1 += 0.00000001614 * Utils.cost(4.36839107221 + 728.76296653100 * x);
-		B1 += 0.00000001510 * Utils.cost(2.79374165455 + 1485.98012106520 * x);
-		B1 += 0.00000001333 * Utils.cost(4.84260898693 + 1062.56332392690 * x);
-		B1 += 0.00000001359 * Utils.cost(5.16511980864 + 838.96928775040 * x);
-		B1 += 0.00000001165 * Utils.cost(5.66275740881 + 508.35032409220 * x);
-		B1 += 0.00000001092 * Utils.cost(4.68797557406 + 1699.27921650320 * x);
-		B1 += 0.00000001438 * Utils.cost(5.78105679279 + 1056.20053645150 * x);
-		B1 += 0.00000001083 * Utils.cost(3.99886917926 + 1471.75302706360 * x);
-		B1 += 0.00000001002 * Utils.cost(4.79949608524 + 1055.44977692610 * x);
-		B1 += 0.00000000749 * Utils.cost(6.14400862030 + 519.39602435610 * x);
-		B1 += 0.00000000657 * Utils.cost(5.63765568876 + 1898.35121793960 * x);
-		B1 += 0.00000000702 * Utils.cost(5.04126574492 + 1685.05212250160 * x);
-		B1 += 0.00000000607 * Utils.cost(3.15707515246 + 618.55664531160 * x);
-		B1 += 0.00000000587 * Utils.cost(1.37658820775 + 199.07200143640 * x);
-		B1 += 0.00000000552 * Utils.cost(4.80657729450 + 551.03160609700 * x);
-		B1 += 0.00000000494 * Utils.cost(4.43417307482 + 539.98590583310 * x);
-		B1 += 0.00000000517 * Utils.cost(0.05161181997 + 3.18139373770 * x);
-		B1 += 0.00000000469 * Utils.cost(3.81715950042 + 2008.55753915900 * x);
-		B1 += 0.00000000415 * Utils.cost(1.34693184108 + 1382.88734684660 * x);
-		B1 += 0.00000000382 * Utils.cost(4.86764073919 + 227.52618943960 * x);
-		B1 += 0.00000000473 * Utils.cost(1.72405831407 + 532.13864564940 * x);
-		B1 += 0.00000000458 * Utils.cost(4.44604993015 + 1038.04128918680 * x);
-		B1 += 0.00000000376 * Utils.cost(2.23190744786 + 529.64278098480 * x);
-		B1 += 0.00000000451 * Utils.cost(3.75869883836 + 984.60033162190 * x);
-		B1 += 0.00000000376 * Utils.cost(5.42971857629 + 529.73914920440 * x);
-		B1 += 0.00000000389 * Utils.cost(1.92698506631 + 525.02509864860 * x);
-		B1 += 0.00000000364 * Utils.cost(3.35456685746 + 2221.85663459700 * x);
-		B1 += 0.00000000476 * Utils.cost(5.93625415892 + 527.24328453980 * x);
-		B1 += 0.00000000383 * Utils.cost(6.12255867339 + 149.56319713460 * x);
-		B1 += 0.00000000301 * Utils.cost(4.09378934049 + 440.82528487760 * x);
-		B1 += 0.00000000310 * Utils.cost(5.58150418981 + 2428.04218303420 * x);
-		B1 += 0.00000000282 * Utils.cost(4.85996662231 + 1788.14489672020 * x);
-		B1 += 0.00000000298 * Utils.cost(5.09589374634 + 528.72775724810 * x);
-		B1 += 0.00000000340 * Utils.cost(4.56537070220 + 750.10360753340 * x);
-		B1 += 0.00000000272 * Utils.cost(2.35346960340 + 534.35683154060 * x);
-		B1 += 0.00000000360 * Utils.cost(3.91050161665 + 74.78159856730 * x);
-		B1 += 0.00000000299 * Utils.cost(1.43093538841 + 909.81873305460 * x);
-		B1 += 0.00000000297 * Utils.cost(2.56584512211 + 530.65417294110 * x);
-		B1 += 0.00000000235 * Utils.cost(4.81644489422 + 535.10759106600 * x);
-		B1 += 0.00000000306 * Utils.cost(0.68420442848 + 380.12776796000 * x);
-		B1 += 0.00000000236 * Utils.cost(4.63162956792 + 526.77020378780 * x);
-		B1 += 0.00000000270 * Utils.cost(0.18549916939 + 21.34064100240 * x);
-		B1 += 0.00000000288 * Utils.cost(4.26655874393 + 1802.37199072180 * x);
-		B1 += 0.00000000196 * Utils.cost(5.35950443033 + 2214.74308759620 * x);
-		B1 += 0.00000000190 * Utils.cost(4.54615193260 + 2104.53676637680 * x);
-		B1 += 0.00000000193 * Utils.cost(4.35426216497 + 511.53171782990 * x);
-		B1 += 0.00000000178 * Utils.cost(4.51895208036 + 3178.14579056760 * x);
-		B1 += 0.00000000194 * Utils.cost(0.57050756837 + 1361.54670584420 * x);
-		B1 += 0.00000000200 * Utils.cost(1.48040474749 + 302.16477565500 * x);
-		B1 += 0.00000000168 * Utils.cost(5.40141749419 + 524.27433912320 * x);
-		B1 += 0.00000000152 * Utils.cost(0.68077486546 + 1905.46476494040 * x);
-		B1 += 0.00000000149 * Utils.cost(1.06678990744 + 831.85574074960 * x);
-		B1 += 0.00000000182 * Utils.cost(3.62401009613 + 38.13303563780 * x);
-		B1 += 0.00000000176 * Utils.cost(5.64331384323 + 963.40270297140 * x);
-		B1 += 0.00000000184 * Utils.cost(4.48850356629 + 604.47256366190 * x);
-		B1 += 0.00000000133 * Utils.cost(5.45026366125 + 2641.34127847220 * x);
-		B1 += 0.00000000143 * Utils.cost(2.21577268292 + 1439.50969814920 * x);
-		B1 += 0.00000000130 * Utils.cost(4.88155705493 + 2531.13495725280 * x);
-		B1 += 0.00000000129 * Utils.cost(6.15206333598 + 547.85021235930 * x);
-		B1 += 0.00000000133 * Utils.cost(5.43193972385 + 1603.29998928540 * x);
-		B1 += 0.00000000133 * Utils.cost(3.49297492409 + 529.16970023280 * x);
-		B1 += 0.00000000132 * Utils.cost(3.98820790955 + 530.21222995640 * x);
-		B1 += 0.00000000118 * Utils.cost(5.38352943814 + 1891.23767093880 * x);
-		B1 += 0.00000000133 * Utils.cost(5.65694269884 + 76.26607127560 * x);
-		B1 += 0.00000000145 * Utils.cost(2.94976686191 + 454.90936652730 * x);
-		B1 += 0.00000000115 * Utils.cost(3.29206553804 + 3.93215326310 * x);
-		B1 += 0.00000000102 * Utils.cost(4.48856749557 + 2001.44399215820 * x);
-		B1 += 0.00000000106 * Utils.cost(6.08434275898 + 10.29494073850 * x);
-		B1 += 0.00000000093 * Utils.cost(5.84737771840 + 2324.94940881560 * x);
-		B1 += 0.00000000101 * Utils.cost(0.15815934254 + 2655.56837247380 * x);
-		B1 += 0.00000000115 * Utils.cost(3.59221021604 + 2015.67108615980 * x);
-		B1 += 0.00000000103 * Utils.cost(4.70399583323 + 305.34616939270 * x);
-		B1 += 0.00000000084 * Utils.cost(0.44180206332 + 1593.00504854690 * x);
-		B1 += 0.00000000092 * Utils.cost(2.44863388631 + 490.33408917940 * x);
-		B1 += 0.00000000087 * Utils.cost(6.23817512863 + 6283.07584999140 * x);
-		B1 += 0.00000000095 * Utils.cost(3.30154605532 + 2317.83586181480 * x);
-		B1 += 0.00000000072 * Utils.cost(1.90578907085 + 528.94020556920 * x);
-		B1 += 0.00000000072 * Utils.cost(5.57619428876 + 530.44172462000 * x);
-		B1 += 0.00000000078 * Utils.cost(5.97323507836 + 1585.89150154610 * x);
-
-		double B2 = 0;
-		B2 += 0.00008094051 * Utils.cost(1.46322843658 + 529.69096509460 * x);
-		B2 += 0.00000742415 * Utils.cost(0.95691639003 + 522.57741809380 * x);
-		B2 -= 0.00000813244;
-		B2 += 0.00000398951 * Utils.cost(2.89888666447 + 536.80451209540 * x);
-		B2 += 0.00000342226 * Utils.cost(1.44683789727 + 1059.38193018920 * x);
-		B2 += 0.00000073948 * Utils.cost(0.40724675866 + 1052.26838318840 * x);
-		B2 += 0.00000046151 * Utils.cost(3.48036895772 + 1066.49547719000 * x);
-		B2 += 0.00000029314 * Utils.cost(0.99088831805 + 515.46387109300 * x);
-		B2 += 0.00000029717 * Utils.cost(1.92504171329 + 1589.07289528380 * x);
-		B2 += 0.00000022753 * Utils.cost(4.27124052435 + 7.11354700080 * x);
-		B2 += 0.00000013916 * Utils.cost(2.92242387338 + 543.91805909620 * x);
-		B2 += 0.00000012067 * Utils.cost(5.22168932482 + 632.78373931320 * x);
-		B2 += 0.00000010703 * Utils.cost(4.88024222475 + 949.17560896980 * x);
-		B2 += 0.00000006078 * Utils.cost(6.21089108431 + 1045.15483618760 * x);
-		B2 += 0.00000005935 * Utils.cost(0.52977760072 + 1581.95934828300 * x);
-		B2 += 0.00000005037 * Utils.cost(1.43444929374 + 526.50957135690 * x);
-		B2 += 0.00000004564 * Utils.cost(0.91811732585 + 1162.47470440780 * x);
-		B2 += 0.00000004547 * Utils.cost(4.01953745202 + 1596.18644228460 * x);
-		B2 += 0.00000005098 * Utils.cost(6.03169795231 + 735.87651353180 * x);
-		B2 += 0.00000003593 * Utils.cost(4.54080164408 + 110.20632121940 * x);
-		B2 += 0.00000003443 * Utils.cost(1.38618954572 + 533.62311835770 * x);
-		B2 += 0.00000003277 * Utils.cost(4.39650286553 + 14.22709400160 * x);
-		B2 += 0.00000003407 * Utils.cost(0.42275631534 + 419.48464387520 * x);
-		B2 += 0.00000002904 * Utils.cost(2.06041641723 + 316.39186965660 * x);
-		B2 += 0.00000002541 * Utils.cost(3.98323842017 + 323.50541665740 * x);
-		B2 += 0.00000003113 * Utils.cost(2.48079280193 + 2118.76386037840 * x);
-		B2 += 0.00000003061 * Utils.cost(2.39880866911 + 532.87235883230 * x);
-		B2 += 0.00000002155 * Utils.cost(4.77990637140 + 942.06206196900 * x);
-		B2 += 0.00000002143 * Utils.cost(3.88727338786 + 426.59819087600 * x);
-		B2 += 0.00000002252 * Utils.cost(0.37196434120 + 1155.36115740700 * x);
-		B2 += 0.00000002019 * Utils.cost(3.89985000464 + 846.08283475120 * x);
-		B2 += 0.00000001857 * Utils.cost(1.19658907851 + 103.09277421860 * x);
-		B2 += 0.00000001683 * Utils.cost(1.42264195434 + 1265.56747862640 * x);
-		B2 += 0.00000002313 * Utils.cost(0.87671613055 + 213.29909543800 * x);
-		B2 += 0.00000001443 * Utils.cost(2.38565505909 + 1169.58825140860 * x);
-		B2 += 0.00000001823 * Utils.cost(5.80106463776 + 625.67019231240 * x);
-		B2 += 0.00000001728 * Utils.cost(2.24114678267 + 525.75881183150 * x);
-		B2 += 0.00000001198 * Utils.cost(0.03252059731 + 956.28915597060 * x);
-		B2 += 0.00000001138 * Utils.cost(3.46420904745 + 1073.60902419080 * x);
-		B2 += 0.00000001086 * Utils.cost(5.35279146700 + 117.31986822020 * x);
-		B2 += 0.00000000840 * Utils.cost(2.89946334223 + 95.97922721780 * x);
-		B2 += 0.00000000746 * Utils.cost(5.53017890231 + 1478.86657406440 * x);
-		B2 += 0.00000000944 * Utils.cost(4.05587053500 + 206.18554843720 * x);
-		B2 += 0.00000000758 * Utils.cost(3.74770617289 + 433.71173787680 * x);
-		B2 += 0.00000000673 * Utils.cost(1.26396626349 + 508.35032409220 * x);
-		B2 += 0.00000000889 * Utils.cost(6.07878453176 + 728.76296653100 * x);
-		B2 += 0.00000000600 * Utils.cost(1.82954494089 + 639.89728631400 * x);
-		B2 += 0.00000000589 * Utils.cost(1.23625943417 + 1258.45393162560 * x);
-		B2 += 0.00000000619 * Utils.cost(0.67923057477 + 838.96928775040 * x);
-		B2 += 0.00000000566 * Utils.cost(5.36336098734 + 742.99006053260 * x);
-		B2 += 0.00000000648 * Utils.cost(5.32990375008 + 853.19638175200 * x);
-		B2 += 0.00000000553 * Utils.cost(3.15511946637 + 220.41264243880 * x);
-		B2 += 0.00000000432 * Utils.cost(1.03719283016 + 1692.16566950240 * x);
-		B2 += 0.00000000435 * Utils.cost(1.65056479007 + 519.39602435610 * x);
-		B2 += 0.00000000430 * Utils.cost(1.41830384501 + 412.37109687440 * x);
-		B2 += 0.00000000431 * Utils.cost(2.20986254651 + 1368.66025284500 * x);
-		B2 += 0.00000000415 * Utils.cost(4.35372561905 + 330.61896365820 * x);
-		B2 += 0.00000000438 * Utils.cost(0.16552277290 + 1574.84580128220 * x);
-		B2 += 0.00000000312 * Utils.cost(4.50639455819 + 2125.87740737920 * x);
-		B2 += 0.00000000280 * Utils.cost(3.01441283033 + 551.03160609700 * x);
-		B2 += 0.00000000309 * Utils.cost(0.67399908949 + 2111.65031337760 * x);
-		B2 += 0.00000000301 * Utils.cost(3.06868080871 + 1062.56332392690 * x);
-		B2 += 0.00000000236 * Utils.cost(1.94696842200 + 1485.98012106520 * x);
-		B2 += 0.00000000235 * Utils.cost(3.41850395941 + 199.07200143640 * x);
-		B2 += 0.00000000246 * Utils.cost(2.61803442505 + 309.27832265580 * x);
-		B2 += 0.00000000238 * Utils.cost(2.56643737684 + 539.98590583310 * x);
-		B2 += 0.00000000248 * Utils.cost(2.96997778167 + 2648.45482547300 * x);
-		B2 += 0.00000000209 * Utils.cost(5.82481690851 + 1471.75302706360 * x);
-		B2 += 0.00000000205 * Utils.cost(1.20202002469 + 1056.20053645150 * x);
-		B2 += 0.00000000188 * Utils.cost(0.97113663101 + 1685.05212250160 * x);
-		B2 += 0.00000000137 * Utils.cost(2.91203499563 + 1699.27921650320 * x);
-		B2 += 0.00000000131 * Utils.cost(1.79274504072 + 1063.31408345230 * x);
-		B2 += 0.00000000161 * Utils.cost(1.05926568614 + 1795.25844372100 * x);
-		B2 += 0.00000000112 * Utils.cost(2.62660288825 + 440.82528487760 * x);
-		B2 += 0.00000000110 * Utils.cost(3.56263668146 + 227.52618943960 * x);
-		B2 += 0.00000000114 * Utils.cost(6.13907482464 + 1038.04128918680 * x);
-		B2 += 0.00000000103 * Utils.cost(4.64287101040 + 3.18139373770 * x);
-		B2 += 0.00000000123 * Utils.cost(4.81268110532 + 21.34064100240 * x);
-		B2 += 0.00000000102 * Utils.cost(4.27603827970 + 1375.77379984580 * x);
-		B2 += 0.00000000089 * Utils.cost(1.22926014128 + 1898.35121793960 * x);
-		B2 += 0.00000000080 * Utils.cost(0.62129648755 + 831.85574074960 * x);
-
-		double B3 = 0;
-		B3 += 0.00000251624 * Utils.cost(3.38087923084 + 529.69096509460 * x);
-		B3 += 0.00000121738 * Utils.cost(2.73311837200 + 522.57741809380 * x);
-		B3 += 0.00000048694 * Utils.cost(1.03689996685 + 536.80451209540 * x);
-		B3 += 0.00000010988 * Utils.cost(2.31463561347 + 1052.26838318840 * x);
-		B3 += 0.00000008067 * Utils.cost(2.76729757621 + 515.46387109300 * x);
-		B3 += 0.00000006205 * Utils.cost(1.78115827370 + 1066.49547719000 * x);
-		B3 += 0.00000007287 * Utils.cost(4.25268318975 + 1059.38193018920 * x);
-		B3 += 0.00000003627 * Utils.cost(1.13028917221 + 543.91805909620 * x);
-		B3 -= 0.00000002798;
-		B3 += 0.00000001898 * Utils.cost(2.28934054087 + 7.11354700080 * x);
-		B3 += 0.00000001643 * Utils.cost(1.77507208483 + 1045.15483618760 * x);
-		B3 += 0.00000000945 * Utils.cost(0.45261136388 + 632.78373931320 * x);
-		B3 += 0.00000000758 * Utils.cost(0.30577920142 + 949.17560896980 * x);
-		B3 += 0.00000000731 * Utils.cost(2.63748223583 + 14.22709400160 * x);
-		B3 += 0.00000000876 * Utils.cost(0.32927768725 + 1589.07289528380 * x);
-		B3 += 0.00000000678 * Utils.cost(2.36909615348 + 1581.95934828300 * x);
-		B3 += 0.00000000623 * Utils.cost(2.48056213600D + 1596.18644228460 * x);
-		B3 += 0.00000000736 * Utils.cost(1.52532370632 + 735.87651353180 * x);
-		B3 += 0.00000000499 * Utils.cost(3.67985494258 + 419.48464387520 * x);
-		B3 += 0.00000000454 * Utils.cost(0.26977404624 + 942.06206196900 * x);
-		B3 += 0.00000000453 * Utils.cost(3.18232334886 + 526.50957135690 * x);
-		B3 += 0.00000000409 * Utils.cost(2.88147337106 + 110.20632121940 * x);
-		B3 += 0.00000000347 * Utils.cost(5.76244285870 + 103.09277421860 * x);
-		B3 += 0.00000000310 * Utils.cost(2.98017326384 + 508.35032409220 * x);
-		B3 += 0.00000000321 * Utils.cost(4.40642025933 + 532.87235883230 * x);
-		B3 += 0.00000000300 * Utils.cost(1.66936571536 + 625.67019231240 * x);
-		B3 += 0.00000000295 * Utils.cost(1.75924202728 + 1073.60902419080 * x);
-		B3 += 0.00000000282 * Utils.cost(3.11087801399 + 533.62311835770 * x);
-		B3 += 0.00000000263 * Utils.cost(0.55255030187 + 426.59819087600 * x);
-		B3 += 0.00000000208 * Utils.cost(2.17540496886 + 1155.36115740700 * x);
-		B3 += 0.00000000183 * Utils.cost(4.34670868038 + 525.75881183150 * x);
-		B3 += 0.00000000180 * Utils.cost(6.07777744541 + 639.89728631400 * x);
-		B3 += 0.00000000159 * Utils.cost(2.60843864402 + 1162.47470440780 * x);
-		B3 += 0.00000000117 * Utils.cost(4.70141431381 + 95.97922721780 * x);
-		B3 += 0.00000000107 * Utils.cost(5.48942805114 + 433.71173787680 * x);
-		B3 += 0.00000000105 * Utils.cost(3.75192101775 + 316.39186965660 * x);
-		B3 += 0.00000000130 * Utils.cost(1.37897716939 + 323.50541665740 * x);
-		B3 += 0.00000000094 * Utils.cost(3.05797832024 + 1265.56747862640 * x);
-		B3 += 0.00000000114 * Utils.cost(3.75170981478 + 117.31986822020 * x);
-		B3 += 0.00000000095 * Utils.cost(0.54905691533 + 1169.58825140860 * x);
-		B3 += 0.00000000088 * Utils.cost(3.26874502411 + 213.29909543800 * x);
-		B3 += 0.00000000098 * Utils.cost(2.00704668688 + 1574.84580128220 * x);
-
-		double B4 = 0;
-		B4 += 0.00000015050 * Utils.cost(4.52956999637 + 522.57741809380 * x);
-		B4 += 0.00000005370 * Utils.cost(4.47427159142 + 529.69096509460 * x);
-		B4 += 0.00000004456 * Utils.cost(5.43908581047 + 536.80451209540 * x);
-		B4 += 0.00000003422;
-		B4 += 0.00000001833 * Utils.cost(4.51807036227 + 515.46387109300 * x);
-		B4 += 0.00000001322 * Utils.cost(4.20117611581 + 1052.26838318840 * x);
-		B4 += 0.00000000755 * Utils.cost(5.59451554966 + 543.91805909620 * x);
-		B4 += 0.00000000512 * Utils.cost(0.05803177475 + 1066.49547719000 * x);
-		B4 += 0.00000000282 * Utils.cost(3.66807771223 + 1059.38193018920 * x);
-		B4 += 0.00000000147 * Utils.cost(3.56490986181 + 1045.15483618760 * x);
-		B4 += 0.00000000142 * Utils.cost(5.69936472988 + 7.11354700080 * x);
-		B4 += 0.00000000112 * Utils.cost(1.16718383135 + 14.22709400160 * x);
-
-		double B5 = 0;
-		B5 += 0.00000001445 * Utils.cost(0.09198554072 + 522.57741809380 * x);
-		B5 += 0.00000000368 * Utils.cost(0.00874408003 + 515.46387109300 * x);
-		B5 += 0.00000000304 * Utils.cost(3.27902945138 + 536.80451209540 * x);
-		B5 += 0.00000000129 * Utils.cost(0.33959775247 + 529.69096509460 * x);
-		B5 += 0.00000000095 * Utils.cost(1.29305954542 + 543.91805909620 * x);
-
-		double x2 = x * x;
-		double x3 = x2 * x;
-		double x4 = x3 * x;
-		double x5 = x4 * x;
-
-		return Math.toDegrees(B0 + B1 * x + B2 * x2 + B3 * x3 + B4 * x4 + B5 * x5);
+		return Math.toDegrees(SERIES.evaluate(VSOP87.B, x));
 	}
 
 
 	//Distance Jupiter-Sun [AU]
 
 	private static double rJupiter(double x) {
-		double R0 = 0;
-		R0 += 5.20887429471;
-		R0 += 0.25209327020 * Utils.cost(3.49108640015 + 529.69096509460 * x);
-		R0 += 0.00610599902 * Utils.cost(3.84115365602 + 1059.38193018920 * x);
-		R0 += 0.00282029465 * Utils.cost(2.57419879933 + 632.78373931320 * x);
-		R0 += 0.00187647391 * Utils.cost(2.07590380082 + 522.57741809380 * x);
-		R0 += 0.00086792941 * Utils.cost(0.71001090609 + 419.48464387520 * x);
-		R0 += 0.00072062869 * Utils.cost(0.21465694745 + 536.80451209540 * x);
-		R0 += 0.00065517227 * Utils.cost(5.97995850843 + 316.39186965660 * x);
-		R0 += 0.00029134620 * Utils.cost(1.67759243710 + 103.09277421860 * x);
-		R0 += 0.00030135275 * Utils.cost(2.16132058449 + 949.17560896980 * x);
-		R0 += 0.00023453209 * Utils.cost(3.54023147303 + 735.87651353180 * x);
-		R0 += 0.00022283710 * Utils.cost(4.19362773546 + 1589.07289528380 * x);
-		R0 += 0.00023947340 * Utils.cost(0.27457854894 + 7.11354700080 * x);
-		R0 += 0.00013032600 * Utils.cost(2.96043055741 + 1162.47470440780 * x);
-		R0 += 0.00009703346 * Utils.cost(1.90669572402 + 206.18554843720 * x);
-		R0 += 0.00012749004 * Utils.cost(2.71550102862 + 1052.26838318840 * x);
-		R0 += 0.00009161431 * Utils.cost(4.41352618935 + 213.29909543800 * x);
-		R0 += 0.00007894539 * Utils.cost(2.47907551404 + 426.59819087600 * x);
-		R0 += 0.00007057978 * Utils.cost(2.18184753111 + 1265.56747862640 * x);
-		R0 += 0.00006137755 * Utils.cost(6.26417542514 + 846.08283475120 * x);
-		R0 += 0.00005477093 * Utils.cost(5.65729325169 + 639.89728631400 * x);
-		R0 += 0.00003502519 * Utils.cost(0.56531297394 + 1066.49547719000 * x);
-		R0 += 0.00004136890 * Utils.cost(2.72219979684 + 625.67019231240 * x);
-		R0 += 0.00004170012 * Utils.cost(2.01605033912 + 515.46387109300 * x);
-		R0 += 0.00002499966 * Utils.cost(4.55182055941 + 838.96928775040 * x);
-		R0 += 0.00002616955 * Utils.cost(2.00993967129 + 1581.95934828300 * x);
-		R0 += 0.00001911876 * Utils.cost(0.85621927419 + 412.37109687440 * x);
-		R0 += 0.00002127644 * Utils.cost(6.12751461750 + 742.99006053260 * x);
-		R0 += 0.00001610549 * Utils.cost(3.08867789275 + 1368.66025284500 * x);
-		R0 += 0.00001479484 * Utils.cost(2.68026191372 + 1478.86657406440 * x);
-		R0 += 0.00001230708 * Utils.cost(1.89042979701 + 323.50541665740 * x);
-		R0 += 0.00001216810 * Utils.cost(1.80171561024 + 110.20632121940 * x);
-		R0 += 0.00000961072 * Utils.cost(4.54876989805 + 2118.76386037840 * x);
-		R0 += 0.00000885708 * Utils.cost(4.14785948471 + 533.62311835770 * x);
-		R0 += 0.00000776700 * Utils.cost(3.67696954690 + 728.76296653100 * x);
-		R0 += 0.00000998579 * Utils.cost(2.87208940110 + 309.27832265580 * x);
-		R0 += 0.00001014959 * Utils.cost(1.38673237666 + 454.90936652730 * x);
-		R0 += 0.00000727162 * Utils.cost(3.98824686402 + 1155.36115740700 * x);
-		R0 += 0.00000655289 * Utils.cost(2.79065604219 + 1685.05212250160 * x);
-		R0 += 0.00000821465 * Utils.cost(1.59342534396 + 1898.35121793960 * x);
-		R0 += 0.00000620798 * Utils.cost(4.82284338962 + 956.28915597060 * x);
-		R0 += 0.00000653981 * Utils.cost(3.38150775269 + 1692.16566950240 * x);
-		R0 += 0.00000812036 * Utils.cost(5.94091899141 + 909.81873305460 * x);
-		R0 += 0.00000562120 * Utils.cost(0.08095987241 + 543.91805909620 * x);
-		R0 += 0.00000542221 * Utils.cost(0.28360266386 + 525.75881183150 * x);
-		R0 += 0.00000457859 * Utils.cost(0.12722694510 + 1375.77379984580 * x);
-		R0 += 0.00000614784 * Utils.cost(2.27624915604 + 942.06206196900 * x);
-		R0 += 0.00000435805 * Utils.cost(2.60272129748 + 95.97922721780 * x);
-		R0 += 0.00000496066 * Utils.cost(5.53005947761 + 380.12776796000 * x);
-		R0 += 0.00000469965 * Utils.cost(2.81896276101 + 1795.25844372100 * x);
-		R0 += 0.00000445003 * Utils.cost(0.14623567024 + 14.22709400160 * x);
-		R0 += 0.00000290869 * Utils.cost(3.89339143564 + 1471.75302706360 * x);
-		R0 += 0.00000276627 * Utils.cost(2.52238450687 + 2001.44399215820 * x);
-		R0 += 0.00000275084 * Utils.cost(2.98863518924 + 526.50957135690 * x);
-		R0 += 0.00000293875 * Utils.cost(2.04938438861 + 199.07200143640 * x);
-		R0 += 0.00000290985 * Utils.cost(6.03131226226 + 1169.58825140860 * x);
-		R0 += 0.00000338342 * Utils.cost(2.79873192583 + 1045.15483618760 * x);
-		R0 += 0.00000257482 * Utils.cost(6.13395478303 + 532.87235883230 * x);
-		R0 += 0.00000319013 * Utils.cost(1.34803130803 + 2214.74308759620 * x);
-		R0 += 0.00000309352 * Utils.cost(5.36855804945 + 1272.68102562720 * x);
-		R0 += 0.00000345804 * Utils.cost(1.56404293688 + 491.55792945680 * x);
-		R0 += 0.00000303364 * Utils.cost(1.15407454372 + 5753.38488489680 * x);
-		R0 += 0.00000192325 * Utils.cost(0.91996333387 + 1596.18644228460 * x);
-		R0 += 0.00000215398 * Utils.cost(2.63572815848 + 2111.65031337760 * x);
-		R0 += 0.00000200738 * Utils.cost(2.37259566683 + 1258.45393162560 * x);
-		R0 += 0.00000239036 * Utils.cost(3.57397189838 + 835.03713448730 * x);
-		R0 += 0.00000197073 * Utils.cost(5.92859096863 + 453.42489381900 * x);
-		R0 += 0.00000139440 * Utils.cost(3.63960322318 + 1788.14489672020 * x);
-		R0 += 0.00000191373 * Utils.cost(6.28251311870 + 983.11585891360 * x);
-		R0 += 0.00000176551 * Utils.cost(2.57669991654 + 9683.59458111640 * x);
-		R0 += 0.00000123567 * Utils.cost(2.26158186345 + 2317.83586181480 * x);
-		R0 += 0.00000128176 * Utils.cost(4.66585907670 + 831.85574074960 * x);
-		R0 += 0.00000112430 * Utils.cost(0.85604150812 + 433.71173787680 * x);
-		R0 += 0.00000128817 * Utils.cost(1.10567106595 + 2531.13495725280 * x);
-		R0 += 0.00000099390 * Utils.cost(4.50312054049 + 518.64526483070 * x);
-		R0 += 0.00000093870 * Utils.cost(2.72553879990 + 853.19638175200 * x);
-		R0 += 0.00000106481 * Utils.cost(5.81462222290 + 220.41264243880 * x);
-		R0 += 0.00000120188 * Utils.cost(2.95156363556 + 3.93215326310 * x);
-		R0 += 0.00000104002 * Utils.cost(2.22221906187 + 74.78159856730 * x);
-		R0 += 0.00000081655 * Utils.cost(3.23481337678 + 1361.54670584420 * x);
-		R0 += 0.00000112513 * Utils.cost(4.86216964016 + 528.20649238630 * x);
-		R0 += 0.00000079539 * Utils.cost(0.88542246830 + 430.53034413910 * x);
-		R0 += 0.00000085801 * Utils.cost(2.11458386763 + 1574.84580128220 * x);
-		R0 += 0.00000085685 * Utils.cost(2.33823884827 + 2428.04218303420 * x);
-		R0 += 0.00000068311 * Utils.cost(3.35727048905 + 2104.53676637680 * x);
-		R0 += 0.00000069570 * Utils.cost(3.04164697156 + 302.16477565500 * x);
-		R0 += 0.00000069775 * Utils.cost(3.22402404312 + 305.34616939270 * x);
-		R0 += 0.00000069570 * Utils.cost(0.20494979941 + 532.13864564940 * x);
-		R0 += 0.00000056991 * Utils.cost(2.00204191909 + 2634.22773147140 * x);
-		R0 += 0.00000077062 * Utils.cost(2.09816000231 + 508.35032409220 * x);
-		R0 += 0.00000056716 * Utils.cost(3.91743976711 + 2221.85663459700 * x);
-		R0 += 0.00000058325 * Utils.cost(5.72360355252 + 628.85158605010 * x);
-		R0 += 0.00000052485 * Utils.cost(4.02485010492 + 527.24328453980 * x);
-		R0 += 0.00000063645 * Utils.cost(1.09973563964 + 1364.72809958190 * x);
-		R0 += 0.00000053607 * Utils.cost(0.87425992614 + 2847.52682690940 * x);
-		R0 += 0.00000059598 * Utils.cost(0.95822471775 + 494.26624244250 * x);
-		R0 += 0.00000057960 * Utils.cost(3.45779497978 + 2008.55753915900 * x);
-		R0 += 0.00000041512 * Utils.cost(3.51955526735 + 529.73914920440 * x);
-		R0 += 0.00000044666 * Utils.cost(1.62313786651 + 984.60033162190 * x);
-		R0 += 0.00000044883 * Utils.cost(4.90091959557 + 2648.45482547300 * x);
-		R0 += 0.00000053206 * Utils.cost(1.19800364308 + 760.25553592000 * x);
-		R0 += 0.00000044393 * Utils.cost(4.42623747662 + 1063.31408345230 * x);
-		R0 += 0.00000037566 * Utils.cost(2.93021095213 + 1677.93857550080 * x);
-		R0 += 0.00000041516 * Utils.cost(0.32174409278 + 529.64278098480 * x);
-		R0 += 0.00000042855 * Utils.cost(0.03093594081 + 1439.50969814920 * x);
-		R0 += 0.00000045963 * Utils.cost(2.54342106514 + 636.71589257630 * x);
-		R0 += 0.00000040181 * Utils.cost(4.39381642864 + 1148.24761040620 * x);
-		R0 += 0.00000038770 * Utils.cost(4.31675565025 + 149.56319713460 * x);
-		R0 += 0.00000040348 * Utils.cost(2.10140891053 + 2744.43405269080 * x);
-		R0 += 0.00000048851 * Utils.cost(5.60297777544 + 2810.92146160520 * x);
-		R0 += 0.00000037085 * Utils.cost(5.07828164301 + 1905.46476494040 * x);
-		R0 += 0.00000043875 * Utils.cost(1.24536971083 + 621.73803904930 * x);
-		R0 += 0.00000034005 * Utils.cost(3.09360167248 + 2420.92863603340 * x);
-		R0 += 0.00000036782 * Utils.cost(0.84232174637 + 530.65417294110 * x);
-		R0 += 0.00000031139 * Utils.cost(5.35811251334 + 1485.98012106520 * x);
-		R0 += 0.00000039295 * Utils.cost(4.70800489067 + 569.04784100980 * x);
-		R0 += 0.00000039700 * Utils.cost(2.46163878814 + 355.74874557180 * x);
-		R0 += 0.00000031527 * Utils.cost(6.19284070863 + 3.18139373770 * x);
-		R0 += 0.00000028399 * Utils.cost(2.48456666067 + 519.39602435610 * x);
-		R0 += 0.00000032432 * Utils.cost(2.73281750275 + 604.47256366190 * x);
-		R0 += 0.00000027119 * Utils.cost(3.92341697086 + 2324.94940881560 * x);
-		R0 += 0.00000026753 * Utils.cost(1.74975198417 + 2950.61960112800 * x);
-		R0 += 0.00000028986 * Utils.cost(1.83535862643 + 1891.23767093880 * x);
-		R0 += 0.00000026493 * Utils.cost(0.60380196895 + 1055.44977692610 * x);
-		R0 += 0.00000033525 * Utils.cost(0.76068430639 + 643.82943957710 * x);
-		R0 += 0.00000026568 * Utils.cost(1.03594610835 + 405.25754987360 * x);
-		R0 += 0.00000025534 * Utils.cost(3.46320665375 + 458.84151979040 * x);
-		R0 += 0.00000024421 * Utils.cost(0.88181836930 + 423.41679713830 * x);
-		R0 += 0.00000032949 * Utils.cost(3.18597137308 + 528.72775724810 * x);
-		R0 += 0.00000022456 * Utils.cost(0.43129919683 + 1073.60902419080 * x);
-		R0 += 0.00000021599 * Utils.cost(1.41820425091 + 540.73666535850 * x);
-		R0 += 0.00000025673 * Utils.cost(0.52358194760 + 511.53171782990 * x);
-		R0 += 0.00000021115 * Utils.cost(3.08023522766 + 629.60234557550 * x);
-		R0 += 0.00000022713 * Utils.cost(0.65234613144 + 3163.91869656600 * x);
-		R0 += 0.00000019189 * Utils.cost(5.16589014963 + 635.96513305090 * x);
-		R0 += 0.00000026042 * Utils.cost(1.33629471285 + 330.61896365820 * x);
-		R0 += 0.00000018263 * Utils.cost(3.59973446951 + 746.92221379570 * x);
-		R0 += 0.00000018210 * Utils.cost(2.66819439927 + 1994.33044515740 * x);
-		R0 += 0.00000019724 * Utils.cost(4.13552133321 + 1464.63948006280 * x);
-		R0 += 0.00000019480 * Utils.cost(1.85656428109 + 3060.82592234740 * x);
-		R0 += 0.00000023927 * Utils.cost(4.99826361784 + 1289.94650101460 * x);
-		R0 += 0.00000021886 * Utils.cost(5.91718683551 + 1802.37199072180 * x);
-		R0 += 0.00000017482 * Utils.cost(2.82161612542 + 2737.32050569000 * x);
-		R0 += 0.00000016608 * Utils.cost(5.67394889755 + 408.43894361130 * x);
-		R0 += 0.00000022892 * Utils.cost(5.26731352093 + 672.14061522840 * x);
-		R0 += 0.00000018349 * Utils.cost(1.89869734949 + 1021.24889455140 * x);
-		R0 += 0.00000019123 * Utils.cost(3.65882402977 + 415.55249061210 * x);
-		R0 += 0.00000015735 * Utils.cost(3.34772676006 + 1056.20053645150 * x);
-		R0 += 0.00000016373 * Utils.cost(0.18094878053 + 1699.27921650320 * x);
-		R0 += 0.00000018899 * Utils.cost(3.69120638874 + 88.86568021700 * x);
-		R0 += 0.00000018655 * Utils.cost(1.97327300097 + 38.13303563780 * x);
-		R0 += 0.00000015542 * Utils.cost(3.82204881010 + 721.64941953020 * x);
-		R0 += 0.00000016780 * Utils.cost(1.90976657921 + 217.23124870110 * x);
-		R0 += 0.00000015313 * Utils.cost(1.05907174619 + 114.13847448250 * x);
-		R0 += 0.00000015190 * Utils.cost(1.32317039042 + 117.31986822020 * x);
-		R0 += 0.00000015080 * Utils.cost(3.74469077216 + 2641.34127847220 * x);
-		R0 += 0.00000019836 * Utils.cost(2.73184571324 + 39.35687591520 * x);
-		R0 += 0.00000014708 * Utils.cost(1.67270454473 + 529.16970023280 * x);
-		R0 += 0.00000014036 * Utils.cost(3.54305270022 + 142.44965013380 * x);
-		R0 += 0.00000012931 * Utils.cost(1.48829749349 + 3267.01147078460 * x);
-		R0 += 0.00000014924 * Utils.cost(1.32546085940 + 490.33408917940 * x);
-		R0 += 0.00000014753 * Utils.cost(4.64530618027 + 6283.07584999140 * x);
-		R0 += 0.00000014672 * Utils.cost(0.80451954754 + 5223.69391980220 * x);
-		R0 += 0.00000012085 * Utils.cost(3.67072510553 + 750.10360753340 * x);
-		R0 += 0.00000011954 * Utils.cost(2.97127390765 + 505.31194270640 * x);
-		R0 += 0.00000014650 * Utils.cost(2.16792930250 + 530.21222995640 * x);
-		R0 += 0.00000011869 * Utils.cost(1.66551754962 + 2207.62954059540 * x);
-		R0 += 0.00000012273 * Utils.cost(0.20690014405 + 1062.56332392690 * x);
-		R0 += 0.00000011460 * Utils.cost(1.11906683214 + 561.93429400900 * x);
-		R0 += 0.00000011083 * Utils.cost(3.22049096074 + 535.10759106600 * x);
-		R0 += 0.00000011567 * Utils.cost(5.22625628971 + 524.06189080210 * x);
-		R0 += 0.00000011161 * Utils.cost(3.82945634036 + 76.26607127560 * x);
-		R0 += 0.00000010918 * Utils.cost(1.27796962818 + 2125.87740737920 * x);
-		R0 += 0.00000012685 * Utils.cost(3.96848605476 + 2538.24850425360 * x);
-		R0 += 0.00000011230 * Utils.cost(3.23092119889 + 422.66603761290 * x);
-		R0 += 0.00000012645 * Utils.cost(0.73670428580 + 908.33426034630 * x);
-		R0 += 0.00000011330 * Utils.cost(5.56127247007 + 531.17543780290 * x);
-		R0 += 0.00000009509 * Utils.cost(5.00507284204 + 597.35901666110 * x);
-		R0 += 0.00000010291 * Utils.cost(3.84159025239 + 1781.03134971940 * x);
-		R0 += 0.00000010762 * Utils.cost(4.91380719453 + 525.02509864860 * x);
-		R0 += 0.00000011786 * Utils.cost(5.11863653538 + 685.47393735270 * x);
-		R0 += 0.00000011980 * Utils.cost(1.72470898635 + 911.30320576290 * x);
-		R0 += 0.00000008937 * Utils.cost(2.40338241992 + 2310.72231481400 * x);
-		R0 += 0.00000009253 * Utils.cost(2.57670338148 + 3053.71237534660 * x);
-		R0 += 0.00000009488 * Utils.cost(2.95089828501 + 1382.88734684660 * x);
-		R0 += 0.00000009889 * Utils.cost(0.43758517388 + 3480.31056622260 * x);
-		R0 += 0.00000008781 * Utils.cost(3.66562388594 + 739.80866679490 * x);
-		R0 += 0.00000008664 * Utils.cost(2.70398612383 + 526.77020378780 * x);
-		R0 += 0.00000009505 * Utils.cost(1.61249870019 + 3377.21779200400 * x);
-		R0 += 0.00000011540 * Utils.cost(1.59520481029 + 1474.67378837040 * x);
-		R0 += 0.00000009533 * Utils.cost(0.35468711552 + 1512.80682400820 * x);
-		R0 += 0.00000009980 * Utils.cost(4.80984684596 + 558.00214074590 * x);
-		R0 += 0.00000009014 * Utils.cost(1.21458362718 + 416.30325013750 * x);
-		R0 += 0.00000007969 * Utils.cost(0.08480602718 + 528.94020556920 * x);
-		R0 += 0.00000008668 * Utils.cost(5.29060005706 + 945.24345570670 * x);
-		R0 += 0.00000007851 * Utils.cost(1.46751861875 + 963.40270297140 * x);
-		R0 += 0.00000008611 * Utils.cost(1.13232641062 + 532.61172640140 * x);
-		R0 += 0.00000007838 * Utils.cost(6.26933498027 + 647.01083331480 * x);
-		R0 += 0.00000007581 * Utils.cost(2.90608705954 + 533.88375078860 * x);
-		R0 += 0.00000008583 * Utils.cost(6.06634530166 + 10213.28554621100 * x);
-		R0 += 0.00000010198 * Utils.cost(2.48743123636 + 1819.63746610920 * x);
-		R0 += 0.00000008536 * Utils.cost(2.22700701790 + 9153.90361602180 * x);
-		R0 += 0.00000009759 * Utils.cost(6.15593336218 + 593.42686339800 * x);
-		R0 += 0.00000007968 * Utils.cost(3.75535355212 + 530.44172462000 * x);
-		R0 += 0.00000007142 * Utils.cost(3.58836120327 + 2957.73314812880 * x);
-		R0 += 0.00000007122 * Utils.cost(0.11970048938 + 224.34479570190 * x);
-		R0 += 0.00000008731 * Utils.cost(0.75302913970 + 960.22130923370 * x);
-		R0 += 0.00000007063 * Utils.cost(2.16793037690 + 724.83081326790 * x);
-		R0 += 0.00000007263 * Utils.cost(2.29499675875 + 520.12973753900 * x);
-		R0 += 0.00000006418 * Utils.cost(1.25058991868 + 3583.40334044120 * x);
-		R0 += 0.00000008270 * Utils.cost(1.24806288317 + 495.75071515080 * x);
-		R0 += 0.00000006483 * Utils.cost(4.74567772640 + 202.25339517410 * x);
-		R0 += 0.00000007197 * Utils.cost(3.84169279666 + 618.55664531160 * x);
-		R0 += 0.00000008146 * Utils.cost(0.73147060302 + 230.56457082540 * x);
-		R0 += 0.00000006165 * Utils.cost(5.50124418381 + 11.04570026390 * x);
-		R0 += 0.00000007946 * Utils.cost(2.07754951174 + 953.10776223290 * x);
-		R0 += 0.00000007675 * Utils.cost(0.92400307662 + 525.49817940060 * x);
-		R0 += 0.00000006210 * Utils.cost(1.45641362115 + 483.22054217860 * x);
-		R0 += 0.00000007359 * Utils.cost(0.31355650764 + 378.64329525170 * x);
-		R0 += 0.00000006707 * Utils.cost(2.92071167098 + 1038.04128918680 * x);
-		R0 += 0.00000007143 * Utils.cost(0.18218134889 + 731.94436026870 * x);
-		R0 += 0.00000007309 * Utils.cost(6.27084533477 + 21.34064100240 * x);
-		R0 += 0.00000006135 * Utils.cost(2.67651237303 + 312.45971639350 * x);
-		R0 += 0.00000005558 * Utils.cost(3.83419160288 + 534.35683154060 * x);
-		R0 += 0.00000005344 * Utils.cost(5.25294750019 + 1048.33622992530 * x);
-		R0 += 0.00000007504 * Utils.cost(0.74281415471 + 457.61767951300 * x);
-		R0 += 0.00000005335 * Utils.cost(6.23059924424 + 551.03160609700 * x);
-		R0 += 0.00000005613 * Utils.cost(1.51210605952 + 524.27433912320 * x);
-		R0 += 0.00000005284 * Utils.cost(2.18579185671 + 280.96714700450 * x);
-		R0 += 0.00000005475 * Utils.cost(5.95864753605 + 539.98590583310 * x);
-		R0 += 0.00000005056 * Utils.cost(0.37387972537 + 529.53090640020 * x);
-		R0 += 0.00000006202 * Utils.cost(5.53813122743 + 2.44768055480 * x);
-		R0 += 0.00000005490 * Utils.cost(5.97692444199 + 227.52618943960 * x);
-		R0 += 0.00000006266 * Utils.cost(0.76632858238 + 938.12990870590 * x);
-		R0 += 0.00000005750 * Utils.cost(2.13496323512 + 191.95845443560 * x);
-		R0 += 0.00000005218 * Utils.cost(4.69335266854 + 560.71045373160 * x);
-		R0 += 0.00000005480 * Utils.cost(5.21157595558 + 1057.89745748090 * x);
-		R0 += 0.00000005738 * Utils.cost(0.34249718209 + 535.91074021810 * x);
-		R0 += 0.00000004816 * Utils.cost(1.51326236835 + 2524.02141025200 * x);
-		R0 += 0.00000005056 * Utils.cost(3.46671669992 + 529.85102378900 * x);
-		R0 += 0.00000004710 * Utils.cost(2.27813830550 + 3370.10424500320 * x);
-		R0 += 0.00000005228 * Utils.cost(3.61776977584 + 2097.42321937600 * x);
-		R0 += 0.00000004878 * Utils.cost(1.39829798223 + 3693.60966166060 * x);
-		R0 += 0.00000005727 * Utils.cost(4.80120381106 + 598.84348936940 * x);
-		R0 += 0.00000005707 * Utils.cost(3.94177950323 + 2854.64037391020 * x);
-		R0 += 0.00000004988 * Utils.cost(4.87244187719 + 1.48447270830 * x);
-		R0 += 0.00000005424 * Utils.cost(3.53268613904 + 456.39383923560 * x);
-		R0 += 0.00000004288 * Utils.cost(4.84438067847 + 70.84944530420 * x);
-		R0 += 0.00000005944 * Utils.cost(3.79180483544 + 25558.21217647960 * x);
-		R0 += 0.00000004195 * Utils.cost(2.09136830994 + 2627.11418447060 * x);
-		R0 += 0.00000004582 * Utils.cost(5.61707254513 + 2435.15573003500 * x);
-		R0 += 0.00000004268 * Utils.cost(6.20250525415 + 775.23338944700 * x);
-		R0 += 0.00000004521 * Utils.cost(0.20049967962 + 92.04707395470 * x);
-		R0 += 0.00000005405 * Utils.cost(4.66492781581 + 833.55266177900 * x);
-		R0 += 0.00000005607 * Utils.cost(3.30226645638 + 535.32003938710 * x);
-		R0 += 0.00000004171 * Utils.cost(3.14873010832 + 944.98282327580 * x);
-		R0 += 0.00000004108 * Utils.cost(5.84489743779 + 440.82528487760 * x);
-		R0 += 0.00000004367 * Utils.cost(4.68363584557 + 327.43756992050 * x);
-		R0 += 0.00000004033 * Utils.cost(3.30883782817 + 3274.12501778540 * x);
-		R0 += 0.00000004292 * Utils.cost(0.20604269202 + 3796.70243587920 * x);
-		R0 += 0.00000004270 * Utils.cost(0.98941708997 + 387.24131496080 * x);
-		R0 += 0.00000004259 * Utils.cost(3.21120589971 + 696.51963761660 * x);
-		R0 += 0.00000004673 * Utils.cost(1.96606729969 + 107.02492748170 * x);
-		R0 += 0.00000004031 * Utils.cost(4.62854606236 + 2751.54759969160 * x);
-		R0 += 0.00000005115 * Utils.cost(2.66416451377 + 1215.16490244730 * x);
-		R0 += 0.00000004181 * Utils.cost(4.74527698816 + 988.53248488500 * x);
-		R0 += 0.00000004374 * Utils.cost(1.50010561403 + 1894.41906467650 * x);
-		R0 += 0.00000003803 * Utils.cost(3.59911687954 + 437.64389113990 * x);
-		R0 += 0.00000003761 * Utils.cost(3.96903199782 + 732.69511979410 * x);
-		R0 += 0.00000003620 * Utils.cost(1.57847427805 + 381.61224066830 * x);
-		R0 += 0.00000003490 * Utils.cost(0.63097592112 + 529.90341341570 * x);
-		R0 += 0.00000004019 * Utils.cost(2.57664165720 + 916.93228005540 * x);
-		R0 += 0.00000004133 * Utils.cost(4.78417930217 + 824.74219374880 * x);
-		R0 += 0.00000004411 * Utils.cost(3.13179382423 + 630.33605875840 * x);
-		R0 += 0.00000004099 * Utils.cost(3.63702212253 + 810.65811209910 * x);
-		R0 += 0.00000003704 * Utils.cost(6.17243801274 + 537.76771994190 * x);
-		R0 += 0.00000004124 * Utils.cost(2.14248285449 + 210.11770170030 * x);
-		R0 += 0.00000003490 * Utils.cost(3.20962050417 + 529.47851677350 * x);
-		R0 += 0.00000003281 * Utils.cost(1.53106243317 + 547.85021235930 * x);
-		R0 += 0.00000003554 * Utils.cost(6.03787799174 + 739.05790726950 * x);
-		R0 += 0.00000004101 * Utils.cost(6.00406226999 + 902.70518605380 * x);
-		R0 += 0.00000003267 * Utils.cost(3.49354065789 + 1166.40685767090 * x);
-		R0 += 0.00000003286 * Utils.cost(2.55966870530 + 945.99421523210 * x);
-		R0 += 0.00000004041 * Utils.cost(4.78735413707 + 850.01498801430 * x);
-		R0 += 0.00000004304 * Utils.cost(0.11406117717 + 1744.85586754190 * x);
-		R0 += 0.00000004043 * Utils.cost(5.20417093600D + 635.23141986800 * x);
-		R0 += 0.00000003115 * Utils.cost(4.61986265585 + 952.35700270750 * x);
-		R0 += 0.00000003016 * Utils.cost(0.95126220905 + 3899.79521009780 * x);
-		R0 += 0.00000003017 * Utils.cost(2.59699501992 + 632.83192342300 * x);
-		R0 += 0.00000003219 * Utils.cost(1.83594791142 + 18.15924726470 * x);
-		R0 += 0.00000003203 * Utils.cost(6.12597544496 + 10.29494073850 * x);
-		R0 += 0.00000003220 * Utils.cost(6.14213423140 + 1158.54255114470 * x);
-		R0 += 0.00000003000 * Utils.cost(5.69509924353 + 632.73555520340 * x);
-		R0 += 0.00000003226 * Utils.cost(5.59910267099 + 608.40471692500 * x);
-		R0 += 0.00000003118 * Utils.cost(5.64998934505 + 99.16062095550 * x);
-		R0 += 0.00000003745 * Utils.cost(2.08111521615 + 282.45161971280 * x);
-		R0 += 0.00000002837 * Utils.cost(4.60175594220 + 245.54242435240 * x);
-		R0 += 0.00000003093 * Utils.cost(6.02049413961 + 633.74694715970 * x);
-		R0 += 0.00000003120 * Utils.cost(2.29047945342 + 631.82053146670 * x);
-		R0 += 0.00000002662 * Utils.cost(3.69016679729 + 885.43971066640 * x);
-		R0 += 0.00000003150 * Utils.cost(1.79784999553 + 521.61421024730 * x);
-		R0 += 0.00000002822 * Utils.cost(3.14927418161 + 295.05122865420 * x);
-		R0 += 0.00000002615 * Utils.cost(0.20732170653 + 35.42472265210 * x);
-		R0 += 0.00000002971 * Utils.cost(1.28795094653 + 1023.95720753710 * x);
-		R0 += 0.00000002571 * Utils.cost(2.01817133502 + 1514.29129671650 * x);
-		R0 += 0.00000002592 * Utils.cost(0.48790221200 + 195.13984817330 * x);
-		R0 += 0.00000003263 * Utils.cost(2.38820607343 + 836.52160719560 * x);
-		R0 += 0.00000002501 * Utils.cost(0.21653750027 + 465.95506679120 * x);
-		R0 += 0.00000002451 * Utils.cost(5.58559489768 + 544.66881862160 * x);
-		R0 += 0.00000002535 * Utils.cost(1.44414086617 + 460.53844081980 * x);
-		R0 += 0.00000002666 * Utils.cost(3.30350145485 + 2413.81508903260 * x);
-		R0 += 0.00000002412 * Utils.cost(4.36756580310 + 1056.93424963440 * x);
-		R0 += 0.00000002452 * Utils.cost(4.53818816565 + 514.71311156760 * x);
-		R0 += 0.00000003239 * Utils.cost(1.17022488774 + 177.87437278590 * x);
-		R0 += 0.00000003218 * Utils.cost(0.60551913257 + 1061.82961074400 * x);
-		R0 += 0.00000002408 * Utils.cost(0.65423523810 + 523.54062594030 * x);
-		R0 += 0.00000002299 * Utils.cost(2.15247752560 + 319.57326339430 * x);
-		R0 += 0.00000002791 * Utils.cost(2.71505085086 + 610.69233878540 * x);
-		R0 += 0.00000002729 * Utils.cost(1.77685979153 + 252.65597135320 * x);
-		R0 += 0.00000002666 * Utils.cost(3.77750458842 + 3171.03224356680 * x);
-		R0 += 0.00000002303 * Utils.cost(0.36676453766 + 1969.20066324380 * x);
-		R0 += 0.00000002664 * Utils.cost(0.09674841214 + 565.11568774670 * x);
-		R0 += 0.00000002312 * Utils.cost(2.07210502831 + 3686.49611465980 * x);
-		R0 += 0.00000002680 * Utils.cost(4.94445888050 + 1593.00504854690 * x);
-		R0 += 0.00000002193 * Utils.cost(0.55645982205 + 2228.97018159780 * x);
-		R0 += 0.00000002526 * Utils.cost(1.07528597373 + 12036.46073488820 * x);
-		R0 += 0.00000002778 * Utils.cost(1.48379350517 + 447.79581952650 * x);
-		R0 += 0.00000002235 * Utils.cost(5.95475282699 + 6151.53388830500 * x);
-		R0 += 0.00000002759 * Utils.cost(4.63976153480 + 462.02291352810 * x);
-		R0 += 0.00000002175 * Utils.cost(4.53588570240 + 501.37978944330 * x);
-		R0 += 0.00000002323 * Utils.cost(5.93670041006 + 611.44309831080 * x);
-		R0 += 0.00000002384 * Utils.cost(2.81746622971 + 3340.61242669980 * x);
-		R0 += 0.00000002087 * Utils.cost(3.10716079675 + 1049.08698945070 * x);
-		R0 += 0.00000001994 * Utils.cost(2.02500860064 + 1058.86066532740 * x);
-		R0 += 0.00000002199 * Utils.cost(2.20937490997 + 1269.49963188950 * x);
-		R0 += 0.00000002705 * Utils.cost(1.97665276677 + 415.29185818120 * x);
-		R0 += 0.00000002787 * Utils.cost(1.31053438756 + 1041.22268292450 * x);
-		R0 += 0.00000002003 * Utils.cost(4.66904374443 + 679.25416222920 * x);
-		R0 += 0.00000001962 * Utils.cost(1.82999730674 + 2943.50605412720 * x);
-		R0 += 0.00000002289 * Utils.cost(2.96480800939 + 69.15252427480 * x);
-		R0 += 0.00000002192 * Utils.cost(4.47837196209 + 209.36694217490 * x);
-		R0 += 0.00000002020 * Utils.cost(0.04621364490 + 4113.09430553580 * x);
-		R0 += 0.00000002082 * Utils.cost(1.11203059170 + 4010.00153131720 * x);
-		R0 += 0.00000001991 * Utils.cost(3.20108648275 + 3590.51688744200 * x);
-		R0 += 0.00000001900 * Utils.cost(3.32227077969 + 421.93232443000 * x);
-		R0 += 0.00000002193 * Utils.cost(2.82218305362 + 292.01284726840 * x);
-		R0 += 0.00000002288 * Utils.cost(1.94695631885 + 1279.79457262800 * x);
-		R0 += 0.00000001843 * Utils.cost(5.23293634337 + 14.97785352700 * x);
-		R0 += 0.00000001932 * Utils.cost(5.46684252030 + 2281.23049651060 * x);
-		R0 += 0.00000002177 * Utils.cost(2.93031976617 + 429.04587143080 * x);
-		R0 += 0.00000002125 * Utils.cost(0.06224847826 + 24.37902238820 * x);
-		R0 += 0.00000002464 * Utils.cost(5.39581078430 + 1261.63532536330 * x);
-		R0 += 0.00000001938 * Utils.cost(3.79908004671 + 1059.43011429900 * x);
-		R0 += 0.00000002029 * Utils.cost(3.95461157815 + 771.30123618390 * x);
-		R0 += 0.00000001841 * Utils.cost(4.74905354737 + 78.71375183040 * x);
-		R0 += 0.00000001922 * Utils.cost(2.21862085389 + 99.91138048090 * x);
-		R0 += 0.00000001836 * Utils.cost(5.75449805175 + 623.22251175760 * x);
-		R0 += 0.00000002145 * Utils.cost(3.87052575546 + 451.94042111070 * x);
-		R0 += 0.00000001782 * Utils.cost(0.40860352236 + 754.03576079650 * x);
-		R0 += 0.00000001784 * Utils.cost(1.49468287576 + 529.95159752550 * x);
-		R0 += 0.00000001842 * Utils.cost(3.49726261337 + 1354.43315884340 * x);
-		R0 += 0.00000001748 * Utils.cost(3.48730020953 + 522.62560220360 * x);
-		R0 += 0.00000001816 * Utils.cost(1.24334711210 + 417.03696332040 * x);
-		R0 += 0.00000001752 * Utils.cost(1.15500390019 + 1060.34513803570 * x);
-		R0 += 0.00000001729 * Utils.cost(2.69831073799 + 642.34496686880 * x);
-		R0 += 0.00000001985 * Utils.cost(1.99916658759 + 934.94851496820 * x);
-		R0 += 0.00000001828 * Utils.cost(5.44095029767 + 1201.83158032300 * x);
-		R0 += 0.00000002158 * Utils.cost(3.45672748590 + 827.92358748650 * x);
-		R0 += 0.00000001959 * Utils.cost(1.06033047373 + 33.94024994380 * x);
-		R0 += 0.00000001751 * Utils.cost(3.13572498964 + 384.05992122310 * x);
-		R0 += 0.00000001781 * Utils.cost(5.02895146997 + 1098.73880610440 * x);
-		R0 += 0.00000002074 * Utils.cost(3.18582065441 + 1366.21257229020 * x);
-		R0 += 0.00000001757 * Utils.cost(5.02778552877 + 586.31331639720 * x);
-		R0 += 0.00000002045 * Utils.cost(3.08816627459 + 535.84130424890 * x);
-		R0 += 0.00000002273 * Utils.cost(5.17998505813 + 3178.14579056760 * x);
-		R0 += 0.00000001617 * Utils.cost(3.16674916201 + 67.66805156650 * x);
-		R0 += 0.00000001627 * Utils.cost(6.10603469594 + 432.01481684740 * x);
-		R0 += 0.00000001930 * Utils.cost(1.63968957659 + 5.41662597140 * x);
-		R0 += 0.00000001741 * Utils.cost(0.99408274736 + 1254.52177836250 * x);
-		R0 += 0.00000001607 * Utils.cost(5.65498642076 + 1165.65609814550 * x);
-		R0 += 0.00000001676 * Utils.cost(3.06138410273 + 1134.16352875650 * x);
-		R0 += 0.00000001821 * Utils.cost(3.05183555090 + 567.82400073240 * x);
-		R0 += 0.00000001677 * Utils.cost(3.09175084930 + 1251.34038462480 * x);
-		R0 += 0.00000001994 * Utils.cost(2.52023134712 + 1059.90319505100 * x);
-		R0 += 0.00000002204 * Utils.cost(6.15376698510 + 563.63121503840 * x);
-		R0 += 0.00000001692 * Utils.cost(4.19142612803 + 106.27416795630 * x);
-		R0 += 0.00000001906 * Utils.cost(5.58417395051 + 32.24332891440 * x);
-		R0 += 0.00000002206 * Utils.cost(1.75883974012 + 1151.42900414390 * x);
-		R0 += 0.00000001552 * Utils.cost(3.04262360186 + 385.54439393140 * x);
-		R0 += 0.00000001508 * Utils.cost(0.42002830727 + 313.21047591890 * x);
-		R0 += 0.00000001494 * Utils.cost(1.43672345922 + 2840.41327990860 * x);
-		R0 += 0.00000001678 * Utils.cost(2.17255433434 + 306.83064210100 * x);
-		R0 += 0.00000001511 * Utils.cost(4.44377608685 + 395.10562148700 * x);
-		R0 += 0.00000001958 * Utils.cost(0.05215107058 + 761.74000862830 * x);
-		R0 += 0.00000001760 * Utils.cost(1.27045286501 + 1173.52040467170 * x);
-		R0 += 0.00000001463 * Utils.cost(6.07810373103 + 0.96320784650 * x);
-		R0 += 0.00000001498 * Utils.cost(2.79408561759 + 277.03499374140 * x);
-		R0 += 0.00000001636 * Utils.cost(0.26199351490 + 522.52923398400 * x);
-		R0 += 0.00000001507 * Utils.cost(0.48961801593 + 4216.18707975440 * x);
-		R0 += 0.00000001530 * Utils.cost(3.42953827550 + 1159.29331067010 * x);
-		R0 += 0.00000001744 * Utils.cost(2.39637837261 + 203.00415469950 * x);
-		R0 += 0.00000001569 * Utils.cost(2.55719070621 + 4.19278569400 * x);
-		R0 += 0.00000001576 * Utils.cost(3.45039607104 + 1058.41872234270 * x);
-		R0 += 0.00000001466 * Utils.cost(2.24427539934 + 1550.93985964600 * x);
-		R0 += 0.00000001784 * Utils.cost(2.34591354953 + 529.43033266370 * x);
-		R0 += 0.00000001939 * Utils.cost(4.73685428610 + 3067.93946934820 * x);
-		R0 += 0.00000001938 * Utils.cost(0.60126164334 + 1059.33374607940 * x);
-		R0 += 0.00000001523 * Utils.cost(2.98744673443 + 2730.20695868920 * x);
-		R0 += 0.00000001834 * Utils.cost(3.78099298791 + 420.96911658350 * x);
-		R0 += 0.00000001372 * Utils.cost(3.53997115825 + 5.62907429250 * x);
-		R0 += 0.00000001361 * Utils.cost(0.45533257707 + 418.52143602870 * x);
-		R0 += 0.00000001833 * Utils.cost(5.12743628215 + 1578.02719501990 * x);
-		R0 += 0.00000001839 * Utils.cost(4.24616044210 + 981.63138620530 * x);
-		R0 += 0.00000001567 * Utils.cost(3.32429870195 + 532.39927808030 * x);
-		R0 += 0.00000001340 * Utils.cost(1.94668282270 + 528.41894070740 * x);
-		R0 += 0.00000001422 * Utils.cost(1.83191577465 + 4002.88798431640 * x);
-		R0 += 0.00000001745 * Utils.cost(5.76913240451 + 490.07345674850 * x);
-		R0 += 0.00000001437 * Utils.cost(4.19470227783 + 420.44785172170 * x);
-		R0 += 0.00000001419 * Utils.cost(0.74849005330 + 632.26247445140 * x);
-		R0 += 0.00000001447 * Utils.cost(5.65611888743 + 373.01422095920 * x);
-		R0 += 0.00000001578 * Utils.cost(3.90273683089 + 602.98809095360 * x);
-		R0 += 0.00000001385 * Utils.cost(3.88479835656 + 419.43645976540 * x);
-		R0 += 0.00000001352 * Utils.cost(0.81697905853 + 1585.14074202070 * x);
-		R0 += 0.00000001399 * Utils.cost(1.24785452243 + 633.30500417500 * x);
-		R0 += 0.00000001297 * Utils.cost(5.57914023189 + 1276.61317889030 * x);
-		R0 += 0.00000001491 * Utils.cost(1.66541781223 + 2655.56837247380 * x);
-		R0 += 0.00000001252 * Utils.cost(0.72155670765 + 173.94221952280 * x);
-		R0 += 0.00000001658 * Utils.cost(5.60924662850 + 362.86229257260 * x);
-		R0 += 0.00000001606 * Utils.cost(3.95301396173 + 2274.54683263650 * x);
-		R0 += 0.00000001213 * Utils.cost(4.55264289565 + 366.79444583570 * x);
-		R0 += 0.00000001521 * Utils.cost(0.55773831071 + 1592.25428902150 * x);
-		R0 += 0.00000001220 * Utils.cost(3.63029788040 + 497.44763618020 * x);
-		R0 += 0.00000001215 * Utils.cost(4.42854185903 + 531.38788612400 * x);
-		R0 += 0.00000001549 * Utils.cost(5.73765962068 + 320.32402291970 * x);
-		R0 += 0.00000001480 * Utils.cost(4.29779032931 + 303.86169668440 * x);
-		R0 += 0.00000001507 * Utils.cost(2.27998567874 + 758.77106321170 * x);
-		R0 += 0.00000001212 * Utils.cost(3.38335836048 + 536.85269620520 * x);
-		R0 += 0.00000001245 * Utils.cost(4.21639959154 + 4.66586644600 * x);
-		R0 += 0.00000001507 * Utils.cost(3.52136655355 + 774.00954916960 * x);
-		R0 += 0.00000001481 * Utils.cost(3.06156044618 + 1585.89150154610 * x);
-		R0 += 0.00000001462 * Utils.cost(2.30628702634 + 1363.24362687360 * x);
-		R0 += 0.00000001180 * Utils.cost(3.52708055024 + 1064.79855616060 * x);
-		R0 += 0.00000001193 * Utils.cost(5.88284733845 + 1060.86640289750 * x);
-		R0 += 0.00000001398 * Utils.cost(4.99456521692 + 842.90144101350 * x);
-		R0 += 0.00000001406 * Utils.cost(1.53799746944 + 1020.02505427400 * x);
-		R0 += 0.00000001367 * Utils.cost(4.10254739443 + 799.61241183520 * x);
-		R0 += 0.00000001336 * Utils.cost(1.89387272380 + 530.96298948180 * x);
-		R0 += 0.00000001238 * Utils.cost(3.62226383331 + 3487.42411322340 * x);
-		R0 += 0.00000001306 * Utils.cost(3.39985119727 + 539.25219265020 * x);
-		R0 += 0.00000001156 * Utils.cost(0.77127511567 + 1603.29998928540 * x);
-		R0 += 0.00000001482 * Utils.cost(0.48451915093 + 493.04240216510 * x);
-		R0 += 0.00000001247 * Utils.cost(5.64344659992 + 479.28838891550 * x);
-		R0 += 0.00000001195 * Utils.cost(2.39909893341 + 561.18353448360 * x);
-		R0 += 0.00000001106 * Utils.cost(0.89453807282 + 2.92076130680 * x);
-		R0 += 0.00000001227 * Utils.cost(2.76231244946 + 299.12639426920 * x);
-		R0 += 0.00000001128 * Utils.cost(4.72319873338 + 124.43341522100 * x);
-		R0 += 0.00000001086 * Utils.cost(5.66180289525 + 1053.75285589670 * x);
-		R0 += 0.00000001329 * Utils.cost(0.16664094530 + 536.75632798560 * x);
-		R0 += 0.00000001082 * Utils.cost(4.51407359350 + 528.25467649610 * x);
-		R0 += 0.00000001105 * Utils.cost(1.93890691771 + 244.31858407500 * x);
-		R0 += 0.00000001446 * Utils.cost(0.65096230619 + 1091.62525910360 * x);
-		R0 += 0.00000001071 * Utils.cost(4.67974963103 + 521.82665856840 * x);
-		R0 += 0.00000001413 * Utils.cost(4.72936311016 + 1141.13406340540 * x);
-		R0 += 0.00000001086 * Utils.cost(2.88721124443 + 1262.38608488870 * x);
-		R0 += 0.00000001254 * Utils.cost(5.74156595137 + 527.99404406520 * x);
-		R0 += 0.00000001082 * Utils.cost(5.60975006771 + 531.12725369310 * x);
-		R0 += 0.00000001148 * Utils.cost(3.27410230525 + 1035.00290780100 * x);
-		R0 += 0.00000001224 * Utils.cost(3.68807537150 + 81.75213321620 * x);
-		R0 += 0.00000001072 * Utils.cost(0.48068438564 + 1058.63117066380 * x);
-		R0 += 0.00000001036 * Utils.cost(1.68789163831 + 1070.42763045310 * x);
-		R0 += 0.00000001052 * Utils.cost(4.72763208332 + 913.75088631770 * x);
-		R0 += 0.00000001166 * Utils.cost(4.97812626679 + 450.97721326420 * x);
-		R0 += 0.00000001042 * Utils.cost(2.90894542321 + 3906.90875709860 * x);
-		R0 += 0.00000000997 * Utils.cost(1.65967703856 + 3259.89792378380 * x);
-		R0 += 0.00000001113 * Utils.cost(3.06502453809 + 1482.79872732750 * x);
-		R0 += 0.00000000991 * Utils.cost(0.91568114148 + 576.16138801060 * x);
-		R0 += 0.00000000987 * Utils.cost(0.91349590742 + 2332.06295581640 * x);
-		R0 += 0.00000001003 * Utils.cost(6.17381204883 + 391.17346822390 * x);
-		R0 += 0.00000001087 * Utils.cost(3.19260020877 + 151.04766984290 * x);
-		R0 += 0.00000000987 * Utils.cost(2.48065918834 + 1912.57831194120 * x);
-		R0 += 0.00000000975 * Utils.cost(1.55458771092 + 536.28324723360 * x);
-		R0 += 0.00000001193 * Utils.cost(2.19383228000 + 523.09868295560 * x);
-		R0 += 0.00000000979 * Utils.cost(3.28693620660 + 1379.70595310890 * x);
-		R0 += 0.00000000963 * Utils.cost(2.29845109892 + 1467.82087380050 * x);
-		R0 += 0.00000001279 * Utils.cost(4.73978455573 + 600.54041039880 * x);
-		R0 += 0.00000001269 * Utils.cost(1.77171706595 + 5120.60114558360 * x);
-		R0 += 0.00000000938 * Utils.cost(3.13636271584 + 1372.59240610810 * x);
-		R0 += 0.00000000956 * Utils.cost(0.94045126791 + 429.77958461370 * x);
-		R0 += 0.00000001130 * Utils.cost(4.87259620358 + 874.39401040250 * x);
-		R0 += 0.00000001044 * Utils.cost(3.52819283674 + 530.58473697190 * x);
-		R0 += 0.00000001244 * Utils.cost(0.80634178279 + 419.53282798500 * x);
-		R0 += 0.00000000914 * Utils.cost(4.34324212455 + 1127.04998175570 * x);
-		R0 += 0.00000001095 * Utils.cost(3.17513475763 + 6681.22485339960 * x);
-		R0 += 0.00000000926 * Utils.cost(5.53099018797 + 537.55527162080 * x);
-		R0 += 0.00000001025 * Utils.cost(6.08315999637 + 469.88722005430 * x);
-		R0 += 0.00000000928 * Utils.cost(2.64064849636 + 31.01948863700 * x);
-		R0 += 0.00000000887 * Utils.cost(5.53922649066 + 498.67147645760 * x);
-		R0 += 0.00000001153 * Utils.cost(5.20213407651 + 554.06998748280 * x);
-		R0 += 0.00000000976 * Utils.cost(4.26047885490 + 806.72595883600D * x);
-		R0 += 0.00000000871 * Utils.cost(5.79751110150 + 594.65070367540 * x);
-		R0 += 0.00000001044 * Utils.cost(0.31244551729 + 528.79719321730 * x);
-		R0 += 0.00000000911 * Utils.cost(0.94039205468 + 337.73251065900 * x);
-		R0 += 0.00000001197 * Utils.cost(3.12884590029 + 1966.23171782720 * x);
-		R0 += 0.00000000930 * Utils.cost(2.88178471518 + 1056.46116888240 * x);
-		R0 += 0.00000001052 * Utils.cost(1.69484089706 + 484.44438245600 * x);
-		R0 += 0.00000000862 * Utils.cost(0.67309397482 + 20426.57109242200 * x);
-		R0 += 0.00000001152 * Utils.cost(1.16751621652 + 1489.91227432830 * x);
-		R0 += 0.00000000847 * Utils.cost(3.25831322825 + 1063.57471588320 * x);
-		R0 += 0.00000000884 * Utils.cost(0.71487680084 + 2042.49778910280 * x);
-		R0 += 0.00000000888 * Utils.cost(5.38714907441 + 5621.84292321040 * x);
-		R0 += 0.00000001137 * Utils.cost(4.02029739425 + 1670.07426897460 * x);
-		R0 += 0.00000000844 * Utils.cost(3.31846798590 + 812.14258480740 * x);
-		R0 += 0.00000000860 * Utils.cost(4.78175008217 + 530.91480537200 * x);
-		R0 += 0.00000000835 * Utils.cost(3.63117401608 + 451.72797278960 * x);
-		R0 += 0.00000000931 * Utils.cost(2.27352189963 + 100.64509366380 * x);
-		R0 += 0.00000000939 * Utils.cost(3.51238251326 + 523.47118997110 * x);
-		R0 += 0.00000000860 * Utils.cost(5.34207357904 + 528.46712481720 * x);
-		R0 += 0.00000000875 * Utils.cost(0.87775537110 + 4326.39340097380 * x);
-		R0 += 0.00000000961 * Utils.cost(5.69327275886 + 498.19839570560 * x);
-		R0 += 0.00000000966 * Utils.cost(6.25512226434 + 700.45179087970 * x);
-		R0 += 0.00000000842 * Utils.cost(3.20535945596 + 1670.82502850000 * x);
-		R0 += 0.00000000808 * Utils.cost(1.09148925587 + 683.18631549230 * x);
-		R0 += 0.00000000810 * Utils.cost(5.47935192896 + 525.54636351040 * x);
-		R0 += 0.00000000855 * Utils.cost(6.06969867736 + 446.31134681820 * x);
-		R0 += 0.00000000989 * Utils.cost(1.55623875216 + 1493.09366806600 * x);
-		R0 += 0.00000000837 * Utils.cost(1.49510080792 + 1025.44168024540 * x);
-		R0 += 0.00000000974 * Utils.cost(3.67667471757 + 25565.32572348040 * x);
-		R0 += 0.00000000788 * Utils.cost(0.51622458293 + 526.98265210890 * x);
-		R0 += 0.00000000820 * Utils.cost(1.86002542644 + 629.86297800640 * x);
-		R0 += 0.00000000813 * Utils.cost(0.45441968195 + 4694.00295470760 * x);
-		R0 += 0.00000000953 * Utils.cost(0.58786779132 + 627.36711334180 * x);
-		R0 += 0.00000000908 * Utils.cost(2.82093327912 + 3046.59882834580 * x);
-		R0 += 0.00000000912 * Utils.cost(2.69124310451 + 946.72792841500 * x);
-		R0 += 0.00000000820 * Utils.cost(4.14947931572 + 1884.12412393800 * x);
-		R0 += 0.00000000948 * Utils.cost(0.77931728039 + 25551.09862947879 * x);
-		R0 += 0.00000000844 * Utils.cost(0.00976249584 + 628.59095361920 * x);
-		R0 += 0.00000000910 * Utils.cost(0.99542530366 + 5760.49843189760 * x);
-		R0 += 0.00000000844 * Utils.cost(0.22630964490 + 1123.11782849260 * x);
-		R0 += 0.00000000924 * Utils.cost(4.41952345708 + 5746.27133789600 * x);
-		R0 += 0.00000000967 * Utils.cost(3.20618313117 + 9050.81084180320 * x);
-		R0 += 0.00000000800 * Utils.cost(0.10663079153 + 4532.57894941100 * x);
-		R0 += 0.00000000748 * Utils.cost(3.01376405927 + 5481.75455838080 * x);
-		R0 += 0.00000000752 * Utils.cost(5.82360472890 + 701.93626358800 * x);
-		R0 += 0.00000000771 * Utils.cost(0.12101982692 + 635.70450062000 * x);
-		R0 += 0.00000000725 * Utils.cost(2.81220410314 + 3597.63043444280 * x);
-		R0 += 0.00000000944 * Utils.cost(0.40327408174 + 1140.38330388000 * x);
-		R0 += 0.00000000726 * Utils.cost(5.28930472464 + 1304.92435454160 * x);
-		R0 += 0.00000000994 * Utils.cost(5.16391370100 + 10316.37832042960 * x);
-		R0 += 0.00000000890 * Utils.cost(4.10819809692 + 1060.13268971460 * x);
-		R0 += 0.00000000962 * Utils.cost(1.48376004549 + 1062.30269149600 * x);
-		R0 += 0.00000000883 * Utils.cost(5.26813169286 + 1542.60247236780 * x);
-		R0 += 0.00000000916 * Utils.cost(6.02908368648 + 7.86430652620 * x);
-		R0 += 0.00000000725 * Utils.cost(2.18773773010 + 1176.70179840940 * x);
-		R0 += 0.00000000808 * Utils.cost(5.81725174908 + 1087.69310584050 * x);
-		R0 += 0.00000000757 * Utils.cost(0.77440414330 + 977.48678462110 * x);
-		R0 += 0.00000000838 * Utils.cost(3.81585420192 + 986.08480433020 * x);
-		R0 += 0.00000000888 * Utils.cost(1.89634795578 + 707.56533788050 * x);
-		R0 += 0.00000000854 * Utils.cost(5.47701506544 + 2818.03500860600 * x);
-		R0 += 0.00000000796 * Utils.cost(1.08794807212 + 987.30864460760 * x);
-		R0 += 0.00000000856 * Utils.cost(2.58042139486 + 2803.80791460440 * x);
-		R0 += 0.00000000708 * Utils.cost(1.09492310353 + 248.72381809010 * x);
-		R0 += 0.00000000811 * Utils.cost(3.23726191865 + 121.25202148330 * x);
-		R0 += 0.00000000727 * Utils.cost(1.56150632966 + 4319.27985397300 * x);
-		R0 += 0.00000000687 * Utils.cost(2.65457835371 + 1567.73225428140 * x);
-		R0 += 0.00000000675 * Utils.cost(1.78690909614 + 103.14095832840 * x);
-		R0 += 0.00000000853 * Utils.cost(4.74476428852 + 951.62328952460 * x);
-		R0 += 0.00000000832 * Utils.cost(5.14362789810 + 1054.71606374320 * x);
-		R0 += 0.00000000846 * Utils.cost(1.47557828604 + 898.77303279070 * x);
-		R0 += 0.00000000701 * Utils.cost(1.72139817505 + 5230.80746680300 * x);
-		R0 += 0.00000000863 * Utils.cost(3.98700238575 + 686.95841006100 * x);
-		R0 += 0.00000000703 * Utils.cost(2.89202252444 + 63.73589830340 * x);
-		R0 += 0.00000000673 * Utils.cost(6.11618580510 + 738.32419408660 * x);
-		R0 += 0.00000000806 * Utils.cost(4.64475158248 + 533.83556667880 * x);
-		R0 += 0.00000000670 * Utils.cost(2.67625974048 + 1012.91150727320 * x);
-		R0 += 0.00000000668 * Utils.cost(4.93815253692 + 5172.47623572500 * x);
-		R0 += 0.00000000818 * Utils.cost(1.41973280302 + 580.09354127370 * x);
-		R0 += 0.00000000652 * Utils.cost(3.41422919445 + 650.94298657790 * x);
-		R0 += 0.00000000643 * Utils.cost(2.46566726278 + 1049.82070263360 * x);
-		R0 += 0.00000000859 * Utils.cost(2.50530106631 + 782.34693644780 * x);
-		R0 += 0.00000000662 * Utils.cost(4.13533996643 + 733.42883297700 * x);
-		R0 += 0.00000000812 * Utils.cost(1.30325352179 + 1055.18914449520 * x);
-		R0 += 0.00000000638 * Utils.cost(4.21760246824 + 1064.04779663520 * x);
-		R0 += 0.00000000637 * Utils.cost(6.13121700151 + 4752.99159184980 * x);
-		R0 += 0.00000000636 * Utils.cost(0.83411828974 + 711.49749114360 * x);
-		R0 += 0.00000000642 * Utils.cost(1.86741704507 + 1053.96530421780 * x);
-		R0 += 0.00000000795 * Utils.cost(4.54081089118 + 1457.52593306200 * x);
-		R0 += 0.00000000783 * Utils.cost(4.37652961667 + 105.54045477340 * x);
-		R0 += 0.00000000640 * Utils.cost(5.44039474349 + 632.03297978780 * x);
-		R0 += 0.00000000651 * Utils.cost(5.02431301146 + 528.04643369190 * x);
-		R0 += 0.00000000686 * Utils.cost(0.27079898498 + 11.77941344680 * x);
-		R0 += 0.00000000644 * Utils.cost(5.36935176134 + 835.78789401270 * x);
-		R0 += 0.00000000639 * Utils.cost(1.86699974431 + 6172.86952877200 * x);
-		R0 += 0.00000000630 * Utils.cost(2.86895754523 + 633.53449883860 * x);
-		R0 += 0.00000000826 * Utils.cost(1.46026926041 + 2199.76523406920 * x);
-		R0 += 0.00000000687 * Utils.cost(3.81221717134 + 73.29712585900 * x);
-		R0 += 0.00000000697 * Utils.cost(4.18082589322 + 1.69692102940 * x);
-		R0 += 0.00000000788 * Utils.cost(0.21278801649 + 313.94418910180 * x);
-		R0 += 0.00000000686 * Utils.cost(2.51807576494 + 638.41281360570 * x);
-		R0 += 0.00000000847 * Utils.cost(5.56263749391 + 4429.48617519240 * x);
-		R0 += 0.00000000673 * Utils.cost(4.87494072856 + 103.04459010880 * x);
-		R0 += 0.00000000663 * Utils.cost(4.80713895807 + 991.71387862270 * x);
-		R0 += 0.00000000614 * Utils.cost(3.87231597482 + 767.36908292080 * x);
-		R0 += 0.00000000666 * Utils.cost(5.71697262323 + 661.09491496450 * x);
-		R0 += 0.00000000681 * Utils.cost(2.33844767741 + 501.23677709140 * x);
-		R0 += 0.00000000597 * Utils.cost(3.03921014345 + 6.95348830640 * x);
-		R0 += 0.00000000777 * Utils.cost(3.08786050361 + 441.57604440300 * x);
-		R0 += 0.00000000588 * Utils.cost(0.08236113246 + 4164.31198961300 * x);
-		R0 += 0.00000000693 * Utils.cost(4.66190836234 + 3384.33133900480 * x);
-		R0 += 0.00000000810 * Utils.cost(1.97701084490 + 860.30992875280 * x);
-		R0 += 0.00000000602 * Utils.cost(5.56403449542 + 1587.58842257550 * x);
-		R0 += 0.00000000622 * Utils.cost(6.11554348965 + 7.06536289100 * x);
-		R0 += 0.00000000592 * Utils.cost(3.29013906024 + 10103.07922499160 * x);
-		R0 += 0.00000000692 * Utils.cost(6.10931942233 + 12.74262129330 * x);
-		R0 += 0.00000000597 * Utils.cost(6.13204711801 + 7.27360569520 * x);
-		R0 += 0.00000000594 * Utils.cost(2.58839673551 + 849.26422848890 * x);
-		R0 += 0.00000000728 * Utils.cost(2.73732195088 + 6.15033915430 * x);
-		R0 += 0.00000000602 * Utils.cost(5.28816527514 + 949.12742486000 * x);
-		R0 += 0.00000000568 * Utils.cost(1.75508433865 + 1077.54117745390 * x);
-		R0 += 0.00000000575 * Utils.cost(4.50676079721 + 1230.14275597430 * x);
-		R0 += 0.00000000588 * Utils.cost(0.65827893998 + 4642.78527063040 * x);
-		R0 += 0.00000000561 * Utils.cost(3.87565914360 + 135.33610313300 * x);
-		R0 += 0.00000000558 * Utils.cost(3.36094471852 + 24498.83024629040 * x);
-		R0 += 0.00000000557 * Utils.cost(3.45629457197 + 19896.88012732740 * x);
-		R0 += 0.00000000558 * Utils.cost(1.17103892689 + 3576.28979344040 * x);
-		R0 += 0.00000000574 * Utils.cost(5.19235074140 + 104.05598206510 * x);
-		R0 += 0.00000000560 * Utils.cost(3.57141429379 + 5333.90024102160 * x);
-		R0 += 0.00000000555 * Utils.cost(0.18349908409 + 512.42548970720 * x);
-		R0 += 0.00000000571 * Utils.cost(0.83070148820 + 1570.91364801910 * x);
-		R0 += 0.00000000632 * Utils.cost(3.67893818442 + 1065.01100448170 * x);
-		R0 += 0.00000000744 * Utils.cost(2.33083237537 + 620.25356634100 * x);
-		R0 += 0.00000000540 * Utils.cost(5.15775909675 + 1751.53953141600 * x);
-		R0 += 0.00000000592 * Utils.cost(3.07238123875 + 1446.62324515000 * x);
-		R0 += 0.00000000537 * Utils.cost(1.52803865425 + 8094.52168583260 * x);
-		R0 += 0.00000000550 * Utils.cost(5.50701003577 + 1432.39615114840 * x);
-		R0 += 0.00000000546 * Utils.cost(2.34388967045 + 949.22379307960 * x);
-		R0 += 0.00000000534 * Utils.cost(3.04076654796 + 7.16173111060 * x);
-		R0 += 0.00000000619 * Utils.cost(6.07865159203 + 46.47042291600 * x);
-		R0 += 0.00000000562 * Utils.cost(0.96641974928 + 1438.02522544090 * x);
-		R0 += 0.00000000531 * Utils.cost(1.06695547390 + 100.17201291180 * x);
-		R0 += 0.00000000599 * Utils.cost(3.59295739143 + 1144.31545714310 * x);
-		R0 += 0.00000000526 * Utils.cost(3.51641923371 + 0.75075952540 * x);
-		R0 += 0.00000000564 * Utils.cost(0.72677136494 + 1059.22187149480 * x);
-		R0 += 0.00000000537 * Utils.cost(5.72603965787 + 513.22863885930 * x);
-		R0 += 0.00000000630 * Utils.cost(2.31183143900 + 2729.45619916380 * x);
-		R0 += 0.00000000530 * Utils.cost(4.99510636441 + 9264.10993724120 * x);
-		R0 += 0.00000000649 * Utils.cost(0.95666735852 + 920.86443331850 * x);
-		R0 += 0.00000000547 * Utils.cost(1.18801926149 + 11506.76976979360 * x);
-		R0 += 0.00000000516 * Utils.cost(3.28562070858 + 734.91330568530 * x);
-		R0 += 0.00000000567 * Utils.cost(5.13926871155 + 288.08069400530 * x);
-		R0 += 0.00000000538 * Utils.cost(0.28159637680 + 153.49535039770 * x);
-		R0 += 0.00000000718 * Utils.cost(0.48326672359 + 842.15068148810 * x);
-		R0 += 0.00000000526 * Utils.cost(4.39778401928 + 546.15329132990 * x);
-		R0 += 0.00000000695 * Utils.cost(2.44235086902 + 657.16276170140 * x);
-		R0 += 0.00000000697 * Utils.cost(4.99042365686 + 12.53017297220 * x);
-		R0 += 0.00000000519 * Utils.cost(6.27847163164 + 59.80374504030 * x);
-		R0 += 0.00000000504 * Utils.cost(2.58550284000 + 5378.66178416220 * x);
-		R0 += 0.00000000496 * Utils.cost(2.43659402827 + 990.22940591440 * x);
-		R0 += 0.00000000617 * Utils.cost(5.73284985700 + 745.43774108740 * x);
-		R0 += 0.00000000519 * Utils.cost(3.10157097770 + 9161.01716302260 * x);
-		R0 += 0.00000000654 * Utils.cost(1.31181453784 + 878.32616366560 * x);
-		R0 += 0.00000000619 * Utils.cost(3.71554817226 + 2090.30967237520 * x);
-		R0 += 0.00000000500 * Utils.cost(4.28937439066 + 5216.58037280140 * x);
-		R0 += 0.00000000621 * Utils.cost(3.98893673383 + 409.92341631960 * x);
-		R0 += 0.00000000685 * Utils.cost(1.95310431695 + 3156.80514956520 * x);
-		R0 += 0.00000000552 * Utils.cost(2.81774132958 + 344.70304530790 * x);
-		R0 += 0.00000000551 * Utils.cost(1.91969778405 + 113.38771495710 * x);
-		R0 += 0.00000000682 * Utils.cost(0.87321578326 + 6069.77675455340 * x);
-		R0 += 0.00000000651 * Utils.cost(5.09951064975 + 531.33549649730 * x);
-		R0 += 0.00000000537 * Utils.cost(3.67357440226 + 605.95703637020 * x);
-		R0 += 0.00000000525 * Utils.cost(0.74584814988 + 736.83972137830 * x);
-		R0 += 0.00000000505 * Utils.cost(3.12494814307 + 1475.68518032670 * x);
-		R0 += 0.00000000622 * Utils.cost(3.00013939606 + 2349.32843120380 * x);
-		R0 += 0.00000000644 * Utils.cost(3.00156986335 + 298.23262239190 * x);
-		R0 += 0.00000000564 * Utils.cost(3.81960833949 + 1059.54198888360 * x);
-		R0 += 0.00000000468 * Utils.cost(3.50348554992 + 4841.85727206680 * x);
-		R0 += 0.00000000491 * Utils.cost(1.28535573072 + 247.23934538180 * x);
-		R0 += 0.00000000458 * Utils.cost(0.45056377876 + 1065.60170531270 * x);
-		R0 += 0.00000000543 * Utils.cost(2.39704308320 + 9690.70812811720 * x);
-		R0 += 0.00000000459 * Utils.cost(5.29870259698 + 1474.93442080130 * x);
-		R0 += 0.00000000483 * Utils.cost(3.63649121244 + 131.40394986990 * x);
-		R0 += 0.00000000632 * Utils.cost(2.75028345792 + 334.55111692130 * x);
-		R0 += 0.00000000483 * Utils.cost(0.42979609421 + 735.82832942200 * x);
-		R0 += 0.00000000540 * Utils.cost(0.54791737146 + 51646.11531805379 * x);
-		R0 += 0.00000000531 * Utils.cost(0.30026207053 + 912.78767847120 * x);
-		R0 += 0.00000000449 * Utils.cost(3.02583472996 + 5901.23920225600 * x);
-		R0 += 0.00000000544 * Utils.cost(2.98747240952 + 4223.30062675520 * x);
-		R0 += 0.00000000557 * Utils.cost(5.83542572008 + 9676.48103411560 * x);
-		R0 += 0.00000000501 * Utils.cost(0.03408180117 + 1080.72257119160 * x);
-		R0 += 0.00000000517 * Utils.cost(4.40400852026 + 2545.36205125440 * x);
-		R0 += 0.00000000481 * Utils.cost(3.63292807076 + 5584.84733259940 * x);
-		R0 += 0.00000000557 * Utils.cost(6.11443978190 + 976.00231191280 * x);
-		R0 += 0.00000000481 * Utils.cost(3.41035583659 + 3803.81598288000 * x);
-		R0 += 0.00000000622 * Utils.cost(2.29597570837 + 9999.98645077300 * x);
-		R0 += 0.00000000454 * Utils.cost(2.88584538455 + 1987.21689815660 * x);
-		R0 += 0.00000000439 * Utils.cost(4.83198101064 + 50.40257617910 * x);
-		R0 += 0.00000000475 * Utils.cost(2.69994471394 + 491.81856188770 * x);
-		R0 += 0.00000000618 * Utils.cost(0.72471290082 + 1291.43097372290 * x);
-		R0 += 0.00000000503 * Utils.cost(0.13449993622 + 2015.67108615980 * x);
-		R0 += 0.00000000551 * Utils.cost(2.13418546604 + 1440.99417085750 * x);
-		R0 += 0.00000000595 * Utils.cost(3.78181802545 + 6386.16862421000 * x);
-		R0 += 0.00000000434 * Utils.cost(2.64411689486 + 748.40668650400 * x);
-		R0 += 0.00000000592 * Utils.cost(0.32587740408 + 737.36098624010 * x);
-		R0 += 0.00000000490 * Utils.cost(2.37988828800 + 2225.78878786010 * x);
-		R0 += 0.00000000439 * Utils.cost(1.33582802018 + 995.64603188580 * x);
-		R0 += 0.00000000543 * Utils.cost(2.05067702505 + 906.84978763800 * x);
-		R0 += 0.00000000466 * Utils.cost(2.43707405011 + 3362.99069800240 * x);
-		R0 += 0.00000000481 * Utils.cost(2.32223226419 + 1357.61455258110 * x);
-		R0 += 0.00000000566 * Utils.cost(0.59740900184 + 350.33211960040 * x);
-		R0 += 0.00000000429 * Utils.cost(2.46287580628 + 3914.02230409940 * x);
-		R0 += 0.00000000429 * Utils.cost(1.01299906509 + 4333.50694797460 * x);
-		R0 += 0.00000000425 * Utils.cost(1.67255823369 + 148.07872442630 * x);
-		R0 += 0.00000000412 * Utils.cost(3.29630633921 + 7.32599532190 * x);
-		R0 += 0.00000000508 * Utils.cost(1.16158524676 + 9.56122755560 * x);
-		R0 += 0.00000000524 * Utils.cost(5.02562926120 + 1090.40141882620 * x);
-		R0 += 0.00000000409 * Utils.cost(5.80053072411 + 9146.79006902100 * x);
-		R0 += 0.00000000497 * Utils.cost(0.01579913593 + 1069.67687092770 * x);
-		R0 += 0.00000000548 * Utils.cost(6.03429743373 + 9367.20271145980 * x);
-		R0 += 0.00000000433 * Utils.cost(5.93688350840 + 1688.23351623930 * x);
-		R0 += 0.00000000424 * Utils.cost(4.18150111530 + 550.13783421970 * x);
-		R0 += 0.00000000401 * Utils.cost(0.11519846139 + 970.51624997220 * x);
-		R0 += 0.00000000503 * Utils.cost(5.28212300854 + 668.20846196530 * x);
-		R0 += 0.00000000555 * Utils.cost(1.00328633255 + 141.22580985640 * x);
-		R0 += 0.00000000404 * Utils.cost(2.48633976473 + 519.65665678700 * x);
-		R0 += 0.00000000441 * Utils.cost(6.06185501734 + 25.12978191360 * x);
-		R0 += 0.00000000412 * Utils.cost(5.87495245826 + 6.90109867970 * x);
-		R0 += 0.00000000478 * Utils.cost(0.71264950607 + 1094.80665284130 * x);
-		R0 += 0.00000000446 * Utils.cost(2.71248183031 + 31.49256938900 * x);
-		R0 += 0.00000000404 * Utils.cost(5.49462012486 + 447.93883187840 * x);
-		R0 += 0.00000000391 * Utils.cost(1.26105612700 + 8.07675484730 * x);
-		R0 += 0.00000000463 * Utils.cost(1.93535321271 + 6275.96230299060 * x);
-		R0 += 0.00000000507 * Utils.cost(3.61089992782 + 546.95644048200 * x);
-		R0 += 0.00000000402 * Utils.cost(5.86200127054 + 927.83496796740 * x);
-		R0 += 0.00000000481 * Utils.cost(6.21043578332 + 683.98946464440 * x);
-		R0 += 0.00000000483 * Utils.cost(5.02142924458 + 857.12853501510 * x);
-		R0 += 0.00000000444 * Utils.cost(0.84873092377 + 1371.84164658270 * x);
-		R0 += 0.00000000391 * Utils.cost(2.81753436573 + 5798.14642803740 * x);
-		R0 += 0.00000000395 * Utils.cost(0.22367886581 + 51116.42435295920 * x);
-		R0 += 0.00000000378 * Utils.cost(6.03765733432 + 1268.74887236410 * x);
-		R0 += 0.00000000471 * Utils.cost(6.24506463249 + 946.46729598410 * x);
-		R0 += 0.00000000405 * Utils.cost(0.57785207581 + 107.28555991260 * x);
-		R0 += 0.00000000371 * Utils.cost(6.15750793727 + 509.24409596950 * x);
-		R0 += 0.00000000370 * Utils.cost(4.90330687618 + 1436.54075273260 * x);
-		R0 += 0.00000000448 * Utils.cost(4.76565111029 + 284.14854074220 * x);
-		R0 += 0.00000000474 * Utils.cost(0.71146352197 + 2108.46891963990 * x);
-		R0 += 0.00000000509 * Utils.cost(5.53328407404 + 1128.53445446400 * x);
-
-		double R1 = 0;
-		R1 += 0.01271801596 * Utils.cost(2.64937511122 + 529.69096509460 * x);
-		R1 += 0.00061661771 * Utils.cost(3.00076251018 + 1059.38193018920 * x);
-		R1 += 0.00053443592 * Utils.cost(3.89717644226 + 522.57741809380 * x);
-		R1 += 0.00031185167 * Utils.cost(4.88276663526 + 536.80451209540 * x);
-		R1 += 0.00041390257;
-		R1 += 0.00011847190 * Utils.cost(2.41329588176 + 419.48464387520 * x);
-		R1 += 0.00009166360 * Utils.cost(4.75979408587 + 7.11354700080 * x);
-		R1 += 0.00003175763 * Utils.cost(2.79297987071 + 103.09277421860 * x);
-		R1 += 0.00003203446 * Utils.cost(5.21083285476 + 735.87651353180 * x);
-		R1 += 0.00003403605 * Utils.cost(3.34688537997 + 1589.07289528380 * x);
-		R1 += 0.00002600003 * Utils.cost(3.63435101622 + 206.18554843720 * x);
-		R1 += 0.00002412207 * Utils.cost(1.46947308304 + 426.59819087600 * x);
-		R1 += 0.00002806064 * Utils.cost(3.74223693580 + 515.46387109300 * x);
-		R1 += 0.00002676575 * Utils.cost(4.33052878699 + 1052.26838318840 * x);
-		R1 += 0.00002100507 * Utils.cost(3.92762682306 + 639.89728631400 * x);
-		R1 += 0.00001646182 * Utils.cost(5.30953510947 + 1066.49547719000 * x);
-		R1 += 0.00001641257 * Utils.cost(4.41628669824 + 625.67019231240 * x);
-		R1 += 0.00001049866 * Utils.cost(3.16113622955 + 213.29909543800 * x);
-		R1 += 0.00001024802 * Utils.cost(2.55432643018 + 412.37109687440 * x);
-		R1 += 0.00000740996 * Utils.cost(2.17094630558 + 1162.47470440780 * x);
-		R1 += 0.00000806404 * Utils.cost(2.67750801380 + 632.78373931320 * x);
-		R1 += 0.00000676928 * Utils.cost(6.24953479790 + 838.96928775040 * x);
-		R1 += 0.00000468895 * Utils.cost(4.70973463481 + 543.91805909620 * x);
-		R1 += 0.00000444683 * Utils.cost(0.40281181402 + 323.50541665740 * x);
-		R1 += 0.00000567076 * Utils.cost(4.57655414712 + 742.99006053260 * x);
-		R1 += 0.00000415894 * Utils.cost(5.36836018215 + 728.76296653100 * x);
-		R1 += 0.00000484689 * Utils.cost(2.46882793186 + 949.17560896980 * x);
-		R1 += 0.00000337555 * Utils.cost(3.16781951120 + 956.28915597060 * x);
-		R1 += 0.00000401738 * Utils.cost(4.60528841541 + 309.27832265580 * x);
-		R1 += 0.00000347378 * Utils.cost(4.68148808722 + 14.22709400160 * x);
-		R1 += 0.00000260753 * Utils.cost(5.34290306101 + 846.08283475120 * x);
-		R1 += 0.00000220084 * Utils.cost(4.84210964963 + 1368.66025284500 * x);
-		R1 += 0.00000203217 * Utils.cost(5.59995425432 + 1155.36115740700 * x);
-		R1 += 0.00000246603 * Utils.cost(3.92313823537 + 942.06206196900 * x);
-		R1 += 0.00000183504 * Utils.cost(4.26526769703 + 95.97922721780 * x);
-		R1 += 0.00000180134 * Utils.cost(4.40165491159 + 532.87235883230 * x);
-		R1 += 0.00000197134 * Utils.cost(3.70551461394 + 2118.76386037840 * x);
-		R1 += 0.00000196005 * Utils.cost(3.75877587139 + 199.07200143640 * x);
-		R1 += 0.00000200190 * Utils.cost(4.43888814441 + 1045.15483618760 * x);
-		R1 += 0.00000170225 * Utils.cost(4.84647488867 + 526.50957135690 * x);
-		R1 += 0.00000146335 * Utils.cost(6.12958365535 + 533.62311835770 * x);
-		R1 += 0.00000133483 * Utils.cost(1.32245735855 + 110.20632121940 * x);
-		R1 += 0.00000132076 * Utils.cost(4.51187950811 + 525.75881183150 * x);
-		R1 += 0.00000123851 * Utils.cost(2.04290370696 + 1478.86657406440 * x);
-		R1 += 0.00000121861 * Utils.cost(4.40581788491 + 1169.58825140860 * x);
-		R1 += 0.00000115313 * Utils.cost(4.46741278152 + 1581.95934828300 * x);
-		R1 += 0.00000098527 * Utils.cost(5.72833991647 + 1596.18644228460 * x);
-		R1 += 0.00000091608 * Utils.cost(4.52965592121 + 1685.05212250160 * x);
-		R1 += 0.00000110638 * Utils.cost(3.62504147403 + 1272.68102562720 * x);
-		R1 += 0.00000080536 * Utils.cost(4.11311699583 + 1258.45393162560 * x);
-		R1 += 0.00000079552 * Utils.cost(2.71898473954 + 1692.16566950240 * x);
-		R1 += 0.00000100164 * Utils.cost(5.24693885858 + 1265.56747862640 * x);
-		R1 += 0.00000077854 * Utils.cost(5.56722651753 + 1471.75302706360 * x);
-		R1 += 0.00000085766 * Utils.cost(0.07906707372 + 831.85574074960 * x);
-		R1 += 0.00000082132 * Utils.cost(3.80763015979 + 508.35032409220 * x);
-		R1 += 0.00000055319 * Utils.cost(0.35180851191 + 316.39186965660 * x);
-		R1 += 0.00000052338 * Utils.cost(5.53074272117 + 433.71173787680 * x);
-		R1 += 0.00000055769 * Utils.cost(4.75141241141 + 302.16477565500 * x);
-		R1 += 0.00000050597 * Utils.cost(4.85603161770 + 1375.77379984580 * x);
-		R1 += 0.00000043554 * Utils.cost(4.94441642712 + 1361.54670584420 * x);
-		R1 += 0.00000042172 * Utils.cost(1.22404278447 + 853.19638175200 * x);
-		R1 += 0.00000037695 * Utils.cost(4.26767539209 + 2001.44399215820 * x);
-		R1 += 0.00000049395 * Utils.cost(4.01422828967 + 220.41264243880 * x);
-		R1 += 0.00000038263 * Utils.cost(5.33025236797 + 1788.14489672020 * x);
-		R1 += 0.00000035611 * Utils.cost(1.76205571128 + 1795.25844372100 * x);
-		R1 += 0.00000036296 * Utils.cost(3.84995284393 + 1574.84580128220 * x);
-		R1 += 0.00000029332 * Utils.cost(5.16619257786 + 3.93215326310 * x);
-		R1 += 0.00000025180 * Utils.cost(4.33777727362 + 519.39602435610 * x);
-		R1 += 0.00000024778 * Utils.cost(2.72907897410 + 405.25754987360 * x);
-		R1 += 0.00000027025 * Utils.cost(6.09669947903 + 1148.24761040620 * x);
-		R1 += 0.00000022604 * Utils.cost(0.19173890105 + 380.12776796000 * x);
-		R1 += 0.00000020499 * Utils.cost(4.32881495378 + 3.18139373770 * x);
-		R1 += 0.00000019925 * Utils.cost(4.62967500111 + 1677.93857550080 * x);
-		R1 += 0.00000019528 * Utils.cost(5.10596326232 + 1073.60902419080 * x);
-		R1 += 0.00000018427 * Utils.cost(3.76522178300 + 1485.98012106520 * x);
-		R1 += 0.00000018869 * Utils.cost(5.05259402407 + 2104.53676637680 * x);
-		R1 += 0.00000017031 * Utils.cost(4.01843356903 + 2317.83586181480 * x);
-		R1 += 0.00000016671 * Utils.cost(5.42931676507 + 88.86568021700 * x);
-		R1 += 0.00000015337 * Utils.cost(2.92700926091 + 2008.55753915900 * x);
-		R1 += 0.00000014499 * Utils.cost(3.63339836845 + 628.85158605010 * x);
-		R1 += 0.00000014575 * Utils.cost(5.50832843322 + 721.64941953020 * x);
-		R1 += 0.00000013728 * Utils.cost(4.87623389735 + 629.60234557550 * x);
-		R1 += 0.00000018481 * Utils.cost(6.03032762264 + 330.61896365820 * x);
-		R1 += 0.00000013499 * Utils.cost(1.38539534821 + 518.64526483070 * x);
-		R1 += 0.00000015740 * Utils.cost(2.93038271684 + 1905.46476494040 * x);
-		R1 += 0.00000012459 * Utils.cost(1.58587053146 + 2111.65031337760 * x);
-		R1 += 0.00000012272 * Utils.cost(3.37671053917 + 635.96513305090 * x);
-		R1 += 0.00000011836 * Utils.cost(4.08486322993 + 2648.45482547300 * x);
-		R1 += 0.00000011166 * Utils.cost(4.62623267608 + 636.71589257630 * x);
-		R1 += 0.00000014348 * Utils.cost(2.74177797727 + 2221.85663459700 * x);
-		R1 += 0.00000011221 * Utils.cost(3.55311861205 + 1891.23767093880 * x);
-		R1 += 0.00000013121 * Utils.cost(5.83845065644 + 1464.63948006280 * x);
-		R1 += 0.00000011351 * Utils.cost(2.57606886230 + 511.53171782990 * x);
-		R1 += 0.00000010487 * Utils.cost(0.49850799841 + 453.42489381900 * x);
-		R1 += 0.00000009728 * Utils.cost(4.38837468002 + 1994.33044515740 * x);
-		R1 += 0.00000010131 * Utils.cost(2.76432756215 + 423.41679713830 * x);
-		R1 += 0.00000008620 * Utils.cost(5.16374493158 + 1056.20053645150 * x);
-		R1 += 0.00000008952 * Utils.cost(4.79407952752 + 2420.92863603340 * x);
-		R1 += 0.00000008126 * Utils.cost(3.72977106954 + 2634.22773147140 * x);
-		R1 += 0.00000008078 * Utils.cost(1.29246272894 + 2428.04218303420 * x);
-		R1 += 0.00000008867 * Utils.cost(1.85684753622 + 750.10360753340 * x);
-		R1 += 0.00000008912 * Utils.cost(4.80973516711 + 1062.56332392690 * x);
-		R1 += 0.00000008552 * Utils.cost(4.53818617984 + 21.34064100240 * x);
-		R1 += 0.00000009468 * Utils.cost(4.33472161983 + 1802.37199072180 * x);
-		R1 += 0.00000006904 * Utils.cost(5.96616555709 + 540.73666535850 * x);
-		R1 += 0.00000007293 * Utils.cost(4.97763580465 + 1699.27921650320 * x);
-		R1 += 0.00000007083 * Utils.cost(4.99096728816 + 1055.44977692610 * x);
-		R1 += 0.00000007226 * Utils.cost(4.97823884383 + 1898.35121793960 * x);
-		R1 += 0.00000006464 * Utils.cost(1.39173466879 + 422.66603761290 * x);
-		R1 += 0.00000006214 * Utils.cost(4.46490158256 + 551.03160609700 * x);
-		R1 += 0.00000006794 * Utils.cost(2.90878831415 + 2324.94940881560 * x);
-		R1 += 0.00000006173 * Utils.cost(3.65617162985 + 621.73803904930 * x);
-		R1 += 0.00000006243 * Utils.cost(6.13691919694 + 2125.87740737920 * x);
-		R1 += 0.00000005936 * Utils.cost(2.58312235120 + 569.04784100980 * x);
-		R1 += 0.00000006504 * Utils.cost(4.56908431757 + 1038.04128918680 * x);
-		R1 += 0.00000007305 * Utils.cost(3.02062127734 + 416.30325013750 * x);
-		R1 += 0.00000006598 * Utils.cost(5.55348005731 + 1781.03134971940 * x);
-		R1 += 0.00000005133 * Utils.cost(6.21646917980 + 963.40270297140 * x);
-		R1 += 0.00000005876 * Utils.cost(4.23153077453 + 539.98590583310 * x);
-		R1 += 0.00000005119 * Utils.cost(0.06942832171 + 1063.31408345230 * x);
-		R1 += 0.00000005460 * Utils.cost(4.91084384602 + 835.03713448730 * x);
-		R1 += 0.00000004989 * Utils.cost(1.35153694680 + 1382.88734684660 * x);
-		R1 += 0.00000005224 * Utils.cost(0.18468411116 + 117.31986822020 * x);
-		R1 += 0.00000006187 * Utils.cost(3.87193497099 + 191.95845443560 * x);
-		R1 += 0.00000004681 * Utils.cost(4.61057119508 + 643.82943957710 * x);
-		R1 += 0.00000004627 * Utils.cost(3.34644534691 + 2207.62954059540 * x);
-		R1 += 0.00000004526 * Utils.cost(4.07729737127 + 2310.72231481400 * x);
-		R1 += 0.00000004718 * Utils.cost(4.55578336947 + 2737.32050569000 * x);
-		R1 += 0.00000004471 * Utils.cost(1.47603161897 + 408.43894361130 * x);
-		R1 += 0.00000004073 * Utils.cost(1.13014903180 + 415.55249061210 * x);
-		R1 += 0.00000005476 * Utils.cost(5.63198569698 + 618.55664531160 * x);
-		R1 += 0.00000004034 * Utils.cost(4.09631702747 + 430.53034413910 * x);
-		R1 += 0.00000004304 * Utils.cost(4.60536378943 + 647.01083331480 * x);
-		R1 += 0.00000003765 * Utils.cost(3.42751259825 + 2950.61960112800 * x);
-		R1 += 0.00000004559 * Utils.cost(4.23723998745 + 227.52618943960 * x);
-		R1 += 0.00000003695 * Utils.cost(1.03127824978 + 2744.43405269080 * x);
-		R1 += 0.00000003667 * Utils.cost(4.12268925541 + 440.82528487760 * x);
-		R1 += 0.00000003677 * Utils.cost(2.19480200527 + 534.35683154060 * x);
-		R1 += 0.00000003818 * Utils.cost(1.14800596289 + 74.78159856730 * x);
-		R1 += 0.00000004221 * Utils.cost(2.37721579949 + 2538.24850425360 * x);
-		R1 += 0.00000003488 * Utils.cost(5.33792561596 + 458.84151979040 * x);
-		R1 += 0.00000003437 * Utils.cost(4.26164443643 + 10.29494073850 * x);
-		R1 += 0.00000004394 * Utils.cost(0.18808423412 + 824.74219374880 * x);
-		R1 += 0.00000003339 * Utils.cost(4.85708402591 + 295.05122865420 * x);
-		R1 += 0.00000003329 * Utils.cost(5.50043586719 + 739.80866679490 * x);
-		R1 += 0.00000003623 * Utils.cost(4.64011531952 + 2214.74308759620 * x);
-		R1 += 0.00000003185 * Utils.cost(2.69708590442 + 561.93429400900 * x);
-		R1 += 0.00000003421 * Utils.cost(3.38512615384 + 149.56319713460 * x);
-		R1 += 0.00000003442 * Utils.cost(4.34217280083 + 305.34616939270 * x);
-		R1 += 0.00000003580 * Utils.cost(5.29481665335 + 2097.42321937600 * x);
-		R1 += 0.00000003401 * Utils.cost(2.74761862893 + 2641.34127847220 * x);
-		R1 += 0.00000002901 * Utils.cost(0.91012525424 + 984.60033162190 * x);
-		R1 += 0.00000003566 * Utils.cost(1.63400343968 + 525.02509864860 * x);
-		R1 += 0.00000002869 * Utils.cost(1.31799241974 + 611.44309831080 * x);
-		R1 += 0.00000002635 * Utils.cost(5.25517910535 + 532.13864564940 * x);
-		R1 += 0.00000002683 * Utils.cost(4.24641945773 + 3053.71237534660 * x);
-		R1 += 0.00000002614 * Utils.cost(3.17862099921 + 527.24328453980 * x);
-		R1 += 0.00000002251 * Utils.cost(4.21598247360 + 739.05790726950 * x);
-		R1 += 0.00000002268 * Utils.cost(5.52248110560 + 524.27433912320 * x);
-		R1 += 0.00000002372 * Utils.cost(4.19741177512 + 217.23124870110 * x);
-		R1 += 0.00000002623 * Utils.cost(5.82647427958 + 732.69511979410 * x);
-		R1 += 0.00000002666 * Utils.cost(3.92538056951 + 210.11770170030 * x);
-		R1 += 0.00000002036 * Utils.cost(4.84043420813 + 1049.08698945070 * x);
-		R1 += 0.00000002441 * Utils.cost(2.63840901843 + 760.25553592000 * x);
-		R1 += 0.00000002095 * Utils.cost(5.76269812349 + 529.64278098480 * x);
-		R1 += 0.00000002021 * Utils.cost(3.81308146017 + 2627.11418447060 * x);
-		R1 += 0.00000002089 * Utils.cost(4.18463193132 + 945.99421523210 * x);
-		R1 += 0.00000002305 * Utils.cost(1.61220665690 + 604.47256366190 * x);
-		R1 += 0.00000001969 * Utils.cost(5.37427735384 + 142.44965013380 * x);
-		R1 += 0.00000001923 * Utils.cost(4.75088270631 + 535.10759106600 * x);
-		R1 += 0.00000001955 * Utils.cost(5.49000238006 + 1439.50969814920 * x);
-		R1 += 0.00000001877 * Utils.cost(3.26978877187 + 3267.01147078460 * x);
-		R1 += 0.00000002286 * Utils.cost(2.93885172004 + 76.26607127560 * x);
-		R1 += 0.00000002074 * Utils.cost(5.85386852879 + 532.61172640140 * x);
-		R1 += 0.00000002121 * Utils.cost(3.92430797099 + 2435.15573003500 * x);
-		R1 += 0.00000001807 * Utils.cost(3.17208959472 + 2524.02141025200 * x);
-		R1 += 0.00000001712 * Utils.cost(4.02986641257 + 731.94436026870 * x);
-		R1 += 0.00000002119 * Utils.cost(0.41049593984 + 1279.79457262800 * x);
-		R1 += 0.00000001660 * Utils.cost(2.34370903423 + 528.72775724810 * x);
-		R1 += 0.00000001655 * Utils.cost(0.78809717175 + 3060.82592234740 * x);
-		R1 += 0.00000001729 * Utils.cost(4.26127896267 + 724.83081326790 * x);
-		R1 += 0.00000002060 * Utils.cost(5.04785330873 + 2413.81508903260 * x);
-		R1 += 0.00000002095 * Utils.cost(2.67732367556 + 529.73914920440 * x);
-		R1 += 0.00000001933 * Utils.cost(2.49162437046 + 2957.73314812880 * x);
-		R1 += 0.00000001898 * Utils.cost(2.71948262975 + 952.35700270750 * x);
-		R1 += 0.00000001634 * Utils.cost(2.98113068812 + 945.24345570670 * x);
-		R1 += 0.00000001582 * Utils.cost(5.84373095005 + 547.85021235930 * x);
-		R1 += 0.00000001662 * Utils.cost(0.27359627181 + 454.90936652730 * x);
-		R1 += 0.00000001595 * Utils.cost(1.18530167095 + 38.13303563780 * x);
-		R1 += 0.00000001550 * Utils.cost(0.64264572959 + 312.45971639350 * x);
-		R1 += 0.00000001525 * Utils.cost(4.08789824989 + 1158.54255114470 * x);
-		R1 += 0.00000001542 * Utils.cost(1.12520322326 + 1021.24889455140 * x);
-		R1 += 0.00000001539 * Utils.cost(0.37324921979 + 319.57326339430 * x);
-		R1 += 0.00000001628 * Utils.cost(5.24285773388 + 1354.43315884340 * x);
-		R1 += 0.00000001897 * Utils.cost(3.79973291113 + 953.10776223290 * x);
-		R1 += 0.00000001440 * Utils.cost(4.37872256685 + 3178.14579056760 * x);
-		R1 += 0.00000001439 * Utils.cost(4.26513521887 + 526.77020378780 * x);
-		R1 += 0.00000001557 * Utils.cost(5.43779802371 + 81.75213321620 * x);
-		R1 += 0.00000001656 * Utils.cost(6.09667089740 + 530.65417294110 * x);
-		R1 += 0.00000001548 * Utils.cost(3.48799710267 + 934.94851496820 * x);
-		R1 += 0.00000001772 * Utils.cost(5.82549274759 + 909.81873305460 * x);
-		R1 += 0.00000001615 * Utils.cost(1.45018725033 + 902.70518605380 * x);
-		R1 += 0.00000001387 * Utils.cost(2.52840497309 + 530.44172462000 * x);
-		R1 += 0.00000001574 * Utils.cost(1.89565809136 + 437.64389113990 * x);
-		R1 += 0.00000001459 * Utils.cost(3.32546061506 + 1041.22268292450 * x);
-		R1 += 0.00000001377 * Utils.cost(0.10015418633 + 490.33408917940 * x);
-		R1 += 0.00000001460 * Utils.cost(4.00706825185 + 3370.10424500320 * x);
-		R1 += 0.00000001605 * Utils.cost(4.27993020192 + 2531.13495725280 * x);
-		R1 += 0.00000001707 * Utils.cost(6.28253681644 + 18.15924726470 * x);
-		R1 += 0.00000001802 * Utils.cost(2.23019296374 + 2854.64037391020 * x);
-		R1 += 0.00000001390 * Utils.cost(3.76737324192 + 1165.65609814550 * x);
-		R1 += 0.00000001498 * Utils.cost(0.17285954362 + 1141.13406340540 * x);
-		R1 += 0.00000001401 * Utils.cost(4.81225317549 + 1251.34038462480 * x);
-		R1 += 0.00000001244 * Utils.cost(2.83383980283 + 124.43341522100 * x);
-		R1 += 0.00000001320 * Utils.cost(5.80675430384 + 387.24131496080 * x);
-		R1 += 0.00000001329 * Utils.cost(0.88314574243 + 916.93228005540 * x);
-		R1 += 0.00000001558 * Utils.cost(6.17808619637 + 983.11585891360 * x);
-		R1 += 0.00000001243 * Utils.cost(0.29239666059 + 597.35901666110 * x);
-		R1 += 0.00000001541 * Utils.cost(3.51095241498 + 2751.54759969160 * x);
-		R1 += 0.00000001482 * Utils.cost(0.83066678204 + 529.16970023280 * x);
-		R1 += 0.00000001149 * Utils.cost(3.91142023857 + 99.91138048090 * x);
-		R1 += 0.00000001114 * Utils.cost(3.53339637290 + 483.22054217860 * x);
-		R1 += 0.00000001195 * Utils.cost(4.16301075999 + 203.00415469950 * x);
-		R1 += 0.00000001100 * Utils.cost(1.74769285223 + 497.44763618020 * x);
-		R1 += 0.00000001458 * Utils.cost(5.19315120878 + 1592.25428902150 * x);
-		R1 += 0.00000001123 * Utils.cost(1.45270581179 + 533.88375078860 * x);
-		R1 += 0.00000001078 * Utils.cost(5.23991792940 + 1159.29331067010 * x);
-		R1 += 0.00000001083 * Utils.cost(3.57026506855 + 2943.50605412720 * x);
-		R1 += 0.00000001072 * Utils.cost(0.07132659992 + 1070.42763045310 * x);
-		R1 += 0.00000001037 * Utils.cost(5.48955598976 + 1585.89150154610 * x);
-		R1 += 0.00000001343 * Utils.cost(0.29600445633 + 860.30992875280 * x);
-		R1 += 0.00000001361 * Utils.cost(3.46603373194 + 107.02492748170 * x);
-		R1 += 0.00000001061 * Utils.cost(2.44580706826 + 1048.33622992530 * x);
-		R1 += 0.00000001002 * Utils.cost(5.55216117410 + 337.73251065900 * x);
-		R1 += 0.00000000981 * Utils.cost(3.15500987023 + 70.84944530420 * x);
-		R1 += 0.00000001007 * Utils.cost(4.11504050436 + 501.23677709140 * x);
-		R1 += 0.00000000965 * Utils.cost(5.63719524421 + 1603.29998928540 * x);
-		R1 += 0.00000001083 * Utils.cost(4.88373909810 + 1166.40685767090 * x);
-		R1 += 0.00000000953 * Utils.cost(2.83352026342 + 3583.40334044120 * x);
-		R1 += 0.00000001060 * Utils.cost(3.18542176646 + 447.79581952650 * x);
-		R1 += 0.00000001136 * Utils.cost(2.26568590950 + 525.49817940060 * x);
-		R1 += 0.00000001191 * Utils.cost(2.25249961404 + 106.27416795630 * x);
-		R1 += 0.00000000884 * Utils.cost(4.69777781327 + 960.22130923370 * x);
-		R1 += 0.00000001165 * Utils.cost(1.56030440737 + 630.33605875840 * x);
-		R1 += 0.00000000947 * Utils.cost(0.50856414717 + 842.90144101350 * x);
-		R1 += 0.00000001011 * Utils.cost(0.30814674949 + 1593.00504854690 * x);
-		R1 += 0.00000000924 * Utils.cost(2.31939900786 + 327.43756992050 * x);
-		R1 += 0.00000000896 * Utils.cost(0.22222521202 + 746.92221379570 * x);
-		R1 += 0.00000001078 * Utils.cost(4.78329116086 + 2730.20695868920 * x);
-		R1 += 0.00000000938 * Utils.cost(5.42471506763 + 1585.14074202070 * x);
-		R1 += 0.00000000923 * Utils.cost(4.44469169065 + 9676.48103411560 * x);
-		R1 += 0.00000000894 * Utils.cost(0.26940821870 + 2655.56837247380 * x);
-		R1 += 0.00000001131 * Utils.cost(5.46382510304 + 224.34479570190 * x);
-		R1 += 0.00000000808 * Utils.cost(0.48295590141 + 3377.21779200400 * x);
-		R1 += 0.00000000809 * Utils.cost(4.14122746067 + 114.13847448250 * x);
-		R1 += 0.00000000864 * Utils.cost(1.83217006136 + 4.66586644600 * x);
-		R1 += 0.00000001106 * Utils.cost(2.60444312553 + 209.36694217490 * x);
-		R1 += 0.00000000790 * Utils.cost(0.11493626208 + 460.53844081980 * x);
-		R1 += 0.00000000799 * Utils.cost(1.60426497590 + 5223.69391980220 * x);
-		R1 += 0.00000000933 * Utils.cost(0.30976125598 + 685.47393735270 * x);
-		R1 += 0.00000001053 * Utils.cost(5.23433104008 + 842.15068148810 * x);
-		R1 += 0.00000000846 * Utils.cost(3.02878393490 + 5746.27133789600 * x);
-		R1 += 0.00000000799 * Utils.cost(2.08457026425 + 77734.01845962799 * x);
-		R1 += 0.00000000820 * Utils.cost(0.99821486743 + 373.01422095920 * x);
-		R1 += 0.00000000892 * Utils.cost(5.36446426391 + 827.92358748650 * x);
-		R1 += 0.00000000821 * Utils.cost(3.53889274951 + 498.67147645760 * x);
-		R1 += 0.00000000741 * Utils.cost(1.32379374647 + 530.21222995640 * x);
-		R1 += 0.00000000790 * Utils.cost(2.88034567513 + 938.12990870590 * x);
-		R1 += 0.00000000842 * Utils.cost(3.39449778904 + 484.44438245600 * x);
-		R1 += 0.00000000785 * Utils.cost(0.57841470897 + 850.01498801430 * x);
-		R1 += 0.00000000759 * Utils.cost(3.82014112009 + 6283.07584999140 * x);
-		R1 += 0.00000000954 * Utils.cost(2.94534072982 + 462.02291352810 * x);
-		R1 += 0.00000000767 * Utils.cost(3.33725133157 + 99.16062095550 * x);
-		R1 += 0.00000000810 * Utils.cost(4.69425300466 + 2228.97018159780 * x);
-		R1 += 0.00000000700 * Utils.cost(1.72050221502 + 775.23338944700 * x);
-		R1 += 0.00000000764 * Utils.cost(4.91747674296 + 1670.82502850000 * x);
-		R1 += 0.00000000724 * Utils.cost(6.08692841992 + 2281.23049651060 * x);
-		R1 += 0.00000000711 * Utils.cost(4.82250918143 + 11.77941344680 * x);
-		R1 += 0.00000000692 * Utils.cost(2.63705354662 + 6.59228213900 * x);
-		R1 += 0.00000000771 * Utils.cost(3.87410612014 + 9690.70812811720 * x);
-		R1 += 0.00000000906 * Utils.cost(2.47189948442 + 3274.12501778540 * x);
-		R1 += 0.00000000781 * Utils.cost(1.25357484582 + 202.25339517410 * x);
-		R1 += 0.00000000757 * Utils.cost(3.78079814332 + 2818.03500860600 * x);
-		R1 += 0.00000000756 * Utils.cost(4.28312053897 + 2803.80791460440 * x);
-		R1 += 0.00000000663 * Utils.cost(5.27704405712 + 4532.57894941100 * x);
-		R1 += 0.00000000759 * Utils.cost(5.45358686570 + 9683.59458111640 * x);
-		R1 += 0.00000000698 * Utils.cost(5.43712520216 + 565.11568774670 * x);
-		R1 += 0.00000000709 * Utils.cost(3.71117647887 + 3686.49611465980 * x);
-		R1 += 0.00000000677 * Utils.cost(4.27891183416 + 25028.52121138500 * x);
-		R1 += 0.00000000643 * Utils.cost(1.40239510103 + 9161.01716302260 * x);
-		R1 += 0.00000000656 * Utils.cost(0.60909845504 + 835.78789401270 * x);
-		R1 += 0.00000000635 * Utils.cost(5.75373871128 + 429.77958461370 * x);
-		R1 += 0.00000000702 * Utils.cost(6.10412979847 + 4635.67172362960 * x);
-		R1 += 0.00000000627 * Utils.cost(3.03666956129 + 2840.41327990860 * x);
-		R1 += 0.00000000802 * Utils.cost(4.18688054701 + 5753.38488489680 * x);
-		R1 += 0.00000000838 * Utils.cost(4.51386507097 + 1069.67687092770 * x);
-		R1 += 0.00000000633 * Utils.cost(4.37183361444 + 5.41662597140 * x);
-		R1 += 0.00000000652 * Utils.cost(5.79409889124 + 1061.82961074400 * x);
-		R1 += 0.00000000638 * Utils.cost(2.18896270346 + 313.21047591890 * x);
-		R1 += 0.00000000827 * Utils.cost(5.94231186039 + 1457.52593306200 * x);
-		R1 += 0.00000000678 * Utils.cost(2.45013730979 + 5760.49843189760 * x);
-		R1 += 0.00000000814 * Utils.cost(4.89578791170 + 1567.73225428140 * x);
-		R1 += 0.00000000624 * Utils.cost(0.61631100566 + 1176.70179840940 * x);
-		R1 += 0.00000000600 * Utils.cost(3.20918322285 + 1098.73880610440 * x);
-		R1 += 0.00000000717 * Utils.cost(1.82349064490 + 3171.03224356680 * x);
-		R1 += 0.00000000651 * Utils.cost(4.14419317491 + 2847.52682690940 * x);
-		R1 += 0.00000000629 * Utils.cost(1.75272560843 + 92.04707395470 * x);
-		R1 += 0.00000000626 * Utils.cost(3.53146082217 + 3067.93946934820 * x);
-		R1 += 0.00000000667 * Utils.cost(4.22974611158 + 4539.69249641180 * x);
-		R1 += 0.00000000565 * Utils.cost(0.99416346033 + 1894.41906467650 * x);
-		R1 += 0.00000000752 * Utils.cost(0.46063700150 + 635.23141986800 * x);
-		R1 += 0.00000000622 * Utils.cost(1.98136818407 + 25565.32572348040 * x);
-		R1 += 0.00000000614 * Utils.cost(2.48275371627 + 25551.09862947879 * x);
-		R1 += 0.00000000560 * Utils.cost(1.40733893388 + 446.31134681820 * x);
-		R1 += 0.00000000558 * Utils.cost(4.37217796469 + 1057.89745748090 * x);
-		R1 += 0.00000000628 * Utils.cost(4.65037810102 + 6275.96230299060 * x);
-		R1 += 0.00000000659 * Utils.cost(2.41470950463 + 195.13984817330 * x);
-		R1 += 0.00000000616 * Utils.cost(2.08837621877 + 10.03430830760 * x);
-		R1 += 0.00000000692 * Utils.cost(3.13229025530 + 7.63481186260 * x);
-		R1 += 0.00000000685 * Utils.cost(4.18539472904 + 46.47042291600 * x);
-		R1 += 0.00000000624 * Utils.cost(0.02693303471 + 1493.09366806600 * x);
-		R1 += 0.00000000594 * Utils.cost(2.13375704438 + 121.25202148330 * x);
-		R1 += 0.00000000508 * Utils.cost(2.13584300710 + 1.69692102940 * x);
-		R1 += 0.00000000674 * Utils.cost(1.47570122611 + 4694.00295470760 * x);
-		R1 += 0.00000000559 * Utils.cost(4.48852017557 + 531.17543780290 * x);
-		R1 += 0.00000000640 * Utils.cost(3.10239233469 + 11.04570026390 * x);
-		R1 += 0.00000000496 * Utils.cost(1.29000001439 + 927.83496796740 * x);
-		R1 += 0.00000000587 * Utils.cost(3.30651435298 + 600.54041039880 * x);
-		R1 += 0.00000000582 * Utils.cost(0.44540948860 + 113.38771495710 * x);
-		R1 += 0.00000000492 * Utils.cost(4.83275232000 + 9492.14631500480 * x);
-		R1 += 0.00000000549 * Utils.cost(4.34579166146 + 3046.59882834580 * x);
-		R1 += 0.00000000576 * Utils.cost(1.22846846364 + 1514.29129671650 * x);
-		R1 += 0.00000000593 * Utils.cost(5.86079640612 + 524.06189080210 * x);
-		R1 += 0.00000000510 * Utils.cost(2.62557031270 + 529.85102378900 * x);
-		R1 += 0.00000000489 * Utils.cost(6.26855707323 + 3693.60966166060 * x);
-		R1 += 0.00000000480 * Utils.cost(0.30754294369 + 528.94020556920 * x);
-		R1 += 0.00000000582 * Utils.cost(3.51934668795 + 1056.93424963440 * x);
-		R1 += 0.00000000493 * Utils.cost(5.52699906925 + 512.28247735530 * x);
-		R1 += 0.00000000481 * Utils.cost(2.99681040149 + 9153.90361602180 * x);
-		R1 += 0.00000000562 * Utils.cost(3.73437025868 + 2015.67108615980 * x);
-		R1 += 0.00000000458 * Utils.cost(3.86646994292 + 11.30633269480 * x);
-		R1 += 0.00000000457 * Utils.cost(1.80238019931 + 3281.23856478620 * x);
-		R1 += 0.00000000453 * Utils.cost(6.17995938655 + 1059.33374607940 * x);
-		R1 += 0.00000000551 * Utils.cost(0.13794958618 + 1912.57831194120 * x);
-		R1 += 0.00000000446 * Utils.cost(5.53828660924 + 2332.06295581640 * x);
-		R1 += 0.00000000444 * Utils.cost(5.06219342598 + 7.86430652620 * x);
-		R1 += 0.00000000461 * Utils.cost(0.16951411708 + 26087.90314157420 * x);
-		R1 += 0.00000000439 * Utils.cost(4.14986379679 + 1151.42900414390 * x);
-		R1 += 0.00000000614 * Utils.cost(5.42289673768 + 2090.30967237520 * x);
-		R1 += 0.00000000488 * Utils.cost(3.71681959056 + 447.93883187840 * x);
-		R1 += 0.00000000592 * Utils.cost(2.91424148255 + 8624.21265092720 * x);
-		R1 += 0.00000000433 * Utils.cost(2.55336268329 + 1064.04779663520 * x);
-		R1 += 0.00000000449 * Utils.cost(5.24955106938 + 10213.28554621100 * x);
-		R1 += 0.00000000510 * Utils.cost(5.81591864532 + 529.53090640020 * x);
-		R1 += 0.00000000435 * Utils.cost(5.34355963629 + 560.71045373160 * x);
-		R1 += 0.00000000449 * Utils.cost(0.72330388784 + 2758.66114669240 * x);
-		R1 += 0.00000000430 * Utils.cost(0.94519103478 + 6.36278747540 * x);
-		R1 += 0.00000000563 * Utils.cost(6.19175228344 + 1884.12412393800 * x);
-		R1 += 0.00000000443 * Utils.cost(3.39246520261 + 1152.17976366930 * x);
-		R1 += 0.00000000430 * Utils.cost(1.28652623263 + 505.31194270640 * x);
-		R1 += 0.00000000422 * Utils.cost(5.12631540623 + 944.98282327580 * x);
-		R1 += 0.00000000464 * Utils.cost(2.90444584145 + 398.14400287280 * x);
-		R1 += 0.00000000410 * Utils.cost(1.24248975309 + 5069.38346150640 * x);
-		R1 += 0.00000000411 * Utils.cost(2.95117124177 + 4326.39340097380 * x);
-		R1 += 0.00000000418 * Utils.cost(5.15499986314 + 1173.52040467170 * x);
-		R1 += 0.00000000412 * Utils.cost(2.98125446330 + 554.06998748280 * x);
-		R1 += 0.00000000403 * Utils.cost(0.34381388674 + 32.24332891440 * x);
-		R1 += 0.00000000402 * Utils.cost(5.88926765351 + 1570.91364801910 * x);
-		R1 += 0.00000000505 * Utils.cost(1.49028912471 + 3782.47534187760 * x);
-		R1 += 0.00000000447 * Utils.cost(0.03952029309 + 245.54242435240 * x);
-		R1 += 0.00000000453 * Utils.cost(3.09458004153 + 1059.43011429900 * x);
-		R1 += 0.00000000411 * Utils.cost(3.21727542472 + 1475.68518032670 * x);
-		R1 += 0.00000000426 * Utils.cost(3.12237794195 + 12566.15169998280 * x);
-		R1 += 0.00000000434 * Utils.cost(3.59362426939 + 3259.89792378380 * x);
-		R1 += 0.00000000398 * Utils.cost(4.91510709622 + 4120.20785253660 * x);
-		R1 += 0.00000000399 * Utils.cost(4.67075122011 + 234.63973644040 * x);
-		R1 += 0.00000000386 * Utils.cost(4.81320787761 + 970.51624997220 * x);
-		R1 += 0.00000000427 * Utils.cost(3.21176085113 + 977.48678462110 * x);
-		R1 += 0.00000000411 * Utils.cost(4.31566962034 + 757.21715453420 * x);
-		R1 += 0.00000000392 * Utils.cost(1.86527946688 + 885.43971066640 * x);
-		R1 += 0.00000000416 * Utils.cost(3.81408093105 + 3156.80514956520 * x);
-
-		double R2 = 0;
-		R2 += 0.00079644833 * Utils.cost(1.35865896596 + 529.69096509460 * x);
-		R2 += 0.00008251618 * Utils.cost(5.77773935444 + 522.57741809380 * x);
-		R2 += 0.00007029864 * Utils.cost(3.27476965833 + 536.80451209540 * x);
-		R2 += 0.00005314006 * Utils.cost(1.83835109712 + 1059.38193018920 * x);
-		R2 += 0.00001860833 * Utils.cost(2.97682139367 + 7.11354700080 * x);
-		R2 += 0.00000836267 * Utils.cost(4.19889881718 + 419.48464387520 * x);
-		R2 += 0.00000964466 * Utils.cost(5.48031822015 + 515.46387109300 * x);
-		R2 += 0.00000406453 * Utils.cost(3.78250730354 + 1066.49547719000 * x);
-		R2 += 0.00000426570 * Utils.cost(2.22753101795 + 639.89728631400 * x);
-		R2 += 0.00000377316 * Utils.cost(2.24248352873 + 1589.07289528380 * x);
-		R2 -= 0.00000497920;
-		R2 += 0.00000339043 * Utils.cost(6.12690864038 + 625.67019231240 * x);
-		R2 += 0.00000362943 * Utils.cost(5.36761847267 + 206.18554843720 * x);
-		R2 += 0.00000342048 * Utils.cost(6.09922969324 + 1052.26838318840 * x);
-		R2 += 0.00000279920 * Utils.cost(4.26162555827 + 412.37109687440 * x);
-		R2 += 0.00000332578 * Utils.cost(0.00328961161 + 426.59819087600 * x);
-		R2 += 0.00000229777 * Utils.cost(0.70530766213 + 735.87651353180 * x);
-		R2 += 0.00000200783 * Utils.cost(3.06850623368 + 543.91805909620 * x);
-		R2 += 0.00000199807 * Utils.cost(4.42884165317 + 103.09277421860 * x);
-		R2 += 0.00000257290 * Utils.cost(0.96295364983 + 632.78373931320 * x);
-		R2 += 0.00000138606 * Utils.cost(2.93235671606 + 14.22709400160 * x);
-		R2 += 0.00000113535 * Utils.cost(0.78713911289 + 728.76296653100 * x);
-		R2 += 0.00000086025 * Utils.cost(5.14434751994 + 323.50541665740 * x);
-		R2 += 0.00000094565 * Utils.cost(1.70498041073 + 838.96928775040 * x);
-		R2 += 0.00000083469 * Utils.cost(0.05834873484 + 309.27832265580 * x);
-		R2 += 0.00000075198 * Utils.cost(1.60495195911 + 956.28915597060 * x);
-		R2 += 0.00000070451 * Utils.cost(1.50988357484 + 213.29909543800 * x);
-		R2 += 0.00000080328 * Utils.cost(2.98122361797 + 742.99006053260 * x);
-		R2 += 0.00000056203 * Utils.cost(0.95534810533 + 1162.47470440780 * x);
-		R2 += 0.00000061649 * Utils.cost(6.10137889854 + 1045.15483618760 * x);
-		R2 += 0.00000066572 * Utils.cost(5.47307178077 + 199.07200143640 * x);
-		R2 += 0.00000050057 * Utils.cost(2.72063162317 + 532.87235883230 * x);
-		R2 += 0.00000051904 * Utils.cost(5.58435625607 + 942.06206196900 * x);
-		R2 += 0.00000039833 * Utils.cost(5.94566506227 + 95.97922721780 * x);
-		R2 += 0.00000044548 * Utils.cost(5.52445621411 + 508.35032409220 * x);
-		R2 += 0.00000044282 * Utils.cost(0.27118152557 + 526.50957135690 * x);
-		R2 += 0.00000029944 * Utils.cost(0.93641735919 + 1155.36115740700 * x);
-		R2 += 0.00000028412 * Utils.cost(2.87835720211 + 525.75881183150 * x);
-		R2 += 0.00000026330 * Utils.cost(4.26891877269 + 1596.18644228460 * x);
-		R2 += 0.00000027039 * Utils.cost(2.80607741398 + 1169.58825140860 * x);
-		R2 += 0.00000027477 * Utils.cost(2.64841266238 + 2118.76386037840 * x);
-		R2 += 0.00000022705 * Utils.cost(0.17830004133 + 302.16477565500 * x);
-		R2 += 0.00000029347 * Utils.cost(1.78589692350 + 831.85574074960 * x);
-		R2 += 0.00000019991 * Utils.cost(0.04328951895 + 949.17560896980 * x);
-		R2 += 0.00000019906 * Utils.cost(1.16072627347 + 533.62311835770 * x);
-		R2 += 0.00000021714 * Utils.cost(1.88820231818 + 1272.68102562720 * x);
-		R2 += 0.00000017581 * Utils.cost(4.14974757919 + 846.08283475120 * x);
-		R2 += 0.00000017085 * Utils.cost(5.89188996975 + 1258.45393162560 * x);
-		R2 += 0.00000021407 * Utils.cost(4.35468497204 + 316.39186965660 * x);
-		R2 += 0.00000021295 * Utils.cost(0.54429472455 + 1265.56747862640 * x);
-		R2 += 0.00000019859 * Utils.cost(0.06453825800 + 1581.95934828300 * x);
-		R2 += 0.00000017025 * Utils.cost(0.53383755278 + 1368.66025284500 * x);
-		R2 += 0.00000012804 * Utils.cost(3.90044242142 + 433.71173787680 * x);
-		R2 += 0.00000013072 * Utils.cost(0.79468040717 + 110.20632121940 * x);
-		R2 += 0.00000011945 * Utils.cost(0.40671403646 + 1361.54670584420 * x);
-		R2 += 0.00000011695 * Utils.cost(4.44394618065 + 405.25754987360 * x);
-		R2 += 0.00000011979 * Utils.cost(2.22872778682 + 220.41264243880 * x);
-		R2 += 0.00000009633 * Utils.cost(6.01002272123 + 853.19638175200 * x);
-		R2 += 0.00000010163 * Utils.cost(0.99504635158 + 1471.75302706360 * x);
-		R2 += 0.00000008977 * Utils.cost(1.60328709409 + 1692.16566950240 * x);
-		R2 += 0.00000008701 * Utils.cost(3.52167876799 + 1073.60902419080 * x);
-		R2 += 0.00000008314 * Utils.cost(5.60169732564 + 1574.84580128220 * x);
-		R2 += 0.00000008958 * Utils.cost(6.26708748901 + 519.39602435610 * x);
-		R2 += 0.00000007828 * Utils.cost(0.65241611799 + 1478.86657406440 * x);
-		R2 += 0.00000007833 * Utils.cost(0.17920601344 + 1685.05212250160 * x);
-		R2 += 0.00000007451 * Utils.cost(0.88421084942 + 88.86568021700 * x);
-		R2 += 0.00000007320 * Utils.cost(0.89341249264 + 721.64941953020 * x);
-		R2 += 0.00000009135 * Utils.cost(1.51210840939 + 1148.24761040620 * x);
-		R2 += 0.00000006110 * Utils.cost(2.50080005128 + 3.18139373770 * x);
-		R2 += 0.00000007037 * Utils.cost(4.44127496638 + 330.61896365820 * x);
-		R2 += 0.00000005163 * Utils.cost(2.79219166952 + 21.34064100240 * x);
-		R2 += 0.00000005079 * Utils.cost(2.97991736844 + 1375.77379984580 * x);
-		R2 += 0.00000004930 * Utils.cost(0.04683167622 + 1677.93857550080 * x);
-		R2 += 0.00000004664 * Utils.cost(2.28007273876 + 1485.98012106520 * x);
-		R2 += 0.00000004692 * Utils.cost(0.86220230505 + 3.93215326310 * x);
-		R2 += 0.00000005307 * Utils.cost(0.85008578245 + 1788.14489672020 * x);
-		R2 += 0.00000004239 * Utils.cost(0.40758287124 + 629.60234557550 * x);
-		R2 += 0.00000004230 * Utils.cost(1.61046658091 + 635.96513305090 * x);
-		R2 += 0.00000003627 * Utils.cost(2.71151441113 + 551.03160609700 * x);
-		R2 += 0.00000003314 * Utils.cost(0.55067236587 + 1795.25844372100 * x);
-		R2 += 0.00000004409 * Utils.cost(1.28127751050 + 1464.63948006280 * x);
-		R2 += 0.00000003270 * Utils.cost(1.18744032691 + 1905.46476494040 * x);
-		R2 += 0.00000003226 * Utils.cost(6.18716071251 + 1038.04128918680 * x);
-		R2 += 0.00000003103 * Utils.cost(6.22971614425 + 2001.44399215820 * x);
-		R2 += 0.00000003410 * Utils.cost(2.44624067925 + 539.98590583310 * x);
-		R2 += 0.00000003174 * Utils.cost(5.54870592599 + 191.95845443560 * x);
-		R2 += 0.00000002590 * Utils.cost(3.24430559059 + 1062.56332392690 * x);
-		R2 += 0.00000002614 * Utils.cost(0.55149554149 + 2104.53676637680 * x);
-		R2 += 0.00000002174 * Utils.cost(5.32613824409 + 1891.23767093880 * x);
-		R2 += 0.00000002659 * Utils.cost(4.82459974220 + 416.30325013750 * x);
-		R2 += 0.00000002187 * Utils.cost(1.71707514653 + 628.85158605010 * x);
-		R2 += 0.00000002263 * Utils.cost(6.19233486371 + 1994.33044515740 * x);
-		R2 += 0.00000002328 * Utils.cost(4.28236795066 + 963.40270297140 * x);
-		R2 += 0.00000002579 * Utils.cost(0.03256542251 + 1898.35121793960 * x);
-		R2 += 0.00000002077 * Utils.cost(3.32602157426 + 1699.27921650320 * x);
-		R2 += 0.00000002529 * Utils.cost(2.39697505835 + 227.52618943960 * x);
-		R2 += 0.00000002468 * Utils.cost(0.06551346218 + 750.10360753340 * x);
-		R2 += 0.00000001989 * Utils.cost(0.29206371261 + 636.71589257630 * x);
-		R2 += 0.00000001927 * Utils.cost(0.32286661566 + 295.05122865420 * x);
-		R2 += 0.00000001904 * Utils.cost(3.43534792123 + 647.01083331480 * x);
-		R2 += 0.00000001940 * Utils.cost(0.29170673525 + 2111.65031337760 * x);
-		R2 += 0.00000001880 * Utils.cost(3.14403615586 + 611.44309831080 * x);
-		R2 += 0.00000002324 * Utils.cost(1.94960720763 + 824.74219374880 * x);
-		R2 += 0.00000001854 * Utils.cost(4.71794950485 + 2125.87740737920 * x);
-		R2 += 0.00000002547 * Utils.cost(1.23908353090 + 2221.85663459700 * x);
-		R2 += 0.00000001814 * Utils.cost(1.60250861074 + 2008.55753915900 * x);
-		R2 += 0.00000001611 * Utils.cost(5.83466560322 + 422.66603761290 * x);
-		R2 += 0.00000001667 * Utils.cost(2.32455940876 + 440.82528487760 * x);
-		R2 += 0.00000001622 * Utils.cost(0.36650974375 + 1056.20053645150 * x);
-		R2 += 0.00000001624 * Utils.cost(2.42139677881 + 10.29494073850 * x);
-		R2 += 0.00000001622 * Utils.cost(3.51892791175 + 1055.44977692610 * x);
-		R2 += 0.00000001606 * Utils.cost(5.76205763975 + 117.31986822020 * x);
-		R2 += 0.00000001646 * Utils.cost(5.88662636573 + 2317.83586181480 * x);
-		R2 += 0.00000002026 * Utils.cost(4.61781314145 + 423.41679713830 * x);
-		R2 += 0.00000002098 * Utils.cost(1.04559231028 + 1781.03134971940 * x);
-		R2 += 0.00000001868 * Utils.cost(1.12487729469 + 618.55664531160 * x);
-		R2 += 0.00000001885 * Utils.cost(2.78775930564 + 1802.37199072180 * x);
-		R2 += 0.00000001445 * Utils.cost(0.08308050305 + 1382.88734684660 * x);
-		R2 += 0.00000001797 * Utils.cost(3.00776822706 + 2648.45482547300 * x);
-		R2 += 0.00000001422 * Utils.cost(0.17649746278 + 2420.92863603340 * x);
-		R2 += 0.00000001129 * Utils.cost(1.59030291320 + 380.12776796000 * x);
-		R2 += 0.00000001126 * Utils.cost(4.19989673600D + 547.85021235930 * x);
-		R2 += 0.00000001186 * Utils.cost(5.98943062173 + 2310.72231481400 * x);
-		R2 += 0.00000001108 * Utils.cost(4.22655117757 + 934.94851496820 * x);
-		R2 += 0.00000001259 * Utils.cost(1.19687222266 + 1063.31408345230 * x);
-		R2 += 0.00000001072 * Utils.cost(3.86169004168 + 1603.29998928540 * x);
-		R2 += 0.00000000946 * Utils.cost(5.59968097387 + 99.91138048090 * x);
-		R2 += 0.00000000937 * Utils.cost(1.03083276760 + 81.75213321620 * x);
-		R2 += 0.00000000938 * Utils.cost(6.18136092771 + 945.99421523210 * x);
-		R2 += 0.00000000908 * Utils.cost(2.54355964041 + 6283.07584999140 * x);
-		R2 += 0.00000000874 * Utils.cost(5.21903196047 + 2207.62954059540 * x);
-		R2 += 0.00000000874 * Utils.cost(6.01240284465 + 511.53171782990 * x);
-		R2 += 0.00000001188 * Utils.cost(0.75698357968 + 2097.42321937600 * x);
-		R2 += 0.00000000789 * Utils.cost(3.91035208173 + 10213.28554621100 * x);
-		R2 += 0.00000001000 * Utils.cost(1.34667100304 + 732.69511979410 * x);
-		R2 += 0.00000000952 * Utils.cost(1.55355777420 + 2324.94940881560 * x);
-		R2 += 0.00000000811 * Utils.cost(5.00475553271 + 319.57326339430 * x);
-		R2 += 0.00000000763 * Utils.cost(3.98527559630 + 337.73251065900 * x);
-		R2 += 0.00000000880 * Utils.cost(1.14789972199 + 952.35700270750 * x);
-		R2 += 0.00000000780 * Utils.cost(4.69463316930 + 5746.27133789600 * x);
-		R2 += 0.00000000910 * Utils.cost(0.08774541571 + 2737.32050569000 * x);
-		R2 += 0.00000000773 * Utils.cost(0.77131695762 + 5760.49843189760 * x);
-		R2 += 0.00000000764 * Utils.cost(6.11686539353 + 9676.48103411560 * x);
-		R2 += 0.00000000758 * Utils.cost(2.19350719860 + 9690.70812811720 * x);
-		R2 += 0.00000000671 * Utils.cost(1.19532387143 + 124.43341522100 * x);
-		R2 += 0.00000000661 * Utils.cost(5.99578306627 + 501.23677709140 * x);
-		R2 += 0.00000000729 * Utils.cost(0.65312263578 + 2538.24850425360 * x);
-		R2 += 0.00000000825 * Utils.cost(2.70770030205 + 3370.10424500320 * x);
-		R2 += 0.00000000670 * Utils.cost(5.44169923277 + 107.02492748170 * x);
-		R2 += 0.00000000739 * Utils.cost(1.14609907817 + 2641.34127847220 * x);
-		R2 += 0.00000000866 * Utils.cost(3.02831268213 + 3046.59882834580 * x);
-		R2 += 0.00000000718 * Utils.cost(4.83684196454 + 860.30992875280 * x);
-		R2 += 0.00000000813 * Utils.cost(6.01229270247 + 2214.74308759620 * x);
-		R2 += 0.00000000746 * Utils.cost(1.12371143332 + 739.80866679490 * x);
-		R2 += 0.00000000741 * Utils.cost(5.93171662010 + 2634.22773147140 * x);
-		R2 += 0.00000000667 * Utils.cost(0.89885058003 + 106.27416795630 * x);
-		R2 += 0.00000000573 * Utils.cost(2.42701822581 + 739.05790726950 * x);
-		R2 += 0.00000000734 * Utils.cost(0.72837704619 + 1354.43315884340 * x);
-		R2 += 0.00000000662 * Utils.cost(2.21768976390 + 2015.67108615980 * x);
-		R2 += 0.00000000782 * Utils.cost(2.52401202862 + 3679.38256765900 * x);
-		R2 += 0.00000000779 * Utils.cost(2.38608991574 + 3267.01147078460 * x);
-		R2 += 0.00000000553 * Utils.cost(1.85211127676 + 453.42489381900 * x);
-		R2 += 0.00000000701 * Utils.cost(4.23431087374 + 9683.59458111640 * x);
-		R2 += 0.00000000571 * Utils.cost(2.98435419019 + 1262.38608488870 * x);
-		R2 += 0.00000000621 * Utils.cost(1.24462887440 + 3803.81598288000 * x);
-		R2 += 0.00000000563 * Utils.cost(5.99845316446 + 1049.08698945070 * x);
-		R2 += 0.00000000538 * Utils.cost(4.92334194042 + 447.79581952650 * x);
-		R2 += 0.00000000534 * Utils.cost(0.99911551571 + 462.02291352810 * x);
-		R2 += 0.00000000541 * Utils.cost(6.19275150397 + 1987.21689815660 * x);
-		R2 += 0.00000000511 * Utils.cost(3.28553278370 + 4.66586644600 * x);
-		R2 += 0.00000000539 * Utils.cost(5.33214565622 + 2751.54759969160 * x);
-		R2 += 0.00000000651 * Utils.cost(5.12199308959 + 3156.80514956520 * x);
-		R2 += 0.00000000483 * Utils.cost(3.03782387056 + 3281.23856478620 * x);
-		R2 += 0.00000000476 * Utils.cost(2.17592053936 + 149.56319713460 * x);
-		R2 += 0.00000000510 * Utils.cost(5.35664230912 + 9.56122755560 * x);
-		R2 += 0.00000000490 * Utils.cost(1.57324553106 + 1251.34038462480 * x);
-		R2 += 0.00000000467 * Utils.cost(5.92343423840 + 203.00415469950 * x);
-		R2 += 0.00000000528 * Utils.cost(5.81786945766 + 2627.11418447060 * x);
-		R2 += 0.00000000447 * Utils.cost(3.51498961805 + 18.15924726470 * x);
-		R2 += 0.00000000429 * Utils.cost(0.16627197188 + 74.78159856730 * x);
-		R2 += 0.00000000497 * Utils.cost(0.30985248432 + 2428.04218303420 * x);
-		R2 += 0.00000000516 * Utils.cost(3.89424540015 + 2516.90786325120 * x);
-		R2 += 0.00000000519 * Utils.cost(2.43126348834 + 3686.49611465980 * x);
-		R2 += 0.00000000404 * Utils.cost(2.77840802846 + 7.16173111060 * x);
-		R2 += 0.00000000533 * Utils.cost(4.77083438961 + 3473.19701922180 * x);
-		R2 += 0.00000000515 * Utils.cost(3.54549816613 + 3178.14579056760 * x);
-		R2 += 0.00000000533 * Utils.cost(5.61415688189 + 2524.02141025200 * x);
-		R2 += 0.00000000458 * Utils.cost(4.91616403047 + 3067.93946934820 * x);
-		R2 += 0.00000000400 * Utils.cost(3.13887720912 + 540.73666535850 * x);
-		R2 += 0.00000000378 * Utils.cost(0.86122450940 + 525.02509864860 * x);
-
-		double R3 = 0;
-		R3 += 0.00003519257 * Utils.cost(6.05800633846 + 529.69096509460 * x);
-		R3 += 0.00001073239 * Utils.cost(1.67321345760 + 536.80451209540 * x);
-		R3 += 0.00000915666 * Utils.cost(1.41329676116 + 522.57741809380 * x);
-		R3 += 0.00000341593 * Utils.cost(0.52296542656 + 1059.38193018920 * x);
-		R3 += 0.00000254893 * Utils.cost(1.19625473533 + 7.11354700080 * x);
-		R3 += 0.00000221512 * Utils.cost(0.95225226237 + 515.46387109300 * x);
-		R3 += 0.00000069078 * Utils.cost(2.26885282314 + 1066.49547719000 * x);
-		R3 -= 0.00000089729;
-		R3 += 0.00000057827 * Utils.cost(1.41389745339 + 543.91805909620 * x);
-		R3 += 0.00000057653 * Utils.cost(0.52580117593 + 639.89728631400 * x);
-		R3 += 0.00000051079 * Utils.cost(5.98016364677 + 412.37109687440 * x);
-		R3 += 0.00000046935 * Utils.cost(1.57864237959 + 625.67019231240 * x);
-		R3 += 0.00000042824 * Utils.cost(6.11689609099 + 419.48464387520 * x);
-		R3 += 0.00000037477 * Utils.cost(1.18262762330 + 14.22709400160 * x);
-		R3 += 0.00000033816 * Utils.cost(1.66671706951 + 1052.26838318840 * x);
-		R3 += 0.00000031195 * Utils.cost(1.04290245896 + 1589.07289528380 * x);
-		R3 += 0.00000030023 * Utils.cost(4.63236245032 + 426.59819087600 * x);
-		R3 += 0.00000033531 * Utils.cost(0.84784977903 + 206.18554843720 * x);
-		R3 += 0.00000020804 * Utils.cost(2.50071243814 + 728.76296653100 * x);
-		R3 += 0.00000014466 * Utils.cost(0.96040197071 + 508.35032409220 * x);
-		R3 += 0.00000012969 * Utils.cost(1.50233788550 + 1045.15483618760 * x);
-		R3 += 0.00000011654 * Utils.cost(3.55513510121 + 323.50541665740 * x);
-		R3 += 0.00000012319 * Utils.cost(2.60952614503 + 735.87651353180 * x);
-		R3 += 0.00000015023 * Utils.cost(0.89136998434 + 199.07200143640 * x);
-		R3 += 0.00000011160 * Utils.cost(1.79041437555 + 309.27832265580 * x);
-		R3 += 0.00000010554 * Utils.cost(6.27845112678 + 956.28915597060 * x);
-		R3 += 0.00000009812 * Utils.cost(6.26016859519 + 103.09277421860 * x);
-		R3 += 0.00000009301 * Utils.cost(3.45126812476 + 838.96928775040 * x);
-		R3 += 0.00000006672 * Utils.cost(1.87004905364 + 302.16477565500 * x);
-		R3 += 0.00000007442 * Utils.cost(1.28047007623 + 742.99006053260 * x);
-		R3 += 0.00000007178 * Utils.cost(0.92022189637 + 942.06206196900 * x);
-		R3 += 0.00000005577 * Utils.cost(1.37980792905 + 95.97922721780 * x);
-		R3 += 0.00000006834 * Utils.cost(3.45228722967 + 831.85574074960 * x);
-		R3 += 0.00000004632 * Utils.cost(2.82934545414 + 1596.18644228460 * x);
-		R3 += 0.00000003969 * Utils.cost(1.21290005054 + 1169.58825140860 * x);
-		R3 += 0.00000003869 * Utils.cost(5.99495313698 + 213.29909543800 * x);
-		R3 += 0.00000003551 * Utils.cost(6.10714791535 + 405.25754987360 * x);
-		R3 += 0.00000002943 * Utils.cost(2.32831075458 + 1155.36115740700 * x);
-		R3 += 0.00000002442 * Utils.cost(1.86965213405 + 532.87235883230 * x);
-		R3 += 0.00000002410 * Utils.cost(0.42627205128 + 220.41264243880 * x);
-		R3 += 0.00000002289 * Utils.cost(1.94941487274 + 1073.60902419080 * x);
-		R3 += 0.00000002274 * Utils.cost(0.09211517505 + 632.78373931320 * x);
-		R3 += 0.00000002189 * Utils.cost(1.58907745204 + 2118.76386037840 * x);
-		R3 += 0.00000002387 * Utils.cost(5.97080671477 + 1162.47470440780 * x);
-		R3 += 0.00000002104 * Utils.cost(1.06751462671 + 21.34064100240 * x);
-		R3 += 0.00000002128 * Utils.cost(1.51119399925 + 1258.45393162560 * x);
-		R3 += 0.00000002491 * Utils.cost(0.35125020737 + 1272.68102562720 * x);
-		R3 += 0.00000002006 * Utils.cost(5.94487388360 + 110.20632121940 * x);
-		R3 += 0.00000001980 * Utils.cost(2.54989377864 + 88.86568021700 * x);
-		R3 += 0.00000002040 * Utils.cost(2.16463966964 + 433.71173787680 * x);
-		R3 += 0.00000001955 * Utils.cost(2.70341589777 + 721.64941953020 * x);
-		R3 += 0.00000001670 * Utils.cost(4.46255717328 + 853.19638175200 * x);
-		R3 += 0.00000001910 * Utils.cost(2.25964760758 + 1361.54670584420 * x);
-		R3 += 0.00000001710 * Utils.cost(1.98372066321 + 525.75881183150 * x);
-		R3 += 0.00000001520 * Utils.cost(0.11641358425 + 949.17560896980 * x);
-		R3 += 0.00000002003 * Utils.cost(3.16520599208 + 1148.24761040620 * x);
-		R3 += 0.00000001710 * Utils.cost(2.70850417287 + 330.61896365820 * x);
-		R3 += 0.00000001629 * Utils.cost(0.47376028854 + 526.50957135690 * x);
-		R3 += 0.00000001229 * Utils.cost(3.01987279595 + 963.40270297140 * x);
-		R3 += 0.00000001671 * Utils.cost(0.44352103086 + 533.62311835770 * x);
-		R3 += 0.00000001207 * Utils.cost(1.15774089269 + 1574.84580128220 * x);
-		R3 += 0.00000001146 * Utils.cost(2.54505851138 + 846.08283475120 * x);
-		R3 += 0.00000001355 * Utils.cost(1.17462112647 + 1038.04128918680 * x);
-		R3 += 0.00000001001 * Utils.cost(2.70272799283 + 519.39602435610 * x);
-		R3 += 0.00000001372 * Utils.cost(0.67467128629 + 551.03160609700 * x);
-		R3 += 0.00000000983 * Utils.cost(4.17198081351 + 2627.11418447060 * x);
-		R3 += 0.00000001084 * Utils.cost(1.07011164067 + 227.52618943960 * x);
-		R3 += 0.00000000892 * Utils.cost(2.92543286761 + 1368.66025284500 * x);
-		R3 += 0.00000000823 * Utils.cost(4.86559196955 + 611.44309831080 * x);
-		R3 += 0.00000001136 * Utils.cost(1.78981738432 + 1581.95934828300 * x);
-		R3 += 0.00000000897 * Utils.cost(4.91073630270 + 1670.82502850000 * x);
-		R3 += 0.00000000908 * Utils.cost(3.68804047330 + 824.74219374880 * x);
-		R3 += 0.00000000789 * Utils.cost(3.23380893250 + 2125.87740737920 * x);
-		R3 += 0.00000000771 * Utils.cost(2.39070707004 + 2317.83586181480 * x);
-		R3 += 0.00000000891 * Utils.cost(0.59692950778 + 539.98590583310 * x);
-		R3 += 0.00000000876 * Utils.cost(4.52127091462 + 750.10360753340 * x);
-		R3 += 0.00000000802 * Utils.cost(0.20759322884 + 1141.13406340540 * x);
-		R3 += 0.00000000850 * Utils.cost(0.94145487094 + 191.95845443560 * x);
-		R3 += 0.00000000762 * Utils.cost(2.25149516048 + 2538.24850425360 * x);
-		R3 += 0.00000000694 * Utils.cost(0.67080348659 + 440.82528487760 * x);
-		R3 += 0.00000000741 * Utils.cost(5.79934203525 + 1485.98012106520 * x);
-		R3 += 0.00000000643 * Utils.cost(2.48127580335 + 1265.56747862640 * x);
-		R3 += 0.00000000575 * Utils.cost(6.13756590872 + 1279.79457262800 * x);
-		R3 += 0.00000000636 * Utils.cost(5.51001645505 + 2413.81508903260 * x);
-		R3 += 0.00000000636 * Utils.cost(4.40777238491 + 1382.88734684660 * x);
-		R3 += 0.00000000555 * Utils.cost(2.18233983981 + 1062.56332392690 * x);
-		R3 += 0.00000000564 * Utils.cost(1.92775967119 + 2634.22773147140 * x);
-		R3 += 0.00000000531 * Utils.cost(2.04824376019 + 295.05122865420 * x);
-		R3 += 0.00000000541 * Utils.cost(2.32424368689 + 1471.75302706360 * x);
-		R3 += 0.00000000697 * Utils.cost(2.27179476322 + 1699.27921650320 * x);
-		R3 += 0.00000000546 * Utils.cost(1.95774905730 + 1677.93857550080 * x);
-		R3 += 0.00000000465 * Utils.cost(4.35550844067 + 1692.16566950240 * x);
-		R3 += 0.00000000508 * Utils.cost(2.50298248836 + 2207.62954059540 * x);
-		R3 += 0.00000000496 * Utils.cost(5.77087043616 + 1478.86657406440 * x);
-		R3 += 0.00000000440 * Utils.cost(5.98661963879 + 934.94851496820 * x);
-		R3 += 0.00000000424 * Utils.cost(2.80194129521 + 81.75213321620 * x);
-		R3 += 0.00000000406 * Utils.cost(3.93940190897 + 316.39186965660 * x);
-		R3 += 0.00000000506 * Utils.cost(0.18719982992 + 10.29494073850 * x);
-
-		double R4 = 0;
-		R4 += 0.00000128628 * Utils.cost(0.08419309557 + 536.80451209540 * x);
-		R4 += 0.00000113458 * Utils.cost(4.24858855779 + 529.69096509460 * x);
-		R4 += 0.00000082650 * Utils.cost(3.29754909408 + 522.57741809380 * x);
-		R4 += 0.00000037883 * Utils.cost(2.73326611144 + 515.46387109300 * x);
-		R4 += 0.00000026694 * Utils.cost(5.69142588558 + 7.11354700080 * x);
-		R4 += 0.00000017650 * Utils.cost(5.40012536918 + 1059.38193018920 * x);
-		R4 += 0.00000012612 * Utils.cost(6.01560416057 + 543.91805909620 * x);
-		R4 += 0.00000009287 * Utils.cost(0.76813946494 + 1066.49547719000 * x);
-		R4 += 0.00000008107 * Utils.cost(5.68228065707 + 14.22709400160 * x);
-		R4 += 0.00000006271 * Utils.cost(5.12286932534 + 639.89728631400 * x);
-		R4 += 0.00000006978 * Utils.cost(1.42751292055 + 412.37109687440 * x);
-		R4 += 0.00000005377 * Utils.cost(3.33501947275 + 625.67019231240 * x);
-		R4 += 0.00000002911 * Utils.cost(3.40334805052 + 1052.26838318840 * x);
-		R4 += 0.00000002593 * Utils.cost(4.16090412984 + 728.76296653100 * x);
-		R4 += 0.00000002562 * Utils.cost(2.89802035072 + 426.59819087600 * x);
-		R4 += 0.00000002268 * Utils.cost(6.22195938856 + 1589.07289528380 * x);
-		R4 += 0.00000002114 * Utils.cost(3.11758855774 + 1045.15483618760 * x);
-		R4 += 0.00000001673 * Utils.cost(2.81399290364 + 206.18554843720 * x);
-		R4 += 0.00000001805 * Utils.cost(2.60030006919 + 199.07200143640 * x);
-		R4 += 0.00000001823 * Utils.cost(1.89432426038 + 419.48464387520 * x);
-		R4 += 0.00000001522 * Utils.cost(1.33432648232 + 1596.18644228460 * x);
-		R4 += 0.00000001697;
-		R4 += 0.00000001039 * Utils.cost(4.41904942302 + 956.28915597060 * x);
-		R4 += 0.00000001161 * Utils.cost(5.16181311538 + 831.85574074960 * x);
-		R4 += 0.00000000916 * Utils.cost(3.17245716108 + 508.35032409220 * x);
-		R4 += 0.00000000870 * Utils.cost(5.79387813500 + 1169.58825140860 * x);
-		R4 += 0.00000000916 * Utils.cost(1.87129662931 + 1148.24761040620 * x);
-		R4 += 0.00000000955 * Utils.cost(0.66801367802 + 1361.54670584420 * x);
-		R4 += 0.00000000788 * Utils.cost(1.47515450553 + 1272.68102562720 * x);
-		R4 += 0.00000000966 * Utils.cost(5.47457968043 + 220.41264243880 * x);
-		R4 += 0.00000000788 * Utils.cost(2.42252866885 + 117.31986822020 * x);
-		R4 += 0.00000000712 * Utils.cost(0.49655897030 + 1073.60902419080 * x);
-		R4 += 0.00000000656 * Utils.cost(3.53022740783 + 302.16477565500 * x);
-		R4 += 0.00000000681 * Utils.cost(2.84507174340 + 191.95845443560 * x);
-		R4 += 0.00000000771 * Utils.cost(2.19893222018 + 942.06206196900 * x);
-		R4 += 0.00000000765 * Utils.cost(5.31147257700 + 551.03160609700 * x);
-		R4 += 0.00000000667 * Utils.cost(3.72432305249 + 88.86568021700 * x);
-		R4 += 0.00000000534 * Utils.cost(1.83172084748 + 647.01083331480 * x);
-		R4 += 0.00000000553 * Utils.cost(0.85896003802 + 330.61896365820 * x);
-		R4 += 0.00000000543 * Utils.cost(5.26057584439 + 21.34064100240 * x);
-		R4 += 0.00000000584 * Utils.cost(3.82243061802 + 618.55664531160 * x);
-		R4 += 0.00000000512 * Utils.cost(4.44485521707 + 110.20632121940 * x);
-		R4 += 0.00000000612 * Utils.cost(1.59320941864 + 3.18139373770 * x);
-		R4 += 0.00000000631 * Utils.cost(1.83863158533 + 10.29494073850 * x);
-		R4 += 0.00000000491 * Utils.cost(1.52912023181 + 405.25754987360 * x);
-		R4 += 0.00000000521 * Utils.cost(0.24011424451 + 433.71173787680 * x);
-
-		double R5 = 0;
-		R5 += 0.00000011188 * Utils.cost(4.75249399945 + 536.80451209540 * x);
-		R5 += 0.00000004255 * Utils.cost(5.91516229170 + 522.57741809380 * x);
-		R5 += 0.00000002079 * Utils.cost(5.56781555864 + 515.46387109300 * x);
-		R5 += 0.00000001908 * Utils.cost(4.29659647286 + 543.91805909620 * x);
-		R5 += 0.00000001875 * Utils.cost(3.69357495838 + 7.11354700080 * x);
-		R5 += 0.00000001590 * Utils.cost(5.49312796166 + 1066.49547719000 * x);
-		R5 += 0.00000001612 * Utils.cost(4.13222808529 + 1059.38193018920 * x);
-		R5 += 0.00000001240 * Utils.cost(3.77981722506 + 14.22709400160 * x);
-		R5 += 0.00000001033 * Utils.cost(4.50671820436 + 529.69096509460 * x);
-
-		double x2 = x * x;
-		double x3 = x2 * x;
-		double x4 = x3 * x;
-		double x5 = x4 * x;
-
-		return (R0 + R1 * x + R2 * x2 + R3 * x3 + R4 * x4 + R5 * x5);
+		return SERIES.evaluate(VSOP87.R, x);
 	}
 
-	public static void compute() {
+	public static void compute(AstroContext ctx) {
 		//Heliocentric coordinates
-		double L = Jupiter.lJupiter(Context.Tau);
-		double B = Jupiter.bJupiter(Context.Tau);
-		double R = Jupiter.rJupiter(Context.Tau);
+		double L = Jupiter.lJupiter(ctx.Tau);
+		double B = Jupiter.bJupiter(ctx.Tau);
+		double R = Jupiter.rJupiter(ctx.Tau);
 
 		//Rectangular coordinates
-		double x = R * Utils.cosd(B) * Utils.cosd(L) - Context.Re * Utils.cosd(Context.Be) * Utils.cosd(Context.Le);
-		double y = R * Utils.cosd(B) * Utils.sind(L) - Context.Re * Utils.cosd(Context.Be) * Utils.sind(Context.Le);
-		double z = R * Utils.sind(B) - Context.Re * Utils.sind(Context.Be);
+		double x = R * Utils.cosd(B) * Utils.cosd(L) - ctx.Re * Utils.cosd(ctx.Be) * Utils.cosd(ctx.Le);
+		double y = R * Utils.cosd(B) * Utils.sind(L) - ctx.Re * Utils.cosd(ctx.Be) * Utils.sind(ctx.Le);
+		double z = R * Utils.sind(B) - ctx.Re * Utils.sind(ctx.Be);
 
 		//Geocentric coordinates
-		Context.lambda = Math.atan2(y, x);
-		Context.beta = Math.atan(z / Math.sqrt(x * x + y * y));
+		ctx.lambda = Math.atan2(y, x);
+		ctx.beta = Math.atan(z / Math.sqrt(x * x + y * y));
 
 		//Distance from earth / light time
 		double d = Math.sqrt(x * x + y * y + z * z);
 		double lt = 0.0057755183 * d;
 
 		//Time correction
-		double Tau_corr = (Context.JDE - lt - 2451545) / 365250D;
+		double Tau_corr = (ctx.JDE - lt - 2451545) / 365250D;
 
 		//Coordinates corrected for light time
 		L = Jupiter.lJupiter(Tau_corr);
 		B = Jupiter.bJupiter(Tau_corr);
 		R = Jupiter.rJupiter(Tau_corr);
-		x = R * Utils.cosd(B) * Utils.cosd(L) - Context.Re * Utils.cosd(Context.Be) * Utils.cosd(Context.Le);
-		y = R * Utils.cosd(B) * Utils.sind(L) - Context.Re * Utils.cosd(Context.Be) * Utils.sind(Context.Le);
-		z = R * Utils.sind(B) - Context.Re * Utils.sind(Context.Be);
-		Context.lambda = Math.atan2(y, x);
-		Context.beta = Math.atan(z / Math.sqrt(x * x + y * y));
+		x = R * Utils.cosd(B) * Utils.cosd(L) - ctx.Re * Utils.cosd(ctx.Be) * Utils.cosd(ctx.Le);
+		y = R * Utils.cosd(B) * Utils.sind(L) - ctx.Re * Utils.cosd(ctx.Be) * Utils.sind(ctx.Le);
+		z = R * Utils.sind(B) - ctx.Re * Utils.sind(ctx.Be);
+		ctx.lambda = Math.atan2(y, x);
+		ctx.beta = Math.atan(z / Math.sqrt(x * x + y * y));
 
 		//Aberration
-		double dlambda = (Context.e * Context.kappa * Math.cos(Context.pi0 - Context.lambda) - Context.kappa * Math.cos(Math.toRadians(Context.Lsun_true) - Context.lambda)) / Math.cos(Context.beta);
-		double dbeta = -Context.kappa * Math.sin(Context.beta) * (Math.sin(Math.toRadians(Context.Lsun_true) - Context.lambda) - Context.e * Math.sin(Context.pi0 - Context.lambda));
-		Context.lambda += dlambda;
-		Context.beta += dbeta;
+		double dlambda = (ctx.e * ctx.kappa * Math.cos(ctx.pi0 - ctx.lambda) - ctx.kappa * Math.cos(Math.toRadians(ctx.Lsun_true) - ctx.lambda)) / Math.cos(ctx.beta);
+		double dbeta = -ctx.kappa * Math.sin(ctx.beta) * (Math.sin(Math.toRadians(ctx.Lsun_true) - ctx.lambda) - ctx.e * Math.sin(ctx.pi0 - ctx.lambda));
+		ctx.lambda += dlambda;
+		ctx.beta += dbeta;
 
 		//FK5
-		double lambda_prime = Context.lambda - Math.toRadians(1.397) * Context.TE - Math.toRadians(0.00031) * Context.TE2;
-		dlambda = Math.toRadians(-0.09033) / 3600D + Math.toRadians(0.03916) / 3600D * (Math.cos(lambda_prime) + Math.sin(lambda_prime)) * Math.tan(Context.beta);
+		double lambda_prime = ctx.lambda - Math.toRadians(1.397) * ctx.TE - Math.toRadians(0.00031) * ctx.TE2;
+		dlambda = Math.toRadians(-0.09033) / 3600D + Math.toRadians(0.03916) / 3600D * (Math.cos(lambda_prime) + Math.sin(lambda_prime)) * Math.tan(ctx.beta);
 		dbeta = Math.toRadians(0.03916) / 3600D * (Math.cos(lambda_prime) - Math.sin(lambda_prime));
-		Context.lambda += dlambda;
-		Context.beta += dbeta;
+		ctx.lambda += dlambda;
+		ctx.beta += dbeta;
 
 		//Nutation in longitude
-		Context.lambda += Math.toRadians(Context.delta_psi);
+		ctx.lambda += Math.toRadians(ctx.delta_psi);
 
 		//Right ascension, apparent
-		Context.RAjupiter = Math.toDegrees(Utils.trunc2(Math.atan2((Math.sin(Context.lambda) * Utils.cosd(Context.eps) - Math.tan(Context.beta) * Utils.sind(Context.eps)), Math.cos(Context.lambda))));
+		ctx.RAjupiter = Math.toDegrees(Utils.trunc2(Math.atan2((Math.sin(ctx.lambda) * Utils.cosd(ctx.eps) - Math.tan(ctx.beta) * Utils.sind(ctx.eps)), Math.cos(ctx.lambda))));
 
 		//Declination of Jupiter, apparent
-		Context.DECjupiter = Math.toDegrees(Math.asin(Math.sin(Context.beta) * Utils.cosd(Context.eps) + Math.cos(Context.beta) * Utils.sind(Context.eps) * Math.sin(Context.lambda)));
+		ctx.DECjupiter = Math.toDegrees(Math.asin(Math.sin(ctx.beta) * Utils.cosd(ctx.eps) + Math.cos(ctx.beta) * Utils.sind(ctx.eps) * Math.sin(ctx.lambda)));
 
 		//GHA of Jupiter
-		Context.GHAjupiter = Utils.trunc(Context.GHAAtrue - Context.RAjupiter);
+		ctx.GHAjupiter = Utils.trunc(ctx.GHAAtrue - ctx.RAjupiter);
 
 		//Semidiameter of Jupiter (equatorial)
-		Context.SDjupiter = 98.44 / d;
+		ctx.SDjupiter = 98.44 / d;
 
 		//Horizontal parallax of Jupiter
-		Context.HPjupiter = 8.794 / d;
+		ctx.HPjupiter = 8.794 / d;
 
 		//Illumination of the planet's disk
-		double k = 100D * (1 + ((R - Context.Re * Utils.cosd(B) * Utils.cosd(L - Context.Le)) / d)) / 2D;
-		Context.k_jupiter = Math.round(10D * k) / 10D;
+		double k = 100D * (1 + ((R - ctx.Re * Utils.cosd(B) * Utils.cosd(L - ctx.Le)) / d)) / 2D;
+		ctx.k_jupiter = Math.round(10D * k) / 10D;
 
-		double ghaMoon = Context.GHAmoon;
-		double decMoon = Context.DECmoon;
+		double ghaMoon = ctx.GHAmoon;
+		double decMoon = ctx.DECmoon;
 
-		double sinDecPlanet = Math.sin(Math.toRadians(Context.DECjupiter));
-		double cosDecPlanet = Math.cos(Math.toRadians(Context.DECjupiter));
+		double sinDecPlanet = Math.sin(Math.toRadians(ctx.DECjupiter));
+		double cosDecPlanet = Math.cos(Math.toRadians(ctx.DECjupiter));
 		double sinDecMoon = Math.sin(Math.toRadians(decMoon));
 		double cosDecMoon = Math.cos(Math.toRadians(decMoon));
-		double cosDeltaGHA = Math.cos(Math.toRadians(ghaMoon - Context.GHAjupiter));
+		double cosDeltaGHA = Math.cos(Math.toRadians(ghaMoon - ctx.GHAjupiter));
 
 		double geocentricLunarDist = Math.acos((sinDecPlanet * sinDecMoon) + cosDecPlanet * cosDecMoon * cosDeltaGHA);
 		geocentricLunarDist = Math.toDegrees(geocentricLunarDist);
-		Context.moonJupiterDist = geocentricLunarDist;
+		ctx.moonJupiterDist = geocentricLunarDist;
+	}
+
+	/**
+	 * Same as {@link #compute(AstroContext)}, on the global {@link Context}.
+	 */
+	public static void compute() {
+		AstroContext ctx = AstroContext.fromGlobal();
+		compute(ctx);
+		ctx.toGlobal();
 	}
 }
@@ -1,27 +1,27 @@
 package nauticalalmanac;
 
 public class Moon {
-	public static void compute() {
+	public static void compute(AstroContext ctx) {
 		// Mean longitude of the moon
-		double Lmm = Utils.trunc(218.3164591 + 481267.88134236 * Context.TE - 0.0013268 * Context.TE2 + Context.TE3 / 538841 - Context.TE4 / 65194000);
+		double Lmm = Utils.trunc(218.3164591 + 481267.88134236 * ctx.TE - 0.0013268 * ctx.TE2 + ctx.TE3 / 538841 - ctx.TE4 / 65194000);
 
 		//Mean elongation of the moon
-		double D = Utils.trunc(297.8502042 + 445267.1115168 * Context.TE - 0.00163 * Context.TE2 + Context.TE3 / 545868 - Context.TE4 / 113065000);
+		double D = Utils.trunc(297.8502042 + 445267.1115168 * ctx.TE - 0.00163 * ctx.TE2 + ctx.TE3 / 545868 - ctx.TE4 / 113065000);
 
 		// Mean anomaly of the sun
-		double Msm = Utils.trunc(357.5291092 + 35999.0502909 * Context.TE - 0.0001536 * Context.TE2 + Context.TE3 / 24490000);
+		double Msm = Utils.trunc(357.5291092 + 35999.0502909 * ctx.TE - 0.0001536 * ctx.TE2 + ctx.TE3 / 24490000);
 
 		//Mean anomaly of the moon
-		double Mmm = Utils.trunc(134.9634114 + 477198.8676313 * Context.TE + 0.008997 * Context.TE2 + Context.TE3 / 69699 - Context.TE4 / 14712000);
+		double Mmm = Utils.trunc(134.9634114 + 477198.8676313 * ctx.TE + 0.008997 * ctx.TE2 + ctx.TE3 / 69699 - ctx.TE4 / 14712000);
 
 		//Mean distance of the moon from ascending node
-		double F = Utils.trunc(93.2720993 + 483202.0175273 * Context.TE - 0.0034029 * Context.TE2 - Context.TE3 / 3526000 + Context.TE4 / 863310000);
+		double F = Utils.trunc(93.2720993 + 483202.0175273 * ctx.TE - 0.0034029 * ctx.TE2 - ctx.TE3 / 3526000 + ctx.TE4 / 863310000);
 
 		//Corrections
-		double A1 = Utils.trunc(119.75 + 131.849 * Context.TE);
-		double A2 = Utils.trunc(53.09 + 479264.29 * Context.TE);
-		double A3 = Utils.trunc(313.45 + 481266.484 * Context.TE);
-		double fE = 1 - 0.002516 * Context.TE - 0.0000074 * Context.TE2;
+		double A1 = Utils.trunc(119.75 + 131.849 * ctx.TE);
+		double A2 = Utils.trunc(53.09 + 479264.29 * ctx.TE);
+		double A3 = Utils.trunc(313.45 + 481266.484 * ctx.TE);
+		double fE = 1 - 0.002516 * ctx.TE - 0.0000074 * ctx.TE2;
 		double fE2 = fE * fE;
 
 		//Periodic terms for the moon:
@@ -199,37 +199,46 @@ public class Moon {
 		double dEM = 385000.56 + sumR / 1000D;
 
 		//Apparent longitude of the moon
-		Context.lambdaMapp = lambdaMm + Context.delta_psi;
+		ctx.lambdaMapp = lambdaMm + ctx.delta_psi;
 
 		//Right ascension of the moon, apparent
-		Context.RAmoon = Math.toDegrees(Utils.trunc2(Math.atan2((Utils.sind(Context.lambdaMapp) * Utils.cosd(Context.eps) - Utils.tand(betaM) * Utils.sind(Context.eps)), Utils.cosd(Context.lambdaMapp))));
+		ctx.RAmoon = Math.toDegrees(Utils.trunc2(Math.atan2((Utils.sind(ctx.lambdaMapp) * Utils.cosd(ctx.eps) - Utils.tand(betaM) * Utils.sind(ctx.eps)), Utils.cosd(ctx.lambdaMapp))));
 
 		//Declination of the moon
-		Context.DECmoon = Math.toDegrees(Math.asin(Utils.sind(betaM) * Utils.cosd(Context.eps) + Utils.cosd(betaM) * Utils.sind(Context.eps) * Utils.sind(Context.lambdaMapp)));
+		ctx.DECmoon = Math.toDegrees(Math.asin(Utils.sind(betaM) * Utils.cosd(ctx.eps) + Utils.cosd(betaM) * Utils.sind(ctx.eps) * Utils.sind(ctx.lambdaMapp)));
 
 		//GHA of the moon
-		Context.GHAmoon = Utils.trunc(Context.GHAAtrue - Context.RAmoon);
+		ctx.GHAmoon = Utils.trunc(ctx.GHAAtrue - ctx.RAmoon);
 
 		//Horizontal parallax of the moon
-		Context.HPmoon = Math.toDegrees(3600D * Math.asin(6378.14 / dEM));
+		ctx.HPmoon = Math.toDegrees(3600D * Math.asin(6378.14 / dEM));
 
 		//Semidiameter of the moon
-		Context.SDmoon = Math.toDegrees(3600D * Math.asin(1738 / dEM));
+		ctx.SDmoon = Math.toDegrees(3600D * Math.asin(1738 / dEM));
 
 		//Geocentric angular distance between moon and sun
-		Context.LDist = Math.toDegrees(Math.acos(Utils.sind(Context.DECmoon) * Utils.sind(Context.DECsun) + Utils.cosd(Context.DECmoon) * Utils.cosd(Context.DECsun) * Utils.cosd(Context.RAmoon - Context.RAsun)));
+		ctx.LDist = Math.toDegrees(Math.acos(Utils.sind(ctx.DECmoon) * Utils.sind(ctx.DECsun) + Utils.cosd(ctx.DECmoon) * Utils.cosd(ctx.DECsun) * Utils.cosd(ctx.RAmoon - ctx.RAsun)));
 
 		//Phase angle
-		double i = Math.atan2(Context.dES * Utils.sind(Context.LDist), (dEM - Context.dES * Utils.cosd(Context.LDist)));
+		double i = Math.atan2(ctx.dES * Utils.sind(ctx.LDist), (dEM - ctx.dES * Utils.cosd(ctx.LDist)));
 
-		Context.moonPhase = Math.toDegrees(i);
+		ctx.moonPhase = Math.toDegrees(i);
 
 		//Illumination of the moon's disk
 		double k = 100D * (1 + Math.cos(i)) / 2D;
-		Context.k_moon = Math.round(10D * k) / 10D;
+		ctx.k_moon = Math.round(10D * k) / 10D;
+
+		ctx.moonEoT = 4 * ctx.GHAmoon + 720 - 1440 * ctx.dayfraction;
+		if (ctx.moonEoT > 20) ctx.moonEoT -= 1440;
+		if (ctx.moonEoT < -20) ctx.moonEoT += 1440;
+	}
 
-		Context.moonEoT = 4 * Context.GHAmoon + 720 - 1440 * Context.dayfraction;
-		if (Context.moonEoT > 20) Context.moonEoT -= 1440;
-		if (Context.moonEoT < -20) Context.moonEoT += 1440;
+	/**
+	 * Same as {@link #compute(AstroContext)}, on the global {@link Context}.
+	 */
+	public static void compute() {
+		AstroContext ctx = AstroContext.fromGlobal();
+		compute(ctx);
+		ctx.toGlobal();
 	}
 }
@@ -0,0 +1,150 @@
+package nauticalalmanac;
+
+/**
+ * Apparent positions of all the stars of the {@link Star} catalog, for one instant.
+ * <p>
+ * Same reduction as {@link Core#starPos(AstroContext, String)}, but the terms that depend only on the time
+ * (precession, nutation, aberration, Moon) are computed once per instant, and the catalog is read
+ * from columns (one <code>double[]</code> per field), in one pass, without any lookup by name.
+ * </p>
+ * The context is only read, the result goes into a flat array, {@link #STRIDE} values per star,
+ * in the order of {@link Star#getCatalog()}:
+ * <pre>
+ *   double[] stars = StarReduction.reduce(ctx);
+ *   double gha = stars[(i * StarReduction.STRIDE) + StarReduction.GHA];
+ * </pre>
+ * Several instants can then be reduced at the same time, by several threads.
+ */
+public final class StarReduction {
+
+	public final static int GHA = 0;
+	public final static int SHA = 1;
+	public final static int DEC = 2;
+	public final static int MOON_DIST = 3;
+	public final static int STRIDE = 4;
+
+	private final static String[] NAMES;
+	// Time-independent, from the catalog
+	private final static double[] RA0;    // degrees
+	private final static double[] DEC0;   // degrees
+	private final static double[] D_RA;   // degrees per century
+	private final static double[] D_DEC;  // degrees per century
+	private final static double[] PAR;    // degrees
+
+	private final static double SIN_EPS0_2000 = Utils.sind(Context.EPS0_2000);
+	private final static double COS_EPS0_2000 = Utils.cosd(Context.EPS0_2000);
+
+	static {
+		Star[] catalog = Star.getCatalog();
+		int nb = catalog.length;
+		NAMES = new String[nb];
+		RA0 = new double[nb];
+		DEC0 = new double[nb];
+		D_RA = new double[nb];
+		D_DEC = new double[nb];
+		PAR = new double[nb];
+		for (int i = 0; i < nb; i++) {
+			NAMES[i] = catalog[i].getStarName();
+			RA0[i] = 15D * catalog[i].getRa();
+			DEC0[i] = catalog[i].getDec();
+			D_RA[i] = 15D * catalog[i].getDeltaRa() / 3600D;
+			D_DEC[i] = catalog[i].getDeltaDec() / 3600D;
+			PAR[i] = catalog[i].getPar() / 3600D;
+		}
+	}
+
+	private StarReduction() {
+	}
+
+	/**
+	 * @return the number of stars in the catalog.
+	 */
+	public static int size() {
+		return NAMES.length;
+	}
+
+	/**
+	 * @return the name of the star at this index, as in {@link Star#getCatalog()}.
+	 */
+	public static String getName(int index) {
+		return NAMES[index];
+	}
+
+	/**
+	 * @param ctx the instant, with at least julianDate, nutation, aberration, aries, sun and moon computed.
+	 * @return GHA, SHA, declination and lunar distance of all the stars, in degrees. See {@link #STRIDE}.
+	 */
+	public static double[] reduce(AstroContext ctx) {
+		double[] result = new double[NAMES.length * STRIDE];
+		reduce(ctx, result);
+		return result;
+	}
+
+	/**
+	 * @param ctx    the instant, not modified.
+	 * @param result receives the positions, at least {@link #size()} * {@link #STRIDE} long.
+	 */
+	public static void reduce(AstroContext ctx, double[] result) {
+		int nb = NAMES.length;
+		if (result.length < nb * STRIDE) {
+			throw new IllegalArgumentException(String.format("Result too small: %d, expected %d", result.length, nb * STRIDE));
+		}
+		// Precession
+		double eta = Math.toRadians(47.0029 * ctx.TE - 0.03302 * ctx.TE2 + 0.00006 * ctx.TE3) / 3600D;
+		double PI0 = Math.toRadians(174.876384 - (869.8089 * ctx.TE + 0.03536 * ctx.TE2) / 3600D);
+		double p0 = Math.toRadians(5029.0966 * ctx.TE + 1.11113 * ctx.TE2 - 0.0000006 * ctx.TE3) / 3600D;
+		double cosEta = Math.cos(eta);
+		double sinEta = Math.sin(eta);
+		// Parallax, nutation, aberration
+		double lSun = Math.toRadians(ctx.Lsun_true);
+		double deltaPsi = Math.toRadians(ctx.delta_psi);
+		double eKappa = ctx.e * ctx.kappa;
+		// Back to equatorial
+		double sinEps = Utils.sind(ctx.eps);
+		double cosEps = Utils.cosd(ctx.eps);
+		// Lunar distance
+		double sinDecMoon = Utils.sind(ctx.DECmoon);
+		double cosDecMoon = Utils.cosd(ctx.DECmoon);
+
+		for (int i = 0; i < nb; i++) {
+			double RAstar1 = RA0[i] + ctx.TE * D_RA[i];
+			double DECstar1 = DEC0[i] + ctx.TE * D_DEC[i];
+
+			double sinRA1 = Utils.sind(RAstar1);
+			double lambdastar1 = Math.atan2((sinRA1 * COS_EPS0_2000 + Utils.tand(DECstar1) * SIN_EPS0_2000), Utils.cosd(RAstar1));
+			double betastar1 = Math.asin(Utils.sind(DECstar1) * COS_EPS0_2000 - Utils.cosd(DECstar1) * SIN_EPS0_2000 * sinRA1);
+
+			double cosBeta1 = Math.cos(betastar1);
+			double sinBeta1 = Math.sin(betastar1);
+			double sinPI0Lambda = Math.sin(PI0 - lambdastar1);
+			double A1 = cosEta * cosBeta1 * sinPI0Lambda - sinEta * sinBeta1;
+			double B1 = cosBeta1 * Math.cos(PI0 - lambdastar1);
+			double C1 = cosEta * sinBeta1 + sinEta * cosBeta1 * sinPI0Lambda;
+			double lambdastar2 = p0 + PI0 - Math.atan2(A1, B1);
+			double betastar2 = Math.asin(C1);
+
+			double par_lambda = Math.toRadians(PAR[i] * Math.sin(lSun - lambdastar2) / Math.cos(betastar2));
+			double par_beta = -Math.toRadians(PAR[i] * Math.sin(betastar2) * Math.cos(lSun - lambdastar2));
+			lambdastar2 += (par_lambda + deltaPsi);
+			betastar2 += par_beta;
+
+			double cosBeta2 = Math.cos(betastar2);
+			double sinBeta2 = Math.sin(betastar2);
+			double dlambdastar = (eKappa * Math.cos(ctx.pi0 - lambdastar2) - ctx.kappa * Math.cos(lSun - lambdastar2)) / cosBeta2;
+			double dbetastar = -ctx.kappa * sinBeta2 * (Math.sin(lSun - lambdastar2) - ctx.e * Math.sin(ctx.pi0 - lambdastar2));
+			lambdastar2 += dlambdastar;
+			betastar2 += dbetastar;
+
+			double sinLambda2 = Math.sin(lambdastar2);
+			double RAstar2 = Math.atan2((sinLambda2 * cosEps - Math.tan(betastar2) * sinEps), Math.cos(lambdastar2));
+			double DECstar2 = Math.asin(Math.sin(betastar2) * cosEps + Math.cos(betastar2) * sinEps * sinLambda2);
+			double raDeg = Math.toDegrees(RAstar2);
+
+			int offset = i * STRIDE;
+			result[offset + GHA] = Utils.trunc(ctx.GHAAtrue - raDeg);
+			result[offset + SHA] = Utils.trunc(360 - raDeg);
+			result[offset + DEC] = Math.toDegrees(DECstar2);
+			result[offset + MOON_DIST] = Math.toDegrees(Math.acos(sinDecMoon * Math.sin(DECstar2) + cosDecMoon * Math.cos(DECstar2) * Utils.cosd(ctx.RAmoon - raDeg)));
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package nauticalalmanac;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The VSOP87 series of a body (heliocentric longitude L, latitude B, and distance R),
+ * read from the resource <code>vsop87/[body].txt</code>.
+ * <p>
+ * The terms of each power of tau are packed in one array (A, B, C, A, B, C, ...),
+ * evaluated in one loop, the powers are then combined with the Horner scheme.
+ * </p>
+ * The terms whose amplitude (A) is below the precision are dropped. The precision
+ * is given by the system variable <code>vsop87.precision.[body]</code>, or <code>vsop87.precision</code>,
+ * 0 (all the terms) by default. For example <code>-Dvsop87.precision=1e-7</code> keeps less than a quarter
+ * of the terms, for an error below half an arc-second on the longitudes.
+ */
+public final class VSOP87 {
+	public final static int L = 0;
+	public final static int B = 1;
+	public final static int R = 2;
+
+	private final static String COORDINATES = "LBR";
+
+	private final static Map<String, VSOP87> SERIES = new ConcurrentHashMap<>();
+
+	private final String body;
+	private final double precision;
+	private final double[][][] terms; // [coordinate][power of tau] = {A, B, C, A, B, C, ...}
+
+	private VSOP87(String body, double precision, double[][][] terms) {
+		this.body = body;
+		this.precision = precision;
+		this.terms = terms;
+	}
+
+	/**
+	 * @param body earth, venus, mars, jupiter, saturn
+	 * @return the series, with the precision of the system variables.
+	 */
+	public static VSOP87 get(String body) {
+		String precision = System.getProperty("vsop87.precision." + body, System.getProperty("vsop87.precision", "0"));
+		return get(body, Double.parseDouble(precision));
+	}
+
+	/**
+	 * @param body      earth, venus, mars, jupiter, saturn
+	 * @param precision terms with an amplitude below this one are ignored. 0 for all the terms.
+	 * @return the series
+	 */
+	public static VSOP87 get(String body, double precision) {
+		VSOP87 full = SERIES.computeIfAbsent(body + "|0", key -> load(body));
+		if (precision <= 0d) {
+			return full;
+		}
+		return SERIES.computeIfAbsent(body + "|" + precision, key -> full.truncate(precision));
+	}
+
+	public String getBody() {
+		return body;
+	}
+
+	public double getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * @param coordinate L, B or R
+	 * @return the number of terms used for this coordinate.
+	 */
+	public int getNbTerms(int coordinate) {
+		int nb = 0;
+		for (double[] power : terms[coordinate]) {
+			nb += (power.length / 3);
+		}
+		return nb;
+	}
+
+	/**
+	 * @param coordinate L, B or R
+	 * @param tau        Julian millennia since J2000
+	 * @return L or B in radians (L not reduced to [0, 2&pi;[), R in AU.
+	 */
+	public double evaluate(int coordinate, double tau) {
+		double[][] series = terms[coordinate];
+		double value = 0d;
+		for (int power = series.length - 1; power >= 0; power--) {
+			value = (value * tau) + sum(series[power], tau);
+		}
+		return value;
+	}
+
+	private static double sum(double[] terms, double tau) {
+		double sum = 0d;
+		for (int i = 0; i < terms.length; i += 3) {
+			sum += terms[i] * Math.cos(terms[i + 1] + (terms[i + 2] * tau));
+		}
+		return sum;
+	}
+
+	private VSOP87 truncate(double precision) {
+		double[][][] truncated = new double[terms.length][][];
+		for (int coordinate = 0; coordinate < terms.length; coordinate++) {
+			truncated[coordinate] = new double[terms[coordinate].length][];
+			for (int power = 0; power < terms[coordinate].length; power++) {
+				double[] all = terms[coordinate][power];
+				double[] kept = new double[all.length];
+				int nb = 0;
+				for (int i = 0; i < all.length; i += 3) {
+					if (Math.abs(all[i]) >= precision) {
+						System.arraycopy(all, i, kept, nb, 3);
+						nb += 3;
+					}
+				}
+				truncated[coordinate][power] = Arrays.copyOf(kept, nb);
+			}
+		}
+		return new VSOP87(body, precision, truncated);
+	}
+
+	private static VSOP87 load(String body) {
+		String resource = "vsop87/" + body + ".txt";
+		List<List<List<Double>>> read = new ArrayList<>();
+		for (int i = 0; i < COORDINATES.length(); i++) {
+			read.add(new ArrayList<>());
+		}
+		try (InputStream in = VSOP87.class.getResourceAsStream(resource)) {
+			if (in == null) {
+				throw new RuntimeException(String.format("VSOP87 resource [%s] not found", resource));
+			}
+			BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+			String line;
+			while ((line = br.readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				String[] tokens = line.split(" ");
+				List<List<Double>> coordinate = read.get(COORDINATES.indexOf(tokens[0]));
+				int power = Integer.parseInt(tokens[1]);
+				while (coordinate.size() <= power) {
+					coordinate.add(new ArrayList<>());
+				}
+				for (int i = 2; i < 5; i++) {
+					coordinate.get(power).add(Double.parseDouble(tokens[i]));
+				}
+			}
+		} catch (IOException ioe) {
+			throw new RuntimeException(ioe);
+		}
+		double[][][] terms = new double[COORDINATES.length()][][];
+		for (int coordinate = 0; coordinate < terms.length; coordinate++) {
+			List<List<Double>> powers = read.get(coordinate);
+			terms[coordinate] = new double[powers.size()][];
+			for (int power = 0; power < powers.size(); power++) {
+				terms[coordinate][power] = powers.get(power).stream().mapToDouble(Double::doubleValue).toArray();
+			}
+		}
+		return new VSOP87(body, 0d, terms);
+	}
+}
@@ -0,0 +1,305 @@
+package nauticalalmanac.benchmarks;
+
+import calculation.AstroComputer;
+import calculation.ChebyshevEphemeris;
+import calculation.Ephemeris;
+import calculation.SightReduction;
+import calculation.SightReductionUtil;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import implementation.almanac.AlmanacComputer;
+import nauticalalmanac.AstroContext;
+import nauticalalmanac.Core;
+import nauticalalmanac.StarReduction;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the output of the almanac engines with stored reference values.
+ * <p>
+ * The reference (<code>src/jmh/resources/almanac-reference.json</code>) has, for a set of instants,
+ * GHA and Declination of the Sun, Moon, Aries, planets and some stars, rise and set of the Sun and Moon,
+ * and a sight reduction. Each engine is run on the same instants, and its largest difference to the reference
+ * is reported by quantity. The run fails (status 1) when a difference exceeds the tolerance of the engine.
+ * </p>
+ * <pre>
+ *   ../gradlew :RESTNauticalAlmanac:almanacAccuracy
+ *   java nauticalalmanac.benchmarks.AccuracyHarness [reference.json] [--generate]
+ * </pre>
+ * <code>--generate</code> writes the reference from {@link Ephemeris} (stars with {@link Core#starPos(AstroContext, String)})
+ * and {@link SightReductionUtil}. Only do it when a change of the values is intended.
+ */
+public class AccuracyHarness {
+
+	private final static String DEFAULT_REFERENCE = "src/jmh/resources/almanac-reference.json";
+
+	private final static String[] STARS = {"Altair", "Sirius", "Polaris", "Acrux", "Vega", "Achenar"};
+
+	/**
+	 * Degrees. The direct engines should give the same values, to the rounding of the floating point operations.
+	 */
+	private final static double DIRECT_TOLERANCE = 1e-9;
+	/**
+	 * Degrees, 0.01'. Interpolation error of the Chebyshev segments.
+	 */
+	private final static double INTERPOLATED_TOLERANCE = 0.01 / 60d;
+	/**
+	 * Hours, for the rise and set times.
+	 */
+	private final static double TIME_TOLERANCE = 1e-9;
+
+	public static class Reference {
+		String description;
+		double deltaT;
+		double latitude;
+		double longitude;
+		List<At> instants = new ArrayList<>();
+	}
+
+	public static class At {
+		long epoch;
+		String utc;
+		Map<String, Double> values = new TreeMap<>();
+	}
+
+	private final static long[] EPOCHS = {
+			ZonedDateTime.of(2000, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2010, 3, 20, 17, 32, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2017, 6, 15, 12, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2017, 9, 22, 20, 2, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2017, 12, 21, 16, 28, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2018, 7, 27, 20, 21, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2020, 2, 29, 6, 45, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2024, 4, 8, 18, 17, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+			ZonedDateTime.of(2030, 11, 25, 3, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli()
+	};
+
+	public static void main(String... args) throws Exception {
+		String referenceFile = DEFAULT_REFERENCE;
+		boolean generate = false;
+		for (String arg : args) {
+			if ("--generate".equals(arg)) {
+				generate = true;
+			} else {
+				referenceFile = arg;
+			}
+		}
+		Gson gson = new GsonBuilder().setPrettyPrinting().create();
+		if (generate) {
+			Reference reference = generate(68.8033, 37.7489, -122.5070);
+			try (Writer writer = new FileWriter(referenceFile)) {
+				gson.toJson(reference, writer);
+			}
+			System.out.println(String.format("%d instants written to %s", reference.instants.size(), new File(referenceFile).getAbsolutePath()));
+			return;
+		}
+		Reference reference;
+		try (Reader reader = new FileReader(referenceFile)) {
+			reference = gson.fromJson(reader, Reference.class);
+		}
+		AstroComputer.setDeltaT(reference.deltaT);
+		boolean ok = true;
+		ok &= check("AstroComputer (global Context)", reference, DIRECT_TOLERANCE, AccuracyHarness::astroComputer);
+		ok &= check("AlmanacComputer.compute", reference, DIRECT_TOLERANCE, AccuracyHarness::almanacComputer);
+		ok &= check("Ephemeris", reference, DIRECT_TOLERANCE, AccuracyHarness::ephemeris);
+		ok &= check("StarReduction", reference, DIRECT_TOLERANCE, AccuracyHarness::starReduction);
+		ok &= check("SightReduction", reference, DIRECT_TOLERANCE, AccuracyHarness::sightReduction);
+		ChebyshevEphemeris chebyshev = new ChebyshevEphemeris(1_024, null, reference.deltaT);
+		ok &= check("ChebyshevEphemeris", reference, INTERPOLATED_TOLERANCE, (ref, at) -> chebyshev(chebyshev, at));
+		System.out.println(ok ? "All engines within tolerance." : "Some engines are out of tolerance!");
+		if (!ok) {
+			System.exit(1);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Engine {
+		Map<String, Double> compute(Reference reference, At at);
+	}
+
+	private static boolean check(String name, Reference reference, double tolerance, Engine engine) {
+		Map<String, Double> maxErrors = new TreeMap<>();
+		for (At at : reference.instants) {
+			Map<String, Double> computed = engine.compute(reference, at);
+			computed.forEach((key, value) -> {
+				Double expected = at.values.get(key);
+				if (expected == null) {
+					throw new RuntimeException(String.format("%s: no reference for [%s]", name, key));
+				}
+				double error = isTime(key) ? Math.abs(value - expected) : angleDiff(value, expected);
+				maxErrors.merge(key.substring(key.indexOf('.') + 1), error, Math::max); // By quantity, like gha, decl
+			});
+		}
+		boolean ok = true;
+		System.out.println(String.format("-- %s, %d instants", name, reference.instants.size()));
+		for (Map.Entry<String, Double> error : maxErrors.entrySet()) {
+			double limit = isTime(error.getKey()) ? TIME_TOLERANCE : tolerance;
+			boolean within = (error.getValue() <= limit);
+			ok &= within;
+			System.out.println(String.format("   %-12s max error %.3e %s", error.getKey(), error.getValue(), (within ? "" : String.format("> %.1e !", limit))));
+		}
+		return ok;
+	}
+
+	private static boolean isTime(String key) {
+		return key.endsWith("rise") || key.endsWith("set");
+	}
+
+	private static double angleDiff(double a, double b) {
+		double diff = Math.abs(a - b) % 360d;
+		return (diff > 180d ? 360d - diff : diff);
+	}
+
+	private static ZonedDateTime utc(long epoch) {
+		return ZonedDateTime.ofInstant(Instant.ofEpochMilli(epoch), ZoneOffset.UTC);
+	}
+
+	private static Reference generate(double deltaT, double latitude, double longitude) {
+		Reference reference = new Reference();
+		reference.description = "Sun, Moon, Aries, planets (GHA, Decl), stars (GHA, Decl), rise and set (UT, decimal hours), sight reduction of the Sun (He, Z)";
+		reference.deltaT = deltaT;
+		reference.latitude = latitude;
+		reference.longitude = longitude;
+		for (long epoch : EPOCHS) {
+			At at = new At();
+			at.epoch = epoch;
+			at.utc = utc(epoch).toString();
+			Ephemeris eph = Ephemeris.compute(epoch, deltaT, Ephemeris.ALL_BODIES);
+			at.values.putAll(ephemeris(eph)); // Stars with Core.starPos
+			double[] sun = eph.sunRiseAndSet(latitude, longitude);
+			at.values.put("sun.rise", sun[AstroComputer.UTC_RISE_IDX]);
+			at.values.put("sun.set", sun[AstroComputer.UTC_SET_IDX]);
+			double[] moon = eph.moonRiseAndSet(latitude, longitude);
+			at.values.put("moon.rise", moon[AstroComputer.UTC_RISE_IDX]);
+			at.values.put("moon.set", moon[AstroComputer.UTC_SET_IDX]);
+			SightReductionUtil sru = new SightReductionUtil(eph.getSunGHA(), eph.getSunDecl(), latitude, longitude);
+			sru.calculate();
+			at.values.put("sight.he", sru.getHe());
+			at.values.put("sight.z", sru.getZ());
+			reference.instants.add(at);
+		}
+		return reference;
+	}
+
+	private static Map<String, Double> bodies(AstroContext ctx) {
+		Map<String, Double> values = new TreeMap<>();
+		values.put("aries.gha", ctx.GHAAtrue);
+		values.put("sun.gha", ctx.GHAsun);
+		values.put("sun.decl", ctx.DECsun);
+		values.put("moon.gha", ctx.GHAmoon);
+		values.put("moon.decl", ctx.DECmoon);
+		values.put("venus.gha", ctx.GHAvenus);
+		values.put("venus.decl", ctx.DECvenus);
+		values.put("mars.gha", ctx.GHAmars);
+		values.put("mars.decl", ctx.DECmars);
+		values.put("jupiter.gha", ctx.GHAjupiter);
+		values.put("jupiter.decl", ctx.DECjupiter);
+		values.put("saturn.gha", ctx.GHAsaturn);
+		values.put("saturn.decl", ctx.DECsaturn);
+		return values;
+	}
+
+	private static Map<String, Double> astroComputer(Reference reference, At at) {
+		ZonedDateTime utc = utc(at.epoch);
+		AstroComputer.calculate(utc.getYear(), utc.getMonthValue(), utc.getDayOfMonth(), utc.getHour(), utc.getMinute(), utc.getSecond());
+		Map<String, Double> values = new TreeMap<>();
+		values.put("aries.gha", AstroComputer.getAriesGHA());
+		values.put("sun.gha", AstroComputer.getSunGHA());
+		values.put("sun.decl", AstroComputer.getSunDecl());
+		values.put("moon.gha", AstroComputer.getMoonGHA());
+		values.put("moon.decl", AstroComputer.getMoonDecl());
+		values.put("venus.gha", AstroComputer.getVenusGHA());
+		values.put("venus.decl", AstroComputer.getVenusDecl());
+		values.put("mars.gha", AstroComputer.getMarsGHA());
+		values.put("mars.decl", AstroComputer.getMarsDecl());
+		values.put("jupiter.gha", AstroComputer.getJupiterGHA());
+		values.put("jupiter.decl", AstroComputer.getJupiterDecl());
+		values.put("saturn.gha", AstroComputer.getSaturnGHA());
+		values.put("saturn.decl", AstroComputer.getSaturnDecl());
+		double[] sun = AstroComputer.sunRiseAndSet(reference.latitude, reference.longitude);
+		values.put("sun.rise", sun[AstroComputer.UTC_RISE_IDX]);
+		values.put("sun.set", sun[AstroComputer.UTC_SET_IDX]);
+		double[] moon = AstroComputer.moonRiseAndSet(reference.latitude, reference.longitude);
+		values.put("moon.rise", moon[AstroComputer.UTC_RISE_IDX]);
+		values.put("moon.set", moon[AstroComputer.UTC_SET_IDX]);
+		return values;
+	}
+
+	private static Map<String, Double> almanacComputer(Reference reference, At at) {
+		ZonedDateTime utc = utc(at.epoch);
+		return bodies(AlmanacComputer.compute(utc.getYear(), utc.getMonthValue(), utc.getDayOfMonth(), utc.getHour(), utc.getMinute(), utc.getSecond(), reference.deltaT));
+	}
+
+	private static Map<String, Double> ephemeris(Reference reference, At at) {
+		return ephemeris(Ephemeris.compute(at.epoch, reference.deltaT, Ephemeris.ALL_BODIES));
+	}
+
+	private static Map<String, Double> ephemeris(Ephemeris eph) {
+		Map<String, Double> values = new TreeMap<>();
+		values.put("aries.gha", eph.getAriesGHA());
+		values.put("sun.gha", eph.getSunGHA());
+		values.put("sun.decl", eph.getSunDecl());
+		values.put("moon.gha", eph.getMoonGHA());
+		values.put("moon.decl", eph.getMoonDecl());
+		values.put("venus.gha", eph.getVenusGHA());
+		values.put("venus.decl", eph.getVenusDecl());
+		values.put("mars.gha", eph.getMarsGHA());
+		values.put("mars.decl", eph.getMarsDecl());
+		values.put("jupiter.gha", eph.getJupiterGHA());
+		values.put("jupiter.decl", eph.getJupiterDecl());
+		values.put("saturn.gha", eph.getSaturnGHA());
+		values.put("saturn.decl", eph.getSaturnDecl());
+		for (String star : STARS) {
+			double[] position = eph.getStarPosition(star);
+			values.put(String.format("star-%s.gha", star), position[Ephemeris.GHA_STAR_IDX]);
+			values.put(String.format("star-%s.decl", star), position[Ephemeris.DEC_STAR_IDX]);
+		}
+		return values;
+	}
+
+	private static Map<String, Double> starReduction(Reference reference, At at) {
+		double[] stars = Ephemeris.compute(at.epoch, reference.deltaT, Ephemeris.SUN_AND_MOON).getStarPositions();
+		Map<String, Double> values = new TreeMap<>();
+		for (int i = 0; i < StarReduction.size(); i++) {
+			for (String star : STARS) {
+				if (star.equals(StarReduction.getName(i))) {
+					values.put(String.format("star-%s.gha", star), stars[(i * StarReduction.STRIDE) + StarReduction.GHA]);
+					values.put(String.format("star-%s.decl", star), stars[(i * StarReduction.STRIDE) + StarReduction.DEC]);
+				}
+			}
+		}
+		return values;
+	}
+
+	private static Map<String, Double> sightReduction(Reference reference, At at) {
+		double[] heAndZ = new double[2];
+		SightReduction.reduce(at.values.get("sun.gha"), at.values.get("sun.decl"), reference.latitude, reference.longitude, heAndZ, 0);
+		Map<String, Double> values = new TreeMap<>();
+		values.put("sight.he", heAndZ[SightReduction.HE_IDX]);
+		values.put("sight.z", heAndZ[SightReduction.Z_IDX]);
+		return values;
+	}
+
+	private static Map<String, Double> chebyshev(ChebyshevEphemeris chebyshev, At at) {
+		Map<String, Double> values = new TreeMap<>();
+		values.put("aries.gha", chebyshev.getAriesGHA(at.epoch));
+		for (Ephemeris.Body body : Ephemeris.Body.values()) {
+			String name = body.toString().toLowerCase();
+			values.put(name + ".gha", chebyshev.getGHA(body, at.epoch));
+			values.put(name + ".decl", chebyshev.getDecl(body, at.epoch));
+		}
+		return values;
+	}
+}
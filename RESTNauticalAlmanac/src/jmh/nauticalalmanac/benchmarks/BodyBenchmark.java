@@ -0,0 +1,144 @@
+package nauticalalmanac.benchmarks;
+
+import calculation.SightReduction;
+import calculation.SightReductionUtil;
+import implementation.almanac.AlmanacComputer;
+import nauticalalmanac.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One body at a time, on a context where the time terms (julian date, nutation, aberration, Aries) are already computed.
+ * <p>
+ * The Moon and the planets also need the Sun, computed in the setup as well.
+ * Each benchmark computes again in the same context, the way the full instant does.
+ * </p>
+ * Run with <code>../gradlew :RESTNauticalAlmanac:jmh -Pjmh.include=BodyBenchmark</code>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BodyBenchmark {
+
+	private final static double LATITUDE = 37.7489;
+	private final static double LONGITUDE = -122.5070;
+
+	private AstroContext ctx;
+	private double[] stars;
+	private double[] heAndZ;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ctx = AlmanacComputer.compute(2017, 6, 15, 12, 0, 0f, 68.8033);
+		stars = new double[StarReduction.size() * StarReduction.STRIDE];
+		heAndZ = new double[2];
+	}
+
+	@Benchmark
+	public double julianDateNutationAberration() {
+		Core.julianDate(ctx, 2017, 6, 15, 12, 0, 0f, 68.8033);
+		Anomalies.nutation(ctx);
+		Anomalies.aberration(ctx);
+		return ctx.eps;
+	}
+
+	@Benchmark
+	public double sun() {
+		Core.sun(ctx);
+		return ctx.GHAsun;
+	}
+
+	@Benchmark
+	public double moon() {
+		Moon.compute(ctx);
+		return ctx.GHAmoon;
+	}
+
+	@Benchmark
+	public double venus() {
+		Venus.compute(ctx);
+		return ctx.GHAvenus;
+	}
+
+	@Benchmark
+	public double mars() {
+		Mars.compute(ctx);
+		return ctx.GHAmars;
+	}
+
+	@Benchmark
+	public double jupiter() {
+		Jupiter.compute(ctx);
+		return ctx.GHAjupiter;
+	}
+
+	@Benchmark
+	public double saturn() {
+		Saturn.compute(ctx);
+		return ctx.GHAsaturn;
+	}
+
+	@Benchmark
+	public double polaris() {
+		Core.polaris(ctx);
+		return ctx.GHApol;
+	}
+
+	/**
+	 * One star, looked up by name.
+	 */
+	@Benchmark
+	public double starPos() {
+		Core.starPos(ctx, "Altair");
+		return ctx.GHAstar;
+	}
+
+	/**
+	 * All the stars of the catalog, one by one.
+	 */
+	@Benchmark
+	public double starPosAllCatalog() {
+		double sum = 0d;
+		for (int i = 0; i < StarReduction.size(); i++) {
+			Core.starPos(ctx, StarReduction.getName(i));
+			sum += ctx.GHAstar;
+		}
+		return sum;
+	}
+
+	/**
+	 * All the stars of the catalog, at once.
+	 */
+	@Benchmark
+	public double[] starReduction() {
+		StarReduction.reduce(ctx, stars);
+		return stars;
+	}
+
+	@Benchmark
+	public double[] sunRiseAndSet() {
+		return AlmanacComputer.sunRiseAndSet(ctx, LATITUDE, LONGITUDE);
+	}
+
+	@Benchmark
+	public double[] moonRiseAndSet() {
+		return AlmanacComputer.moonRiseAndSet(ctx, LATITUDE, LONGITUDE);
+	}
+
+	@Benchmark
+	public Double sightReductionUtil() {
+		SightReductionUtil sru = new SightReductionUtil(ctx.GHAsun, ctx.DECsun, LATITUDE, LONGITUDE);
+		sru.calculate();
+		return sru.getZ();
+	}
+
+	@Benchmark
+	public double[] sightReduction() {
+		SightReduction.reduce(ctx.GHAsun, ctx.DECsun, LATITUDE, LONGITUDE, heAndZ, 0);
+		return heAndZ;
+	}
+}
@@ -0,0 +1,79 @@
+package nauticalalmanac.benchmarks;
+
+import calculation.AstroComputer;
+import calculation.Ephemeris;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Several threads computing instants at the same time.
+ * <p>
+ * {@link AstroComputer} is static and synchronized: its throughput does not grow with the threads,
+ * when the one of {@link Ephemeris} (one context per instant) does, up to the number of cores.
+ * Compare with the same benchmarks on 1 thread (<code>-Pjmh.include=ContentionBenchmark.*1Thread</code>).
+ * </p>
+ * Run with <code>../gradlew :RESTNauticalAlmanac:jmh -Pjmh.include=ContentionBenchmark</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+	private final AtomicInteger minute = new AtomicInteger(0);
+
+	private int nextMinute() {
+		return minute.getAndIncrement() % (24 * 60);
+	}
+
+	private double astroComputer() {
+		int m = nextMinute();
+		AstroComputer.calculate(2017, 6, 15, m / 60, m % 60, 0);
+		return AstroComputer.getSunGHA();
+	}
+
+	private double ephemeris() {
+		int m = nextMinute();
+		return Ephemeris.compute(2017, 6, 15, m / 60, m % 60, 0, 68.8033, Ephemeris.ALL_BODIES).getSunGHA();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public double astroComputer1Thread() {
+		return astroComputer();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public double astroComputer4Threads() {
+		return astroComputer();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public double astroComputer8Threads() {
+		return astroComputer();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public double ephemeris1Thread() {
+		return ephemeris();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public double ephemeris4Threads() {
+		return ephemeris();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public double ephemeris8Threads() {
+		return ephemeris();
+	}
+}
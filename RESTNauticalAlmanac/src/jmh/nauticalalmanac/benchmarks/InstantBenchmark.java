@@ -0,0 +1,101 @@
+package nauticalalmanac.benchmarks;
+
+import calculation.AstroComputer;
+import calculation.ChebyshevEphemeris;
+import calculation.Ephemeris;
+import implementation.almanac.AlmanacComputer;
+import nauticalalmanac.AstroContext;
+import nauticalalmanac.Context;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * All the bodies for one instant, with each engine:
+ * <ul>
+ *     <li>{@link AstroComputer}, static and synchronized, on the global {@link Context}</li>
+ *     <li>{@link AlmanacComputer}, the publication path, on the global {@link Context}, and in its own {@link AstroContext}</li>
+ *     <li>{@link Ephemeris}, all the bodies, or only the Sun</li>
+ *     <li>{@link ChebyshevEphemeris}, interpolated, once its segments are computed</li>
+ * </ul>
+ * The minute changes at each invocation, so nothing can be reused from the previous one.
+ * <br>
+ * Run with <code>../gradlew :RESTNauticalAlmanac:jmh -Pjmh.include=InstantBenchmark</code>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstantBenchmark {
+
+	private final static long JUNE_15_2017 = 1_497_484_800_000L; // 2017-06-15T00:00:00Z
+
+	private ChebyshevEphemeris chebyshev;
+	private int minute = 0;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		chebyshev = new ChebyshevEphemeris(1_024, null);
+		for (Ephemeris.Body body : Ephemeris.Body.values()) { // Segments of the day, computed once
+			for (int m = 0; m < 24 * 60; m += 60) {
+				chebyshev.getGHAAndDecl(body, JUNE_15_2017 + (m * 60_000L));
+			}
+		}
+	}
+
+	private int nextMinute() {
+		minute = (minute + 1) % (24 * 60);
+		return minute;
+	}
+
+	@Benchmark
+	public double astroComputer() {
+		int m = nextMinute();
+		AstroComputer.calculate(2017, 6, 15, m / 60, m % 60, 0);
+		return AstroComputer.getSunGHA();
+	}
+
+	@Benchmark
+	public double astroComputerSunOnly() {
+		int m = nextMinute();
+		AstroComputer.calculate(2017, 6, 15, m / 60, m % 60, 0, Ephemeris.SUN_ONLY);
+		return AstroComputer.getSunGHA();
+	}
+
+	@Benchmark
+	public double almanacComputerGlobal() {
+		int m = nextMinute();
+		AlmanacComputer.calculate(2017, 6, 15, m / 60, m % 60, 0f, 68.8033);
+		return Context.GHAsun;
+	}
+
+	@Benchmark
+	public AstroContext almanacComputerContext() {
+		int m = nextMinute();
+		return AlmanacComputer.compute(2017, 6, 15, m / 60, m % 60, 0f, 68.8033);
+	}
+
+	@Benchmark
+	public Ephemeris ephemeris() {
+		int m = nextMinute();
+		return Ephemeris.compute(2017, 6, 15, m / 60, m % 60, 0, 68.8033, Ephemeris.ALL_BODIES);
+	}
+
+	@Benchmark
+	public Ephemeris ephemerisSunOnly() {
+		int m = nextMinute();
+		return Ephemeris.compute(2017, 6, 15, m / 60, m % 60, 0, 68.8033, Ephemeris.SUN_ONLY);
+	}
+
+	@Benchmark
+	public double chebyshevAllBodies() {
+		long epoch = JUNE_15_2017 + (nextMinute() * 60_000L);
+		double sum = chebyshev.getAriesGHA(epoch);
+		for (Ephemeris.Body body : Ephemeris.Body.values()) {
+			sum += chebyshev.getGHA(body, epoch) + chebyshev.getDecl(body, epoch);
+		}
+		return sum;
+	}
+}
@@ -9,8 +9,13 @@ import orientation.SunFlower;
 import orientation.SunFlowerRequestManager;
 import tiderest.TideRequestManager;
 
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Properties;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +27,8 @@ import java.util.stream.Collectors;
  */
 public class NavServer {
 
+	private final static boolean startupReport = "true".equals(System.getProperty("startup.report", "false"));
+
 	private HTTPServer httpServer = null;
 	private int httpPort = 9999;
 
@@ -37,20 +44,88 @@ public class NavServer {
 		}
 
 		System.out.println(String.format("Running on port %d", httpPort));
-		this.httpServer = startHttpServer(httpPort, new NavRequestManager(this));
+		NavRequestManager navRequestManager = timed(NavRequestManager.class, () -> new NavRequestManager(this));
+		this.httpServer = timed(HTTPServer.class, () -> startHttpServer(httpPort, navRequestManager));
 		// Add astronomical features...
-		this.httpServer.addRequestManager(new AstroRequestManager());
+		this.httpServer.addRequestManager(timed(AstroRequestManager.class, AstroRequestManager::new));
 		// Add tide features...
-		this.httpServer.addRequestManager(new TideRequestManager());
+		this.httpServer.addRequestManager(timed(TideRequestManager.class, TideRequestManager::new));
 		// Add Nav features: Dead Reckoning, logging, re-broadcasting, from the NMEA Multiplexer
-		Properties definitions = GenericNMEAMultiplexer.getDefinitions();
-		this.httpServer.addRequestManager(new GenericNMEAMultiplexer(definitions)); // refers to nmea.mux.properties, unless -Dmux.properties is set
+		this.httpServer.addRequestManager(timed(GenericNMEAMultiplexer.class, () -> {
+			Properties definitions = GenericNMEAMultiplexer.getDefinitions();
+			return new GenericNMEAMultiplexer(definitions); // refers to nmea.mux.properties, unless -Dmux.properties is set
+		}));
 		// Add image processing service...
-		this.httpServer.addRequestManager(new ImgRequestManager());
+		this.httpServer.addRequestManager(timed(ImgRequestManager.class, ImgRequestManager::new));
 		// Add GRIB features
-		this.httpServer.addRequestManager(new GRIBRequestManager());
+		this.httpServer.addRequestManager(timed(GRIBRequestManager.class, GRIBRequestManager::new));
 		// Add SunFlower, for sun data
-		this.httpServer.addRequestManager(new SunFlowerRequestManager());
+		this.httpServer.addRequestManager(timed(SunFlowerRequestManager.class, SunFlowerRequestManager::new));
+
+		if (startupReport) {
+			printStartupReport();
+		}
+	}
+
+	/**
+	 * What a request manager (or the server) has cost at startup.
+	 */
+	private static class StartupCost {
+		final String name;
+		final long staticInit;   // ns, static initialization of the manager class
+		final long construction; // ns, constructor, including the classes it loads and initializes
+		final long loadedClasses;
+
+		StartupCost(String name, long staticInit, long construction, long loadedClasses) {
+			this.name = name;
+			this.staticInit = staticInit;
+			this.construction = construction;
+			this.loadedClasses = loadedClasses;
+		}
+
+		long total() {
+			return staticInit + construction;
+		}
+	}
+
+	private final List<StartupCost> startupCosts = new ArrayList<>();
+
+	/**
+	 * Initializes the class of a request manager (or the server), then builds it, and records the time both took.
+	 */
+	private <T> T timed(Class<T> managerClass, Supplier<T> constructor) {
+		ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+		long classesBefore = classLoading.getTotalLoadedClassCount();
+		long before = System.nanoTime();
+		try {
+			Class.forName(managerClass.getName(), true, managerClass.getClassLoader()); // Static initialization only
+		} catch (ClassNotFoundException cnfe) { // The class is here, we have its Class
+			throw new RuntimeException(cnfe);
+		}
+		long initialized = System.nanoTime();
+		T manager = constructor.get();
+		startupCosts.add(new StartupCost(managerClass.getSimpleName(),
+				initialized - before,
+				System.nanoTime() - initialized,
+				classLoading.getTotalLoadedClassCount() - classesBefore));
+		return manager;
+	}
+
+	/**
+	 * With -Dstartup.report=true, the request managers, the most expensive first.
+	 */
+	private void printStartupReport() {
+		List<StartupCost> sorted = new ArrayList<>(startupCosts);
+		sorted.sort(Comparator.comparingLong(StartupCost::total).reversed());
+		long total = 0L;
+		System.out.println("Startup report, most expensive first:");
+		System.out.println(String.format("  %-26s %12s %14s %10s %8s", "", "static init", "construction", "total", "classes"));
+		for (StartupCost cost : sorted) {
+			System.out.println(String.format("  %-26s %9.1f ms %11.1f ms %7.1f ms %,8d",
+					cost.name, cost.staticInit / 1E6, cost.construction / 1E6, cost.total() / 1E6, cost.loadedClasses));
+			total += cost.total();
+		}
+		System.out.println(String.format("  Total %.1f ms, JVM up for %,d ms", total / 1E6, ManagementFactory.getRuntimeMXBean().getUptime()));
 	}
 
 	protected List<HTTPServer.Operation> getAllOperationList() {
@@ -0,0 +1,398 @@
+package contouring;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import poc.data.GribDataset;
+import poc.data.GribDate;
+import poc.data.GribField;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Contour lines of the fields of a {@link GribDataset}, for each of its dates.
+ * <p>
+ * Besides the GRIB types, two parameters are derived: <code>prmsl</code> is contoured in hPa (isobars, every 4 hPa by default),
+ * <code>wind</code> is the wind speed in knots, from <code>ugrd</code> and <code>vgrd</code> (isotachs, every 5 knots by default).
+ * Other types are contoured in their unit, 10 levels between their min and max by default.
+ * </p>
+ * <p>
+ * The dates are contoured in parallel (<code>-Dcontour.parallelism</code>, default the number of processors).
+ * The lines are kept with the dataset they come from, until it is garbage collected, they are simplified (zoom level) on output.
+ * </p>
+ */
+public class ContourService {
+
+	private final static int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+	private final static double MS_TO_KNOTS = 3_600d / 1_852d;
+	private final static int DEFAULT_LEVEL_COUNT = 10;
+	private final static int MAX_LEVELS = 500;
+
+	public final static String PRMSL = "prmsl";
+	public final static String WIND = "wind";
+
+	private static ForkJoinPool pool = null;
+
+	private static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			int parallelism = DEFAULT_PARALLELISM;
+			try {
+				parallelism = Integer.parseInt(System.getProperty("contour.parallelism", String.valueOf(DEFAULT_PARALLELISM)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			pool = new ForkJoinPool(Math.max(1, parallelism));
+		}
+		return pool;
+	}
+
+	/**
+	 * The lines already computed, for each dataset, for each {@link Spec#key()}.
+	 */
+	private final static Map<GribDataset, Map<String, Map<GribDate, List<Isoline>>>> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * What to contour, and how.
+	 */
+	public static class Spec {
+		private final String parameter;
+		private List<Double> levels = null;
+		private Double interval = null;
+		private int smoothing = 0;
+
+		/**
+		 * @param parameter prmsl, wind, or a GRIB type, case insensitive
+		 */
+		public Spec(String parameter) {
+			this.parameter = parameter.toLowerCase(Locale.ROOT);
+		}
+
+		/**
+		 * @param levels the values of the lines, in the unit of the parameter
+		 */
+		public Spec levels(List<Double> levels) {
+			if (levels.isEmpty() || levels.size() > MAX_LEVELS) {
+				throw new IllegalArgumentException(String.format("Between 1 and %d levels: %d", MAX_LEVELS, levels.size()));
+			}
+			this.levels = new ArrayList<>(levels);
+			return this;
+		}
+
+		/**
+		 * @param interval between two lines, the lines being on the multiples of it
+		 */
+		public Spec interval(double interval) {
+			if (interval <= 0d) {
+				throw new IllegalArgumentException(String.format("Interval MUST be positive: %f", interval));
+			}
+			this.interval = interval;
+			return this;
+		}
+
+		/**
+		 * @param iterations of Chaikin's smoothing, 0 to 3
+		 */
+		public Spec smoothing(int iterations) {
+			if (iterations < 0 || iterations > 3) {
+				throw new IllegalArgumentException(String.format("Smoothing MUST be in [0, 3]: %d", iterations));
+			}
+			this.smoothing = iterations;
+			return this;
+		}
+
+		public String getParameter() {
+			return parameter;
+		}
+
+		String key() {
+			return String.format("%s|%s|%s|%d", parameter, levels, interval, smoothing);
+		}
+
+		double[] levelsFor(float min, float max) {
+			if (levels != null) {
+				return levels.stream().mapToDouble(Double::doubleValue).toArray();
+			}
+			double step;
+			if (interval != null) {
+				step = interval;
+			} else if (PRMSL.equals(parameter)) {
+				step = 4d;
+			} else if (WIND.equals(parameter)) {
+				step = 5d;
+			} else {
+				step = (max - min) / (DEFAULT_LEVEL_COUNT + 1);
+			}
+			if (step <= 0d) { // Constant field
+				return new double[0];
+			}
+			List<Double> values = new ArrayList<>();
+			for (double level = Math.ceil(min / step) * step; level <= max && values.size() < MAX_LEVELS; level += step) {
+				values.add(level);
+			}
+			return values.stream().mapToDouble(Double::doubleValue).toArray();
+		}
+	}
+
+	/**
+	 * @param dataset the decoded GRIB
+	 * @param spec    what to contour
+	 * @return the lines (longitude, latitude) of each date having the parameter
+	 */
+	public static Map<GribDate, List<Isoline>> contour(GribDataset dataset, Spec spec) {
+		Map<String, Map<GribDate, List<Isoline>>> forDataset = CACHE.computeIfAbsent(dataset, ds -> new HashMap<>());
+		synchronized (forDataset) {
+			Map<GribDate, List<Isoline>> lines = forDataset.get(spec.key());
+			if (lines != null) {
+				return lines;
+			}
+		}
+		List<GribDate> dates = new ArrayList<>();
+		List<Callable<List<Isoline>>> tasks = new ArrayList<>();
+		for (GribDate date : dataset.getDates()) {
+			GribField field = getField(dataset, date, spec.getParameter());
+			if (field != null) {
+				dates.add(date);
+				tasks.add(() -> contour(field, spec));
+			}
+		}
+		Map<GribDate, List<Isoline>> lines = new LinkedHashMap<>();
+		List<Future<List<Isoline>>> results = getPool().invokeAll(tasks);
+		for (int i = 0; i < results.size(); i++) {
+			try {
+				lines.put(dates.get(i), results.get(i).get());
+			} catch (InterruptedException | ExecutionException ex) {
+				throw new RuntimeException(String.format("Contouring %s at %s", spec.getParameter(), dates.get(i)), ex);
+			}
+		}
+		lines = Collections.unmodifiableMap(lines);
+		synchronized (forDataset) {
+			forDataset.put(spec.key(), lines);
+		}
+		return lines;
+	}
+
+	/**
+	 * @return the field to contour, derived from the GRIB fields for prmsl and wind. null if not in the dataset.
+	 */
+	private static GribField getField(GribDataset dataset, GribDate date, String parameter) {
+		if (WIND.equals(parameter)) {
+			GribField u = dataset.getField(date, "ugrd");
+			GribField v = dataset.getField(date, "vgrd");
+			if (u == null || v == null || u.getWidth() != v.getWidth() || u.getHeight() != v.getHeight()) {
+				return null;
+			}
+			float[] speed = new float[u.getWidth() * u.getHeight()];
+			float[] uRow = new float[u.getWidth()];
+			float[] vRow = new float[u.getWidth()];
+			for (int row = 0; row < u.getHeight(); row++) {
+				u.copyRow(row, uRow);
+				v.copyRow(row, vRow);
+				for (int col = 0; col < uRow.length; col++) {
+					speed[(row * uRow.length) + col] = (float) (Math.sqrt((uRow[col] * uRow[col]) + (vRow[col] * vRow[col])) * MS_TO_KNOTS);
+				}
+			}
+			return new GribField(u.getType(), u.getGrid(), speed);
+		}
+		GribField field = dataset.getField(date, parameter);
+		if (field != null && PRMSL.equals(parameter)) { // Pa to hPa
+			float[] hPa = new float[field.getWidth() * field.getHeight()];
+			field.getData().get(hPa);
+			for (int i = 0; i < hPa.length; i++) {
+				hPa[i] /= 100f;
+			}
+			return new GribField(field.getType(), field.getGrid(), hPa);
+		}
+		return field;
+	}
+
+	/**
+	 * All the levels of one field, in longitude and latitude.
+	 */
+	static List<Isoline> contour(GribField field, Spec spec) {
+		GribDate grid = field.getGrid();
+		float[] values = new float[field.getWidth() * field.getHeight()];
+		field.getData().get(values);
+		float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+		for (float value : values) {
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		boolean aroundTheWorld = (grid.getWidth() * grid.getStepx()) >= 360d;
+		MarchingSquares marchingSquares = new MarchingSquares(values, grid.getWidth(), grid.getHeight(), aroundTheWorld);
+		List<Isoline> lines = new ArrayList<>();
+		for (double level : spec.levelsFor(min, max)) {
+			for (Isoline line : marchingSquares.contour(level)) {
+				for (Isoline lngLat : toLngLat(line, grid)) {
+					lines.add(Simplifier.smooth(lngLat, spec.smoothing));
+				}
+			}
+		}
+		return lines;
+	}
+
+	/**
+	 * From grid coordinates to longitude and latitude.
+	 * The grid is the one of a {@link GribField}: row 0 at the South, column 0 at <code>left</code>, positive steps,
+	 * whatever the scanning mode of the GRIB (see <code>poc.GRIBDump</code>).
+	 * Along a line, a longitude is never more than 180 degrees away from the previous one, even across the 180th meridian.
+	 * A closed line going around the world (like a band of latitudes) does not come back to its first longitude, but 360 degrees away:
+	 * it becomes an open line, back to its first point, split on the 180th meridian.
+	 *
+	 * @return the line, or its parts
+	 */
+	private static List<Isoline> toLngLat(Isoline line, GribDate grid) {
+		double[] points = line.getPoints();
+		for (int i = 0; i < points.length; i += 2) {
+			double lng = grid.getLeft() + (points[i] * grid.getStepx());
+			if (i == 0) {
+				lng = normalize180(lng);
+			} else {
+				double previous = points[i - 2];
+				while (lng - previous > 180d) {
+					lng -= 360d;
+				}
+				while (lng - previous < -180d) {
+					lng += 360d;
+				}
+			}
+			points[i] = lng;
+			points[i + 1] = grid.getBottom() + (points[i + 1] * grid.getStepy());
+		}
+		if (line.isClosed() && points.length > 0) {
+			double last = points[points.length - 2];
+			double closing = points[0];
+			while (closing - last > 180d) {
+				closing -= 360d;
+			}
+			while (closing - last < -180d) {
+				closing += 360d;
+			}
+			if (closing != points[0]) { // Around the world
+				double[] open = Arrays.copyOf(points, points.length + 2);
+				open[points.length] = closing;
+				open[points.length + 1] = points[1];
+				return splitAt180(line.getLevel(), open);
+			}
+		}
+		return Collections.singletonList(new Isoline(line.getLevel(), line.isClosed(), points));
+	}
+
+	/**
+	 * @param points of an open line, a longitude never more than 180 degrees away from the previous one
+	 * @return the parts of the line, their longitudes in [-180, 180]
+	 */
+	private static List<Isoline> splitAt180(double level, double[] points) {
+		List<Isoline> parts = new ArrayList<>();
+		double[] part = new double[points.length + 4];
+		int nb = 0;
+		long band = Math.round(Math.floor((points[0] + 180d) / 360d)); // [-180, 180[ is band 0
+		for (int i = 0; i < points.length; i += 2) {
+			long pointBand = Math.round(Math.floor((points[i] + 180d) / 360d));
+			if (pointBand != band) { // Across the 180th meridian, at most one band away
+				double meridian = -180d + (360d * Math.max(band, pointBand));
+				double ratio = (meridian - points[i - 2]) / (points[i] - points[i - 2]);
+				double lat = points[i - 1] + (ratio * (points[i + 1] - points[i - 1]));
+				part[nb++] = meridian - (360d * band);
+				part[nb++] = lat;
+				if (nb >= 4) {
+					parts.add(new Isoline(level, false, Arrays.copyOf(part, nb)));
+				}
+				nb = 0;
+				band = pointBand;
+				part[nb++] = meridian - (360d * band);
+				part[nb++] = lat;
+			}
+			part[nb++] = points[i] - (360d * band);
+			part[nb++] = points[i + 1];
+		}
+		if (nb >= 4) {
+			parts.add(new Isoline(level, false, Arrays.copyOf(part, nb)));
+		}
+		return parts;
+	}
+
+	private static double normalize180(double lng) {
+		double l = lng % 360d;
+		if (l > 180d) {
+			l -= 360d;
+		} else if (l < -180d) {
+			l += 360d;
+		}
+		return l;
+	}
+
+	/**
+	 * @param zoom   the zoom level of the (256 pixel tiles) map
+	 * @param pixels the tolerance on the map
+	 * @return the Douglas-Peucker tolerance, in degrees
+	 */
+	public static double tolerance(int zoom, double pixels) {
+		return pixels * 360d / (256d * Math.pow(2d, zoom));
+	}
+
+	/**
+	 * A GeoJSON FeatureCollection, one LineString per line, its properties being the parameter, the level and the epoch of its date.
+	 * A closed line repeats its first point.
+	 *
+	 * @param parameter the contoured parameter
+	 * @param lines     the lines of each date
+	 * @param tolerance of the simplification, in degrees, 0 for none
+	 * @return the collection
+	 */
+	public static JsonObject toGeoJson(String parameter, Map<GribDate, List<Isoline>> lines, double tolerance) {
+		JsonArray features = new JsonArray();
+		lines.forEach((date, isolines) -> {
+			for (Isoline line : isolines) {
+				Isoline simplified = Simplifier.simplify(line, tolerance);
+				JsonArray coordinates = new JsonArray();
+				int nb = simplified.getPointCount();
+				for (int i = 0; i <= nb; i++) {
+					if (i == nb && !simplified.isClosed()) {
+						break;
+					}
+					JsonArray point = new JsonArray();
+					point.add(round(simplified.getX(i % nb)));
+					point.add(round(simplified.getY(i % nb)));
+					coordinates.add(point);
+				}
+				if (coordinates.size() < 2) {
+					continue;
+				}
+				JsonObject geometry = new JsonObject();
+				geometry.addProperty("type", "LineString");
+				geometry.add("coordinates", coordinates);
+				JsonObject properties = new JsonObject();
+				properties.addProperty("parameter", parameter);
+				properties.addProperty("level", line.getLevel());
+				properties.addProperty("epoch", date.getTime());
+				JsonObject feature = new JsonObject();
+				feature.addProperty("type", "Feature");
+				feature.add("geometry", geometry);
+				feature.add("properties", properties);
+				features.add(feature);
+			}
+		});
+		JsonObject collection = new JsonObject();
+		collection.addProperty("type", "FeatureCollection");
+		collection.add("features", features);
+		return collection;
+	}
+
+	/**
+	 * 4 decimals, about 10 meters.
+	 */
+	private static double round(double degrees) {
+		return Math.round(degrees * 10_000d) / 10_000d;
+	}
+}
@@ -0,0 +1,52 @@
+package contouring;
+
+/**
+ * One line of a contour: all its points have the same value (the level).
+ * <p>
+ * The points are stored as <code>{ x0, y0, x1, y1, ... }</code>: grid coordinates (column, row) out of {@link MarchingSquares},
+ * longitude and latitude out of {@link ContourService}. A closed line does not repeat its first point.
+ * </p>
+ * Immutable.
+ */
+public class Isoline {
+
+	private final double level;
+	private final boolean closed;
+	private final double[] points;
+
+	public Isoline(double level, boolean closed, double[] points) {
+		if (points.length % 2 != 0) {
+			throw new IllegalArgumentException(String.format("Odd number of coordinates: %d", points.length));
+		}
+		this.level = level;
+		this.closed = closed;
+		this.points = points;
+	}
+
+	public double getLevel() {
+		return level;
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	public int getPointCount() {
+		return points.length / 2;
+	}
+
+	public double getX(int i) {
+		return points[2 * i];
+	}
+
+	public double getY(int i) {
+		return points[(2 * i) + 1];
+	}
+
+	/**
+	 * @return a copy of the coordinates
+	 */
+	public double[] getPoints() {
+		return points.clone();
+	}
+}
@@ -0,0 +1,245 @@
+package contouring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contour lines of a grid, with the marching squares.
+ * <p>
+ * Each cell (four grid points) is crossed by 0, 1 or 2 segments, their ends interpolated linearly on the edges of the cell.
+ * When two opposite corners only are above the level (saddle), the average of the four corners tells which way the lines go.
+ * The segments are then chained into polylines, closed or ending on the edges of the grid.
+ * </p>
+ * The grid is row-major, <code>values[(row * width) + col]</code>. When it goes around the world, the last column is joined
+ * to the first one, the x of the points go up to <code>width</code>.
+ */
+public class MarchingSquares {
+
+	// Edges of a cell
+	private final static int BOTTOM = 0;
+	private final static int RIGHT = 1;
+	private final static int TOP = 2;
+	private final static int LEFT = 3;
+
+	/**
+	 * Pairs of edges crossed, for each of the 16 cases (bit 0: bottom left corner above the level, bit 1: bottom right, bit 2: top right, bit 3: top left).
+	 * The saddles (5 and 10) are resolved with the center of the cell.
+	 */
+	private final static int[][] SEGMENTS = {
+			{},                   // 0
+			{ LEFT, BOTTOM },     // 1
+			{ BOTTOM, RIGHT },    // 2
+			{ LEFT, RIGHT },      // 3
+			{ RIGHT, TOP },       // 4
+			null,                 // 5, saddle
+			{ BOTTOM, TOP },      // 6
+			{ LEFT, TOP },        // 7
+			{ LEFT, TOP },        // 8
+			{ BOTTOM, TOP },      // 9
+			null,                 // 10, saddle
+			{ RIGHT, TOP },       // 11
+			{ LEFT, RIGHT },      // 12
+			{ BOTTOM, RIGHT },    // 13
+			{ LEFT, BOTTOM },     // 14
+			{}                    // 15
+	};
+	private final static int[] AROUND_TL_BR = { LEFT, TOP, BOTTOM, RIGHT }; // Lines cutting the top left and bottom right corners
+	private final static int[] AROUND_BL_TR = { LEFT, BOTTOM, RIGHT, TOP }; // Lines cutting the bottom left and top right corners
+
+	private final float[] values;
+	private final int width;
+	private final int height;
+	private final boolean wrap;
+
+	/**
+	 * @param values the grid, row-major
+	 * @param width  number of columns
+	 * @param height number of rows
+	 * @param wrap   true if the grid goes around the world
+	 */
+	public MarchingSquares(float[] values, int width, int height, boolean wrap) {
+		if (values.length != width * height) {
+			throw new IllegalArgumentException(String.format("%d values, for a %d x %d grid", values.length, width, height));
+		}
+		this.values = values;
+		this.width = width;
+		this.height = height;
+		this.wrap = wrap;
+	}
+
+	/**
+	 * The segments of one level, before they are chained.
+	 */
+	private final static class Segments {
+		int count = 0;
+		int[] edges = new int[64];       // 2 per segment
+		double[] points = new double[128]; // 4 per segment
+
+		void add(int edge1, double x1, double y1, int edge2, double x2, double y2) {
+			if (2 * (count + 1) > edges.length) {
+				edges = Arrays.copyOf(edges, edges.length * 2);
+				points = Arrays.copyOf(points, points.length * 2);
+			}
+			edges[2 * count] = edge1;
+			edges[(2 * count) + 1] = edge2;
+			points[4 * count] = x1;
+			points[(4 * count) + 1] = y1;
+			points[(4 * count) + 2] = x2;
+			points[(4 * count) + 3] = y2;
+			count++;
+		}
+	}
+
+	/**
+	 * @param level the value of the lines
+	 * @return the lines, in grid coordinates (x: column, y: row)
+	 */
+	public List<Isoline> contour(double level) {
+		Segments segments = new Segments();
+		int cols = wrap ? width : width - 1;
+		double[] xy = new double[2];
+		double[] xy2 = new double[2];
+		for (int row = 0; row < height - 1; row++) {
+			for (int col = 0; col < cols; col++) {
+				int right = (col + 1) % width;
+				float bl = values[(row * width) + col];
+				float br = values[(row * width) + right];
+				float tr = values[((row + 1) * width) + right];
+				float tl = values[((row + 1) * width) + col];
+				int index = (bl >= level ? 1 : 0) | (br >= level ? 2 : 0) | (tr >= level ? 4 : 0) | (tl >= level ? 8 : 0);
+				int[] edges = SEGMENTS[index];
+				if (edges == null) { // Saddle
+					boolean centerAbove = ((bl + br + tr + tl) / 4d) >= level;
+					if (index == 5) { // bl and tr above
+						edges = centerAbove ? AROUND_TL_BR : AROUND_BL_TR;
+					} else { // tl and br above
+						edges = centerAbove ? AROUND_BL_TR : AROUND_TL_BR;
+					}
+				}
+				for (int i = 0; i < edges.length; i += 2) {
+					crossing(row, col, edges[i], bl, br, tr, tl, level, xy);
+					crossing(row, col, edges[i + 1], bl, br, tr, tl, level, xy2);
+					segments.add(edgeId(row, col, edges[i]), xy[0], xy[1], edgeId(row, col, edges[i + 1]), xy2[0], xy2[1]);
+				}
+			}
+		}
+		return chain(segments, level);
+	}
+
+	/**
+	 * Where the level crosses an edge of a cell, linearly.
+	 */
+	private static void crossing(int row, int col, int edge, float bl, float br, float tr, float tl, double level, double[] xy) {
+		switch (edge) {
+			case BOTTOM:
+				xy[0] = col + ratio(bl, br, level);
+				xy[1] = row;
+				break;
+			case RIGHT:
+				xy[0] = col + 1;
+				xy[1] = row + ratio(br, tr, level);
+				break;
+			case TOP:
+				xy[0] = col + ratio(tl, tr, level);
+				xy[1] = row + 1;
+				break;
+			case LEFT:
+			default:
+				xy[0] = col;
+				xy[1] = row + ratio(bl, tl, level);
+				break;
+		}
+	}
+
+	private static double ratio(float from, float to, double level) {
+		return (level - from) / (to - from); // from and to are on both sides of the level, never equal
+	}
+
+	/**
+	 * An edge is shared by two cells, both give it the same id.
+	 * Horizontal edges first, then the vertical ones.
+	 */
+	private int edgeId(int row, int col, int edge) {
+		switch (edge) {
+			case BOTTOM:
+				return (row * width) + col;
+			case TOP:
+				return ((row + 1) * width) + col;
+			case LEFT:
+				return (height * width) + (row * width) + col;
+			case RIGHT:
+			default:
+				return (height * width) + (row * width) + ((col + 1) % width);
+		}
+	}
+
+	/**
+	 * Chains the segments sharing an edge. An edge is used by at most two segments.
+	 * The open lines (starting on the border of the grid) first, then the closed ones.
+	 */
+	private static List<Isoline> chain(Segments segments, double level) {
+		Map<Integer, int[]> byEdge = new HashMap<>(segments.count * 2);
+		for (int s = 0; s < segments.count; s++) {
+			for (int end = 0; end < 2; end++) {
+				int[] users = byEdge.computeIfAbsent(segments.edges[(2 * s) + end], e -> new int[] { -1, -1 });
+				users[users[0] == -1 ? 0 : 1] = s;
+			}
+		}
+		boolean[] used = new boolean[segments.count];
+		List<Isoline> lines = new ArrayList<>();
+		for (int pass = 0; pass < 2; pass++) {
+			for (int s = 0; s < segments.count; s++) {
+				if (used[s]) {
+					continue;
+				}
+				int startEnd = 0;
+				if (pass == 0) { // Open lines only, from their free end
+					if (byEdge.get(segments.edges[2 * s])[1] == -1) {
+						startEnd = 0;
+					} else if (byEdge.get(segments.edges[(2 * s) + 1])[1] == -1) {
+						startEnd = 1;
+					} else {
+						continue;
+					}
+				}
+				lines.add(walk(segments, byEdge, used, s, startEnd, level));
+			}
+		}
+		return lines;
+	}
+
+	private static Isoline walk(Segments segments, Map<Integer, int[]> byEdge, boolean[] used, int first, int startEnd, double level) {
+		double[] points = new double[16];
+		int nb = 0;
+		int startEdge = segments.edges[(2 * first) + startEnd];
+		points[nb++] = segments.points[(4 * first) + (2 * startEnd)];
+		points[nb++] = segments.points[(4 * first) + (2 * startEnd) + 1];
+		int s = first;
+		int end = 1 - startEnd;
+		boolean closed = false;
+		while (true) {
+			used[s] = true;
+			int edge = segments.edges[(2 * s) + end];
+			if (edge == startEdge) { // Back to the start
+				closed = true;
+				break;
+			}
+			if (nb + 2 > points.length) {
+				points = Arrays.copyOf(points, points.length * 2);
+			}
+			points[nb++] = segments.points[(4 * s) + (2 * end)];
+			points[nb++] = segments.points[(4 * s) + (2 * end) + 1];
+			int[] users = byEdge.get(edge);
+			int next = users[0] == s ? users[1] : users[0];
+			if (next == -1 || used[next]) {
+				break;
+			}
+			end = segments.edges[2 * next] == edge ? 1 : 0;
+			s = next;
+		}
+		return new Isoline(level, closed, Arrays.copyOf(points, nb));
+	}
+}
@@ -0,0 +1,135 @@
+package contouring;
+
+import java.util.Arrays;
+
+/**
+ * Smoothing and simplification of {@link Isoline}s.
+ */
+public class Simplifier {
+
+	/**
+	 * Chaikin's corner cutting: each segment is replaced with its points at 1/4 and 3/4.
+	 * The ends of an open line stay where they are.
+	 *
+	 * @param line       the line
+	 * @param iterations number of passes, each one doubles the number of points
+	 * @return the smoothed line
+	 */
+	public static Isoline smooth(Isoline line, int iterations) {
+		double[] points = line.getPoints();
+		boolean closed = line.isClosed();
+		for (int it = 0; it < iterations && points.length >= 6; it++) {
+			int nb = points.length / 2;
+			int segments = closed ? nb : nb - 1;
+			double[] smoothed = new double[(2 * segments + (closed ? 0 : 2)) * 2];
+			int idx = 0;
+			if (!closed) {
+				smoothed[idx++] = points[0];
+				smoothed[idx++] = points[1];
+			}
+			for (int i = 0; i < segments; i++) {
+				int j = (i + 1) % nb;
+				double x0 = points[2 * i], y0 = points[(2 * i) + 1];
+				double x1 = points[2 * j], y1 = points[(2 * j) + 1];
+				smoothed[idx++] = (0.75 * x0) + (0.25 * x1);
+				smoothed[idx++] = (0.75 * y0) + (0.25 * y1);
+				smoothed[idx++] = (0.25 * x0) + (0.75 * x1);
+				smoothed[idx++] = (0.25 * y0) + (0.75 * y1);
+			}
+			if (!closed) {
+				smoothed[idx++] = points[points.length - 2];
+				smoothed[idx++] = points[points.length - 1];
+			}
+			points = smoothed;
+		}
+		return new Isoline(line.getLevel(), closed, points);
+	}
+
+	/**
+	 * Douglas-Peucker: the points closer than tolerance to the simplified line are dropped.
+	 *
+	 * @param line      the line
+	 * @param tolerance in the unit of the coordinates
+	 * @return the simplified line, the line itself if the tolerance is not positive
+	 */
+	public static Isoline simplify(Isoline line, double tolerance) {
+		int nb = line.getPointCount();
+		if (tolerance <= 0d || nb < 3) {
+			return line;
+		}
+		double[] points = line.getPoints();
+		if (line.isClosed()) { // Simplified as an open line, from the first point back to it
+			points = Arrays.copyOf(points, points.length + 2);
+			points[points.length - 2] = points[0];
+			points[points.length - 1] = points[1];
+			nb++;
+		}
+		boolean[] keep = new boolean[nb];
+		keep[0] = true;
+		keep[nb - 1] = true;
+		double sqTolerance = tolerance * tolerance;
+		int[] stack = new int[2 * nb];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = nb - 1;
+		while (top > 0) {
+			int last = stack[--top];
+			int first = stack[--top];
+			double maxSqDist = 0d;
+			int farthest = -1;
+			for (int i = first + 1; i < last; i++) {
+				double sqDist = sqSegmentDistance(points, i, first, last);
+				if (sqDist > maxSqDist) {
+					maxSqDist = sqDist;
+					farthest = i;
+				}
+			}
+			if (farthest != -1 && maxSqDist > sqTolerance) {
+				keep[farthest] = true;
+				stack[top++] = first;
+				stack[top++] = farthest;
+				stack[top++] = farthest;
+				stack[top++] = last;
+			}
+		}
+		int kept = 0;
+		for (boolean k : keep) {
+			if (k) {
+				kept++;
+			}
+		}
+		if (line.isClosed()) {
+			kept--; // The first point, repeated
+		}
+		double[] simplified = new double[2 * kept];
+		int idx = 0;
+		for (int i = 0; i < nb && idx < simplified.length; i++) {
+			if (keep[i]) {
+				simplified[idx++] = points[2 * i];
+				simplified[idx++] = points[(2 * i) + 1];
+			}
+		}
+		return new Isoline(line.getLevel(), line.isClosed(), simplified);
+	}
+
+	/**
+	 * @return the square of the distance from point p to the segment [a, b]
+	 */
+	private static double sqSegmentDistance(double[] points, int p, int a, int b) {
+		double x = points[2 * a], y = points[(2 * a) + 1];
+		double dx = points[2 * b] - x, dy = points[(2 * b) + 1] - y;
+		if (dx != 0d || dy != 0d) {
+			double t = (((points[2 * p] - x) * dx) + ((points[(2 * p) + 1] - y) * dy)) / ((dx * dx) + (dy * dy));
+			if (t > 1d) {
+				x = points[2 * b];
+				y = points[(2 * b) + 1];
+			} else if (t > 0d) {
+				x += dx * t;
+				y += dy * t;
+			}
+		}
+		dx = points[2 * p] - x;
+		dy = points[(2 * p) + 1] - y;
+		return (dx * dx) + (dy * dy);
+	}
+}
@@ -0,0 +1,194 @@
+package gribprocessing;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import poc.data.GribDataset;
+import poc.data.GribDate;
+import poc.data.GribField;
+import poc.data.GribType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes a {@link GribDataset} to a stream, in one of the {@link Format}s served by <code>/grib/get-data</code>.
+ * <p>
+ * Nothing is built in memory, the values are written as they are read from the dataset.
+ * </p>
+ * The binary formats are:
+ * <ul>
+ *     <li>a 4 byte little-endian int, the length of the JSON header</li>
+ *     <li>the JSON header (UTF-8), padded with spaces so the data start on a 4 byte boundary</li>
+ *     <li>the fields, in the order of the header, each one <code>width * height</code> little-endian values, row-major, row 0 at the bottom</li>
+ * </ul>
+ * In the {@link Format#INT16} format, a value is <code>offset + (scale * v)</code>, <code>v</code> being an unsigned 16 bit integer,
+ * <code>offset</code> and <code>scale</code> given for each field in the header.
+ */
+public class GRIBOutput {
+
+	public enum Format {
+		JSON("application/json"),
+		FLOAT32("application/x-grib-float32"),
+		INT16("application/x-grib-int16");
+
+		private final String contentType;
+
+		Format(String contentType) {
+			this.contentType = contentType;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		/**
+		 * @param name like json, float32, int16, case insensitive, or a content type
+		 * @return the format, or null if unknown
+		 */
+		public static Format of(String name) {
+			for (Format format : values()) {
+				if (format.name().equalsIgnoreCase(name) || format.contentType.equalsIgnoreCase(name)) {
+					return format;
+				}
+			}
+			return null;
+		}
+	}
+
+	private final static int INT16_MAX = 0xFFFF;
+
+	public static void write(GribDataset dataset, Format format, OutputStream os) throws IOException {
+		switch (format) {
+			case FLOAT32:
+			case INT16:
+				writeBinary(dataset, format, os);
+				break;
+			case JSON:
+			default:
+				writeJson(dataset, os);
+				break;
+		}
+	}
+
+	/**
+	 * Same JSON as <code>GRIBDump.expandGrib</code>, written date by date, value by value.
+	 */
+	public static void writeJson(GribDataset dataset, OutputStream os) throws IOException {
+		Gson gson = new Gson();
+		JsonWriter writer = new JsonWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+		writer.beginArray();
+		for (GribDate gribDate : dataset.getDates()) {
+			writer.beginObject();
+			writer.name("gribDate");
+			gson.toJson(gribDate, GribDate.class, writer);
+			writer.name("typedData");
+			writer.beginArray();
+			for (GribField field : dataset.getFields(gribDate)) {
+				writer.beginObject();
+				writer.name("gribType");
+				gson.toJson(field.getType(), GribType.class, writer);
+				writer.name("data");
+				writer.beginArray();
+				for (int row = 0; row < field.getHeight(); row++) {
+					writer.beginArray();
+					for (int col = 0; col < field.getWidth(); col++) {
+						writer.jsonValue(Float.toString(field.getValue(row, col)));
+					}
+					writer.endArray();
+				}
+				writer.endArray();
+				writer.endObject();
+			}
+			writer.endArray();
+			writer.endObject();
+		}
+		writer.endArray();
+		writer.flush();
+	}
+
+	public static void writeBinary(GribDataset dataset, Format format, OutputStream os) throws IOException {
+		boolean int16 = (format == Format.INT16);
+		// Header
+		JsonArray fields = new JsonArray();
+		int maxRowBytes = 0;
+		for (GribDate gribDate : dataset.getDates()) {
+			for (GribField field : dataset.getFields(gribDate)) {
+				GribDate grid = field.getGrid();
+				JsonObject one = new JsonObject();
+				one.addProperty("epoch", grid.getTime());
+				one.addProperty("type", field.getType().getType());
+				one.addProperty("desc", field.getType().getDesc());
+				one.addProperty("unit", field.getType().getUnit());
+				one.addProperty("min", field.getType().getMin());
+				one.addProperty("max", field.getType().getMax());
+				one.addProperty("width", grid.getWidth());
+				one.addProperty("height", grid.getHeight());
+				one.addProperty("stepx", grid.getStepx());
+				one.addProperty("stepy", grid.getStepy());
+				one.addProperty("top", grid.getTop());
+				one.addProperty("bottom", grid.getBottom());
+				one.addProperty("left", grid.getLeft());
+				one.addProperty("right", grid.getRight());
+				if (int16) {
+					one.addProperty("offset", field.getType().getMin());
+					one.addProperty("scale", int16Scale(field.getType()));
+				}
+				fields.add(one);
+				maxRowBytes = Math.max(maxRowBytes, grid.getWidth() * (int16 ? 2 : 4));
+			}
+		}
+		JsonObject header = new JsonObject();
+		header.addProperty("format", format.name().toLowerCase());
+		header.addProperty("byteOrder", "little-endian");
+		header.add("fields", fields);
+		StringBuilder json = new StringBuilder(header.toString());
+		while ((4 + json.toString().getBytes(StandardCharsets.UTF_8).length) % 4 != 0) {
+			json.append(' ');
+		}
+		byte[] headerBytes = json.toString().getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocate(Math.max(64 * 1_024, maxRowBytes)).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(headerBytes.length);
+		os.write(buffer.array(), 0, buffer.position());
+		os.write(headerBytes);
+		buffer.clear();
+		// Data, one row at a time
+		for (GribDate gribDate : dataset.getDates()) {
+			for (GribField field : dataset.getFields(gribDate)) {
+				float offset = field.getType().getMin();
+				float scale = int16Scale(field.getType());
+				int bytesPerRow = field.getWidth() * (int16 ? 2 : 4);
+				for (int row = 0; row < field.getHeight(); row++) {
+					if (buffer.remaining() < bytesPerRow) {
+						os.write(buffer.array(), 0, buffer.position());
+						buffer.clear();
+					}
+					for (int col = 0; col < field.getWidth(); col++) {
+						float value = field.getValue(row, col);
+						if (int16) {
+							int v = Math.round((value - offset) / scale);
+							buffer.putShort((short) Math.max(0, Math.min(v, INT16_MAX)));
+						} else {
+							buffer.putFloat(value);
+						}
+					}
+				}
+			}
+		}
+		os.write(buffer.array(), 0, buffer.position());
+		os.flush();
+	}
+
+	/**
+	 * @return the scale spreading [min, max] over the 16 bits. 1 for a constant field.
+	 */
+	private static float int16Scale(GribType type) {
+		float range = type.getMax() - type.getMin();
+		return range > 0 ? range / INT16_MAX : 1f;
+	}
+}
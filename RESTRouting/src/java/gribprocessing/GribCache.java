@@ -0,0 +1,634 @@
+package gribprocessing;
+
+import gribprocessing.utils.GRIBUtils;
+import jgrib.GribFile;
+import poc.GRIBDump;
+import poc.data.GribDataset;
+import poc.data.GribDate;
+import poc.data.GribField;
+import poc.data.GribSubset;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+
+/**
+ * Decoded GRIBs, so the same request does not download and decode the same GRIB again.
+ * <p>
+ * The GRIB files are stored on disk under the SHA-256 of their content (<code>&lt;hash&gt;.grb</code>, with their <code>.gidx</code> record index),
+ * in <code>-Dgrib.cache.dir</code> (<code>grib-cache</code> by default), up to <code>-Dgrib.cache.disk.max</code> bytes (1 GB by default).
+ * The requests (like <code>GFS:50N,20N,160W,115W|1,1|0,3..120|PRMSL,WIND</code>) point to the hash of their GRIB
+ * for <code>-Dgrib.cache.ttl</code> minutes (60 by default), then the GRIB is downloaded again.
+ * A request covered by a fresh one (same model and resolution, smaller area, fewer times and parameters) is served by a subset of it.
+ * <code>file:</code> requests are identified by their path, size and last modification date.
+ * </p>
+ * <p>
+ * The decoded {@link GribDataset}s are kept in memory, the least recently used ones evicted beyond <code>-Dgrib.cache.memory.max</code>
+ * bytes (256 MB by default). Two requests of the same content share the same dataset.
+ * The subsets are kept the same way (under the hash of their GRIB and their request), so a covered request gets the same dataset every time.
+ * The last {@value #MAX_FILE_ENTRIES} <code>file:</code> requests are remembered, the expired downloads are forgotten.
+ * </p>
+ * Thread safe. Concurrent identical requests download and decode once.
+ */
+public class GribCache {
+
+	private final static boolean verbose = "true".equals(System.getProperty("grib.verbose", "false"));
+
+	private final static String GRIB_SUFFIX = ".grb";
+	private final static String REQUESTS_FILE = "requests.properties";
+	private final static long DEFAULT_MEMORY_MAX = 256L * 1_024 * 1_024;
+	private final static long DEFAULT_DISK_MAX = 1_024L * 1_024 * 1_024;
+	private final static long DEFAULT_TTL = 60L; // minutes
+	private final static long HOUR = 3_600_000L;
+	private final static int MAX_FILE_ENTRIES = 1_024;
+
+	/**
+	 * Saildocs parameters, and the GRIB types they contain.
+	 */
+	private final static Map<String, List<String>> PARAMETER_TYPES = new HashMap<>();
+	static {
+		PARAMETER_TYPES.put("PRMSL", Collections.singletonList("prmsl"));
+		PARAMETER_TYPES.put("WIND", Arrays.asList("ugrd", "vgrd"));
+		PARAMETER_TYPES.put("HGT500", Collections.singletonList("hgt"));
+		PARAMETER_TYPES.put("TEMP", Collections.singletonList("tmp"));
+		PARAMETER_TYPES.put("WAVES", Collections.singletonList("htsgw"));
+		PARAMETER_TYPES.put("RAIN", Collections.singletonList("prate"));
+		PARAMETER_TYPES.put("CURRENT", Arrays.asList("uogrd", "vogrd"));
+	}
+
+	private static GribCache instance = null;
+
+	public static synchronized GribCache getInstance() {
+		if (instance == null) {
+			instance = new GribCache(new File(System.getProperty("grib.cache.dir", "grib-cache")),
+					getLong("grib.cache.memory.max", DEFAULT_MEMORY_MAX),
+					getLong("grib.cache.disk.max", DEFAULT_DISK_MAX),
+					getLong("grib.cache.ttl", DEFAULT_TTL) * 60_000L);
+		}
+		return instance;
+	}
+
+	private static long getLong(String property, long defaultValue) {
+		long value = defaultValue;
+		try {
+			value = Long.parseLong(System.getProperty(property, String.valueOf(defaultValue)));
+		} catch (NumberFormatException nfe) {
+			System.err.println(nfe.toString());
+		}
+		return value;
+	}
+
+	/**
+	 * A request, and the hash of its GRIB.
+	 */
+	private final static class Entry {
+		final String hash;
+		final long fetched;
+		final Coverage coverage; // null for the file: ones
+
+		Entry(String hash, long fetched, Coverage coverage) {
+			this.hash = hash;
+			this.fetched = fetched;
+			this.coverage = coverage;
+		}
+	}
+
+	private final File dir;
+	private final long memoryMax;
+	private final long diskMax;
+	private final long ttl;
+
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final Map<String, Entry> fileEntries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_FILE_ENTRIES;
+		}
+	};
+	private final LinkedHashMap<String, GribDataset> datasets = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, Long> datasetSizes = new HashMap<>();
+	private long memorySize = 0L;
+	/**
+	 * One lock per request (or file) being loaded, removed when no thread uses it anymore.
+	 */
+	private final static class KeyLock {
+		int users = 0;
+	}
+	private final Map<String, KeyLock> locks = new HashMap<>();
+	/**
+	 * The stored files are checked and mapped (or copied), and deleted, under this lock.
+	 */
+	private final Object diskLock = new Object();
+
+	private long hits = 0L, misses = 0L;
+
+	/**
+	 * @param dir       where the GRIB files are stored
+	 * @param memoryMax max size of the decoded datasets, in bytes
+	 * @param diskMax   max size of the stored GRIB files, in bytes
+	 * @param ttl       how long (ms) a request is served by the GRIB it has downloaded
+	 */
+	public GribCache(File dir, long memoryMax, long diskMax, long ttl) {
+		this.dir = dir;
+		this.memoryMax = memoryMax;
+		this.diskMax = diskMax;
+		this.ttl = ttl;
+		if (!dir.exists()) {
+			boolean ok = dir.mkdirs();
+			System.out.println(String.format("Created GRIB cache directory %s:", dir) + ok);
+		}
+		loadEntries();
+	}
+
+	/**
+	 * @param request a Saildocs request, or a file: URL
+	 * @return the decoded GRIB
+	 * @throws Exception when the GRIB cannot be downloaded or read
+	 */
+	public GribDataset get(String request) throws Exception {
+		if (request.startsWith("file:")) {
+			return getFile(new File(new URI(request)));
+		}
+		return locked(request, () -> {
+			Entry entry = getFreshEntry(request);
+			if (entry != null) {
+				GribDataset dataset = load(entry.hash);
+				if (dataset != null) {
+					return dataset;
+				}
+			}
+			GribDataset dataset = getCovering(request);
+			if (dataset != null) {
+				return dataset;
+			}
+			return load(download(request).hash);
+		});
+	}
+
+	/**
+	 * Copies the GRIB file of a request. It is the GRIB of a fresh request covering it if there is one,
+	 * it is downloaded only if there is none.
+	 *
+	 * @param request     a Saildocs request, or a file: URL
+	 * @param destination where to copy the GRIB file
+	 * @throws Exception when the GRIB cannot be downloaded or copied
+	 */
+	public void copyGribFile(String request, File destination) throws Exception {
+		if (request.startsWith("file:")) {
+			Files.copy(new File(new URI(request)).toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return;
+		}
+		locked(request, () -> {
+			Entry entry = getFreshEntry(request);
+			if (entry != null && copyStored(entry.hash, destination)) {
+				return null;
+			}
+			for (Entry covering : getCoveringEntries(Coverage.parse(request))) {
+				if (copyStored(covering.hash, destination)) {
+					return null;
+				}
+			}
+			if (!copyStored(download(request).hash, destination)) {
+				throw new IOException(String.format("GRIB of %s deleted from the cache", request));
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * @return false if there is no such stored file
+	 */
+	private boolean copyStored(String hash, File destination) throws IOException {
+		synchronized (diskLock) {
+			File stored = storedFile(hash);
+			if (!stored.exists()) {
+				return false;
+			}
+			Files.copy(stored.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return true;
+		}
+	}
+
+	/**
+	 * Runs a load, one thread at a time for a given key.
+	 */
+	private <T> T locked(String key, Callable<T> load) throws Exception {
+		KeyLock lock;
+		synchronized (locks) {
+			lock = locks.computeIfAbsent(key, k -> new KeyLock());
+			lock.users++;
+		}
+		try {
+			synchronized (lock) {
+				return load.call();
+			}
+		} finally {
+			synchronized (locks) {
+				if (--lock.users == 0) {
+					locks.remove(key);
+				}
+			}
+		}
+	}
+
+	private synchronized Entry getFreshEntry(String request) {
+		Entry entry = entries.get(request);
+		if (entry != null && System.currentTimeMillis() - entry.fetched > ttl) {
+			return null;
+		}
+		return entry;
+	}
+
+	private GribDataset getFile(File file) throws Exception {
+		String key = String.format("file:%s|%d|%d", file.getCanonicalPath(), file.length(), file.lastModified());
+		return locked(key, () -> {
+			Entry entry;
+			synchronized (this) {
+				entry = fileEntries.get(key);
+			}
+			if (entry == null) {
+				entry = new Entry(hash(file), 0L, null);
+				synchronized (this) {
+					fileEntries.put(key, entry);
+				}
+			}
+			GribDataset dataset = getDataset(entry.hash);
+			if (dataset == null) {
+				dataset = decode(entry.hash, GribFile.map(file));
+			}
+			return dataset;
+		});
+	}
+
+	/**
+	 * A request covered by a fresh one, the dataset of which is still there.
+	 *
+	 * @return the subset of the covering dataset, null if there is none
+	 */
+	private GribDataset getCovering(String request) throws Exception {
+		Coverage coverage = Coverage.parse(request);
+		for (Entry entry : getCoveringEntries(coverage)) {
+			String subsetKey = String.format("%s|%s", entry.hash, request);
+			GribDataset subset = getDataset(subsetKey);
+			if (subset != null) {
+				return subset;
+			}
+			GribDataset covering = load(entry.hash);
+			if (covering == null || covering.getDates().isEmpty()) {
+				continue;
+			}
+			long reference = covering.getDates().get(0).getTime() - (entry.coverage.hours.first() * HOUR);
+			List<Long> times = new ArrayList<>();
+			for (int hour : coverage.hours) {
+				times.add(reference + (hour * HOUR));
+			}
+			List<String> types = new ArrayList<>();
+			for (String parameter : coverage.parameters) {
+				types.addAll(PARAMETER_TYPES.get(parameter));
+			}
+			if (verbose) {
+				System.out.println(String.format("GRIB cache: %s covered by %s", request, entry.hash));
+			}
+			subset = new GribSubset()
+					.bbox(coverage.top, coverage.bottom, coverage.left, coverage.right)
+					.times(times)
+					.parameters(types)
+					.apply(covering);
+			keep(subsetKey, subset);
+			return subset;
+		}
+		return null;
+	}
+
+	/**
+	 * @param coverage what is requested, may be null
+	 * @return the fresh entries covering it
+	 */
+	private synchronized List<Entry> getCoveringEntries(Coverage coverage) {
+		List<Entry> candidates = new ArrayList<>();
+		if (coverage != null) {
+			long now = System.currentTimeMillis();
+			for (Entry entry : entries.values()) {
+				if (entry.coverage != null && now - entry.fetched <= ttl && entry.coverage.covers(coverage)) {
+					candidates.add(entry);
+				}
+			}
+		}
+		return candidates;
+	}
+
+	/**
+	 * Downloads the GRIB of a request, and stores it under its hash.
+	 */
+	private Entry download(String request) throws Exception {
+		String tempName = String.format("download-%d-%d%s", Thread.currentThread().getId(), System.nanoTime(), GRIB_SUFFIX);
+		byte[] content = GRIBUtils.getGRIB(GRIBUtils.generateGRIBRequest(request), dir.getPath(), tempName, verbose);
+		File temp = new File(dir, tempName);
+		if (content == null || content.length == 0) {
+			Files.deleteIfExists(temp.toPath());
+			throw new IOException(String.format("No GRIB data for %s", request));
+		}
+		String hash = hash(content);
+		synchronized (diskLock) {
+			File stored = storedFile(hash);
+			if (stored.exists()) { // Same content as an earlier request
+				Files.delete(temp.toPath());
+			} else {
+				Files.move(temp.toPath(), stored.toPath(), StandardCopyOption.ATOMIC_MOVE);
+				trimDisk(hash);
+			}
+		}
+		Entry entry = new Entry(hash, System.currentTimeMillis(), Coverage.parse(request));
+		synchronized (this) {
+			long now = entry.fetched;
+			entries.values().removeIf(e -> now - e.fetched > ttl); // Never used again
+			entries.put(request, entry);
+			misses++;
+			saveEntries();
+		}
+		return entry;
+	}
+
+	/**
+	 * @return the dataset of a hash, decoded from the stored file if not in memory. null if there is no such file.
+	 */
+	private GribDataset load(String hash) throws Exception {
+		GribDataset dataset = getDataset(hash);
+		if (dataset != null) {
+			return dataset;
+		}
+		GribFile gribFile;
+		synchronized (diskLock) { // Not deleted in between
+			File stored = storedFile(hash);
+			if (!stored.exists()) {
+				return null;
+			}
+			gribFile = GribFile.map(stored, true);
+		}
+		return decode(hash, gribFile);
+	}
+
+	/**
+	 * @param key the hash of a GRIB, or the key of a subset
+	 */
+	private synchronized GribDataset getDataset(String key) {
+		GribDataset dataset = datasets.get(key);
+		if (dataset != null) {
+			hits++;
+		}
+		return dataset;
+	}
+
+	private GribDataset decode(String hash, GribFile gribFile) {
+		GribDataset dataset = new GRIBDump().decode(gribFile);
+		keep(hash, dataset);
+		return dataset;
+	}
+
+	/**
+	 * Keeps a dataset in memory, evicts the least recently used ones beyond the max memory size.
+	 *
+	 * @param key the hash of its GRIB, or the key of a subset
+	 */
+	private synchronized void keep(String key, GribDataset dataset) {
+		if (datasets.put(key, dataset) == null) {
+			long size = sizeOf(dataset);
+			datasetSizes.put(key, size);
+			memorySize += size;
+		}
+		Iterator<Map.Entry<String, GribDataset>> iterator = datasets.entrySet().iterator();
+		while (memorySize > memoryMax && iterator.hasNext()) {
+			String eldest = iterator.next().getKey();
+			if (eldest.equals(key)) { // The one just kept stays, even if too big
+				continue;
+			}
+			iterator.remove();
+			memorySize -= datasetSizes.remove(eldest);
+		}
+		if (verbose) {
+			System.out.println(String.format("GRIB cache: kept %s, %d dataset(s) in memory, %,d bytes (hits: %d, downloads: %d)",
+					key, datasets.size(), memorySize, hits, misses));
+		}
+	}
+
+	/**
+	 * Deletes the least recently modified GRIB files (and their index) beyond the max disk size.
+	 * Invoked with the disk lock held.
+	 *
+	 * @param keep the hash of the file just stored
+	 */
+	private void trimDisk(String keep) {
+		File[] files = dir.listFiles((d, name) -> name.endsWith(GRIB_SUFFIX) && !name.startsWith("download-"));
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+		long total = 0L;
+		for (File file : files) {
+			total += file.length();
+		}
+		for (int i = 0; i < files.length && total > diskMax; i++) {
+			if (files[i].getName().equals(keep + GRIB_SUFFIX)) {
+				continue;
+			}
+			total -= files[i].length();
+			if (!files[i].delete()) {
+				System.err.println(String.format("GRIB cache: cannot delete %s", files[i]));
+			}
+			File index = new File(files[i].getPath() + GribFile.INDEX_SUFFIX);
+			if (index.exists() && !index.delete()) {
+				System.err.println(String.format("GRIB cache: cannot delete %s", index));
+			}
+		}
+	}
+
+	private File storedFile(String hash) {
+		return new File(dir, hash + GRIB_SUFFIX);
+	}
+
+	private void loadEntries() {
+		File file = new File(dir, REQUESTS_FILE);
+		if (!file.exists()) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (InputStream is = new FileInputStream(file)) {
+			properties.load(is);
+		} catch (IOException ioe) {
+			System.err.println(String.format("GRIB cache: cannot read %s: %s", file, ioe.getMessage()));
+			return;
+		}
+		for (String request : properties.stringPropertyNames()) {
+			String[] value = properties.getProperty(request).split(",");
+			try {
+				entries.put(request, new Entry(value[0], Long.parseLong(value[1]), Coverage.parse(request)));
+			} catch (RuntimeException ex) {
+				System.err.println(String.format("GRIB cache: ignoring %s: %s", request, ex.toString()));
+			}
+		}
+	}
+
+	/**
+	 * Only the requests, the file: ones are not worth it.
+	 */
+	private void saveEntries() {
+		Properties properties = new Properties();
+		entries.forEach((request, entry) -> properties.setProperty(request, entry.hash + "," + entry.fetched));
+		try (OutputStream os = new FileOutputStream(new File(dir, REQUESTS_FILE))) {
+			properties.store(os, "GRIB requests: hash,download epoch");
+		} catch (IOException ioe) {
+			System.err.println(String.format("GRIB cache: cannot write %s: %s", REQUESTS_FILE, ioe.getMessage()));
+		}
+	}
+
+	/**
+	 * @return the number of bytes of the values, plus a bit for each field
+	 */
+	private static long sizeOf(GribDataset dataset) {
+		long size = 0L;
+		for (GribDate date : dataset.getDates()) {
+			for (GribField field : dataset.getFields(date)) {
+				size += (4L * field.getWidth() * field.getHeight()) + 256L;
+			}
+		}
+		return size;
+	}
+
+	private static String hash(byte[] content) {
+		MessageDigest digest = sha256();
+		digest.update(content);
+		return toHex(digest.digest());
+	}
+
+	private static String hash(File file) throws IOException {
+		MessageDigest digest = sha256();
+		byte[] buffer = new byte[64 * 1_024];
+		try (InputStream is = new FileInputStream(file)) {
+			int nb;
+			while ((nb = is.read(buffer)) != -1) {
+				digest.update(buffer, 0, nb);
+			}
+		}
+		return toHex(digest.digest());
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException nsae) {
+			throw new RuntimeException(nsae); // Every JVM has it
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			sb.append(String.format("%02x", b & 0xFF));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * What a request like <code>GFS:65N,45S,130E,110W|2,2|0,6..24|PRMSL,WIND</code> contains.
+	 */
+	final static class Coverage {
+		String model;
+		double top, bottom, left, right; // right > left, may be beyond 180
+		String resolution;
+		TreeSet<Integer> hours = new TreeSet<>();
+		Set<String> parameters = new TreeSet<>();
+
+		/**
+		 * @return the coverage, null if the request is not understood, or contains a parameter with unknown GRIB types
+		 */
+		static Coverage parse(String request) {
+			try {
+				String[] parts = request.split("\\|");
+				int colon = parts[0].indexOf(':');
+				if (parts.length != 4 || colon < 0) {
+					return null;
+				}
+				Coverage coverage = new Coverage();
+				coverage.model = parts[0].substring(0, colon).toUpperCase(Locale.ROOT);
+				String[] area = parts[0].substring(colon + 1).split(",");
+				coverage.top = coordinate(area[0], 'N', 'S');
+				coverage.bottom = coordinate(area[1], 'N', 'S');
+				coverage.left = coordinate(area[2], 'E', 'W');
+				coverage.right = coordinate(area[3], 'E', 'W');
+				if (coverage.right < coverage.left) {
+					coverage.right += 360d;
+				}
+				coverage.resolution = parts[1].trim();
+				String[] times = parts[2].split(",");
+				if (times.length == 2 && times[1].contains("..")) {
+					String[] stepMax = times[1].split("\\.\\.");
+					int step = Integer.parseInt(stepMax[0].trim());
+					int max = Integer.parseInt(stepMax[1].trim());
+					for (int hour = Integer.parseInt(times[0].trim()); hour <= max && step > 0; hour += step) {
+						coverage.hours.add(hour);
+					}
+				} else {
+					for (String hour : times) {
+						coverage.hours.add(Integer.parseInt(hour.trim()));
+					}
+				}
+				for (String parameter : parts[3].split(",")) {
+					String name = parameter.trim().toUpperCase(Locale.ROOT);
+					if (!PARAMETER_TYPES.containsKey(name)) {
+						return null;
+					}
+					coverage.parameters.add(name);
+				}
+				return coverage.hours.isEmpty() ? null : coverage;
+			} catch (RuntimeException ex) {
+				return null;
+			}
+		}
+
+		private static double coordinate(String value, char positive, char negative) {
+			String v = value.trim().toUpperCase(Locale.ROOT);
+			char sign = v.charAt(v.length() - 1);
+			if (sign == positive) {
+				return Double.parseDouble(v.substring(0, v.length() - 1));
+			} else if (sign == negative) {
+				return -Double.parseDouble(v.substring(0, v.length() - 1));
+			}
+			return Double.parseDouble(v);
+		}
+
+		boolean covers(Coverage other) {
+			if (!model.equals(other.model) || !resolution.equals(other.resolution) ||
+					top < other.top || bottom > other.bottom ||
+					!hours.containsAll(other.hours) || !parameters.containsAll(other.parameters)) {
+				return false;
+			}
+			for (double shift = -360d; shift <= 360d; shift += 360d) {
+				if (left <= other.left + shift && right >= other.right + shift) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -1,26 +1,37 @@
 package gribprocessing;
 
+import calc.GreatCircle;
+import calc.GreatCirclePoint;
+import contouring.ContourService;
+import contouring.Isoline;
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
-import gribprocessing.utils.GRIBUtils;
 import http.HTTPServer;
 import http.HTTPServer.Operation;
 import http.HTTPServer.Request;
 import http.HTTPServer.Response;
 import http.RESTProcessorUtil;
-import jgrib.GribFile;
-import poc.GRIBDump;
+import poc.data.GribDataset;
 import poc.data.GribDate;
-import poc.data.GribType;
+import poc.data.GribInterpolator;
+import poc.data.GribSubset;
+import routing.IsochroneRouter;
+import routing.Polar;
+import routing.WeatherField;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
-import java.net.URI;
-import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +49,7 @@ public class RESTImplementation {
 
 	private static boolean verbose = "true".equals(System.getProperty("grib.verbose", "false"));
 	private final static String GRIB_PREFIX = "/grib";
+	private final static int MAX_INTERPOLATED_POINTS = 100_000;
 
 	private GRIBRequestManager gribRequestManager;
 
@@ -67,7 +79,22 @@ public class RESTImplementation {
 					"POST",
 					GRIB_PREFIX + "/get-data",
 					this::requestGRIBData,
-					"Request a GRIB download from the web, and return its json representation."));
+					"Request a GRIB download from the web, and return its json (or binary) representation."),
+			new Operation(
+					"POST",
+					GRIB_PREFIX + "/route",
+					this::requestRouting,
+					"Fastest route between two points, in the wind of a GRIB, for a given polar."),
+			new Operation(
+					"POST",
+					GRIB_PREFIX + "/interpolate",
+					this::requestInterpolation,
+					"Values of the GRIB parameters at some points, or along a polyline, interpolated in space and time."),
+			new Operation(
+					"POST",
+					GRIB_PREFIX + "/contours",
+					this::requestContours,
+					"Isobars, isotachs (or any other contour lines) of a GRIB, as GeoJSON."));
 
 	protected List<Operation> getOperations() {
 		return this.operations;
@@ -111,6 +138,14 @@ public class RESTImplementation {
 	 *   "request": "GFS:65N,45S,130E,110W|2,2|0,6..24|PRMSL,WIND,HGT500,TEMP,WAVES,RAIN"
 	 * }
 	 *
+	 * Optionally followed by a subset of the GRIB to return:
+	 * "bbox": { "top": 50, "bottom": 20, "left": -140, "right": -120 }, "times": [ epochs, ms ],
+	 * "parameters": [ "PRMSL", "UGRD", "VGRD" ], "stride": 2
+	 *
+	 * The response is json by default. The format can be requested with a format query string parameter,
+	 * a "format" member in the payload, or the Accept header: json, float32, int16, see {@link GRIBOutput}.
+	 * The response is streamed.
+	 *
 	 * @param request
 	 * @return
 	 */
@@ -127,41 +162,57 @@ public class RESTImplementation {
 				StringReader stringReader = new StringReader(payload);
 				try {
 					GRIBRequest gribRequest = gson.fromJson(stringReader, GRIBRequest.class);
-					URL gribURL = null;
-					GRIBDump dump = new GRIBDump();
-					if (gribRequest.request.startsWith("file:")) { // Reusing grib file
-						gribURL = new URI(gribRequest.request).toURL();
-					} else {
-						try {
-							String dir = gribRequest.directory;
-							if (dir == null) {
-								dir = ".";
-							}
-							File location = new File(dir);
-							if (!location.exists()) {
-								boolean ok = location.mkdirs();
-								System.out.println(String.format("Created directory(ies) %s:", dir) + ok);
-							}
-							String gribFileName = "grib.grb";
-							System.out.println(String.format(" >> Will pull %s into %s", gribFileName, dir));
-							GRIBUtils.getGRIB(GRIBUtils.generateGRIBRequest(gribRequest.request), dir, gribFileName, true);
-							gribURL = new File(dir, gribFileName).toURI().toURL();
-						} catch (Exception ex) {
-							ex.printStackTrace();
-							response = HTTPServer.buildErrorResponse(response,
-									Response.BAD_REQUEST,
-									new HTTPServer.ErrorPayload()
-											.errorCode("GRIB-0004")
-											.errorMessage(ex.toString()));
-							return response;
+					GribDataset gribDataset;
+					try {
+						gribDataset = getDataset(gribRequest);
+					} catch (Exception ex) {
+						ex.printStackTrace();
+						response = HTTPServer.buildErrorResponse(response,
+								Response.BAD_REQUEST,
+								new HTTPServer.ErrorPayload()
+										.errorCode("GRIB-0004")
+										.errorMessage(ex.toString()));
+						return response;
+					}
+
+					GRIBOutput.Format format = getFormat(request, gribRequest);
+					if (format == null) {
+						response = HTTPServer.buildErrorResponse(response,
+								Response.BAD_REQUEST,
+								new HTTPServer.ErrorPayload()
+										.errorCode("GRIB-0005")
+										.errorMessage("Unsupported format, use json, float32 or int16"));
+						return response;
+					}
+					GribSubset subset = new GribSubset();
+					try {
+						if (gribRequest.bbox != null) {
+							subset.bbox(gribRequest.bbox.top, gribRequest.bbox.bottom, gribRequest.bbox.left, gribRequest.bbox.right);
+						}
+						if (gribRequest.times != null) {
+							subset.times(gribRequest.times);
+						}
+						if (gribRequest.parameters != null) {
+							subset.parameters(gribRequest.parameters);
+						}
+						if (gribRequest.stride != null) {
+							subset.stride(gribRequest.stride);
 						}
+					} catch (IllegalArgumentException iae) {
+						response = HTTPServer.buildErrorResponse(response,
+								Response.BAD_REQUEST,
+								new HTTPServer.ErrorPayload()
+										.errorCode("GRIB-0006")
+										.errorMessage(iae.getMessage()));
+						return response;
 					}
 
-					GribFile gf = new GribFile(gribURL.openStream());
-					List<GRIBDump.DatedGRIB> expandedGBRIB = dump.getExpandedGBRIB(gf);
-					String content = new Gson().toJson(expandedGBRIB);
-					RESTProcessorUtil.generateResponseHeaders(response, content.length());
-					response.setPayload(content.getBytes());
+					GribDataset dataset = subset.apply(gribDataset);
+					Map<String, String> responseHeaders = new HashMap<>();
+					responseHeaders.put("Content-Type", format.getContentType());
+					responseHeaders.put("Access-Control-Allow-Origin", "*");
+					response.setHeaders(responseHeaders);
+					response.setStreamedPayload(os -> GRIBOutput.write(dataset, format, os));
 				} catch (Exception ex1) {
 					ex1.printStackTrace();
 					response = HTTPServer.buildErrorResponse(response,
@@ -191,6 +242,450 @@ public class RESTImplementation {
 		return response;
 	}
 
+	/**
+	 * The payload is like
+	 *
+	 * {
+	 *   "request": "GFS:50N,20N,160W,115W|1,1|0,3..120|PRMSL,WIND,WAVES",
+	 *   "from": { "lat": 37.8, "lng": -122.7 },
+	 *   "to": { "lat": 21.3, "lng": -157.9 },
+	 *   "departure": 1508162400000,
+	 *   "polarFile": "polars/cruiser.40.pol",
+	 *   "timeStep": 60, "headingStep": 5, "sectors": 180, "maxSteps": 240, "wavePenalty": 0.05,
+	 *   "withIsochrones": true
+	 * }
+	 *
+	 * "request" and "directory" as in {@link #requestGRIBData(Request)}. The polar can also be given inline,
+	 * "polar": { "tws": [ ... ], "twa": [ ... ], "speed": [ [ ... ], ... ] }, one row per twa.
+	 * The departure defaults to the first date of the GRIB. The other parameters are optional, see {@link IsochroneRouter.Options}.
+	 *
+	 * @param request
+	 * @return the route, see {@link IsochroneRouter.Result}
+	 */
+	private Response requestRouting(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+
+		if (request.getContent() == null || request.getContent().length == 0 || "null".equals(new String(request.getContent()))) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0101")
+							.errorMessage("Request payload not found"));
+			return response;
+		}
+		RoutingRequest routingRequest;
+		Polar polar;
+		IsochroneRouter.Options options = new IsochroneRouter.Options();
+		try {
+			routingRequest = new Gson().fromJson(new StringReader(new String(request.getContent())), RoutingRequest.class);
+			if (routingRequest.request == null || routingRequest.from == null || routingRequest.to == null) {
+				throw new IllegalArgumentException("request, from and to are required");
+			}
+			if (routingRequest.polar != null) {
+				polar = new Polar(routingRequest.polar.tws, routingRequest.polar.twa, routingRequest.polar.speed);
+			} else if (routingRequest.polarFile != null) {
+				polar = getPolar(routingRequest.polarFile);
+			} else {
+				throw new IllegalArgumentException("polar or polarFile is required");
+			}
+			if (routingRequest.timeStep != null) {
+				options.timeStep(routingRequest.timeStep);
+			}
+			if (routingRequest.headingStep != null) {
+				options.headingStep(routingRequest.headingStep);
+			}
+			if (routingRequest.sectors != null) {
+				options.sectors(routingRequest.sectors);
+			}
+			if (routingRequest.maxSteps != null) {
+				options.maxSteps(routingRequest.maxSteps);
+			}
+			if (routingRequest.wavePenalty != null) {
+				options.wavePenalty(routingRequest.wavePenalty);
+			}
+			options.withIsochrones(routingRequest.withIsochrones);
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0102")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		GribDataset dataset;
+		try {
+			dataset = getDataset(routingRequest);
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0103")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		try {
+			WeatherField weather = WeatherField.of(dataset);
+			long departure = (routingRequest.departure != null ? routingRequest.departure : weather.getFirstEpoch());
+			IsochroneRouter.Result result = new IsochroneRouter(weather, polar, options)
+					.route(routingRequest.from.lat, routingRequest.from.lng, routingRequest.to.lat, routingRequest.to.lng, departure);
+			String content = new Gson().toJson(result);
+			RESTProcessorUtil.generateResponseHeaders(response, content.getBytes().length);
+			response.setPayload(content.getBytes());
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0104")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		return response;
+	}
+
+	/**
+	 * @param name of a polar file, relative to the polars directory (<code>-Drouting.polars.dir</code>, default <code>polars</code>)
+	 * @return the polar
+	 * @throws IllegalArgumentException when the name is not a file of the polars directory
+	 * @throws IOException when the polar cannot be read or understood
+	 */
+	private static Polar getPolar(String name) throws IOException {
+		Path directory = Paths.get(System.getProperty("routing.polars.dir", "polars")).toAbsolutePath().normalize();
+		Path polar = directory.resolve(name).normalize();
+		if (!polar.startsWith(directory) || !Files.isRegularFile(polar) || !polar.toRealPath().startsWith(directory.toRealPath())) {
+			throw new IllegalArgumentException(String.format("Polar [%s] not found", name));
+		}
+		return Polar.parse(polar.toString());
+	}
+
+	/**
+	 * The payload is like
+	 *
+	 * {
+	 *   "request": "GFS:50N,20N,160W,115W|1,1|0,3..120|PRMSL,WIND,WAVES",
+	 *   "parameters": [ "prmsl", "ugrd", "vgrd" ],
+	 *   "method": "bicubic",
+	 *   "epoch": 1508162400000,
+	 *   "points": [ { "lat": 37.8, "lng": -122.7 }, { "lat": 21.3, "lng": -157.9, "epoch": 1508205600000 } ]
+	 * }
+	 *
+	 * or, along a polyline, sampled every "step" nm (vertices only if there is no step),
+	 * at "speed" knots from "epoch" if there is a speed (all the samples at "epoch" otherwise):
+	 *
+	 * {
+	 *   "request": "...",
+	 *   "polyline": [ { "lat": 37.8, "lng": -122.7 }, { "lat": 21.3, "lng": -157.9 } ],
+	 *   "step": 10, "speed": 6.5
+	 * }
+	 *
+	 * "request" and "directory" as in {@link #requestGRIBData(Request)}. All the parameters of the GRIB by default,
+	 * bilinear by default, "epoch" defaults to the first date of the GRIB.
+	 * A value is missing when its point is not covered by the GRIB.
+	 * At most {@link #MAX_INTERPOLATED_POINTS} points, or samples.
+	 *
+	 * @param request
+	 * @return the points, with their values, see {@link InterpolatedPoint}
+	 */
+	private Response requestInterpolation(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+
+		if (request.getContent() == null || request.getContent().length == 0 || "null".equals(new String(request.getContent()))) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0201")
+							.errorMessage("Request payload not found"));
+			return response;
+		}
+		InterpolationRequest interpolationRequest;
+		GribInterpolator.Method method = GribInterpolator.Method.BILINEAR;
+		try {
+			interpolationRequest = new Gson().fromJson(new StringReader(new String(request.getContent())), InterpolationRequest.class);
+			if (interpolationRequest.request == null) {
+				throw new IllegalArgumentException("request is required");
+			}
+			if ((interpolationRequest.points == null || interpolationRequest.points.isEmpty()) &&
+					(interpolationRequest.polyline == null || interpolationRequest.polyline.isEmpty())) {
+				throw new IllegalArgumentException("points or polyline is required");
+			}
+			if (interpolationRequest.method != null) {
+				method = GribInterpolator.Method.valueOf(interpolationRequest.method.toUpperCase());
+			}
+			long nbPoints = (interpolationRequest.points != null && !interpolationRequest.points.isEmpty()) ?
+					interpolationRequest.points.size() :
+					countSamples(interpolationRequest.polyline, interpolationRequest.step);
+			if (nbPoints > MAX_INTERPOLATED_POINTS) {
+				throw new IllegalArgumentException(String.format("%d points, at most %d", nbPoints, MAX_INTERPOLATED_POINTS));
+			}
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0202")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		GribDataset dataset;
+		try {
+			dataset = getDataset(interpolationRequest);
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0203")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		try {
+			GribInterpolator interpolator = new GribInterpolator(dataset);
+			List<String> parameters = interpolationRequest.parameters != null ? interpolationRequest.parameters : new ArrayList<>(dataset.getTypes());
+			long epoch = interpolationRequest.epoch != null ? interpolationRequest.epoch :
+					(dataset.getDates().isEmpty() ? 0L : dataset.getDates().get(0).getTime());
+			List<InterpolatedPoint> points = (interpolationRequest.points != null && !interpolationRequest.points.isEmpty()) ?
+					toPoints(interpolationRequest.points, epoch) :
+					samplePolyline(interpolationRequest.polyline, interpolationRequest.step, interpolationRequest.speed, epoch);
+			int nbPoints = points.size();
+			double[] lats = new double[nbPoints];
+			double[] lngs = new double[nbPoints];
+			long[] epochs = new long[nbPoints];
+			for (int i = 0; i < nbPoints; i++) {
+				lats[i] = points.get(i).lat;
+				lngs[i] = points.get(i).lng;
+				epochs[i] = points.get(i).epoch;
+			}
+			double[] values = new double[nbPoints];
+			for (String parameter : parameters) {
+				interpolator.getValues(parameter, lats, lngs, epochs, method, values);
+				for (int i = 0; i < nbPoints; i++) {
+					if (!Double.isNaN(values[i])) {
+						points.get(i).values.put(parameter, values[i]);
+					}
+				}
+			}
+			String content = new Gson().toJson(points);
+			RESTProcessorUtil.generateResponseHeaders(response, content.getBytes().length);
+			response.setPayload(content.getBytes());
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0204")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		return response;
+	}
+
+	/**
+	 * The payload is like
+	 *
+	 * {
+	 *   "request": "GFS:50N,20N,160W,115W|1,1|0,3..120|PRMSL,WIND,WAVES",
+	 *   "contours": [ { "parameter": "prmsl", "interval": 4 }, { "parameter": "wind", "levels": [ 10, 20, 30 ] } ],
+	 *   "smoothing": 2,
+	 *   "zoom": 5, "tolerance": 1,
+	 *   "times": [ epochs, ms ]
+	 * }
+	 *
+	 * "request" and "directory" as in {@link #requestGRIBData(Request)}. Isobars and isotachs by default, see {@link ContourService}.
+	 * The lines are simplified for the zoom level (none without zoom), with a tolerance in pixels (1 by default).
+	 * All the dates by default.
+	 *
+	 * @param request
+	 * @return a GeoJSON FeatureCollection, for each contour
+	 */
+	private Response requestContours(Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+
+		if (request.getContent() == null || request.getContent().length == 0 || "null".equals(new String(request.getContent()))) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0301")
+							.errorMessage("Request payload not found"));
+			return response;
+		}
+		ContourRequest contourRequest;
+		List<ContourService.Spec> specs = new ArrayList<>();
+		double tolerance = 0d;
+		try {
+			contourRequest = new Gson().fromJson(new StringReader(new String(request.getContent())), ContourRequest.class);
+			if (contourRequest.request == null) {
+				throw new IllegalArgumentException("request is required");
+			}
+			if (contourRequest.contours == null || contourRequest.contours.isEmpty()) {
+				specs.add(new ContourService.Spec(ContourService.PRMSL));
+				specs.add(new ContourService.Spec(ContourService.WIND));
+			} else {
+				for (ContourDefinition definition : contourRequest.contours) {
+					if (definition.parameter == null) {
+						throw new IllegalArgumentException("parameter is required, for each contour");
+					}
+					ContourService.Spec spec = new ContourService.Spec(definition.parameter);
+					if (definition.levels != null) {
+						spec.levels(definition.levels);
+					}
+					if (definition.interval != null) {
+						spec.interval(definition.interval);
+					}
+					specs.add(spec);
+				}
+			}
+			if (contourRequest.smoothing != null) {
+				for (ContourService.Spec spec : specs) {
+					spec.smoothing(contourRequest.smoothing);
+				}
+			}
+			if (contourRequest.zoom != null) {
+				tolerance = ContourService.tolerance(contourRequest.zoom, contourRequest.tolerance != null ? contourRequest.tolerance : 1d);
+			}
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0302")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		GribDataset dataset;
+		try {
+			dataset = getDataset(contourRequest);
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0303")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		try {
+			JsonArray collections = new JsonArray();
+			for (ContourService.Spec spec : specs) {
+				Map<GribDate, List<Isoline>> lines = ContourService.contour(dataset, spec);
+				if (contourRequest.times != null) {
+					Map<GribDate, List<Isoline>> selected = new LinkedHashMap<>();
+					lines.forEach((date, isolines) -> {
+						if (contourRequest.times.contains(date.getTime())) {
+							selected.put(date, isolines);
+						}
+					});
+					lines = selected;
+				}
+				collections.add(ContourService.toGeoJson(spec.getParameter(), lines, tolerance));
+			}
+			String content = collections.toString();
+			RESTProcessorUtil.generateResponseHeaders(response, content.getBytes().length);
+			response.setPayload(content.getBytes());
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("GRIB-0304")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+		return response;
+	}
+
+	private static List<InterpolatedPoint> toPoints(List<TimedPosition> positions, long epoch) {
+		List<InterpolatedPoint> points = new ArrayList<>(positions.size());
+		for (TimedPosition position : positions) {
+			points.add(new InterpolatedPoint(position.lat, position.lng, position.epoch != null ? position.epoch : epoch));
+		}
+		return points;
+	}
+
+	/**
+	 * @return the number of points {@link #samplePolyline(List, Double, Double, long)} returns
+	 */
+	private static long countSamples(List<TimedPosition> polyline, Double step) {
+		long nb = 1L; // The last vertex
+		for (int leg = 0; leg < polyline.size() - 1; leg++) {
+			nb += samplesOnLeg(polyline.get(leg), polyline.get(leg + 1), step);
+		}
+		return nb;
+	}
+
+	private static double legDistance(TimedPosition from, TimedPosition to) {
+		double dist = GreatCircle.getGCDistance(
+				new GreatCirclePoint(Math.toRadians(from.lat), Math.toRadians(from.lng)),
+				new GreatCirclePoint(Math.toRadians(to.lat), Math.toRadians(to.lng)));
+		return Double.isNaN(dist) ? 0d : dist; // NaN: same point
+	}
+
+	private static long samplesOnLeg(TimedPosition from, TimedPosition to, Double step) {
+		if (step == null || step <= 0d) {
+			return 1L;
+		}
+		return Math.max(1L, Math.min((long) Math.ceil(legDistance(from, to) / step), MAX_INTERPOLATED_POINTS + 1L));
+	}
+
+	/**
+	 * Samples each leg of the polyline every step nm, linearly in latitude and longitude (the shortest way around the Earth).
+	 *
+	 * @param step  in nm, vertices only if null or not positive
+	 * @param speed in knots, to compute the time of each sample. All at epoch if null or not positive.
+	 */
+	private static List<InterpolatedPoint> samplePolyline(List<TimedPosition> polyline, Double step, Double speed, long epoch) {
+		List<InterpolatedPoint> points = new ArrayList<>();
+		double sailed = 0d;
+		for (int leg = 0; leg < polyline.size(); leg++) {
+			TimedPosition from = polyline.get(leg);
+			if (leg == polyline.size() - 1) {
+				points.add(new InterpolatedPoint(from.lat, from.lng, timeAt(epoch, sailed, speed)));
+				break;
+			}
+			TimedPosition to = polyline.get(leg + 1);
+			double dist = legDistance(from, to);
+			double deltaLng = (to.lng - from.lng) % 360d;
+			if (deltaLng > 180d) {
+				deltaLng -= 360d;
+			} else if (deltaLng < -180d) {
+				deltaLng += 360d;
+			}
+			int nbSamples = (int) samplesOnLeg(from, to, step); // Bounded, see MAX_INTERPOLATED_POINTS
+			for (int i = 0; i < nbSamples; i++) {
+				double ratio = (double) i / nbSamples;
+				points.add(new InterpolatedPoint(from.lat + (ratio * (to.lat - from.lat)),
+						from.lng + (ratio * deltaLng),
+						timeAt(epoch, sailed + (ratio * dist), speed)));
+			}
+			sailed += dist;
+		}
+		return points;
+	}
+
+	private static long timeAt(long epoch, double distance, Double speed) {
+		if (speed == null || speed <= 0d) {
+			return epoch;
+		}
+		return epoch + Math.round((distance / speed) * 3_600_000d);
+	}
+
+	/**
+	 * The decoded GRIB of a request, from the {@link GribCache}, downloaded and decoded only if needed.
+	 * With a "directory", the GRIB file is also copied there, as grib.grb.
+	 *
+	 * @return the decoded GRIB
+	 */
+	private static GribDataset getDataset(GRIBRequest gribRequest) throws Exception {
+		GribCache cache = GribCache.getInstance();
+		if (gribRequest.directory != null && !gribRequest.request.startsWith("file:")) {
+			File location = new File(gribRequest.directory);
+			if (!location.exists()) {
+				boolean ok = location.mkdirs();
+				System.out.println(String.format("Created directory(ies) %s:", gribRequest.directory) + ok);
+			}
+			cache.copyGribFile(gribRequest.request, new File(location, "grib.grb"));
+		}
+		return cache.get(gribRequest.request);
+	}
+
 	/**
 	 * Can be used as a temporary placeholder when creating a new operation.
 	 *
@@ -202,8 +697,111 @@ public class RESTImplementation {
 		return response;
 	}
 
+	/**
+	 * Query string first, then payload, then Accept header. json by default.
+	 *
+	 * @return the format, null if the requested one is not supported
+	 */
+	private static GRIBOutput.Format getFormat(Request request, GRIBRequest gribRequest) {
+		if (request.getQueryStringParameters() != null && request.getQueryStringParameters().get("format") != null) {
+			return GRIBOutput.Format.of(request.getQueryStringParameters().get("format"));
+		}
+		if (gribRequest.format != null) {
+			return GRIBOutput.Format.of(gribRequest.format);
+		}
+		if (request.getHeaders() != null) {
+			for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+				if ("Accept".equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+					for (String accepted : header.getValue().split(",")) {
+						GRIBOutput.Format format = GRIBOutput.Format.of(accepted.split(";")[0].trim());
+						if (format != null) {
+							return format;
+						}
+					}
+				}
+			}
+		}
+		return GRIBOutput.Format.JSON;
+	}
+
 	public static class GRIBRequest {
 		String request;
 		String directory;
+		String format;
+		BBox bbox;
+		List<Long> times;
+		List<String> parameters;
+		Integer stride;
+	}
+
+	public static class RoutingRequest extends GRIBRequest {
+		Position from;
+		Position to;
+		Long departure;
+		PolarTable polar;
+		String polarFile;
+		Integer timeStep;
+		Double headingStep;
+		Integer sectors;
+		Integer maxSteps;
+		Double wavePenalty;
+		boolean withIsochrones;
+	}
+
+	public static class InterpolationRequest extends GRIBRequest {
+		String method;
+		Long epoch;
+		List<TimedPosition> points;
+		List<TimedPosition> polyline;
+		Double step;
+		Double speed;
+	}
+
+	public static class ContourRequest extends GRIBRequest {
+		List<ContourDefinition> contours;
+		Integer smoothing;
+		Integer zoom;
+		Double tolerance;
+	}
+
+	public static class ContourDefinition {
+		String parameter;
+		List<Double> levels;
+		Double interval;
+	}
+
+	public static class Position {
+		double lat;
+		double lng;
+	}
+
+	public static class TimedPosition extends Position {
+		Long epoch;
+	}
+
+	public static class InterpolatedPoint {
+		double lat;
+		double lng;
+		long epoch;
+		Map<String, Double> values = new LinkedHashMap<>();
+
+		InterpolatedPoint(double lat, double lng, long epoch) {
+			this.lat = lat;
+			this.lng = lng;
+			this.epoch = epoch;
+		}
+	}
+
+	public static class PolarTable {
+		double[] tws;
+		double[] twa;
+		double[][] speed;
+	}
+
+	public static class BBox {
+		double top;
+		double bottom;
+		double left;
+		double right;
 	}
 }
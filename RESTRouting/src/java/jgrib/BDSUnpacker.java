@@ -0,0 +1,163 @@
+/**
+ * ===============================================================================
+ * JGRIB library
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Authors:
+ * See AUTHORS file
+ * ===============================================================================
+ */
+
+package jgrib;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Bulk decoder for the simple packing of a BDS: value = ref + scale * (numbits unsigned bits).
+ *
+ * The packed bits are read 64 at a time from a big endian <tt>ByteBuffer</tt>,
+ * with dedicated loops for the most common widths (8, 12 and 16 bits).
+ * The bit map of a BMS is applied in a second pass, see {@link #applyBitmap(float[], int, boolean[])}.
+ *
+ * The values are the same as the ones produced by
+ * <tt>ref + scale * BitInputStream.readUBits(numbits)</tt>, one at a time.
+ */
+
+public final class BDSUnpacker
+{
+
+   /**
+    * Number of zero bytes expected after the packed data by {@link #unpack(ByteBuffer, int, int, float, float, float[])},
+    * so a 64 bit word can always be read from the last value.
+    */
+   public static final int PADDING = 8;
+
+   private BDSUnpacker()
+   {
+   }
+
+
+   /**
+    * Wraps packed data, with the padding required by {@link #unpack(ByteBuffer, int, int, float, float, float[])}.
+    *
+    * @param packed the packed data
+    * @param length number of meaningful bytes in <tt>packed</tt>
+    *
+    * @return a big endian buffer, padded with zeros
+    */
+   public static ByteBuffer wrap(byte[] packed, int length)
+   {
+      byte[] padded = packed;
+      if (packed.length < length + PADDING)
+      {
+         padded = new byte[length + PADDING];
+         System.arraycopy(packed, 0, padded, 0, length);
+      }
+      return ByteBuffer.wrap(padded);
+   }
+
+
+   /**
+    * Decodes <tt>count</tt> packed values.
+    *
+    * @param packed big endian buffer, its first value at position 0, followed by at least {@link #PADDING} bytes
+    * @param numbits number of bits per value, 1 to 32
+    * @param count number of values to decode
+    * @param ref reference value, decimal scale applied
+    * @param scale binary and decimal scale
+    * @param values receives the values, from index 0
+    */
+   public static void unpack(ByteBuffer packed, int numbits, int count, float ref, float scale, float[] values)
+   {
+      switch (numbits)
+      {
+         case 8:
+            for (int i = 0; i < count; i++)
+            {
+               values[i] = ref + scale * (packed.get(i) & 0xFF);
+            }
+            break;
+         case 12:
+            // Two values in 3 bytes
+            int pairs = count >> 1;
+            for (int p = 0; p < pairs; p++)
+            {
+               int b = p * 3;
+               int three = ((packed.get(b) & 0xFF) << 16) | ((packed.get(b + 1) & 0xFF) << 8) | (packed.get(b + 2) & 0xFF);
+               values[2 * p] = ref + scale * (three >>> 12);
+               values[2 * p + 1] = ref + scale * (three & 0xFFF);
+            }
+            if ((count & 1) != 0)
+            {
+               int b = pairs * 3;
+               values[count - 1] = ref + scale * (((packed.get(b) & 0xFF) << 4) | ((packed.get(b + 1) & 0xFF) >>> 4));
+            }
+            break;
+         case 16:
+            for (int i = 0; i < count; i++)
+            {
+               values[i] = ref + scale * (packed.getShort(2 * i) & 0xFFFF);
+            }
+            break;
+         default:
+            // Any width: the 64 bits starting at the byte of the value, shifted and masked
+            long bitPos = 0;
+            for (int i = 0; i < count; i++, bitPos += numbits)
+            {
+               long word = packed.getLong((int) (bitPos >>> 3));
+               values[i] = ref + scale * ((word << (bitPos & 7)) >>> (64 - numbits));
+            }
+            break;
+      }
+   }
+
+
+   /**
+    * Spreads the values decoded for the defined points only on the whole grid, in place.
+    *
+    * @param values the <tt>count</tt> decoded values at the beginning, at least <tt>bitmap.length</tt> long
+    * @param count number of decoded values
+    * @param bitmap true for the points having a value
+    */
+   public static void applyBitmap(float[] values, int count, boolean[] bitmap)
+   {
+      // Backwards, a value never moves to a lower index
+      int j = count - 1;
+      for (int i = bitmap.length - 1; i >= 0; i--)
+      {
+         values[i] = bitmap[i] && j >= 0 ? values[j--] : GribRecordBDS.UNDEFINED;
+      }
+   }
+
+
+   /**
+    * @param bitmap a bit map
+    * @return the number of points having a value
+    */
+   public static int countDefined(boolean[] bitmap)
+   {
+      int count = 0;
+      for (boolean defined : bitmap)
+      {
+         if (defined)
+         {
+            count++;
+         }
+      }
+      return count;
+   }
+}
@@ -0,0 +1,92 @@
+/**
+ * ===============================================================================
+ * JGRIB library
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Authors:
+ * See AUTHORS file
+ * ===============================================================================
+ */
+
+package jgrib;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+
+/**
+ * An input stream reading a window of a <tt>ByteBuffer</tt>, typically a part
+ * of a memory mapped GRIB file.
+ *
+ * The buffer is duplicated, the position and limit of the original one
+ * are never changed, several streams can read the same buffer at the same time.
+ */
+
+public class ByteBufferInputStream extends InputStream
+{
+  /**
+   * The window being read
+   */
+  private final ByteBuffer buffer;
+
+  /**
+   * @param source buffer to read
+   * @param offset position of the first byte to read in <tt>source</tt>
+   * @param length number of bytes to read
+   */
+  public ByteBufferInputStream(ByteBuffer source, int offset, int length)
+  {
+    this.buffer = source.duplicate();
+    this.buffer.limit(offset + length);
+    this.buffer.position(offset);
+  }
+
+  public int read()
+  {
+    if (!buffer.hasRemaining())
+    {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  public int read(byte[] b, int off, int len)
+  {
+    if (len == 0)
+    {
+      return 0;
+    }
+    if (!buffer.hasRemaining())
+    {
+      return -1;
+    }
+    int n = Math.min(len, buffer.remaining());
+    buffer.get(b, off, n);
+    return n;
+  }
+
+  public long skip(long n)
+  {
+    int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+    buffer.position(buffer.position() + skipped);
+    return skipped;
+  }
+
+  public int available()
+  {
+    return buffer.remaining();
+  }
+}
@@ -34,12 +34,22 @@
 package jgrib;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -80,6 +90,16 @@ public class GribFile
    */
   private static String VERSION = "jgrib_beta7";
 
+  /**
+   * Suffix of the record index stored next to a mapped GRIB file
+   */
+  public static final String INDEX_SUFFIX = ".gidx";
+
+  /**
+   * First bytes of a record index, "GIDX"
+   */
+  private static final int INDEX_MAGIC = 0x47494458;
+
   /**
    * Array with light records
    */
@@ -148,9 +168,6 @@ public class GribFile
     throws IOException, NotSupportedException, NoValidGribException
   {
     //long start = System.currentTimeMillis();
-    Map<GribRecordGDS, GribRecordGDS> gridMap = new HashMap<GribRecordGDS, GribRecordGDS>();
-    List<String> typeList = new ArrayList<String>();
-    List<String> descList = new ArrayList<String>();
     List<GribRecordLight> lightRecList = new ArrayList<GribRecordLight>();
 
     /**
@@ -189,21 +206,6 @@ public class GribFile
         // Read rest of bytes
         buf = new byte[totalBytes];
         in.read(buf);
-        if (gridMap.containsValue(gds))
-        {
-          // Get ref alredy in
-          gds = gridMap.get(gds);
-        }
-        else
-        {
-          // Put in new
-          gridMap.put(gds, gds);
-        }
-        if (!typeList.contains(pds.getType()))
-        {
-          typeList.add(pds.getType());
-          descList.add(pds.getDescription());
-        }
 
         GribRecordLight grl = new GribRecordLight(is, pds, gds, buf);
         lightRecList.add(grl);
@@ -218,6 +220,269 @@ public class GribFile
       //       System.out.println("READ binary description section: IS,PDS,GDS");
     }
 
+    this.index(lightRecList);
+  }
+
+  /**
+   * Constructs a <tt>GribFile</tt> object from a memory mapped GRIB file.
+   * Only the IS, PDS and GDS of each record are read, the rest stays in the mapped buffer.
+   *
+   * @param mapped the GRIB file content
+   * @param offsets position of each record ("GRIB") in <tt>mapped</tt>
+   *
+   * @throws IOException           if a record is truncated
+   * @throws NotSupportedException if file contains features not yet in jgrib
+   * @throws NoValidGribException  if a record is not a valid GRIB record
+   */
+  private GribFile(ByteBuffer mapped, int[] offsets)
+    throws IOException, NotSupportedException, NoValidGribException
+  {
+    List<GribRecordLight> lightRecList = new ArrayList<GribRecordLight>(offsets.length);
+
+    for (int offset : offsets)
+    {
+      // Skip "GRIB"
+      int position = offset + 4;
+      BitInputStream in = new BitInputStream(new ByteBufferInputStream(mapped, position, mapped.limit() - position));
+
+      GribRecordIS is = new GribRecordIS(in);
+      GribRecordPDS pds = new GribRecordPDS(in);
+      int bodyOffset = offset + is.getISLength() + pds.getLength();
+      int totalBytes = is.getGribLength() - is.getISLength() - pds.getLength();
+
+      if (pds.gdsExists())
+      {
+        GribRecordGDS gds = GribGDSFactory.getGDS(in);
+        bodyOffset += gds.getLength();
+        totalBytes -= gds.getLength();
+        if (bodyOffset + totalBytes > mapped.limit())
+        {
+          throw new IOException("GribFile: record at " + offset + " is truncated.");
+        }
+        lightRecList.add(new GribRecordLight(is, pds, gds, mapped, bodyOffset, totalBytes));
+      }
+      else
+      {
+        System.err.println(this.getClass().toString() + ": No GDS included.");
+      }
+    }
+    this.index(lightRecList);
+  }
+
+  /**
+   * Memory maps a GRIB file, see {@link #map(File)}.
+   *
+   * @param filename name of the GRIB file
+   * @return the GRIB file, its records decoded on demand
+   *
+   * @throws IOException           if file can not be opened etc.
+   * @throws NotSupportedException if file contains features not yet in jgrib
+   * @throws NoValidGribException  if file is no valid GRIB file
+   */
+  public static GribFile map(String filename)
+    throws IOException, NotSupportedException, NoValidGribException
+  {
+    return map(new File(filename));
+  }
+
+  /**
+   * Memory maps a GRIB file.
+   *
+   * Unlike the stream constructors, the BMS and BDS of the records are not copied on the heap:
+   * only the headers (IS, PDS, GDS) and the position of the rest of each record are kept,
+   * the data are decoded from the mapped file when a record is requested.
+   *
+   * With the System variable <tt>grib.index.sidecar=true</tt>, the position of the records is stored
+   * in a <tt>.gidx</tt> file next to the GRIB file, and re-used the next time the file is mapped,
+   * as long as the GRIB file has not changed.
+   *
+   * @param file the GRIB file
+   * @return the GRIB file, its records decoded on demand
+   *
+   * @throws IOException           if file can not be opened etc.
+   * @throws NotSupportedException if file contains features not yet in jgrib, or is bigger than 2 GB
+   * @throws NoValidGribException  if file is no valid GRIB file
+   */
+  public static GribFile map(File file)
+    throws IOException, NotSupportedException, NoValidGribException
+  {
+    return map(file, "true".equals(System.getProperty("grib.index.sidecar", "false")));
+  }
+
+  /**
+   * Memory maps a GRIB file, see {@link #map(File)}.
+   *
+   * @param file the GRIB file
+   * @param sidecar true to use (and write if needed) the <tt>.gidx</tt> file next to the GRIB file
+   * @return the GRIB file, its records decoded on demand
+   *
+   * @throws IOException           if file can not be opened etc.
+   * @throws NotSupportedException if file contains features not yet in jgrib, or is bigger than 2 GB
+   * @throws NoValidGribException  if file is no valid GRIB file
+   */
+  public static GribFile map(File file, boolean sidecar)
+    throws IOException, NotSupportedException, NoValidGribException
+  {
+    MappedByteBuffer mapped;
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+    {
+      if (channel.size() > Integer.MAX_VALUE)
+      {
+        throw new NotSupportedException("GribFile: " + file + " is too big to be mapped (" + channel.size() + " bytes).");
+      }
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()); // Still valid once the channel is closed
+    }
+    File indexFile = new File(file.getPath() + INDEX_SUFFIX);
+    int[] offsets = sidecar ? readIndex(indexFile, file) : null;
+    if (offsets == null)
+    {
+      offsets = scanRecords(mapped, file);
+      if (sidecar)
+      {
+        writeIndex(indexFile, file, offsets);
+      }
+    }
+    return new GribFile(mapped, offsets);
+  }
+
+  /**
+   * Finds the position of the records in a mapped GRIB file.
+   * From one record to the next, the bytes are skipped using the length given in the IS.
+   * A record going beyond the end of the file (like a truncated download) is left out, and reported.
+   *
+   * @param mapped the GRIB file content
+   * @param file the GRIB file, for the report
+   * @return the position of each "GRIB" header
+   */
+  private static int[] scanRecords(ByteBuffer mapped, File file)
+  {
+    int[] offsets = new int[16];
+    int nb = 0;
+    int position = 0;
+    int limit = mapped.limit();
+
+    while (position + 8 <= limit)
+    {
+      if (mapped.get(position) == 'G' && mapped.get(position + 1) == 'R' &&
+          mapped.get(position + 2) == 'I' && mapped.get(position + 3) == 'B')
+      {
+        int length = Bytes2Number.uint3(mapped.get(position + 4) & 0xFF,
+                                        mapped.get(position + 5) & 0xFF,
+                                        mapped.get(position + 6) & 0xFF);
+        if (length > 8 && position + length <= limit)
+        {
+          if (nb == offsets.length)
+          {
+            offsets = Arrays.copyOf(offsets, nb * 2);
+          }
+          offsets[nb++] = position;
+          position += length;
+          continue;
+        }
+        if (length > 8)
+        {
+          System.err.println("GribFile: " + file + ", record " + (nb + 1) + " at " + position + " truncated, " +
+                             length + " bytes expected, " + (limit - position) + " found. Skipped.");
+        }
+      }
+      position++;
+    }
+    return Arrays.copyOf(offsets, nb);
+  }
+
+  /**
+   * Reads the record positions stored next to a GRIB file.
+   *
+   * @param indexFile the sidecar file
+   * @param gribFile the GRIB file it indexes
+   * @return the record positions, or null if there is no index, or if it is not the one of this GRIB file
+   */
+  private static int[] readIndex(File indexFile, File gribFile)
+  {
+    if (!indexFile.exists())
+    {
+      return null;
+    }
+    try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile))))
+    {
+      if (dis.readInt() != INDEX_MAGIC ||
+          dis.readLong() != gribFile.length() ||
+          dis.readLong() != gribFile.lastModified())
+      {
+        return null;
+      }
+      int[] offsets = new int[dis.readInt()];
+      for (int i = 0; i < offsets.length; i++)
+      {
+        offsets[i] = dis.readInt();
+      }
+      return offsets;
+    }
+    catch (IOException ioe)
+    {
+      System.err.println("GribFile: cannot read index " + indexFile + ": " + ioe.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Stores the record positions next to a GRIB file.
+   * A failure is reported, but does not prevent the GRIB file from being used.
+   *
+   * @param indexFile the sidecar file
+   * @param gribFile the GRIB file it indexes
+   * @param offsets the record positions
+   */
+  private static void writeIndex(File indexFile, File gribFile, int[] offsets)
+  {
+    try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile))))
+    {
+      dos.writeInt(INDEX_MAGIC);
+      dos.writeLong(gribFile.length());
+      dos.writeLong(gribFile.lastModified());
+      dos.writeInt(offsets.length);
+      for (int offset : offsets)
+      {
+        dos.writeInt(offset);
+      }
+    }
+    catch (IOException ioe)
+    {
+      System.err.println("GribFile: cannot write index " + indexFile + ": " + ioe.getMessage());
+    }
+  }
+
+  /**
+   * Builds the grid, type and description lists from the records.
+   * Records on identical grids share the same GDS instance.
+   *
+   * @param lightRecList the records of the file
+   */
+  private void index(List<GribRecordLight> lightRecList)
+  {
+    Map<GribRecordGDS, GribRecordGDS> gridMap = new HashMap<GribRecordGDS, GribRecordGDS>();
+    List<String> typeList = new ArrayList<String>();
+    List<String> descList = new ArrayList<String>();
+
+    for (GribRecordLight grl : lightRecList)
+    {
+      if (gridMap.containsKey(grl.gds))
+      {
+        // Get ref alredy in
+        grl.gds = gridMap.get(grl.gds);
+      }
+      else
+      {
+        // Put in new
+        gridMap.put(grl.gds, grl.gds);
+      }
+      if (!typeList.contains(grl.pds.getType()))
+      {
+        typeList.add(grl.pds.getType());
+        descList.add(grl.pds.getDescription());
+      }
+    }
+
     // Convert to arrays
     this.grids = gridMap.values().toArray(new GribRecordGDS[gridMap.size()]);
     this.typeNames = typeList.toArray(new String[typeList.size()]);
@@ -57,6 +57,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class containing static methods which deliver descriptions and names of
@@ -147,6 +148,12 @@ public class GribPDSParamTable
    */
   private static Map<String, GribPDSParamTable> fileTabMap = new HashMap<String, GribPDSParamTable>();
 
+  /**
+   * Tables already found, by (center, subcenter, table number), see {@link #tableKey(int, int, int)}.
+   * Every record of a GRIB file looks its table up, the search is done once.
+   */
+  private static final Map<Long, GribPDSParamTable> resolvedTables = new ConcurrentHashMap<Long, GribPDSParamTable>();
+
   /**
    * Default constructor
    */
@@ -173,14 +180,24 @@ public class GribPDSParamTable
     url = null;
     parameters = par;
   }
-  static /**
-         * - peg - As of 2005-12-09
-         * Reimplementet static method to allow for user supplied
-         * directory structures as known from initFromJar and also to
-         * make it possible to read a single gribtab file. IE without
-         * having to create a tablelookup.lst file
-         */
+  /**
+   * - peg - As of 2005-12-09
+   * Reimplementet static method to allow for user supplied
+   * directory structures as known from initFromJar and also to
+   * make it possible to read a single gribtab file. IE without
+   * having to create a tablelookup.lst file
+   *
+   * Called on the first parameter table lookup, not when the class is loaded:
+   * nothing is read until a GRIB record is.
+   *
+   * @return the known parameter tables, their parameters read when first used
+   */
+  static synchronized List<GribPDSParamTable> getTables()
   {
+    if (tables != null)
+    {
+      return tables;
+    }
     try
     {
       // Add default tables to array
@@ -192,53 +209,42 @@ public class GribPDSParamTable
       String gribtab = System.getProperty(PROPERTY_GRIBTABURL);
       // System.out.println("JGRIB: static: gribtab = "+gribtab);
 
-      if (true || tables.size() == 0)
+      if (gribtab != null)
       {
-        if (gribtab != null)
+        // Detect if supplied gribtab is pointing to a file or a directory
+        URL url = new URL(gribtab);
+        File gribTabFile = new File(url.getFile());
+        if (gribTabFile.isFile())
         {
-          // Detect if supplied gribtab is pointing to a file or a directory
-          URL url = new URL(gribtab);
-          File gribTabFile = new File(url.getFile());
-          if (gribTabFile.isFile())
+          // Use gribtab files supplied by user
+          try
+          {
+            readTableEntry(gribTabFile.toURI().toURL(), tables);
+            // System.out.println("Using user supplied gribtab table!");
+          }
+          catch (IOException e)
           {
-            // Use gribtab files supplied by user
-            try
-            {
-              readTableEntry(gribTabFile.toURI().toURL(), tables);
-              // System.out.println("Using user supplied gribtab table!");
-            }
-            catch (IOException e)
-            {
-              System.err.println("IOException: " + e.getMessage());
-            }
-            catch (NotSupportedException e)
-            {
-              System.err.println("NotSupportedException: " + e.getMessage());
-            }
+            System.err.println("IOException: " + e.getMessage());
+          }
+          catch (NotSupportedException e)
+          {
+            System.err.println("NotSupportedException: " + e.getMessage());
+          }
 
+        }
+        else // isDirectory
+        {
+          // Use gribtab files supplied by user in jar file or directory
+          try
+          {
+            readTableEntries(gribtab, tables);
+            System.out.println("Using user supplied gribtab table directory!");
           }
-          else // isDirectory
+          catch (IOException e)
           {
-            // Use gribtab files supplied by user in jar file or directory
-            try
-            {
-              readTableEntries(gribtab, tables);
-              // System.out.println("Using user supplied gribtab table directory!");
-              System.out.println("Using user supplied gribtab table directory!");
-            }
-            catch (IOException e)
-            {
-              System.err.println("IOException: " + e.getMessage());
-            }
+            System.err.println("IOException: " + e.getMessage());
           }
         }
-
-      }
-      else
-      {
-
-        // Use from jar file
-        // System.out.println("Using gribtab table from class path (jar)");
       }
 
       // Make table
@@ -248,9 +254,26 @@ public class GribPDSParamTable
     catch (IOException e)
     {
       System.err.println("IOException: " + e.getMessage());
+      paramTables = tables.toArray(new GribPDSParamTable[tables.size()]);
     }
+    return tables;
   }
 
+  /**
+   * Adds a gribtab file to the known tables.
+   * Searched before the ones already there.
+   *
+   * @param aFileUrl the gribtab file
+   * @throws IOException
+   * @throws NotSupportedException
+   */
+  static synchronized void addTable(URL aFileUrl)
+    throws IOException, NotSupportedException
+  {
+    readTableEntry(aFileUrl, getTables());
+    paramTables = tables.toArray(new GribPDSParamTable[tables.size()]);
+    resolvedTables.clear();
+  }
 
   /**
    * Load default tables from jar file (class path)
@@ -921,6 +944,28 @@ public class GribPDSParamTable
   public static GribPDSParamTable getParameterTable(int center, int subcenter, int number)
     throws NotSupportedException
   {
+    long key = tableKey(center, subcenter, number);
+    GribPDSParamTable table = resolvedTables.get(key);
+    if (table == null)
+    {
+      table = findParameterTable(center, subcenter, number);
+      resolvedTables.put(key, table);
+    }
+    return table;
+  }
+
+  private static long tableKey(int center, int subcenter, int number)
+  {
+    return ((long) (center & 0xFFFF) << 32) | ((long) (subcenter & 0xFFFF) << 16) | (number & 0xFFFF);
+  }
+
+  /**
+   * The search behind {@link #getParameterTable(int, int, int)}.
+   */
+  private static synchronized GribPDSParamTable findParameterTable(int center, int subcenter, int number)
+    throws NotSupportedException
+  {
+    getTables();
     /* 1) search excact match                   (center, table)
          2) if (1) failed, search matching table  ( - ,table(1..3))
       */
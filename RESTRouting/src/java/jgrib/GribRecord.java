@@ -32,7 +32,6 @@
 
 package jgrib;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Calendar;
 
@@ -157,7 +156,7 @@ public class GribRecord
       }
 
       // Make stream
-      BitInputStream in = new BitInputStream(new ByteArrayInputStream(grl.getBuf()));
+      BitInputStream in = new BitInputStream(grl.getBodyStream());
 
       if (this.pds.bmsExists())
       {
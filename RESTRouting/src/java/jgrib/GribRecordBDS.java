@@ -32,6 +32,7 @@
 package jgrib;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 
 /**
@@ -163,38 +164,22 @@ public class GribRecordBDS
          boolean[] bitmap = bms.getBitmap();
 
          this.values = new float[bitmap.length];
-         for (int i = 0; i < bitmap.length; i++)
-         {
-            if (bitmap[i])
-            {
-               if (!isConstant){
-                  this.values[i] = ref + scale * in.readUBits(this.numbits);
-                  if (this.values[i] > this.maxvalue)
-                     this.maxvalue = this.values[i];
-                  if (this.values[i] < this.minvalue)
-                     this.minvalue = this.values[i];
-               }else{// rdg - added this to handle a constant valued parameter
-                  this.values[i] = ref;
-               }
-            }
-            else
-               this.values[i] = GribRecordBDS.UNDEFINED;
+         if (!isConstant){
+            int count = BDSUnpacker.countDefined(bitmap);
+            BDSUnpacker.unpack(readPacked(in), this.numbits, count, ref, scale, this.values);
+            this.setMinMax(count);
+            BDSUnpacker.applyBitmap(this.values, count, bitmap);
+         }else{// rdg - added this to handle a constant valued parameter
+            for (int i = 0; i < bitmap.length; i++)
+               this.values[i] = bitmap[i] ? ref : GribRecordBDS.UNDEFINED;
          }
       }
       else
       {
          if (!isConstant){
             this.values = new float[((this.length - 11) * 8 - unusedbits) / this.numbits];
-
-            for (int i = 0; i < values.length; i++)
-            {
-               this.values[i] = ref + scale * in.readUBits(this.numbits);
-
-               if (this.values[i] > this.maxvalue)
-                  this.maxvalue = this.values[i];
-               if (this.values[i] < this.minvalue)
-                  this.minvalue = this.values[i];
-            }
+            BDSUnpacker.unpack(readPacked(in), this.numbits, this.values.length, ref, scale, this.values);
+            this.setMinMax(this.values.length);
          }else{ // constant valued - same min and max
             this.maxvalue = ref;
             this.minvalue = ref;
@@ -203,6 +188,52 @@ public class GribRecordBDS
    }
 
 
+   /**
+    * Reads the packed values at once, followed by the padding required by the unpacker.
+    *
+    * @param in - bit input stream, positioned after the 11 first octets of the BDS
+    *
+    * @return the packed values
+    * @throws IOException - if the stream ends before the section
+    */
+   private ByteBuffer readPacked(BitInputStream in) throws IOException
+   {
+      int packedLength = this.length - 11;
+      byte[] packed = new byte[packedLength + BDSUnpacker.PADDING];
+      int read = 0;
+      while (read < packedLength)
+      {
+         int n = in.read(packed, read, packedLength - read);
+         if (n < 0)
+            throw new IOException("GribRecordBDS: Unexpected end of input, " + read + " bytes read out of " + packedLength + ".");
+         read += n;
+      }
+      return BDSUnpacker.wrap(packed, packedLength);
+   }
+
+
+   /**
+    * Min and max of the decoded values, in a separate pass.
+    *
+    * @param count - number of decoded values, at the beginning of the array
+    */
+   private void setMinMax(int count)
+   {
+      float min = this.minvalue;
+      float max = this.maxvalue;
+      for (int i = 0; i < count; i++)
+      {
+         float v = this.values[i];
+         if (v > max)
+            max = v;
+         if (v < min)
+            min = v;
+      }
+      this.minvalue = min;
+      this.maxvalue = max;
+   }
+
+
    // *** public methods *********************************************************
 
    /**
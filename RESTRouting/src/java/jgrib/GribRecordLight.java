@@ -30,7 +30,16 @@
  */
 package jgrib;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 /**
+ * The IS, PDS and GDS of a GRIB record, with the rest of its bytes (BMS, BDS).
+ *
+ * Those bytes are either held in a buffer, or read on demand from a memory mapped
+ * GRIB file, see {@link GribFile#map(java.io.File)}.
+ *
  * @author Benjamin Stark
  *
  */
@@ -56,6 +65,21 @@ public class GribRecordLight
     */
    protected byte[] buf;
 
+   /**
+    * Mapped GRIB file, when <tt>buf</tt> is null
+    */
+   protected ByteBuffer source;
+
+   /**
+    * Position of the BMS/BDS bytes in <tt>source</tt>
+    */
+   protected int bodyOffset;
+
+   /**
+    * Number of BMS/BDS bytes in <tt>source</tt>
+    */
+   protected int bodyLength;
+
    /**
     *
     * @param aIs IS section
@@ -69,6 +93,26 @@ public class GribRecordLight
       pds = aPds;
       gds = aGds;
       buf = aBuf;
+      bodyLength = aBuf == null ? 0 : aBuf.length;
+   }
+
+   /**
+    *
+    * @param aIs IS section
+    * @param aPds PDS section
+    * @param aGds GDS section
+    * @param aSource mapped GRIB file, the rest of data is not copied
+    * @param aOffset position of the rest of data in <tt>aSource</tt>
+    * @param aLength length of the rest of data
+    */
+   public GribRecordLight(GribRecordIS aIs, GribRecordPDS aPds, GribRecordGDS aGds, ByteBuffer aSource, int aOffset, int aLength)
+   {
+      is = aIs;
+      pds = aPds;
+      gds = aGds;
+      source = aSource;
+      bodyOffset = aOffset;
+      bodyLength = aLength;
    }
 
    /**
@@ -99,11 +143,41 @@ public class GribRecordLight
    }
 
    /**
-    * Get buffer with bds and bms
+    * Get buffer with bds and bms.
+    * For a mapped record, the bytes are copied at each call, and not kept.
     * @return a buffer of BDS and BMS
     */
    public byte[] getBuf()
    {
+      if (buf == null && source != null)
+      {
+         byte[] copy = new byte[bodyLength];
+         ByteBuffer window = source.duplicate();
+         window.position(bodyOffset);
+         window.get(copy);
+         return copy;
+      }
       return buf;
    }
+
+   /**
+    * Get a stream on the bds and bms, without copying them for a mapped record
+    * @return a stream on BDS and BMS
+    */
+   public InputStream getBodyStream()
+   {
+      if (buf == null && source != null)
+      {
+         return new ByteBufferInputStream(source, bodyOffset, bodyLength);
+      }
+      return new ByteArrayInputStream(buf);
+   }
+
+   /**
+    * @return the number of BDS and BMS bytes
+    */
+   public int getBodyLength()
+   {
+      return bodyLength;
+   }
 }
@@ -387,7 +387,7 @@ public class GribTabPool
    {
 	  URL url = new URL(fileName);
 	  try {
-      GribPDSParamTable.readTableEntry(url, GribPDSParamTable.tables);
+      GribPDSParamTable.addTable(url);
 	  } catch (NotSupportedException e) {
 		System.err.println(e);
 	  } 
@@ -403,7 +403,7 @@ public class GribTabPool
          throws IOException
    {
 	  try {
-      GribPDSParamTable.readTableEntry(url, GribPDSParamTable.tables);
+      GribPDSParamTable.addTable(url);
 	  } catch (NotSupportedException e) {
 		System.err.println(e);
 	  } 
@@ -484,7 +484,7 @@ public class GribTabPool
     */
    public static void printAll()
    {
-      Iterator iter = GribPDSParamTable.tables.iterator();
+      Iterator iter = GribPDSParamTable.getTables().iterator();
       while (iter.hasNext()) 
       {
     	  GribPDSParamTable table = (GribPDSParamTable) iter.next();
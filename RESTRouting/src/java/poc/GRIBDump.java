@@ -6,10 +6,13 @@ import jgrib.GribFile;
 import jgrib.GribRecord;
 import jgrib.GribRecordBDS;
 import jgrib.GribRecordGDS;
+import jgrib.GribRecordLight;
 import jgrib.GribRecordPDS;
 import jgrib.NoValidGribException;
 import jgrib.NotSupportedException;
+import poc.data.GribDataset;
 import poc.data.GribDate;
+import poc.data.GribField;
 import poc.data.GribType;
 
 import java.io.File;
@@ -20,8 +23,10 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class GRIBDump {
 
@@ -34,78 +39,154 @@ public class GRIBDump {
 		super();
 	}
 
-	public final Map<GribDate, Map<GribType, Float[][]>> dump(GribFile gribFile) {
+	private final static int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	private static ForkJoinPool pool = null;
+
+	private static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			int parallelism = DEFAULT_PARALLELISM;
+			try {
+				parallelism = Integer.parseInt(System.getProperty("grib.parallelism", String.valueOf(DEFAULT_PARALLELISM)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			pool = new ForkJoinPool(Math.max(1, parallelism));
+		}
+		return pool;
+	}
+
+	/**
+	 * Decodes all the records of a GRIB file, in parallel.
+	 * The records that cannot be decoded are skipped, see {@link #dumpFeedback()}.
+	 *
+	 * @param gribFile the GRIB file
+	 * @return the dataset, one {@link GribField} per record
+	 */
+	public GribDataset decode(GribFile gribFile) {
+		return decode(gribFile, getPool());
+	}
+
+	public GribDataset decode(GribFile gribFile, ForkJoinPool forkJoinPool) {
 		feedback = new ArrayList<>(1);
-		try {
-//    GribPDSParamTable.turnOffJGRIBLogging();
-			gribDataMap = new HashMap<>();
-
-			for (int i = 0; i < gribFile.getLightRecords().length; i++) {
-				try {
-					GribRecord gr = new GribRecord(gribFile.getLightRecords()[i]);
-					GribRecordPDS grpds = gr.getPDS(); // Headers and Data
-					GribRecordGDS grgds = gr.getGDS(); // Boundaries and Steps
-					GribRecordBDS grbds = gr.getBDS(); // TASK get min and max from this one.
-
-					Date date = grpds.getGMTForecastTime().getTime();
-
-					int width = grgds.getGridNX();
-					int height = grgds.getGridNY();
-					double stepX = grgds.getGridDX();
-					double stepY = grgds.getGridDY();
-					double top = Math.max(grgds.getGridLat1(), grgds.getGridLat2());
-					double bottom = Math.min(grgds.getGridLat1(), grgds.getGridLat2());
-					double left = Math.min(grgds.getGridLon1(), grgds.getGridLon2());
-					double right = Math.max(grgds.getGridLon1(), grgds.getGridLon2());
-
-					String type = grpds.getType();
-					String description = grpds.getDescription();
-					String unit = grpds.getUnit();
-
-					if (right - left > 180) { // then swap. like left=-110, right=130
-						double tmp = right;
-						right = left;
-						left = tmp;
-					}
+		List<Callable<GribField>> tasks = new ArrayList<>();
+		for (GribRecordLight grl : gribFile.getLightRecords()) {
+			tasks.add(() -> decode(grl));
+		}
+		List<GribField> fields = new ArrayList<>(tasks.size());
+		for (Future<GribField> future : forkJoinPool.invokeAll(tasks)) {
+			try {
+				fields.add(future.get());
+			} catch (ExecutionException ee) {
+				ee.getCause().printStackTrace();
+				feedback.add(ee.getCause().toString());
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				feedback.add(ie.toString());
+				break;
+			}
+		}
+		return new GribDataset(fields);
+	}
 
-					GribDate gDate = new GribDate(date, height, width, stepX, stepY, top, bottom, left, right);
-
-					Float[][] data = new Float[height][width];
-					float val = 0F;
-					for (int col = 0; col < width; col++) {
-						for (int row = 0; row < height; row++) {
-							try {
-								val = gr.getValue(col, row);
-								if (val > grbds.getMaxValue() || val < grbds.getMinValue()) {
-									if (verbose) {
-										System.out.println("type:" + type + " val:" + val + " is out of [" + grbds.getMinValue() + ", " + grbds.getMaxValue() + "]");
-									}
-									val = grbds.getMinValue(); // TODO Make sure that's right...
-								}
-								data[row][col] = val;
-							} catch (Exception ex) {
-								ex.printStackTrace();
-							}
-						}
-					}
+	/**
+	 * Decodes one record. Does not modify any shared state, can be invoked by several threads.
+	 * <p>
+	 * Whatever the scanning mode of the GRIB, the field is oriented the same way: row 0 is the South edge,
+	 * column 0 the West edge, both steps are positive.
+	 * </p>
+	 *
+	 * @param grl the record
+	 * @return its values, on its grid
+	 */
+	private static GribField decode(GribRecordLight grl) throws NoValidGribException, IOException, NotSupportedException {
+		GribRecord gr = new GribRecord(grl);
+		GribRecordPDS grpds = gr.getPDS(); // Headers and Data
+		GribRecordGDS grgds = gr.getGDS(); // Boundaries and Steps
+		GribRecordBDS grbds = gr.getBDS(); // Min and max
+
+		Date date = grpds.getGMTForecastTime().getTime();
 
-					Map<GribType, Float[][]> subMap = gribDataMap.get(gDate);
-					if (subMap == null) {
-						subMap = new HashMap<>();
+		int width = grgds.getGridNX();
+		int height = grgds.getGridNY();
+		double stepX = Math.abs(grgds.getGridDX());
+		double stepY = Math.abs(grgds.getGridDY());
+		double top = Math.max(grgds.getGridLat1(), grgds.getGridLat2());
+		double bottom = Math.min(grgds.getGridLat1(), grgds.getGridLat2());
+		// Scanning mode (table 8): bit 1 (128) set for -i, East to West. bit 2 (64) set for +j, South to North.
+		boolean westward = (grgds.getGridScanmode() & 128) != 0;
+		boolean southward = grgds.getGridLat1() > grgds.getGridLat2();
+		double left = westward ? grgds.getGridLon2() : grgds.getGridLon1();
+		double right = westward ? grgds.getGridLon1() : grgds.getGridLon2();
+
+		String type = grpds.getType();
+		String description = grpds.getDescription();
+		String unit = grpds.getUnit();
+
+		GribDate gDate = new GribDate(date, height, width, stepX, stepY, top, bottom, left, right);
+
+		// Row major already, the array belongs to this record only
+		float[] data = gr.getValues();
+		if (southward || westward) {
+			data = orient(data, width, height, southward, westward);
+		}
+		float min = grbds.getMinValue();
+		float max = grbds.getMaxValue();
+		for (int i = 0; i < data.length; i++) {
+			float val = data[i];
+			if (val > max || val < min) {
+				if (verbose) {
+					System.out.println("type:" + type + " val:" + val + " is out of [" + min + ", " + max + "]");
+				}
+				data[i] = min; // TODO Make sure that's right...
+			}
+		}
+		return new GribField(new GribType(type, description, unit, min, max), gDate, data);
+	}
+
+	/**
+	 * Rows from South to North, columns from West to East.
+	 *
+	 * @param data      the values, in the order of the GRIB
+	 * @param flipRows  true if the first row of the GRIB is the North one
+	 * @param flipCols  true if the first column of the GRIB is the East one
+	 * @return the values, re-ordered
+	 */
+	private static float[] orient(float[] data, int width, int height, boolean flipRows, boolean flipCols) {
+		float[] oriented = new float[data.length];
+		for (int row = 0; row < height; row++) {
+			int from = (flipRows ? height - 1 - row : row) * width;
+			int to = row * width;
+			if (flipCols) {
+				for (int col = 0; col < width; col++) {
+					oriented[to + col] = data[from + width - 1 - col];
+				}
+			} else {
+				System.arraycopy(data, from, oriented, to, width);
+			}
+		}
+		return oriented;
+	}
+
+	/**
+	 * @deprecated One boxed Float per grid point, use {@link #decode(GribFile)}.
+	 */
+	@Deprecated
+	public final Map<GribDate, Map<GribType, Float[][]>> dump(GribFile gribFile) {
+		gribDataMap = new HashMap<>();
+		GribDataset dataset = decode(gribFile);
+		for (GribDate gDate : dataset.getDates()) {
+			Map<GribType, Float[][]> subMap = new HashMap<>();
+			for (GribField field : dataset.getFields(gDate)) {
+				Float[][] data = new Float[field.getHeight()][field.getWidth()];
+				for (int row = 0; row < field.getHeight(); row++) {
+					for (int col = 0; col < field.getWidth(); col++) {
+						data[row][col] = field.getValue(row, col);
 					}
-					subMap.put(new GribType(type, description, unit, grbds.getMinValue(), grbds.getMaxValue()), data);
-					gribDataMap.put(gDate, subMap);
-				} catch (NoValidGribException e) {
-					e.printStackTrace();
-				} catch (IOException e) {
-					e.printStackTrace();
-				} catch (NotSupportedException e) {
-					e.printStackTrace();
 				}
+				subMap.put(field.getType(), data);
 			}
-		} catch (Exception ex) {
-			ex.printStackTrace();
-			feedback.add(ex.toString());
+			gribDataMap.put(gDate, subMap);
 		}
 		return gribDataMap;
 	}
@@ -119,23 +200,23 @@ public class GRIBDump {
 	/**
 	 * For Gson to work properly...
 	 *
-	 * @param data
-	 * @return
+	 * @param dataset the decoded GRIB
+	 * @return one element per date, chronologically
 	 */
-	public static List<DatedGRIB> expandGrib(Map<GribDate, Map<GribType, Float[][]>> data) {
+	public static List<DatedGRIB> expandGrib(GribDataset dataset) {
 		List<DatedGRIB> grib = new ArrayList<>();
-		// Sort by date
-		SortedSet<GribDate> ss = new TreeSet<>(data.keySet());
-		for (GribDate gribDate : ss) {
-			Map<GribType, Float[][]> typeMaps = data.get(gribDate);
+		for (GribDate gribDate : dataset.getDates()) {
 			DatedGRIB datedGRIB = new DatedGRIB();
 			datedGRIB.gribDate = gribDate;
 			datedGRIB.typedData = new ArrayList<>();
 
-			for (GribType type : typeMaps.keySet()) {
+			for (GribField field : dataset.getFields(gribDate)) {
 				GRIBTypedData typedData = new GRIBTypedData();
-				typedData.gribType = type;
-				typedData.data = typeMaps.get(type);
+				typedData.gribType = field.getType();
+				typedData.data = new float[field.getHeight()][field.getWidth()];
+				for (int row = 0; row < field.getHeight(); row++) {
+					field.copyRow(row, typedData.data[row]);
+				}
 				datedGRIB.typedData.add(typedData);
 			}
 			grib.add(datedGRIB);
@@ -145,7 +226,7 @@ public class GRIBDump {
 
 	public static class GRIBTypedData {
 		GribType gribType;
-		Float[][] data;
+		float[][] data;
 	}
 
 	public static class DatedGRIB {
@@ -154,7 +235,7 @@ public class GRIBDump {
 	}
 
 	public List<DatedGRIB> getExpandedGBRIB(GribFile gf) {
-		return expandGrib(dump(gf));
+		return expandGrib(decode(gf));
 	}
 
 	// For standalone tests
@@ -0,0 +1,81 @@
+package poc.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The decoded content of a GRIB file: dates &times; parameters &times; grids.
+ * <p>
+ * Built once (see <code>poc.GRIBDump#decode</code>), immutable afterwards,
+ * can be queried by several threads, nothing is copied.
+ * </p>
+ */
+public class GribDataset {
+	private final List<GribDate> dates;
+	private final Map<GribDate, List<GribField>> fields;
+	private final Set<String> types;
+
+	/**
+	 * @param fields the fields, in any order. For each date, they are kept in the order they come in.
+	 */
+	public GribDataset(List<GribField> fields) {
+		SortedMap<GribDate, List<GribField>> byDate = new TreeMap<>();
+		Set<String> typeNames = new LinkedHashSet<>();
+		for (GribField field : fields) {
+			byDate.computeIfAbsent(field.getGrid(), d -> new ArrayList<>()).add(field);
+			typeNames.add(field.getType().getType());
+		}
+		byDate.replaceAll((date, list) -> Collections.unmodifiableList(list));
+		// For each date, the key is the grid of its first field
+		this.dates = Collections.unmodifiableList(new ArrayList<>(byDate.keySet()));
+		this.fields = Collections.unmodifiableMap(byDate);
+		this.types = Collections.unmodifiableSet(typeNames);
+	}
+
+	/**
+	 * @return the dates, chronologically
+	 */
+	public List<GribDate> getDates() {
+		return dates;
+	}
+
+	/**
+	 * @return the parameter names (like PRMSL, UGRD, VGRD), in the order they appear in the file
+	 */
+	public Set<String> getTypes() {
+		return types;
+	}
+
+	public List<GribField> getFields(GribDate date) {
+		List<GribField> list = fields.get(date);
+		return list == null ? Collections.emptyList() : list;
+	}
+
+	/**
+	 * @param date the date
+	 * @param type the parameter name, like PRMSL, case insensitive
+	 * @return the field, or null
+	 */
+	public GribField getField(GribDate date, String type) {
+		for (GribField field : getFields(date)) {
+			if (field.getType().getType().equalsIgnoreCase(type)) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	public int getFieldCount() {
+		int count = 0;
+		for (List<GribField> list : fields.values()) {
+			count += list.size();
+		}
+		return count;
+	}
+}
@@ -1,6 +1,7 @@
 package poc.data;
 
-import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 public class GribDate extends Date {
@@ -13,17 +14,15 @@ public class GribDate extends Date {
 	private double stepy;
 	private double top, bottom, left, right;
 
-	private final static SimpleDateFormat SDF_UTC = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss 'UTC'"); // I know, its's weird.
-//	static {
-//		SDF_UTC.setTimeZone(TimeZone.getTimeZone("Etc/UTC"));
-//	}
+	// Thread safe, the GribDates are built by the parallel decoding. In the default time zone, as it has always been.
+	private final static DateTimeFormatter SDF_UTC = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss 'UTC'").withZone(ZoneId.systemDefault()); // I know, its's weird.
 
 	public GribDate(Date d, int h, int w, double x, double y, double t,
 	                double b, double l, double r) {
 		super(d.getTime());
 		this.date = d;
 		this.epoch = d.getTime();
-		this.formattedUTCDate = SDF_UTC.format(d);
+		this.formattedUTCDate = SDF_UTC.format(d.toInstant());
 		this.height = h;
 		this.width = w;
 		this.stepx = x;
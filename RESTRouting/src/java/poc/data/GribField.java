@@ -0,0 +1,66 @@
+package poc.data;
+
+import java.nio.FloatBuffer;
+
+/**
+ * One parameter, at one date, on one grid.
+ * <p>
+ * The values are stored in a flat row-major <code>float[]</code>, <code>data[(row * width) + col]</code>,
+ * row 0 being the South edge of the grid, column 0 its West edge, whatever the scanning mode of the GRIB
+ * (<code>lat = bottom + (row * stepy)</code>, <code>lng = left + (col * stepx)</code>, both steps positive).
+ * Values out of [min, max] (undefined points) are replaced with min.
+ * </p>
+ * Immutable, the values are exposed through a read-only {@link FloatBuffer}, not copied.
+ */
+public class GribField {
+	private final GribType type;
+	private final GribDate grid;
+	private final float[] data;
+
+	public GribField(GribType type, GribDate grid, float[] data) {
+		if (data.length != grid.getWidth() * grid.getHeight()) {
+			throw new IllegalArgumentException(String.format("%s: %d values, for a %d x %d grid", type, data.length, grid.getWidth(), grid.getHeight()));
+		}
+		this.type = type;
+		this.grid = grid;
+		this.data = data;
+	}
+
+	public GribType getType() {
+		return type;
+	}
+
+	/**
+	 * @return the date of the field, and its grid (dimensions, steps, boundaries)
+	 */
+	public GribDate getGrid() {
+		return grid;
+	}
+
+	public int getWidth() {
+		return grid.getWidth();
+	}
+
+	public int getHeight() {
+		return grid.getHeight();
+	}
+
+	public float getValue(int row, int col) {
+		return data[(row * grid.getWidth()) + col];
+	}
+
+	/**
+	 * @return all the values, row-major, read only
+	 */
+	public FloatBuffer getData() {
+		return FloatBuffer.wrap(data).asReadOnlyBuffer();
+	}
+
+	/**
+	 * @param row the row to copy
+	 * @param dest receives the row, at least width long
+	 */
+	public void copyRow(int row, float[] dest) {
+		System.arraycopy(data, row * grid.getWidth(), dest, 0, grid.getWidth());
+	}
+}
@@ -0,0 +1,318 @@
+package poc.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Value of a parameter at any position and time covered by a {@link GribDataset}.
+ * <p>
+ * Linear in time, bilinear or bicubic (Catmull-Rom) in space. The longitudes wrap around when the grid goes around the Earth.
+ * Grid convention is the one of {@link GribField}: row 0 at the bottom, positive steps.
+ * </p>
+ * <p>
+ * Between two dates, the first points at a time are interpolated from the grid points around them, in the two surrounding dates.
+ * When more points are asked at the same time (like when routing), the grid of this time (time slice) is computed once, and kept in a small LRU cache
+ * (<code>-Dgrib.interpolation.cache.size</code>, default 16 slices), the next points at the same time only need the spatial interpolation.
+ * </p>
+ * Thread safe.
+ */
+public class GribInterpolator {
+
+	public enum Method {
+		BILINEAR,
+		BICUBIC
+	}
+
+	private final static int DEFAULT_CACHE_SIZE = 16;
+	/**
+	 * Points asked at the same time (between two dates) before its whole grid is computed.
+	 */
+	private final static int SLICE_THRESHOLD = 64;
+
+	/**
+	 * The fields of one parameter, chronologically.
+	 */
+	private final static class Series {
+		final long[] epochs;
+		final GribField[] fields;
+		volatile GribField lastSlice; // Most recent one, no lock for the next points at the same time
+
+		Series(List<GribField> list) {
+			this.epochs = new long[list.size()];
+			this.fields = list.toArray(new GribField[list.size()]);
+			for (int i = 0; i < epochs.length; i++) {
+				epochs[i] = fields[i].getGrid().getTime();
+			}
+		}
+	}
+
+	private final Map<String, Series> series = new HashMap<>();
+	private final Map<String, GribField> slices;
+	private final Map<String, int[]> hits; // Points asked at the times not having a slice yet, guarded by slices
+
+	public GribInterpolator(GribDataset dataset) {
+		this(dataset, getDefaultCacheSize());
+	}
+
+	public GribInterpolator(GribDataset dataset, int cacheSize) {
+		Map<String, List<GribField>> byType = new HashMap<>();
+		for (GribDate date : dataset.getDates()) {
+			for (GribField field : dataset.getFields(date)) {
+				List<GribField> list = byType.computeIfAbsent(key(field.getType().getType()), k -> new ArrayList<>());
+				if (list.isEmpty() || list.get(list.size() - 1).getGrid().getTime() != date.getTime()) { // First one for a date
+					list.add(field);
+				}
+			}
+		}
+		byType.forEach((type, list) -> series.put(type, new Series(list)));
+		final int maxSlices = Math.max(1, cacheSize);
+		this.slices = new LinkedHashMap<String, GribField>(maxSlices, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, GribField> eldest) {
+				return size() > maxSlices;
+			}
+		};
+		final int maxHits = 64 * maxSlices;
+		this.hits = new LinkedHashMap<String, int[]>(maxHits, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+				return size() > maxHits;
+			}
+		};
+	}
+
+	private static int getDefaultCacheSize() {
+		int size = DEFAULT_CACHE_SIZE;
+		try {
+			size = Integer.parseInt(System.getProperty("grib.interpolation.cache.size", String.valueOf(DEFAULT_CACHE_SIZE)));
+		} catch (NumberFormatException nfe) {
+			System.err.println(nfe.toString());
+		}
+		return size;
+	}
+
+	private static String key(String type) {
+		return type.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * @param type parameter name, like PRMSL, case insensitive
+	 * @return true if this parameter is in the dataset
+	 */
+	public boolean hasType(String type) {
+		return series.containsKey(key(type));
+	}
+
+	/**
+	 * @return the epochs (ms) of the parameter, empty if not in the dataset
+	 */
+	public long[] getEpochs(String type) {
+		Series s = series.get(key(type));
+		return s == null ? new long[0] : s.epochs.clone();
+	}
+
+	/**
+	 * @param type   parameter name, like PRMSL, case insensitive
+	 * @param lat    degrees
+	 * @param lng    degrees
+	 * @param epoch  ms
+	 * @param method spatial interpolation
+	 * @return the value, NaN if the parameter, the position or the time is not in the dataset
+	 */
+	public double getValue(String type, double lat, double lng, long epoch, Method method) {
+		return value(series.get(key(type)), key(type), lat, lng, epoch, method);
+	}
+
+	/**
+	 * Batch, all the points at the same time.
+	 *
+	 * @param out receives the values, NaN outside of the dataset
+	 */
+	public void getValues(String type, double[] lats, double[] lngs, long epoch, Method method, double[] out) {
+		Series s = series.get(key(type));
+		GribField slice = lats.length >= SLICE_THRESHOLD ? getSlice(s, key(type), epoch) : null;
+		for (int i = 0; i < lats.length; i++) {
+			out[i] = slice != null ? interpolate(slice, lats[i], lngs[i], method) : value(s, key(type), lats[i], lngs[i], epoch, method);
+		}
+	}
+
+	/**
+	 * Batch, each point at its own time.
+	 *
+	 * @param out receives the values, NaN outside of the dataset
+	 */
+	public void getValues(String type, double[] lats, double[] lngs, long[] epochs, Method method, double[] out) {
+		Series s = series.get(key(type));
+		for (int i = 0; i < lats.length; i++) {
+			out[i] = value(s, key(type), lats[i], lngs[i], epochs[i], method);
+		}
+	}
+
+	/**
+	 * Between two dates, as long as less than {@link #SLICE_THRESHOLD} points have been asked at this time,
+	 * the value is interpolated in time from the (4 or 16) grid points around it only, in the two surrounding fields.
+	 * The whole grid (time slice) is computed afterwards, for the next points at the same time.
+	 * Both are linear in the values of the grid, they give the same result, to the float precision.
+	 */
+	private double value(Series s, String type, double lat, double lng, long epoch, Method method) {
+		if (s == null || epoch < s.epochs[0] || epoch > s.epochs[s.epochs.length - 1]) {
+			return Double.NaN;
+		}
+		int idx = Arrays.binarySearch(s.epochs, epoch);
+		if (idx >= 0) {
+			return interpolate(s.fields[idx], lat, lng, method); // On a date
+		}
+		idx = -idx - 2;
+		GribField last = s.lastSlice;
+		if (last != null && last.getGrid().getTime() == epoch) {
+			return interpolate(last, lat, lng, method);
+		}
+		String sliceKey = type + "@" + epoch;
+		boolean buildSlice;
+		synchronized (slices) {
+			GribField slice = slices.get(sliceKey);
+			if (slice != null) {
+				s.lastSlice = slice;
+				return interpolate(slice, lat, lng, method);
+			}
+			int[] count = hits.computeIfAbsent(sliceKey, k -> new int[1]);
+			buildSlice = (++count[0] >= SLICE_THRESHOLD);
+		}
+		if (buildSlice) {
+			return interpolate(getSlice(s, type, epoch), lat, lng, method);
+		}
+		GribField before = s.fields[idx], after = s.fields[idx + 1];
+		double ratio = (double) (epoch - s.epochs[idx]) / (s.epochs[idx + 1] - s.epochs[idx]);
+		if (before.getWidth() != after.getWidth() || before.getHeight() != after.getHeight()) {
+			return interpolate(ratio < 0.5 ? before : after, lat, lng, method); // Different grids, nearest date
+		}
+		double v0 = interpolate(before, lat, lng, method);
+		return v0 + ((float) ratio * (interpolate(after, lat, lng, method) - v0));
+	}
+
+	/**
+	 * @return the grid of the parameter at epoch, interpolated between the two surrounding dates. null if not in the dataset.
+	 */
+	GribField getSlice(String type, long epoch) {
+		return getSlice(series.get(key(type)), key(type), epoch);
+	}
+
+	private GribField getSlice(Series s, String type, long epoch) {
+		if (s == null || epoch < s.epochs[0] || epoch > s.epochs[s.epochs.length - 1]) {
+			return null;
+		}
+		int idx = Arrays.binarySearch(s.epochs, epoch);
+		if (idx >= 0) {
+			return s.fields[idx]; // On a date
+		}
+		idx = -idx - 2;
+		GribField last = s.lastSlice;
+		if (last != null && last.getGrid().getTime() == epoch) {
+			return last;
+		}
+		String sliceKey = type + "@" + epoch;
+		synchronized (slices) {
+			GribField slice = slices.get(sliceKey);
+			if (slice != null) {
+				s.lastSlice = slice;
+				return slice;
+			}
+		}
+		GribField slice = blend(s.fields[idx], s.fields[idx + 1], (double) (epoch - s.epochs[idx]) / (s.epochs[idx + 1] - s.epochs[idx]), epoch);
+		synchronized (slices) {
+			slices.put(sliceKey, slice);
+			hits.remove(sliceKey);
+		}
+		s.lastSlice = slice;
+		return slice;
+	}
+
+	private static GribField blend(GribField before, GribField after, double ratio, long epoch) {
+		GribDate grid = before.getGrid();
+		if (grid.getWidth() != after.getWidth() || grid.getHeight() != after.getHeight()) {
+			return ratio < 0.5 ? before : after; // Different grids, nearest date
+		}
+		float[] data = new float[grid.getWidth() * grid.getHeight()];
+		float r = (float) ratio;
+		int idx = 0;
+		for (int row = 0; row < grid.getHeight(); row++) {
+			for (int col = 0; col < grid.getWidth(); col++) {
+				float v0 = before.getValue(row, col);
+				data[idx++] = v0 + (r * (after.getValue(row, col) - v0));
+			}
+		}
+		GribDate sliceGrid = new GribDate(new java.util.Date(epoch), grid.getHeight(), grid.getWidth(), grid.getStepx(), grid.getStepy(),
+				grid.getTop(), grid.getBottom(), grid.getLeft(), grid.getRight());
+		return new GribField(before.getType(), sliceGrid, data);
+	}
+
+	/**
+	 * Spatial interpolation in one grid.
+	 *
+	 * @return the value at lat/lng, NaN if outside of the grid
+	 */
+	public static double interpolate(GribField field, double lat, double lng, Method method) {
+		GribDate grid = field.getGrid();
+		int width = grid.getWidth();
+		int height = grid.getHeight();
+		double y = (lat - grid.getBottom()) / grid.getStepy();
+		if (y < 0d || y > height - 1) {
+			return Double.NaN;
+		}
+		double fromLeft = (lng - grid.getLeft()) % 360d;
+		if (fromLeft < 0d) {
+			fromLeft += 360d;
+		}
+		double x = fromLeft / grid.getStepx();
+		boolean aroundTheWorld = (width * grid.getStepx()) >= 360d;
+		if (!aroundTheWorld && x > width - 1) {
+			return Double.NaN;
+		}
+		int row = (int) y;
+		int col = (int) x;
+		double fy = y - row;
+		double fx = x - col;
+		if (method == Method.BICUBIC) {
+			double[] rows = new double[4];
+			for (int j = -1; j <= 2; j++) {
+				int r = clamp(row + j, height);
+				rows[j + 1] = cubic(value(field, r, col - 1, width, aroundTheWorld),
+						value(field, r, col, width, aroundTheWorld),
+						value(field, r, col + 1, width, aroundTheWorld),
+						value(field, r, col + 2, width, aroundTheWorld),
+						fx);
+			}
+			return cubic(rows[0], rows[1], rows[2], rows[3], fy);
+		}
+		int row1 = clamp(row + 1, height);
+		double bottom = value(field, row, col, width, aroundTheWorld) +
+				(fx * (value(field, row, col + 1, width, aroundTheWorld) - value(field, row, col, width, aroundTheWorld)));
+		double top = value(field, row1, col, width, aroundTheWorld) +
+				(fx * (value(field, row1, col + 1, width, aroundTheWorld) - value(field, row1, col, width, aroundTheWorld)));
+		return bottom + (fy * (top - bottom));
+	}
+
+	/**
+	 * Column wrapped around the world, or clamped on the edges of the grid.
+	 */
+	private static double value(GribField field, int row, int col, int width, boolean aroundTheWorld) {
+		int c = aroundTheWorld ? ((col % width) + width) % width : clamp(col, width);
+		return field.getValue(row, c);
+	}
+
+	private static int clamp(int idx, int size) {
+		return Math.max(0, Math.min(idx, size - 1));
+	}
+
+	/**
+	 * Catmull-Rom, between p1 (t = 0) and p2 (t = 1).
+	 */
+	private static double cubic(double p0, double p1, double p2, double p3, double t) {
+		return p1 + 0.5 * t * (p2 - p0 + t * (2d * p0 - 5d * p1 + 4d * p2 - p3 + t * (3d * (p1 - p2) + p3 - p0)));
+	}
+}
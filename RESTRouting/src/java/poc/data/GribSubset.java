@@ -0,0 +1,154 @@
+package poc.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * What to keep from a {@link GribDataset}: an area, some dates, some parameters, one point every <code>stride</code>.
+ * <p>
+ * Grid convention is the one of {@link GribField} and of the web client: row 0 is the bottom (South) of the grid, column 0 its left (West) side,
+ * <code>lat = bottom + (row * stepy)</code>, <code>lng = left + (col * stepx)</code>.
+ * </p>
+ * Everything is optional, an empty subset keeps everything.
+ */
+public class GribSubset {
+
+	private Double top, bottom, left, right;
+	private Set<Long> times;
+	private Set<String> parameters;
+	private int stride = 1;
+
+	public GribSubset bbox(double top, double bottom, double left, double right) {
+		if (top < bottom) {
+			throw new IllegalArgumentException(String.format("bbox: top (%f) is below bottom (%f)", top, bottom));
+		}
+		this.top = top;
+		this.bottom = bottom;
+		this.left = left;
+		this.right = right;
+		return this;
+	}
+
+	/**
+	 * @param times epochs (ms) of the dates to keep
+	 */
+	public GribSubset times(List<Long> times) {
+		this.times = new TreeSet<>(times);
+		return this;
+	}
+
+	/**
+	 * @param parameters names (like PRMSL, UGRD) of the parameters to keep, case insensitive
+	 */
+	public GribSubset parameters(List<String> parameters) {
+		this.parameters = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		this.parameters.addAll(parameters);
+		return this;
+	}
+
+	public GribSubset stride(int stride) {
+		if (stride < 1) {
+			throw new IllegalArgumentException(String.format("stride MUST be positive: %d", stride));
+		}
+		this.stride = stride;
+		return this;
+	}
+
+	boolean keeps(GribDate date) {
+		return times == null || times.contains(date.getTime());
+	}
+
+	boolean keeps(GribType type) {
+		return parameters == null || parameters.contains(type.getType());
+	}
+
+	/**
+	 * @param field the field to reduce
+	 * @return the part of the field in the bbox, every stride point. The field itself when there is nothing to remove. null if the bbox does not intersect the grid.
+	 */
+	GribField apply(GribField field) {
+		GribDate grid = field.getGrid();
+		int width = grid.getWidth();
+		boolean aroundTheWorld = (width * grid.getStepx()) >= 360d;
+		int rowFrom = 0, rowTo = grid.getHeight() - 1;
+		int colFrom = 0, colTo = width - 1;
+		if (top != null) {
+			rowFrom = Math.max(rowFrom, (int) Math.ceil((bottom - grid.getBottom()) / grid.getStepy()));
+			rowTo = Math.min(rowTo, (int) Math.floor((top - grid.getBottom()) / grid.getStepy()));
+			if (right - left < 360d) { // Otherwise the whole world, all the columns
+				double fromLeft = normalize360(left - grid.getLeft());
+				double bboxWidth = normalize360(right - left);
+				if (!aroundTheWorld && fromLeft > (width - 1) * grid.getStepx()) { // The bbox starts West of the grid
+					fromLeft -= 360d;
+				}
+				colFrom = Math.max(colFrom, (int) Math.ceil(fromLeft / grid.getStepx()));
+				colTo = (int) Math.floor((fromLeft + bboxWidth) / grid.getStepx());
+				// Around the world, the columns go on across the last one (modulo width), but no more than once
+				colTo = aroundTheWorld ? Math.min(colTo, colFrom + width - 1) : Math.min(colTo, width - 1);
+			}
+		}
+		if (rowFrom > rowTo || colFrom > colTo) {
+			return null;
+		}
+		if (stride == 1 && rowFrom == 0 && colFrom == 0 && rowTo == grid.getHeight() - 1 && colTo == width - 1) {
+			return field;
+		}
+		int height = ((rowTo - rowFrom) / stride) + 1;
+		int subWidth = ((colTo - colFrom) / stride) + 1;
+		float[] data = new float[subWidth * height];
+		int idx = 0;
+		for (int row = rowFrom; row <= rowTo; row += stride) {
+			for (int col = colFrom; col <= colTo; col += stride) {
+				data[idx++] = field.getValue(row, col % width);
+			}
+		}
+		double stepX = grid.getStepx() * stride;
+		double stepY = grid.getStepy() * stride;
+		double newBottom = grid.getBottom() + (rowFrom * grid.getStepy());
+		double newLeft = normalize180(grid.getLeft() + (colFrom * grid.getStepx()));
+		GribDate subGrid = new GribDate(grid.getGDate(), height, subWidth, stepX, stepY,
+				newBottom + ((height - 1) * stepY),
+				newBottom,
+				newLeft,
+				normalize180(newLeft + ((subWidth - 1) * stepX)));
+		return new GribField(field.getType(), subGrid, data);
+	}
+
+	private static double normalize360(double lng) {
+		double l = lng % 360d;
+		return l < 0d ? l + 360d : l;
+	}
+
+	private static double normalize180(double lng) {
+		double l = lng % 360d;
+		if (l > 180d) {
+			l -= 360d;
+		} else if (l <= -180d) {
+			l += 360d;
+		}
+		return l;
+	}
+
+	/**
+	 * @param dataset the dataset to reduce
+	 * @return a new dataset, the fields in the subset only
+	 */
+	public GribDataset apply(GribDataset dataset) {
+		List<GribField> fields = new ArrayList<>();
+		for (GribDate date : dataset.getDates()) {
+			if (keeps(date)) {
+				for (GribField field : dataset.getFields(date)) {
+					if (keeps(field.getType())) {
+						GribField reduced = apply(field);
+						if (reduced != null) {
+							fields.add(reduced);
+						}
+					}
+				}
+			}
+		}
+		return new GribDataset(fields);
+	}
+}
@@ -0,0 +1,449 @@
+package routing;
+
+import calc.GreatCircle;
+import calc.GreatCirclePoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fastest route between two points, with the isochrone method.
+ * <p>
+ * From each point of an isochrone, the boat sails for one time step on every heading, at the speed given by its polar
+ * in the wind of the point (plus the current, minus the waves). The points reached make the next isochrone,
+ * once pruned: the sea is split in sectors seen from the start, only the farthest point of each sector is kept,
+ * if it is farther than the one of the previous isochrone.
+ * The expansion of each isochrone is done in parallel.
+ * </p>
+ * The route is found when the destination can be reached during the next time step.
+ * There is no chart, the land is not avoided.
+ */
+public class IsochroneRouter {
+
+	private final static int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+	private final static double MS_TO_KNOTS = 3_600d / 1_852d;
+
+	private static ForkJoinPool pool = null;
+
+	private static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			int parallelism = DEFAULT_PARALLELISM;
+			try {
+				parallelism = Integer.parseInt(System.getProperty("routing.parallelism", String.valueOf(DEFAULT_PARALLELISM)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			pool = new ForkJoinPool(Math.max(1, parallelism));
+		}
+		return pool;
+	}
+
+	/**
+	 * Routing parameters, all optional.
+	 * The number of sectors, of steps and of headings (360 / headingStep) are bounded, so a route takes a bounded time.
+	 */
+	public static class Options {
+		public final static int MAX_SECTORS = 720;
+		public final static int MAX_STEPS = 1_000;
+		public final static double MIN_HEADING_STEP = 0.5;
+
+		int timeStep = 60;        // minutes
+		double headingStep = 5d;  // degrees
+		int sectors = 180;        // around the start
+		int maxSteps = 240;
+		double wavePenalty = 0d;  // speed lost per meter of significant wave height, 0.05 is 5%
+		boolean withIsochrones = false;
+
+		public Options timeStep(int minutes) {
+			if (minutes <= 0) {
+				throw new IllegalArgumentException(String.format("Time step MUST be positive: %d", minutes));
+			}
+			this.timeStep = minutes;
+			return this;
+		}
+
+		public Options headingStep(double degrees) {
+			if (!(degrees >= MIN_HEADING_STEP && degrees <= 90d)) {
+				throw new IllegalArgumentException(String.format("Heading step MUST be in [%.1f, 90]: %f", MIN_HEADING_STEP, degrees));
+			}
+			this.headingStep = degrees;
+			return this;
+		}
+
+		public Options sectors(int sectors) {
+			if (sectors < 4 || sectors > MAX_SECTORS) {
+				throw new IllegalArgumentException(String.format("Between 4 and %d sectors: %d", MAX_SECTORS, sectors));
+			}
+			this.sectors = sectors;
+			return this;
+		}
+
+		public Options maxSteps(int maxSteps) {
+			if (maxSteps < 1 || maxSteps > MAX_STEPS) {
+				throw new IllegalArgumentException(String.format("Between 1 and %d steps: %d", MAX_STEPS, maxSteps));
+			}
+			this.maxSteps = maxSteps;
+			return this;
+		}
+
+		public Options wavePenalty(double wavePenalty) {
+			this.wavePenalty = Math.max(0d, Math.min(wavePenalty, 1d));
+			return this;
+		}
+
+		public Options withIsochrones(boolean withIsochrones) {
+			this.withIsochrones = withIsochrones;
+			return this;
+		}
+	}
+
+	/**
+	 * One point of the route.
+	 */
+	public static class RoutePoint {
+		double lat;
+		double lng;
+		long epoch;
+		double heading; // Course steered from this point, degrees
+		double tws;     // knots
+		double twd;     // degrees, where the wind comes from
+		double twa;     // degrees, negative on port tack
+		double speed;   // boat speed, knots
+
+		public double getLat() {
+			return lat;
+		}
+
+		public double getLng() {
+			return lng;
+		}
+
+		public long getEpoch() {
+			return epoch;
+		}
+
+		public double getHeading() {
+			return heading;
+		}
+
+		public double getTws() {
+			return tws;
+		}
+
+		public double getTwd() {
+			return twd;
+		}
+
+		public double getTwa() {
+			return twa;
+		}
+
+		public double getSpeed() {
+			return speed;
+		}
+	}
+
+	public static class Result {
+		boolean reached;
+		long departure;
+		long arrival;      // Or the time of the point closest to destination, when not reached
+		double distance;   // Sailed, nm
+		List<RoutePoint> route;
+		List<List<double[]>> isochrones; // [lat, lng], when requested
+
+		public boolean isReached() {
+			return reached;
+		}
+
+		public long getDeparture() {
+			return departure;
+		}
+
+		public long getArrival() {
+			return arrival;
+		}
+
+		public double getDistance() {
+			return distance;
+		}
+
+		public List<RoutePoint> getRoute() {
+			return route;
+		}
+
+		public List<List<double[]>> getIsochrones() {
+			return isochrones;
+		}
+	}
+
+	/**
+	 * A point reached, with the way it was reached.
+	 */
+	private final static class Node {
+		final double lat, lng;  // degrees
+		final long epoch;
+		final Node parent;
+		final double fromStart; // nm
+		double heading, tws, twd, twa, speed; // Set when leaving the point
+
+		Node(double lat, double lng, long epoch, Node parent, double fromStart) {
+			this.lat = lat;
+			this.lng = lng;
+			this.epoch = epoch;
+			this.parent = parent;
+			this.fromStart = fromStart;
+		}
+	}
+
+	private final WeatherField weather;
+	private final Polar polar;
+	private final Options options;
+	private final ForkJoinPool forkJoinPool;
+
+	public IsochroneRouter(WeatherField weather, Polar polar, Options options) {
+		this(weather, polar, options, getPool());
+	}
+
+	public IsochroneRouter(WeatherField weather, Polar polar, Options options, ForkJoinPool forkJoinPool) {
+		this.weather = weather;
+		this.polar = polar;
+		this.options = options;
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * @param fromLat   start latitude, degrees
+	 * @param fromLng   start longitude, degrees
+	 * @param toLat     destination latitude, degrees
+	 * @param toLng     destination longitude, degrees
+	 * @param departure epoch, ms
+	 * @return the fastest route found. When the destination cannot be reached (not enough GRIB, not enough steps),
+	 * the route to the point the closest to the destination.
+	 */
+	public Result route(double fromLat, double fromLng, double toLat, double toLng, long departure) throws InterruptedException, ExecutionException {
+		final GreatCirclePoint startRad = new GreatCirclePoint(Math.toRadians(fromLat), Math.toRadians(fromLng));
+		final GreatCirclePoint destRad = new GreatCirclePoint(Math.toRadians(toLat), Math.toRadians(toLng));
+		final long stepMs = options.timeStep * 60_000L;
+		final int nbSectors = options.sectors;
+
+		Node start = new Node(fromLat, fromLng, departure, null, 0d);
+		List<Node> front = Collections.singletonList(start);
+		double[] farthest = new double[nbSectors]; // Per sector, in all the previous isochrones
+		List<List<double[]>> isochrones = options.withIsochrones ? new ArrayList<>() : null;
+
+		Node closest = start;
+		double closestDistance = distance(startRad, destRad);
+		Node arrivalFrom = null;
+		long arrival = Long.MAX_VALUE;
+
+		for (int step = 0; step < options.maxSteps && !front.isEmpty(); step++) {
+			final List<Node> current = front;
+			// Can the destination be reached from this isochrone?
+			Node[] best = forkJoinPool.submit(() -> current.parallelStream()
+					.map(node -> toDestination(node, destRad, stepMs))
+					.filter(node -> node != null)
+					.toArray(Node[]::new)).get();
+			for (Node candidate : best) {
+				if (candidate.epoch < arrival) {
+					arrival = candidate.epoch;
+					arrivalFrom = candidate;
+				}
+			}
+			if (arrivalFrom != null) {
+				break;
+			}
+			// Next isochrone
+			Node[] sectors = forkJoinPool.submit(() -> current.parallelStream()
+					.collect(() -> new Node[nbSectors],
+							(acc, node) -> expand(node, startRad, stepMs, acc),
+							IsochroneRouter::merge)).get();
+			List<Node> next = new ArrayList<>();
+			for (int s = 0; s < nbSectors; s++) {
+				Node node = sectors[s];
+				if (node != null && node.fromStart > farthest[s]) {
+					farthest[s] = node.fromStart;
+					next.add(node);
+					double toDest = distance(new GreatCirclePoint(Math.toRadians(node.lat), Math.toRadians(node.lng)), destRad);
+					if (toDest < closestDistance) {
+						closestDistance = toDest;
+						closest = node;
+					}
+				}
+			}
+			if (isochrones != null && !next.isEmpty()) {
+				List<double[]> isochrone = new ArrayList<>(next.size());
+				for (Node node : next) {
+					isochrone.add(new double[]{node.lat, node.lng});
+				}
+				isochrones.add(isochrone);
+			}
+			front = next;
+		}
+
+		Result result = new Result();
+		result.departure = departure;
+		result.reached = (arrivalFrom != null);
+		result.isochrones = isochrones;
+		Node last = result.reached ? arrivalFrom : closest;
+		result.arrival = last.epoch;
+		result.route = new ArrayList<>();
+		for (Node node = last; node != null; node = node.parent) {
+			RoutePoint point = new RoutePoint();
+			point.lat = node.lat;
+			point.lng = node.lng;
+			point.epoch = node.epoch;
+			if (node != last) { // The last point is not left
+				point.heading = node.heading;
+				point.tws = node.tws;
+				point.twd = node.twd;
+				point.twa = node.twa;
+				point.speed = node.speed;
+			}
+			result.route.add(point);
+		}
+		Collections.reverse(result.route);
+		double sailed = 0d;
+		for (int i = 1; i < result.route.size(); i++) {
+			RoutePoint from = result.route.get(i - 1);
+			RoutePoint to = result.route.get(i);
+			sailed += distance(new GreatCirclePoint(Math.toRadians(from.lat), Math.toRadians(from.lng)),
+					new GreatCirclePoint(Math.toRadians(to.lat), Math.toRadians(to.lng)));
+		}
+		result.distance = sailed;
+		return result;
+	}
+
+	/**
+	 * Sails from node on every heading for one time step, keeping the farthest point of each sector.
+	 * The wind is the one at the node, for the whole step.
+	 */
+	private void expand(Node node, GreatCirclePoint startRad, long stepMs, Node[] sectors) {
+		double[] wind = new double[2];
+		if (!weather.wind(node.lat, node.lng, node.epoch, wind)) {
+			return; // Out of the GRIB, dead end.
+		}
+		double[] current = new double[2];
+		weather.current(node.lat, node.lng, node.epoch, current);
+		double waveFactor = 1d - (options.wavePenalty * (options.wavePenalty > 0d ? weather.waveHeight(node.lat, node.lng, node.epoch) : 0d));
+		double tws = Math.hypot(wind[0], wind[1]) * MS_TO_KNOTS;
+		double twd = windDirection(wind);
+		double hours = stepMs / 3_600_000d;
+		GreatCirclePoint fromRad = new GreatCirclePoint(Math.toRadians(node.lat), Math.toRadians(node.lng));
+		double sectorAngle = 360d / sectors.length;
+
+		for (double heading = 0d; heading < 360d; heading += options.headingStep) {
+			double twa = normalize180(heading - twd);
+			double speed = polar.getSpeed(tws, twa) * Math.max(0d, waveFactor);
+			if (speed <= 0d) {
+				continue;
+			}
+			double[] overGround = overGround(speed, heading, current);
+			if (overGround[0] <= 0d) {
+				continue;
+			}
+			GreatCirclePoint reachedRad = GreatCircle.dr(fromRad, overGround[0] * hours, overGround[1]);
+			double lat = Math.toDegrees(reachedRad.getL());
+			double lng = normalize180(Math.toDegrees(reachedRad.getG()));
+			GreatCirclePoint normalizedRad = new GreatCirclePoint(reachedRad.getL(), Math.toRadians(lng));
+			double fromStart = distance(startRad, normalizedRad);
+			double bearing = Math.toDegrees(GreatCircle.calculateRhumLineRoute(startRad, normalizedRad));
+			int sector = (int) (normalize360(bearing) / sectorAngle) % sectors.length;
+			if (sectors[sector] == null || sectors[sector].fromStart < fromStart) {
+				Node reached = new Node(lat, lng, node.epoch + stepMs, leaving(node, heading, tws, twd, twa, speed), fromStart);
+				sectors[sector] = reached;
+			}
+		}
+	}
+
+	/**
+	 * Straight to the destination, if it can be reached before the end of the step.
+	 *
+	 * @return the destination node, or null
+	 */
+	private Node toDestination(Node node, GreatCirclePoint destRad, long stepMs) {
+		double[] wind = new double[2];
+		if (!weather.wind(node.lat, node.lng, node.epoch, wind)) {
+			return null;
+		}
+		GreatCirclePoint fromRad = new GreatCirclePoint(Math.toRadians(node.lat), Math.toRadians(node.lng));
+		double toDest = distance(fromRad, destRad);
+		double heading = normalize360(Math.toDegrees(GreatCircle.calculateRhumLineRoute(fromRad, destRad)));
+		double[] current = new double[2];
+		weather.current(node.lat, node.lng, node.epoch, current);
+		double waveFactor = 1d - (options.wavePenalty * (options.wavePenalty > 0d ? weather.waveHeight(node.lat, node.lng, node.epoch) : 0d));
+		double tws = Math.hypot(wind[0], wind[1]) * MS_TO_KNOTS;
+		double twd = windDirection(wind);
+		double twa = normalize180(heading - twd);
+		double speed = polar.getSpeed(tws, twa) * Math.max(0d, waveFactor);
+		double sog = overGround(speed, heading, current)[0]; // Current ignored for the course, over such a short distance
+		if (sog <= 0d) {
+			return null;
+		}
+		double hours = toDest / sog;
+		long duration = Math.round(hours * 3_600_000d);
+		if (duration > stepMs) {
+			return null;
+		}
+		return new Node(Math.toDegrees(destRad.getL()), Math.toDegrees(destRad.getG()), node.epoch + duration,
+				leaving(node, heading, tws, twd, twa, speed), node.fromStart + toDest);
+	}
+
+	/**
+	 * The nodes are shared by the candidates, a copy holds the way each one is left.
+	 */
+	private static Node leaving(Node node, double heading, double tws, double twd, double twa, double speed) {
+		Node leaving = new Node(node.lat, node.lng, node.epoch, node.parent, node.fromStart);
+		leaving.heading = heading;
+		leaving.tws = tws;
+		leaving.twd = twd;
+		leaving.twa = twa;
+		leaving.speed = speed;
+		return leaving;
+	}
+
+	private static void merge(Node[] into, Node[] from) {
+		for (int i = 0; i < into.length; i++) {
+			if (from[i] != null && (into[i] == null || into[i].fromStart < from[i].fromStart)) {
+				into[i] = from[i];
+			}
+		}
+	}
+
+	/**
+	 * @return speed (knots) and course (degrees) over ground
+	 */
+	private static double[] overGround(double speed, double heading, double[] current) {
+		double east = (speed * Math.sin(Math.toRadians(heading))) + (current[0] * MS_TO_KNOTS);
+		double north = (speed * Math.cos(Math.toRadians(heading))) + (current[1] * MS_TO_KNOTS);
+		return new double[]{Math.hypot(east, north), normalize360(Math.toDegrees(Math.atan2(east, north)))};
+	}
+
+	/**
+	 * @param wind u and v, m/s
+	 * @return where the wind comes from, degrees
+	 */
+	private static double windDirection(double[] wind) {
+		return normalize360(Math.toDegrees(Math.atan2(-wind[0], -wind[1])));
+	}
+
+	/**
+	 * @return great circle distance, nm. Points in radians.
+	 */
+	private static double distance(GreatCirclePoint from, GreatCirclePoint to) {
+		double d = GreatCircle.getGCDistance(from, to);
+		return Double.isNaN(d) ? 0d : d; // acos of a cosine slightly above 1
+	}
+
+	private static double normalize360(double angle) {
+		double a = angle % 360d;
+		return a < 0d ? a + 360d : a;
+	}
+
+	private static double normalize180(double angle) {
+		double a = normalize360(angle);
+		return a > 180d ? a - 360d : a;
+	}
+}
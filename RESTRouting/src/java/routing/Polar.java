@@ -0,0 +1,172 @@
+package routing;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Boat speed, for a true wind speed (TWS) and a true wind angle (TWA).
+ * <p>
+ * The table gives the speeds (in knots) for some wind speeds (in knots), and some angles (0 to 180 degrees).
+ * The values in between are interpolated, bilinearly. Beyond the last wind speed, the last column is used.
+ * </p>
+ * Immutable.
+ */
+public class Polar {
+
+	private final double[] tws;
+	private final double[] twa;
+	private final double[][] speed; // [twa][tws]
+
+	/**
+	 * @param tws   wind speeds, in knots, increasing
+	 * @param twa   wind angles, in degrees, increasing, in [0, 180]
+	 * @param speed boat speeds in knots, one row per angle, one column per wind speed
+	 */
+	public Polar(double[] tws, double[] twa, double[][] speed) {
+		if (tws.length == 0 || twa.length == 0) {
+			throw new IllegalArgumentException("Empty polar");
+		}
+		if (speed.length != twa.length) {
+			throw new IllegalArgumentException(String.format("%d angles, %d rows of speeds", twa.length, speed.length));
+		}
+		for (double[] row : speed) {
+			if (row.length != tws.length) {
+				throw new IllegalArgumentException(String.format("%d wind speeds, a row of %d speeds", tws.length, row.length));
+			}
+		}
+		checkIncreasing(tws, "wind speeds");
+		checkIncreasing(twa, "wind angles");
+		this.tws = tws.clone();
+		this.twa = twa.clone();
+		this.speed = new double[speed.length][];
+		for (int i = 0; i < speed.length; i++) {
+			this.speed[i] = speed[i].clone();
+		}
+	}
+
+	private static void checkIncreasing(double[] values, String what) {
+		for (int i = 1; i < values.length; i++) {
+			if (values[i] <= values[i - 1]) {
+				throw new IllegalArgumentException(String.format("The %s must be increasing: %s", what, Arrays.toString(values)));
+			}
+		}
+	}
+
+	/**
+	 * Reads a polar in the tab (or semicolon) separated format used by most routing software:
+	 * <pre>
+	 * TWA\TWS	6	8	10	12
+	 * 52	5.1	6.0	6.6	7.0
+	 * 60	5.5	6.4	7.0	7.3
+	 * ...
+	 * </pre>
+	 * First line: the wind speeds. Then one line per angle, the angle first, and one speed per wind speed.
+	 *
+	 * @param reader the polar
+	 * @return the polar
+	 * @throws IOException when the polar cannot be read or understood
+	 */
+	public static Polar parse(Reader reader) throws IOException {
+		BufferedReader br = new BufferedReader(reader);
+		String line;
+		double[] tws = null;
+		List<Double> twa = new ArrayList<>();
+		List<double[]> speed = new ArrayList<>();
+		int lineNum = 0;
+		while ((line = br.readLine()) != null) {
+			lineNum++;
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			String[] items = line.split("[\t;]+|\\s+");
+			if (tws == null) {
+				tws = numbers(items, 1, lineNum);
+			} else {
+				if (items.length - 1 != tws.length) {
+					throw new IOException(String.format("Polar, line %d: %d speeds, for %d wind speeds", lineNum, items.length - 1, tws.length));
+				}
+				double[] numbers = numbers(items, 0, lineNum);
+				twa.add(numbers[0]);
+				speed.add(Arrays.copyOfRange(numbers, 1, numbers.length));
+			}
+		}
+		if (tws == null) {
+			throw new IOException("Polar: no data");
+		}
+		try {
+			return new Polar(tws, twa.stream().mapToDouble(Double::doubleValue).toArray(), speed.toArray(new double[speed.size()][]));
+		} catch (IllegalArgumentException iae) {
+			throw new IOException("Polar: " + iae.getMessage());
+		}
+	}
+
+	/**
+	 * The content of the file is not in the messages, only the position of what cannot be understood.
+	 */
+	private static double[] numbers(String[] items, int from, int lineNum) throws IOException {
+		double[] numbers = new double[items.length - from];
+		for (int i = from; i < items.length; i++) {
+			try {
+				numbers[i - from] = Double.parseDouble(items[i]);
+			} catch (NumberFormatException nfe) {
+				throw new IOException(String.format("Polar, line %d, column %d: not a number", lineNum, i + 1));
+			}
+		}
+		return numbers;
+	}
+
+	public static Polar parse(String fileName) throws IOException {
+		try (Reader reader = new FileReader(fileName)) {
+			return parse(reader);
+		}
+	}
+
+	/**
+	 * @param windSpeed in knots
+	 * @param windAngle in degrees, any sign, port and starboard are the same
+	 * @return the boat speed, in knots. 0 below the first angle.
+	 */
+	public double getSpeed(double windSpeed, double windAngle) {
+		double angle = Math.abs(windAngle) % 360d;
+		if (angle > 180d) {
+			angle = 360d - angle;
+		}
+		if (angle < twa[0] || windSpeed <= 0d) {
+			return 0d;
+		}
+		int a = floorIndex(twa, angle);
+		int s = floorIndex(tws, windSpeed);
+		double ra = ratio(twa, a, angle);
+		double rs = ratio(tws, s, windSpeed);
+		int a2 = Math.min(a + 1, twa.length - 1);
+		int s2 = Math.min(s + 1, tws.length - 1);
+		double low = speed[a][s] + (rs * (speed[a][s2] - speed[a][s]));
+		double high = speed[a2][s] + (rs * (speed[a2][s2] - speed[a2][s]));
+		double boatSpeed = low + (ra * (high - low));
+		if (windSpeed < tws[0]) { // Down to 0 knot, 0 speed
+			boatSpeed *= (windSpeed / tws[0]);
+		}
+		return boatSpeed;
+	}
+
+	private static int floorIndex(double[] values, double value) {
+		int idx = Arrays.binarySearch(values, value);
+		if (idx < 0) {
+			idx = -idx - 2;
+		}
+		return Math.max(0, Math.min(idx, values.length - 1));
+	}
+
+	private static double ratio(double[] values, int idx, double value) {
+		if (idx >= values.length - 1 || value <= values[idx]) {
+			return 0d;
+		}
+		return (value - values[idx]) / (values[idx + 1] - values[idx]);
+	}
+}
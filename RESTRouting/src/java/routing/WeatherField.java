@@ -0,0 +1,93 @@
+package routing;
+
+import poc.data.GribDataset;
+import poc.data.GribInterpolator;
+
+/**
+ * Wind (and optionally current and waves) at any position and time covered by a GRIB dataset.
+ * <p>
+ * Bilinear in space, linear in time, see {@link GribInterpolator}.
+ * </p>
+ * Can be used by several threads.
+ */
+public class WeatherField {
+
+	private final static String UGRD = "ugrd";
+	private final static String VGRD = "vgrd";
+	private final static String UOGRD = "uogrd";
+	private final static String VOGRD = "vogrd";
+	private final static String HTSGW = "htsgw";
+
+	private final GribInterpolator interpolator;
+	private final long firstEpoch;
+	private final long lastEpoch;
+
+	private WeatherField(GribInterpolator interpolator, long firstEpoch, long lastEpoch) {
+		this.interpolator = interpolator;
+		this.firstEpoch = firstEpoch;
+		this.lastEpoch = lastEpoch;
+	}
+
+	/**
+	 * @param dataset the decoded GRIB
+	 * @return the weather, for the dates having both wind components
+	 * @throws IllegalArgumentException when there is no wind in the dataset
+	 */
+	public static WeatherField of(GribDataset dataset) {
+		GribInterpolator interpolator = new GribInterpolator(dataset);
+		long[] u = interpolator.getEpochs(UGRD);
+		long[] v = interpolator.getEpochs(VGRD);
+		if (u.length == 0 || v.length == 0) {
+			throw new IllegalArgumentException("No wind (UGRD, VGRD) in the GRIB");
+		}
+		return new WeatherField(interpolator, Math.max(u[0], v[0]), Math.min(u[u.length - 1], v[v.length - 1]));
+	}
+
+	public long getFirstEpoch() {
+		return firstEpoch;
+	}
+
+	public long getLastEpoch() {
+		return lastEpoch;
+	}
+
+	/**
+	 * @param out receives the eastward (u) and northward (v) components, in m/s
+	 * @return false if the position or the time is not in the GRIB
+	 */
+	public boolean wind(double lat, double lng, long epoch, double[] out) {
+		return interpolate(UGRD, VGRD, lat, lng, epoch, out);
+	}
+
+	/**
+	 * @param out receives the eastward (u) and northward (v) components, in m/s. 0 when there is no current in the GRIB.
+	 * @return false if the position or the time is not in the GRIB
+	 */
+	public boolean current(double lat, double lng, long epoch, double[] out) {
+		if (!interpolate(UOGRD, VOGRD, lat, lng, epoch, out)) {
+			out[0] = 0d;
+			out[1] = 0d;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the significant wave height in meters, 0 when not in the GRIB
+	 */
+	public double waveHeight(double lat, double lng, long epoch) {
+		double h = interpolator.getValue(HTSGW, lat, lng, epoch, GribInterpolator.Method.BILINEAR);
+		return Double.isNaN(h) ? 0d : h;
+	}
+
+	private boolean interpolate(String xType, String yType, double lat, double lng, long epoch, double[] out) {
+		double x = interpolator.getValue(xType, lat, lng, epoch, GribInterpolator.Method.BILINEAR);
+		double y = interpolator.getValue(yType, lat, lng, epoch, GribInterpolator.Method.BILINEAR);
+		if (Double.isNaN(x) || Double.isNaN(y)) {
+			return false;
+		}
+		out[0] = x;
+		out[1] = y;
+		return true;
+	}
+}
@@ -1,16 +1,13 @@
 package samples;
 
-import com.google.gson.Gson;
+import gribprocessing.GRIBOutput;
 import gribprocessing.utils.GRIBUtils;
 import jgrib.GribFile;
 import poc.GRIBDump;
-import poc.data.GribDate;
-import poc.data.GribType;
+import poc.data.GribDataset;
 
 import java.io.File;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
 
 public class Sample03 {
 
@@ -33,13 +30,13 @@ public class Sample03 {
 			URL gribURL = new File(gribFileName).toURI().toURL();
 			GribFile gf = new GribFile(gribURL.openStream());
 
-			Map<GribDate, Map<GribType, Float[][]>> gribMap = dump.dump(gf);
-			String json = new Gson().toJson(gribMap);
+			GribDataset dataset = dump.decode(gf);
 
 			if (verbose) {
 				System.out.println("Done:");
 			}
-			System.out.println(json);
+			GRIBOutput.writeJson(dataset, System.out);
+			System.out.println();
 			if (verbose) {
 				dump.dumpFeedback();
 			}
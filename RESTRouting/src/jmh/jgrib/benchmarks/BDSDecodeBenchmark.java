@@ -0,0 +1,58 @@
+package jgrib.benchmarks;
+
+import jgrib.BDSUnpacker;
+import jgrib.BitInputStream;
+import jgrib.GribRecordBDS;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding one Binary Data Section of a 0.25&deg; global grid (1 038 240 values), for several bits per value.
+ * <p>
+ * 8, 12 and 16 bits have their own loop in {@link BDSUnpacker}, the other widths go through the generic one.
+ * <code>record</code> is the whole section, as a {@link GribRecordBDS} (header, copy of the packed values, min and max),
+ * <code>unpack</code> is the unpacking only, in a reused array.
+ * </p>
+ * Run with <code>../gradlew :RESTRouting:jmh -Pjmh.include=BDSDecodeBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BDSDecodeBenchmark {
+
+	@Param({ "8", "12", "16", "20", "24" })
+	public int numbits;
+
+	private byte[] bds;
+	private ByteBuffer packed;
+	private float[] values;
+	private int count;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		SyntheticGrib grid = SyntheticGrib.globalQuarterDegree();
+		count = grid.getWidth() * grid.getHeight();
+		bds = SyntheticGrib.bds(grid.values(SyntheticGrib.Parameter.PRMSL, 0), numbits);
+		byte[] data = new byte[bds.length - 11];
+		System.arraycopy(bds, 11, data, 0, data.length);
+		packed = BDSUnpacker.wrap(data, data.length);
+		values = new float[count];
+	}
+
+	@Benchmark
+	public float[] record() throws Exception {
+		return new GribRecordBDS(new BitInputStream(new ByteArrayInputStream(bds)), 0).getValues();
+	}
+
+	@Benchmark
+	public float[] unpack() {
+		BDSUnpacker.unpack(packed, numbits, count, 101_000f, 0.5f, values);
+		return values;
+	}
+}
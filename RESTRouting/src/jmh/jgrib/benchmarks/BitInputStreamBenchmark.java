@@ -0,0 +1,47 @@
+package jgrib.benchmarks;
+
+import jgrib.BitInputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BitInputStream#readUBits(int)}, value by value, over the packed values of a 0.25&deg; global grid.
+ * This is how the values were read before {@link jgrib.BDSUnpacker}, and how the bit maps still are (1 bit).
+ * <p>
+ * The time is per value.
+ * </p>
+ * Run with <code>../gradlew :RESTRouting:jmh -Pjmh.include=BitInputStreamBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BitInputStreamBenchmark {
+
+	private final static int COUNT = SyntheticGrib.GLOBAL_QUARTER_WIDTH * SyntheticGrib.GLOBAL_QUARTER_HEIGHT;
+
+	@Param({ "1", "8", "12", "16", "24" })
+	public int numbits;
+
+	private byte[] packed;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		packed = SyntheticGrib.randomPacked(numbits, COUNT, 0);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public long readUBits() throws Exception {
+		BitInputStream in = new BitInputStream(new ByteArrayInputStream(packed));
+		long sum = 0;
+		for (int i = 0; i < COUNT; i++) {
+			sum += in.readUBits(numbits);
+		}
+		return sum;
+	}
+}
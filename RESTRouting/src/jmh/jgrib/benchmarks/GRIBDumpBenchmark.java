@@ -0,0 +1,69 @@
+package jgrib.benchmarks;
+
+import jgrib.GribFile;
+import org.openjdk.jmh.annotations.*;
+import poc.GRIBDump;
+import poc.data.GribDataset;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding all the records of a GRIB file with {@link GRIBDump}.
+ * <p>
+ * <code>decode</code> uses the pool of GRIBDump (<code>-Dgrib.parallelism</code>), <code>decodeSequential</code> one thread,
+ * <code>openAndDecode</code> is the end-to-end path of the server (map, then decode),
+ * <code>dump</code> is the deprecated one, a boxed Float per grid point.
+ * </p>
+ * Run with <code>../gradlew :RESTRouting:jmh -Pjmh.include=GRIBDumpBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class GRIBDumpBenchmark {
+
+	@Param({ GribSamples.SAMPLE_2009, GribSamples.SAMPLE_2017, GribSamples.GLOBAL })
+	public String grib;
+
+	private File file;
+	private GribFile gribFile;
+	private ForkJoinPool sequential;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		file = GribSamples.get(grib);
+		gribFile = GribFile.map(file, false);
+		sequential = new ForkJoinPool(1);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sequential.shutdown();
+	}
+
+	@Benchmark
+	public GribDataset decode() {
+		return new GRIBDump().decode(gribFile);
+	}
+
+	@Benchmark
+	public GribDataset decodeSequential() {
+		return new GRIBDump().decode(gribFile, sequential);
+	}
+
+	@Benchmark
+	public GribDataset openAndDecode() throws Exception {
+		return new GRIBDump().decode(GribFile.map(file, false));
+	}
+
+	@SuppressWarnings("deprecation")
+	@Benchmark
+	public Map<?, ?> dump() {
+		return new GRIBDump().dump(gribFile);
+	}
+}
@@ -0,0 +1,50 @@
+package jgrib.benchmarks;
+
+import jgrib.GribFile;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opening a GRIB file, and indexing its records. No data is decoded.
+ * <p>
+ * <code>stream</code> reads the whole file on the heap, <code>map</code> maps it and scans for the records,
+ * <code>mapWithSidecar</code> maps it and reads the positions of the records from the <code>.gidx</code> file.
+ * </p>
+ * Run with <code>../gradlew :RESTRouting:jmh -Pjmh.include=GribFileBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class GribFileBenchmark {
+
+	@Param({ GribSamples.SAMPLE_2009, GribSamples.SAMPLE_2017, GribSamples.GLOBAL })
+	public String grib;
+
+	private File file;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		file = GribSamples.get(grib);
+		GribFile.map(file, true); // Writes the sidecar
+	}
+
+	@Benchmark
+	public GribFile stream() throws Exception {
+		return new GribFile(file.getPath());
+	}
+
+	@Benchmark
+	public GribFile map() throws Exception {
+		return GribFile.map(file, false);
+	}
+
+	@Benchmark
+	public GribFile mapWithSidecar() throws Exception {
+		return GribFile.map(file, true);
+	}
+}
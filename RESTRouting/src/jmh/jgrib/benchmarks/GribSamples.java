@@ -0,0 +1,62 @@
+package jgrib.benchmarks;
+
+import jgrib.GribFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The GRIB files the benchmarks run on, in a temporary directory (the index sidecars are written next to them).
+ * <ul>
+ *   <li><code>GRIB_2009_02_25_Sample.grb</code>, <code>GRIB_2017_10_16_07_31_47_PDT.grb</code>: the samples of RESTRouting</li>
+ *   <li>{@link #GLOBAL}: 0.25&deg; global, prmsl, ugrd, vgrd and htsgw, 2 forecast times, 16 bits per value (8 records, 16 MB)</li>
+ * </ul>
+ * The samples are looked for in <code>-Dgrib.samples.dir</code>, then in the current directory, then in <code>RESTRouting</code>.
+ */
+public class GribSamples {
+
+	public final static String SAMPLE_2009 = "GRIB_2009_02_25_Sample.grb";
+	public final static String SAMPLE_2017 = "GRIB_2017_10_16_07_31_47_PDT.grb";
+	public final static String GLOBAL = "global-0.25";
+
+	private final static Map<String, File> FILES = new HashMap<>();
+	private static File directory = null;
+
+	/**
+	 * @param name a sample, or {@link #GLOBAL}
+	 * @return its copy (or the generated file), the same for the whole JVM
+	 */
+	public static synchronized File get(String name) throws IOException {
+		File file = FILES.get(name);
+		if (file == null) {
+			if (directory == null) {
+				directory = Files.createTempDirectory("grib-benchmarks").toFile();
+				directory.deleteOnExit();
+			}
+			file = new File(directory, name.endsWith(".grb") ? name : name + ".grb");
+			if (GLOBAL.equals(name)) {
+				SyntheticGrib.globalQuarterDegree().write(file, SyntheticGrib.Parameter.values(), 2, 16);
+			} else {
+				Files.copy(find(name).toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			file.deleteOnExit();
+			new File(file.getPath() + GribFile.INDEX_SUFFIX).deleteOnExit();
+			FILES.put(name, file);
+		}
+		return file;
+	}
+
+	private static File find(String name) throws IOException {
+		for (String dir : new String[] { System.getProperty("grib.samples.dir", "."), ".", "RESTRouting" }) {
+			File sample = new File(dir, name);
+			if (sample.exists()) {
+				return sample;
+			}
+		}
+		throw new IOException(String.format("%s not found, use -Dgrib.samples.dir", name));
+	}
+}
@@ -0,0 +1,177 @@
+package jgrib.benchmarks;
+
+import contouring.ContourService;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import contouring.Isoline;
+import jgrib.GribFile;
+import poc.GRIBDump;
+import poc.data.GribDataset;
+import poc.data.GribDate;
+import poc.data.GribField;
+import poc.data.GribInterpolator;
+import poc.data.GribSubset;
+import routing.WeatherField;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that a GRIB scanned North to South, from 0 to 359.75E (the 0.25&deg; global of {@link SyntheticGrib}, like the GFS),
+ * is decoded and used with the same orientation as the South to North samples: row 0 at the South, positive steps, left from the first longitude.
+ * <p>
+ * The values at the grid points are compared with the generated ones, to the packing precision.
+ * The subsets (bbox, across 0 and the 180th meridian) are compared with the whole grid, the isobars with the interpolated pressure,
+ * the isobars of a band around the world must stay in [-180, 180].
+ * The run fails (status 1) when a check does not pass.
+ * </p>
+ * <pre>
+ *   ../gradlew :RESTRouting:gridCheck
+ * </pre>
+ */
+public class GridOrientationCheck {
+
+	private final static int EVERY = 37; // Grid points checked, in both directions
+
+	private static boolean ok = true;
+
+	public static void main(String... args) throws Exception {
+		SyntheticGrib synthetic = SyntheticGrib.globalQuarterDegree();
+		GribDataset dataset = new GRIBDump().decode(GribFile.map(GribSamples.get(GribSamples.GLOBAL), false));
+		List<GribDate> dates = dataset.getDates();
+		check("2 dates", dates.size() == 2);
+		GribDate grid = dataset.getFields(dates.get(0)).get(0).getGrid();
+		check(String.format("Steps %f, %f positive", grid.getStepx(), grid.getStepy()), grid.getStepx() > 0 && grid.getStepy() > 0);
+		check(String.format("Bottom %f, top %f", grid.getBottom(), grid.getTop()), grid.getBottom() == -90d && grid.getTop() == 90d);
+		check(String.format("Left %f, right %f", grid.getLeft(), grid.getRight()), grid.getLeft() == 0d && grid.getRight() == 359.75d);
+
+		GribInterpolator interpolator = new GribInterpolator(dataset);
+		for (SyntheticGrib.Parameter parameter : SyntheticGrib.Parameter.values()) {
+			String type = parameter.name().toLowerCase();
+			for (int t = 0; t < dates.size(); t++) {
+				GribField field = dataset.getField(dates.get(t), type);
+				float[] expected = synthetic.values(parameter, 3 * t); // North first
+				float tolerance = 2f * (field.getType().getMax() - field.getType().getMin()) / 65_535f;
+				double maxDiff = 0d;
+				boolean defined = true;
+				for (int row = 0; row < synthetic.getHeight(); row += EVERY) {
+					double lat = 90d - (row * SyntheticGrib.QUARTER_DEGREE);
+					for (int col = 0; col < synthetic.getWidth(); col += EVERY) {
+						double lng = col * SyntheticGrib.QUARTER_DEGREE;
+						float value = expected[(row * synthetic.getWidth()) + col];
+						for (GribInterpolator.Method method : GribInterpolator.Method.values()) {
+							double interpolated = interpolator.getValue(type, lat, lng > 180d ? lng - 360d : lng, dates.get(t).getTime(), method);
+							defined &= !Double.isNaN(interpolated);
+							maxDiff = Math.max(maxDiff, Math.abs(interpolated - value));
+						}
+					}
+				}
+				check(String.format("%s at %s, max difference %f (tolerance %f)", type, dates.get(t).getGDate(), maxDiff, tolerance), defined && maxDiff <= tolerance);
+			}
+		}
+		double seam = interpolator.getValue("prmsl", 12.3, 179.9, dates.get(0).getTime(), GribInterpolator.Method.BICUBIC);
+		check(String.format("Across the 180th meridian and 0: %f", seam), !Double.isNaN(seam) &&
+				!Double.isNaN(interpolator.getValue("prmsl", -45.6, -0.1, dates.get(0).getTime(), GribInterpolator.Method.BICUBIC)));
+
+		for (double[] bbox : new double[][] { { 50d, 20d, -140d, -120d }, { 10d, -10d, -10d, 10d }, { 90d, -90d, 170d, -170d } }) {
+			GribDataset subset = new GribSubset().bbox(bbox[0], bbox[1], bbox[2], bbox[3]).stride(2).apply(dataset);
+			GribField field = subset.getField(subset.getDates().get(0), "prmsl");
+			GribDate sub = field.getGrid();
+			boolean inBbox = sub.getBottom() >= bbox[1] && sub.getTop() <= bbox[0] && sub.getBottom() >= -90d && sub.getTop() <= 90d &&
+					sub.getLeft() == bbox[2] && sub.getRight() == bbox[3];
+			double corner = interpolator.getValue("prmsl", sub.getBottom(), sub.getLeft(), dates.get(0).getTime(), GribInterpolator.Method.BILINEAR);
+			double opposite = interpolator.getValue("prmsl", sub.getTop(), sub.getRight(), dates.get(0).getTime(), GribInterpolator.Method.BILINEAR);
+			check(String.format("Subset %s: [%f, %f] x [%f, %f], %d x %d", Arrays.toString(bbox), sub.getBottom(), sub.getTop(), sub.getLeft(), sub.getRight(),
+					sub.getWidth(), sub.getHeight()),
+					inBbox && field.getValue(0, 0) == (float) corner && field.getValue(sub.getHeight() - 1, sub.getWidth() - 1) == (float) opposite);
+		}
+
+		for (double[] world : new double[][] { { 90d, -90d, -180d, 180d }, { 90d, -90d, 0d, 360d } }) {
+			GribDataset subset = new GribSubset().bbox(world[0], world[1], world[2], world[3]).apply(dataset);
+			GribDate sub = subset.getField(subset.getDates().get(0), "prmsl").getGrid();
+			check(String.format("World subset %s: %d x %d", Arrays.toString(world), sub.getWidth(), sub.getHeight()),
+					sub.getWidth() == grid.getWidth() && sub.getHeight() == grid.getHeight());
+		}
+
+		Map<GribDate, List<Isoline>> isobars = ContourService.contour(dataset, new ContourService.Spec(ContourService.PRMSL).interval(4d));
+		int points = 0;
+		boolean onGrid = true;
+		double maxDiff = 0d;
+		for (Map.Entry<GribDate, List<Isoline>> entry : isobars.entrySet()) {
+			for (Isoline line : entry.getValue()) {
+				for (int i = 0; i < line.getPointCount(); i++, points++) {
+					double lat = line.getY(i), lng = line.getX(i);
+					onGrid &= (lat >= -90d && lat <= 90d && lng >= -540d && lng <= 540d);
+					double hPa = interpolator.getValue("prmsl", lat, lng, entry.getKey().getTime(), GribInterpolator.Method.BILINEAR) / 100d;
+					maxDiff = Math.max(maxDiff, Double.isNaN(hPa) ? Double.MAX_VALUE : Math.abs(hPa - line.getLevel()));
+				}
+			}
+		}
+		check(String.format("Isobars, %d points on their level, max difference %f hPa", points, maxDiff), points > 0 && onGrid && maxDiff < 0.01);
+
+		// A band around the world: most of its isobars go around the world too, on the map they are open lines in [-180, 180].
+		// The closed ones (around the highs of the equator) come back to their first point.
+		GribField prmsl = dataset.getField(dates.get(0), "prmsl");
+		float[] band = new float[grid.getWidth() * grid.getHeight()];
+		for (int row = 0; row < grid.getHeight(); row++) {
+			double lat = grid.getBottom() + (row * grid.getStepy());
+			for (int col = 0; col < grid.getWidth(); col++) {
+				double lng = grid.getLeft() + (col * grid.getStepx());
+				band[(row * grid.getWidth()) + col] = (float) (101_300d + (2_000d * Math.cos(Math.toRadians(2d * lat))) + (150d * Math.sin(Math.toRadians(3d * lng))));
+			}
+		}
+		GribDataset bandDataset = new GribDataset(Collections.singletonList(new GribField(prmsl.getType(), prmsl.getGrid(), band)));
+		GribInterpolator bandInterpolator = new GribInterpolator(bandDataset);
+		Map<GribDate, List<Isoline>> bandIsobars = ContourService.contour(bandDataset, new ContourService.Spec(ContourService.PRMSL).interval(4d));
+		int openLines = 0;
+		boolean inRange = true, noJump = true;
+		maxDiff = 0d;
+		for (Map.Entry<GribDate, List<Isoline>> entry : bandIsobars.entrySet()) {
+			for (Isoline line : entry.getValue()) {
+				int nb = line.getPointCount();
+				if (line.isClosed()) {
+					noJump &= Math.abs(line.getX(nb - 1) - line.getX(0)) <= 180d;
+				} else {
+					openLines++;
+				}
+				for (int i = 0; i < nb; i++) {
+					inRange &= (line.isClosed() || (line.getX(i) >= -180d && line.getX(i) <= 180d));
+					double hPa = bandInterpolator.getValue("prmsl", line.getY(i), line.getX(i), entry.getKey().getTime(), GribInterpolator.Method.BILINEAR) / 100d;
+					maxDiff = Math.max(maxDiff, Double.isNaN(hPa) ? Double.MAX_VALUE : Math.abs(hPa - line.getLevel()));
+				}
+			}
+		}
+		for (JsonElement feature : ContourService.toGeoJson("prmsl", bandIsobars, 0d).getAsJsonArray("features")) {
+			JsonArray coordinates = feature.getAsJsonObject().getAsJsonObject("geometry").getAsJsonArray("coordinates");
+			for (int i = 0; i < coordinates.size(); i++) {
+				double lng = coordinates.get(i).getAsJsonArray().get(0).getAsDouble();
+				noJump &= (i == 0 || Math.abs(lng - coordinates.get(i - 1).getAsJsonArray().get(0).getAsDouble()) <= 180d);
+			}
+		}
+		check(String.format("Isobars around the world, %d open lines in [-180, 180], max difference %f hPa", openLines, maxDiff),
+				openLines > 0 && inRange && noJump && maxDiff < 0.01);
+
+		WeatherField weather = WeatherField.of(dataset);
+		double[] wind = new double[2];
+		long between = (dates.get(0).getTime() + dates.get(1).getTime()) / 2;
+		boolean windEverywhere = true;
+		for (double lat = -89d; lat <= 89d; lat += 7.3) {
+			for (double lng = -180d; lng < 180d; lng += 11.1) {
+				windEverywhere &= weather.wind(lat, lng, between, wind);
+			}
+		}
+		check("Wind everywhere, between the dates", windEverywhere);
+
+		System.out.println(ok ? "All checks passed." : "Some checks failed!");
+		if (!ok) {
+			System.exit(1);
+		}
+	}
+
+	private static void check(String what, boolean passed) {
+		System.out.println(String.format("%s %s", passed ? "[ OK ]" : "[FAIL]", what));
+		ok &= passed;
+	}
+}
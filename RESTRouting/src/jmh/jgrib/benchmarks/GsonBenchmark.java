@@ -0,0 +1,99 @@
+package jgrib.benchmarks;
+
+import com.google.gson.Gson;
+import gribprocessing.GRIBOutput;
+import jgrib.GribFile;
+import org.openjdk.jmh.annotations.*;
+import poc.GRIBDump;
+import poc.data.GribDataset;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JSON output of a decoded GRIB, written to nowhere.
+ * <p>
+ * <code>expand</code> builds the <code>float[][]</code> of {@link GRIBDump#expandGrib(GribDataset)},
+ * <code>gsonToJson</code> is what the JSON used to be (expand, then Gson),
+ * <code>writeJson</code> is the streaming {@link GRIBOutput#writeJson(GribDataset, OutputStream)} of <code>/grib/get-data</code>.
+ * </p>
+ * Run with <code>../gradlew :RESTRouting:jmh -Pjmh.include=GsonBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class GsonBenchmark {
+
+	@Param({ GribSamples.SAMPLE_2009, GribSamples.SAMPLE_2017, GribSamples.GLOBAL })
+	public String grib;
+
+	private GribDataset dataset;
+	private Gson gson;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		dataset = new GRIBDump().decode(GribFile.map(GribSamples.get(grib), false));
+		gson = new Gson();
+	}
+
+	@Benchmark
+	public List<GRIBDump.DatedGRIB> expand() {
+		return GRIBDump.expandGrib(dataset);
+	}
+
+	@Benchmark
+	public long gsonToJson() {
+		CountingWriter writer = new CountingWriter();
+		gson.toJson(GRIBDump.expandGrib(dataset), writer);
+		return writer.count;
+	}
+
+	@Benchmark
+	public long writeJson() throws IOException {
+		CountingOutputStream os = new CountingOutputStream();
+		GRIBOutput.writeJson(dataset, os);
+		return os.count;
+	}
+
+	private final static class CountingWriter extends Writer {
+		long count = 0;
+
+		@Override
+		public void write(char[] chars, int offset, int length) {
+			count += length;
+		}
+
+		@Override
+		public void write(String str, int offset, int length) {
+			count += length;
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private final static class CountingOutputStream extends OutputStream {
+		long count = 0;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			count += length;
+		}
+	}
+}
@@ -0,0 +1,357 @@
+package jgrib.benchmarks;
+
+import jgrib.Bytes2Number;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+/**
+ * Writes GRIB1 files and sections, for the benchmarks to run on production size grids.
+ * <p>
+ * The grid is a regular lat/lon one, north to south and west to east, like the 0.25&deg; global GFS
+ * ({@link #GLOBAL_QUARTER_WIDTH} x {@link #GLOBAL_QUARTER_HEIGHT} points).
+ * Each record is simple packed, its values smooth enough to look like weather (highs and lows, wind bands).
+ * </p>
+ * Generated with a fixed seed, the same arguments always give the same bytes.
+ */
+public class SyntheticGrib {
+
+	public final static int GLOBAL_QUARTER_WIDTH = 1_440;
+	public final static int GLOBAL_QUARTER_HEIGHT = 721;
+	public final static double QUARTER_DEGREE = 0.25;
+
+	/**
+	 * The parameters generated, NCEP table 2.
+	 */
+	public enum Parameter {
+		PRMSL(2, 102, 0, 101_325f, 3_000f), // Pa, mean sea level
+		UGRD(33, 105, 10, 0f, 15f),        // m/s, 10 m above ground
+		VGRD(34, 105, 10, 0f, 10f),        // m/s, 10 m above ground
+		HTSGW(100, 1, 0, 3f, 2.5f);        // m, surface
+
+		private final int id;
+		private final int levelType;
+		private final int levelValue;
+		private final float mean;
+		private final float amplitude;
+
+		Parameter(int id, int levelType, int levelValue, float mean, float amplitude) {
+			this.id = id;
+			this.levelType = levelType;
+			this.levelValue = levelValue;
+			this.mean = mean;
+			this.amplitude = amplitude;
+		}
+	}
+
+	private final int width;
+	private final int height;
+	private final double step;
+	private final double top;
+	private final double left;
+
+	/**
+	 * A 0.25&deg; global grid, from 90N to 90S, from 0 to 359.75E.
+	 */
+	public static SyntheticGrib globalQuarterDegree() {
+		return new SyntheticGrib(GLOBAL_QUARTER_WIDTH, GLOBAL_QUARTER_HEIGHT, QUARTER_DEGREE, 90d, 0d);
+	}
+
+	/**
+	 * @param width  number of points along a parallel
+	 * @param height number of points along a meridian
+	 * @param step   in degrees, both ways
+	 * @param top    latitude of the first row
+	 * @param left   longitude of the first column
+	 */
+	public SyntheticGrib(int width, int height, double step, double top, double left) {
+		this.width = width;
+		this.height = height;
+		this.step = step;
+		this.top = top;
+		this.left = left;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Writes a GRIB file, one record per parameter and per forecast time, time after time.
+	 *
+	 * @param file       where to write
+	 * @param parameters the parameters of each time
+	 * @param times      number of forecast times, 3 hours apart
+	 * @param numbits    bits per packed value, 1 to 31
+	 * @return the file
+	 */
+	public File write(File file, Parameter[] parameters, int times, int numbits) throws IOException {
+		if (times < 1 || 3 * (times - 1) > 255) {
+			throw new IllegalArgumentException(String.format("Between 1 and 86 times: %d", times));
+		}
+		try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file))) {
+			for (int t = 0; t < times; t++) {
+				for (Parameter parameter : parameters) {
+					os.write(record(parameter, 3 * t, numbits));
+				}
+			}
+		}
+		return file;
+	}
+
+	/**
+	 * @param parameter     what the values are
+	 * @param forecastHours from the reference time, 2024-01-15 00:00 UTC
+	 * @param numbits       bits per packed value
+	 * @return a complete GRIB1 record, from "GRIB" to "7777"
+	 */
+	public byte[] record(Parameter parameter, int forecastHours, int numbits) {
+		byte[] pds = pds(parameter, forecastHours);
+		byte[] gds = gds();
+		byte[] bds = bds(values(parameter, forecastHours), numbits);
+		int length = 8 + pds.length + gds.length + bds.length + 4;
+		if (length >= (1 << 24)) {
+			throw new IllegalArgumentException(String.format("Record too large for GRIB1: %d bytes", length));
+		}
+		ByteArrayOutputStream record = new ByteArrayOutputStream(length);
+		record.write('G');
+		record.write('R');
+		record.write('I');
+		record.write('B');
+		writeUI24(record, length);
+		record.write(1); // Edition
+		record.write(pds, 0, pds.length);
+		record.write(gds, 0, gds.length);
+		record.write(bds, 0, bds.length);
+		for (int i = 0; i < 4; i++) {
+			record.write('7');
+		}
+		return record.toByteArray();
+	}
+
+	/**
+	 * The values of a parameter, row after row from the north. They move with the forecast time.
+	 */
+	public float[] values(Parameter parameter, int forecastHours) {
+		float[] values = new float[width * height];
+		double shift = Math.toRadians(forecastHours * 2.5); // Systems moving east
+		for (int row = 0; row < height; row++) {
+			double lat = Math.toRadians(top - (row * step));
+			double cosLat = Math.cos(lat);
+			for (int col = 0; col < width; col++) {
+				double lng = Math.toRadians(left + (col * step)) - shift;
+				double value;
+				switch (parameter) {
+					case PRMSL:
+						value = (Math.sin(4 * lng) * Math.sin(3 * lat)) + (0.5 * Math.cos(7 * lng + lat) * cosLat);
+						break;
+					case UGRD:
+						value = (Math.cos(2 * lat) * cosLat) + (0.3 * Math.sin(5 * lng) * Math.cos(4 * lat));
+						break;
+					case VGRD:
+						value = Math.sin(4 * lng) * Math.cos(3 * lat) * cosLat;
+						break;
+					case HTSGW:
+					default:
+						value = 0.8 * Math.abs(Math.sin(3 * lat)) + (0.2 * Math.cos(5 * lng) * cosLat);
+						break;
+				}
+				values[(row * width) + col] = parameter.mean + (parameter.amplitude * (float) value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Product Definition Section, 28 octets, NCEP (center 7), parameter table 2, no bit map.
+	 */
+	static byte[] pds(Parameter parameter, int forecastHours) {
+		byte[] pds = new byte[28];
+		writeUI24(pds, 0, pds.length);
+		pds[3] = 2;    // Parameter table version
+		pds[4] = 7;    // Center, NCEP
+		pds[5] = 81;   // Generating process
+		pds[6] = (byte) 255; // Grid, defined in the GDS
+		pds[7] = (byte) 128; // GDS, no BMS
+		pds[8] = (byte) parameter.id;
+		pds[9] = (byte) parameter.levelType;
+		pds[10] = (byte) (parameter.levelValue >> 8);
+		pds[11] = (byte) parameter.levelValue;
+		pds[12] = 24;  // Year of century
+		pds[13] = 1;   // Month
+		pds[14] = 15;  // Day
+		pds[15] = 0;   // Hour
+		pds[16] = 0;   // Minute
+		pds[17] = 1;   // Time unit, hour
+		pds[18] = (byte) forecastHours; // P1
+		pds[19] = 0;   // P2
+		pds[20] = 0;   // Time range, forecast valid at P1
+		pds[24] = 21;  // Century
+		pds[25] = 0;   // Sub-center
+		// Decimal scale 0, octets 27-28
+		return pds;
+	}
+
+	/**
+	 * Grid Description Section, 32 octets, regular lat/lon, increments given, north to south.
+	 */
+	byte[] gds() {
+		byte[] gds = new byte[32];
+		writeUI24(gds, 0, gds.length);
+		gds[3] = 0;          // No vertical coordinate
+		gds[4] = (byte) 255;
+		gds[5] = 0;          // Lat/lon grid
+		writeUI16(gds, 6, width);
+		writeUI16(gds, 8, height);
+		writeInt24(gds, 10, millis(top));
+		writeInt24(gds, 13, millis(left));
+		gds[16] = (byte) 128; // Increments given
+		writeInt24(gds, 17, millis(top - ((height - 1) * step)));
+		writeInt24(gds, 20, millis(left + ((width - 1) * step)));
+		writeUI16(gds, 23, millis(step));
+		writeUI16(gds, 25, millis(step));
+		gds[27] = 0;          // +i, -j
+		return gds;
+	}
+
+	/**
+	 * Binary Data Section, simple packing, no decimal scale.
+	 * The binary scale is the smallest one keeping the values on <code>numbits</code> bits.
+	 *
+	 * @param values  the values to pack
+	 * @param numbits bits per value, 1 to 31
+	 * @return the section
+	 */
+	public static byte[] bds(float[] values, int numbits) {
+		if (numbits < 1 || numbits > 31) {
+			throw new IllegalArgumentException(String.format("1 to 31 bits per value: %d", numbits));
+		}
+		float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+		for (float value : values) {
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		byte[] ibmRef = ibmFloat(min);
+		float ref = Bytes2Number.float4(ibmRef[0] & 0xFF, ibmRef[1] & 0xFF, ibmRef[2] & 0xFF, ibmRef[3] & 0xFF);
+		long maxPacked = (1L << numbits) - 1;
+		int binscale = -126;
+		while (binscale < 126 && ((max - ref) / Math.pow(2, binscale)) > maxPacked) {
+			binscale++;
+		}
+		double scale = Math.pow(2, binscale);
+
+		long bits = (long) values.length * numbits;
+		int packedLength = (int) ((bits + 7) / 8);
+		int length = 11 + packedLength;
+		if ((length & 1) != 0) { // Even section length
+			length++;
+		}
+		byte[] bds = new byte[length];
+		writeUI24(bds, 0, length);
+		bds[3] = (byte) ((length - 11) * 8 - bits); // Simple packing, unused bits at the end
+		bds[4] = (byte) ((binscale < 0 ? 0x80 : 0) | (Math.abs(binscale) >> 8));
+		bds[5] = (byte) Math.abs(binscale);
+		System.arraycopy(ibmRef, 0, bds, 6, 4);
+		bds[10] = (byte) numbits;
+
+		long bitPos = 11L * 8;
+		for (float value : values) {
+			long packed = Math.max(0, Math.min(maxPacked, Math.round((value - ref) / scale)));
+			for (int b = numbits - 1; b >= 0; b--, bitPos++) {
+				if (((packed >> b) & 1) != 0) {
+					bds[(int) (bitPos >> 3)] |= (byte) (0x80 >> (bitPos & 7));
+				}
+			}
+		}
+		return bds;
+	}
+
+	/**
+	 * Random packed values, for the decoders alone.
+	 *
+	 * @param numbits bits per value
+	 * @param count   number of values
+	 * @param padding zero bytes added at the end
+	 * @return the packed values
+	 */
+	public static byte[] randomPacked(int numbits, int count, int padding) {
+		int length = (int) (((long) numbits * count + 7) / 8);
+		byte[] packed = new byte[length + padding];
+		Random random = new Random(numbits);
+		for (int i = 0; i < length; i++) {
+			packed[i] = (byte) random.nextInt(256);
+		}
+		return packed;
+	}
+
+	/**
+	 * IBM single precision: sign, base 16 exponent excess 64, 24 bit mantissa.
+	 * Rounded down, so the reference value is never above the minimum.
+	 */
+	static byte[] ibmFloat(float value) {
+		byte[] ibm = new byte[4];
+		if (value == 0f) {
+			return ibm;
+		}
+		double abs = Math.abs((double) value);
+		int exponent = 64;
+		while (abs >= 1d) {
+			abs /= 16d;
+			exponent++;
+		}
+		while (abs < 1d / 16d) {
+			abs *= 16d;
+			exponent--;
+		}
+		long mantissa = value > 0 ? (long) Math.floor(abs * (1 << 24)) : (long) Math.ceil(abs * (1 << 24));
+		if (mantissa >= (1 << 24)) {
+			mantissa >>= 4;
+			exponent++;
+		}
+		ibm[0] = (byte) ((value < 0 ? 0x80 : 0) | exponent);
+		ibm[1] = (byte) (mantissa >> 16);
+		ibm[2] = (byte) (mantissa >> 8);
+		ibm[3] = (byte) mantissa;
+		return ibm;
+	}
+
+	private static int millis(double degrees) {
+		return (int) Math.round(degrees * 1_000d);
+	}
+
+	private static void writeUI24(ByteArrayOutputStream os, int value) {
+		os.write(value >> 16);
+		os.write(value >> 8);
+		os.write(value);
+	}
+
+	private static void writeUI24(byte[] buffer, int offset, int value) {
+		buffer[offset] = (byte) (value >> 16);
+		buffer[offset + 1] = (byte) (value >> 8);
+		buffer[offset + 2] = (byte) value;
+	}
+
+	private static void writeUI16(byte[] buffer, int offset, int value) {
+		buffer[offset] = (byte) (value >> 8);
+		buffer[offset + 1] = (byte) value;
+	}
+
+	/**
+	 * Sign and magnitude, as GRIB1 does.
+	 */
+	private static void writeInt24(byte[] buffer, int offset, int value) {
+		writeUI24(buffer, offset, Math.abs(value));
+		if (value < 0) {
+			buffer[offset] |= (byte) 0x80;
+		}
+	}
+}
@@ -196,26 +196,30 @@ public class BackEndTideComputer {
 				ex.printStackTrace();
 			}
 		}
-		// Correction to the Harmonics
-		if (station != null && station.yearHarmonicsFixed() == -1) {
-			for (Harmonic harm : station.getHarmonics()) {
-				String name = harm.getName();
-				if (!"x".equals(name)) {
-					double amplitudeFix = getAmplitudeFix(constituents, year, name);
-					double epochFix = getEpochFix(constituents, year, name);
-
-					harm.setAmplitude(harm.getAmplitude() * amplitudeFix);
-					harm.setEpoch(harm.getEpoch() - epochFix);
-
-					//      System.out.println(stationName + ": Amplitude Fix for " + name + " in " + year + " is " + amplitudeFix + " (->" + harm.getAmplitude() + ")");
-					//      System.out.println(stationName + ": Epoch Fix for " + name + " in " + year + " is " + epochFix + " (->" + harm.getEpoch() + ")");
+		// Correction to the Harmonics. Synchronized, see HarmonicCoefficients.forYear
+		if (station != null) {
+			synchronized (station) {
+				if (station.yearHarmonicsFixed() == -1) {
+					for (Harmonic harm : station.getHarmonics()) {
+						String name = harm.getName();
+						if (!"x".equals(name)) {
+							double amplitudeFix = getAmplitudeFix(constituents, year, name);
+							double epochFix = getEpochFix(constituents, year, name);
+
+							harm.setAmplitude(harm.getAmplitude() * amplitudeFix);
+							harm.setEpoch(harm.getEpoch() - epochFix);
+
+							//      System.out.println(stationName + ": Amplitude Fix for " + name + " in " + year + " is " + amplitudeFix + " (->" + harm.getAmplitude() + ")");
+							//      System.out.println(stationName + ": Epoch Fix for " + name + " in " + year + " is " + epochFix + " (->" + harm.getEpoch() + ")");
+						}
+					}
+					station.setHarmonicsFixedForYear(year);
+					if (verbose)
+						System.out.println("Sites coefficients of [" + station.getFullName() + "] fixed for " + year);
+				} else if (verbose) {
+					System.out.println("Coefficients already fixed for " + year);
 				}
 			}
-			station.setHarmonicsFixedForYear(year);
-			if (verbose)
-				System.out.println("Sites coefficients of [" + station.getFullName() + "] fixed for " + year);
-		} else if (verbose) {
-			System.out.println("Coefficients already fixed for " + year);
 		}
 		return station;
 	}
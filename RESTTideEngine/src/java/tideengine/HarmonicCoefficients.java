@@ -0,0 +1,207 @@
+package tideengine;
+
+import javax.annotation.Nonnull;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the harmonic coefficients of a station, corrected for one given year.
+ * <p>
+ * Unlike {@link BackEndTideComputer#findTideStation(String, int)}, building such an object
+ * does <b>not</b> modify the {@link TideStation} it comes from, so several threads can evaluate
+ * the same station for different years at the same time.
+ * </p>
+ * The water height is evaluated the same way as in {@link TideUtilities#getWaterHeight(java.util.Calendar, java.util.Calendar, TideStation, List, boolean)},
+ * time offset counted from Jan 1st 00:00 of the year, in the station's time zone.
+ */
+public class HarmonicCoefficients {
+
+	private final String stationName;
+	private final int year;
+	private final double baseHeight;
+	private final boolean squared;
+	private final long jan1st;    // epoch, in ms
+	private final long nextJan1st; // epoch, in ms
+	private final String[] names;
+	private final double[] speed;
+	private final double[] amplitude;
+	private final double[] epoch;
+
+	private HarmonicCoefficients(String stationName, int year, double baseHeight, boolean squared, long jan1st, long nextJan1st, String[] names, double[] speed, double[] amplitude, double[] epoch) {
+		this.stationName = stationName;
+		this.year = year;
+		this.baseHeight = baseHeight;
+		this.squared = squared;
+		this.jan1st = jan1st;
+		this.nextJan1st = nextJan1st;
+		this.names = names;
+		this.speed = speed;
+		this.amplitude = amplitude;
+		this.epoch = epoch;
+	}
+
+	/**
+	 * Build the coefficients of a station for a given year.
+	 * If the station has already been fixed for another year (by {@link BackEndTideComputer#findTideStation(String, int)}),
+	 * this correction is reverted before applying the one of the requested year.
+	 *
+	 * @param ts           the station
+	 * @param constSpeed   as returned by {@link BackEndTideComputer#buildSiteConstSpeed()}
+	 * @param constituents as returned by {@link BackEndTideComputer#getConstituents()}
+	 * @param year         the year to correct the coefficients for
+	 * @return the immutable coefficients
+	 * @throws Exception when the year correction cannot be found
+	 */
+	public static HarmonicCoefficients forYear(@Nonnull TideStation ts,
+	                                           @Nonnull List<Coefficient> constSpeed,
+	                                           @Nonnull Constituents constituents,
+	                                           int year) throws Exception {
+		int nb = constSpeed.size();
+		double[] speed = new double[nb];
+		double[] amplitude = new double[nb];
+		double[] epoch = new double[nb];
+		String[] names = new String[nb];
+		int fixedFor;
+		synchronized (ts) { // See BackEndTideComputer.findTideStation
+			fixedFor = ts.yearHarmonicsFixed();
+			for (int i = 0; i < nb; i++) {
+				Harmonic harmonic = ts.getHarmonics().get(i);
+				names[i] = harmonic.getName();
+				amplitude[i] = harmonic.getAmplitude();
+				epoch[i] = harmonic.getEpoch();
+			}
+		}
+		for (int i = 0; i < nb; i++) {
+			speed[i] = constSpeed.get(i).getValue();
+			if (!"x".equals(names[i]) && fixedFor != year) {
+				if (fixedFor != -1) { // Back to the raw values
+					amplitude[i] /= BackEndTideComputer.getAmplitudeFix(constituents, fixedFor, names[i]);
+					epoch[i] += BackEndTideComputer.getEpochFix(constituents, fixedFor, names[i]);
+				}
+				amplitude[i] *= BackEndTideComputer.getAmplitudeFix(constituents, year, names[i]);
+				epoch[i] -= BackEndTideComputer.getEpochFix(constituents, year, names[i]);
+			}
+		}
+		ZoneId zone = ZoneId.of(ts.getTimeZone());
+		long jan1st = LocalDate.of(year, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+		long nextJan1st = LocalDate.of(year + 1, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+		return new HarmonicCoefficients(ts.getFullName(),
+				year,
+				ts.getBaseHeight(),
+				ts.getUnit().indexOf("^2") > -1,
+				jan1st,
+				nextJan1st,
+				names,
+				speed,
+				amplitude,
+				epoch);
+	}
+
+	public String getStationName() {
+		return stationName;
+	}
+
+	public int getYear() {
+		return year;
+	}
+
+	/**
+	 * @param epochMillis an instant
+	 * @return true if this instant belongs to the year these coefficients are corrected for.
+	 */
+	public boolean covers(long epochMillis) {
+		return epochMillis >= jan1st && epochMillis < nextJan1st;
+	}
+
+	public long getJan1st() {
+		return jan1st;
+	}
+
+	public long getNextJan1st() {
+		return nextJan1st;
+	}
+
+	/**
+	 * @param epochMillis the instant, in ms
+	 * @return the water height (or current speed) in the station unit.
+	 */
+	public double getWaterHeight(long epochMillis) {
+		double timeOffset = ((epochMillis - jan1st) / 1000L) * 0.00027777777777777778D;
+		double value = baseHeight;
+		for (int i = 0; i < speed.length; i++) {
+			value += (amplitude[i] * Math.cos(speed[i] * timeOffset - epoch[i]));
+		}
+		if (squared) {
+			value = (value >= 0.0D ? Math.sqrt(value) : -Math.sqrt(-value));
+		}
+		return value;
+	}
+
+	/**
+	 * @param years       coefficients of the same station, for several years
+	 * @param epochMillis the instant, in ms
+	 * @return the water height, computed with the coefficients of the year of the instant.
+	 */
+	public static double getWaterHeight(List<HarmonicCoefficients> years, long epochMillis) {
+		for (HarmonicCoefficients hc : years) {
+			if (hc.covers(epochMillis)) {
+				return hc.getWaterHeight(epochMillis);
+			}
+		}
+		throw new RuntimeException(String.format("No coefficients for %d", epochMillis));
+	}
+
+	/**
+	 * @param name harmonic coefficient name, like M2, S2, K1, etc
+	 * @return the index of this coefficient, -1 if not found.
+	 */
+	public int getHarmonicIndex(String name) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * The curve of one harmonic coefficient, like in {@link TideUtilities#getHarmonicValue(java.util.Date, java.util.Date, TideStation, List, int)}.
+	 *
+	 * @param idx         the index of the harmonic, see {@link #getHarmonicIndex(String)}
+	 * @param epochMillis the instant, in ms
+	 * @return the value for this harmonic only
+	 */
+	public double getHarmonicValue(int idx, long epochMillis) {
+		double timeOffset = ((epochMillis - jan1st) / 1000L) * 0.00027777777777777778D;
+		double value = baseHeight + (amplitude[idx] * Math.cos(speed[idx] * timeOffset - epoch[idx]));
+		if (squared) {
+			value = (value >= 0.0D ? Math.sqrt(value) : -Math.sqrt(-value));
+		}
+		return value;
+	}
+
+	/**
+	 * Evaluate a regular series. No allocation.
+	 *
+	 * @param start  epoch of the first point, in ms
+	 * @param stepMs step between two points, in ms
+	 * @param dest   the array to populate
+	 * @param from   first index (inclusive) in dest. Its epoch is start + (from * stepMs)
+	 * @param to     last index (exclusive) in dest
+	 */
+	public void fill(long start, long stepMs, double[] dest, int from, int to) {
+		for (int i = from; i < to; i++) {
+			dest[i] = getWaterHeight(start + (i * stepMs));
+		}
+	}
+
+	/**
+	 * Same as {@link #fill(long, long, double[], int, int)}, for one harmonic coefficient only.
+	 */
+	public void fillHarmonic(int idx, long start, long stepMs, double[] dest, int from, int to) {
+		for (int i = from; i < to; i++) {
+			dest[i] = getHarmonicValue(idx, start + (i * stepMs));
+		}
+	}
+}
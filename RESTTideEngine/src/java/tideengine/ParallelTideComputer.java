@@ -0,0 +1,248 @@
+package tideengine;
+
+import javax.annotation.Nonnull;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Computes water heights (or current speeds) for several stations, over a possibly long period.
+ * <p>
+ * The work is split by station and by chunks of days, and executed on a {@link ForkJoinPool}.
+ * No shared state is modified: the stations are <b>not</b> fixed for the year (see {@link HarmonicCoefficients}),
+ * and no default time zone is set.
+ * </p>
+ * The result is columnar: the timestamps once, and one <code>double[]</code> per station.
+ */
+public class ParallelTideComputer {
+
+	private final static int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+	private final static int CHUNK_DAYS = 1;
+	private final static long DEFAULT_MAX_POINTS = 2_000_000L;
+
+	private static ForkJoinPool pool = null;
+
+	private static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			int parallelism = DEFAULT_PARALLELISM;
+			try {
+				parallelism = Integer.parseInt(System.getProperty("tide.parallelism", String.valueOf(DEFAULT_PARALLELISM)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			pool = new ForkJoinPool(Math.max(1, parallelism));
+		}
+		return pool;
+	}
+
+	/**
+	 * @return the max number of values of one computation (all the stations), system variable tide.batch.max.points, default 2,000,000.
+	 */
+	public static long getMaxPoints() {
+		long max = DEFAULT_MAX_POINTS;
+		try {
+			max = Long.parseLong(System.getProperty("tide.batch.max.points", String.valueOf(DEFAULT_MAX_POINTS)));
+		} catch (NumberFormatException nfe) {
+			System.err.println(nfe.toString());
+		}
+		return max;
+	}
+
+	/**
+	 * @return the number of values of a computation, see {@link #compute(List, List, Constituents, long, long, int)}.
+	 */
+	public static long getNbPoints(int nbStations, long from, long to, int stepMinutes) {
+		final long stepMs = stepMinutes * 60_000L;
+		return nbStations * ((to - from + stepMs - 1) / stepMs);
+	}
+
+	/**
+	 * @param stations     the stations to compute the data for, as returned by {@link BackEndTideComputer#getStationData()}
+	 * @param constSpeed   as returned by {@link BackEndTideComputer#buildSiteConstSpeed()}
+	 * @param constituents as returned by {@link BackEndTideComputer#getConstituents()}
+	 * @param from         epoch of the first point, in ms (inclusive)
+	 * @param to           epoch of the last point, in ms (exclusive)
+	 * @param stepMinutes  step between two points, in minutes
+	 * @return the columnar result
+	 * @throws Exception when something goes wrong in one of the tasks
+	 * @throws IllegalArgumentException when there would be more than {@link #getMaxPoints()} values
+	 */
+	public static ColumnarTideData compute(@Nonnull List<TideStation> stations,
+	                                       @Nonnull List<Coefficient> constSpeed,
+	                                       @Nonnull Constituents constituents,
+	                                       long from,
+	                                       long to,
+	                                       int stepMinutes) throws Exception {
+		return compute(stations, constSpeed, constituents, from, to, stepMinutes, getPool());
+	}
+
+	public static ColumnarTideData compute(@Nonnull List<TideStation> stations,
+	                                       @Nonnull List<Coefficient> constSpeed,
+	                                       @Nonnull Constituents constituents,
+	                                       long from,
+	                                       long to,
+	                                       int stepMinutes,
+	                                       @Nonnull ForkJoinPool forkJoinPool) throws Exception {
+		if (stepMinutes <= 0) {
+			throw new IllegalArgumentException(String.format("Step MUST be positive: %d", stepMinutes));
+		}
+		if (to < from) {
+			throw new IllegalArgumentException("Bad date chronology");
+		}
+		long total = getNbPoints(stations.size(), from, to, stepMinutes);
+		if (total > getMaxPoints()) {
+			throw new IllegalArgumentException(String.format("%d values, at most %d", total, getMaxPoints()));
+		}
+		final long stepMs = stepMinutes * 60_000L;
+		final int nbPoints = (int) ((to - from + stepMs - 1) / stepMs);
+		long[] epochs = new long[nbPoints];
+		for (int i = 0; i < nbPoints; i++) {
+			epochs[i] = from + (i * stepMs);
+		}
+		ColumnarTideData data = new ColumnarTideData(epochs, stepMinutes);
+
+		final int chunkSize = Math.max(1, (CHUNK_DAYS * 24 * 60) / stepMinutes);
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (TideStation ts : stations) {
+			// Coefficients for all the required years, computed before the fan-out. Read-only afterwards.
+			List<HarmonicCoefficients> years = coefficientsFor(ts, constSpeed, constituents, from, to);
+			final double[] values = new double[nbPoints];
+			data.add(new ColumnarTideData.StationData(ts.getFullName(), ts.getDisplayUnit(), ts.getTimeZone(), values));
+			for (int start = 0; start < nbPoints; start += chunkSize) {
+				final int chunkStart = start;
+				final int chunkEnd = Math.min(nbPoints, start + chunkSize);
+				tasks.add(() -> {
+					fill(years, -1, from, stepMs, values, chunkStart, chunkEnd);
+					return null;
+				});
+			}
+		}
+		List<Future<Void>> done = forkJoinPool.invokeAll(tasks);
+		for (Future<Void> future : done) {
+			future.get(); // Propagates the possible exceptions
+		}
+		return data;
+	}
+
+	/**
+	 * @return the coefficients of the station, for all the years between from and to.
+	 */
+	public static List<HarmonicCoefficients> coefficientsFor(@Nonnull TideStation ts,
+	                                                         @Nonnull List<Coefficient> constSpeed,
+	                                                         @Nonnull Constituents constituents,
+	                                                         long from,
+	                                                         long to) throws Exception {
+		List<HarmonicCoefficients> years = new ArrayList<>();
+		ZoneId zone = ZoneId.of(ts.getTimeZone());
+		int firstYear = Instant.ofEpochMilli(from).atZone(zone).getYear();
+		int lastYear = Instant.ofEpochMilli(Math.max(from, to - 1)).atZone(zone).getYear();
+		for (int y = firstYear; y <= lastYear; y++) {
+			years.add(HarmonicCoefficients.forYear(ts, constSpeed, constituents, y));
+		}
+		return years;
+	}
+
+	/**
+	 * Populate values[chunkStart..chunkEnd[, switching coefficients when crossing a year boundary.
+	 *
+	 * @param years       as returned by {@link #coefficientsFor(TideStation, List, Constituents, long, long)}
+	 * @param harmonicIdx -1 for the water height, the index of one harmonic coefficient for its curve only.
+	 * @param from        epoch of values[0], in ms
+	 * @param stepMs      step, in ms
+	 * @param values      the array to populate
+	 * @param chunkStart  first index, inclusive
+	 * @param chunkEnd    last index, exclusive
+	 */
+	public static void fill(List<HarmonicCoefficients> years, int harmonicIdx, long from, long stepMs, double[] values, int chunkStart, int chunkEnd) {
+		int idx = chunkStart;
+		while (idx < chunkEnd) {
+			long epoch = from + (idx * stepMs);
+			HarmonicCoefficients coefficients = null;
+			for (HarmonicCoefficients hc : years) {
+				if (hc.covers(epoch)) {
+					coefficients = hc;
+					break;
+				}
+			}
+			if (coefficients == null) {
+				throw new RuntimeException(String.format("No coefficients for %s", Instant.ofEpochMilli(epoch)));
+			}
+			// Up to the end of the chunk, or the end of the year
+			int end = (int) Math.min(chunkEnd, (coefficients.getNextJan1st() - from + stepMs - 1) / stepMs);
+			if (harmonicIdx < 0) {
+				coefficients.fill(from, stepMs, values, idx, end);
+			} else {
+				coefficients.fillHarmonic(harmonicIdx, from, stepMs, values, idx, end);
+			}
+			idx = end;
+		}
+	}
+
+	/**
+	 * Timestamps once, one array of values per station.
+	 */
+	public static class ColumnarTideData {
+		private long[] epochs;
+		private int step;
+		private List<StationData> stations = new ArrayList<>();
+
+		public ColumnarTideData(long[] epochs, int step) {
+			this.epochs = epochs;
+			this.step = step;
+		}
+
+		void add(StationData stationData) {
+			this.stations.add(stationData);
+		}
+
+		public long[] getEpochs() {
+			return epochs;
+		}
+
+		public int getStep() {
+			return step;
+		}
+
+		public List<StationData> getStations() {
+			return stations;
+		}
+
+		public static class StationData {
+			private String stationName;
+			private String unit;
+			private String timeZone;
+			private double[] values;
+
+			public StationData(String stationName, String unit, String timeZone, double[] values) {
+				this.stationName = stationName;
+				this.unit = unit;
+				this.timeZone = timeZone;
+				this.values = values;
+			}
+
+			public String getStationName() {
+				return stationName;
+			}
+
+			public String getUnit() {
+				return unit;
+			}
+
+			public String getTimeZone() {
+				return timeZone;
+			}
+
+			public double[] getValues() {
+				return values;
+			}
+
+			public StationData unit(String unit) {
+				this.unit = unit;
+				return this;
+			}
+		}
+	}
+}
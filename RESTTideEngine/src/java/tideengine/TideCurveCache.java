@@ -0,0 +1,417 @@
+package tideengine;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two-level cache of tide curves, computed one (UTC) day at a time.
+ * <ul>
+ *   <li>Level one is an in-heap LRU of <code>double[]</code>, bounded by the total number of samples it holds.</li>
+ *   <li>Level two (optional) is a directory on the disk, one file per day curve, bounded by the total size of its files.
+ *   The least recently used files are deleted first.</li>
+ * </ul>
+ * Entries are keyed by station, year of the harmonic corrections, day, step and unit.
+ * Harmonic curves (for one coefficient, see /wh/details) are cached the same way, with the coefficient name in the key.
+ * The harmonic corrections of the last {@link #MAX_COEFFICIENTS} stations and years are kept as well.
+ * <br>
+ * A date range is assembled from the cached days. When the range is not aligned on the step
+ * (or when the step does not divide a day), the curve is computed directly, and not cached.
+ */
+public class TideCurveCache {
+
+	private final static long DAY_MS = 24L * 3_600_000L;
+	private final static int MAX_COEFFICIENTS = 64;
+	private final static String FILE_SUFFIX = ".bin";
+
+	private final List<Coefficient> constSpeed;
+	private final Constituents constituents;
+	private final long maxSamples;
+	private final File diskDir; // null: no disk tier
+	private final long maxDiskBytes;
+	private long diskBytes = 0L;
+	private final Object diskLock = new Object();
+
+	private long nbSamples = 0L;
+	private final LinkedHashMap<CurveKey, double[]> lru = new LinkedHashMap<>(64, 0.75f, true); // Access order
+	private final Map<String, HarmonicCoefficients> coefficients = new LinkedHashMap<String, HarmonicCoefficients>(16, 0.75f, true) { // Access order
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, HarmonicCoefficients> eldest) {
+			return size() > MAX_COEFFICIENTS;
+		}
+	};
+
+	private final AtomicLong hits = new AtomicLong(0L);
+	private final AtomicLong diskHits = new AtomicLong(0L);
+	private final AtomicLong misses = new AtomicLong(0L);
+	private final AtomicLong bypassed = new AtomicLong(0L);
+	private final AtomicLong evictions = new AtomicLong(0L);
+	private final AtomicLong diskEvictions = new AtomicLong(0L);
+
+	/**
+	 * @param constSpeed   as returned by {@link BackEndTideComputer#buildSiteConstSpeed()}
+	 * @param constituents as returned by {@link BackEndTideComputer#getConstituents()}
+	 * @param maxSamples   max number of samples (doubles) in memory, all entries together.
+	 * @param diskDir      directory of the disk tier, null if not required. Created if needed.
+	 * @param maxDiskBytes max size of the files of the disk tier, all together.
+	 */
+	public TideCurveCache(@Nonnull List<Coefficient> constSpeed, @Nonnull Constituents constituents, long maxSamples, File diskDir, long maxDiskBytes) {
+		this.constSpeed = constSpeed;
+		this.constituents = constituents;
+		this.maxSamples = maxSamples;
+		this.maxDiskBytes = maxDiskBytes;
+		if (diskDir != null && !diskDir.exists()) {
+			if (!diskDir.mkdirs()) {
+				System.err.println(String.format("Cannot create %s, no disk cache.", diskDir.getAbsolutePath()));
+				diskDir = null;
+			}
+		}
+		this.diskDir = diskDir;
+		if (diskDir != null) {
+			for (File file : diskFiles()) { // Left by a previous run
+				diskBytes += file.length();
+			}
+			trimDisk();
+		}
+	}
+
+	/**
+	 * @param ts          the station
+	 * @param from        epoch of the first point, in ms (inclusive)
+	 * @param to          epoch of the last point, in ms (exclusive)
+	 * @param stepMinutes in minutes
+	 * @param unit        the unit of the values, part of the key
+	 * @param unitFactor  factor to apply to the values in the station unit
+	 * @return one value every stepMinutes, from from, up to to.
+	 */
+	public double[] getWaterHeights(@Nonnull TideStation ts, long from, long to, int stepMinutes, String unit, double unitFactor) throws Exception {
+		return getCurve(ts, null, from, to, stepMinutes, unit, unitFactor);
+	}
+
+	/**
+	 * Same as {@link #getWaterHeights(TideStation, long, long, int, String, double)}, for one harmonic coefficient.
+	 *
+	 * @param harmonic the name of the coefficient, like M2.
+	 */
+	public double[] getHarmonicCurve(@Nonnull TideStation ts, @Nonnull String harmonic, long from, long to, int stepMinutes, String unit, double unitFactor) throws Exception {
+		return getCurve(ts, harmonic, from, to, stepMinutes, unit, unitFactor);
+	}
+
+	private double[] getCurve(TideStation ts, String harmonic, long from, long to, int stepMinutes, String unit, double unitFactor) throws Exception {
+		if (stepMinutes <= 0) {
+			throw new IllegalArgumentException(String.format("Step MUST be positive: %d", stepMinutes));
+		}
+		long stepMs = stepMinutes * 60_000L;
+		int nbPoints = (int) Math.max(0L, (to - from + stepMs - 1) / stepMs);
+		double[] curve = new double[nbPoints];
+		if (nbPoints == 0) {
+			return curve;
+		}
+		if (DAY_MS % stepMs != 0 || Math.floorMod(from, stepMs) != 0) { // Not cacheable
+			bypassed.incrementAndGet();
+			List<HarmonicCoefficients> years = ParallelTideComputer.coefficientsFor(ts, constSpeed, constituents, from, to);
+			ParallelTideComputer.fill(years, harmonicIndex(years.get(0), harmonic), from, stepMs, curve, 0, nbPoints);
+			applyFactor(curve, unitFactor);
+			return curve;
+		}
+		int perDay = (int) (DAY_MS / stepMs);
+		int idx = 0;
+		while (idx < nbPoints) {
+			long epoch = from + (idx * stepMs);
+			long day = Math.floorDiv(epoch, DAY_MS);
+			int inDay = (int) ((epoch - (day * DAY_MS)) / stepMs);
+			int len = Math.min(perDay - inDay, nbPoints - idx);
+			double[] dayCurve = getDay(ts, harmonic, day, stepMinutes, unit, unitFactor);
+			System.arraycopy(dayCurve, inDay, curve, idx, len);
+			idx += len;
+		}
+		return curve;
+	}
+
+	private double[] getDay(TideStation ts, String harmonic, long day, int stepMinutes, String unit, double unitFactor) throws Exception {
+		long dayStart = day * DAY_MS;
+		int year = Instant.ofEpochMilli(dayStart).atZone(ZoneId.of(ts.getTimeZone())).getYear();
+		CurveKey key = new CurveKey(ts.getFullName(), harmonic, year, day, stepMinutes, unit);
+		double[] dayCurve;
+		synchronized (lru) {
+			dayCurve = lru.get(key);
+		}
+		if (dayCurve != null) {
+			hits.incrementAndGet();
+			return dayCurve;
+		}
+		dayCurve = readFromDisk(key);
+		if (dayCurve != null) {
+			diskHits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+			long stepMs = stepMinutes * 60_000L;
+			dayCurve = new double[(int) (DAY_MS / stepMs)];
+			List<HarmonicCoefficients> years = new ArrayList<>(2);
+			years.add(getCoefficients(ts, year));
+			if (!years.get(0).covers(dayStart + DAY_MS - 1)) { // New year in the day
+				years.add(getCoefficients(ts, year + 1));
+			}
+			ParallelTideComputer.fill(years, harmonicIndex(years.get(0), harmonic), dayStart, stepMs, dayCurve, 0, dayCurve.length);
+			applyFactor(dayCurve, unitFactor);
+			writeToDisk(key, dayCurve);
+		}
+		put(key, dayCurve);
+		return dayCurve;
+	}
+
+	private HarmonicCoefficients getCoefficients(TideStation ts, int year) throws Exception {
+		String key = ts.getFullName() + "|" + year;
+		HarmonicCoefficients hc;
+		synchronized (coefficients) {
+			hc = coefficients.get(key);
+		}
+		if (hc == null) {
+			hc = HarmonicCoefficients.forYear(ts, constSpeed, constituents, year);
+			synchronized (coefficients) {
+				coefficients.put(key, hc);
+			}
+		}
+		return hc;
+	}
+
+	private static int harmonicIndex(HarmonicCoefficients hc, String harmonic) {
+		if (harmonic == null) {
+			return -1;
+		}
+		int idx = hc.getHarmonicIndex(harmonic);
+		if (idx == -1) {
+			throw new IllegalArgumentException(String.format("Coeff [%s] not found", harmonic));
+		}
+		return idx;
+	}
+
+	private static void applyFactor(double[] values, double factor) {
+		if (factor != 1d) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] *= factor;
+			}
+		}
+	}
+
+	private void put(CurveKey key, double[] dayCurve) {
+		synchronized (lru) {
+			if (lru.put(key, dayCurve) == null) {
+				nbSamples += dayCurve.length;
+			}
+			Iterator<Map.Entry<CurveKey, double[]>> iterator = lru.entrySet().iterator();
+			while (nbSamples > maxSamples && iterator.hasNext()) {
+				Map.Entry<CurveKey, double[]> eldest = iterator.next();
+				if (eldest.getKey().equals(key)) { // Do not evict the one we've just put
+					continue;
+				}
+				nbSamples -= eldest.getValue().length;
+				iterator.remove();
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	private double[] readFromDisk(CurveKey key) {
+		if (diskDir == null) {
+			return null;
+		}
+		File file = new File(diskDir, key.fileName());
+		if (!file.exists()) {
+			return null;
+		}
+		try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (!key.toString().equals(dis.readUTF())) { // Hash collision
+				return null;
+			}
+			double[] curve = new double[dis.readInt()];
+			for (int i = 0; i < curve.length; i++) {
+				curve[i] = dis.readDouble();
+			}
+			file.setLastModified(System.currentTimeMillis()); // Recently used
+			return curve;
+		} catch (IOException ioe) {
+			System.err.println(String.format("Reading %s: %s", file.getName(), ioe.toString()));
+			return null;
+		}
+	}
+
+	private void writeToDisk(CurveKey key, double[] curve) {
+		if (diskDir == null) {
+			return;
+		}
+		File file = new File(diskDir, key.fileName());
+		File tmp = new File(diskDir, key.fileName() + ".tmp." + Thread.currentThread().getId());
+		try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+			dos.writeUTF(key.toString());
+			dos.writeInt(curve.length);
+			for (double d : curve) {
+				dos.writeDouble(d);
+			}
+		} catch (IOException ioe) {
+			System.err.println(String.format("Writing %s: %s", file.getName(), ioe.toString()));
+			tmp.delete();
+			return;
+		}
+		synchronized (diskLock) {
+			long length = tmp.length();
+			long previous = (file.exists() ? file.length() : 0L);
+			if (tmp.renameTo(file)) {
+				diskBytes += (length - previous);
+				trimDisk();
+			} else {
+				tmp.delete();
+			}
+		}
+	}
+
+	private File[] diskFiles() {
+		File[] files = diskDir.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+		return (files != null ? files : new File[0]);
+	}
+
+	/**
+	 * Deletes the least recently used files of the disk tier, down to 3/4 of its max size, so it is not done on every write.
+	 */
+	private void trimDisk() {
+		synchronized (diskLock) {
+			if (diskBytes <= maxDiskBytes) {
+				return;
+			}
+			File[] files = diskFiles();
+			Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+			for (int i = 0; i < files.length && diskBytes > (maxDiskBytes / 4) * 3; i++) {
+				long length = files[i].length();
+				if (files[i].delete()) {
+					diskBytes -= length;
+					diskEvictions.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	public void clear() {
+		synchronized (lru) {
+			lru.clear();
+			nbSamples = 0L;
+		}
+		synchronized (coefficients) {
+			coefficients.clear();
+		}
+	}
+
+	public CacheStats getStats() {
+		CacheStats stats = new CacheStats();
+		synchronized (lru) {
+			stats.entries = lru.size();
+			stats.samples = nbSamples;
+		}
+		stats.maxSamples = maxSamples;
+		stats.diskTier = (diskDir != null ? diskDir.getAbsolutePath() : null);
+		if (diskDir != null) {
+			synchronized (diskLock) {
+				stats.diskBytes = diskBytes;
+			}
+			stats.maxDiskBytes = maxDiskBytes;
+		}
+		stats.hits = hits.get();
+		stats.diskHits = diskHits.get();
+		stats.misses = misses.get();
+		stats.bypassed = bypassed.get();
+		stats.evictions = evictions.get();
+		stats.diskEvictions = diskEvictions.get();
+		long total = stats.hits + stats.diskHits + stats.misses;
+		stats.hitRate = (total == 0 ? 0d : (double) (stats.hits + stats.diskHits) / (double) total);
+		stats.missRate = (total == 0 ? 0d : (double) stats.misses / (double) total);
+		return stats;
+	}
+
+	public static class CacheStats {
+		int entries;
+		long samples;
+		long maxSamples;
+		String diskTier;
+		long diskBytes;
+		long maxDiskBytes;
+		long hits;
+		long diskHits;
+		long misses;
+		long bypassed;
+		long evictions;
+		long diskEvictions;
+		double hitRate;
+		double missRate;
+
+		public long getHits() {
+			return hits;
+		}
+
+		public long getDiskHits() {
+			return diskHits;
+		}
+
+		public long getMisses() {
+			return misses;
+		}
+
+		public double getHitRate() {
+			return hitRate;
+		}
+
+		public double getMissRate() {
+			return missRate;
+		}
+	}
+
+	private static class CurveKey {
+		private final String station;
+		private final String harmonic; // null for the water height
+		private final int year;        // Year of the harmonic corrections
+		private final long day;        // Epoch day (UTC)
+		private final int step;        // In minutes
+		private final String unit;
+
+		CurveKey(String station, String harmonic, int year, long day, int step, String unit) {
+			this.station = station;
+			this.harmonic = harmonic;
+			this.year = year;
+			this.day = day;
+			this.step = step;
+			this.unit = unit;
+		}
+
+		String fileName() {
+			return String.format("%08x.%d.%d.%d%s", this.toString().hashCode(), year, day, step, FILE_SUFFIX);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CurveKey)) {
+				return false;
+			}
+			CurveKey other = (CurveKey) o;
+			return year == other.year &&
+					day == other.day &&
+					step == other.step &&
+					station.equals(other.station) &&
+					Objects.equals(harmonic, other.harmonic) &&
+					Objects.equals(unit, other.unit);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(station, harmonic, year, day, step, unit);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s|%s|%d|%d|%d|%s", station, (harmonic == null ? "" : harmonic), year, day, step, unit);
+		}
+	}
+}
@@ -10,7 +10,8 @@ import javax.xml.parsers.SAXParserFactory;
 import java.io.File;
 import java.io.FileInputStream;
 import java.text.DecimalFormat;
-import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 
@@ -227,7 +228,7 @@ public class TideUtilities {
 	public final static int RISING = 1;
 	public final static int FALLING = -1;
 
-	private final static SimpleDateFormat SDF_TIDE = new SimpleDateFormat("EEE, MMM dd, ''yy HH:mm z Z");
+	private final static DateTimeFormatter SDF_TIDE = DateTimeFormatter.ofPattern("EEE, MMM dd, ''yy HH:mm z Z"); // Immutable, thread safe
 
 	public static List<TimedValue> getTideTableForOneDay(TideStation ts, List<Coefficient> constSpeed, int year, int month, int day, String timeZone2Use) {
 		double low1 = Double.NaN;
@@ -309,18 +310,18 @@ public class TideUtilities {
 			}
 		}
 		List<TimedValue> timeList = new ArrayList<>(4);
-		SDF_TIDE.setTimeZone(TimeZone.getTimeZone(timeZone2Use != null ? timeZone2Use : ts.getTimeZone()));
+		DateTimeFormatter tideFmt = SDF_TIDE.withZone(ZoneId.of(timeZone2Use != null ? timeZone2Use : ts.getTimeZone()));
 		if (low1Cal != null) {
-			timeList.add(new TimedValue("LW", low1Cal, low1).unit(ts.getDisplayUnit()).formattedDate(SDF_TIDE.format(low1Cal.getTime())));
+			timeList.add(new TimedValue("LW", low1Cal, low1).unit(ts.getDisplayUnit()).formattedDate(tideFmt.format(low1Cal.toInstant())));
 		}
 		if (low2Cal != null) {
-			timeList.add(new TimedValue("LW", low2Cal, low2).unit(ts.getDisplayUnit()).formattedDate(SDF_TIDE.format(low2Cal.getTime())));
+			timeList.add(new TimedValue("LW", low2Cal, low2).unit(ts.getDisplayUnit()).formattedDate(tideFmt.format(low2Cal.toInstant())));
 		}
 		if (high1Cal != null) {
-			timeList.add(new TimedValue("HW", high1Cal, high1).unit(ts.getDisplayUnit()).formattedDate(SDF_TIDE.format(high1Cal.getTime())));
+			timeList.add(new TimedValue("HW", high1Cal, high1).unit(ts.getDisplayUnit()).formattedDate(tideFmt.format(high1Cal.toInstant())));
 		}
 		if (high2Cal != null) {
-			timeList.add(new TimedValue("HW", high2Cal, high2).unit(ts.getDisplayUnit()).formattedDate(SDF_TIDE.format(high2Cal.getTime())));
+			timeList.add(new TimedValue("HW", high2Cal, high2).unit(ts.getDisplayUnit()).formattedDate(tideFmt.format(high2Cal.toInstant())));
 		}
 		if (ts.isCurrentStation() && slackList != null && slackList.size() > 0) {
 			slackList.stream().forEach(timeList::add);
@@ -405,8 +406,22 @@ public class TideUtilities {
 	public final static int MIN_POS = 0;
 	public final static int MAX_POS = 1;
 
+	/**
+	 * Min and max of the water height for the year of a date.
+	 * Uses the {@link WaterHeightExtrema} index once the data are loaded (see {@link BackEndTideComputer#connect()}) and the index is built,
+	 * the curve is sampled every 2 hours otherwise.
+	 *
+	 * @param ts         the station
+	 * @param constSpeed the constituents speeds
+	 * @param when       a date in the year
+	 * @return the min and max, at {@link #MIN_POS} and {@link #MAX_POS}
+	 * @throws Exception
+	 */
 	public static double[] getMinMaxWH(TideStation ts, List<Coefficient> constSpeed, Calendar when) throws Exception {
 		double[] minMax = {0d, 0d};
+		if (ts != null && BackEndTideComputer.getConstituents() != null) {
+			return WaterHeightExtrema.getMinMax(ts, constSpeed, BackEndTideComputer.getConstituents(), when.get(Calendar.YEAR));
+		}
 		if (ts != null) {
 			// Calculate min/max, for the graph
 			int year = when.get(Calendar.YEAR);
@@ -431,8 +446,15 @@ public class TideUtilities {
 		return minMax;
 	}
 
+	/**
+	 * Min and max of the water height between two dates.
+	 * Same as {@link #getMinMaxWH(TideStation, List, Calendar)} for the index.
+	 */
 	public static double[] getMinMaxWH(TideStation ts, List<Coefficient> constSpeed, Calendar from, Calendar to) throws Exception {
 		double[] minMax = {0d, 0d};
+		if (ts != null && BackEndTideComputer.getConstituents() != null) {
+			return WaterHeightExtrema.getMinMax(ts, constSpeed, BackEndTideComputer.getConstituents(), from.getTimeInMillis(), to.getTimeInMillis());
+		}
 		if (ts != null) {
 			double max = -Double.MAX_VALUE;
 			double min = Double.MAX_VALUE;
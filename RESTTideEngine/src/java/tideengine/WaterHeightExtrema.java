@@ -0,0 +1,364 @@
+package tideengine;
+
+import javax.annotation.Nonnull;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Min and max water heights (or current speeds) of a station, for one year.
+ * <p>
+ * Built once per station and per year (on first use, see {@link #forYear(TideStation, List, Constituents, int)}),
+ * from the actual high and low waters of each day: the curve is sampled every {@link #SCAN_STEP_MS} ms,
+ * and each local extremum is refined to the second.
+ * The last used ones are kept, up to <code>-Dtide.extrema.max.entries</code> (64 by default) stations and years.
+ * </p>
+ * <p>
+ * The static <code>getMinMax</code> do not wait for it: the first time a station and a year are requested, the extrema are built
+ * in the background, the curve is sampled every 2 hours in the meantime (like before the index).
+ * </p>
+ * The daily extrema are kept in two sparse tables, so the min and max over any range of whole days
+ * are obtained in O(1). Partial days at the edges of a range are computed on the fly.
+ */
+public class WaterHeightExtrema {
+
+	public final static int MIN_POS = TideUtilities.MIN_POS;
+	public final static int MAX_POS = TideUtilities.MAX_POS;
+
+	private final static long SCAN_STEP_MS = 15L * 60_000L;
+	private final static long PRECISION_MS = 1_000L;
+	private final static long FALLBACK_STEP_MS = 2L * 3_600_000L;
+
+	private final static int MAX_ENTRIES = getMaxEntries();
+	private final static Map<String, WaterHeightExtrema> INDEX = new LinkedHashMap<String, WaterHeightExtrema>(16, 0.75f, true) { // Access order
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, WaterHeightExtrema> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private final static Set<String> BUILDING = ConcurrentHashMap.newKeySet();
+	private static ExecutorService builder = null;
+
+	private static synchronized ExecutorService getBuilder() {
+		if (builder == null) {
+			builder = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "tide-extrema");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return builder;
+	}
+
+	private static int getMaxEntries() {
+		int max = 64;
+		try {
+			max = Integer.parseInt(System.getProperty("tide.extrema.max.entries", String.valueOf(max)));
+		} catch (NumberFormatException nfe) {
+			System.err.println(nfe.toString());
+		}
+		return Math.max(1, max);
+	}
+
+	private final HarmonicCoefficients coefficients;
+	private final long[] dayStart; // epoch (ms) of the beginning of each day, plus the end of the last one.
+	private final double[][] minTable; // minTable[k][i] = min of the days [i, i + 2^k[
+	private final double[][] maxTable;
+
+	private WaterHeightExtrema(HarmonicCoefficients coefficients, ZoneId zone) {
+		this.coefficients = coefficients;
+		int year = coefficients.getYear();
+		int nbDays = LocalDate.of(year, 1, 1).lengthOfYear();
+		this.dayStart = new long[nbDays + 1];
+		LocalDate day = LocalDate.of(year, 1, 1);
+		for (int i = 0; i <= nbDays; i++) {
+			this.dayStart[i] = day.atStartOfDay(zone).toInstant().toEpochMilli();
+			day = day.plusDays(1);
+		}
+		int levels = 1;
+		while ((1 << levels) <= nbDays) {
+			levels++;
+		}
+		this.minTable = new double[levels][];
+		this.maxTable = new double[levels][];
+		this.minTable[0] = new double[nbDays];
+		this.maxTable[0] = new double[nbDays];
+		double[] minMax = new double[2];
+		for (int i = 0; i < nbDays; i++) {
+			scan(this.dayStart[i], this.dayStart[i + 1], minMax);
+			this.minTable[0][i] = minMax[MIN_POS];
+			this.maxTable[0][i] = minMax[MAX_POS];
+		}
+		for (int k = 1; k < levels; k++) {
+			int span = 1 << (k - 1);
+			int size = nbDays - (1 << k) + 1;
+			this.minTable[k] = new double[size];
+			this.maxTable[k] = new double[size];
+			for (int i = 0; i < size; i++) {
+				this.minTable[k][i] = Math.min(this.minTable[k - 1][i], this.minTable[k - 1][i + span]);
+				this.maxTable[k][i] = Math.max(this.maxTable[k - 1][i], this.maxTable[k - 1][i + span]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the extrema of a station for a year, built on first request, and then kept.
+	 *
+	 * @param ts           the station
+	 * @param constSpeed   as returned by {@link BackEndTideComputer#buildSiteConstSpeed()}
+	 * @param constituents as returned by {@link BackEndTideComputer#getConstituents()}
+	 * @param year         the year
+	 * @return the extrema
+	 * @throws Exception when the year correction cannot be found
+	 */
+	public static WaterHeightExtrema forYear(@Nonnull TideStation ts,
+	                                         @Nonnull List<Coefficient> constSpeed,
+	                                         @Nonnull Constituents constituents,
+	                                         int year) throws Exception {
+		String key = ts.getFullName() + "|" + year;
+		WaterHeightExtrema extrema;
+		synchronized (INDEX) {
+			extrema = INDEX.get(key);
+		}
+		if (extrema == null) { // Not under the lock, the computation can take a while.
+			extrema = new WaterHeightExtrema(HarmonicCoefficients.forYear(ts, constSpeed, constituents, year), ZoneId.of(ts.getTimeZone()));
+			synchronized (INDEX) {
+				WaterHeightExtrema previous = INDEX.putIfAbsent(key, extrema);
+				if (previous != null) {
+					extrema = previous;
+				}
+			}
+		}
+		return extrema;
+	}
+
+	/**
+	 * Returns the extrema of a station for a year, if they are built. Their construction is started otherwise, on another thread.
+	 *
+	 * @return the extrema, null if not built yet
+	 */
+	public static WaterHeightExtrema ifBuilt(@Nonnull TideStation ts,
+	                                         @Nonnull List<Coefficient> constSpeed,
+	                                         @Nonnull Constituents constituents,
+	                                         int year) {
+		String key = ts.getFullName() + "|" + year;
+		WaterHeightExtrema extrema;
+		synchronized (INDEX) {
+			extrema = INDEX.get(key);
+		}
+		if (extrema == null && BUILDING.add(key)) {
+			getBuilder().submit(() -> {
+				try {
+					forYear(ts, constSpeed, constituents, year);
+				} catch (Exception ex) {
+					System.err.println(String.format("Extrema of %s in %d: %s", ts.getFullName(), year, ex.toString()));
+				} finally {
+					BUILDING.remove(key);
+				}
+			});
+		}
+		return extrema;
+	}
+
+	/**
+	 * Min and max of a year, see {@link #getMinMax(TideStation, List, Constituents, long, long)}.
+	 */
+	public static double[] getMinMax(@Nonnull TideStation ts,
+	                                 @Nonnull List<Coefficient> constSpeed,
+	                                 @Nonnull Constituents constituents,
+	                                 int year) throws Exception {
+		ZoneId zone = ZoneId.of(ts.getTimeZone());
+		return getMinMax(ts, constSpeed, constituents,
+				LocalDate.of(year, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli(),
+				LocalDate.of(year + 1, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli());
+	}
+
+	/**
+	 * Min and max between two dates, possibly on several years.
+	 * From the extrema of each year if they are built, from the curve sampled every 2 hours otherwise, see {@link #ifBuilt(TideStation, List, Constituents, int)}.
+	 *
+	 * @param ts           the station
+	 * @param constSpeed   as returned by {@link BackEndTideComputer#buildSiteConstSpeed()}
+	 * @param constituents as returned by {@link BackEndTideComputer#getConstituents()}
+	 * @param from         epoch, in ms, inclusive
+	 * @param to           epoch, in ms, exclusive
+	 * @return the min and max, at {@link #MIN_POS} and {@link #MAX_POS}
+	 * @throws Exception when the year correction cannot be found
+	 */
+	public static double[] getMinMax(@Nonnull TideStation ts,
+	                                 @Nonnull List<Coefficient> constSpeed,
+	                                 @Nonnull Constituents constituents,
+	                                 long from,
+	                                 long to) throws Exception {
+		double[] minMax = {Double.MAX_VALUE, -Double.MAX_VALUE};
+		ZoneId zone = ZoneId.of(ts.getTimeZone());
+		int firstYear = Instant.ofEpochMilli(from).atZone(zone).getYear();
+		int lastYear = Instant.ofEpochMilli(Math.max(from, to - 1)).atZone(zone).getYear();
+		for (int year = firstYear; year <= lastYear; year++) {
+			WaterHeightExtrema extrema = ifBuilt(ts, constSpeed, constituents, year);
+			double[] yearMinMax;
+			if (extrema != null) {
+				yearMinMax = extrema.getMinMax(from, to);
+			} else {
+				long yearStart = LocalDate.of(year, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+				long yearEnd = LocalDate.of(year + 1, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+				yearMinMax = sample(HarmonicCoefficients.forYear(ts, constSpeed, constituents, year), Math.max(from, yearStart), Math.min(to, yearEnd));
+			}
+			minMax[MIN_POS] = Math.min(minMax[MIN_POS], yearMinMax[MIN_POS]);
+			minMax[MAX_POS] = Math.max(minMax[MAX_POS], yearMinMax[MAX_POS]);
+		}
+		return minMax;
+	}
+
+	/**
+	 * Min and max of the curve sampled every {@link #FALLBACK_STEP_MS} ms, between start (inclusive) and end (exclusive).
+	 */
+	private static double[] sample(HarmonicCoefficients coefficients, long start, long end) {
+		double[] minMax = {Double.MAX_VALUE, -Double.MAX_VALUE};
+		for (long t = start; t < end; t += FALLBACK_STEP_MS) {
+			double wh = coefficients.getWaterHeight(t);
+			minMax[MIN_POS] = Math.min(minMax[MIN_POS], wh);
+			minMax[MAX_POS] = Math.max(minMax[MAX_POS], wh);
+		}
+		return minMax;
+	}
+
+	/**
+	 * Forget all the extrema (like when the data are reloaded).
+	 */
+	public static void clear() {
+		synchronized (INDEX) {
+			INDEX.clear();
+		}
+	}
+
+	public int getYear() {
+		return coefficients.getYear();
+	}
+
+	/**
+	 * @return the min and max of the whole year
+	 */
+	public double[] getMinMax() {
+		return query(0, dayStart.length - 2);
+	}
+
+	/**
+	 * @param from epoch, in ms, inclusive
+	 * @param to   epoch, in ms, exclusive
+	 * @return the min and max between from and to, restricted to this year.
+	 */
+	public double[] getMinMax(long from, long to) {
+		long start = Math.max(from, dayStart[0]);
+		long end = Math.min(to, dayStart[dayStart.length - 1]);
+		double[] minMax = {Double.MAX_VALUE, -Double.MAX_VALUE};
+		if (start >= end) {
+			return minMax;
+		}
+		int first = dayIndex(start);
+		if (dayStart[first] < start) { // Partial first day
+			merge(minMax, scan(start, Math.min(end, dayStart[first + 1]), new double[2]));
+			first++;
+		}
+		int last = dayIndex(end); // Day containing end, excluded
+		if (last > first) { // Whole days
+			merge(minMax, query(first, last - 1));
+		}
+		if (last >= first && dayStart[last] < end) { // Partial last day
+			merge(minMax, scan(dayStart[last], end, new double[2]));
+		}
+		return minMax;
+	}
+
+	/**
+	 * @return the index of the day containing epoch (the last one before, if between days)
+	 */
+	private int dayIndex(long epoch) {
+		int lo = 0, hi = dayStart.length - 1;
+		while (lo < hi) {
+			int mid = (lo + hi + 1) >>> 1;
+			if (dayStart[mid] <= epoch) {
+				lo = mid;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Min and max over the days [first, last], both inclusive.
+	 */
+	private double[] query(int first, int last) {
+		int k = 31 - Integer.numberOfLeadingZeros(last - first + 1);
+		return new double[]{
+				Math.min(minTable[k][first], minTable[k][last - (1 << k) + 1]),
+				Math.max(maxTable[k][first], maxTable[k][last - (1 << k) + 1])};
+	}
+
+	private static void merge(double[] into, double[] minMax) {
+		into[MIN_POS] = Math.min(into[MIN_POS], minMax[MIN_POS]);
+		into[MAX_POS] = Math.max(into[MAX_POS], minMax[MAX_POS]);
+	}
+
+	/**
+	 * Min and max between start and end: the bounds, and the refined local extrema in between.
+	 */
+	private double[] scan(long start, long end, double[] minMax) {
+		double first = coefficients.getWaterHeight(start);
+		double min = first, max = first;
+		long prevT = start;
+		double prev = first;
+		int prevTrend = 0;
+		while (prevT < end) {
+			long t = Math.min(prevT + SCAN_STEP_MS, end);
+			double wh = coefficients.getWaterHeight(t);
+			int trend = Double.compare(wh, prev);
+			if (prevTrend != 0 && trend != 0 && trend != prevTrend) { // Extremum between prevT - step and t
+				double extremum = refine(Math.max(start, prevT - SCAN_STEP_MS), t, prevTrend > 0);
+				min = Math.min(min, extremum);
+				max = Math.max(max, extremum);
+			}
+			min = Math.min(min, wh);
+			max = Math.max(max, wh);
+			if (trend != 0) {
+				prevTrend = trend;
+			}
+			prev = wh;
+			prevT = t;
+		}
+		minMax[MIN_POS] = min;
+		minMax[MAX_POS] = max;
+		return minMax;
+	}
+
+	/**
+	 * Golden section search of the extremum between a and b.
+	 *
+	 * @param high true for a maximum, false for a minimum
+	 */
+	private double refine(long a, long b, boolean high) {
+		final double phi = (Math.sqrt(5d) - 1d) / 2d;
+		double lo = a, hi = b;
+		while (hi - lo > PRECISION_MS) {
+			double t1 = hi - phi * (hi - lo);
+			double t2 = lo + phi * (hi - lo);
+			double v1 = coefficients.getWaterHeight((long) t1);
+			double v2 = coefficients.getWaterHeight((long) t2);
+			if ((v1 > v2) == high) {
+				hi = t2;
+			} else {
+				lo = t1;
+			}
+		}
+		return coefficients.getWaterHeight((long) ((lo + hi) / 2d));
+	}
+}
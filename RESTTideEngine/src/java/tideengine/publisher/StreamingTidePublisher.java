@@ -0,0 +1,274 @@
+package tideengine.publisher;
+
+import calc.GeomUtil;
+import oracle.apps.xdo.template.FOProcessor;
+import tideengine.Coefficient;
+import tideengine.Constituents;
+import tideengine.HarmonicCoefficients;
+import tideengine.ParallelTideComputer;
+import tideengine.TideStation;
+import tideengine.TideUtilities.SpecialPrm;
+import tideengine.TideUtilities.TimedValue;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.Calendar;
+import java.util.Deque;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+/**
+ * Publishes the tide tables without intermediate file, and without external script.
+ * <ul>
+ * <li>The months are computed in parallel (see {@link TideForOneMonth#computeMonth(TideStation, List, String, int, int, SpecialPrm)}),
+ * and written in order, as soon as they are available.</li>
+ * <li>The XML document (same structure as the one produced by {@link TidePublisher}) is streamed
+ * through a pipe into the XSL-FO processor, running in the same JVM, that writes the pdf.</li>
+ * </ul>
+ * Only a few months are in memory at the same time, whatever the length of the period.
+ */
+public class StreamingTidePublisher {
+
+	public final static String TIDE_TABLE_STYLESHEET = "tide2fop.xsl";
+
+	private final static int DEFAULT_MONTH_PARALLELISM = Runtime.getRuntime().availableProcessors();
+	private final static long ONE_DAY = 24L * 3_600_000L;
+
+	private static ExecutorService monthExecutor = null;
+	private static int monthParallelism = DEFAULT_MONTH_PARALLELISM;
+
+	private static synchronized ExecutorService getMonthExecutor() {
+		if (monthExecutor == null) {
+			int parallelism = DEFAULT_MONTH_PARALLELISM;
+			try {
+				parallelism = Integer.parseInt(System.getProperty("tide.publish.month.parallelism", String.valueOf(DEFAULT_MONTH_PARALLELISM)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			AtomicInteger threadNum = new AtomicInteger(0);
+			monthParallelism = Math.max(1, parallelism);
+			monthExecutor = Executors.newFixedThreadPool(monthParallelism, runnable -> {
+				Thread thread = new Thread(runnable, String.format("tide-month-%d", threadNum.incrementAndGet()));
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return monthExecutor;
+	}
+
+	private static synchronized int getMonthParallelism() {
+		return monthParallelism;
+	}
+
+	/**
+	 * Generates the tide table document, in pdf.
+	 *
+	 * @param ts           TideStation
+	 * @param constSpeed   as returned by {@link tideengine.BackEndTideComputer#buildSiteConstSpeed()}
+	 * @param constituents as returned by {@link tideengine.BackEndTideComputer#getConstituents()}
+	 * @param timeZoneId   TimeZone ID to use
+	 * @param sm           Start Month, 0=Jan
+	 * @param sy           Start Year
+	 * @param nb           Number of q (see below)
+	 * @param q            quantity. Calendar.MONTH or Calendar.YEAR
+	 * @param utu          Unit to use, can be null
+	 * @param sPrm         Special parameters, can be null
+	 * @param xslDir       directory containing the stylesheet and its images
+	 * @param pdf          where to write the document
+	 * @param progress     notified with the percentage of months written, can be null
+	 * @throws Exception when something goes wrong, in the computation or in the transformation
+	 */
+	public static void publish(TideStation ts,
+	                           List<Coefficient> constSpeed,
+	                           Constituents constituents,
+	                           String timeZoneId,
+	                           int sm,
+	                           int sy,
+	                           int nb,
+	                           int q,
+	                           String utu,
+	                           SpecialPrm sPrm,
+	                           File xslDir,
+	                           OutputStream pdf,
+	                           IntConsumer progress) throws Exception {
+		InputStream template = loadTemplate(xslDir);
+
+		PipedInputStream xmlIn = new PipedInputStream(64 * 1024);
+		PipedOutputStream xmlOut = new PipedOutputStream(xmlIn);
+		AtomicReference<Exception> producerError = new AtomicReference<>();
+		Thread producer = new Thread(() -> {
+			try (OutputStream out = xmlOut) {
+				writeXML(ts, constSpeed, constituents, timeZoneId, sm, sy, nb, q, utu, sPrm, out, progress);
+			} catch (Exception ex) {
+				producerError.set(ex);
+			}
+		}, String.format("tide-xml-%s", Thread.currentThread().getName()));
+		producer.setDaemon(true);
+		producer.start();
+
+		try (InputStream in = xmlIn) {
+			FOProcessor processor = new FOProcessor();
+			processor.setData(in);
+			processor.setTemplate(template);
+			processor.setOutput(pdf);
+			processor.setOutputFormat(FOProcessor.FORMAT_PDF);
+			processor.generate();
+		} finally {
+			producer.join();
+		}
+		if (producerError.get() != null) {
+			throw producerError.get();
+		}
+	}
+
+	/**
+	 * Writes the XML document to transform, month after month.
+	 * Same parameters as {@link #publish(TideStation, List, Constituents, String, int, int, int, int, String, SpecialPrm, File, OutputStream, IntConsumer)}.
+	 */
+	public static void writeXML(TideStation ts,
+	                            List<Coefficient> constSpeed,
+	                            Constituents constituents,
+	                            String timeZoneId,
+	                            int sm,
+	                            int sy,
+	                            int nb,
+	                            int q,
+	                            String utu,
+	                            SpecialPrm sPrm,
+	                            OutputStream out,
+	                            IntConsumer progress) throws Exception {
+		Calendar start = new GregorianCalendar(sy, sm, 1);
+		Calendar end = (Calendar) start.clone();
+		end.add(q, nb);
+		int nbMonths = ((end.get(Calendar.YEAR) - start.get(Calendar.YEAR)) * 12) + (end.get(Calendar.MONTH) - start.get(Calendar.MONTH));
+		String unitToUse = (utu == null ? ts.getUnit() : utu);
+
+		SimpleDateFormat dateFormat = new SimpleDateFormat("EEE dd MMM yyyy");
+		SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm z");
+		if (timeZoneId != null) {
+			timeFormat.setTimeZone(TimeZone.getTimeZone(timeZoneId));
+		}
+		NumberFormat df2 = new DecimalFormat("00");
+		NumberFormat df3 = new DecimalFormat("000");
+		NumberFormat df22 = new DecimalFormat("#0.00"); // Like TideUtilities.DF22, not shared
+
+		XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+		writer.writeStartDocument("UTF-8", "1.0");
+		writer.writeStartElement("tide");
+		writer.writeAttribute("station", URLDecoder.decode(ts.getFullName(), "UTF-8"));
+		writer.writeAttribute("station-time-zone", ts.getTimeZone());
+		if (timeZoneId != null) { // Default time zone otherwise
+			writer.writeAttribute("print-time-zone", timeZoneId);
+		}
+		writer.writeAttribute("station-lat", GeomUtil.decToSex(ts.getLatitude(), GeomUtil.SWING, GeomUtil.NS, GeomUtil.TRAILING_SIGN));
+		writer.writeAttribute("station-lng", GeomUtil.decToSex(ts.getLongitude(), GeomUtil.SWING, GeomUtil.EW, GeomUtil.TRAILING_SIGN));
+
+		// Sliding window: a few months computed ahead, written in order.
+		ExecutorService executor = getMonthExecutor();
+		int window = 2 * getMonthParallelism();
+		Deque<Future<List<TideForOneMonth.DayData>>> inFlight = new ArrayDeque<>();
+		Calendar next = (Calendar) start.clone();
+		int submitted = 0, written = 0;
+		try {
+			while (written < nbMonths) {
+				while (submitted < nbMonths && inFlight.size() < window) {
+					final int year = next.get(Calendar.YEAR);
+					final int month = next.get(Calendar.MONTH) + 1; // Base: 1
+					inFlight.add(executor.submit(() -> computeMonth(ts, constSpeed, constituents, timeZoneId, year, month, sPrm)));
+					next.add(Calendar.MONTH, 1);
+					submitted++;
+				}
+				List<TideForOneMonth.DayData> days = inFlight.poll().get();
+				Calendar first = days.get(0).getDate();
+				writer.writeStartElement("period");
+				writer.writeAttribute("month", String.valueOf(first.get(Calendar.MONTH) + 1));
+				writer.writeAttribute("year", String.valueOf(first.get(Calendar.YEAR)));
+				for (TideForOneMonth.DayData day : days) {
+					writer.writeStartElement("date");
+					writer.writeAttribute("val", dateFormat.format(day.getDate().getTime()));
+					writer.writeAttribute("specBG", day.isSpecialBG() ? "y" : "n");
+					writer.writeAttribute("moon-phase", df2.format(day.getMoonPhase()));
+					writer.writeAttribute("sun-rise", timeFormat.format(day.getSunRise().getTime()));
+					writer.writeAttribute("sun-rise-Z", df3.format(day.getSunRiseZ()));
+					writer.writeAttribute("sun-transit", (day.getSunTransit() != null ? timeFormat.format(day.getSunTransit().getTime()) : ""));
+					writer.writeAttribute("sun-set", timeFormat.format(day.getSunSet().getTime()));
+					writer.writeAttribute("sun-set-Z", df3.format(day.getSunSetZ()));
+					writer.writeAttribute("moon-rise", timeFormat.format(day.getMoonRise().getTime()));
+					writer.writeAttribute("moon-set", timeFormat.format(day.getMoonSet().getTime()));
+					for (TimedValue tv : day.getTides()) {
+						writer.writeEmptyElement("plot");
+						writer.writeAttribute("type", tv.getType());
+						writer.writeAttribute("date", timeFormat.format(tv.getCalendar().getTime()));
+						if (!"Slack".equals(tv.getType())) {
+							writer.writeAttribute("height", df22.format(tv.getValue()));
+							writer.writeAttribute("unit", unitToUse);
+						}
+					}
+					writer.writeEndElement(); // date
+				}
+				writer.writeEndElement(); // period
+				writer.flush();
+				written++;
+				if (progress != null) {
+					progress.accept((int) Math.round(100d * written / nbMonths));
+				}
+			}
+		} finally {
+			inFlight.forEach(future -> future.cancel(true));
+		}
+		writer.writeEndElement(); // tide
+		writer.writeEndDocument();
+		writer.flush();
+		writer.close();
+	}
+
+	private static List<TideForOneMonth.DayData> computeMonth(TideStation ts,
+	                                                          List<Coefficient> constSpeed,
+	                                                          Constituents constituents,
+	                                                          String timeZoneId,
+	                                                          int year,
+	                                                          int month,
+	                                                          SpecialPrm sPrm) throws Exception {
+		// A margin around the month, the print time zone may not be the station's one.
+		long from = new GregorianCalendar(year, month - 1, 1).getTimeInMillis() - (2 * ONE_DAY);
+		long to = new GregorianCalendar(year, month, 1).getTimeInMillis() + (2 * ONE_DAY);
+		List<HarmonicCoefficients> years = ParallelTideComputer.coefficientsFor(ts, constSpeed, constituents, from, to);
+		return TideForOneMonth.computeMonth(ts, years, timeZoneId, year, month, sPrm);
+	}
+
+	/**
+	 * The stylesheet refers to the moon phase images relatively to its own directory
+	 * (the publishtide script runs from there). Those references are made absolute,
+	 * so the transformation does not depend on the working directory of the server.
+	 */
+	private static InputStream loadTemplate(File xslDir) throws Exception {
+		File stylesheet = new File(xslDir, TIDE_TABLE_STYLESHEET);
+		if (!stylesheet.exists()) {
+			throw new RuntimeException(String.format("Stylesheet %s not found", stylesheet.getAbsolutePath()));
+		}
+		String xsl = new String(Files.readAllBytes(stylesheet.toPath()), StandardCharsets.UTF_8);
+		String imageDir = xslDir.getAbsoluteFile().toURI().toString();
+		xsl = xsl.replace("url('phase", "url('" + imageDir + "phase");
+		return new ByteArrayInputStream(xsl.getBytes(StandardCharsets.UTF_8));
+	}
+}
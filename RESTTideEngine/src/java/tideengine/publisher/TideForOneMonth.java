@@ -1,8 +1,11 @@
 package tideengine.publisher;
 
 import calculation.AstroComputer;
+import calculation.Ephemeris;
 import tideengine.BackEndTideComputer;
 import tideengine.Coefficient;
+import tideengine.HarmonicCoefficients;
+import tideengine.ParallelTideComputer;
 import tideengine.TideStation;
 import tideengine.TideUtilities;
 
@@ -124,137 +127,26 @@ public class TideForOneMonth {
 			if (now.get(Calendar.YEAR) != prevYear)
 				ts = BackEndTideComputer.findTideStation(location, now.get(Calendar.YEAR));
 
-			List<TimedValue> timeAL = tideForOneDay(now, timeZone, ts, constSpeed, unitToUse);
-			Calendar utcCal = (Calendar) now.clone();
-			utcCal.setTimeZone(TimeZone.getTimeZone("Etc/UTC"));
-			// System.out.println("UTC Date:" + utcCal.getTime());
-			double moonPhase = AstroComputer.getMoonPhase(utcCal.get(Calendar.YEAR),
-					utcCal.get(Calendar.MONTH) + 1,
-					utcCal.get(Calendar.DAY_OF_MONTH),
-					utcCal.get(Calendar.HOUR_OF_DAY),
-					utcCal.get(Calendar.MINUTE),
-					utcCal.get(Calendar.SECOND));
-			double[] rsSun = AstroComputer.sunRiseAndSet(ts.getLatitude(), ts.getLongitude());
-			Calendar sunRise = new GregorianCalendar();
-			sunRise.setTimeZone(TimeZone.getTimeZone(ts.getTimeZone()));
-			sunRise.set(Calendar.YEAR, now.get(Calendar.YEAR));
-			sunRise.set(Calendar.MONTH, now.get(Calendar.MONTH));
-			sunRise.set(Calendar.DAY_OF_MONTH, now.get(Calendar.DAY_OF_MONTH));
-			sunRise.set(Calendar.SECOND, 0);
-
-			double r = rsSun[AstroComputer.UTC_RISE_IDX] /* + Utils.daylightOffset(sunRise) */ + AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone /*ts.getTimeZone()*/), sunRise.getTime());
-			int min = (int) ((r - ((int) r)) * 60);
-			sunRise.set(Calendar.MINUTE, min);
-			sunRise.set(Calendar.HOUR_OF_DAY, (int) r);
-
-			Calendar sunTransit = new GregorianCalendar();
-			sunTransit.setTimeZone(TimeZone.getTimeZone(ts.getTimeZone()));
-			sunTransit.set(Calendar.YEAR, now.get(Calendar.YEAR));
-			sunTransit.set(Calendar.MONTH, now.get(Calendar.MONTH));
-			sunTransit.set(Calendar.DAY_OF_MONTH, now.get(Calendar.DAY_OF_MONTH));
-			sunTransit.set(Calendar.SECOND, 0);
-
-			if (ts != null) {
-				double tPass = AstroComputer.getSunMeridianPassageTime(ts.getLatitude(), ts.getLongitude());
-				r = tPass + AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone), sunTransit.getTime());
-				min = (int) ((r - ((int) r)) * 60);
-				sunTransit.set(Calendar.MINUTE, min);
-				sunTransit.set(Calendar.HOUR_OF_DAY, (int) r);
-			}
-
-			Calendar sunSet = new GregorianCalendar();
-			sunSet.setTimeZone(TimeZone.getTimeZone(ts.getTimeZone()));
-			sunSet.set(Calendar.YEAR, now.get(Calendar.YEAR));
-			sunSet.set(Calendar.MONTH, now.get(Calendar.MONTH));
-			sunSet.set(Calendar.DAY_OF_MONTH, now.get(Calendar.DAY_OF_MONTH));
-			sunSet.set(Calendar.SECOND, 0);
-			r = rsSun[AstroComputer.UTC_SET_IDX] /* + Utils.daylightOffset(sunSet) */ + AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone/*ts.getTimeZone()*/), sunSet.getTime());
-			min = (int) ((r - ((int) r)) * 60);
-			sunSet.set(Calendar.MINUTE, min);
-			sunSet.set(Calendar.HOUR_OF_DAY, (int) r);
-
-			// Moon rise and set
-			double[] rsMoon = AstroComputer.moonRiseAndSet(ts.getLatitude(), ts.getLongitude());
-			Calendar moonRise = new GregorianCalendar();
-			moonRise.setTimeZone(TimeZone.getTimeZone(ts.getTimeZone()));
-			moonRise.set(Calendar.YEAR, now.get(Calendar.YEAR));
-			moonRise.set(Calendar.MONTH, now.get(Calendar.MONTH));
-			moonRise.set(Calendar.DAY_OF_MONTH, now.get(Calendar.DAY_OF_MONTH));
-			moonRise.set(Calendar.SECOND, 0);
-
-			r = rsMoon[AstroComputer.UTC_RISE_IDX] /* + Utils.daylightOffset(sunRise) */ + AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone /*ts.getTimeZone()*/), moonRise.getTime());
-			min = (int) ((r - ((int) r)) * 60);
-			moonRise.set(Calendar.MINUTE, min);
-			moonRise.set(Calendar.HOUR_OF_DAY, (int) r);
-
-			Calendar moonSet = new GregorianCalendar();
-			moonSet.setTimeZone(TimeZone.getTimeZone(ts.getTimeZone()));
-			moonSet.set(Calendar.YEAR, now.get(Calendar.YEAR));
-			moonSet.set(Calendar.MONTH, now.get(Calendar.MONTH));
-			moonSet.set(Calendar.DAY_OF_MONTH, now.get(Calendar.DAY_OF_MONTH));
-			moonSet.set(Calendar.SECOND, 0);
-			r = rsMoon[AstroComputer.UTC_SET_IDX] /* + Utils.daylightOffset(sunSet) */ + AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone/*ts.getTimeZone()*/), moonSet.getTime());
-			min = (int) ((r - ((int) r)) * 60);
-			moonSet.set(Calendar.MINUTE, min);
-			moonSet.set(Calendar.HOUR_OF_DAY, (int) r);
-
-			int phaseInDay = (int) Math.round(moonPhase / (360d / 28d)) + 1;
-			if (phaseInDay > 28) phaseInDay = 28;
-			if (phaseInDay < 1) phaseInDay = 1;
+			final TideStation station = ts;
+			DayData dayData = computeDay(now, timeZone, ts, cal -> TideUtilities.getWaterHeight(station, constSpeed, cal), sPrm);
 			if (timeZone != null)
 				TF.setTimeZone(TimeZone.getTimeZone(timeZone));
 
 			if (flavor == TEXT_FLAVOR) {
-				out.println("- " + SDF.format(now.getTime()) + " - Moon Age:" + DF2.format(phaseInDay));
-				for (TimedValue tv : timeAL)
+				out.println("- " + SDF.format(now.getTime()) + " - Moon Age:" + DF2.format(dayData.moonPhase));
+				for (TimedValue tv : dayData.tides)
 					out.println(tv.getType() + ": " + TF.format(tv.getCalendar().getTime()) + " : " + TideUtilities.DF22.format(tv.getValue()) + " " + unitToUse);
 			} else if (flavor == XML_FLAVOR) {
-				String specialBG = "specBG='n' ";
-				if (sPrm != null) {
-//        System.out.println("Special BG required");
-					for (TimedValue tv : timeAL) {
-						double tideHour = tv.getCalendar().get(Calendar.HOUR_OF_DAY) + (tv.getCalendar().get(Calendar.MINUTE) / 60d);
-						System.out.println("Tidetype:" + tv.getType() + " hour:" + tideHour + " within [" + sPrm.getFromHour() + ", " + sPrm.getToHour() + "], weekday=" + tv.getCalendar().get(Calendar.DAY_OF_WEEK));
-						if (((sPrm.getTideType() == HIGH_TIDE && tv.getType().equals("HW")) ||
-								(sPrm.getTideType() == LOW_TIDE && tv.getType().equals("LW"))) &&
-								(tideHour >= sPrm.getFromHour() && tideHour <= sPrm.getToHour())) {
-							boolean go = true;
-							// Week days
-							if (sPrm.getWeekdays() != null) {
-								int day = tv.getCalendar().get(Calendar.DAY_OF_WEEK);
-								int[] dd = sPrm.getWeekdays();
-								System.out.println("See if " + day + " is in [");
-								for (int d : dd)
-									System.out.print(d + " ");
-								System.out.println();
-								go = ((day == Calendar.MONDAY && dd[MONDAY] == 1) ||
-										(day == Calendar.TUESDAY && dd[TUESDAY] == 1) ||
-										(day == Calendar.WEDNESDAY && dd[WEDNESDAY] == 1) ||
-										(day == Calendar.THURSDAY && dd[THURSDAY] == 1) ||
-										(day == Calendar.FRIDAY && dd[FRIDAY] == 1) ||
-										(day == Calendar.SATURDAY && dd[SATURDAY] == 1) ||
-										(day == Calendar.SUNDAY && dd[SUNDAY] == 1));
-							}
-							if (go) {
-								specialBG = "specBG='y' ";
-								break;
-							}
-						}
-					}
-				}
-				double riseZ = rsSun[AstroComputer.RISE_Z_IDX],
-						setZ = rsSun[AstroComputer.SET_Z_IDX];
-
-				out.println("<date val='" + SDF.format(now.getTime()) + "' " + specialBG +
-						"moon-phase='" + DF2.format(phaseInDay) +
-						"' sun-rise='" + TF.format(sunRise.getTime()) +
-						"' sun-rise-Z='" + DF3.format(riseZ) +
-						"' sun-transit='" + (sunTransit != null ? TF.format(sunTransit.getTime()) : "") +
-						"' sun-set='" + TF.format(sunSet.getTime()) +
-						"' sun-set-Z='" + DF3.format(setZ) +
-						"' moon-rise='" + TF.format(moonRise.getTime()) +
-						"' moon-set='" + TF.format(moonSet.getTime()) + "'>");
-				for (TimedValue tv : timeAL) {
+				out.println("<date val='" + SDF.format(now.getTime()) + "' " + (dayData.specialBG ? "specBG='y' " : "specBG='n' ") +
+						"moon-phase='" + DF2.format(dayData.moonPhase) +
+						"' sun-rise='" + TF.format(dayData.sunRise.getTime()) +
+						"' sun-rise-Z='" + DF3.format(dayData.sunRiseZ) +
+						"' sun-transit='" + (dayData.sunTransit != null ? TF.format(dayData.sunTransit.getTime()) : "") +
+						"' sun-set='" + TF.format(dayData.sunSet.getTime()) +
+						"' sun-set-Z='" + DF3.format(dayData.sunSetZ) +
+						"' moon-rise='" + TF.format(dayData.moonRise.getTime()) +
+						"' moon-set='" + TF.format(dayData.moonSet.getTime()) + "'>");
+				for (TimedValue tv : dayData.tides) {
 					if ("Slack".equals(tv.getType()))
 						out.println("  <plot type='" + tv.getType() + "' date='" + TF.format(tv.getCalendar().getTime()) + "'/>");
 					else
@@ -270,6 +162,195 @@ public class TideForOneMonth {
 		System.out.println("Ok!");
 	}
 
+	/**
+	 * Computes the tide and astronomical data of all the days of a month.
+	 * Does not modify the TideStation, and uses no shared formatter, can be invoked by several threads at the same time.
+	 *
+	 * @param ts        the station
+	 * @param years     the station coefficients for the year(s) of the month, see {@link ParallelTideComputer#coefficientsFor(TideStation, List, tideengine.Constituents, long, long)}
+	 * @param timeZone  the time zone to use
+	 * @param year      the year
+	 * @param month     the month, 1=Jan, 2=Feb,..., 12=Dec
+	 * @param sPrm      Special parameters, can be null
+	 * @return the data, one entry per day.
+	 */
+	public static List<DayData> computeMonth(TideStation ts,
+	                                         List<HarmonicCoefficients> years,
+	                                         String timeZone,
+	                                         int year,
+	                                         int month,
+	                                         SpecialPrm sPrm) throws Exception {
+		List<DayData> days = new ArrayList<>();
+		Calendar now = new GregorianCalendar(year, month - 1, 1);
+		while (now.get(Calendar.MONTH) == month - 1) {
+			days.add(computeDay(now, timeZone, ts, cal -> HarmonicCoefficients.getWaterHeight(years, cal.getTimeInMillis()), sPrm));
+			now.add(Calendar.DAY_OF_MONTH, 1);
+		}
+		return days;
+	}
+
+	/**
+	 * @param now       the day
+	 * @param timeZone  the time zone to use
+	 * @param ts        the station
+	 * @param provider  computes the water height at a given time
+	 * @param sPrm      Special parameters, can be null
+	 * @return the tide and astronomical data of the day
+	 */
+	public static DayData computeDay(Calendar now,
+	                                 String timeZone,
+	                                 TideStation ts,
+	                                 WaterHeightProvider provider,
+	                                 SpecialPrm sPrm) throws Exception {
+		DayData dayData = new DayData();
+		dayData.date = (Calendar) now.clone();
+		dayData.tides = tideForOneDay(now, timeZone, ts, provider);
+		Calendar utcCal = (Calendar) now.clone();
+		utcCal.setTimeZone(TimeZone.getTimeZone("Etc/UTC"));
+		// System.out.println("UTC Date:" + utcCal.getTime());
+		Ephemeris ephemeris = Ephemeris.compute(utcCal.get(Calendar.YEAR), // Not shared, no synchronization required
+				utcCal.get(Calendar.MONTH) + 1,
+				utcCal.get(Calendar.DAY_OF_MONTH),
+				utcCal.get(Calendar.HOUR_OF_DAY),
+				utcCal.get(Calendar.MINUTE),
+				utcCal.get(Calendar.SECOND),
+				Ephemeris.SUN_AND_MOON);
+		double moonPhase = ephemeris.getMoonPhase();
+		double[] rsSun = ephemeris.sunRiseAndSet(ts.getLatitude(), ts.getLongitude());
+		double tPass = ephemeris.getSunMeridianPassageTime(ts.getLatitude(), ts.getLongitude());
+		double[] rsMoon = ephemeris.moonRiseAndSet(ts.getLatitude(), ts.getLongitude());
+		TimeZone tz = TimeZone.getTimeZone(timeZone);
+		dayData.sunRise = timeInDay(now, ts, rsSun[AstroComputer.UTC_RISE_IDX], tz);
+		dayData.sunTransit = timeInDay(now, ts, tPass, tz);
+		dayData.sunSet = timeInDay(now, ts, rsSun[AstroComputer.UTC_SET_IDX], tz);
+		// Moon rise and set
+		dayData.moonRise = timeInDay(now, ts, rsMoon[AstroComputer.UTC_RISE_IDX], tz);
+		dayData.moonSet = timeInDay(now, ts, rsMoon[AstroComputer.UTC_SET_IDX], tz);
+		dayData.sunRiseZ = rsSun[AstroComputer.RISE_Z_IDX];
+		dayData.sunSetZ = rsSun[AstroComputer.SET_Z_IDX];
+
+		int phaseInDay = (int) Math.round(moonPhase / (360d / 28d)) + 1;
+		if (phaseInDay > 28) phaseInDay = 28;
+		if (phaseInDay < 1) phaseInDay = 1;
+		dayData.moonPhase = phaseInDay;
+
+		if (sPrm != null) {
+//      System.out.println("Special BG required");
+			for (TimedValue tv : dayData.tides) {
+				double tideHour = tv.getCalendar().get(Calendar.HOUR_OF_DAY) + (tv.getCalendar().get(Calendar.MINUTE) / 60d);
+				if (((sPrm.getTideType() == HIGH_TIDE && tv.getType().equals("HW")) ||
+						(sPrm.getTideType() == LOW_TIDE && tv.getType().equals("LW"))) &&
+						(tideHour >= sPrm.getFromHour() && tideHour <= sPrm.getToHour())) {
+					boolean go = true;
+					// Week days
+					if (sPrm.getWeekdays() != null) {
+						int day = tv.getCalendar().get(Calendar.DAY_OF_WEEK);
+						int[] dd = sPrm.getWeekdays();
+						go = ((day == Calendar.MONDAY && dd[MONDAY] == 1) ||
+								(day == Calendar.TUESDAY && dd[TUESDAY] == 1) ||
+								(day == Calendar.WEDNESDAY && dd[WEDNESDAY] == 1) ||
+								(day == Calendar.THURSDAY && dd[THURSDAY] == 1) ||
+								(day == Calendar.FRIDAY && dd[FRIDAY] == 1) ||
+								(day == Calendar.SATURDAY && dd[SATURDAY] == 1) ||
+								(day == Calendar.SUNDAY && dd[SUNDAY] == 1));
+					}
+					if (go) {
+						dayData.specialBG = true;
+						break;
+					}
+				}
+			}
+		}
+		return dayData;
+	}
+
+	/**
+	 * @param now   the day
+	 * @param ts    the station
+	 * @param utc   time in the day, UTC, in decimal hours
+	 * @param tz    the time zone to display the time in
+	 * @return the corresponding Calendar
+	 */
+	private static Calendar timeInDay(Calendar now, TideStation ts, double utc, TimeZone tz) {
+		Calendar cal = new GregorianCalendar();
+		cal.setTimeZone(TimeZone.getTimeZone(ts.getTimeZone()));
+		cal.set(Calendar.YEAR, now.get(Calendar.YEAR));
+		cal.set(Calendar.MONTH, now.get(Calendar.MONTH));
+		cal.set(Calendar.DAY_OF_MONTH, now.get(Calendar.DAY_OF_MONTH));
+		cal.set(Calendar.SECOND, 0);
+		double r = utc /* + Utils.daylightOffset(cal) */ + (tz.getOffset(cal.getTime().getTime()) / (3600d * 1000d));
+		int min = (int) ((r - ((int) r)) * 60);
+		cal.set(Calendar.MINUTE, min);
+		cal.set(Calendar.HOUR_OF_DAY, (int) r);
+		return cal;
+	}
+
+	@FunctionalInterface
+	public interface WaterHeightProvider {
+		double getWaterHeight(Calendar cal) throws Exception;
+	}
+
+	/**
+	 * Tide and astronomical data of one day.
+	 */
+	public static class DayData {
+		Calendar date;
+		int moonPhase; // 1..28
+		Calendar sunRise;
+		Calendar sunTransit;
+		Calendar sunSet;
+		Calendar moonRise;
+		Calendar moonSet;
+		double sunRiseZ;
+		double sunSetZ;
+		boolean specialBG = false;
+		List<TimedValue> tides;
+
+		public Calendar getDate() {
+			return date;
+		}
+
+		public int getMoonPhase() {
+			return moonPhase;
+		}
+
+		public Calendar getSunRise() {
+			return sunRise;
+		}
+
+		public Calendar getSunTransit() {
+			return sunTransit;
+		}
+
+		public Calendar getSunSet() {
+			return sunSet;
+		}
+
+		public Calendar getMoonRise() {
+			return moonRise;
+		}
+
+		public Calendar getMoonSet() {
+			return moonSet;
+		}
+
+		public double getSunRiseZ() {
+			return sunRiseZ;
+		}
+
+		public double getSunSetZ() {
+			return sunSetZ;
+		}
+
+		public boolean isSpecialBG() {
+			return specialBG;
+		}
+
+		public List<TimedValue> getTides() {
+			return tides;
+		}
+	}
+
 	public static List<TimedValue> tideForOneDay(Calendar now,
 	                                             String timeZone,
 	                                             String location,
@@ -284,6 +365,13 @@ public class TideForOneMonth {
 	                                             TideStation ts,
 	                                             List<Coefficient> constSpeed,
 	                                             String unitToUse) throws Exception {
+		return tideForOneDay(now, timeZone, ts, cal -> TideUtilities.getWaterHeight(ts, constSpeed, cal));
+	}
+
+	public static List<TimedValue> tideForOneDay(Calendar now,
+	                                             String timeZone,
+	                                             TideStation ts,
+	                                             WaterHeightProvider provider) throws Exception {
 		List<TimedValue> timeAL = null;
 		final int RISING = 1;
 		final int FALLING = -1;
@@ -300,6 +388,7 @@ public class TideForOneMonth {
 		int trend = 0;
 
 		slackList = new ArrayList<TimedValue>();
+		TimeZone tz = TimeZone.getTimeZone(timeZone);
 		double previousWH = Double.NaN;
 		for (int h = 0; h < 24; h++) {
 			for (int m = 0; m < 60; m++) {
@@ -309,7 +398,7 @@ public class TideForOneMonth {
 						h, m);
 				if (timeZone != null)
 					cal.setTimeZone(TimeZone.getTimeZone(timeZone));
-				double wh = TideUtilities.getWaterHeight(ts, constSpeed, cal);
+				double wh = provider.getWaterHeight(cal);
 				if (Double.isNaN(previousWH))
 					previousWH = wh;
 				else {
@@ -328,8 +417,7 @@ public class TideForOneMonth {
 							case RISING: {
 								Calendar prev = (Calendar) cal.clone();
 								prev.add(Calendar.MINUTE, -1);
-								if (AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone), cal.getTime()) ==
-										AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone), prev.getTime())) {
+								if (tz.getOffset(cal.getTimeInMillis()) == tz.getOffset(prev.getTimeInMillis())) {
 									if (previousWH > wh) // Now going down
 									{
 										if (Double.isNaN(high1)) {
@@ -349,8 +437,7 @@ public class TideForOneMonth {
 							case FALLING: {
 								Calendar prev = (Calendar) cal.clone();
 								prev.add(Calendar.MINUTE, -1);
-								if (AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone), cal.getTime()) ==
-										AstroComputer.getTimeZoneOffsetInHours(TimeZone.getTimeZone(timeZone), prev.getTime())) {
+								if (tz.getOffset(cal.getTimeInMillis()) == tz.getOffset(prev.getTimeInMillis())) {
 									if (previousWH < wh) // Now going up
 									{
 										if (Double.isNaN(low1)) {
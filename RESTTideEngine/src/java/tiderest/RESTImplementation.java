@@ -9,15 +9,23 @@ import http.HTTPServer.Request;
 import http.HTTPServer.Response;
 import http.RESTProcessorUtil;
 import tideengine.*;
+import tideengine.publisher.StreamingTidePublisher;
 import tideengine.publisher.TidePublisher;
+import utils.JobManager;
 
 import javax.annotation.Nonnull;
 import java.io.StringReader;
+import java.nio.file.Files;
 import java.net.URLDecoder;
 import java.text.NumberFormat;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -38,10 +46,11 @@ public class RESTImplementation {
 
 	private final static String TIDE_PREFIX = "/tide";
 
-	private final static SimpleDateFormat DURATION_FMT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
-	private final static SimpleDateFormat TZ_ABR = new SimpleDateFormat("z");
-	private final static SimpleDateFormat DATE_FMT = new SimpleDateFormat("yyyy-MM-dd");
-	private final static SimpleDateFormat TIME_FMT = new SimpleDateFormat("HH:mm");
+	// java.time formatters are immutable, and thread safe. Zone is set with withZone, per request.
+	private final static DateTimeFormatter DURATION_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+	private final static DateTimeFormatter TZ_ABR = DateTimeFormatter.ofPattern("z");
+	private final static DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	private final static DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HH:mm");
 
 
 	public RESTImplementation(@Nonnull TideRequestManager restRequestManager) {
@@ -66,6 +75,11 @@ public class RESTImplementation {
 					TIDE_PREFIX + "/oplist",
 					this::getOperationList,
 					"List of all available operations, on tide request manager."),
+			new Operation(
+					"GET",
+					TIDE_PREFIX + "/oplist/cache-stats",
+					this::getCacheStats,
+					"Hit and miss statistics of the tide curves cache."),
 			new Operation(
 					"GET",
 					TIDE_PREFIX + "/tide-stations",
@@ -101,11 +115,36 @@ public class RESTImplementation {
 					TIDE_PREFIX + "/publish/{station-name}/moon-cal",
 					this::publishMoonCalendar,
 					"Generates moon calendar document (pdf), for one year"),
+			new Operation(
+					"POST",
+					TIDE_PREFIX + "/publish/{station-name}/job",
+					this::submitTideTableJob,
+					"Submits the generation of a tide table document (pdf), returns the job. Months are computed in parallel, the document is generated asynchronously."),
+			new Operation(
+					"GET",
+					TIDE_PREFIX + "/publish/jobs",
+					this::getPublicationJobs,
+					"List of the publication jobs."),
+			new Operation(
+					"GET",
+					TIDE_PREFIX + "/publish/jobs/{job-id}",
+					this::getPublicationJob,
+					"Status of a publication job."),
+			new Operation(
+					"GET",
+					TIDE_PREFIX + "/publish/jobs/{job-id}/result",
+					this::getPublicationJobResult,
+					"The document generated by a publication job, once completed."),
 			new Operation(
 					"POST",
 					TIDE_PREFIX + "/tide-stations/{station-name}/wh/details",
 					this::getWaterHeightPlus,
-					"Creates a Water Height request for the {station}, with harmonic curves. Requires 2 query params: from, and to, in Duration format. Station Name might need encoding/escaping. Can also take a json body payload."));
+					"Creates a Water Height request for the {station}, with harmonic curves. Requires 2 query params: from, and to, in Duration format. Station Name might need encoding/escaping. Can also take a json body payload."),
+			new Operation(
+					"POST",
+					TIDE_PREFIX + "/batch/wh",
+					this::getWaterHeightBatch,
+					"Creates a Water Height request for several stations, computed in parallel. Requires 2 query params: from, and to, in Duration format. Requires a json body payload, with the station names. Returns the timestamps once, and one array of values per station."));
 
 	protected List<Operation> getOperations() {
 		return this.operations;
@@ -142,6 +181,21 @@ public class RESTImplementation {
 		return response;
 	}
 
+	private Response getCacheStats(@Nonnull Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		try {
+			String content = new Gson().toJson(this.tideRequestManager.getCurveCache().getStats());
+			RESTProcessorUtil.generateResponseHeaders(response, content.length());
+			response.setPayload(content.getBytes());
+			return response;
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			response.setStatus(Response.BAD_REQUEST);
+			response.setPayload(ex.toString().getBytes());
+			return response;
+		}
+	}
+
 	/**
 	 * Returns the coefficient names and definitions
 	 *
@@ -420,10 +474,10 @@ public class RESTImplementation {
 							tideTable.toPrm = toPrm;
 							Map<String, WhDate> map = new LinkedHashMap<>();
 
-							DURATION_FMT.setTimeZone(TimeZone.getTimeZone(ts.getTimeZone()));
+							ZoneId stationZone = ZoneId.of(ts.getTimeZone());
 							try {
-								Date fromDate = DURATION_FMT.parse(fromPrm);
-								Date toDate = DURATION_FMT.parse(toPrm);
+								Date fromDate = Date.from(LocalDateTime.parse(fromPrm, DURATION_FMT).atZone(stationZone).toInstant());
+								Date toDate = Date.from(LocalDateTime.parse(toPrm, DURATION_FMT).atZone(stationZone).toInstant());
 								calFrom = Calendar.getInstance();
 								calFrom.setTime(fromDate);
 								calTo = Calendar.getInstance();
@@ -436,7 +490,7 @@ public class RESTImplementation {
 													.errorMessage(String.format("Bad date chronology. %s is after %s", fromPrm, toPrm)));
 									proceed = false;
 								}
-							} catch (ParseException pe) {
+							} catch (DateTimeParseException pe) {
 								response = HTTPServer.buildErrorResponse(response,
 										Response.BAD_REQUEST,
 										new HTTPServer.ErrorPayload()
@@ -473,69 +527,57 @@ public class RESTImplementation {
 
 								ts = BackEndTideComputer.findTideStation(stationFullName, now.get(Calendar.YEAR));
 								if (ts != null) {
-									TZ_ABR.setTimeZone(TimeZone.getTimeZone(timeZoneToUse != null ? timeZoneToUse : ts.getTimeZone()));
-									DATE_FMT.setTimeZone(TimeZone.getTimeZone(timeZoneToUse != null ? timeZoneToUse : ts.getTimeZone()));
-									TIME_FMT.setTimeZone(TimeZone.getTimeZone(timeZoneToUse != null ? timeZoneToUse : ts.getTimeZone()));
-									now.setTimeZone(TimeZone.getTimeZone(timeZoneToUse != null ? timeZoneToUse : ts.getTimeZone()));
-
-
-									while (now.before(upTo)) {
-										double wh = TideUtilities.getWaterHeight(ts, this.tideRequestManager.getConstSpeed(), now);
-										TimeZone.setDefault(TimeZone.getTimeZone(timeZoneToUse != null ? timeZoneToUse : ts.getTimeZone())); // for TS Timezone display
-	//							  System.out.println((ts.isTideStation() ? "Water Height" : "Current Speed") + " in " + stationName + " at " + cal.getTime().toString() + " : " + TideUtilities.DF22PLUS.format(wh) + " " + ts.getDisplayUnit());
-	//								map.put(now.getTime().toString(), wh * unitSwitcher(ts, unitToUse));
-										Date d = now.getTime();
-										map.put(String.valueOf(now.getTimeInMillis()),
+									ZoneId zoneToUse = ZoneId.of(timeZoneToUse != null ? timeZoneToUse : ts.getTimeZone());
+									DateTimeFormatter tzAbr = TZ_ABR.withZone(zoneToUse);
+									DateTimeFormatter dateFmt = DATE_FMT.withZone(zoneToUse);
+									DateTimeFormatter timeFmt = TIME_FMT.withZone(zoneToUse);
+									long fromMs = now.getTimeInMillis();
+									long stepMs = step * 60_000L;
+									// Assembled from the cached days
+									double[] heights = this.tideRequestManager.getCurveCache().getWaterHeights(
+											ts,
+											fromMs,
+											upTo.getTimeInMillis(),
+											step,
+											tideTable.unit,
+											unitSwitcher(ts, unitToUse));
+									for (int i = 0; i < heights.length; i++) {
+										Instant d = Instant.ofEpochMilli(fromMs + (i * stepMs));
+										map.put(String.valueOf(d.toEpochMilli()),
 												new WhDate()
-														.wh(wh * unitSwitcher(ts, unitToUse))
-														.tz(TZ_ABR.format(d))
-														.date(DATE_FMT.format(d))
-														.time(TIME_FMT.format(d)));
-										now.add(Calendar.MINUTE, step);
+														.wh(heights[i])
+														.tz(tzAbr.format(d))
+														.date(dateFmt.format(d))
+														.time(timeFmt.format(d)));
 									}
 								} else {
 									System.out.println("No Tide station, Wow!"); // I know...
 								}
 								tideTable.heights = map;
 								if (withDetails) { // With harmonic curves
-									final TideStation fts = ts;
-									final Calendar _reference = (Calendar) calFrom.clone();
-									final Calendar _calTo = (Calendar) calTo.clone();
-									final String tztu = timeZoneToUse;
-									final unit unit2use = unitToUse;
-									final int _step = step;
-									final List<Coefficient> constSpeed = this.tideRequestManager.getConstSpeed();
-									_reference.setTimeZone(TimeZone.getTimeZone(timeZoneToUse != null ? timeZoneToUse : ts.getTimeZone()));
+									final long fromMs = calFrom.getTimeInMillis();
+									final long stepMs = step * 60_000L;
 									List<Harmonic> harmonics = ts.getHarmonics()
 											.stream()
 											.filter(harmonic -> (harmonic.getAmplitude() != 0d && harmonic.getEpoch() != 0d))
 											.collect(Collectors.toList());
 									Hashtable<String, List<DataPoint>> harmonicCurves = new Hashtable<>();
-									harmonics.stream()
-											.forEach(harmonicCoeff -> {
-												List<DataPoint> oneCurve = new ArrayList<>();
-												Calendar _now = (Calendar) _reference.clone();
-												_now.setTimeZone(TimeZone.getTimeZone(tztu != null ? tztu : fts.getTimeZone()));
-												while (_now.before(_calTo)) {
-													int year = _now.get(Calendar.YEAR);
-													// Calc Jan 1st of the current year
-													Date jan1st = new GregorianCalendar(year, 0, 1).getTime();
-													//      double value = Utils.convert(TideUtilities.getHarmonicValue(cal.getTime(), jan1st, ts, constSpeed, i), ts.getDisplayUnit(), currentUnit);
-													double value = TideUtilities.getHarmonicValue(
-															_now.getTime(),
-															jan1st,
-															fts,
-															constSpeed,
-															harmonicCoeff.getName()) * unitSwitcher(fts, unit2use);
-
-													double x = _now.getTimeInMillis(); // (h + (double) (m / 60D));
-													double y = (value); // - _bottomValue);
-													oneCurve.add(new DataPoint(x, y));
-
-													_now.add(Calendar.MINUTE, _step);
-												}
-												harmonicCurves.put(harmonicCoeff.getName(), oneCurve);
-											});
+									for (Harmonic harmonicCoeff : harmonics) {
+										// Assembled from the cached days
+										double[] values = this.tideRequestManager.getCurveCache().getHarmonicCurve(
+												ts,
+												harmonicCoeff.getName(),
+												fromMs,
+												calTo.getTimeInMillis(),
+												step,
+												tideTable.unit,
+												unitSwitcher(ts, unitToUse));
+										List<DataPoint> oneCurve = new ArrayList<>(values.length);
+										for (int i = 0; i < values.length; i++) {
+											oneCurve.add(new DataPoint(fromMs + (i * stepMs), values[i]));
+										}
+										harmonicCurves.put(harmonicCoeff.getName(), oneCurve);
+									}
 									tideTable.harmonicCurves = harmonicCurves;
 								}
 								/*
@@ -560,6 +602,170 @@ public class RESTImplementation {
 		return response; // If we reach here, something went wrong, it's a BAD_REQUEST or so.
 	}
 
+	/**
+	 * Water heights for several stations, computed in parallel, see {@link ParallelTideComputer}.
+	 * Requires a payload in the body, in json format:
+	 * <pre>
+	 * {
+	 *   "stations": [ "Ocean Beach, California", "Port%20Townsend%2C%20Washington" ],
+	 *   "timezone": "Etc/UTC",
+	 *   "step": 5,
+	 *   "unit": "meters"|"feet"
+	 * }
+	 * </pre>
+	 * <ul>
+	 * <li>stations is required, the names as they are, or URL-encoded (as in /tide/tide-stations)</li>
+	 * <li>Default timezone (used to read the from and to parameters) is Etc/UTC</li>
+	 * <li>Default step (in minutes) is 5</li>
+	 * <li>Default unit is the unit of each station</li>
+	 * <li>At most {@link ParallelTideComputer#getMaxPoints()} values, all the stations together</li>
+	 * </ul>
+	 *
+	 * @param request Requires two query string parameters <b>from</b> and <b>to</b>, in Duration format (yyyy-MM-ddThh:mm:ss)
+	 * @return the timestamps (epoch, in ms), and one array of values per station. Could contain an error, see the "TIDE-XXXX" messages.
+	 */
+	private Response getWaterHeightBatch(@Nonnull Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		Map<String, String> prms = request.getQueryStringParameters();
+		if (prms == null || prms.get("from") == null || prms.get("to") == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0020")
+							.errorMessage("Query parameters 'from' and 'to' are required."));
+			return response;
+		}
+		BatchOptions options = null;
+		if (request.getContent() != null && request.getContent().length > 0) {
+			String payload = new String(request.getContent());
+			try {
+				options = new GsonBuilder().create().fromJson(new StringReader(payload), BatchOptions.class);
+			} catch (Exception ex) {
+				response = HTTPServer.buildErrorResponse(response,
+						Response.BAD_REQUEST,
+						new HTTPServer.ErrorPayload()
+								.errorCode("TIDE-0021")
+								.errorMessage(ex.toString()));
+				return response;
+			}
+		}
+		if (options == null || options.stations == null || options.stations.isEmpty()) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0022")
+							.errorMessage("Payload with a non-empty 'stations' list is required."));
+			return response;
+		}
+		if (options.step < 0) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0023")
+							.errorMessage(String.format("Step MUST be positive: %d", options.step)));
+			return response;
+		}
+		String timeZone = (options.timezone != null ? options.timezone : "Etc/UTC");
+		if (!Arrays.asList(TimeZone.getAvailableIDs()).contains(timeZone)) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0024")
+							.errorMessage(String.format("Invalid TimeZone: %s", timeZone)));
+			return response;
+		}
+		long from, to;
+		try {
+			from = LocalDateTime.parse(prms.get("from"), DURATION_FMT).atZone(ZoneId.of(timeZone)).toInstant().toEpochMilli();
+			to = LocalDateTime.parse(prms.get("to"), DURATION_FMT).atZone(ZoneId.of(timeZone)).toInstant().toEpochMilli();
+		} catch (DateTimeParseException pe) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0025")
+							.errorMessage(pe.toString()));
+			return response;
+		}
+		if (to < from) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0026")
+							.errorMessage(String.format("Bad date chronology. %s is after %s", prms.get("from"), prms.get("to"))));
+			return response;
+		}
+		int step = (options.step != 0 ? options.step : 5);
+		long nbPoints = ParallelTideComputer.getNbPoints(options.stations.size(), from, to, step);
+		if (nbPoints > ParallelTideComputer.getMaxPoints()) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0029")
+							.errorMessage(String.format("%d values requested, at most %d (stations x points).", nbPoints, ParallelTideComputer.getMaxPoints())));
+			return response;
+		}
+		try {
+			List<TideStation> stations = new ArrayList<>();
+			for (String stationName : options.stations) {
+				String decodedName = decode(stationName);
+				Optional<TideStation> optTs = this.tideRequestManager.getStationList()
+						.stream()
+						.filter(station -> station.getFullName().equals(stationName) || decodedName.equals(decode(station.getFullName())))
+						.findFirst();
+				if (!optTs.isPresent()) {
+					response = HTTPServer.buildErrorResponse(response,
+							Response.NOT_FOUND,
+							new HTTPServer.ErrorPayload()
+									.errorCode("TIDE-0027")
+									.errorMessage(String.format("Station [%s] not found", stationName)));
+					return response;
+				}
+				stations.add(optTs.get());
+			}
+			ParallelTideComputer.ColumnarTideData data = ParallelTideComputer.compute(
+					stations,
+					this.tideRequestManager.getConstSpeed(),
+					BackEndTideComputer.getConstituents(),
+					from,
+					to,
+					step);
+			final unit unitToUse = options.unit;
+			for (int i = 0; i < stations.size(); i++) {
+				double factor = unitSwitcher(stations.get(i), unitToUse);
+				ParallelTideComputer.ColumnarTideData.StationData stationData = data.getStations().get(i);
+				if (factor != 1d) {
+					double[] values = stationData.getValues();
+					for (int j = 0; j < values.length; j++) {
+						values[j] *= factor;
+					}
+					stationData.unit(unitToUse.toString());
+				}
+			}
+			String content = new Gson().toJson(data);
+			RESTProcessorUtil.generateResponseHeaders(response, content.length());
+			response.setPayload(content.getBytes());
+			return response;
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0028")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+	}
+
+	/**
+	 * @return the URL-decoded name, the name itself if it cannot be decoded.
+	 */
+	private static String decode(String name) {
+		try {
+			return URLDecoder.decode(name, "UTF-8");
+		} catch (Exception ex) {
+			return name;
+		}
+	}
+
 	private Response getStations(@Nonnull Request request) {
 		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
 		List<String> prmValues = RESTProcessorUtil.getPrmValues(request.getRequestPattern(), request.getPath());
@@ -701,6 +907,187 @@ public class RESTImplementation {
 		return response;
 	}
 
+	/**
+	 * Submits the generation of a tide table for a station. Does not wait for the document.
+	 * Supports the same payload as {@link #publishTideTable(Request)}.
+	 * The status of the returned job is available with {@link #getPublicationJob(Request)},
+	 * the document with {@link #getPublicationJobResult(Request)}.
+	 *
+	 * @param request
+	 * @return the job, or an error, see the "TIDE-XXXX" messages.
+	 */
+	private Response submitTideTableJob(@Nonnull Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK_);
+		List<String> prmValues = RESTProcessorUtil.getPrmValues(request.getRequestPattern(), request.getPath());
+		if (prmValues.size() != 1) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0110")
+							.errorMessage("Need tideRequestManager path parameter {station-name}."));
+			return response;
+		}
+		String stationFullName = prmValues.get(0);
+		PublishingOptions options = null;
+		if (request.getContent() != null && request.getContent().length > 0) {
+			try {
+				options = new GsonBuilder().create().fromJson(new StringReader(new String(request.getContent())), PublishingOptions.class);
+			} catch (Exception ex) {
+				response = HTTPServer.buildErrorResponse(response,
+						Response.BAD_REQUEST,
+						new HTTPServer.ErrorPayload()
+								.errorCode("TIDE-0111")
+								.errorMessage(ex.toString()));
+				return response;
+			}
+		}
+		if (options == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0112")
+							.errorMessage("Required payload not found."));
+			return response;
+		}
+		String errMess = "";
+		if (options.startMonth > 11 || options.startMonth < 0) {
+			errMess += ((errMess.length() > 0 ? "\n" : "") + "Invalid month, must be in [0..11].");
+		}
+		if (options.nb < 1) {
+			errMess += ((errMess.length() > 0 ? "\n" : "") + "Invalid number, must be at least 1 ");
+		}
+		if (options.quantity == null) {
+			errMess += ((errMess.length() > 0 ? "\n" : "") + "Quantity must be YEAR or MONTH.");
+		}
+		if (errMess.length() > 0) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0113")
+							.errorMessage(errMess));
+			return response;
+		}
+		try {
+			Optional<TideStation> optTs = this.tideRequestManager.getStationList()
+					.stream()
+					.filter(station -> station.getFullName().equals(stationFullName))
+					.findFirst();
+			if (!optTs.isPresent()) {
+				response = HTTPServer.buildErrorResponse(response,
+						Response.NOT_FOUND,
+						new HTTPServer.ErrorPayload()
+								.errorCode("TIDE-0114")
+								.errorMessage(String.format("Station [%s] not found", stationFullName)));
+				return response;
+			}
+			TideStation ts = optTs.get();
+			List<Coefficient> constSpeed = this.tideRequestManager.getConstSpeed();
+			final PublishingOptions publishingOptions = options;
+			JobManager.Job job = this.tideRequestManager.getPublicationJobs().submit(
+					String.format("Tide table for %s, %d %s from %d/%d",
+							URLDecoder.decode(ts.getFullName(), "UTF-8"),
+							options.nb,
+							options.quantity,
+							options.startMonth + 1,
+							options.startYear),
+					"application/pdf",
+					".pdf",
+					(thisJob, out) -> StreamingTidePublisher.publish(
+							ts,
+							constSpeed,
+							BackEndTideComputer.getConstituents(),
+							ts.getTimeZone(),
+							publishingOptions.startMonth,
+							publishingOptions.startYear,
+							publishingOptions.nb,
+							(publishingOptions.quantity.equals(Quantity.MONTH) ? Calendar.MONTH : Calendar.YEAR),
+							null,
+							null,
+							this.tideRequestManager.getStylesheetDir(),
+							out,
+							thisJob::setProgress));
+			String content = new Gson().toJson(job);
+			RESTProcessorUtil.generateResponseHeaders(response, content.length());
+			response.setPayload(content.getBytes());
+			return response;
+		} catch (RejectedExecutionException ree) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0115")
+							.errorMessage("Too many publications in progress, try again later."));
+			return response;
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0116")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+	}
+
+	private Response getPublicationJobs(@Nonnull Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		String content = new Gson().toJson(this.tideRequestManager.getPublicationJobs().getJobs());
+		RESTProcessorUtil.generateResponseHeaders(response, content.length());
+		response.setPayload(content.getBytes());
+		return response;
+	}
+
+	private Response getPublicationJob(@Nonnull Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		List<String> prmValues = RESTProcessorUtil.getPrmValues(request.getRequestPattern(), request.getPath());
+		JobManager.Job job = (prmValues.size() == 1 ? this.tideRequestManager.getPublicationJobs().getJob(prmValues.get(0)) : null);
+		if (job == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.NOT_FOUND,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0117")
+							.errorMessage(String.format("Job [%s] not found", prmValues.isEmpty() ? "" : prmValues.get(0))));
+			return response;
+		}
+		String content = new Gson().toJson(job);
+		RESTProcessorUtil.generateResponseHeaders(response, content.length());
+		response.setPayload(content.getBytes());
+		return response;
+	}
+
+	private Response getPublicationJobResult(@Nonnull Request request) {
+		Response response = new Response(request.getProtocol(), Response.STATUS_OK);
+		List<String> prmValues = RESTProcessorUtil.getPrmValues(request.getRequestPattern(), request.getPath());
+		JobManager.Job job = (prmValues.size() == 1 ? this.tideRequestManager.getPublicationJobs().getJob(prmValues.get(0)) : null);
+		if (job == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.NOT_FOUND,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0117")
+							.errorMessage(String.format("Job [%s] not found", prmValues.isEmpty() ? "" : prmValues.get(0))));
+			return response;
+		}
+		if (job.getResult() == null) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0118")
+							.errorMessage(String.format("Job [%s] is %s%s", job.getId(), job.getStatus(), (job.getError() != null ? ": " + job.getError() : ""))));
+			return response;
+		}
+		try {
+			byte[] content = Files.readAllBytes(job.getResult().toPath());
+			RESTProcessorUtil.generateResponseHeaders(response, job.getContentType(), content.length);
+			response.setPayload(content);
+			return response;
+		} catch (Exception ex) {
+			response = HTTPServer.buildErrorResponse(response,
+					Response.BAD_REQUEST,
+					new HTTPServer.ErrorPayload()
+							.errorCode("TIDE-0119")
+							.errorMessage(ex.toString()));
+			return response;
+		}
+	}
+
 	/**
 	 * Can be used as a temporary placeholder when creating a new operation.
 	 *
@@ -754,6 +1141,13 @@ public class RESTImplementation {
 		unit unit; // If not the station unit
 	}
 
+	private static class BatchOptions {
+		List<String> stations;
+		String timezone; // For the from and to parameters. Default Etc/UTC
+		int step; // In minutes
+		unit unit; // If not the stations unit
+	}
+
 	private enum Quantity {
 	  MONTH, YEAR
 	};
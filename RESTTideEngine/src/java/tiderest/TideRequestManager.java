@@ -4,9 +4,12 @@ import http.HTTPServer;
 import http.RESTRequestManager;
 import tideengine.BackEndTideComputer;
 import tideengine.Coefficient;
+import tideengine.TideCurveCache;
 import tideengine.TideStation;
 import tideengine.TideUtilities;
+import utils.JobManager;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +22,8 @@ public class TideRequestManager implements RESTRequestManager {
 	private List<TideStation> stationData = null;
 	private Map<String, String> coeffDefinitions = null;
 	private TideServer tideServer = null;
+	private TideCurveCache curveCache = null;
+	private JobManager publicationJobs = null;
 
 	public TideRequestManager() {
 		this(null);
@@ -101,6 +106,66 @@ public class TideRequestManager implements RESTRequestManager {
 		}
 	}
 
+	/**
+	 * The cache of the curves, built on first use.
+	 * Size (number of samples in memory) is driven by the System variable tide.cache.max.samples,
+	 * the disk tier is enabled by providing a directory in the System variable tide.cache.dir,
+	 * its size (in bytes) is driven by tide.cache.dir.max.bytes.
+	 *
+	 * @return the cache
+	 * @throws Exception
+	 */
+	protected synchronized TideCurveCache getCurveCache() throws Exception {
+		if (this.curveCache == null) {
+			long maxSamples = 2_000_000L; // 8 bytes each
+			long maxDiskBytes = 256L * 1_024L * 1_024L;
+			try {
+				maxSamples = Long.parseLong(System.getProperty("tide.cache.max.samples", String.valueOf(maxSamples)));
+				maxDiskBytes = Long.parseLong(System.getProperty("tide.cache.dir.max.bytes", String.valueOf(maxDiskBytes)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			String cacheDir = System.getProperty("tide.cache.dir");
+			this.curveCache = new TideCurveCache(
+					this.getConstSpeed(),
+					BackEndTideComputer.getConstituents(),
+					maxSamples,
+					(cacheDir != null ? new File(cacheDir) : null),
+					maxDiskBytes);
+		}
+		return this.curveCache;
+	}
+
+	/**
+	 * The publication jobs, built on first use.
+	 * The number of documents generated at the same time is driven by the System variable tide.publish.max.parallel,
+	 * the number of waiting ones by tide.publish.queue.size. Generated documents are kept tide.publish.retention ms.
+	 *
+	 * @return the job manager
+	 */
+	protected synchronized JobManager getPublicationJobs() {
+		if (this.publicationJobs == null) {
+			int maxParallel = 2, queueSize = 10;
+			long retention = 3_600_000L; // One hour
+			try {
+				maxParallel = Integer.parseInt(System.getProperty("tide.publish.max.parallel", String.valueOf(maxParallel)));
+				queueSize = Integer.parseInt(System.getProperty("tide.publish.queue.size", String.valueOf(queueSize)));
+				retention = Long.parseLong(System.getProperty("tide.publish.retention", String.valueOf(retention)));
+			} catch (NumberFormatException nfe) {
+				System.err.println(nfe.toString());
+			}
+			this.publicationJobs = new JobManager("tide-publish", Math.max(1, maxParallel), Math.max(1, queueSize), retention);
+		}
+		return this.publicationJobs;
+	}
+
+	/**
+	 * @return the directory of the publication stylesheets, System variable tide.xsl.dir, default "xsl".
+	 */
+	protected File getStylesheetDir() {
+		return new File(System.getProperty("tide.xsl.dir", "xsl"));
+	}
+
 	protected Map<String, String> getCoeffDefinitions() {
 		if (this.coeffDefinitions == null) {
 			this.coeffDefinitions = TideUtilities.COEFF_DEFINITION;
@@ -0,0 +1,86 @@
+package tideengine.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tideengine.BackEndTideComputer;
+import tideengine.Coefficient;
+import tideengine.TideStation;
+import tideengine.TideUtilities;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tide computations, on the data of the bundled xml.zip.
+ * <p>
+ * The stations cover a tide station in feet, one in meters,
+ * a current station in knots, and a current station in knots^2 (square root taken at the end).
+ * </p>
+ * Run with <code>../gradlew jmh</code>, the gc profiler gives the allocation rate of each benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TideComputationBenchmark {
+
+	@Param({
+			"Ocean%20Beach%2C%20California",
+			"Brest%2C%20France",
+			"Surge%20Narrows%2C%20British%20Columbia%20Current",
+			"Woods%20Hole%2C%20Massachusetts%20Current%20%28use%20with%20caution%29"
+	})
+	public String stationName;
+
+	private List<Coefficient> constSpeed;
+	private TideStation station;
+	private Calendar when;
+	private int year = 2017;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		BackEndTideComputer.connect();
+		constSpeed = BackEndTideComputer.buildSiteConstSpeed();
+		station = BackEndTideComputer.findTideStation(stationName, year);
+		if (station == null) {
+			throw new RuntimeException(String.format("Station [%s] not found", stationName));
+		}
+		when = new GregorianCalendar(TimeZone.getTimeZone(station.getTimeZone()));
+		when.set(year, Calendar.JUNE, 15, 10, 30, 0);
+	}
+
+	@Benchmark
+	public double waterHeight() throws Exception {
+		return TideUtilities.getWaterHeight(station, constSpeed, when);
+	}
+
+	/**
+	 * 24 * 60 water heights, plus the high and low tides detection.
+	 */
+	@Benchmark
+	public List<TideUtilities.TimedValue> tideTableForOneDay() {
+		return TideUtilities.getTideTableForOneDay(station, constSpeed, year, Calendar.JUNE, 15, null);
+	}
+
+	/**
+	 * A full year, every 2 hours.
+	 */
+	@Benchmark
+	public double[] minMaxForOneYear() throws Exception {
+		return TideUtilities.getMinMaxWH(station, constSpeed, when);
+	}
+
+	/**
+	 * Alternates the year, so the correction of the harmonics is applied every time.
+	 */
+	@Benchmark
+	public void findTideStationWithYearCorrection(Blackhole blackhole) throws Exception {
+		blackhole.consume(BackEndTideComputer.findTideStation(stationName, 2018));
+		blackhole.consume(BackEndTideComputer.findTideStation(stationName, 2017));
+	}
+}
@@ -0,0 +1,40 @@
+package tideengine.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tideengine.BackEndXMLTideComputer;
+import tideengine.Constituents;
+import tideengine.Stations;
+import tideengine.TideStation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SAX loaders of {@link BackEndXMLTideComputer}, reading the bundled xml.zip.
+ * Those run once at startup, they are measured in single shot mode (cold), and in throughput mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SingleShotTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class XMLLoaderBenchmark {
+
+	@Benchmark
+	public Constituents buildConstituents() throws Exception {
+		return BackEndXMLTideComputer.buildConstituents();
+	}
+
+	@Benchmark
+	public Stations loadStations() throws Exception {
+		return BackEndXMLTideComputer.getTideStations();
+	}
+
+	/**
+	 * Parses the stations document until the requested one is found.
+	 */
+	@Benchmark
+	public TideStation reloadOneStation() throws Exception {
+		return BackEndXMLTideComputer.reloadOneStation("Ocean Beach, California");
+	}
+}
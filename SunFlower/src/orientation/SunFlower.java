@@ -2,8 +2,6 @@ package orientation;
 
 import analogdigitalconverter.mcp3008.MCP3008Reader;
 import calc.GeomUtil;
-import calculation.AstroComputer;
-import calculation.SightReductionUtil;
 import com.pi4j.io.gpio.Pin;
 import com.pi4j.io.i2c.I2CFactory;
 import http.HTTPServer;
@@ -22,6 +20,9 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static ansi.EscapeSeq.ANSI_BOLD;
@@ -76,6 +77,8 @@ import static utils.StringUtils.rpad;
  *
  * -Dsmooth.moves=true
  *
+ * -Dsun.table.step=2 <- Minutes between the Sun positions computed for the day, interpolated in between
+ *
  * -Dtime.provided=true
  *
  * -Ddemo.mode=true
@@ -283,25 +286,24 @@ public class SunFlower implements RESTRequestManager {
 			if (astroVerbose && !ansiConsole) {
 				System.out.println(String.format(">>> Sun Calculation for %s", SDF.format(current.getTime())));
 			}
-			AstroComputer.setDateTime(current.get(Calendar.YEAR),
-							current.get(Calendar.MONTH) + 1,
-							current.get(Calendar.DAY_OF_MONTH),
-							current.get(Calendar.HOUR_OF_DAY),
-							current.get(Calendar.MINUTE),
-							current.get(Calendar.SECOND));
-			AstroComputer.calculate();
-			SightReductionUtil sru = new SightReductionUtil(AstroComputer.getSunGHA(),
-							AstroComputer.getSunDecl(),
-							lat,
-							lng);
-			sru.calculate();
-			he = sru.getHe().doubleValue();
-			z = sru.getZ().doubleValue();
-			// Get Equation of time, used to calculate solar time.
-			eot = AstroComputer.getSunMeridianPassageTime(latitude, longitude); // in decimal hours
+			long epoch = current.getTimeInMillis();
+			if (sunTable == null || !sunTable.covers(lat, lng, epoch)) { // New day, or new position
+				sunTable = SunTable.compute(lat, lng, epoch);
+				if (astroVerbose && !ansiConsole) {
+					System.out.println(String.format(">>> Sun table computed for %s, every %d minute(s)", sunTable.getDay(), sunTable.getStep()));
+				}
+			}
+			sunTable.interpolate(epoch, sunData);
+			he = sunData[SunTable.HE_IDX];
+			z = sunData[SunTable.Z_IDX];
+			// Equation of time, used to calculate solar time.
+			eot = sunData[SunTable.EOT_IDX]; // in decimal hours
 		}
 	}
 
+	private SunTable sunTable = null;
+	private final double[] sunData = new double[3];
+
 	private static int previousHeadingAngle = 0;
 	private static int previousTiltAngle = 0;
 
@@ -521,31 +523,12 @@ public class SunFlower implements RESTRequestManager {
 			if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.HEADING)) {
 				System.out.println(String.format("H>> Start a smooth move from heading %.02f to %.02f", startFrom, f));
 			}
-			Thread smoothy = new Thread(() -> {
+			new SmoothMove(headingServoID, startFrom, f, "H", () -> {
 				if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.HEADING)) {
-					System.out.println(String.format("H>> Starting smooth thread for heading %.02f to %.02f", startFrom, f));
-				}
-				int sign = (startFrom > f) ? -1 : 1;
-				float pos = startFrom;
-				while (Math.abs(pos - f) >= SMOOTH_STEP) {
-					if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.HEADING)) {
-						System.out.println(String.format("H> Setting heading to %.02f, delta=%.02f (target %.02f)", pos, Math.abs(pos - f), f));
-					}
-					if (headingServoID != null) {
-						for (int id : headingServoID) {
-							setAngle(id, pos);
-						}
-					}
-//				setAngle(headingServoID, pos);
-					pos += (sign * SMOOTH_STEP);
-					try { Thread.sleep(10L); } catch (Exception ex) {}
-				}
-				if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.HEADING)) {
-					System.out.println(String.format("H>...Heading thread done, delta=%.02f", Math.abs(pos - f)));
+					System.out.println(String.format("H>...Heading move done, to %.02f", f));
 				}
 				setHeadingServoMoving(false);
-			});
-			smoothy.start();
+			}).start();
 		} else {
 			if (servoMoveOneByOne ? noServoIsMoving() : !headingServoMoving) {
 				if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.HEADING)) {
@@ -574,29 +557,12 @@ public class SunFlower implements RESTRequestManager {
 			if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.TILT)) {
 				System.out.println(String.format("T> Start a smooth move from tilt %.02f to %.02f (%.02f)", startFrom, f, goToAngle));
 			}
-			Thread smoothy = new Thread(() -> {
-				if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.TILT)) {
-					System.out.println(String.format("T> Starting smooth thread for tilt %.02f to %.02f (%.02f)", startFrom, f, goToAngle));
-				}
-				int sign = (startFrom > goToAngle) ? -1 : 1;
-				float pos = startFrom;
-				while (Math.abs(pos - goToAngle) >= SMOOTH_STEP) {
-					if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.TILT)) {
-						System.out.println(String.format("T> Setting tilt to %.02f, delta=%.02f", pos, Math.abs(pos - f)));
-					}
-//				setAngle(tiltServoID, pos);
-					for (int id : tiltServoID) {
-						setAngle(id, pos);
-					}
-					pos += (sign * SMOOTH_STEP);
-					try { Thread.sleep(10L); } catch (Exception ex) {}
-				}
+			new SmoothMove(tiltServoID, startFrom, goToAngle, "T", () -> {
 				if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.TILT)) {
-					System.out.println(String.format("T>...Tilt thread done, delta=%.02f", Math.abs(pos - goToAngle)));
+					System.out.println(String.format("T>...Tilt move done, to %.02f", goToAngle));
 				}
 				setTiltServoMoving(false);
-			});
-			smoothy.start();
+			}).start();
 		} else {
 			if (servoMoveOneByOne ? noServoIsMoving() : !tiltServoMoving) {
 				if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.equals(servoVerboseType.TILT)) {
@@ -612,6 +578,61 @@ public class SunFlower implements RESTRequestManager {
 		}
 	}
 
+	/**
+	 * All the smooth moves run on this one, one step every SMOOTH_STEP_DELAY ms.
+	 * Nothing runs between the moves.
+	 */
+	private final static ScheduledExecutorService SERVO_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "servo-smoothing");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final static long SMOOTH_STEP_DELAY = 10L;
+
+	/**
+	 * Moves servos by SMOOTH_STEP, until the target is reached.
+	 * Each step schedules the next one.
+	 */
+	private class SmoothMove implements Runnable {
+		private final int[] servos;
+		private final float target;
+		private final int sign;
+		private final String prefix; // For the verbose
+		private final Runnable onDone;
+		private float pos;
+
+		SmoothMove(int[] servos, float from, float target, String prefix, Runnable onDone) {
+			this.servos = servos;
+			this.pos = from;
+			this.target = target;
+			this.sign = (from > target) ? -1 : 1;
+			this.prefix = prefix;
+			this.onDone = onDone;
+		}
+
+		void start() {
+			SERVO_EXECUTOR.execute(this);
+		}
+
+		@Override
+		public void run() {
+			if (Math.abs(pos - target) < SMOOTH_STEP) {
+				onDone.run();
+				return;
+			}
+			if (servoSuperVerbose.equals(servoVerboseType.BOTH) || servoSuperVerbose.name().startsWith(prefix)) {
+				System.out.println(String.format("%s> Setting to %.02f, delta=%.02f (target %.02f)", prefix, pos, Math.abs(pos - target), target));
+			}
+			if (servos != null) {
+				for (int id : servos) {
+					setAngle(id, pos);
+				}
+			}
+			pos += (sign * SMOOTH_STEP);
+			SERVO_EXECUTOR.schedule(this, SMOOTH_STEP_DELAY, TimeUnit.MILLISECONDS);
+		}
+	}
+
 	private void setAngle(int servo, float f) {
 		int pwm = degreeToPWM(servoMin, servoMax, f);
 		if (servoVerbose && !manualEntry) {
@@ -0,0 +1,122 @@
+package orientation;
+
+import calculation.Ephemeris;
+import calculation.SightReduction;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Sun GHA, declination, and meridian passage time (EoT), for one position and one UTC day,
+ * computed every {@link #getStep()} minutes, from 00:00 to 24:00 (or just after, if the step does not divide the day).
+ * <p>
+ * The GHA (across 360) and the declination are interpolated linearly, the elevation (He) and azimuth (Z)
+ * are then given by the sight reduction, so an orientation tick does not compute the Sun position.
+ * Interpolating Z itself would not do: it turns fast around the meridian passage when the Sun goes close to the zenith.
+ * A new table is to be computed when the day or the position changes, see {@link #covers(double, double, long)}.
+ * </p>
+ * Immutable once computed.
+ */
+public class SunTable {
+
+	public final static int HE_IDX = SightReduction.HE_IDX;
+	public final static int Z_IDX = SightReduction.Z_IDX;
+	public final static int EOT_IDX = 2;
+
+	private final static int DEFAULT_STEP = 2; // minutes
+	private final static long MINUTE_MS = 60_000L;
+
+	private final double latitude;
+	private final double longitude;
+	private final LocalDate day;
+	private final long dayStart;  // epoch, ms
+	private final int step;       // minutes
+	private final double[] gha;
+	private final double[] decl;
+	private final double[] eot;
+
+	private SunTable(double latitude, double longitude, LocalDate day, int step) {
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.day = day;
+		this.dayStart = day.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+		this.step = step;
+		int nbEntries = (((24 * 60) + step - 1) / step) + 1; // The last one at 24:00, or after
+		this.gha = new double[nbEntries];
+		this.decl = new double[nbEntries];
+		this.eot = new double[nbEntries];
+	}
+
+	/**
+	 * @return the step, from the system variable sun.table.step (in minutes), default 2.
+	 */
+	public static int getDefaultStep() {
+		int step = DEFAULT_STEP;
+		try {
+			step = Integer.parseInt(System.getProperty("sun.table.step", String.valueOf(DEFAULT_STEP)));
+		} catch (NumberFormatException nfe) {
+			System.err.println(nfe.toString());
+		}
+		return Math.max(1, Math.min(step, 60));
+	}
+
+	/**
+	 * @param latitude  of the device, in degrees
+	 * @param longitude of the device, in degrees
+	 * @param epoch     any time in the UTC day to compute, in ms
+	 * @return the table of the day
+	 */
+	public static SunTable compute(double latitude, double longitude, long epoch) {
+		return compute(latitude, longitude, epoch, getDefaultStep());
+	}
+
+	public static SunTable compute(double latitude, double longitude, long epoch, int step) {
+		LocalDate day = Instant.ofEpochMilli(epoch).atZone(ZoneOffset.UTC).toLocalDate();
+		SunTable table = new SunTable(latitude, longitude, day, step);
+		double deltaT = Ephemeris.getDefaultDeltaT();
+		for (int i = 0; i < table.gha.length; i++) {
+			Ephemeris ephemeris = Ephemeris.compute(table.dayStart + (i * step * MINUTE_MS), deltaT, Ephemeris.SUN_ONLY);
+			table.gha[i] = ephemeris.getSunGHA();
+			table.decl[i] = ephemeris.getSunDecl();
+			table.eot[i] = ephemeris.getSunMeridianPassageTime(latitude, longitude);
+		}
+		return table;
+	}
+
+	/**
+	 * @return true if this table is the one for this position, at this time.
+	 */
+	public boolean covers(double latitude, double longitude, long epoch) {
+		return latitude == this.latitude &&
+				longitude == this.longitude &&
+				epoch >= dayStart &&
+				epoch < dayStart + (24 * 60 * MINUTE_MS);
+	}
+
+	/**
+	 * @param epoch in the day of the table, in ms
+	 * @param out   receives He, Z, and EoT, see HE_IDX, Z_IDX, EOT_IDX
+	 */
+	public void interpolate(long epoch, double[] out) {
+		double position = (double) (epoch - dayStart) / (step * MINUTE_MS);
+		int idx = Math.max(0, Math.min((int) Math.floor(position), gha.length - 2));
+		double ratio = Math.max(0d, Math.min(position - idx, 1d));
+		double deltaGHA = gha[idx + 1] - gha[idx];
+		if (deltaGHA < -180d) { // Across 360
+			deltaGHA += 360d;
+		}
+		double interpolatedGHA = (gha[idx] + (ratio * deltaGHA)) % 360d;
+		double interpolatedDecl = decl[idx] + (ratio * (decl[idx + 1] - decl[idx]));
+		SightReduction.reduce(interpolatedGHA, interpolatedDecl, latitude, longitude, out, 0);
+		out[EOT_IDX] = eot[idx] + (ratio * (eot[idx + 1] - eot[idx]));
+	}
+
+	public LocalDate getDay() {
+		return day;
+	}
+
+	public int getStep() {
+		return step;
+	}
+}
@@ -151,6 +151,14 @@ public class HTTPServer {
 		}
 	}
 
+	/**
+	 * Writes a response payload to the client, see {@link Response#setStreamedPayload(StreamedPayload)}.
+	 */
+	@FunctionalInterface
+	public interface StreamedPayload {
+		void writeTo(OutputStream os) throws IOException;
+	}
+
 	public static class Response {
 
 		public final static int STATUS_OK       = 200;
@@ -165,6 +173,7 @@ public class HTTPServer {
 		private String protocol;
 		private Map<String, String> headers;
 		private byte[] payload;
+		private StreamedPayload streamedPayload;
 
 		public Response() {
 		}
@@ -206,6 +215,20 @@ public class HTTPServer {
 			this.payload = payload;
 		}
 
+		public StreamedPayload getStreamedPayload() {
+			return streamedPayload;
+		}
+
+		/**
+		 * The payload is written directly to the client, after the headers, instead of being built in memory.
+		 * The connection is closed after the response, there is no need for a Content-Length header.
+		 *
+		 * @param streamedPayload writes the payload. Used instead of the byte[] one, if both are set.
+		 */
+		public void setStreamedPayload(StreamedPayload streamedPayload) {
+			this.streamedPayload = streamedPayload;
+		}
+
 		@Override
 		public String toString() {
 			final StringBuffer sb = new StringBuffer();
@@ -726,7 +749,11 @@ public class HTTPServer {
 				});
 			}
 			os.write("\r\n".getBytes()); // End Of Header
-			if (response.getPayload() != null) {
+			if (response.getStreamedPayload() != null) {
+				BufferedOutputStream bos = new BufferedOutputStream(os, 64 * 1_024);
+				response.getStreamedPayload().writeTo(bos);
+				bos.flush();
+			} else if (response.getPayload() != null) {
 				os.write(response.getPayload());
 				os.flush();
 			}
@@ -0,0 +1,192 @@
+package utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs long tasks (like document publication) asynchronously.
+ * <p>
+ * The number of jobs running at the same time is bounded, and so is the number of jobs waiting in the queue.
+ * When the queue is full, {@link #submit(String, String, String, Task)} throws a {@link RejectedExecutionException}.
+ * </p>
+ * Each job writes its result in a temporary file, available until the job expires (see retention).
+ */
+public class JobManager {
+
+	public enum Status {
+		QUEUED, RUNNING, DONE, FAILED
+	}
+
+	/**
+	 * What a job does. Writes its result in the given stream.
+	 */
+	@FunctionalInterface
+	public interface Task {
+		void run(Job job, OutputStream out) throws Exception;
+	}
+
+	public static class Job {
+		private String id;
+		private String description;
+		private String contentType;
+		private volatile Status status = Status.QUEUED;
+		private volatile int progress = 0; // In %
+		private long submitted;
+		private volatile long started = 0L;
+		private volatile long completed = 0L;
+		private volatile String error = null;
+		private transient File result = null;
+
+		public String getId() {
+			return id;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public int getProgress() {
+			return progress;
+		}
+
+		public void setProgress(int progress) {
+			this.progress = progress;
+		}
+
+		public String getError() {
+			return error;
+		}
+
+		/**
+		 * @return the result file, null until the job is {@link Status#DONE}.
+		 */
+		public File getResult() {
+			return (status == Status.DONE ? result : null);
+		}
+	}
+
+	private final String name;
+	private final long retention;
+	private final ThreadPoolExecutor executor;
+	private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+	/**
+	 * @param name        used to name the threads and the temp files
+	 * @param maxParallel max number of jobs running at the same time
+	 * @param queueSize   max number of jobs waiting to run
+	 * @param retention   how long (in ms) a completed job and its result are kept.
+	 */
+	public JobManager(String name, int maxParallel, int queueSize, long retention) {
+		this.name = name;
+		this.retention = retention;
+		AtomicInteger threadNum = new AtomicInteger(0);
+		this.executor = new ThreadPoolExecutor(
+				maxParallel,
+				maxParallel,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueSize),
+				runnable -> {
+					Thread thread = new Thread(runnable, String.format("%s-job-%d", name, threadNum.incrementAndGet()));
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	/**
+	 * @param description  human readable description
+	 * @param contentType  content type of the result, like application/pdf
+	 * @param suffix       suffix of the result file, like .pdf
+	 * @param task         what to do
+	 * @return the job, QUEUED.
+	 * @throws RejectedExecutionException when the queue is full
+	 */
+	public Job submit(String description, String contentType, String suffix, Task task) throws RejectedExecutionException {
+		purge();
+		Job job = new Job();
+		job.id = UUID.randomUUID().toString();
+		job.description = description;
+		job.contentType = contentType;
+		job.submitted = System.currentTimeMillis();
+		jobs.put(job.id, job);
+		try {
+			executor.execute(() -> {
+				job.started = System.currentTimeMillis();
+				job.status = Status.RUNNING;
+				File result = null;
+				try {
+					result = File.createTempFile(name + ".", suffix);
+					try (OutputStream out = new FileOutputStream(result)) {
+						task.run(job, out);
+					}
+					job.result = result;
+					job.progress = 100;
+					job.status = Status.DONE;
+				} catch (Throwable t) {
+					t.printStackTrace();
+					if (result != null) {
+						result.delete();
+					}
+					job.error = t.toString();
+					job.status = Status.FAILED;
+				} finally {
+					job.completed = System.currentTimeMillis();
+				}
+			});
+		} catch (RejectedExecutionException ree) {
+			jobs.remove(job.id);
+			throw ree;
+		}
+		return job;
+	}
+
+	public Job getJob(String id) {
+		return jobs.get(id);
+	}
+
+	public List<Job> getJobs() {
+		return jobs.values()
+				.stream()
+				.sorted((j1, j2) -> Long.compare(j1.submitted, j2.submitted))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Removes the expired jobs, and their results.
+	 */
+	private void purge() {
+		long now = System.currentTimeMillis();
+		List<Job> expired = new ArrayList<>();
+		jobs.values().forEach(job -> {
+			if (job.completed != 0L && (now - job.completed) > retention) {
+				expired.add(job);
+			}
+		});
+		expired.forEach(job -> {
+			jobs.remove(job.id);
+			if (job.result != null) {
+				job.result.delete();
+			}
+		});
+	}
+}